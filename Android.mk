@@ -21,6 +21,7 @@ LOCAL_MODULE := joltjni
 LOCAL_SRC_FILES := \
 $(N)/glue/a/AaBoxCast.cpp \
 $(N)/glue/a/AaBox.cpp \
+$(N)/glue/a/ActiveBodySnapshot.cpp \
 $(N)/glue/a/AddConvexRadiusSupport.cpp \
 $(N)/glue/a/AddConvexRadiusTab.cpp \
 $(N)/glue/a/AdditionalConstraint.cpp \
@@ -34,6 +35,7 @@ $(N)/glue/a/AllHitTransformedShapeCollector.cpp \
 $(N)/glue/a/AnyHitCastRayCollector.cpp \
 $(N)/glue/a/AnyHitCastShapeCollector.cpp \
 $(N)/glue/a/AnyHitCollideShapeCollector.cpp \
+$(N)/glue/b/BatchedContactListener.cpp \
 $(N)/glue/b/BcsResult.cpp \
 $(N)/glue/b/BroadPhaseBruteForce.cpp \
 $(N)/glue/b/BroadPhaseCastResult.cpp \
@@ -43,6 +45,8 @@ $(N)/glue/b/BroadPhaseLayerInterface.cpp \
 $(N)/glue/b/BroadPhaseLayerInterfaceTable.cpp \
 $(N)/glue/b/BroadPhaseQuadTree.cpp \
 $(N)/glue/b/BroadPhaseQuery.cpp \
+$(N)/glue/b/BufferedStreamIn.cpp \
+$(N)/glue/b/BufferedStreamOut.cpp \
 $(N)/glue/bo/BodyActivationListener.cpp \
 $(N)/glue/bo/Body.cpp \
 $(N)/glue/bo/BodyCreationSettings.cpp \
@@ -76,12 +80,14 @@ $(N)/glue/ch/CharacterBase.cpp \
 $(N)/glue/ch/CharacterBaseSettings.cpp \
 $(N)/glue/ch/CharacterContactSettings.cpp \
 $(N)/glue/ch/Character.cpp \
+$(N)/glue/ch/CharacterCrowd.cpp \
 $(N)/glue/ch/CharacterRefC.cpp \
 $(N)/glue/ch/CharacterSettings.cpp \
 $(N)/glue/ch/CharacterVirtual.cpp \
 $(N)/glue/ch/CharacterVirtualRefC.cpp \
 $(N)/glue/ch/CharacterVirtualSettings.cpp \
 $(N)/glue/ch/CharacterVsCharacterCollision.cpp \
+$(N)/glue/ch/CharacterVsCharacterCollisionGrid.cpp \
 $(N)/glue/ch/CharacterVsCharacterCollisionSimple.cpp \
 $(N)/glue/ch/ChbEdge.cpp \
 $(N)/glue/ch/ChbFace.cpp \
@@ -166,6 +172,7 @@ $(N)/glue/i/IndexedTriangleList.cpp \
 $(N)/glue/i/IndexedTriangleNoMaterial.cpp \
 $(N)/glue/i/InvBind.cpp \
 $(N)/glue/j/JobSystem.cpp \
+$(N)/glue/j/JobSystemExecutor.cpp \
 $(N)/glue/j/JobSystemSingleThreaded.cpp \
 $(N)/glue/j/JobSystemThreadPool.cpp \
 $(N)/glue/j/Joint.cpp \
@@ -188,6 +195,7 @@ $(N)/glue/m/MutableCompoundShapeSettings.cpp \
 $(N)/glue/m/Mutex.cpp \
 $(N)/glue/n/NarrowPhaseQuery.cpp \
 $(N)/glue/n/NarrowPhaseStat.cpp \
+$(N)/glue/n/NativeScratch.cpp \
 $(N)/glue/o/ObjectLayerFilter.cpp \
 $(N)/glue/o/ObjectLayerPairFilter.cpp \
 $(N)/glue/o/ObjectLayerPairFilterTable.cpp \
@@ -211,6 +219,7 @@ $(N)/glue/ph/PhysicsSceneResult.cpp \
 $(N)/glue/ph/PhysicsSettings.cpp \
 $(N)/glue/ph/PhysicsStepListenerContext.cpp \
 $(N)/glue/ph/PhysicsSystem.cpp \
+$(N)/glue/ph/PhysicsUpdateStats.cpp \
 $(N)/glue/p/Parameters.cpp \
 $(N)/glue/p/Part.cpp \
 $(N)/glue/p/PathConstraint.cpp \
@@ -223,6 +232,7 @@ $(N)/glue/p/PlaneShapeSettings.cpp \
 $(N)/glue/p/PointConstraintSettings.cpp \
 $(N)/glue/p/PointConvexSupport.cpp \
 $(N)/glue/p/PulleyConstraintSettings.cpp \
+$(N)/glue/q/QuatArray.cpp \
 $(N)/glue/r/RackAndPinionConstraint.cpp \
 $(N)/glue/r/RackAndPinionConstraintSettings.cpp \
 $(N)/glue/r/Ragdoll.cpp \
@@ -241,6 +251,8 @@ $(N)/glue/r/RotatedTranslatedShapeSettings.cpp \
 $(N)/glue/r/RRayCast.cpp \
 $(N)/glue/r/RShapeCast.cpp \
 $(N)/glue/r/Rtti.cpp \
+$(N)/glue/r/RVec3Array.cpp \
+$(N)/glue/sh/ShapeCache.cpp \
 $(N)/glue/sh/ShapeCastResult.cpp \
 $(N)/glue/sh/ShapeCastSettings.cpp \
 $(N)/glue/sh/Shape.cpp \
@@ -278,6 +290,7 @@ $(N)/glue/s/SoftBodyManifold.cpp \
 $(N)/glue/s/SoftBodyMotionProperties.cpp \
 $(N)/glue/s/SoftBodySharedSettings.cpp \
 $(N)/glue/s/SoftBodyVertex.cpp \
+$(N)/glue/s/SoftBodyVertexExport.cpp \
 $(N)/glue/s/SpecifiedBroadPhaseLayerFilter.cpp \
 $(N)/glue/s/SpecifiedObjectLayerFilter.cpp \
 $(N)/glue/s/Sphere.cpp \
@@ -325,6 +338,7 @@ $(N)/glue/t/TwoBodyConstraint.cpp \
 $(N)/glue/t/TwoBodyConstraintSettings.cpp \
 $(N)/glue/u/UniformFloatDistribution.cpp \
 $(N)/glue/u/UniformIntDistribution.cpp \
+$(N)/glue/v/Vec3Array.cpp \
 $(N)/glue/v/VehicleAntiRollBar.cpp \
 $(N)/glue/v/VehicleCollisionTesterCastCylinder.cpp \
 $(N)/glue/v/VehicleCollisionTesterCastSphere.cpp \
@@ -337,6 +351,8 @@ $(N)/glue/v/VehicleControllerSettings.cpp \
 $(N)/glue/v/VehicleDifferentialSettings.cpp \
 $(N)/glue/v/VehicleEngine.cpp \
 $(N)/glue/v/VehicleEngineSettings.cpp \
+$(N)/glue/v/VehicleFleet.cpp \
+$(N)/glue/v/VehicleLodPolicy.cpp \
 $(N)/glue/v/VehicleStepListener.cpp \
 $(N)/glue/v/VehicleTrackSettings.cpp \
 $(N)/glue/v/VehicleTransmission.cpp \
@@ -0,0 +1,144 @@
+/*
+Copyright (c) 2026 Stephen Gold
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+ */
+package testjoltjni.jmh;
+
+import com.github.stephengold.joltjni.JoltArena;
+import com.github.stephengold.joltjni.RayCastResult;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measure the cost of allocating a short-lived native object, comparing
+ * reclamation by the {@code Cleaner}, explicit freeing, and bulk freeing by a
+ * {@code JoltArena}.
+ * <p>
+ * To compare the garbage-collection load of the 3 approaches, run with the
+ * GC profiler: {@code ./gradlew runJmh --args='Allocation -prof gc'}.
+ *
+ * @author Stephen Gold sgold@sonic.net
+ */
+@BenchmarkMode(Mode.AverageTime)
+@Fork(1)
+@Measurement(iterations = 5, time = 1)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+@Warmup(iterations = 3, time = 1)
+public class AllocationBenchmark {
+    // *************************************************************************
+    // new methods exposed
+
+    /**
+     * Allocate an object in an arena, freeing the arena's objects in bulk
+     * after every 1000 allocations.
+     *
+     * @param world the benchmark state (not null)
+     * @param arenaState the arena state (not null)
+     * @return the new object, to defeat dead-code elimination
+     */
+    @Benchmark
+    public RayCastResult allocateInArena(
+            WorldState world, ArenaState arenaState) {
+        RayCastResult result = new RayCastResult();
+        ++arenaState.numObjects;
+        if (arenaState.numObjects >= 1000) {
+            arenaState.arena.freeAll();
+            arenaState.numObjects = 0;
+        }
+
+        return result;
+    }
+
+    /**
+     * Allocate an object and free it explicitly.
+     *
+     * @param world the benchmark state (not null)
+     * @return the freed object, to defeat dead-code elimination
+     */
+    @Benchmark
+    public RayCastResult allocateThenClose(WorldState world) {
+        RayCastResult result = new RayCastResult();
+        result.close();
+
+        return result;
+    }
+
+    /**
+     * Allocate an object and leave it for the {@code Cleaner} to free.
+     *
+     * @param world the benchmark state (not null)
+     * @return the new object, to defeat dead-code elimination
+     */
+    @Benchmark
+    public RayCastResult allocateWithCleaner(WorldState world) {
+        RayCastResult result = new RayCastResult();
+        return result;
+    }
+    // *************************************************************************
+    // nested classes
+
+    /**
+     * Per-thread state for the arena benchmark. It's kept separate so the
+     * arena won't adopt objects allocated by the other benchmarks.
+     */
+    @State(Scope.Thread)
+    public static class ArenaState {
+        /**
+         * arena that adopts the allocated objects
+         */
+        JoltArena arena;
+        /**
+         * number of objects allocated since the arena was last reset
+         */
+        int numObjects;
+
+        /**
+         * Open the arena. Since an arena is confined to its thread, this
+         * happens on the benchmark thread for each iteration.
+         *
+         * @param world the benchmark state (not null)
+         */
+        @Setup(Level.Iteration)
+        public void setUp(WorldState world) {
+            this.arena = JoltArena.open();
+            this.numObjects = 0;
+        }
+
+        /**
+         * Free the arena's remaining objects and close it.
+         */
+        @TearDown(Level.Iteration)
+        public void tearDown() {
+            arena.close();
+        }
+    }
+}
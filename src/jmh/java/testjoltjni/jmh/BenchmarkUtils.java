@@ -0,0 +1,113 @@
+/*
+Copyright (c) 2026 Stephen Gold
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+ */
+package testjoltjni.jmh;
+
+import com.github.stephengold.joltjni.BodyCreationSettings;
+import com.github.stephengold.joltjni.BodyInterface;
+import com.github.stephengold.joltjni.BoxShape;
+import com.github.stephengold.joltjni.PhysicsSystem;
+import com.github.stephengold.joltjni.Quat;
+import com.github.stephengold.joltjni.RVec3;
+import com.github.stephengold.joltjni.ShapeRefC;
+import com.github.stephengold.joltjni.Vec3;
+import com.github.stephengold.joltjni.enumerate.EActivation;
+import com.github.stephengold.joltjni.enumerate.EMotionType;
+import testjoltjni.TestUtils;
+
+/**
+ * Utility methods shared by benchmarks that need more bodies than
+ * {@code WorldState} provides.
+ *
+ * @author Stephen Gold sgold@sonic.net
+ */
+final class BenchmarkUtils {
+    // *************************************************************************
+    // constants
+
+    /**
+     * simulation time step (in seconds)
+     */
+    final static float deltaTime = 1f / 60f;
+    /**
+     * half the size of each box (in meters)
+     */
+    final private static float boxHalfExtent = 0.5f;
+    // *************************************************************************
+    // constructors
+
+    /**
+     * A private constructor to inhibit instantiation of this class.
+     */
+    private BenchmarkUtils() {
+        // do nothing
+    }
+    // *************************************************************************
+    // new methods exposed
+
+    /**
+     * Add a static floor and a grid of stacked dynamic boxes to the specified
+     * system. The boxes don't sleep, so every step generates a large number of
+     * contacts.
+     *
+     * @param system the system to populate (not {@code null}, modified)
+     * @param numX the number of boxes along the X axis (&ge;1)
+     * @param numY the number of boxes along the Y axis (&ge;1)
+     * @param numZ the number of boxes along the Z axis (&ge;1)
+     * @return a new array containing the IDs of the dynamic boxes
+     */
+    static int[] addBoxGrid(
+            PhysicsSystem system, int numX, int numY, int numZ) {
+        BodyInterface bi = system.getBodyInterface();
+
+        float floorHalfExtent = 2f * Math.max(numX, numZ) + 10f;
+        BoxShape floorShape
+                = new BoxShape(new Vec3(floorHalfExtent, 1f, floorHalfExtent));
+        BodyCreationSettings floorSettings = new BodyCreationSettings(
+                floorShape, new RVec3(0., -1., 0.), new Quat(),
+                EMotionType.Static, TestUtils.objLayerNonMoving);
+        bi.createAndAddBody(floorSettings, EActivation.DontActivate);
+
+        ShapeRefC boxShape
+                = new BoxShape(Vec3.sReplicate(boxHalfExtent)).toRefC();
+        int[] result = new int[numX * numY * numZ];
+        int numBoxes = 0;
+        float spacing = 2.2f * boxHalfExtent;
+        for (int yIndex = 0; yIndex < numY; ++yIndex) {
+            double y = boxHalfExtent + yIndex * spacing;
+            for (int xIndex = 0; xIndex < numX; ++xIndex) {
+                double x = (xIndex - 0.5 * numX) * spacing;
+                for (int zIndex = 0; zIndex < numZ; ++zIndex) {
+                    double z = (zIndex - 0.5 * numZ) * spacing;
+                    BodyCreationSettings settings = new BodyCreationSettings(
+                            boxShape, new RVec3(x, y, z), new Quat(),
+                            EMotionType.Dynamic, TestUtils.objLayerMoving);
+                    settings.setAllowSleeping(false);
+                    result[numBoxes] = bi.createAndAddBody(
+                            settings, EActivation.Activate);
+                    ++numBoxes;
+                }
+            }
+        }
+
+        return result;
+    }
+}
@@ -0,0 +1,103 @@
+/*
+Copyright (c) 2026 Stephen Gold
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+ */
+package testjoltjni.jmh;
+
+import com.github.stephengold.joltjni.Body;
+import com.github.stephengold.joltjni.BodyLockRead;
+import com.github.stephengold.joltjni.BodyLockWrite;
+import com.github.stephengold.joltjni.RVec3;
+import com.github.stephengold.joltjni.Vec3;
+import com.github.stephengold.joltjni.readonly.ConstBody;
+import com.github.stephengold.joltjni.readonly.ConstBodyLockInterface;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measure body access through {@code BodyLockRead} and {@code BodyLockWrite},
+ * including creation of the lock objects and their JVM wrappers.
+ *
+ * @author Stephen Gold sgold@sonic.net
+ */
+@BenchmarkMode(Mode.AverageTime)
+@Fork(1)
+@Measurement(iterations = 5, time = 1)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+@Warmup(iterations = 3, time = 1)
+public class BodyLockBenchmark {
+    // *************************************************************************
+    // fields
+
+    /**
+     * velocity to apply in the write-lock benchmark
+     */
+    final private Vec3 velocity = new Vec3(0f, 0.01f, 0f);
+    // *************************************************************************
+    // new methods exposed
+
+    /**
+     * Lock a body for reading, copy its location, and release the lock.
+     *
+     * @param world the benchmark state (not null)
+     * @return the location, to defeat dead-code elimination
+     */
+    @Benchmark
+    public RVec3 readLock(WorldState world) {
+        ConstBodyLockInterface bli = world.system.getBodyLockInterface();
+        int bodyId = world.boxIds[0];
+        RVec3 result = null;
+        try (BodyLockRead lock = new BodyLockRead(bli, bodyId)) {
+            if (lock.succeeded()) {
+                ConstBody body = lock.getBody();
+                result = body.getPosition();
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * Lock a body for writing, alter its linear velocity, and release the
+     * lock.
+     *
+     * @param world the benchmark state (not null)
+     */
+    @Benchmark
+    public void writeLock(WorldState world) {
+        ConstBodyLockInterface bli = world.system.getBodyLockInterface();
+        int bodyId = world.boxIds[0];
+        try (BodyLockWrite lock = new BodyLockWrite(bli, bodyId)) {
+            if (lock.succeeded()) {
+                Body body = lock.getBody();
+                body.setLinearVelocity(velocity);
+            }
+        }
+    }
+}
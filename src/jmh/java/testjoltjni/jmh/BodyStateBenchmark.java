@@ -0,0 +1,190 @@
+/*
+Copyright (c) 2026 Stephen Gold
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+ */
+package testjoltjni.jmh;
+
+import com.github.stephengold.joltjni.BodyInterface;
+import com.github.stephengold.joltjni.Jolt;
+import com.github.stephengold.joltjni.Quat;
+import com.github.stephengold.joltjni.RVec3;
+import com.github.stephengold.joltjni.Vec3;
+import java.nio.DoubleBuffer;
+import java.nio.FloatBuffer;
+import java.nio.IntBuffer;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compare the cost of copying the states of many bodies using per-body
+ * {@code BodyInterface} getters versus the bulk {@code getBodyStates()}
+ * methods. Scores are per body.
+ *
+ * @author Stephen Gold sgold@sonic.net
+ */
+@BenchmarkMode(Mode.AverageTime)
+@Fork(1)
+@Measurement(iterations = 5, time = 1)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+@Warmup(iterations = 3, time = 1)
+public class BodyStateBenchmark {
+    // *************************************************************************
+    // fields
+
+    /**
+     * storage for angular velocities
+     */
+    final private FloatBuffer angularVelocities
+            = Jolt.newDirectFloatBuffer(3 * WorldState.numBoxes);
+    /**
+     * storage for linear velocities
+     */
+    final private FloatBuffer linearVelocities
+            = Jolt.newDirectFloatBuffer(3 * WorldState.numBoxes);
+    /**
+     * storage for orientations
+     */
+    final private FloatBuffer orientations
+            = Jolt.newDirectFloatBuffer(4 * WorldState.numBoxes);
+    /**
+     * storage for locations
+     */
+    final private DoubleBuffer locations
+            = Jolt.newDirectDoubleBuffer(3 * WorldState.numBoxes);
+    /**
+     * IDs of the bodies to query, filled on first use
+     */
+    private IntBuffer idBuffer;
+    /**
+     * reusable storage for a location
+     */
+    final private RVec3 tmpLocation = new RVec3();
+    /**
+     * reusable storage for an orientation
+     */
+    final private Quat tmpOrientation = new Quat();
+    /**
+     * reusable storage for an angular velocity
+     */
+    final private Vec3 tmpAngularVelocity = new Vec3();
+    /**
+     * reusable storage for a linear velocity
+     */
+    final private Vec3 tmpLinearVelocity = new Vec3();
+    // *************************************************************************
+    // new methods exposed
+
+    /**
+     * Copy the state of every box using the bulk getter of the locking
+     * interface.
+     *
+     * @param world the benchmark state (not null)
+     * @return the locations, to defeat dead-code elimination
+     */
+    @Benchmark
+    @OperationsPerInvocation(WorldState.numBoxes)
+    public DoubleBuffer bulkLocking(WorldState world) {
+        bulk(world.bodyInterface, world);
+        return locations;
+    }
+
+    /**
+     * Copy the state of every box using the bulk getter of the no-lock
+     * interface.
+     *
+     * @param world the benchmark state (not null)
+     * @return the locations, to defeat dead-code elimination
+     */
+    @Benchmark
+    @OperationsPerInvocation(WorldState.numBoxes)
+    public DoubleBuffer bulkNoLock(WorldState world) {
+        bulk(world.system.getBodyInterfaceNoLock(), world);
+        return locations;
+    }
+
+    /**
+     * Copy the state of every box using the per-body getters of the locking
+     * interface.
+     *
+     * @param world the benchmark state (not null)
+     * @return the last location, to defeat dead-code elimination
+     */
+    @Benchmark
+    @OperationsPerInvocation(WorldState.numBoxes)
+    public RVec3 loopLocking(WorldState world) {
+        loop(world.bodyInterface, world);
+        return tmpLocation;
+    }
+
+    /**
+     * Copy the state of every box using the per-body getters of the no-lock
+     * interface.
+     *
+     * @param world the benchmark state (not null)
+     * @return the last location, to defeat dead-code elimination
+     */
+    @Benchmark
+    @OperationsPerInvocation(WorldState.numBoxes)
+    public RVec3 loopNoLock(WorldState world) {
+        loop(world.system.getBodyInterfaceNoLock(), world);
+        return tmpLocation;
+    }
+    // *************************************************************************
+    // private methods
+
+    /**
+     * Copy the state of every box using a bulk getter.
+     *
+     * @param bi the interface to use (not null)
+     * @param world the benchmark state (not null)
+     */
+    private void bulk(BodyInterface bi, WorldState world) {
+        if (idBuffer == null) {
+            this.idBuffer = Jolt.newDirectIntBuffer(WorldState.numBoxes);
+            idBuffer.put(world.boxIds).flip();
+        }
+        bi.getBodyStates(idBuffer, WorldState.numBoxes, locations,
+                orientations, linearVelocities, angularVelocities);
+    }
+
+    /**
+     * Copy the state of every box using per-body getters.
+     *
+     * @param bi the interface to use (not null)
+     * @param world the benchmark state (not null)
+     */
+    private void loop(BodyInterface bi, WorldState world) {
+        for (int bodyId : world.boxIds) {
+            bi.getPositionAndRotation(bodyId, tmpLocation, tmpOrientation);
+            bi.getLinearVelocity(bodyId, tmpLinearVelocity);
+            bi.getAngularVelocity(bodyId, tmpAngularVelocity);
+        }
+    }
+}
@@ -0,0 +1,172 @@
+/*
+Copyright (c) 2026 Stephen Gold
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+ */
+package testjoltjni.jmh;
+
+import com.github.stephengold.joltjni.BodyInterface;
+import com.github.stephengold.joltjni.Jolt;
+import com.github.stephengold.joltjni.Vec3;
+import java.nio.FloatBuffer;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compare the cost of applying impulses and setting velocities for many
+ * bodies using per-body {@code BodyInterface} methods versus the bulk
+ * methods. Scores are per body.
+ *
+ * @author Stephen Gold sgold@sonic.net
+ */
+@BenchmarkMode(Mode.AverageTime)
+@Fork(1)
+@Measurement(iterations = 5, time = 1)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+@Warmup(iterations = 3, time = 1)
+public class BulkImpulseBenchmark {
+    // *************************************************************************
+    // fields
+
+    /**
+     * packed impulses for the bulk methods
+     */
+    final private FloatBuffer impulses
+            = Jolt.newDirectFloatBuffer(3 * WorldState.numBoxes);
+    /**
+     * packed velocities for the bulk methods
+     */
+    final private FloatBuffer velocities
+            = Jolt.newDirectFloatBuffer(3 * WorldState.numBoxes);
+    /**
+     * impulses for the per-body methods
+     */
+    final private Vec3[] impulseArray = new Vec3[WorldState.numBoxes];
+    // *************************************************************************
+    // constructors
+
+    /**
+     * Instantiate the benchmark with a distinct impulse and velocity for each
+     * box.
+     */
+    public BulkImpulseBenchmark() {
+        for (int i = 0; i < WorldState.numBoxes; ++i) {
+            float angle = 0.01f * i;
+            impulseArray[i] = new Vec3(
+                    (float) Math.cos(angle), 0.5f, (float) Math.sin(angle));
+            impulses.put(impulseArray[i].getX()).put(impulseArray[i].getY())
+                    .put(impulseArray[i].getZ());
+            velocities.put(0f).put(0.1f * (i % 7)).put(0f);
+        }
+    }
+    // *************************************************************************
+    // new methods exposed
+
+    /**
+     * Apply impulses and set velocities using the bulk methods of the
+     * locking interface.
+     *
+     * @param world the benchmark state (not null)
+     * @return the impulses, to defeat dead-code elimination
+     */
+    @Benchmark
+    @OperationsPerInvocation(WorldState.numBoxes)
+    public FloatBuffer bulkLocking(WorldState world) {
+        bulk(world.bodyInterface, world.boxIds);
+        return impulses;
+    }
+
+    /**
+     * Apply impulses and set velocities using the bulk methods of the
+     * no-lock interface.
+     *
+     * @param world the benchmark state (not null)
+     * @return the impulses, to defeat dead-code elimination
+     */
+    @Benchmark
+    @OperationsPerInvocation(WorldState.numBoxes)
+    public FloatBuffer bulkNoLock(WorldState world) {
+        bulk(world.system.getBodyInterfaceNoLock(), world.boxIds);
+        return impulses;
+    }
+
+    /**
+     * Apply impulses and set velocities using the per-body methods of the
+     * locking interface.
+     *
+     * @param world the benchmark state (not null)
+     * @return the impulses, to defeat dead-code elimination
+     */
+    @Benchmark
+    @OperationsPerInvocation(WorldState.numBoxes)
+    public Vec3[] loopLocking(WorldState world) {
+        loop(world.bodyInterface, world.boxIds);
+        return impulseArray;
+    }
+
+    /**
+     * Apply impulses and set velocities using the per-body methods of the
+     * no-lock interface.
+     *
+     * @param world the benchmark state (not null)
+     * @return the impulses, to defeat dead-code elimination
+     */
+    @Benchmark
+    @OperationsPerInvocation(WorldState.numBoxes)
+    public Vec3[] loopNoLock(WorldState world) {
+        loop(world.system.getBodyInterfaceNoLock(), world.boxIds);
+        return impulseArray;
+    }
+    // *************************************************************************
+    // private methods
+
+    /**
+     * Apply impulses and set velocities using the bulk methods.
+     *
+     * @param bi the interface to use (not null)
+     * @param boxIds the IDs of the boxes (not null, unaffected)
+     */
+    private void bulk(BodyInterface bi, int[] boxIds) {
+        bi.addImpulses(boxIds, WorldState.numBoxes, impulses, null);
+        bi.setLinearVelocities(boxIds, WorldState.numBoxes, velocities);
+    }
+
+    /**
+     * Apply impulses and set velocities using the per-body methods.
+     *
+     * @param bi the interface to use (not null)
+     * @param boxIds the IDs of the boxes (not null, unaffected)
+     */
+    private void loop(BodyInterface bi, int[] boxIds) {
+        for (int i = 0; i < WorldState.numBoxes; ++i) {
+            bi.addImpulse(boxIds[i], impulseArray[i]);
+            bi.setLinearVelocity(boxIds[i], 0f, 0.1f * (i % 7), 0f);
+        }
+    }
+}
@@ -0,0 +1,247 @@
+/*
+Copyright (c) 2026 Stephen Gold
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+ */
+package testjoltjni.jmh;
+
+import com.github.stephengold.joltjni.BodyCreationSettings;
+import com.github.stephengold.joltjni.BodyFilter;
+import com.github.stephengold.joltjni.BoxShape;
+import com.github.stephengold.joltjni.BroadPhaseLayerFilter;
+import com.github.stephengold.joltjni.CapsuleShape;
+import com.github.stephengold.joltjni.CharacterVirtual;
+import com.github.stephengold.joltjni.CharacterVirtualSettings;
+import com.github.stephengold.joltjni.CharacterVsCharacterCollision;
+import com.github.stephengold.joltjni.CharacterVsCharacterCollisionGrid;
+import com.github.stephengold.joltjni.CharacterVsCharacterCollisionSimple;
+import com.github.stephengold.joltjni.ExtendedUpdateSettings;
+import com.github.stephengold.joltjni.ObjectLayerFilter;
+import com.github.stephengold.joltjni.PhysicsSystem;
+import com.github.stephengold.joltjni.Quat;
+import com.github.stephengold.joltjni.RVec3;
+import com.github.stephengold.joltjni.ShapeFilter;
+import com.github.stephengold.joltjni.TempAllocatorImpl;
+import com.github.stephengold.joltjni.Vec3;
+import com.github.stephengold.joltjni.enumerate.EActivation;
+import com.github.stephengold.joltjni.enumerate.EMotionType;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import testjoltjni.TestUtils;
+
+/**
+ * Compare the cost of updating a crowd of virtual characters using
+ * {@code CharacterVsCharacterCollisionSimple} versus
+ * {@code CharacterVsCharacterCollisionGrid}. Scores are per frame, in which
+ * every character walks a short distance along a circle.
+ *
+ * @author Stephen Gold sgold@sonic.net
+ */
+@BenchmarkMode(Mode.AverageTime)
+@Fork(1)
+@Measurement(iterations = 5, time = 1)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Thread)
+@Warmup(iterations = 3, time = 1)
+public class CharacterGridBenchmark {
+    // *************************************************************************
+    // constants
+
+    /**
+     * distance between adjacent characters at the start of each iteration
+     * (in meters)
+     */
+    final private static float spacing = 1.2f;
+    // *************************************************************************
+    // fields
+
+    /**
+     * filter to select bodies for character collisions
+     */
+    private BodyFilter bodyFilter;
+    /**
+     * filter to select broadphase layers for character collisions
+     */
+    private BroadPhaseLayerFilter bpFilter;
+    /**
+     * the characters to update
+     */
+    private CharacterVirtual[] characters;
+    /**
+     * the char-vs-char collision interface in use
+     */
+    private CharacterVsCharacterCollision cvc;
+    /**
+     * the grid to refresh after each frame, or {@code null} if not in use
+     */
+    private CharacterVsCharacterCollisionGrid grid;
+    /**
+     * settings for character updates
+     */
+    private ExtendedUpdateSettings updateSettings;
+    /**
+     * number of frames simulated since the characters were arranged
+     */
+    private int frame;
+    /**
+     * number of characters in the crowd
+     */
+    @Param({"100", "1000", "10000"})
+    public int numCharacters;
+    /**
+     * filter to select object layers for character collisions
+     */
+    private ObjectLayerFilter olFilter;
+    /**
+     * the physics system containing the floor
+     */
+    private PhysicsSystem system;
+    /**
+     * filter to select shapes for character collisions
+     */
+    private ShapeFilter shapeFilter;
+    /**
+     * char-vs-char collision interface to measure: "Simple" or "Grid"
+     */
+    @Param({"Simple", "Grid"})
+    public String collision;
+    /**
+     * allocator for character updates
+     */
+    private TempAllocatorImpl allocator;
+    /**
+     * gravity vector for character updates
+     */
+    final private Vec3 gravity = new Vec3(0f, -9.81f, 0f);
+    /**
+     * reusable storage for a character velocity
+     */
+    final private Vec3 velocity = new Vec3();
+    // *************************************************************************
+    // new methods exposed
+
+    /**
+     * Arrange the characters in a square grid.
+     */
+    @Setup(Level.Iteration)
+    public void arrange() {
+        int side = (int) Math.ceil(Math.sqrt(numCharacters));
+        for (int i = 0; i < numCharacters; ++i) {
+            double x = (i % side - 0.5 * side) * spacing;
+            double z = (i / side - 0.5 * side) * spacing;
+            characters[i].setPosition(new RVec3(x, 0.85, z));
+        }
+        if (grid != null) {
+            grid.update();
+        }
+        this.frame = 0;
+    }
+
+    /**
+     * Update every character once.
+     *
+     * @param world the benchmark state (not null)
+     * @return the characters, to defeat dead-code elimination
+     */
+    @Benchmark
+    public CharacterVirtual[] updateFrame(WorldState world) {
+        for (int i = 0; i < numCharacters; ++i) {
+            float angle = 0.1f * (i + frame);
+            velocity.set(
+                    (float) Math.cos(angle), 0f, (float) Math.sin(angle));
+            characters[i].setLinearVelocity(velocity);
+            characters[i].extendedUpdate(BenchmarkUtils.deltaTime, gravity,
+                    updateSettings, bpFilter, olFilter, bodyFilter,
+                    shapeFilter, allocator);
+        }
+        if (grid != null) {
+            grid.update();
+        }
+        ++frame;
+
+        return characters;
+    }
+
+    /**
+     * Create the floor, the characters, and the collision interface.
+     *
+     * @param world the benchmark state (not null)
+     */
+    @Setup(Level.Trial)
+    public void setUp(WorldState world) {
+        this.system = TestUtils.newPhysicsSystem(1);
+        float floorHalfExtent = 100f;
+        BodyCreationSettings floorSettings = new BodyCreationSettings(
+                new BoxShape(floorHalfExtent, 1f, floorHalfExtent),
+                new RVec3(0., -1., 0.), new Quat(), EMotionType.Static,
+                TestUtils.objLayerNonMoving);
+        system.getBodyInterface()
+                .createAndAddBody(floorSettings, EActivation.DontActivate);
+        system.optimizeBroadPhase();
+
+        if (collision.equals("Grid")) {
+            this.grid = new CharacterVsCharacterCollisionGrid(2f, 0.5f);
+            this.cvc = grid;
+        } else {
+            this.cvc = new CharacterVsCharacterCollisionSimple();
+        }
+
+        CharacterVirtualSettings settings = new CharacterVirtualSettings();
+        settings.setShape(new CapsuleShape(0.5f, 0.3f));
+        this.characters = new CharacterVirtual[numCharacters];
+        for (int i = 0; i < numCharacters; ++i) {
+            characters[i] = new CharacterVirtual(
+                    settings, new RVec3(), new Quat(), 0L, system);
+            if (grid == null) {
+                ((CharacterVsCharacterCollisionSimple) cvc).add(characters[i]);
+            } else {
+                grid.add(characters[i]);
+            }
+            characters[i].setCharacterVsCharacterCollision(cvc);
+        }
+
+        this.updateSettings = new ExtendedUpdateSettings();
+        this.bpFilter = system.getDefaultBroadPhaseLayerFilter(
+                TestUtils.objLayerMoving);
+        this.olFilter = system.getDefaultLayerFilter(TestUtils.objLayerMoving);
+        this.bodyFilter = new BodyFilter();
+        this.shapeFilter = new ShapeFilter();
+        this.allocator = new TempAllocatorImpl(1 << 20);
+    }
+
+    /**
+     * Free the physics system.
+     */
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        TestUtils.cleanupPhysicsSystem(system);
+    }
+}
@@ -0,0 +1,219 @@
+/*
+Copyright (c) 2026 Stephen Gold
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+ */
+package testjoltjni.jmh;
+
+import com.github.stephengold.joltjni.BatchedContactListener;
+import com.github.stephengold.joltjni.CustomContactListener;
+import com.github.stephengold.joltjni.JobSystemThreadPool;
+import com.github.stephengold.joltjni.Jolt;
+import com.github.stephengold.joltjni.PhysicsSystem;
+import com.github.stephengold.joltjni.TempAllocatorImpl;
+import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import testjoltjni.TestUtils;
+
+/**
+ * Measure the cost of simulating a large grid of boxes with no contact
+ * listener, with a {@code CustomContactListener} (one Java upcall per event,
+ * made from native worker threads), and with a
+ * {@code BatchedContactListener} (events consumed from a direct buffer after
+ * each update). Scores are per simulation step.
+ *
+ * @author Stephen Gold sgold@sonic.net
+ */
+@BenchmarkMode(Mode.AverageTime)
+@Fork(1)
+@Measurement(iterations = 5, time = 1)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Thread)
+@Warmup(iterations = 3, time = 1)
+public class ContactListenerBenchmark {
+    // *************************************************************************
+    // constants
+
+    /**
+     * number of steps to simulate before the first iteration
+     */
+    final private static int numSettleSteps = 60;
+    // *************************************************************************
+    // fields
+
+    /**
+     * the batched listener, or {@code null} if not in use
+     */
+    private BatchedContactListener batched;
+    /**
+     * job system for updates
+     */
+    private JobSystemThreadPool jobSystem;
+    /**
+     * count upcalls received from native code
+     */
+    final private LongAdder numUpcalls = new LongAdder();
+    /**
+     * the physics system
+     */
+    private PhysicsSystem system;
+    /**
+     * kind of listener to install: "None", "Upcall", or "Batched"
+     */
+    @Param({"None", "Upcall", "Batched"})
+    public String listener;
+    /**
+     * allocator for updates
+     */
+    private TempAllocatorImpl tempAllocator;
+    // *************************************************************************
+    // new methods exposed
+
+    /**
+     * Populate the system, install the listener, and let the boxes settle.
+     *
+     * @param world the benchmark state (not null)
+     */
+    @Setup(Level.Trial)
+    public void setUp(WorldState world) {
+        int numThreads = TestUtils.numThreads();
+        this.jobSystem = new JobSystemThreadPool(
+                Jolt.cMaxPhysicsJobs, Jolt.cMaxPhysicsBarriers, numThreads);
+        this.tempAllocator = new TempAllocatorImpl(32 * 1024 * 1024);
+
+        this.system = TestUtils.newPhysicsSystem(10_000);
+        BenchmarkUtils.addBoxGrid(system, 30, 6, 30);
+        switch (listener) {
+            case "Batched":
+                this.batched
+                        = new BatchedContactListener(100_000, numThreads + 1);
+                system.setContactListener(batched);
+                break;
+            case "Upcall":
+                system.setContactListener(new CountingListener());
+                break;
+            default:
+                break;
+        }
+        system.optimizeBroadPhase();
+
+        for (int i = 0; i < numSettleSteps; ++i) {
+            system.update(
+                    BenchmarkUtils.deltaTime, 1, tempAllocator, jobSystem);
+        }
+    }
+
+    /**
+     * Simulate a single step and consume any batched events.
+     *
+     * @param world the benchmark state (not null)
+     * @return a checksum, to defeat dead-code elimination
+     */
+    @Benchmark
+    public double step(WorldState world) {
+        system.update(BenchmarkUtils.deltaTime, 1, tempAllocator, jobSystem);
+
+        double result;
+        if (batched == null) {
+            result = numUpcalls.sum();
+        } else {
+            result = consumeEvents(batched);
+        }
+
+        return result;
+    }
+
+    /**
+     * Free the physics system and the job system.
+     */
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        TestUtils.cleanupPhysicsSystem(system);
+        TestUtils.testClose(tempAllocator, jobSystem);
+    }
+    // *************************************************************************
+    // private methods
+
+    /**
+     * Sum the penetration depths of all events recorded by the specified
+     * listener during the most recent update.
+     *
+     * @param source the listener to read (not null, unaffected)
+     * @return the sum
+     */
+    private static double consumeEvents(BatchedContactListener source) {
+        ByteBuffer events = source.getBuffer();
+        int numEvents = source.count();
+        double result = 0.0;
+        for (int i = 0; i < numEvents; ++i) {
+            int offset = i * BatchedContactListener.recordBytes;
+            result += events.getFloat(
+                    offset + BatchedContactListener.depthOffset);
+        }
+
+        return result;
+    }
+    // *************************************************************************
+    // nested classes
+
+    /**
+     * A contact listener that merely counts its invocations.
+     */
+    private class CountingListener extends CustomContactListener {
+        @Override
+        public void onContactAdded(long body1Va, long body2Va,
+                long manifoldVa, long settingsVa) {
+            numUpcalls.increment();
+        }
+
+        @Override
+        public void onContactPersisted(long body1Va, long body2Va,
+                long manifoldVa, long settingsVa) {
+            numUpcalls.increment();
+        }
+
+        @Override
+        public void onContactRemoved(long pairVa) {
+            numUpcalls.increment();
+        }
+
+        @Override
+        public int onContactValidate(long body1Va, long body2Va,
+                double baseOffsetX, double baseOffsetY, double baseOffsetZ,
+                long collisionResultVa) {
+            numUpcalls.increment();
+            return super.onContactValidate(body1Va, body2Va, baseOffsetX,
+                    baseOffsetY, baseOffsetZ, collisionResultVa);
+        }
+    }
+}
@@ -0,0 +1,201 @@
+/*
+Copyright (c) 2026 Stephen Gold
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+ */
+package testjoltjni.jmh;
+
+import com.github.stephengold.joltjni.Quat;
+import com.github.stephengold.joltjni.RVec3;
+import com.github.stephengold.joltjni.Vec3;
+import com.github.stephengold.joltjni.enumerate.EActivation;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measure the marshalling of {@code Vec3}, {@code RVec3}, and {@code Quat}
+ * values through the {@code Temporaries} buffers, using the getters and
+ * setters of {@code BodyInterface}.
+ *
+ * @author Stephen Gold sgold@sonic.net
+ */
+@BenchmarkMode(Mode.AverageTime)
+@Fork(1)
+@Measurement(iterations = 5, time = 1)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+@Warmup(iterations = 3, time = 1)
+public class MarshallingBenchmark {
+    // *************************************************************************
+    // fields
+
+    /**
+     * reusable storage for a location
+     */
+    final private RVec3 tmpLocation = new RVec3();
+    /**
+     * reusable storage for an orientation
+     */
+    final private Quat tmpOrientation = new Quat();
+    /**
+     * reusable storage for a velocity
+     */
+    final private Vec3 tmpVelocity = new Vec3();
+    /**
+     * location to apply in the setter benchmarks
+     */
+    final private RVec3 location = new RVec3(0., 0.5, 0.);
+    /**
+     * orientation to apply in the setter benchmarks
+     */
+    final private Quat orientation = new Quat();
+    /**
+     * velocity to apply in the setter benchmarks
+     */
+    final private Vec3 velocity = new Vec3(0f, 0.01f, 0f);
+    // *************************************************************************
+    // new methods exposed
+
+    /**
+     * Copy the linear velocity of a body into a new {@code Vec3}.
+     *
+     * @param world the benchmark state (not null)
+     * @return the velocity, to defeat dead-code elimination
+     */
+    @Benchmark
+    public Vec3 getLinearVelocityNew(WorldState world) {
+        int bodyId = world.boxIds[0];
+        Vec3 result = world.bodyInterface.getLinearVelocity(bodyId);
+
+        return result;
+    }
+
+    /**
+     * Copy the linear velocity of a body into a pre-existing {@code Vec3}.
+     *
+     * @param world the benchmark state (not null)
+     * @return the velocity, to defeat dead-code elimination
+     */
+    @Benchmark
+    public Vec3 getLinearVelocityStore(WorldState world) {
+        int bodyId = world.boxIds[0];
+        world.bodyInterface.getLinearVelocity(bodyId, tmpVelocity);
+
+        return tmpVelocity;
+    }
+
+    /**
+     * Copy the location of a body into a new {@code RVec3}.
+     *
+     * @param world the benchmark state (not null)
+     * @return the location, to defeat dead-code elimination
+     */
+    @Benchmark
+    public RVec3 getPositionNew(WorldState world) {
+        int bodyId = world.boxIds[0];
+        RVec3 result = world.bodyInterface.getPosition(bodyId);
+
+        return result;
+    }
+
+    /**
+     * Copy the location of a body into a pre-existing {@code RVec3}.
+     *
+     * @param world the benchmark state (not null)
+     * @return the location, to defeat dead-code elimination
+     */
+    @Benchmark
+    public RVec3 getPositionStore(WorldState world) {
+        int bodyId = world.boxIds[0];
+        world.bodyInterface.getPosition(bodyId, tmpLocation);
+
+        return tmpLocation;
+    }
+
+    /**
+     * Copy the orientation of a body into a new {@code Quat}.
+     *
+     * @param world the benchmark state (not null)
+     * @return the orientation, to defeat dead-code elimination
+     */
+    @Benchmark
+    public Quat getRotationNew(WorldState world) {
+        int bodyId = world.boxIds[0];
+        Quat result = world.bodyInterface.getRotation(bodyId);
+
+        return result;
+    }
+
+    /**
+     * Copy the orientation of a body into a pre-existing {@code Quat}.
+     *
+     * @param world the benchmark state (not null)
+     * @return the orientation, to defeat dead-code elimination
+     */
+    @Benchmark
+    public Quat getRotationStore(WorldState world) {
+        int bodyId = world.boxIds[0];
+        world.bodyInterface.getRotation(bodyId, tmpOrientation);
+
+        return tmpOrientation;
+    }
+
+    /**
+     * Alter the linear velocity of a body using a {@code Vec3Arg}.
+     *
+     * @param world the benchmark state (not null)
+     */
+    @Benchmark
+    public void setLinearVelocity(WorldState world) {
+        int bodyId = world.boxIds[0];
+        world.bodyInterface.setLinearVelocity(bodyId, velocity);
+    }
+
+    /**
+     * Alter the linear velocity of a body using 3 floats.
+     *
+     * @param world the benchmark state (not null)
+     */
+    @Benchmark
+    public void setLinearVelocityFloats(WorldState world) {
+        int bodyId = world.boxIds[0];
+        world.bodyInterface.setLinearVelocity(bodyId, 0f, 0.01f, 0f);
+    }
+
+    /**
+     * Alter the location and orientation of a body using an {@code RVec3Arg}
+     * and a {@code QuatArg}.
+     *
+     * @param world the benchmark state (not null)
+     */
+    @Benchmark
+    public void setPositionAndRotation(WorldState world) {
+        int bodyId = world.boxIds[0];
+        world.bodyInterface.setPositionAndRotation(
+                bodyId, location, orientation, EActivation.DontActivate);
+    }
+}
@@ -0,0 +1,246 @@
+/*
+Copyright (c) 2026 Stephen Gold
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+ */
+package testjoltjni.jmh;
+
+import com.github.stephengold.joltjni.ClosestHitCastRayCollector;
+import com.github.stephengold.joltjni.CustomCastRayCollector;
+import com.github.stephengold.joltjni.JobSystemThreadPool;
+import com.github.stephengold.joltjni.Jolt;
+import com.github.stephengold.joltjni.RRayCast;
+import com.github.stephengold.joltjni.RVec3;
+import com.github.stephengold.joltjni.RayCastResult;
+import com.github.stephengold.joltjni.RayCastSettings;
+import com.github.stephengold.joltjni.Vec3;
+import com.github.stephengold.joltjni.readonly.ConstNarrowPhaseQuery;
+import java.nio.DoubleBuffer;
+import java.nio.FloatBuffer;
+import java.nio.IntBuffer;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import testjoltjni.TestUtils;
+
+/**
+ * Measure ray casts through {@code NarrowPhaseQuery}, comparing a native
+ * collector, a Java collector invoked via upcalls, and the batched
+ * {@code castRays()} method, both on the current thread and fanned out across
+ * a {@code JobSystemThreadPool}. Each ray is cast straight down onto the
+ * column of boxes.
+ *
+ * @author Stephen Gold sgold@sonic.net
+ */
+@BenchmarkMode(Mode.AverageTime)
+@Fork(1)
+@Measurement(iterations = 5, time = 1)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+@Warmup(iterations = 3, time = 1)
+public class RayCastBenchmark {
+    // *************************************************************************
+    // constants
+
+    /**
+     * number of rays in each batch
+     */
+    final private static int numRays = 64;
+    // *************************************************************************
+    // fields
+
+    /**
+     * native collector that retains the closest hit
+     */
+    private ClosestHitCastRayCollector closestCollector;
+    /**
+     * Java collector that counts hits
+     */
+    private CustomCastRayCollector countingCollector;
+    /**
+     * ray origins for the batched benchmark
+     */
+    private DoubleBuffer origins;
+    /**
+     * ray offsets for the batched benchmark
+     */
+    private FloatBuffer directions;
+    /**
+     * storage for body IDs from the batched benchmark
+     */
+    private IntBuffer bodyIds;
+    /**
+     * storage for hit fractions from the batched benchmark
+     */
+    private FloatBuffer fractions;
+    /**
+     * job system for the fanned-out batch
+     */
+    private JobSystemThreadPool jobSystem;
+    /**
+     * number of hits reported to the Java collector
+     */
+    private int hitCount;
+    /**
+     * the single ray
+     */
+    private RRayCast ray;
+    /**
+     * ray-cast options for the collector benchmarks
+     */
+    private RayCastSettings settings;
+    // *************************************************************************
+    // new methods exposed
+
+    /**
+     * Cast a single ray and obtain the nearest hit. Since a result can't be
+     * reset, a new one is allocated (and freed) for each ray.
+     *
+     * @param world the benchmark state (not null)
+     * @return true if the ray hit, to defeat dead-code elimination
+     */
+    @Benchmark
+    public boolean castRayClosest(WorldState world) {
+        ConstNarrowPhaseQuery query = world.system.getNarrowPhaseQuery();
+        boolean result;
+        try (RayCastResult hitResult = new RayCastResult()) {
+            result = query.castRay(ray, hitResult);
+        }
+
+        return result;
+    }
+
+    /**
+     * Cast a single ray using a Java collector, which incurs an upcall for
+     * each hit.
+     *
+     * @param world the benchmark state (not null)
+     * @return the number of hits, to defeat dead-code elimination
+     */
+    @Benchmark
+    public int castRayJavaCollector(WorldState world) {
+        ConstNarrowPhaseQuery query = world.system.getNarrowPhaseQuery();
+        this.hitCount = 0;
+        countingCollector.reset();
+        query.castRay(ray, settings, countingCollector);
+
+        return hitCount;
+    }
+
+    /**
+     * Cast a single ray using a native collector.
+     *
+     * @param world the benchmark state (not null)
+     * @return true if the ray hit, to defeat dead-code elimination
+     */
+    @Benchmark
+    public boolean castRayNativeCollector(WorldState world) {
+        ConstNarrowPhaseQuery query = world.system.getNarrowPhaseQuery();
+        closestCollector.reset();
+        query.castRay(ray, settings, closestCollector);
+        boolean result = closestCollector.hadHit();
+
+        return result;
+    }
+
+    /**
+     * Cast a batch of rays using the nearest-hit buffer interface.
+     *
+     * @param world the benchmark state (not null)
+     * @return the number of hits, to defeat dead-code elimination
+     */
+    @Benchmark
+    @OperationsPerInvocation(numRays)
+    public int castRays(WorldState world) {
+        ConstNarrowPhaseQuery query = world.system.getNarrowPhaseQuery();
+        int result = query.castRays(numRays, origins, directions, bodyIds,
+                null, fractions, null);
+
+        return result;
+    }
+
+    /**
+     * Cast a batch of rays using the nearest-hit buffer interface, fanned out
+     * across a job system.
+     *
+     * @param world the benchmark state (not null)
+     * @return the number of hits, to defeat dead-code elimination
+     */
+    @Benchmark
+    @OperationsPerInvocation(numRays)
+    public int castRaysJobSystem(WorldState world) {
+        ConstNarrowPhaseQuery query = world.system.getNarrowPhaseQuery();
+        int result = query.castRays(numRays, origins, directions, bodyIds,
+                null, fractions, jobSystem);
+
+        return result;
+    }
+
+    /**
+     * Allocate the rays, collectors, buffers, and job system.
+     *
+     * @param world the benchmark state (not null)
+     */
+    @Setup(Level.Trial)
+    public void setUp(WorldState world) {
+        double top = 2. * WorldState.numBoxes;
+        this.ray = new RRayCast(new RVec3(0., top, 0.), new Vec3(0f, -top, 0f));
+        this.settings = new RayCastSettings();
+        this.closestCollector = new ClosestHitCastRayCollector();
+        this.countingCollector = new CustomCastRayCollector() {
+            @Override
+            public void addHit(long resultVa) {
+                ++hitCount;
+            }
+        };
+
+        this.origins = Jolt.newDirectDoubleBuffer(3 * numRays);
+        this.directions = Jolt.newDirectFloatBuffer(3 * numRays);
+        for (int i = 0; i < numRays; ++i) {
+            // spread the origins across the top face of the column:
+            double x = 0.9 * ((i % 8) / 7. - 0.5);
+            double z = 0.9 * ((i / 8) / 7. - 0.5);
+            origins.put(x).put(top).put(z);
+            directions.put(0f).put((float) -top).put(0f);
+        }
+        this.bodyIds = Jolt.newDirectIntBuffer(numRays);
+        this.fractions = Jolt.newDirectFloatBuffer(numRays);
+        this.jobSystem = new JobSystemThreadPool(Jolt.cMaxPhysicsJobs,
+                Jolt.cMaxPhysicsBarriers, TestUtils.numThreads());
+    }
+
+    /**
+     * Free the job system.
+     */
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        TestUtils.testClose(jobSystem);
+    }
+}
@@ -0,0 +1,161 @@
+/*
+Copyright (c) 2026 Stephen Gold
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+ */
+package testjoltjni.jmh;
+
+import com.github.stephengold.joltjni.BodyLockRead;
+import com.github.stephengold.joltjni.Quat;
+import com.github.stephengold.joltjni.RVec3;
+import com.github.stephengold.joltjni.Vec3;
+import com.github.stephengold.joltjni.readonly.ConstBody;
+import com.github.stephengold.joltjni.readonly.ConstBodyLockInterface;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compare the allocating {@code Body} getters against their {@code store}
+ * overloads, which reuse caller-supplied objects and pass results through
+ * pre-resolved native scratch storage. Scores are per body.
+ * <p>
+ * To measure heap allocation as well as time, run with the GC profiler:
+ * {@code ./gradlew runJmh --args='StoreGetter -prof gc'}. The
+ * {@code gc.alloc.rate.norm} of {@code readStore} should be about 0 B/op.
+ *
+ * @author Stephen Gold sgold@sonic.net
+ */
+@BenchmarkMode(Mode.AverageTime)
+@Fork(1)
+@Measurement(iterations = 5, time = 1)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+@Warmup(iterations = 3, time = 1)
+public class StoreGetterBenchmark {
+    // *************************************************************************
+    // fields
+
+    /**
+     * reusable storage for a location
+     */
+    final private RVec3 storeLocation = new RVec3();
+    /**
+     * reusable storage for an orientation
+     */
+    final private Quat storeOrientation = new Quat();
+    /**
+     * reusable storage for an angular velocity
+     */
+    final private Vec3 storeAngularVelocity = new Vec3();
+    /**
+     * reusable storage for a linear velocity
+     */
+    final private Vec3 storeLinearVelocity = new Vec3();
+    // *************************************************************************
+    // new methods exposed
+
+    /**
+     * Read the state of each box using the allocating getters.
+     *
+     * @param world the benchmark state (not null)
+     * @param bodies the boxes to read (not null)
+     * @return a checksum, to defeat dead-code elimination
+     */
+    @Benchmark
+    @OperationsPerInvocation(WorldState.numBoxes)
+    public double readAllocating(WorldState world, BodiesState bodies) {
+        double result = 0.0;
+        for (ConstBody body : bodies.boxes) {
+            RVec3 location = body.getPosition();
+            Quat orientation = body.getRotation();
+            Vec3 linearVelocity = body.getLinearVelocity();
+            Vec3 angularVelocity = body.getAngularVelocity();
+            result += location.yy() + orientation.getW()
+                    + linearVelocity.getY() + angularVelocity.getY();
+        }
+
+        return result;
+    }
+
+    /**
+     * Read the state of each box using the {@code store} overloads.
+     *
+     * @param world the benchmark state (not null)
+     * @param bodies the boxes to read (not null)
+     * @return a checksum, to defeat dead-code elimination
+     */
+    @Benchmark
+    @OperationsPerInvocation(WorldState.numBoxes)
+    public double readStore(WorldState world, BodiesState bodies) {
+        double result = 0.0;
+        for (ConstBody body : bodies.boxes) {
+            body.getPosition(storeLocation);
+            body.getRotation(storeOrientation);
+            body.getLinearVelocity(storeLinearVelocity);
+            body.getAngularVelocity(storeAngularVelocity);
+            result += storeLocation.yy() + storeOrientation.getW()
+                    + storeLinearVelocity.getY()
+                    + storeAngularVelocity.getY();
+        }
+
+        return result;
+    }
+    // *************************************************************************
+    // nested classes
+
+    /**
+     * Per-thread state: a JVM object for each box, looked up once so that
+     * body locking isn't part of the measurement.
+     */
+    @State(Scope.Thread)
+    public static class BodiesState {
+        /**
+         * the dynamic boxes, from bottom to top
+         */
+        ConstBody[] boxes;
+
+        /**
+         * Look up the boxes.
+         *
+         * @param world the benchmark state (not null)
+         */
+        @Setup(Level.Trial)
+        public void setUp(WorldState world) {
+            ConstBodyLockInterface bli
+                    = world.system.getBodyLockInterfaceNoLock();
+            this.boxes = new ConstBody[WorldState.numBoxes];
+            for (int i = 0; i < WorldState.numBoxes; ++i) {
+                BodyLockRead lock = new BodyLockRead(bli, world.boxIds[i]);
+                boxes[i] = lock.getBody();
+                lock.releaseLock();
+            }
+        }
+    }
+}
@@ -0,0 +1,158 @@
+/*
+Copyright (c) 2026 Stephen Gold
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+ */
+package testjoltjni.jmh;
+
+import com.github.stephengold.joltjni.JobSystemThreadPool;
+import com.github.stephengold.joltjni.Jolt;
+import com.github.stephengold.joltjni.PhysicsSystem;
+import com.github.stephengold.joltjni.PhysicsWorldGroup;
+import com.github.stephengold.joltjni.TempAllocatorImpl;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import testjoltjni.TestUtils;
+
+/**
+ * Compare many small physics systems updated one after another against the
+ * same systems stepped concurrently by a {@code PhysicsWorldGroup}. Scores
+ * are per world-step.
+ *
+ * @author Stephen Gold sgold@sonic.net
+ */
+@BenchmarkMode(Mode.AverageTime)
+@Fork(1)
+@Measurement(iterations = 5, time = 1)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Thread)
+@Warmup(iterations = 3, time = 1)
+public class WorldGroupBenchmark {
+    // *************************************************************************
+    // constants
+
+    /**
+     * number of independent worlds
+     */
+    final private static int numWorlds = 128;
+    /**
+     * size of each temp allocator (in bytes)
+     */
+    final private static int tempAllocatorBytes = 4 * 1024 * 1024;
+    // *************************************************************************
+    // fields
+
+    /**
+     * job system shared by all updates
+     */
+    private JobSystemThreadPool jobSystem;
+    /**
+     * group that steps all the worlds
+     */
+    private PhysicsWorldGroup group;
+    /**
+     * the independent worlds
+     */
+    private PhysicsSystem[] systems;
+    /**
+     * allocator for serial updates
+     */
+    private TempAllocatorImpl tempAllocator;
+    // *************************************************************************
+    // new methods exposed
+
+    /**
+     * Step every world once using the group.
+     *
+     * @param world the benchmark state (not null)
+     * @return the group, to defeat dead-code elimination
+     */
+    @Benchmark
+    @OperationsPerInvocation(numWorlds)
+    public PhysicsWorldGroup groupUpdate(WorldState world) {
+        group.update(BenchmarkUtils.deltaTime);
+        return group;
+    }
+
+    /**
+     * Step every world once, one after another on the current thread.
+     *
+     * @param world the benchmark state (not null)
+     * @return the worlds, to defeat dead-code elimination
+     */
+    @Benchmark
+    @OperationsPerInvocation(numWorlds)
+    public PhysicsSystem[] serialUpdate(WorldState world) {
+        for (PhysicsSystem system : systems) {
+            system.update(
+                    BenchmarkUtils.deltaTime, 1, tempAllocator, jobSystem);
+        }
+
+        return systems;
+    }
+
+    /**
+     * Populate the worlds and start the group's workers.
+     *
+     * @param world the benchmark state (not null)
+     */
+    @Setup(Level.Trial)
+    public void setUp(WorldState world) {
+        int numThreads = TestUtils.numThreads();
+        int numWorkers = numThreads + 1;
+        int maxBarriers = Math.max(Jolt.cMaxPhysicsBarriers, numWorkers);
+        this.jobSystem = new JobSystemThreadPool(
+                Jolt.cMaxPhysicsJobs, maxBarriers, numThreads);
+        this.tempAllocator = new TempAllocatorImpl(tempAllocatorBytes);
+        this.group = new PhysicsWorldGroup(
+                jobSystem, numWorkers, tempAllocatorBytes);
+
+        this.systems = new PhysicsSystem[numWorlds];
+        for (int i = 0; i < numWorlds; ++i) {
+            systems[i] = TestUtils.newPhysicsSystem(100);
+            BenchmarkUtils.addBoxGrid(systems[i], 4, 3, 4);
+            systems[i].optimizeBroadPhase();
+            group.addWorld(systems[i], BenchmarkUtils.deltaTime, 1, 1);
+        }
+    }
+
+    /**
+     * Stop the group's workers and free the worlds.
+     */
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        group.close();
+        for (PhysicsSystem system : systems) {
+            TestUtils.cleanupPhysicsSystem(system);
+        }
+        TestUtils.testClose(tempAllocator, jobSystem);
+    }
+}
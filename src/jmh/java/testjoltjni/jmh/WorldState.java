@@ -0,0 +1,126 @@
+/*
+Copyright (c) 2026 Stephen Gold
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+ */
+package testjoltjni.jmh;
+
+import com.github.stephengold.joltjni.BodyCreationSettings;
+import com.github.stephengold.joltjni.BodyInterface;
+import com.github.stephengold.joltjni.BoxShape;
+import com.github.stephengold.joltjni.PhysicsSystem;
+import com.github.stephengold.joltjni.Quat;
+import com.github.stephengold.joltjni.RVec3;
+import com.github.stephengold.joltjni.ShapeRefC;
+import com.github.stephengold.joltjni.Vec3;
+import com.github.stephengold.joltjni.enumerate.EActivation;
+import com.github.stephengold.joltjni.enumerate.EMotionType;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import testjoltjni.TestUtils;
+
+/**
+ * Shared benchmark state: a Release native library of the selected flavor,
+ * plus a physics system containing a static floor and a column of dynamic
+ * boxes centered on the Y axis.
+ * <p>
+ * Each JMH fork runs a single flavor, since a JVM can load only one native
+ * library. Don't run with {@code -f 0}.
+ *
+ * @author Stephen Gold sgold@sonic.net
+ */
+@State(Scope.Benchmark)
+public class WorldState {
+    // *************************************************************************
+    // constants
+
+    /**
+     * number of dynamic boxes
+     */
+    final public static int numBoxes = 16;
+    // *************************************************************************
+    // fields
+
+    /**
+     * flavor of the native library to load: "Sp" or "Dp"
+     */
+    @Param({"Sp", "Dp"})
+    public String flavor;
+    /**
+     * the system's locking body interface
+     */
+    public BodyInterface bodyInterface;
+    /**
+     * IDs of the dynamic boxes, from bottom to top
+     */
+    public int[] boxIds;
+    /**
+     * the physics system
+     */
+    public PhysicsSystem system;
+    // *************************************************************************
+    // new methods exposed
+
+    /**
+     * Load the native library and populate the physics system.
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        boolean success = TestUtils.loadNativeLibrary("Release", flavor);
+        if (!success) {
+            throw new IllegalStateException(
+                    "Release" + flavor + " native library not found");
+        }
+        TestUtils.initializeNativeLibrary();
+
+        this.system = TestUtils.newPhysicsSystem(100);
+        this.bodyInterface = system.getBodyInterface();
+
+        BoxShape floorShape = new BoxShape(new Vec3(50f, 1f, 50f));
+        BodyCreationSettings floorSettings = new BodyCreationSettings(
+                floorShape, new RVec3(0., -1., 0.), new Quat(),
+                EMotionType.Static, TestUtils.objLayerNonMoving);
+        bodyInterface.createAndAddBody(
+                floorSettings, EActivation.DontActivate);
+
+        ShapeRefC boxShape = new BoxShape(0.5f).toRefC();
+        this.boxIds = new int[numBoxes];
+        for (int i = 0; i < numBoxes; ++i) {
+            BodyCreationSettings settings = new BodyCreationSettings(
+                    boxShape, new RVec3(0., 0.5 + 1.1 * i, 0.), new Quat(),
+                    EMotionType.Dynamic, TestUtils.objLayerMoving);
+            boxIds[i] = bodyInterface.createAndAddBody(
+                    settings, EActivation.Activate);
+        }
+        system.optimizeBroadPhase();
+    }
+
+    /**
+     * Free the physics system.
+     */
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        TestUtils.cleanupPhysicsSystem(system);
+        TestUtils.cleanup();
+    }
+}
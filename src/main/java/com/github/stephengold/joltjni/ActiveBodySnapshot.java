@@ -0,0 +1,297 @@
+/*
+Copyright (c) 2026 Stephen Gold
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+ */
+package com.github.stephengold.joltjni;
+
+import java.nio.ByteBuffer;
+
+/**
+ * A double-buffered, off-heap snapshot of the locations and orientations of
+ * all active bodies in a {@code PhysicsSystem}, refreshed after each update.
+ * Once the snapshot is installed using
+ * {@code PhysicsSystem.setActiveBodySnapshot()}, its contents can be read
+ * without any JNI calls or per-body allocations.
+ * <p>
+ * Readers obtain an immutable view of the latest snapshot by invoking
+ * {@link #acquire()}. All reads through the view refer to the same snapshot,
+ * even if a newer one is published meanwhile.
+ * <p>
+ * Each record occupies {@code recordBytes} bytes in native byte order:
+ * <ul>
+ * <li>offset 0: body ID (int)</li>
+ * <li>offset 4: flags (int, see {@code changedFlag})</li>
+ * <li>offset 8: location X, Y, and Z (3 doubles, in system coordinates)</li>
+ * <li>offset 32: orientation X, Y, Z, and W (4 floats)</li>
+ * </ul>
+ * <p>
+ * The published buffer remains unmodified until the 2nd update after it was
+ * published, so a reader on another thread has one full step to consume it.
+ *
+ * @author Stephen Gold sgold@sonic.net
+ */
+public class ActiveBodySnapshot {
+    // *************************************************************************
+    // classes
+
+    /**
+     * An immutable view of a single published snapshot. All reads through one
+     * view refer to the same snapshot, even if newer snapshots are published
+     * while the view is in use.
+     * <p>
+     * The view's buffer remains unmodified until the 2nd update after it was
+     * published, so a reader has one full step to consume it.
+     */
+    final public static class Published {
+        // *********************************************************************
+        // fields
+
+        /**
+         * records of the snapshot
+         */
+        final private ByteBuffer buffer;
+        /**
+         * number of records in the snapshot
+         */
+        final private int numRecords;
+        /**
+         * number of snapshots published up to and including this one
+         */
+        final private long sequence;
+        // *********************************************************************
+        // constructors
+
+        /**
+         * Instantiate a view.
+         *
+         * @param buffer the records (not null, alias created)
+         * @param numRecords the number of records (&ge;0)
+         * @param sequence the sequence number (&ge;0)
+         */
+        private Published(ByteBuffer buffer, int numRecords, long sequence) {
+            this.buffer = buffer;
+            this.numRecords = numRecords;
+            this.sequence = sequence;
+        }
+        // *********************************************************************
+        // new methods exposed
+
+        /**
+         * Return the number of bodies in the snapshot.
+         *
+         * @return the count (&ge;0)
+         */
+        public int count() {
+            return numRecords;
+        }
+
+        /**
+         * Return the ID of the indexed body. The view is unaffected.
+         *
+         * @param recordIndex the index of the record (&ge;0, &lt;count)
+         * @return the body ID
+         */
+        public int getBodyId(int recordIndex) {
+            int result = buffer.getInt(recordIndex * recordBytes + idOffset);
+            return result;
+        }
+
+        /**
+         * Access the records of the snapshot. The buffer's position and limit
+         * are not meaningful: use absolute gets with the offsets defined in
+         * {@code ActiveBodySnapshot}.
+         *
+         * @return the pre-existing direct buffer (in native byte order, not
+         * null)
+         */
+        public ByteBuffer getBuffer() {
+            return buffer;
+        }
+
+        /**
+         * Copy the location of the indexed body. The view is unaffected.
+         *
+         * @param recordIndex the index of the record (&ge;0, &lt;count)
+         * @param storeLocation storage for the location (not null, modified)
+         */
+        public void getLocation(int recordIndex, RVec3 storeLocation) {
+            int offset = recordIndex * recordBytes + locationOffset;
+            double x = buffer.getDouble(offset);
+            double y = buffer.getDouble(offset + 8);
+            double z = buffer.getDouble(offset + 16);
+            storeLocation.set(x, y, z);
+        }
+
+        /**
+         * Copy the orientation of the indexed body. The view is unaffected.
+         *
+         * @param recordIndex the index of the record (&ge;0, &lt;count)
+         * @param storeOrientation storage for the orientation (not null,
+         * modified)
+         */
+        public void getOrientation(int recordIndex, Quat storeOrientation) {
+            int offset = recordIndex * recordBytes + orientationOffset;
+            float qx = buffer.getFloat(offset);
+            float qy = buffer.getFloat(offset + 4);
+            float qz = buffer.getFloat(offset + 8);
+            float qw = buffer.getFloat(offset + 12);
+            storeOrientation.set(qx, qy, qz, qw);
+        }
+
+        /**
+         * Return the number of snapshots published up to and including this
+         * one.
+         *
+         * @return the count (&ge;0)
+         */
+        public long getSequence() {
+            return sequence;
+        }
+
+        /**
+         * Test whether the indexed body moved or rotated since the previous
+         * snapshot. The view is unaffected.
+         *
+         * @param recordIndex the index of the record (&ge;0, &lt;count)
+         * @return {@code true} if changed, otherwise {@code false}
+         */
+        public boolean isChanged(int recordIndex) {
+            int flags = buffer.getInt(recordIndex * recordBytes + flagsOffset);
+            boolean result = (flags & changedFlag) != 0;
+
+            return result;
+        }
+    }
+    // *************************************************************************
+    // constants
+
+    /**
+     * flag bit set if the body's location or orientation differs from the
+     * previous snapshot (or if the body wasn't in the previous snapshot)
+     */
+    final public static int changedFlag = 0x1;
+    /**
+     * byte offset of the flags within each record
+     */
+    final public static int flagsOffset = 4;
+    /**
+     * byte offset of the body ID within each record
+     */
+    final public static int idOffset = 0;
+    /**
+     * byte offset of the location within each record
+     */
+    final public static int locationOffset = 8;
+    /**
+     * byte offset of the orientation within each record
+     */
+    final public static int orientationOffset = 32;
+    /**
+     * size of each record (in bytes)
+     */
+    final public static int recordBytes = 48;
+    // *************************************************************************
+    // fields
+
+    /**
+     * records of the snapshot under construction
+     */
+    private ByteBuffer backBuffer;
+    /**
+     * most recently published location and orientation of each body, indexed
+     * by body index, used to detect changes
+     */
+    final private ByteBuffer history;
+    /**
+     * maximum number of bodies
+     */
+    final private int maxBodies;
+    /**
+     * the published snapshot, replaced (never modified) on each publish so
+     * that readers see a consistent buffer, count, and sequence number
+     */
+    private volatile Published published;
+    // *************************************************************************
+    // constructors
+
+    /**
+     * Instantiate an empty snapshot for the specified number of bodies.
+     *
+     * @param maxBodies the maximum number of bodies in the system (&ge;1)
+     */
+    public ActiveBodySnapshot(int maxBodies) {
+        if (maxBodies < 1) {
+            throw new IllegalArgumentException("maxBodies = " + maxBodies);
+        }
+        this.maxBodies = maxBodies;
+
+        int numBytes = maxBodies * recordBytes;
+        ByteBuffer frontBuffer = Jolt.newDirectByteBuffer(numBytes);
+        this.published = new Published(frontBuffer, 0, 0L);
+        this.backBuffer = Jolt.newDirectByteBuffer(numBytes);
+        this.history = Jolt.newDirectByteBuffer(numBytes);
+    }
+    // *************************************************************************
+    // new methods exposed
+
+    /**
+     * Access the most recently published snapshot. To read a consistent
+     * snapshot, acquire a view once and perform all reads through it.
+     *
+     * @return the pre-existing immutable view (not null)
+     */
+    public Published acquire() {
+        Published result = published;
+        return result;
+    }
+
+    /**
+     * Return the maximum number of bodies.
+     *
+     * @return the count (&ge;1)
+     */
+    public int getMaxBodies() {
+        return maxBodies;
+    }
+
+    // *************************************************************************
+    // new protected methods
+
+    /**
+     * Capture the active bodies of the specified system into the back buffer,
+     * then publish it. Invoked by {@code PhysicsSystem.update()}.
+     *
+     * @param systemVa the virtual address of the native system (not zero)
+     */
+    void publish(long systemVa) {
+        ByteBuffer buffer = backBuffer;
+        int count = capture(systemVa, maxBodies, buffer, history);
+
+        Published previous = published;
+        this.backBuffer = previous.buffer;
+        // A single volatile write publishes the buffer and its metadata:
+        this.published = new Published(buffer, count, previous.sequence + 1L);
+    }
+    // *************************************************************************
+    // native private methods
+
+    native private static int capture(long systemVa, int maxBodies,
+            ByteBuffer storeRecords, ByteBuffer history);
+}
@@ -21,6 +21,7 @@ SOFTWARE.
  */
 package com.github.stephengold.joltjni;
 
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -44,6 +45,22 @@ public class AllHitCastShapeCollector extends CastShapeCollector {
     // *************************************************************************
     // new methods exposed
 
+    /**
+     * Copy all the hits to the specified buffer using a single native call,
+     * without creating a JVM object for each hit.
+     *
+     * @param storeResult storage for the hits (not null, modified)
+     * @return the number of hits copied (&ge;0)
+     */
+    public int copyHits(HitBuffer storeResult) {
+        long collectorVa = va();
+        int result = countHits(collectorVa);
+        ByteBuffer records = storeResult.prepare(result);
+        copyHits(collectorVa, records);
+
+        return result;
+    }
+
     /**
      * Count the hits.
      *
@@ -108,6 +125,9 @@ public class AllHitCastShapeCollector extends CastShapeCollector {
     // *************************************************************************
     // native private methods
 
+    native private static void copyHits(
+            long collectorVa, ByteBuffer storeRecords);
+
     native private static int countHits(long collectorVa);
 
     native private static long createDefault();
@@ -0,0 +1,322 @@
+/*
+Copyright (c) 2026 Stephen Gold
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+ */
+package com.github.stephengold.joltjni;
+
+import java.nio.ByteBuffer;
+
+/**
+ * A {@code ContactListener} that records contact events in native memory
+ * instead of invoking Java callbacks, then exposes them (after each update) as
+ * a direct buffer of fixed-size records.
+ * <p>
+ * Each worker thread records into its own segment of a pre-allocated native
+ * buffer, so recording requires neither locks nor JNI calls. Events that don't
+ * fit in a thread's segment are discarded and counted.
+ * <p>
+ * Each record occupies {@code recordBytes} bytes in native byte order:
+ * <ul>
+ * <li>offset 0: event type (int: {@code added}, {@code persisted}, or
+ * {@code removed})</li>
+ * <li>offset 4: ID of the first body (int)</li>
+ * <li>offset 8: ID of the 2nd body (int)</li>
+ * <li>offset 12: sub-shape ID in the first body (int)</li>
+ * <li>offset 16: sub-shape ID in the 2nd body (int)</li>
+ * <li>offset 20: number of contact points in the manifold (int)</li>
+ * <li>offset 24: first contact point on the first body, in system coordinates
+ * (3 doubles)</li>
+ * <li>offset 48: contact normal, in system coordinates (3 floats)</li>
+ * <li>offset 60: penetration depth (float)</li>
+ * <li>offset 64: combined friction (float)</li>
+ * <li>offset 68: combined restitution (float)</li>
+ * </ul>
+ * For {@code removed} events, only the body IDs and sub-shape IDs are valid.
+ *
+ * @author Stephen Gold sgold@sonic.net
+ */
+public class BatchedContactListener extends ContactListener {
+    // *************************************************************************
+    // constants
+
+    /**
+     * event type for a new contact
+     */
+    final public static int added = 0;
+    /**
+     * byte offset of the first body's ID within each record
+     */
+    final public static int body1IdOffset = 4;
+    /**
+     * byte offset of the 2nd body's ID within each record
+     */
+    final public static int body2IdOffset = 8;
+    /**
+     * byte offset of the penetration depth within each record
+     */
+    final public static int depthOffset = 60;
+    /**
+     * byte offset of the combined friction within each record
+     */
+    final public static int frictionOffset = 64;
+    /**
+     * byte offset of the contact normal within each record
+     */
+    final public static int normalOffset = 48;
+    /**
+     * byte offset of the number of contact points within each record
+     */
+    final public static int numPointsOffset = 20;
+    /**
+     * event type for a contact that was also detected during the previous
+     * update
+     */
+    final public static int persisted = 1;
+    /**
+     * byte offset of the contact point within each record
+     */
+    final public static int pointOffset = 24;
+    /**
+     * size of each record (in bytes)
+     */
+    final public static int recordBytes = 72;
+    /**
+     * event type for a contact that's no longer detected
+     */
+    final public static int removed = 2;
+    /**
+     * byte offset of the combined restitution within each record
+     */
+    final public static int restitutionOffset = 68;
+    /**
+     * byte offset of the first body's sub-shape ID within each record
+     */
+    final public static int subShape1IdOffset = 12;
+    /**
+     * byte offset of the 2nd body's sub-shape ID within each record
+     */
+    final public static int subShape2IdOffset = 16;
+    /**
+     * byte offset of the event type within each record
+     */
+    final public static int typeOffset = 0;
+    // *************************************************************************
+    // fields
+
+    /**
+     * records collected after the most recent update
+     */
+    final private ByteBuffer events;
+    /**
+     * number of records collected after the most recent update
+     */
+    private int numEvents;
+    /**
+     * number of events discarded during the most recent update
+     */
+    private long numDropped;
+    // *************************************************************************
+    // constructors
+
+    /**
+     * Instantiate a listener with the specified capacity.
+     *
+     * @param maxEventsPerThread the maximum number of events each thread can
+     * record per update (&ge;1)
+     * @param maxThreads the maximum number of threads that will invoke the
+     * listener (&ge;1)
+     */
+    public BatchedContactListener(int maxEventsPerThread, int maxThreads) {
+        if (maxEventsPerThread < 1) {
+            throw new IllegalArgumentException(
+                    "maxEventsPerThread = " + maxEventsPerThread);
+        }
+        if (maxThreads < 1) {
+            throw new IllegalArgumentException("maxThreads = " + maxThreads);
+        }
+        long numBytes = (long) maxEventsPerThread * maxThreads * recordBytes;
+        if (numBytes > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("capacity too large");
+        }
+        this.events = Jolt.newDirectByteBuffer((int) numBytes);
+
+        long listenerVa = create(maxEventsPerThread, maxThreads);
+        setVirtualAddressAsOwner(listenerVa);
+    }
+    // *************************************************************************
+    // new methods exposed
+
+    /**
+     * Return the number of events collected after the most recent update.
+     *
+     * @return the count (&ge;0)
+     */
+    public int count() {
+        return numEvents;
+    }
+
+    /**
+     * Return the number of events discarded during the most recent update due
+     * to insufficient capacity.
+     *
+     * @return the count (&ge;0)
+     */
+    public long countDropped() {
+        return numDropped;
+    }
+
+    /**
+     * Return the ID of the first body in the indexed event. The listener is
+     * unaffected.
+     *
+     * @param eventIndex the index of the event (&ge;0, &lt;count)
+     * @return the body ID
+     */
+    public int getBody1Id(int eventIndex) {
+        int result = events.getInt(eventIndex * recordBytes + body1IdOffset);
+        return result;
+    }
+
+    /**
+     * Return the ID of the 2nd body in the indexed event. The listener is
+     * unaffected.
+     *
+     * @param eventIndex the index of the event (&ge;0, &lt;count)
+     * @return the body ID
+     */
+    public int getBody2Id(int eventIndex) {
+        int result = events.getInt(eventIndex * recordBytes + body2IdOffset);
+        return result;
+    }
+
+    /**
+     * Access the records collected after the most recent update. The buffer's
+     * position and limit are not meaningful: use absolute gets with the
+     * offsets defined in this class.
+     *
+     * @return the pre-existing direct buffer (in native byte order, not null)
+     */
+    public ByteBuffer getBuffer() {
+        return events;
+    }
+
+    /**
+     * Copy the contact normal of the indexed event. The listener is
+     * unaffected.
+     *
+     * @param eventIndex the index of the event (&ge;0, &lt;count)
+     * @param storeNormal storage for the normal (not null, modified)
+     */
+    public void getNormal(int eventIndex, Vec3 storeNormal) {
+        int offset = eventIndex * recordBytes + normalOffset;
+        float nx = events.getFloat(offset);
+        float ny = events.getFloat(offset + 4);
+        float nz = events.getFloat(offset + 8);
+        storeNormal.set(nx, ny, nz);
+    }
+
+    /**
+     * Return the penetration depth of the indexed event. The listener is
+     * unaffected.
+     *
+     * @param eventIndex the index of the event (&ge;0, &lt;count)
+     * @return the depth
+     */
+    public float getPenetrationDepth(int eventIndex) {
+        float result = events.getFloat(eventIndex * recordBytes + depthOffset);
+        return result;
+    }
+
+    /**
+     * Copy the contact point of the indexed event. The listener is unaffected.
+     *
+     * @param eventIndex the index of the event (&ge;0, &lt;count)
+     * @param storePoint storage for the location (in system coordinates, not
+     * null, modified)
+     */
+    public void getPoint(int eventIndex, RVec3 storePoint) {
+        int offset = eventIndex * recordBytes + pointOffset;
+        double x = events.getDouble(offset);
+        double y = events.getDouble(offset + 8);
+        double z = events.getDouble(offset + 16);
+        storePoint.set(x, y, z);
+    }
+
+    /**
+     * Return the type of the indexed event. The listener is unaffected.
+     *
+     * @param eventIndex the index of the event (&ge;0, &lt;count)
+     * @return {@code added}, {@code persisted}, or {@code removed}
+     */
+    public int getType(int eventIndex) {
+        int result = events.getInt(eventIndex * recordBytes + typeOffset);
+        return result;
+    }
+
+    /**
+     * Record {@code added} and {@code persisted} events for all object layers.
+     * This is the default.
+     */
+    public void includeAllLayers() {
+        long listenerVa = va();
+        includeAllLayers(listenerVa);
+    }
+
+    /**
+     * Record {@code added} and {@code persisted} events in which either body
+     * belongs to the specified object layer. Once any layer is included, events
+     * involving only excluded layers are ignored. {@code removed} events are
+     * always recorded, since their bodies might no longer exist.
+     *
+     * @param objectLayer the index of the layer to include (&ge;0, &lt;65536)
+     */
+    public void includeLayer(int objectLayer) {
+        if (objectLayer < 0 || objectLayer > 0xffff) {
+            throw new IllegalArgumentException(
+                    "objectLayer = " + objectLayer);
+        }
+        long listenerVa = va();
+        includeLayer(listenerVa, objectLayer);
+    }
+    // *************************************************************************
+    // new protected methods
+
+    /**
+     * Move the events recorded during an update into the direct buffer.
+     * Invoked by {@code PhysicsSystem.update()}.
+     */
+    void collect() {
+        long listenerVa = va();
+        this.numDropped = getNumDropped(listenerVa);
+        this.numEvents = collect(listenerVa, events);
+    }
+    // *************************************************************************
+    // native private methods
+
+    native private static int collect(long listenerVa, ByteBuffer storeEvents);
+
+    native private static long create(int maxEventsPerThread, int maxThreads);
+
+    native private static long getNumDropped(long listenerVa);
+
+    native private static void includeAllLayers(long listenerVa);
+
+    native private static void includeLayer(long listenerVa, int objectLayer);
+}
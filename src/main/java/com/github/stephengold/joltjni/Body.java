@@ -31,7 +31,6 @@ import com.github.stephengold.joltjni.readonly.QuatArg;
 import com.github.stephengold.joltjni.readonly.RVec3Arg;
 import com.github.stephengold.joltjni.readonly.Vec3Arg;
 import java.nio.DoubleBuffer;
-import java.nio.FloatBuffer;
 
 /**
  * An object with mass, position, and shape that can be added to a
@@ -495,14 +494,25 @@ public class Body extends NonCopyable implements ConstBody {
      */
     @Override
     public Vec3 getAccumulatedForce() {
-        long bodyVa = va();
-        FloatBuffer storeFloats = Temporaries.floatBuffer1.get();
-        getAccumulatedForce(bodyVa, storeFloats);
-        Vec3 result = new Vec3(storeFloats);
+        Vec3 result = new Vec3();
+        getAccumulatedForce(result);
 
         return result;
     }
 
+    /**
+     * Copy the net force acting on the body. The body is unaffected.
+     *
+     * @param storeForce storage for the result (not null, modified)
+     */
+    @Override
+    public void getAccumulatedForce(Vec3 storeForce) {
+        long bodyVa = va();
+        NativeScratch scratch = Temporaries.scratch.get();
+        getAccumulatedForce(bodyVa, scratch.floatsVa);
+        storeForce.set(scratch.floats);
+    }
+
     /**
      * Copy the net torque acting on the body. The body is unaffected.
      *
@@ -510,14 +520,25 @@ public class Body extends NonCopyable implements ConstBody {
      */
     @Override
     public Vec3 getAccumulatedTorque() {
-        long bodyVa = va();
-        FloatBuffer storeFloats = Temporaries.floatBuffer1.get();
-        getAccumulatedTorque(bodyVa, storeFloats);
-        Vec3 result = new Vec3(storeFloats);
+        Vec3 result = new Vec3();
+        getAccumulatedTorque(result);
 
         return result;
     }
 
+    /**
+     * Copy the net torque acting on the body. The body is unaffected.
+     *
+     * @param storeTorque storage for the result (not null, modified)
+     */
+    @Override
+    public void getAccumulatedTorque(Vec3 storeTorque) {
+        long bodyVa = va();
+        NativeScratch scratch = Temporaries.scratch.get();
+        getAccumulatedTorque(bodyVa, scratch.floatsVa);
+        storeTorque.set(scratch.floats);
+    }
+
     /**
      * Test whether the body is allowed to fall asleep. The body is unaffected.
      *
@@ -538,14 +559,25 @@ public class Body extends NonCopyable implements ConstBody {
      */
     @Override
     public Vec3 getAngularVelocity() {
-        long bodyVa = va();
-        FloatBuffer storeFloats = Temporaries.floatBuffer1.get();
-        getAngularVelocity(bodyVa, storeFloats);
-        Vec3 result = new Vec3(storeFloats);
+        Vec3 result = new Vec3();
+        getAngularVelocity(result);
 
         return result;
     }
 
+    /**
+     * Copy the body's angular velocity. The body is unaffected.
+     *
+     * @param storeVelocity storage for the result (not null, modified)
+     */
+    @Override
+    public void getAngularVelocity(Vec3 storeVelocity) {
+        long bodyVa = va();
+        NativeScratch scratch = Temporaries.scratch.get();
+        getAngularVelocity(bodyVa, scratch.floatsVa);
+        storeVelocity.set(scratch.floats);
+    }
+
     /**
      * Generate settings to reconstruct the (rigid) body. The body is
      * unaffected.
@@ -737,14 +769,25 @@ public class Body extends NonCopyable implements ConstBody {
      */
     @Override
     public Vec3 getLinearVelocity() {
-        long bodyVa = va();
-        FloatBuffer storeFloats = Temporaries.floatBuffer1.get();
-        getLinearVelocity(bodyVa, storeFloats);
-        Vec3 result = new Vec3(storeFloats);
+        Vec3 result = new Vec3();
+        getLinearVelocity(result);
 
         return result;
     }
 
+    /**
+     * Copy the body's linear velocity. The body is unaffected.
+     *
+     * @param storeVelocity storage for the result (not null, modified)
+     */
+    @Override
+    public void getLinearVelocity(Vec3 storeVelocity) {
+        long bodyVa = va();
+        NativeScratch scratch = Temporaries.scratch.get();
+        getLinearVelocity(bodyVa, scratch.floatsVa);
+        storeVelocity.set(scratch.floats);
+    }
+
     /**
      * Access the body's motion properties.
      *
@@ -806,17 +849,34 @@ public class Body extends NonCopyable implements ConstBody {
      */
     @Override
     public RVec3 getPosition() {
-        long bodyVa = va();
-        DoubleBuffer storeDoubles = Temporaries.doubleBuffer1.get();
-        getPosition(bodyVa, storeDoubles);
-        RVec3 result = new RVec3(storeDoubles);
+        RVec3 result = new RVec3();
+        getPosition(result);
 
-        assert Double.isFinite(result.xx()) : "xx = " + result.xx();
-        assert Double.isFinite(result.yy()) : "yy = " + result.yy();
-        assert Double.isFinite(result.zz()) : "zz = " + result.zz();
         return result;
     }
 
+    /**
+     * Copy the location of the body's origin (which might not coincide with its
+     * center of mass). The body is unaffected.
+     *
+     * @param storeLocation storage for the result (in system coordinates, not
+     * null, modified)
+     */
+    @Override
+    public void getPosition(RVec3 storeLocation) {
+        long bodyVa = va();
+        NativeScratch scratch = Temporaries.scratch.get();
+        getPosition(bodyVa, scratch.doublesVa);
+        storeLocation.set(scratch.doubles);
+
+        assert Double.isFinite(storeLocation.xx()) :
+                "xx = " + storeLocation.xx();
+        assert Double.isFinite(storeLocation.yy()) :
+                "yy = " + storeLocation.yy();
+        assert Double.isFinite(storeLocation.zz()) :
+                "zz = " + storeLocation.zz();
+    }
+
     /**
      * Copy the position of the body. The body is unaffected.
      *
@@ -829,14 +889,13 @@ public class Body extends NonCopyable implements ConstBody {
     public void getPositionAndRotation(
             RVec3 storeLocation, Quat storeOrientation) {
         long bodyVa = va();
-        DoubleBuffer storeDoubles = Temporaries.doubleBuffer1.get();
-        FloatBuffer storeFloats = Temporaries.floatBuffer1.get();
+        NativeScratch scratch = Temporaries.scratch.get();
 
-        getPosition(bodyVa, storeDoubles);
-        getRotation(bodyVa, storeFloats);
+        getPosition(bodyVa, scratch.doublesVa);
+        getRotation(bodyVa, scratch.floatsVa);
 
-        storeLocation.set(storeDoubles);
-        storeOrientation.set(storeFloats);
+        storeLocation.set(scratch.doubles);
+        storeOrientation.set(scratch.floats);
     }
 
     /**
@@ -859,14 +918,25 @@ public class Body extends NonCopyable implements ConstBody {
      */
     @Override
     public Quat getRotation() {
-        long bodyVa = va();
-        FloatBuffer storeFloats = Temporaries.floatBuffer1.get();
-        getRotation(bodyVa, storeFloats);
-        Quat result = new Quat(storeFloats);
+        Quat result = new Quat();
+        getRotation(result);
 
         return result;
     }
 
+    /**
+     * Copy the body's orientation. The body is unaffected.
+     *
+     * @param storeOrientation storage for the result (not null, modified)
+     */
+    @Override
+    public void getRotation(Quat storeOrientation) {
+        long bodyVa = va();
+        NativeScratch scratch = Temporaries.scratch.get();
+        getRotation(bodyVa, scratch.floatsVa);
+        storeOrientation.set(scratch.floats);
+    }
+
     /**
      * Access the body's shape.
      *
@@ -953,15 +1023,31 @@ public class Body extends NonCopyable implements ConstBody {
      */
     @Override
     public Vec3 getWorldSpaceSurfaceNormal(int subShapeId, RVec3Arg location) {
+        Vec3 result = new Vec3();
+        getWorldSpaceSurfaceNormal(subShapeId, location, result);
+
+        return result;
+    }
+
+    /**
+     * Copy the surface normal of a particular subshape at the specified
+     * location. The body is unaffected.
+     *
+     * @param subShapeId the ID of the sub-shape to use
+     * @param location the location to use (not null, unaffected)
+     * @param storeNormal storage for the result (not null, modified)
+     */
+    @Override
+    public void getWorldSpaceSurfaceNormal(
+            int subShapeId, RVec3Arg location, Vec3 storeNormal) {
         long bodyVa = va();
         double xx = location.xx();
         double yy = location.yy();
         double zz = location.zz();
-        FloatBuffer storeFloats = Temporaries.floatBuffer1.get();
-        getWorldSpaceSurfaceNormal(bodyVa, subShapeId, xx, yy, zz, storeFloats);
-
-        Vec3 result = new Vec3(storeFloats);
-        return result;
+        NativeScratch scratch = Temporaries.scratch.get();
+        getWorldSpaceSurfaceNormal(
+                bodyVa, subShapeId, xx, yy, zz, scratch.floatsVa);
+        storeNormal.set(scratch.floats);
     }
 
     /**
@@ -1114,15 +1200,15 @@ public class Body extends NonCopyable implements ConstBody {
     native private static long createFixedToWorld();
 
     native private static void getAccumulatedForce(
-            long bodyVa, FloatBuffer storeFloats);
+            long bodyVa, long floatsVa);
 
     native private static void getAccumulatedTorque(
-            long bodyVa, FloatBuffer storeFloats);
+            long bodyVa, long floatsVa);
 
     native private static boolean getAllowSleeping(long bodyVa);
 
     native private static void getAngularVelocity(
-            long bodyVa, FloatBuffer storeFloats);
+            long bodyVa, long floatsVa);
 
     native private static long getBodyCreationSettings(long bodyVa);
 
@@ -1146,7 +1232,7 @@ public class Body extends NonCopyable implements ConstBody {
     native private static long getInverseCenterOfMassTransform(long bodyVa);
 
     native private static void getLinearVelocity(
-            long bodyVa, FloatBuffer storeFloats);
+            long bodyVa, long floatsVa);
 
     native private static long getMotionProperties(long bodyVa);
 
@@ -1155,12 +1241,12 @@ public class Body extends NonCopyable implements ConstBody {
     native private static int getObjectLayer(long bodyVa);
 
     native private static void getPosition(
-            long bodyVa, DoubleBuffer storeDoubles);
+            long bodyVa, long doublesVa);
 
     native private static float getRestitution(long bodyVa);
 
     native private static void getRotation(
-            long bodyVa, FloatBuffer storeFloats);
+            long bodyVa, long floatsVa);
 
     native private static long getShape(long bodyVa);
 
@@ -1174,7 +1260,7 @@ public class Body extends NonCopyable implements ConstBody {
 
     native private static void getWorldSpaceSurfaceNormal(
             long bodyVa, int subShapeId, double xx, double yy, double zz,
-            FloatBuffer storeFloats);
+            long floatsVa);
 
     native private static long getWorldTransform(long bodyVa);
 
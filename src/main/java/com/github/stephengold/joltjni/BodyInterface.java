@@ -34,8 +34,10 @@ import com.github.stephengold.joltjni.readonly.ConstTwoBodyConstraint;
 import com.github.stephengold.joltjni.readonly.QuatArg;
 import com.github.stephengold.joltjni.readonly.RVec3Arg;
 import com.github.stephengold.joltjni.readonly.Vec3Arg;
+import java.nio.Buffer;
 import java.nio.DoubleBuffer;
 import java.nio.FloatBuffer;
+import java.nio.IntBuffer;
 
 /**
  * An interface to a {@code PhysicsSystem}, used to create, add, modify, query,
@@ -44,6 +46,25 @@ import java.nio.FloatBuffer;
  * @author Stephen Gold sgold@sonic.net
  */
 public class BodyInterface extends NonCopyable {
+    // *************************************************************************
+    // constants
+
+    /**
+     * bulk operation that adds forces
+     */
+    final private static int bulkAddForces = 0;
+    /**
+     * bulk operation that adds impulses
+     */
+    final private static int bulkAddImpulses = 1;
+    /**
+     * bulk operation that sets linear and angular velocities
+     */
+    final private static int bulkSetLinearAndAngularVelocities = 2;
+    /**
+     * bulk operation that sets linear velocities
+     */
+    final private static int bulkSetLinearVelocities = 3;
     // *************************************************************************
     // constructors
 
@@ -60,6 +81,44 @@ public class BodyInterface extends NonCopyable {
     // *************************************************************************
     // new methods exposed
 
+    /**
+     * Activate the specified bodies, using a single native call.
+     *
+     * @param bodyIds the IDs of the bodies to activate (not null, unaffected)
+     */
+    public void activateBodies(BodyIdArray bodyIds) {
+        int numBodies = bodyIds.length();
+        activateBodies(bodyIds, numBodies);
+    }
+
+    /**
+     * Activate the first {@code numBodies} bodies in the specified array,
+     * using a single native call.
+     *
+     * @param bodyIds the IDs of the bodies to activate (not null, unaffected)
+     * @param numBodies the number of bodies to activate (&ge;0, &le;
+     * bodyIds.length())
+     */
+    public void activateBodies(BodyIdArray bodyIds, int numBodies) {
+        if (numBodies < 0 || numBodies > bodyIds.length()) {
+            throw new IllegalArgumentException("numBodies = " + numBodies);
+        }
+        long bodyInterfaceVa = va();
+        long arrayVa = bodyIds.va();
+        activateBodies(bodyInterfaceVa, arrayVa, numBodies);
+    }
+
+    /**
+     * Activate the specified bodies, using a single native call.
+     *
+     * @param bodyIds the IDs of the bodies to activate (not null, unaffected)
+     */
+    public void activateBodies(BodyIdVector bodyIds) {
+        long bodyInterfaceVa = va();
+        long vectorVa = bodyIds.va();
+        activateBodiesInVector(bodyInterfaceVa, vectorVa);
+    }
+
     /**
      * Active all bodies within the specified bounds that satisfy the specified
      * filters.
@@ -266,6 +325,67 @@ public class BodyInterface extends NonCopyable {
         addForce(bodyInterfaceVa, bodyId, fx, fy, fz, locX, locY, locZ);
     }
 
+    /**
+     * Apply forces to many bodies, using a single native call and a single
+     * multi-body lock. (The no-lock interface skips the locking.) Each body
+     * that isn't already active is activated, all at once after the forces
+     * are applied. Static and kinematic bodies, as well as IDs that can't be
+     * found, are skipped.
+     * <p>
+     * For the body at index {@code i}, the force and location are read from
+     * buffer index {@code 3*i}. Buffer positions and limits are ignored.
+     *
+     * @param bodyIds the IDs of the bodies to modify (not null, unaffected)
+     * @param numBodies the number of bodies to modify (&ge;0, &le;
+     * bodyIds.length)
+     * @param forces the force vectors, packed as (X, Y, Z) triples (not null,
+     * direct, Newtons in system coordinates, unaffected)
+     * @param locations where to apply each force, packed as (X, Y, Z) triples
+     * (direct, in system coordinates, unaffected) or {@code null} to apply
+     * them at the centers of mass
+     */
+    public void addForces(int[] bodyIds, int numBodies, FloatBuffer forces,
+            DoubleBuffer locations) {
+        BufferUtils.checkLength(bodyIds, "bodyIds", numBodies);
+        checkBulkBuffers(numBodies, forces, null, locations);
+
+        long bodyInterfaceVa = va();
+        long systemVa = getSystem().va();
+        applyBulkFromArray(bodyInterfaceVa, systemVa, bodyIds, numBodies,
+                bulkAddForces, forces, null, locations);
+    }
+
+    /**
+     * Apply forces to many bodies, using a single native call and a single
+     * multi-body lock. (The no-lock interface skips the locking.) Each body
+     * that isn't already active is activated, all at once after the forces
+     * are applied. Static and kinematic bodies, as well as IDs that can't be
+     * found, are skipped.
+     * <p>
+     * For the body at index {@code i}, the force and location are read from
+     * buffer index {@code 3*i}. Buffer positions and limits are ignored.
+     *
+     * @param bodyIds the IDs of the bodies to modify, starting at index 0 (not
+     * null, direct, unaffected)
+     * @param numBodies the number of bodies to modify (&ge;0, &le; capacity of
+     * bodyIds)
+     * @param forces the force vectors, packed as (X, Y, Z) triples (not null,
+     * direct, Newtons in system coordinates, unaffected)
+     * @param locations where to apply each force, packed as (X, Y, Z) triples
+     * (direct, in system coordinates, unaffected) or {@code null} to apply
+     * them at the centers of mass
+     */
+    public void addForces(IntBuffer bodyIds, int numBodies, FloatBuffer forces,
+            DoubleBuffer locations) {
+        BufferUtils.checkDirectNonNull(bodyIds, "bodyIds", numBodies);
+        checkBulkBuffers(numBodies, forces, null, locations);
+
+        long bodyInterfaceVa = va();
+        long systemVa = getSystem().va();
+        applyBulkFromBuffer(bodyInterfaceVa, systemVa, bodyIds, numBodies,
+                bulkAddForces, forces, null, locations);
+    }
+
     /**
      * Apply the specified impulse to the specified body's center of mass.
      *
@@ -299,6 +419,69 @@ public class BodyInterface extends NonCopyable {
         addImpulse(bodyInterfaceVa, bodyId, jx, jy, jz, locX, locY, locZ);
     }
 
+    /**
+     * Apply impulses to many bodies, using a single native call and a single
+     * multi-body lock. (The no-lock interface skips the locking.) Each body
+     * that isn't already active is activated, all at once after the impulses
+     * are applied. Static and kinematic bodies, as well as IDs that can't be
+     * found, are skipped.
+     * <p>
+     * For the body at index {@code i}, the impulse and location are read from
+     * buffer index {@code 3*i}. Buffer positions and limits are ignored.
+     *
+     * @param bodyIds the IDs of the bodies to modify (not null, unaffected)
+     * @param numBodies the number of bodies to modify (&ge;0, &le;
+     * bodyIds.length)
+     * @param impulses the impulse vectors, packed as (X, Y, Z) triples (not
+     * null, direct, kilogram-meters per second in system coordinates,
+     * unaffected)
+     * @param locations where to apply each impulse, packed as (X, Y, Z)
+     * triples (direct, in system coordinates, unaffected) or {@code null} to
+     * apply them at the centers of mass
+     */
+    public void addImpulses(int[] bodyIds, int numBodies,
+            FloatBuffer impulses, DoubleBuffer locations) {
+        BufferUtils.checkLength(bodyIds, "bodyIds", numBodies);
+        checkBulkBuffers(numBodies, impulses, null, locations);
+
+        long bodyInterfaceVa = va();
+        long systemVa = getSystem().va();
+        applyBulkFromArray(bodyInterfaceVa, systemVa, bodyIds, numBodies,
+                bulkAddImpulses, impulses, null, locations);
+    }
+
+    /**
+     * Apply impulses to many bodies, using a single native call and a single
+     * multi-body lock. (The no-lock interface skips the locking.) Each body
+     * that isn't already active is activated, all at once after the impulses
+     * are applied. Static and kinematic bodies, as well as IDs that can't be
+     * found, are skipped.
+     * <p>
+     * For the body at index {@code i}, the impulse and location are read from
+     * buffer index {@code 3*i}. Buffer positions and limits are ignored.
+     *
+     * @param bodyIds the IDs of the bodies to modify, starting at index 0 (not
+     * null, direct, unaffected)
+     * @param numBodies the number of bodies to modify (&ge;0, &le; capacity of
+     * bodyIds)
+     * @param impulses the impulse vectors, packed as (X, Y, Z) triples (not
+     * null, direct, kilogram-meters per second in system coordinates,
+     * unaffected)
+     * @param locations where to apply each impulse, packed as (X, Y, Z)
+     * triples (direct, in system coordinates, unaffected) or {@code null} to
+     * apply them at the centers of mass
+     */
+    public void addImpulses(IntBuffer bodyIds, int numBodies,
+            FloatBuffer impulses, DoubleBuffer locations) {
+        BufferUtils.checkDirectNonNull(bodyIds, "bodyIds", numBodies);
+        checkBulkBuffers(numBodies, impulses, null, locations);
+
+        long bodyInterfaceVa = va();
+        long systemVa = getSystem().va();
+        applyBulkFromBuffer(bodyInterfaceVa, systemVa, bodyIds, numBodies,
+                bulkAddImpulses, impulses, null, locations);
+    }
+
     /**
      * Apply the specified torque to the specified body.
      *
@@ -345,6 +528,47 @@ public class BodyInterface extends NonCopyable {
         return result;
     }
 
+    /**
+     * Create rigid bodies for a range of settings, using a single native call.
+     * The bodies aren't added to the physics system. The ID of the body created
+     * from {@code settings[i]} is written to element {@code i} of
+     * {@code storeIds}, or {@code cInvalidBodyId} if the system ran out of
+     * bodies.
+     * <p>
+     * Body creation is thread-safe, so disjoint ranges may be created
+     * concurrently, as {@link BodyStreamer} does.
+     *
+     * @param settings the settings to use (not null, elements not null,
+     * unaffected)
+     * @param startIndex the index of the first settings to use (&ge;0)
+     * @param endIndex one plus the index of the last settings to use
+     * (&ge;startIndex, &le;settings.length)
+     * @param storeIds storage for the IDs (not null, length &ge;endIndex,
+     * modified)
+     * @return the number of bodies that couldn't be created (&ge;0)
+     */
+    public int createBodies(ConstBodyCreationSettings[] settings,
+            int startIndex, int endIndex, BodyIdArray storeIds) {
+        if (startIndex < 0 || startIndex > endIndex) {
+            throw new IllegalArgumentException("startIndex = " + startIndex);
+        }
+        if (endIndex > settings.length || endIndex > storeIds.length()) {
+            throw new IllegalArgumentException("endIndex = " + endIndex);
+        }
+
+        int numBodies = endIndex - startIndex;
+        long[] settingsVas = new long[numBodies];
+        for (int i = 0; i < numBodies; ++i) {
+            settingsVas[i] = settings[startIndex + i].targetVa();
+        }
+        long bodyInterfaceVa = va();
+        long arrayVa = storeIds.va();
+        int result = createBodies(
+                bodyInterfaceVa, settingsVas, startIndex, arrayVa);
+
+        return result;
+    }
+
     /**
      * Create a rigid body using the specified settings.
      *
@@ -413,6 +637,44 @@ public class BodyInterface extends NonCopyable {
         return result;
     }
 
+    /**
+     * Deactivate the specified bodies, using a single native call.
+     *
+     * @param bodyIds the IDs of the bodies to deactivate (not null, unaffected)
+     */
+    public void deactivateBodies(BodyIdArray bodyIds) {
+        int numBodies = bodyIds.length();
+        deactivateBodies(bodyIds, numBodies);
+    }
+
+    /**
+     * Deactivate the first {@code numBodies} bodies in the specified array,
+     * using a single native call.
+     *
+     * @param bodyIds the IDs of the bodies to deactivate (not null, unaffected)
+     * @param numBodies the number of bodies to deactivate (&ge;0, &le;
+     * bodyIds.length())
+     */
+    public void deactivateBodies(BodyIdArray bodyIds, int numBodies) {
+        if (numBodies < 0 || numBodies > bodyIds.length()) {
+            throw new IllegalArgumentException("numBodies = " + numBodies);
+        }
+        long bodyInterfaceVa = va();
+        long arrayVa = bodyIds.va();
+        deactivateBodies(bodyInterfaceVa, arrayVa, numBodies);
+    }
+
+    /**
+     * Deactivate the specified bodies, using a single native call.
+     *
+     * @param bodyIds the IDs of the bodies to deactivate (not null, unaffected)
+     */
+    public void deactivateBodies(BodyIdVector bodyIds) {
+        long bodyInterfaceVa = va();
+        long vectorVa = bodyIds.va();
+        deactivateBodiesInVector(bodyInterfaceVa, vectorVa);
+    }
+
     /**
      * Deactivate the specified body.
      *
@@ -423,6 +685,47 @@ public class BodyInterface extends NonCopyable {
         deactivateBody(bodyInterfaceVa, bodyId);
     }
 
+    /**
+     * Destroy the specified bodies, using a single native call.
+     * Don't use this on bodies that have been added but not removed yet!
+     *
+     * @param bodyIds the IDs of the bodies to destroy (not null, unaffected)
+     */
+    public void destroyBodies(BodyIdArray bodyIds) {
+        int numBodies = bodyIds.length();
+        destroyBodies(bodyIds, numBodies);
+    }
+
+    /**
+     * Destroy the first {@code numBodies} bodies in the specified array,
+     * using a single native call.
+     * Don't use this on bodies that have been added but not removed yet!
+     *
+     * @param bodyIds the IDs of the bodies to destroy (not null, unaffected)
+     * @param numBodies the number of bodies to destroy (&ge;0, &le;
+     * bodyIds.length())
+     */
+    public void destroyBodies(BodyIdArray bodyIds, int numBodies) {
+        if (numBodies < 0 || numBodies > bodyIds.length()) {
+            throw new IllegalArgumentException("numBodies = " + numBodies);
+        }
+        long bodyInterfaceVa = va();
+        long arrayVa = bodyIds.va();
+        destroyBodies(bodyInterfaceVa, arrayVa, numBodies);
+    }
+
+    /**
+     * Destroy the specified bodies, using a single native call.
+     * Don't use this on bodies that have been added but not removed yet!
+     *
+     * @param bodyIds the IDs of the bodies to destroy (not null, unaffected)
+     */
+    public void destroyBodies(BodyIdVector bodyIds) {
+        long bodyInterfaceVa = va();
+        long vectorVa = bodyIds.va();
+        destroyBodiesInVector(bodyInterfaceVa, vectorVa);
+    }
+
     /**
      * Destroy the specified body. Don't use this on a body that has been added
      * but not removed yet!
@@ -442,9 +745,9 @@ public class BodyInterface extends NonCopyable {
      */
     public Vec3 getAngularVelocity(int bodyId) {
         long bodyInterfaceVa = va();
-        FloatBuffer storeFloats = Temporaries.floatBuffer1.get();
-        getAngularVelocity(bodyInterfaceVa, bodyId, storeFloats);
-        Vec3 result = new Vec3(storeFloats);
+        NativeScratch scratch = Temporaries.scratch.get();
+        getAngularVelocity(bodyInterfaceVa, bodyId, scratch.floatsVa);
+        Vec3 result = new Vec3(scratch.floats);
 
         return result;
     }
@@ -458,9 +761,119 @@ public class BodyInterface extends NonCopyable {
      */
     public void getAngularVelocity(int bodyId, Vec3 storeVelocity) {
         long bodyInterfaceVa = va();
-        FloatBuffer storeFloats = Temporaries.floatBuffer1.get();
-        getAngularVelocity(bodyInterfaceVa, bodyId, storeFloats);
-        storeVelocity.set(storeFloats);
+        NativeScratch scratch = Temporaries.scratch.get();
+        getAngularVelocity(bodyInterfaceVa, bodyId, scratch.floatsVa);
+        storeVelocity.set(scratch.floats);
+    }
+
+    /**
+     * Copy the states of the specified bodies to direct buffers, using a single
+     * native call and a single multi-body lock. (The no-lock interface skips
+     * the locking.)
+     * <p>
+     * For the body at index {@code i} in the vector, the location is written
+     * at buffer index {@code 3*i}, the orientation (X, Y, Z, W) at
+     * {@code 4*i}, and each velocity at {@code 3*i}. Buffer positions and
+     * limits are ignored. Any buffer may be {@code null}, in which case that
+     * property isn't copied. Elements of bodies that couldn't be found are left
+     * unmodified.
+     *
+     * @param bodyIds the IDs of the bodies to query (not null, unaffected)
+     * @param storeLocations storage for locations (a direct
+     * {@code DoubleBuffer} or {@code FloatBuffer}, in system coordinates) or
+     * {@code null}
+     * @param storeOrientations storage for orientations (direct, in system
+     * coordinates) or {@code null}
+     * @param storeLinearVelocities storage for linear velocities (direct,
+     * meters per second in system coordinates) or {@code null}
+     * @param storeAngularVelocities storage for angular velocities (direct,
+     * radians per second in system coordinates) or {@code null}
+     */
+    public void getBodyStates(BodyIdVector bodyIds, Buffer storeLocations,
+            FloatBuffer storeOrientations, FloatBuffer storeLinearVelocities,
+            FloatBuffer storeAngularVelocities) {
+        int numBodies = bodyIds.size();
+        checkStateBuffers(numBodies, storeLocations, storeOrientations,
+                storeLinearVelocities, storeAngularVelocities);
+
+        long bodyInterfaceVa = va();
+        long systemVa = getSystem().va();
+        long vectorVa = bodyIds.va();
+        boolean doubles = storeLocations instanceof DoubleBuffer;
+        getBodyStatesFromVector(bodyInterfaceVa, systemVa, vectorVa,
+                storeLocations, doubles, storeOrientations,
+                storeLinearVelocities, storeAngularVelocities);
+    }
+
+    /**
+     * Copy the states of the specified bodies to direct buffers, using a single
+     * native call and a single multi-body lock. (The no-lock interface skips
+     * the locking.) The buffer layout is the same as for the
+     * {@code BodyIdVector} variant.
+     *
+     * @param bodyIds the IDs of the bodies to query (not null, unaffected)
+     * @param numBodies the number of bodies to query (&ge;0, &le;
+     * bodyIds.length)
+     * @param storeLocations storage for locations (a direct
+     * {@code DoubleBuffer} or {@code FloatBuffer}, in system coordinates) or
+     * {@code null}
+     * @param storeOrientations storage for orientations (direct, in system
+     * coordinates) or {@code null}
+     * @param storeLinearVelocities storage for linear velocities (direct,
+     * meters per second in system coordinates) or {@code null}
+     * @param storeAngularVelocities storage for angular velocities (direct,
+     * radians per second in system coordinates) or {@code null}
+     */
+    public void getBodyStates(int[] bodyIds, int numBodies,
+            Buffer storeLocations, FloatBuffer storeOrientations,
+            FloatBuffer storeLinearVelocities,
+            FloatBuffer storeAngularVelocities) {
+        BufferUtils.checkLength(bodyIds, "bodyIds", numBodies);
+        checkStateBuffers(numBodies, storeLocations, storeOrientations,
+                storeLinearVelocities, storeAngularVelocities);
+
+        long bodyInterfaceVa = va();
+        long systemVa = getSystem().va();
+        boolean doubles = storeLocations instanceof DoubleBuffer;
+        getBodyStatesFromArray(bodyInterfaceVa, systemVa, bodyIds, numBodies,
+                storeLocations, doubles, storeOrientations,
+                storeLinearVelocities, storeAngularVelocities);
+    }
+
+    /**
+     * Copy the states of the specified bodies to direct buffers, using a single
+     * native call and a single multi-body lock. (The no-lock interface skips
+     * the locking.) The buffer layout is the same as for the
+     * {@code BodyIdVector} variant.
+     *
+     * @param bodyIds the IDs of the bodies to query, starting at index 0 (not
+     * null, direct, unaffected)
+     * @param numBodies the number of bodies to query (&ge;0, &le; capacity of
+     * bodyIds)
+     * @param storeLocations storage for locations (a direct
+     * {@code DoubleBuffer} or {@code FloatBuffer}, in system coordinates) or
+     * {@code null}
+     * @param storeOrientations storage for orientations (direct, in system
+     * coordinates) or {@code null}
+     * @param storeLinearVelocities storage for linear velocities (direct,
+     * meters per second in system coordinates) or {@code null}
+     * @param storeAngularVelocities storage for angular velocities (direct,
+     * radians per second in system coordinates) or {@code null}
+     */
+    public void getBodyStates(IntBuffer bodyIds, int numBodies,
+            Buffer storeLocations, FloatBuffer storeOrientations,
+            FloatBuffer storeLinearVelocities,
+            FloatBuffer storeAngularVelocities) {
+        BufferUtils.checkDirectNonNull(bodyIds, "bodyIds", numBodies);
+        checkStateBuffers(numBodies, storeLocations, storeOrientations,
+                storeLinearVelocities, storeAngularVelocities);
+
+        long bodyInterfaceVa = va();
+        long systemVa = getSystem().va();
+        boolean doubles = storeLocations instanceof DoubleBuffer;
+        getBodyStatesFromBuffer(bodyInterfaceVa, systemVa, bodyIds, numBodies,
+                storeLocations, doubles, storeOrientations,
+                storeLinearVelocities, storeAngularVelocities);
     }
 
     /**
@@ -484,14 +897,25 @@ public class BodyInterface extends NonCopyable {
      * @return a new location vector (in system coordinates)
      */
     public RVec3 getCenterOfMassPosition(int bodyId) {
-        long bodyInterfaceVa = va();
-        DoubleBuffer storeDoubles = Temporaries.doubleBuffer1.get();
-        getCenterOfMassPosition(bodyInterfaceVa, bodyId, storeDoubles);
-        RVec3 result = new RVec3(storeDoubles);
+        RVec3 result = new RVec3();
+        getCenterOfMassPosition(bodyId, result);
 
         return result;
     }
 
+    /**
+     * Locate the center of mass of the specified body.
+     *
+     * @param bodyId the ID of the body to locate
+     * @param storeLocation storage for the result (not null, modified)
+     */
+    public void getCenterOfMassPosition(int bodyId, RVec3 storeLocation) {
+        long bodyInterfaceVa = va();
+        NativeScratch scratch = Temporaries.scratch.get();
+        getCenterOfMassPosition(bodyInterfaceVa, bodyId, scratch.doublesVa);
+        storeLocation.set(scratch.doubles);
+    }
+
     /**
      * Return the center-of-mass transform of the specified body.
      *
@@ -539,9 +963,9 @@ public class BodyInterface extends NonCopyable {
      */
     public Vec3 getLinearVelocity(int bodyId) {
         long bodyInterfaceVa = va();
-        FloatBuffer storeFloats = Temporaries.floatBuffer1.get();
-        getLinearVelocity(bodyInterfaceVa, bodyId, storeFloats);
-        Vec3 result = new Vec3(storeFloats);
+        NativeScratch scratch = Temporaries.scratch.get();
+        getLinearVelocity(bodyInterfaceVa, bodyId, scratch.floatsVa);
+        Vec3 result = new Vec3(scratch.floats);
 
         return result;
     }
@@ -555,9 +979,9 @@ public class BodyInterface extends NonCopyable {
      */
     public void getLinearVelocity(int bodyId, Vec3 storeVelocity) {
         long bodyInterfaceVa = va();
-        FloatBuffer storeFloats = Temporaries.floatBuffer1.get();
-        getLinearVelocity(bodyInterfaceVa, bodyId, storeFloats);
-        storeVelocity.set(storeFloats);
+        NativeScratch scratch = Temporaries.scratch.get();
+        getLinearVelocity(bodyInterfaceVa, bodyId, scratch.floatsVa);
+        storeVelocity.set(scratch.floats);
     }
 
     /**
@@ -623,9 +1047,9 @@ public class BodyInterface extends NonCopyable {
      */
     public RVec3 getPosition(int bodyId) {
         long bodyInterfaceVa = va();
-        DoubleBuffer storeDoubles = Temporaries.doubleBuffer1.get();
-        getPosition(bodyInterfaceVa, bodyId, storeDoubles);
-        RVec3 result = new RVec3(storeDoubles);
+        NativeScratch scratch = Temporaries.scratch.get();
+        getPosition(bodyInterfaceVa, bodyId, scratch.doublesVa);
+        RVec3 result = new RVec3(scratch.doubles);
 
         return result;
     }
@@ -639,9 +1063,9 @@ public class BodyInterface extends NonCopyable {
      */
     public void getPosition(int bodyId, RVec3 storeLocation) {
         long bodyInterfaceVa = va();
-        DoubleBuffer storeDoubles = Temporaries.doubleBuffer1.get();
-        getPosition(bodyInterfaceVa, bodyId, storeDoubles);
-        storeLocation.set(storeDoubles);
+        NativeScratch scratch = Temporaries.scratch.get();
+        getPosition(bodyInterfaceVa, bodyId, scratch.doublesVa);
+        storeLocation.set(scratch.doubles);
     }
 
     /**
@@ -684,10 +1108,10 @@ public class BodyInterface extends NonCopyable {
      */
     public Quat getRotation(int bodyId) {
         long bodyInterfaceVa = va();
-        FloatBuffer storeFloats = Temporaries.floatBuffer1.get();
+        NativeScratch scratch = Temporaries.scratch.get();
 
-        getRotation(bodyInterfaceVa, bodyId, storeFloats);
-        Quat result = new Quat(storeFloats);
+        getRotation(bodyInterfaceVa, bodyId, scratch.floatsVa);
+        Quat result = new Quat(scratch.floats);
 
         return result;
     }
@@ -701,9 +1125,9 @@ public class BodyInterface extends NonCopyable {
      */
     public void getRotation(int bodyId, Quat storeOrientation) {
         long bodyInterfaceVa = va();
-        FloatBuffer storeFloats = Temporaries.floatBuffer1.get();
-        getRotation(bodyInterfaceVa, bodyId, storeFloats);
-        storeOrientation.set(storeFloats);
+        NativeScratch scratch = Temporaries.scratch.get();
+        getRotation(bodyInterfaceVa, bodyId, scratch.floatsVa);
+        storeOrientation.set(scratch.floats);
     }
 
     /**
@@ -848,6 +1272,49 @@ public class BodyInterface extends NonCopyable {
                 activationOrdinal);
     }
 
+    /**
+     * Remove the specified bodies from the physics system, but don't destroy
+     * them, using a single native call.
+     *
+     * @param bodyIds the IDs of the bodies to remove (not null, possibly
+     * reordered)
+     */
+    public void removeBodies(BodyIdArray bodyIds) {
+        int numBodies = bodyIds.length();
+        removeBodies(bodyIds, numBodies);
+    }
+
+    /**
+     * Remove the first {@code numBodies} bodies in the specified array from the
+     * physics system, but don't destroy them, using a single native call.
+     *
+     * @param bodyIds the IDs of the bodies to remove (not null, possibly
+     * reordered)
+     * @param numBodies the number of bodies to remove (&ge;0, &le;
+     * bodyIds.length())
+     */
+    public void removeBodies(BodyIdArray bodyIds, int numBodies) {
+        if (numBodies < 0 || numBodies > bodyIds.length()) {
+            throw new IllegalArgumentException("numBodies = " + numBodies);
+        }
+        long bodyInterfaceVa = va();
+        long arrayVa = bodyIds.va();
+        removeBodies(bodyInterfaceVa, arrayVa, numBodies);
+    }
+
+    /**
+     * Remove the specified bodies from the physics system, but don't destroy
+     * them, using a single native call.
+     *
+     * @param bodyIds the IDs of the bodies to remove (not null, possibly
+     * reordered)
+     */
+    public void removeBodies(BodyIdVector bodyIds) {
+        long bodyInterfaceVa = va();
+        long vectorVa = bodyIds.va();
+        removeBodiesInVector(bodyInterfaceVa, vectorVa);
+    }
+
     /**
      * Remove the specified body from the physics system, but don't destroy it.
      *
@@ -906,6 +1373,75 @@ public class BodyInterface extends NonCopyable {
         setIsSensor(bodyInterfaceVa, bodyId, setting);
     }
 
+    /**
+     * Alter the linear and angular velocities of many bodies, using a single
+     * native call and a single multi-body lock. (The no-lock interface skips
+     * the locking.) Bodies that aren't active are activated in bulk if either
+     * new velocity is non-zero. Static bodies, as well as IDs that can't be
+     * found, are skipped.
+     * <p>
+     * For the body at index {@code i}, both velocities are read from buffer
+     * index {@code 3*i}. Buffer positions and limits are ignored.
+     *
+     * @param bodyIds the IDs of the bodies to modify (not null, unaffected)
+     * @param numBodies the number of bodies to modify (&ge;0, &le;
+     * bodyIds.length)
+     * @param linearVelocities the desired linear velocities of the centers of
+     * mass, packed as (X, Y, Z) triples (not null, direct, meters per second
+     * in system coordinates, unaffected)
+     * @param angularVelocities the desired angular velocities, packed as (X,
+     * Y, Z) triples (not null, direct, radians per second in system
+     * coordinates, unaffected)
+     */
+    public void setLinearAndAngularVelocities(int[] bodyIds,
+            int numBodies, FloatBuffer linearVelocities,
+            FloatBuffer angularVelocities) {
+        BufferUtils.checkLength(bodyIds, "bodyIds", numBodies);
+        checkBulkBuffers(
+                numBodies, linearVelocities, angularVelocities, null);
+
+        long bodyInterfaceVa = va();
+        long systemVa = getSystem().va();
+        applyBulkFromArray(bodyInterfaceVa, systemVa, bodyIds, numBodies,
+                bulkSetLinearAndAngularVelocities, linearVelocities,
+                angularVelocities, null);
+    }
+
+    /**
+     * Alter the linear and angular velocities of many bodies, using a single
+     * native call and a single multi-body lock. (The no-lock interface skips
+     * the locking.) Bodies that aren't active are activated in bulk if either
+     * new velocity is non-zero. Static bodies, as well as IDs that can't be
+     * found, are skipped.
+     * <p>
+     * For the body at index {@code i}, both velocities are read from buffer
+     * index {@code 3*i}. Buffer positions and limits are ignored.
+     *
+     * @param bodyIds the IDs of the bodies to modify, starting at index 0 (not
+     * null, direct, unaffected)
+     * @param numBodies the number of bodies to modify (&ge;0, &le; capacity of
+     * bodyIds)
+     * @param linearVelocities the desired linear velocities of the centers of
+     * mass, packed as (X, Y, Z) triples (not null, direct, meters per second
+     * in system coordinates, unaffected)
+     * @param angularVelocities the desired angular velocities, packed as (X,
+     * Y, Z) triples (not null, direct, radians per second in system
+     * coordinates, unaffected)
+     */
+    public void setLinearAndAngularVelocities(IntBuffer bodyIds,
+            int numBodies, FloatBuffer linearVelocities,
+            FloatBuffer angularVelocities) {
+        BufferUtils.checkDirectNonNull(bodyIds, "bodyIds", numBodies);
+        checkBulkBuffers(
+                numBodies, linearVelocities, angularVelocities, null);
+
+        long bodyInterfaceVa = va();
+        long systemVa = getSystem().va();
+        applyBulkFromBuffer(bodyInterfaceVa, systemVa, bodyIds, numBodies,
+                bulkSetLinearAndAngularVelocities, linearVelocities,
+                angularVelocities, null);
+    }
+
     /**
      * Alter the linear and angular velocities of the specified body.
      *
@@ -928,6 +1464,63 @@ public class BodyInterface extends NonCopyable {
                 bodyInterfaceVa, bodyId, vx, vy, vz, wx, wy, wz);
     }
 
+    /**
+     * Alter the linear velocities of many bodies, using a single native call
+     * and a single multi-body lock. (The no-lock interface skips the locking.)
+     * Bodies that aren't active are activated in bulk if their new velocity is
+     * non-zero. Static bodies, as well as IDs that can't be found, are
+     * skipped.
+     * <p>
+     * For the body at index {@code i}, the velocity is read from buffer index
+     * {@code 3*i}. Buffer positions and limits are ignored.
+     *
+     * @param bodyIds the IDs of the bodies to modify (not null, unaffected)
+     * @param numBodies the number of bodies to modify (&ge;0, &le;
+     * bodyIds.length)
+     * @param velocities the desired velocities of the centers of mass, packed
+     * as (X, Y, Z) triples (not null, direct, meters per second in system
+     * coordinates, unaffected)
+     */
+    public void setLinearVelocities(int[] bodyIds, int numBodies,
+            FloatBuffer velocities) {
+        BufferUtils.checkLength(bodyIds, "bodyIds", numBodies);
+        checkBulkBuffers(numBodies, velocities, null, null);
+
+        long bodyInterfaceVa = va();
+        long systemVa = getSystem().va();
+        applyBulkFromArray(bodyInterfaceVa, systemVa, bodyIds, numBodies,
+                bulkSetLinearVelocities, velocities, null, null);
+    }
+
+    /**
+     * Alter the linear velocities of many bodies, using a single native call
+     * and a single multi-body lock. (The no-lock interface skips the locking.)
+     * Bodies that aren't active are activated in bulk if their new velocity is
+     * non-zero. Static bodies, as well as IDs that can't be found, are
+     * skipped.
+     * <p>
+     * For the body at index {@code i}, the velocity is read from buffer index
+     * {@code 3*i}. Buffer positions and limits are ignored.
+     *
+     * @param bodyIds the IDs of the bodies to modify, starting at index 0 (not
+     * null, direct, unaffected)
+     * @param numBodies the number of bodies to modify (&ge;0, &le; capacity of
+     * bodyIds)
+     * @param velocities the desired velocities of the centers of mass, packed
+     * as (X, Y, Z) triples (not null, direct, meters per second in system
+     * coordinates, unaffected)
+     */
+    public void setLinearVelocities(IntBuffer bodyIds, int numBodies,
+            FloatBuffer velocities) {
+        BufferUtils.checkDirectNonNull(bodyIds, "bodyIds", numBodies);
+        checkBulkBuffers(numBodies, velocities, null, null);
+
+        long bodyInterfaceVa = va();
+        long systemVa = getSystem().va();
+        applyBulkFromBuffer(bodyInterfaceVa, systemVa, bodyIds, numBodies,
+                bulkSetLinearVelocities, velocities, null, null);
+    }
+
     /**
      * Alter the linear velocity of the specified body.
      *
@@ -1081,8 +1674,66 @@ public class BodyInterface extends NonCopyable {
         setUserData(bodyInterfaceVa, bodyId, value);
     }
     // *************************************************************************
+    // private methods
+
+    /**
+     * Validate the buffers passed to a bulk modification.
+     *
+     * @param numBodies the number of bodies to modify
+     * @param vectors the primary vectors (not null)
+     * @param vectors2 the secondary vectors, or {@code null} if not used
+     * @param locations the locations, or {@code null} if not used
+     * @throws IllegalArgumentException if {@code numBodies} is negative or a
+     * buffer is indirect or too small
+     */
+    private static void checkBulkBuffers(int numBodies, FloatBuffer vectors,
+            FloatBuffer vectors2, DoubleBuffer locations) {
+        if (numBodies < 0) {
+            throw new IllegalArgumentException("numBodies = " + numBodies);
+        }
+        if (vectors == null) {
+            throw new NullPointerException("vectors");
+        }
+        BufferUtils.checkDirect(vectors, 3 * numBodies);
+        BufferUtils.checkDirect(vectors2, 3 * numBodies);
+        BufferUtils.checkDirect(locations, 3 * numBodies);
+    }
+
+    /**
+     * Verify that the specified buffers are suitable for storing the states of
+     * the specified number of bodies.
+     *
+     * @param numBodies the number of bodies (&ge;0)
+     * @param storeLocations storage for locations, or {@code null}
+     * @param storeOrientations storage for orientations, or {@code null}
+     * @param storeLinearVelocities storage for linear velocities, or
+     * {@code null}
+     * @param storeAngularVelocities storage for angular velocities, or
+     * {@code null}
+     * @throws IllegalArgumentException if a buffer is indirect or too small,
+     * or if {@code storeLocations} isn't a {@code DoubleBuffer} or
+     * {@code FloatBuffer}
+     */
+    private static void checkStateBuffers(int numBodies, Buffer storeLocations,
+            FloatBuffer storeOrientations, FloatBuffer storeLinearVelocities,
+            FloatBuffer storeAngularVelocities) {
+        if (numBodies < 0) {
+            throw new IllegalArgumentException("numBodies = " + numBodies);
+        }
+        BufferUtils.checkLocations(storeLocations, 3 * numBodies);
+        BufferUtils.checkDirect(storeOrientations, 4 * numBodies);
+        BufferUtils.checkDirect(storeLinearVelocities, 3 * numBodies);
+        BufferUtils.checkDirect(storeAngularVelocities, 3 * numBodies);
+    }
+    // *************************************************************************
     // native private methods
 
+    native private static void activateBodies(
+            long bodyInterfaceVa, long arrayVa, int numBodies);
+
+    native private static void activateBodiesInVector(
+            long bodyInterfaceVa, long vectorVa);
+
     native private static void activateBodiesInAaBox(long bodyInterfaceVa,
             long boxVa, long bplFilterVa, long olFilterVa);
 
@@ -1123,6 +1774,17 @@ public class BodyInterface extends NonCopyable {
     native private static void addTorque(
             long bodyInterfaceVa, int bodyId, float x, float y, float z);
 
+    native private static void applyBulkFromArray(long bodyInterfaceVa,
+            long systemVa, int[] bodyIds, int numBodies, int operation,
+            FloatBuffer vectors, FloatBuffer vectors2, DoubleBuffer locations);
+
+    native private static void applyBulkFromBuffer(long bodyInterfaceVa,
+            long systemVa, IntBuffer bodyIds, int numBodies, int operation,
+            FloatBuffer vectors, FloatBuffer vectors2, DoubleBuffer locations);
+
+    native private static int createBodies(long bodyInterfaceVa,
+            long[] settingsVas, int startIndex, long arrayVa);
+
     native private static long createBody(
             long bodyInterfaceVa, long settingsVa);
 
@@ -1132,17 +1794,47 @@ public class BodyInterface extends NonCopyable {
     native private static long createSoftBody(
             long bodyInterfaceVa, long settingsVa);
 
+    native private static void deactivateBodies(
+            long bodyInterfaceVa, long arrayVa, int numBodies);
+
+    native private static void deactivateBodiesInVector(
+            long bodyInterfaceVa, long vectorVa);
+
     native private static void deactivateBody(long bodyInterfaceVa, int bodyId);
 
+    native private static void destroyBodies(
+            long bodyInterfaceVa, long arrayVa, int numBodies);
+
+    native private static void destroyBodiesInVector(
+            long bodyInterfaceVa, long vectorVa);
+
     native private static void destroyBody(long bodyInterfaceVa, int bodyId);
 
     native private static void getAngularVelocity(
-            long bodyInterfaceVa, int bodyId, FloatBuffer storeFloats);
+            long bodyInterfaceVa, int bodyId, long floatsVa);
+
+    native private static void getBodyStatesFromArray(long bodyInterfaceVa,
+            long systemVa, int[] bodyIds, int numBodies, Buffer storeLocations,
+            boolean locationsAreDoubles, FloatBuffer storeOrientations,
+            FloatBuffer storeLinearVelocities,
+            FloatBuffer storeAngularVelocities);
+
+    native private static void getBodyStatesFromBuffer(long bodyInterfaceVa,
+            long systemVa, IntBuffer bodyIds, int numBodies,
+            Buffer storeLocations, boolean locationsAreDoubles,
+            FloatBuffer storeOrientations, FloatBuffer storeLinearVelocities,
+            FloatBuffer storeAngularVelocities);
+
+    native private static void getBodyStatesFromVector(long bodyInterfaceVa,
+            long systemVa, long vectorVa, Buffer storeLocations,
+            boolean locationsAreDoubles, FloatBuffer storeOrientations,
+            FloatBuffer storeLinearVelocities,
+            FloatBuffer storeAngularVelocities);
 
     native private static int getBodyType(long bodyInterfaceVa, int bodyId);
 
     native private static void getCenterOfMassPosition(
-            long bodyInterfaceVa, int bodyId, DoubleBuffer storeDoubles);
+            long bodyInterfaceVa, int bodyId, long doublesVa);
 
     native private static long getCenterOfMassTransform(
             long bodyInterfaceVa, int bodyId);
@@ -1156,7 +1848,7 @@ public class BodyInterface extends NonCopyable {
             long bodyInterfaceVa, int bodyId);
 
     native private static void getLinearVelocity(
-            long bodyInterfaceVa, int bodyId, FloatBuffer storeFloats);
+            long bodyInterfaceVa, int bodyId, long floatsVa);
 
     native private static int getMotionQuality(
             long bodyInterfaceVa, int bodyId);
@@ -1166,7 +1858,7 @@ public class BodyInterface extends NonCopyable {
     native private static int getObjectLayer(long bodyInterfaceVa, int bodyId);
 
     native private static void getPosition(
-            long bodyInterfaceVa, int bodyId, DoubleBuffer storeDoubles);
+            long bodyInterfaceVa, int bodyId, long doublesVa);
 
     native private static void getPositionAndRotation(long bodyInterfaceVa,
             int bodyId, DoubleBuffer storeDoubles, FloatBuffer storeFloats);
@@ -1175,7 +1867,7 @@ public class BodyInterface extends NonCopyable {
             long bodyInterfaceVa, int bodyId);
 
     native private static void getRotation(
-            long bodyInterfaceVa, int bodyId, FloatBuffer storeFloats);
+            long bodyInterfaceVa, int bodyId, long floatsVa);
 
     native private static long getShape(long bodyInterfaceVa, int bodyId);
 
@@ -1201,6 +1893,12 @@ public class BodyInterface extends NonCopyable {
             int bodyId, float prevX, float prevY, float prevZ,
             boolean updateMassProperties, int activationOrdinal);
 
+    native private static void removeBodies(
+            long bodyInterfaceVa, long arrayVa, int numBodies);
+
+    native private static void removeBodiesInVector(
+            long bodyInterfaceVa, long vectorVa);
+
     native private static void removeBody(long bodyInterfaceVa, int bodyId);
 
     native private static void setAngularVelocity(
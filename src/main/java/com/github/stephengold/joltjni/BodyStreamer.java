@@ -0,0 +1,226 @@
+/*
+Copyright (c) 2026 Stephen Gold
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+ */
+package com.github.stephengold.joltjni;
+
+import com.github.stephengold.joltjni.enumerate.EActivation;
+import com.github.stephengold.joltjni.readonly.ConstBodyCreationSettings;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Create many rigid bodies in parallel and add them to a physics system using
+ * a single prepare/finalize pass, as when streaming in part of a level.
+ * <p>
+ * The settings are split into batches. Each batch is created with a single
+ * native call on a thread of the executor. Once every batch is done, the
+ * bodies are inserted into the broadphase together, which is much cheaper
+ * than adding them one at a time.
+ *
+ * @author Stephen Gold sgold@sonic.net
+ */
+public class BodyStreamer {
+    // *************************************************************************
+    // constants
+
+    /**
+     * default number of bodies created per task
+     */
+    final public static int defaultBatchSize = 256;
+    // *************************************************************************
+    // fields
+
+    /**
+     * interface used to create and add bodies
+     */
+    final private BodyInterface bodyInterface;
+    /**
+     * executor that runs the creation tasks
+     */
+    final private Executor executor;
+    /**
+     * maximum number of bodies created per task
+     */
+    final private int batchSize;
+    // *************************************************************************
+    // constructors
+
+    /**
+     * Instantiate a streamer that uses the common fork-join pool and the
+     * default batch size.
+     *
+     * @param bodyInterface the interface to use (not null, alias created)
+     */
+    public BodyStreamer(BodyInterface bodyInterface) {
+        this(bodyInterface, ForkJoinPool.commonPool(), defaultBatchSize);
+    }
+
+    /**
+     * Instantiate a streamer with the specified executor and batch size.
+     *
+     * @param bodyInterface the interface to use (not null, alias created)
+     * @param executor the executor to run creation tasks (not null, alias
+     * created)
+     * @param batchSize the maximum number of bodies created per task (&ge;1)
+     */
+    public BodyStreamer(
+            BodyInterface bodyInterface, Executor executor, int batchSize) {
+        if (bodyInterface == null) {
+            throw new IllegalArgumentException(
+                    "bodyInterface must not be null");
+        }
+        if (executor == null) {
+            throw new IllegalArgumentException("executor must not be null");
+        }
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("batchSize = " + batchSize);
+        }
+        this.bodyInterface = bodyInterface;
+        this.executor = executor;
+        this.batchSize = batchSize;
+    }
+    // *************************************************************************
+    // new methods exposed
+
+    /**
+     * Create a rigid body for each of the specified settings and add them all
+     * to the physics system. If the system runs out of bodies, any bodies
+     * already created are destroyed before the exception is thrown.
+     * <p>
+     * The order of the returned IDs needn't match the order of the settings,
+     * since the broadphase may shuffle them.
+     *
+     * @param settings the settings to use (not null, not empty, elements not
+     * null, unaffected)
+     * @param activation whether to activate the bodies (not null)
+     * @return a new array containing the IDs of the added bodies
+     * @throws IllegalStateException if the system ran out of bodies
+     */
+    public BodyIdArray createAndAddBodies(
+            ConstBodyCreationSettings[] settings, EActivation activation) {
+        BodyIdArray result = createBodies(settings);
+
+        long addState = bodyInterface.addBodiesPrepare(result);
+        bodyInterface.addBodiesFinalize(result, addState, activation);
+
+        return result;
+    }
+
+    /**
+     * Create a rigid body for each of the specified settings, without adding
+     * them to the physics system. If the system runs out of bodies, any bodies
+     * already created are destroyed before the exception is thrown.
+     *
+     * @param settings the settings to use (not null, not empty, elements not
+     * null, unaffected)
+     * @return a new array containing the IDs of the new bodies, in the same
+     * order as the settings
+     * @throws IllegalStateException if the system ran out of bodies
+     */
+    public BodyIdArray createBodies(ConstBodyCreationSettings[] settings) {
+        int numBodies = settings.length;
+        if (numBodies == 0) {
+            throw new IllegalArgumentException("settings must not be empty");
+        }
+        BodyIdArray result = new BodyIdArray(numBodies);
+
+        int numBatches = (numBodies + batchSize - 1) / batchSize;
+        List<CompletableFuture<Integer>> futures = new ArrayList<>(numBatches);
+        for (int start = 0; start < numBodies; start += batchSize) {
+            int startIndex = start;
+            int endIndex = Math.min(start + batchSize, numBodies);
+            CompletableFuture<Integer> future
+                    = CompletableFuture.supplyAsync(() -> bodyInterface
+                            .createBodies(settings, startIndex, endIndex,
+                                    result), executor);
+            futures.add(future);
+        }
+
+        int numFailures = 0;
+        RuntimeException failure = null;
+        for (CompletableFuture<Integer> future : futures) {
+            try {
+                numFailures += future.join();
+            } catch (CompletionException exception) {
+                if (failure == null) {
+                    failure = (exception.getCause() instanceof RuntimeException)
+                            ? (RuntimeException) exception.getCause()
+                            : exception;
+                }
+            }
+        }
+
+        if (failure != null || numFailures > 0) {
+            destroyCreated(result);
+            if (failure != null) {
+                throw failure;
+            }
+            throw new IllegalStateException("ran out of bodies");
+        }
+
+        return result;
+    }
+
+    /**
+     * Return the maximum number of bodies created per task.
+     *
+     * @return the count (&ge;1)
+     */
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    /**
+     * Access the body interface.
+     *
+     * @return the pre-existing instance (not null)
+     */
+    public BodyInterface getBodyInterface() {
+        return bodyInterface;
+    }
+    // *************************************************************************
+    // private methods
+
+    /**
+     * Destroy the bodies that were created before a failure.
+     *
+     * @param ids the IDs of the bodies, including invalid ones (not null,
+     * unaffected)
+     */
+    private void destroyCreated(BodyIdArray ids) {
+        int numIds = ids.length();
+        List<Integer> created = new ArrayList<>(numIds);
+        for (int i = 0; i < numIds; ++i) {
+            int id = ids.get(i);
+            if (id != Jolt.cInvalidBodyId) {
+                created.add(id);
+            }
+        }
+        if (!created.isEmpty()) {
+            BodyIdArray array = new BodyIdArray(created);
+            bodyInterface.destroyBodies(array);
+        }
+    }
+}
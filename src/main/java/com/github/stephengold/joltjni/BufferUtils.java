@@ -0,0 +1,122 @@
+/*
+Copyright (c) 2026 Stephen Gold
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+ */
+package com.github.stephengold.joltjni;
+
+import java.nio.Buffer;
+import java.nio.DoubleBuffer;
+import java.nio.FloatBuffer;
+import java.util.Objects;
+
+/**
+ * Utility methods for validating the NIO buffers and arrays passed to bulk
+ * operations.
+ *
+ * @author Stephen Gold sgold@sonic.net
+ */
+final class BufferUtils {
+    // *************************************************************************
+    // constructors
+
+    /**
+     * A private constructor to inhibit instantiation of this class.
+     */
+    private BufferUtils() {
+    }
+    // *************************************************************************
+    // new methods exposed
+
+    /**
+     * Verify that the specified buffer (if any) is direct and has at least the
+     * specified capacity. Its position and limit are ignored.
+     *
+     * @param buffer the buffer to verify, or {@code null}
+     * @param minCapacity the minimum number of elements
+     * @throws IllegalArgumentException if the buffer is indirect or too small
+     */
+    static void checkDirect(Buffer buffer, int minCapacity) {
+        if (buffer == null) {
+            return;
+        }
+        if (!buffer.isDirect()) {
+            throw new IllegalArgumentException("buffer must be direct");
+        }
+        int capacity = buffer.capacity();
+        if (capacity < minCapacity) {
+            throw new IllegalArgumentException(
+                    "capacity = " + capacity + ", need " + minCapacity);
+        }
+    }
+
+    /**
+     * Verify that the specified buffer is non-null, direct, and has at least
+     * the specified capacity. Its position and limit are ignored.
+     *
+     * @param buffer the buffer to verify
+     * @param name the name of the argument (for the exception message)
+     * @param minCapacity the minimum number of elements
+     * @throws IllegalArgumentException if the buffer is indirect or too small
+     * @throws NullPointerException if the buffer is null
+     */
+    static void checkDirectNonNull(
+            Buffer buffer, String name, int minCapacity) {
+        Objects.requireNonNull(buffer, name + " must not be null");
+        checkDirect(buffer, minCapacity);
+    }
+
+    /**
+     * Verify that the specified array is non-null and has at least the
+     * specified length.
+     *
+     * @param array the array to verify
+     * @param name the name of the argument (for the exception message)
+     * @param minLength the minimum number of elements
+     * @throws IllegalArgumentException if the array is too short
+     * @throws NullPointerException if the array is null
+     */
+    static void checkLength(int[] array, String name, int minLength) {
+        Objects.requireNonNull(array, name + " must not be null");
+        int length = array.length;
+        if (length < minLength) {
+            throw new IllegalArgumentException(
+                    name + ".length = " + length + ", need " + minLength);
+        }
+    }
+
+    /**
+     * Verify that the specified buffer (if any) can hold location vectors,
+     * which are stored as either doubles or floats.
+     *
+     * @param buffer the buffer to verify, or {@code null}
+     * @param minCapacity the minimum number of elements
+     * @throws IllegalArgumentException if the buffer is indirect, too small,
+     * or neither a {@code DoubleBuffer} nor a {@code FloatBuffer}
+     */
+    static void checkLocations(Buffer buffer, int minCapacity) {
+        if (buffer != null && !(buffer instanceof DoubleBuffer)
+                && !(buffer instanceof FloatBuffer)) {
+            Class<?> clas = buffer.getClass();
+            String className = clas.getSimpleName();
+            throw new IllegalArgumentException(className);
+        }
+        checkDirect(buffer, minCapacity);
+    }
+}
@@ -0,0 +1,130 @@
+/*
+Copyright (c) 2026 Stephen Gold
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+ */
+package com.github.stephengold.joltjni;
+
+import java.nio.ByteBuffer;
+
+/**
+ * A binary input stream that reads from a direct {@code ByteBuffer}, asking
+ * Java to refill the buffer whenever it runs dry.
+ * <p>
+ * Since the native stream refers back to the JVM object, an instance isn't
+ * freed until it is explicitly closed.
+ *
+ * @author Stephen Gold sgold@sonic.net
+ */
+abstract public class BufferedStreamIn extends StreamIn {
+    // *************************************************************************
+    // fields
+
+    /**
+     * buffer currently being read from by the native stream
+     */
+    private ByteBuffer buffer;
+    // *************************************************************************
+    // constructors
+
+    /**
+     * Instantiate a stream that reads the specified range of the specified
+     * buffer before requesting more data.
+     *
+     * @param buffer the initial buffer (not null, direct, alias created)
+     * @param offset the offset of the first byte to read (&ge;0)
+     * @param limit one plus the offset of the last byte to read (&ge;offset,
+     * &le;capacity)
+     */
+    BufferedStreamIn(ByteBuffer buffer, int offset, int limit) {
+        BufferUtils.checkDirect(buffer, limit);
+        assert offset >= 0 && offset <= limit : offset;
+        this.buffer = buffer;
+        long streamVa = createStream(buffer, offset, limit);
+        setVirtualAddressAsOwner(streamVa);
+    }
+    // *************************************************************************
+    // new methods exposed
+
+    /**
+     * Return the offset in the current buffer of the next byte to be read.
+     *
+     * @return the offset (&ge;0)
+     */
+    public int getPosition() {
+        long streamVa = va();
+        int result = getPosition(streamVa);
+
+        return result;
+    }
+
+    /**
+     * Test whether a read has gone past the end of the data.
+     *
+     * @return {@code true} if at EOF, otherwise {@code false}
+     */
+    public boolean isEof() {
+        long streamVa = va();
+        boolean result = isEof(streamVa);
+
+        return result;
+    }
+
+    /**
+     * Test whether the stream has failed, either due to EOF or an I/O error.
+     *
+     * @return {@code true} if failed, otherwise {@code false}
+     */
+    public boolean isFailed() {
+        long streamVa = va();
+        boolean result = isFailed(streamVa);
+
+        return result;
+    }
+    // *************************************************************************
+    // new protected methods
+
+    /**
+     * Access the buffer currently being read from.
+     *
+     * @return the pre-existing buffer (not null, direct)
+     */
+    final ByteBuffer getBuffer() {
+        return buffer;
+    }
+
+    /**
+     * Refill the current buffer, starting at offset 0. Invoked by native code
+     * after all available bytes have been read.
+     *
+     * @return the number of bytes now available (&gt;0), or -1 at EOF or after
+     * an error
+     */
+    abstract int fill();
+    // *************************************************************************
+    // native private methods
+
+    native private long createStream(ByteBuffer buffer, int offset, int limit);
+
+    native private static int getPosition(long streamVa);
+
+    native private static boolean isEof(long streamVa);
+
+    native private static boolean isFailed(long streamVa);
+}
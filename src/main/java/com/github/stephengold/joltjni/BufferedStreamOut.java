@@ -0,0 +1,148 @@
+/*
+Copyright (c) 2026 Stephen Gold
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+ */
+package com.github.stephengold.joltjni;
+
+import java.nio.ByteBuffer;
+
+/**
+ * A binary output stream that writes to a direct {@code ByteBuffer}, handing
+ * the buffer back to Java whenever it fills up.
+ * <p>
+ * Since the native stream refers back to the JVM object, an instance isn't
+ * freed until it is explicitly closed.
+ *
+ * @author Stephen Gold sgold@sonic.net
+ */
+abstract public class BufferedStreamOut extends StreamOut {
+    // *************************************************************************
+    // fields
+
+    /**
+     * buffer currently being written to by the native stream
+     */
+    private ByteBuffer buffer;
+    // *************************************************************************
+    // constructors
+
+    /**
+     * Instantiate a stream that begins writing at the specified offset into
+     * the specified buffer.
+     *
+     * @param buffer the initial buffer (not null, direct, alias created)
+     * @param offset the offset at which to begin writing (&ge;0, &le;capacity)
+     */
+    BufferedStreamOut(ByteBuffer buffer, int offset) {
+        BufferUtils.checkDirect(buffer, offset);
+        this.buffer = buffer;
+        long streamVa = createStream(buffer, offset);
+        setVirtualAddressAsOwner(streamVa);
+    }
+    // *************************************************************************
+    // new methods exposed
+
+    /**
+     * Return the offset in the current buffer at which the next byte will be
+     * written.
+     *
+     * @return the offset (&ge;0)
+     */
+    public int getPosition() {
+        long streamVa = va();
+        int result = getPosition(streamVa);
+
+        return result;
+    }
+
+    /**
+     * Test whether the stream has failed. After a failure, further output is
+     * discarded.
+     *
+     * @return {@code true} if failed, otherwise {@code false}
+     */
+    public boolean isFailed() {
+        long streamVa = va();
+        boolean result = isFailed(streamVa);
+
+        return result;
+    }
+    // *************************************************************************
+    // new protected methods
+
+    /**
+     * Access the buffer currently being written to.
+     *
+     * @return the pre-existing buffer (not null, direct)
+     */
+    final ByteBuffer getBuffer() {
+        return buffer;
+    }
+
+    /**
+     * Dispose of the first {@code numBytes} bytes of the current buffer, which
+     * the native stream has filled. Invoked by native code, and by subclasses
+     * when flushing.
+     *
+     * @param numBytes the number of bytes written (&ge;0)
+     * @return the offset at which the native stream should resume writing, or
+     * -1 to fail the stream
+     */
+    abstract int drain(int numBytes);
+
+    /**
+     * Direct the native stream to write to a different buffer.
+     *
+     * @param newBuffer the buffer to write to (not null, direct, alias
+     * created)
+     * @param offset the offset at which to resume writing (&ge;0,
+     * &lt;capacity)
+     */
+    final void replaceBuffer(ByteBuffer newBuffer, int offset) {
+        BufferUtils.checkDirect(newBuffer, offset + 1);
+        this.buffer = newBuffer;
+        long streamVa = va();
+        replaceBuffer(streamVa, newBuffer, offset);
+    }
+
+    /**
+     * Alter the offset in the current buffer at which the next byte will be
+     * written.
+     *
+     * @param offset the desired offset (&ge;0, &le;capacity)
+     */
+    final void setPosition(int offset) {
+        long streamVa = va();
+        setPosition(streamVa, offset);
+    }
+    // *************************************************************************
+    // native private methods
+
+    native private long createStream(ByteBuffer buffer, int offset);
+
+    native private static int getPosition(long streamVa);
+
+    native private static boolean isFailed(long streamVa);
+
+    native private static void replaceBuffer(
+            long streamVa, ByteBuffer buffer, int offset);
+
+    native private static void setPosition(long streamVa, int offset);
+}
@@ -0,0 +1,61 @@
+/*
+Copyright (c) 2026 Stephen Gold
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+ */
+package com.github.stephengold.joltjni;
+
+import java.nio.ByteBuffer;
+
+/**
+ * A binary input stream that reads directly from a direct {@code ByteBuffer},
+ * such as a memory-mapped file, without intermediate C++ streams.
+ * <p>
+ * Since the native stream refers back to the JVM object, an instance isn't
+ * freed until it is explicitly closed.
+ *
+ * @author Stephen Gold sgold@sonic.net
+ */
+public class ByteBufferStreamIn extends BufferedStreamIn {
+    // *************************************************************************
+    // constructors
+
+    /**
+     * Instantiate a stream that reads the remaining bytes of the specified
+     * buffer. The buffer's position and limit are unaffected: use
+     * {@code getPosition()} to learn how far the stream has read.
+     *
+     * @param buffer the buffer to read from (not null, direct, alias created)
+     */
+    public ByteBufferStreamIn(ByteBuffer buffer) {
+        super(buffer, buffer.position(), buffer.limit());
+    }
+    // *************************************************************************
+    // BufferedStreamIn methods
+
+    /**
+     * Signal EOF, since a buffer can't be refilled. Invoked by native code.
+     *
+     * @return -1
+     */
+    @Override
+    int fill() {
+        return -1;
+    }
+}
@@ -0,0 +1,129 @@
+/*
+Copyright (c) 2026 Stephen Gold
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+ */
+package com.github.stephengold.joltjni;
+
+import java.nio.ByteBuffer;
+
+/**
+ * A binary output stream that writes directly to a direct
+ * {@code ByteBuffer}, without intermediate C++ streams. A growable stream
+ * reallocates its buffer as needed; a fixed stream fails on overflow.
+ * <p>
+ * Since the native stream refers back to the JVM object, an instance isn't
+ * freed until it is explicitly closed.
+ *
+ * @author Stephen Gold sgold@sonic.net
+ */
+public class ByteBufferStreamOut extends BufferedStreamOut {
+    // *************************************************************************
+    // fields
+
+    /**
+     * true if the buffer is reallocated on overflow, false if the stream fails
+     */
+    final private boolean growable;
+    /**
+     * offset of the first byte written
+     */
+    final private int startOffset;
+    // *************************************************************************
+    // constructors
+
+    /**
+     * Instantiate a growable stream with the specified initial capacity.
+     *
+     * @param initialCapacity the initial size of the buffer (in bytes, &gt;0)
+     */
+    public ByteBufferStreamOut(int initialCapacity) {
+        super(Jolt.newDirectByteBuffer(initialCapacity), 0);
+        this.growable = true;
+        this.startOffset = 0;
+    }
+
+    /**
+     * Instantiate a fixed stream that writes to the specified buffer, from its
+     * current position up to its capacity. The buffer's position and limit are
+     * unaffected.
+     *
+     * @param buffer the buffer to write to (not null, direct, alias created)
+     */
+    public ByteBufferStreamOut(ByteBuffer buffer) {
+        super(buffer, buffer.position());
+        this.growable = false;
+        this.startOffset = buffer.position();
+    }
+    // *************************************************************************
+    // new methods exposed
+
+    /**
+     * Count the bytes written so far.
+     *
+     * @return the count (&ge;0)
+     */
+    public int size() {
+        int result = getPosition() - startOffset;
+        return result;
+    }
+
+    /**
+     * Create a view of the bytes written so far. The view shares storage with
+     * the current buffer, so copy it before further writes if the stream is
+     * growable.
+     *
+     * @return a new buffer whose position and limit bracket the written bytes
+     */
+    public ByteBuffer toByteBuffer() {
+        ByteBuffer result = getBuffer().duplicate();
+        result.limit(getPosition());
+        result.position(startOffset);
+
+        return result;
+    }
+    // *************************************************************************
+    // BufferedStreamOut methods
+
+    /**
+     * Reallocate the buffer if the stream is growable. Invoked by native code
+     * when the buffer is full.
+     *
+     * @param numBytes the number of bytes in the full buffer (&ge;0)
+     * @return the offset at which to resume writing, or -1 to fail the stream
+     */
+    @Override
+    int drain(int numBytes) {
+        if (!growable || numBytes == Integer.MAX_VALUE) {
+            return -1;
+        }
+
+        ByteBuffer oldBuffer = getBuffer();
+        int newCapacity = (int) Math.min(
+                2L * oldBuffer.capacity() + 1L, Integer.MAX_VALUE);
+        ByteBuffer newBuffer = Jolt.newDirectByteBuffer(newCapacity);
+        ByteBuffer written = oldBuffer.duplicate();
+        written.limit(numBytes);
+        written.position(0);
+        newBuffer.put(written);
+        replaceBuffer(newBuffer, numBytes);
+
+        return numBytes;
+    }
+}
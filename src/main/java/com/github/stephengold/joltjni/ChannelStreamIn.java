@@ -0,0 +1,149 @@
+/*
+Copyright (c) 2026 Stephen Gold
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+ */
+package com.github.stephengold.joltjni;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+
+/**
+ * A binary input stream that reads from a {@code ReadableByteChannel} (a file
+ * or socket, for instance) through a direct staging buffer, without
+ * intermediate C++ streams or Java arrays.
+ * <p>
+ * The stream reads ahead by up to one buffer, so bytes following the
+ * serialized data may be consumed from the channel. An I/O error fails the
+ * stream; retrieve it using {@link #getError()}. Closing the stream doesn't
+ * close the channel.
+ *
+ * @author Stephen Gold sgold@sonic.net
+ */
+public class ChannelStreamIn extends BufferedStreamIn {
+    // *************************************************************************
+    // fields
+
+    /**
+     * first I/O error encountered, or {@code null} if none
+     */
+    private IOException error;
+    /**
+     * total number of bytes read from the channel
+     */
+    private long bytesRead;
+    /**
+     * source channel
+     */
+    final private ReadableByteChannel channel;
+    // *************************************************************************
+    // constructors
+
+    /**
+     * Instantiate a stream that reads from the specified channel.
+     *
+     * @param channel the source channel (not null, blocking, alias created)
+     * @param bufferBytes the size of the staging buffer (in bytes, &gt;0)
+     * @throws IllegalArgumentException if the channel is null or the size is
+     * not positive
+     */
+    public ChannelStreamIn(ReadableByteChannel channel, int bufferBytes) {
+        super(newStagingBuffer(channel, bufferBytes), 0, 0);
+        this.channel = channel;
+    }
+    // *************************************************************************
+    // new methods exposed
+
+    /**
+     * Return the number of bytes read from the channel so far, including any
+     * still in the staging buffer.
+     *
+     * @return the count (&ge;0)
+     */
+    public long getBytesRead() {
+        return bytesRead;
+    }
+
+    /**
+     * Return the I/O error that failed the stream.
+     *
+     * @return the pre-existing exception, or {@code null} if none
+     */
+    public IOException getError() {
+        return error;
+    }
+    // *************************************************************************
+    // BufferedStreamIn methods
+
+    /**
+     * Refill the staging buffer from the channel. Invoked by native code.
+     *
+     * @return the number of bytes now available (&gt;0), or -1 at EOF or after
+     * an error
+     */
+    @Override
+    int fill() {
+        if (error != null) {
+            return -1;
+        }
+
+        ByteBuffer buffer = getBuffer();
+        buffer.clear();
+        int result;
+        try {
+            do {
+                result = channel.read(buffer);
+            } while (result == 0);
+        } catch (IOException exception) {
+            this.error = exception;
+            return -1;
+        }
+        if (result > 0) {
+            this.bytesRead += result;
+        }
+
+        return result;
+    }
+    // *************************************************************************
+    // private methods
+
+    /**
+     * Validate the constructor arguments and allocate a staging buffer. This
+     * runs before the superclass constructor creates the native stream, so
+     * invalid arguments can't leak it.
+     *
+     * @param channel the channel (not null, unaffected)
+     * @param bufferBytes the size of the staging buffer (in bytes, &gt;0)
+     * @return a new direct buffer
+     */
+    private static ByteBuffer newStagingBuffer(
+            ReadableByteChannel channel, int bufferBytes) {
+        if (channel == null) {
+            throw new IllegalArgumentException("channel must not be null");
+        }
+        if (bufferBytes < 1) {
+            throw new IllegalArgumentException(
+                    "bufferBytes = " + bufferBytes);
+        }
+        ByteBuffer result = Jolt.newDirectByteBuffer(bufferBytes);
+
+        return result;
+    }
+}
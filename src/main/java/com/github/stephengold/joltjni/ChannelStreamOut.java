@@ -0,0 +1,160 @@
+/*
+Copyright (c) 2026 Stephen Gold
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+ */
+package com.github.stephengold.joltjni;
+
+import java.io.Flushable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+
+/**
+ * A binary output stream that writes to a {@code WritableByteChannel}
+ * (a file or socket, for instance) through a direct staging buffer, without
+ * intermediate C++ streams or Java arrays.
+ * <p>
+ * Output is written to the channel whenever the buffer fills up and when the
+ * stream is flushed. An I/O error fails the stream and is rethrown by the
+ * next {@link #flush()}. Flush the stream before closing it. Closing the stream
+ * doesn't close the channel.
+ *
+ * @author Stephen Gold sgold@sonic.net
+ */
+public class ChannelStreamOut extends BufferedStreamOut implements Flushable {
+    // *************************************************************************
+    // fields
+
+    /**
+     * first I/O error encountered, or {@code null} if none
+     */
+    private IOException error;
+    /**
+     * total number of bytes written to the channel
+     */
+    private long bytesWritten;
+    /**
+     * destination channel
+     */
+    final private WritableByteChannel channel;
+    // *************************************************************************
+    // constructors
+
+    /**
+     * Instantiate a stream that writes to the specified channel.
+     *
+     * @param channel the destination channel (not null, blocking, alias
+     * created)
+     * @param bufferBytes the size of the staging buffer (in bytes, &gt;0)
+     * @throws IllegalArgumentException if the channel is null or the size is
+     * not positive
+     */
+    public ChannelStreamOut(WritableByteChannel channel, int bufferBytes) {
+        super(newStagingBuffer(channel, bufferBytes), 0);
+        this.channel = channel;
+    }
+    // *************************************************************************
+    // new methods exposed
+
+    /**
+     * Return the number of bytes written to the channel so far, excluding any
+     * still in the staging buffer.
+     *
+     * @return the count (&ge;0)
+     */
+    public long getBytesWritten() {
+        return bytesWritten;
+    }
+    // *************************************************************************
+    // BufferedStreamOut methods
+
+    /**
+     * Write the staged bytes to the channel. Invoked by native code when the
+     * buffer is full.
+     *
+     * @param numBytes the number of staged bytes (&ge;0)
+     * @return 0 to resume writing at the start of the buffer, or -1 to fail
+     * the stream
+     */
+    @Override
+    int drain(int numBytes) {
+        if (error != null) {
+            return -1;
+        }
+
+        ByteBuffer staged = getBuffer().duplicate();
+        staged.limit(numBytes);
+        staged.position(0);
+        try {
+            while (staged.hasRemaining()) {
+                channel.write(staged);
+            }
+        } catch (IOException exception) {
+            this.error = exception;
+            return -1;
+        }
+        this.bytesWritten += numBytes;
+
+        return 0;
+    }
+    // *************************************************************************
+    // Flushable methods
+
+    /**
+     * Write any staged bytes to the channel.
+     *
+     * @throws IOException if this or any previous write failed
+     */
+    @Override
+    public void flush() throws IOException {
+        int numBytes = getPosition();
+        if (numBytes > 0 && drain(numBytes) == 0) {
+            setPosition(0);
+        }
+        if (error != null) {
+            throw error;
+        }
+    }
+    // *************************************************************************
+    // private methods
+
+    /**
+     * Validate the constructor arguments and allocate a staging buffer. This
+     * runs before the superclass constructor creates the native stream, so
+     * invalid arguments can't leak it.
+     *
+     * @param channel the channel (not null, unaffected)
+     * @param bufferBytes the size of the staging buffer (in bytes, &gt;0)
+     * @return a new direct buffer
+     */
+    private static ByteBuffer newStagingBuffer(
+            WritableByteChannel channel, int bufferBytes) {
+        if (channel == null) {
+            throw new IllegalArgumentException("channel must not be null");
+        }
+        if (bufferBytes < 1) {
+            throw new IllegalArgumentException(
+                    "bufferBytes = " + bufferBytes);
+        }
+        ByteBuffer result = Jolt.newDirectByteBuffer(bufferBytes);
+
+        return result;
+    }
+}
@@ -547,14 +547,42 @@ public class Character extends CharacterBase implements ConstCharacter {
      */
     @Override
     public RVec3 getCenterOfMassPosition(boolean lockBodies) {
-        long characterVa = va();
-        double[] storeDoubles = new double[3];
-        getCenterOfMassPosition(characterVa, storeDoubles, lockBodies);
-        RVec3 result = new RVec3(storeDoubles);
+        RVec3 result = new RVec3();
+        getCenterOfMassPosition(result, lockBodies);
 
         return result;
     }
 
+    /**
+     * Copy the location of the rigid body's center of mass using the locking
+     * body interface. The character is unaffected.
+     *
+     * @param storeLocation storage for the result (in system coordinates, not
+     * null, modified)
+     */
+    @Override
+    public void getCenterOfMassPosition(RVec3 storeLocation) {
+        getCenterOfMassPosition(storeLocation, true);
+    }
+
+    /**
+     * Copy the location of the rigid body's center of mass. The character is
+     * unaffected.
+     *
+     * @param storeLocation storage for the result (in system coordinates, not
+     * null, modified)
+     * @param lockBodies {@code true} &rarr; use the locking body interface,
+     * {@code false} &rarr; use the non-locking body interface (default=true)
+     */
+    @Override
+    public void getCenterOfMassPosition(
+            RVec3 storeLocation, boolean lockBodies) {
+        long characterVa = va();
+        NativeScratch scratch = Temporaries.scratch.get();
+        getCenterOfMassPosition(characterVa, scratch.doublesVa, lockBodies);
+        storeLocation.set(scratch.doubles);
+    }
+
     /**
      * Generate settings to reconstruct the character, using the locking body
      * interface. The character is unaffected.
@@ -631,14 +659,40 @@ public class Character extends CharacterBase implements ConstCharacter {
      */
     @Override
     public Vec3 getLinearVelocity(boolean lockBodies) {
-        long characterVa = va();
-        float[] storeFloats = new float[3];
-        getLinearVelocity(characterVa, storeFloats, lockBodies);
-        Vec3 result = new Vec3(storeFloats);
+        Vec3 result = new Vec3();
+        getLinearVelocity(result, lockBodies);
 
         return result;
     }
 
+    /**
+     * Copy the linear velocity of the character using the locking body
+     * interface. The character is unaffected.
+     *
+     * @param storeVelocity storage for the result (meters per second in
+     * system coordinates, not null, modified)
+     */
+    @Override
+    public void getLinearVelocity(Vec3 storeVelocity) {
+        getLinearVelocity(storeVelocity, true);
+    }
+
+    /**
+     * Copy the linear velocity of the character. The character is unaffected.
+     *
+     * @param storeVelocity storage for the result (meters per second in
+     * system coordinates, not null, modified)
+     * @param lockBodies {@code true} &rarr; use the locking body interface,
+     * {@code false} &rarr; use the non-locking body interface (default=true)
+     */
+    @Override
+    public void getLinearVelocity(Vec3 storeVelocity, boolean lockBodies) {
+        long characterVa = va();
+        NativeScratch scratch = Temporaries.scratch.get();
+        getLinearVelocity(characterVa, scratch.floatsVa, lockBodies);
+        storeVelocity.set(scratch.floats);
+    }
+
     /**
      * Copy the location of the character using the locking body interface. The
      * character is unaffected.
@@ -660,14 +714,40 @@ public class Character extends CharacterBase implements ConstCharacter {
      */
     @Override
     public RVec3 getPosition(boolean lockBodies) {
-        long characterVa = va();
-        double[] storeDoubles = new double[3];
-        getPosition(characterVa, storeDoubles, lockBodies);
-        RVec3 result = new RVec3(storeDoubles);
+        RVec3 result = new RVec3();
+        getPosition(result, lockBodies);
 
         return result;
     }
 
+    /**
+     * Copy the location of the character using the locking body interface. The
+     * character is unaffected.
+     *
+     * @param storeLocation storage for the result (in system coordinates, not
+     * null, modified)
+     */
+    @Override
+    public void getPosition(RVec3 storeLocation) {
+        getPosition(storeLocation, true);
+    }
+
+    /**
+     * Copy the location of the character. The character is unaffected.
+     *
+     * @param storeLocation storage for the result (in system coordinates, not
+     * null, modified)
+     * @param lockBodies {@code true} &rarr; use the locking body interface,
+     * {@code false} &rarr; use the non-locking body interface (default=true)
+     */
+    @Override
+    public void getPosition(RVec3 storeLocation, boolean lockBodies) {
+        long characterVa = va();
+        NativeScratch scratch = Temporaries.scratch.get();
+        getPosition(characterVa, scratch.doublesVa, lockBodies);
+        storeLocation.set(scratch.doubles);
+    }
+
     /**
      * Copy the position of the associated body using the locking body
      * interface. The character is unaffected.
@@ -697,12 +777,11 @@ public class Character extends CharacterBase implements ConstCharacter {
     public void getPositionAndRotation(
             RVec3 storeLocation, Quat storeOrientation, boolean lockBodies) {
         long characterVa = va();
-        double[] storeDoubles = new double[3];
-        float[] storeFloats = new float[4];
-        getPositionAndRotation(
-                characterVa, storeDoubles, storeFloats, lockBodies);
-        storeLocation.set(storeDoubles);
-        storeOrientation.set(storeFloats);
+        NativeScratch scratch = Temporaries.scratch.get();
+        getPositionAndRotation(characterVa, scratch.doublesVa,
+                scratch.floatsVa, lockBodies);
+        storeLocation.set(scratch.doubles);
+        storeOrientation.set(scratch.floats);
     }
 
     /**
@@ -726,14 +805,40 @@ public class Character extends CharacterBase implements ConstCharacter {
      */
     @Override
     public Quat getRotation(boolean lockBodies) {
-        long characterVa = va();
-        float[] storeFloats = new float[4];
-        getRotation(characterVa, storeFloats, lockBodies);
-        Quat result = new Quat(storeFloats);
+        Quat result = new Quat();
+        getRotation(result, lockBodies);
 
         return result;
     }
 
+    /**
+     * Copy the orientation of the character using the locking body interface.
+     * The character is unaffected.
+     *
+     * @param storeOrientation storage for the result (in system coordinates,
+     * not null, modified)
+     */
+    @Override
+    public void getRotation(Quat storeOrientation) {
+        getRotation(storeOrientation, true);
+    }
+
+    /**
+     * Copy the orientation of the character. The character is unaffected.
+     *
+     * @param storeOrientation storage for the result (in system coordinates,
+     * not null, modified)
+     * @param lockBodies {@code true} &rarr; use the locking body interface,
+     * {@code false} &rarr; use the non-locking body interface (default=true)
+     */
+    @Override
+    public void getRotation(Quat storeOrientation, boolean lockBodies) {
+        long characterVa = va();
+        NativeScratch scratch = Temporaries.scratch.get();
+        getRotation(characterVa, scratch.floatsVa, lockBodies);
+        storeOrientation.set(scratch.floats);
+    }
+
     /**
      * Generate a TransformedShape that represents the volume occupied by the
      * character, using the locking body interface. The character is unaffected.
@@ -826,7 +931,7 @@ public class Character extends CharacterBase implements ConstCharacter {
     native static int getBodyId(long characterVa);
 
     native static void getCenterOfMassPosition(
-            long characterVa, double[] storeDoubles, boolean lockBodies);
+            long characterVa, long doublesVa, boolean lockBodies);
 
     native static long getCharacterSettings(
             long characterVa, boolean lockBodies);
@@ -834,16 +939,16 @@ public class Character extends CharacterBase implements ConstCharacter {
     native static int getLayer(long characterVa);
 
     native static void getLinearVelocity(
-            long characterVa, float[] storeFloats, boolean lockBodies);
+            long characterVa, long floatsVa, boolean lockBodies);
 
     native static void getPosition(
-            long characterVa, double[] storeDoubles, boolean lockBodies);
+            long characterVa, long doublesVa, boolean lockBodies);
 
     native static void getPositionAndRotation(long characterVa,
-            double[] storeDoubles, float[] storeFloats, boolean lockBodies);
+            long doublesVa, long floatsVa, boolean lockBodies);
 
     native static void getRotation(
-            long characterVa, float[] toreFloats, boolean lockBodies);
+            long characterVa, long floatsVa, boolean lockBodies);
 
     native static long getTransformedShape(
             long characterVa, boolean lockBodies);
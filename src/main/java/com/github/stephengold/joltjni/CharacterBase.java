@@ -27,8 +27,6 @@ import com.github.stephengold.joltjni.readonly.ConstPhysicsMaterial;
 import com.github.stephengold.joltjni.readonly.ConstShape;
 import com.github.stephengold.joltjni.readonly.Vec3Arg;
 import com.github.stephengold.joltjni.template.RefTarget;
-import java.nio.DoubleBuffer;
-import java.nio.FloatBuffer;
 
 /**
  * Base class to represent a player navigating a {@code PhysicsSystem}.
@@ -153,14 +151,26 @@ abstract public class CharacterBase
      */
     @Override
     public Vec3 getGroundNormal() {
-        long characterVa = va();
-        FloatBuffer storeFloats = Temporaries.floatBuffer1.get();
-        getGroundNormal(characterVa, storeFloats);
-        Vec3 result = new Vec3(storeFloats);
+        Vec3 result = new Vec3();
+        getGroundNormal(result);
 
         return result;
     }
 
+    /**
+     * Copy the normal direction at the point of contact with the supporting
+     * surface. The character is unaffected.
+     *
+     * @param storeNormal storage for the result (not null, modified)
+     */
+    @Override
+    public void getGroundNormal(Vec3 storeNormal) {
+        long characterVa = va();
+        NativeScratch scratch = Temporaries.scratch.get();
+        getGroundNormal(characterVa, scratch.floatsVa);
+        storeNormal.set(scratch.floats);
+    }
+
     /**
      * Copy the location of the point of contact with the supporting surface.
      * The character is unaffected.
@@ -169,14 +179,26 @@ abstract public class CharacterBase
      */
     @Override
     public RVec3 getGroundPosition() {
-        long characterVa = va();
-        DoubleBuffer storeDoubles = Temporaries.doubleBuffer1.get();
-        getGroundPosition(characterVa, storeDoubles);
-        RVec3 result = new RVec3(storeDoubles);
+        RVec3 result = new RVec3();
+        getGroundPosition(result);
 
         return result;
     }
 
+    /**
+     * Copy the location of the point of contact with the supporting surface.
+     * The character is unaffected.
+     *
+     * @param storeLocation storage for the result (not null, modified)
+     */
+    @Override
+    public void getGroundPosition(RVec3 storeLocation) {
+        long characterVa = va();
+        NativeScratch scratch = Temporaries.scratch.get();
+        getGroundPosition(characterVa, scratch.doublesVa);
+        storeLocation.set(scratch.doubles);
+    }
+
     /**
      * Return the relationship between the character and its supporting surface.
      * The character is unaffected.
@@ -228,14 +250,26 @@ abstract public class CharacterBase
      */
     @Override
     public Vec3 getGroundVelocity() {
-        long characterVa = va();
-        FloatBuffer storeFloats = Temporaries.floatBuffer1.get();
-        getGroundVelocity(characterVa, storeFloats);
-        Vec3 result = new Vec3(storeFloats);
+        Vec3 result = new Vec3();
+        getGroundVelocity(result);
 
         return result;
     }
 
+    /**
+     * Copy the world-space velocity of the supporting surface. The character is
+     * unaffected.
+     *
+     * @param storeVelocity storage for the result (not null, modified)
+     */
+    @Override
+    public void getGroundVelocity(Vec3 storeVelocity) {
+        long characterVa = va();
+        NativeScratch scratch = Temporaries.scratch.get();
+        getGroundVelocity(characterVa, scratch.floatsVa);
+        storeVelocity.set(scratch.floats);
+    }
+
     /**
      * Access the character's shape. The character is unaffected.
      *
@@ -258,14 +292,25 @@ abstract public class CharacterBase
      */
     @Override
     public Vec3 getUp() {
-        long characterVa = va();
-        FloatBuffer storeFloats = Temporaries.floatBuffer1.get();
-        getUp(characterVa, storeFloats);
-        Vec3 result = new Vec3(storeFloats);
+        Vec3 result = new Vec3();
+        getUp(result);
 
         return result;
     }
 
+    /**
+     * Copy the character's "up" direction. The character is unaffected.
+     *
+     * @param storeDirection storage for the result (not null, modified)
+     */
+    @Override
+    public void getUp(Vec3 storeDirection) {
+        long characterVa = va();
+        NativeScratch scratch = Temporaries.scratch.get();
+        getUp(characterVa, scratch.floatsVa);
+        storeDirection.set(scratch.floats);
+    }
+
     /**
      * Test whether the specified normal direction is too steep. The character
      * is unaffected.
@@ -344,10 +389,10 @@ abstract public class CharacterBase
     native static long getGroundMaterial(long characterVa);
 
     native static void getGroundNormal(
-            long characterVa, FloatBuffer storeFloats);
+            long characterVa, long floatsVa);
 
     native static void getGroundPosition(
-            long characterVa, DoubleBuffer storeDoubles);
+            long characterVa, long doublesVa);
 
     native static int getGroundState(long characterVa);
 
@@ -356,13 +401,13 @@ abstract public class CharacterBase
     native static long getGroundUserData(long characterVa);
 
     native static void getGroundVelocity(
-            long characterVa, FloatBuffer storeFloats);
+            long characterVa, long floatsVa);
 
     native private static int getRefCount(long characterVa);
 
     native static long getShape(long characterVa);
 
-    native static void getUp(long characterVa, FloatBuffer storeFloats);
+    native static void getUp(long characterVa, long floatsVa);
 
     native static boolean isSlopeTooSteep(
             long characterVa, float nx, float ny, float nz);
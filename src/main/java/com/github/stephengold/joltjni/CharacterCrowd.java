@@ -0,0 +1,285 @@
+/*
+Copyright (c) 2026 Stephen Gold
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+ */
+package com.github.stephengold.joltjni;
+
+import com.github.stephengold.joltjni.enumerate.EGroundState;
+import com.github.stephengold.joltjni.readonly.Vec3Arg;
+import java.nio.DoubleBuffer;
+import java.nio.FloatBuffer;
+import java.nio.IntBuffer;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * A crowd of virtual characters that are updated together, in parallel, and
+ * collide with one another.
+ * <p>
+ * The crowd serves as the char-vs-char collision interface of each member.
+ * Candidate pairs are found using a uniform hash grid that's refreshed from
+ * snapshots of the members at the start of each update. During an update,
+ * each member therefore collides with the other members as they were at the
+ * start of the update.
+ * <p>
+ * When a job system is used, members are updated concurrently, so
+ * {@code CharacterContactListener} callbacks may be invoked from several
+ * threads at once. Such listeners must be thread-safe and mustn't modify
+ * other members of the crowd.
+ *
+ * @author Stephen Gold sgold@sonic.net
+ */
+public class CharacterCrowd extends CharacterVsCharacterCollision {
+    // *************************************************************************
+    // fields
+
+    /**
+     * edge length of each grid cell (in meters)
+     */
+    final private float cellSize;
+    /**
+     * Java copy of the member list, in native order
+     */
+    final private List<CharacterVirtualRef> members = new ArrayList<>(64);
+    /**
+     * the characters as added (to preserve cached interface information), in
+     * native order
+     */
+    final private List<CharacterVirtual> characters = new ArrayList<>(64);
+    /**
+     * virtual addresses of the members' native characters
+     */
+    final private Set<Long> memberVas = new HashSet<>(64);
+    // *************************************************************************
+    // constructors
+
+    /**
+     * Instantiate an empty crowd.
+     *
+     * @param cellSize the edge length of each grid cell (in meters, &gt;0,
+     * typically about twice the width of a character)
+     */
+    public CharacterCrowd(float cellSize) {
+        if (!(cellSize > 0f)) {
+            throw new IllegalArgumentException("cellSize = " + cellSize);
+        }
+        this.cellSize = cellSize;
+        long crowdVa = createCrowd(cellSize);
+        setVirtualAddressAsOwner(crowdVa);
+    }
+    // *************************************************************************
+    // new methods exposed
+
+    /**
+     * Add the specified character to the crowd and make the crowd its
+     * char-vs-char collision interface. The interface shouldn't be replaced
+     * while the character is a member.
+     *
+     * @param character the character to add (not null, not already a member,
+     * alias created)
+     * @return the index of the new member (&ge;0)
+     */
+    public int add(CharacterVirtual character) {
+        long characterVa = character.targetVa();
+        if (memberVas.contains(characterVa)) {
+            throw new IllegalArgumentException(
+                    "The character is already a member of this crowd.");
+        }
+
+        long crowdVa = va();
+        add(crowdVa, characterVa);
+        character.setCharacterVsCharacterCollision(this);
+
+        int result = members.size();
+        members.add(character.toRef());
+        characters.add(character);
+        memberVas.add(characterVa);
+
+        return result;
+    }
+
+    /**
+     * Count the members of the crowd.
+     *
+     * @return the count (&ge;0)
+     */
+    public int countMembers() {
+        int result = members.size();
+        return result;
+    }
+
+    /**
+     * Return the edge length of each grid cell.
+     *
+     * @return the length (in meters, &gt;0)
+     */
+    public float getCellSize() {
+        return cellSize;
+    }
+
+    /**
+     * Access the specified member of the crowd.
+     *
+     * @param index the index of the member (&ge;0, &lt;numMembers)
+     * @return a new counted reference to the pre-existing character
+     */
+    public CharacterVirtual getMember(int index) {
+        CharacterVirtual result = members.get(index).getPtr();
+        return result;
+    }
+
+    /**
+     * Remove the specified member from the crowd. The last member (if any) is
+     * moved to the vacated index. The removed character's char-vs-char
+     * collision interface is reset to none.
+     *
+     * @param index the index of the member to remove (&ge;0, &lt;numMembers)
+     */
+    public void remove(int index) {
+        int numMembers = members.size();
+        if (index < 0 || index >= numMembers) {
+            throw new IllegalArgumentException("index = " + index);
+        }
+
+        CharacterVirtual removed = characters.get(index);
+        memberVas.remove(removed.targetVa());
+        resetInterface(removed);
+
+        long crowdVa = va();
+        remove(crowdVa, index);
+
+        CharacterVirtualRef lastRef = members.remove(numMembers - 1);
+        CharacterVirtual last = characters.remove(numMembers - 1);
+        if (index < numMembers - 1) {
+            members.set(index, lastRef);
+            characters.set(index, last);
+        }
+    }
+
+    /**
+     * Apply a combination of Update, StickToFloor, and WalkStairs to every
+     * member, in parallel, and then gather the results into the specified
+     * buffers. Member {@code i} is read from and written to buffer index
+     * {@code 3*i} (or {@code i} for ground states). Buffer positions and
+     * limits are ignored.
+     *
+     * @param deltaTime the time step to simulate (in seconds)
+     * @param gravity the gravity acceleration vector (in meters per second
+     * squared, not null, unaffected)
+     * @param settings settings to use (not null, unaffected)
+     * @param bpFilter to test whether a character collides with a broad-phase
+     * layer (not null, unaffected)
+     * @param olFilter to test whether a character collides with an object layer
+     * (not null, unaffected)
+     * @param bodyFilter to test whether a character collides with a body (not
+     * null, unaffected)
+     * @param shapeFilter to test whether a character collides with a shape
+     * (not null, unaffected)
+     * @param jobSystem the job system to run the updates on, or {@code null}
+     * to run them sequentially on the current thread
+     * @param desiredVelocities the linear velocity to assign to each member
+     * before updating it, packed as (X, Y, Z) triples (direct, in meters per
+     * second, unaffected) or {@code null} to leave velocities unchanged
+     * @param storePositions storage for the resulting positions, packed as
+     * (X, Y, Z) triples (direct, modified) or {@code null}
+     * @param storeGroundStates storage for the ordinals of the resulting
+     * {@link EGroundState} values (direct, modified) or {@code null}
+     * @param storeGroundNormals storage for the resulting ground normals,
+     * packed as (X, Y, Z) triples (direct, modified) or {@code null}
+     */
+    public void update(float deltaTime, Vec3Arg gravity,
+            ExtendedUpdateSettings settings, BroadPhaseLayerFilter bpFilter,
+            ObjectLayerFilter olFilter, BodyFilter bodyFilter,
+            ShapeFilter shapeFilter, JobSystem jobSystem,
+            FloatBuffer desiredVelocities, DoubleBuffer storePositions,
+            IntBuffer storeGroundStates, FloatBuffer storeGroundNormals) {
+        int numMembers = members.size();
+        BufferUtils.checkDirect(desiredVelocities, 3 * numMembers);
+        BufferUtils.checkDirect(storePositions, 3 * numMembers);
+        BufferUtils.checkDirect(storeGroundStates, numMembers);
+        BufferUtils.checkDirect(storeGroundNormals, 3 * numMembers);
+
+        long crowdVa = va();
+        float gravityX = gravity.getX();
+        float gravityY = gravity.getY();
+        float gravityZ = gravity.getZ();
+        long settingsVa = settings.va();
+        long bpFilterVa = bpFilter.va();
+        long olFilterVa = olFilter.va();
+        long bodyFilterVa = bodyFilter.va();
+        long shapeFilterVa = shapeFilter.va();
+        long jobSystemVa = (jobSystem == null) ? 0L : jobSystem.va();
+        update(crowdVa, deltaTime, gravityX, gravityY, gravityZ, settingsVa,
+                bpFilterVa, olFilterVa, bodyFilterVa, shapeFilterVa,
+                jobSystemVa, desiredVelocities, storePositions,
+                storeGroundStates, storeGroundNormals);
+    }
+    // *************************************************************************
+    // JoltPhysicsObject methods
+
+    /**
+     * Reset the char-vs-char collision interface of every member to none,
+     * empty the crowd, and free the native object. This can be invoked
+     * explicitly or by exiting a try-with-resources block.
+     */
+    @Override
+    public void close() {
+        if (hasAssignedNativeObject()) {
+            for (CharacterVirtual character : characters) {
+                resetInterface(character);
+            }
+            characters.clear();
+            memberVas.clear();
+            members.clear();
+        }
+        super.close();
+    }
+    // *************************************************************************
+    // private methods
+
+    /**
+     * Reset the char-vs-char collision interface of the specified character,
+     * unless it has been replaced since the character was added.
+     *
+     * @param character the character to modify (not null)
+     */
+    private void resetInterface(CharacterVirtual character) {
+        if (character.getCharacterVsCharacterCollision() == this) {
+            character.setCharacterVsCharacterCollision(null);
+        }
+    }
+    // *************************************************************************
+    // native private methods
+
+    native private static void add(long crowdVa, long characterVa);
+
+    native private static long createCrowd(float cellSize);
+
+    native private static void remove(long crowdVa, int index);
+
+    native private static void update(long crowdVa, float deltaTime,
+            float gravityX, float gravityY, float gravityZ, long settingsVa,
+            long bpFilterVa, long olFilterVa, long bodyFilterVa,
+            long shapeFilterVa, long jobSystemVa, FloatBuffer desiredVelocities,
+            DoubleBuffer storePositions, IntBuffer storeGroundStates,
+            FloatBuffer storeGroundNormals);
+}
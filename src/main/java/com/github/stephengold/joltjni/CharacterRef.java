@@ -28,8 +28,6 @@ import com.github.stephengold.joltjni.readonly.ConstPhysicsMaterial;
 import com.github.stephengold.joltjni.readonly.ConstShape;
 import com.github.stephengold.joltjni.readonly.Vec3Arg;
 import com.github.stephengold.joltjni.template.Ref;
-import java.nio.DoubleBuffer;
-import java.nio.FloatBuffer;
 
 /**
  * A counted reference to a {@code Character}. (native type:
@@ -267,15 +265,43 @@ final public class CharacterRef extends Ref implements ConstCharacter {
      */
     @Override
     public RVec3 getCenterOfMassPosition(boolean lockBodies) {
-        long characterVa = targetVa();
-        double[] storeDoubles = new double[3];
-        com.github.stephengold.joltjni.Character.getCenterOfMassPosition(
-                characterVa, storeDoubles, lockBodies);
-        RVec3 result = new RVec3(storeDoubles);
+        RVec3 result = new RVec3();
+        getCenterOfMassPosition(result, lockBodies);
 
         return result;
     }
 
+    /**
+     * Copy the location of the rigid body's center of mass using the locking
+     * body interface. The character is unaffected.
+     *
+     * @param storeLocation storage for the result (in system coordinates, not
+     * null, modified)
+     */
+    @Override
+    public void getCenterOfMassPosition(RVec3 storeLocation) {
+        getCenterOfMassPosition(storeLocation, true);
+    }
+
+    /**
+     * Copy the location of the rigid body's center of mass. The character is
+     * unaffected.
+     *
+     * @param storeLocation storage for the result (in system coordinates, not
+     * null, modified)
+     * @param lockBodies {@code true} &rarr; use the locking body interface,
+     * {@code false} &rarr; use the non-locking body interface (default=true)
+     */
+    @Override
+    public void getCenterOfMassPosition(
+            RVec3 storeLocation, boolean lockBodies) {
+        long characterVa = targetVa();
+        NativeScratch scratch = Temporaries.scratch.get();
+        com.github.stephengold.joltjni.Character.getCenterOfMassPosition(
+                characterVa, scratch.doublesVa, lockBodies);
+        storeLocation.set(scratch.doubles);
+    }
+
     /**
      * Generate settings to reconstruct the character, using the locking body
      * interface. The character is unaffected.
@@ -362,14 +388,26 @@ final public class CharacterRef extends Ref implements ConstCharacter {
      */
     @Override
     public Vec3 getGroundNormal() {
-        long characterVa = targetVa();
-        FloatBuffer storeFloats = Temporaries.floatBuffer1.get();
-        CharacterBase.getGroundNormal(characterVa, storeFloats);
-        Vec3 result = new Vec3(storeFloats);
+        Vec3 result = new Vec3();
+        getGroundNormal(result);
 
         return result;
     }
 
+    /**
+     * Copy the normal direction at the point of contact with the supporting
+     * surface. The character is unaffected.
+     *
+     * @param storeNormal storage for the result (not null, modified)
+     */
+    @Override
+    public void getGroundNormal(Vec3 storeNormal) {
+        long characterVa = targetVa();
+        NativeScratch scratch = Temporaries.scratch.get();
+        CharacterBase.getGroundNormal(characterVa, scratch.floatsVa);
+        storeNormal.set(scratch.floats);
+    }
+
     /**
      * Copy the location of the point of contact with the supporting surface.
      * The character is unaffected.
@@ -378,14 +416,26 @@ final public class CharacterRef extends Ref implements ConstCharacter {
      */
     @Override
     public RVec3 getGroundPosition() {
-        long characterVa = targetVa();
-        DoubleBuffer storeDoubles = Temporaries.doubleBuffer1.get();
-        CharacterBase.getGroundPosition(characterVa, storeDoubles);
-        RVec3 result = new RVec3(storeDoubles);
+        RVec3 result = new RVec3();
+        getGroundPosition(result);
 
         return result;
     }
 
+    /**
+     * Copy the location of the point of contact with the supporting surface.
+     * The character is unaffected.
+     *
+     * @param storeLocation storage for the result (not null, modified)
+     */
+    @Override
+    public void getGroundPosition(RVec3 storeLocation) {
+        long characterVa = targetVa();
+        NativeScratch scratch = Temporaries.scratch.get();
+        CharacterBase.getGroundPosition(characterVa, scratch.doublesVa);
+        storeLocation.set(scratch.doubles);
+    }
+
     /**
      * Return the relationship between the character and its supporting surface.
      * The character is unaffected.
@@ -437,14 +487,26 @@ final public class CharacterRef extends Ref implements ConstCharacter {
      */
     @Override
     public Vec3 getGroundVelocity() {
-        long characterVa = targetVa();
-        FloatBuffer storeFloats = Temporaries.floatBuffer1.get();
-        CharacterBase.getGroundVelocity(characterVa, storeFloats);
-        Vec3 result = new Vec3(storeFloats);
+        Vec3 result = new Vec3();
+        getGroundVelocity(result);
 
         return result;
     }
 
+    /**
+     * Copy the world-space velocity of the supporting surface. The character is
+     * unaffected.
+     *
+     * @param storeVelocity storage for the result (not null, modified)
+     */
+    @Override
+    public void getGroundVelocity(Vec3 storeVelocity) {
+        long characterVa = targetVa();
+        NativeScratch scratch = Temporaries.scratch.get();
+        CharacterBase.getGroundVelocity(characterVa, scratch.floatsVa);
+        storeVelocity.set(scratch.floats);
+    }
+
     /**
      * Return the character's object layer, using the locking body interface.
      * The character is unaffected.
@@ -494,15 +556,41 @@ final public class CharacterRef extends Ref implements ConstCharacter {
      */
     @Override
     public Vec3 getLinearVelocity(boolean lockBodies) {
-        long characterVa = targetVa();
-        float[] storeFloats = new float[3];
-        com.github.stephengold.joltjni.Character.getLinearVelocity(
-                characterVa, storeFloats, lockBodies);
-        Vec3 result = new Vec3(storeFloats);
+        Vec3 result = new Vec3();
+        getLinearVelocity(result, lockBodies);
 
         return result;
     }
 
+    /**
+     * Copy the linear velocity of the character using the locking body
+     * interface. The character is unaffected.
+     *
+     * @param storeVelocity storage for the result (meters per second in
+     * system coordinates, not null, modified)
+     */
+    @Override
+    public void getLinearVelocity(Vec3 storeVelocity) {
+        getLinearVelocity(storeVelocity, true);
+    }
+
+    /**
+     * Copy the linear velocity of the character. The character is unaffected.
+     *
+     * @param storeVelocity storage for the result (meters per second in
+     * system coordinates, not null, modified)
+     * @param lockBodies {@code true} &rarr; use the locking body interface,
+     * {@code false} &rarr; use the non-locking body interface (default=true)
+     */
+    @Override
+    public void getLinearVelocity(Vec3 storeVelocity, boolean lockBodies) {
+        long characterVa = targetVa();
+        NativeScratch scratch = Temporaries.scratch.get();
+        com.github.stephengold.joltjni.Character.getLinearVelocity(
+                characterVa, scratch.floatsVa, lockBodies);
+        storeVelocity.set(scratch.floats);
+    }
+
     /**
      * Copy the location of the character using the locking body interface. The
      * character is unaffected.
@@ -524,15 +612,41 @@ final public class CharacterRef extends Ref implements ConstCharacter {
      */
     @Override
     public RVec3 getPosition(boolean lockBodies) {
-        long characterVa = targetVa();
-        double[] storeDoubles = new double[3];
-        com.github.stephengold.joltjni.Character.getPosition(
-                characterVa, storeDoubles, lockBodies);
-        RVec3 result = new RVec3(storeDoubles);
+        RVec3 result = new RVec3();
+        getPosition(result, lockBodies);
 
         return result;
     }
 
+    /**
+     * Copy the location of the character using the locking body interface. The
+     * character is unaffected.
+     *
+     * @param storeLocation storage for the result (in system coordinates, not
+     * null, modified)
+     */
+    @Override
+    public void getPosition(RVec3 storeLocation) {
+        getPosition(storeLocation, true);
+    }
+
+    /**
+     * Copy the location of the character. The character is unaffected.
+     *
+     * @param storeLocation storage for the result (in system coordinates, not
+     * null, modified)
+     * @param lockBodies {@code true} &rarr; use the locking body interface,
+     * {@code false} &rarr; use the non-locking body interface (default=true)
+     */
+    @Override
+    public void getPosition(RVec3 storeLocation, boolean lockBodies) {
+        long characterVa = targetVa();
+        NativeScratch scratch = Temporaries.scratch.get();
+        com.github.stephengold.joltjni.Character.getPosition(
+                characterVa, scratch.doublesVa, lockBodies);
+        storeLocation.set(scratch.doubles);
+    }
+
     /**
      * Copy the position of the associated body using the locking body
      * interface. The character is unaffected.
@@ -562,12 +676,11 @@ final public class CharacterRef extends Ref implements ConstCharacter {
     public void getPositionAndRotation(
             RVec3 storeLocation, Quat storeOrientation, boolean lockBodies) {
         long characterVa = targetVa();
-        double[] storeDoubles = new double[3];
-        float[] storeFloats = new float[4];
+        NativeScratch scratch = Temporaries.scratch.get();
         com.github.stephengold.joltjni.Character.getPositionAndRotation(
-                characterVa, storeDoubles, storeFloats, lockBodies);
-        storeLocation.set(storeDoubles);
-        storeOrientation.set(storeFloats);
+                characterVa, scratch.doublesVa, scratch.floatsVa, lockBodies);
+        storeLocation.set(scratch.doubles);
+        storeOrientation.set(scratch.floats);
     }
 
     /**
@@ -591,15 +704,41 @@ final public class CharacterRef extends Ref implements ConstCharacter {
      */
     @Override
     public Quat getRotation(boolean lockBodies) {
-        long characterVa = targetVa();
-        float[] storeFloats = new float[4];
-        com.github.stephengold.joltjni.Character.getRotation(
-                characterVa, storeFloats, lockBodies);
-        Quat result = new Quat(storeFloats);
+        Quat result = new Quat();
+        getRotation(result, lockBodies);
 
         return result;
     }
 
+    /**
+     * Copy the orientation of the character using the locking body interface.
+     * The character is unaffected.
+     *
+     * @param storeOrientation storage for the result (in system coordinates,
+     * not null, modified)
+     */
+    @Override
+    public void getRotation(Quat storeOrientation) {
+        getRotation(storeOrientation, true);
+    }
+
+    /**
+     * Copy the orientation of the character. The character is unaffected.
+     *
+     * @param storeOrientation storage for the result (in system coordinates,
+     * not null, modified)
+     * @param lockBodies {@code true} &rarr; use the locking body interface,
+     * {@code false} &rarr; use the non-locking body interface (default=true)
+     */
+    @Override
+    public void getRotation(Quat storeOrientation, boolean lockBodies) {
+        long characterVa = targetVa();
+        NativeScratch scratch = Temporaries.scratch.get();
+        com.github.stephengold.joltjni.Character.getRotation(
+                characterVa, scratch.floatsVa, lockBodies);
+        storeOrientation.set(scratch.floats);
+    }
+
     /**
      * Access the character's shape. The character is unaffected.
      *
@@ -651,14 +790,25 @@ final public class CharacterRef extends Ref implements ConstCharacter {
      */
     @Override
     public Vec3 getUp() {
-        long characterVa = targetVa();
-        FloatBuffer storeFloats = Temporaries.floatBuffer1.get();
-        CharacterBase.getUp(characterVa, storeFloats);
-        Vec3 result = new Vec3(storeFloats);
+        Vec3 result = new Vec3();
+        getUp(result);
 
         return result;
     }
 
+    /**
+     * Copy the character's "up" direction. The character is unaffected.
+     *
+     * @param storeDirection storage for the result (not null, modified)
+     */
+    @Override
+    public void getUp(Vec3 storeDirection) {
+        long characterVa = targetVa();
+        NativeScratch scratch = Temporaries.scratch.get();
+        CharacterBase.getUp(characterVa, scratch.floatsVa);
+        storeDirection.set(scratch.floats);
+    }
+
     /**
      * Calculate the character's local-to-system coordinate transform using the
      * locking body interface. The character is unaffected.
@@ -28,8 +28,6 @@ import com.github.stephengold.joltjni.readonly.ConstShape;
 import com.github.stephengold.joltjni.readonly.QuatArg;
 import com.github.stephengold.joltjni.readonly.RVec3Arg;
 import com.github.stephengold.joltjni.readonly.Vec3Arg;
-import java.nio.DoubleBuffer;
-import java.nio.FloatBuffer;
 
 /**
  * A character implemented without a rigid body.
@@ -161,13 +159,13 @@ public class CharacterVirtual
     /**
      * Replace the char-vs-char collision interface.
      *
-     * @param cvcInterface the desired interface (not null)
+     * @param cvcInterface the desired interface, or {@code null} for none
      */
     public void setCharacterVsCharacterCollision(
             CharacterVsCharacterCollision cvcInterface) {
         this.cvcInterface = cvcInterface;
         long characterVa = va();
-        long interfaceVa = cvcInterface.va();
+        long interfaceVa = (cvcInterface == null) ? 0L : cvcInterface.va();
         setCharacterVsCharacterCollision(characterVa, interfaceVa);
     }
 
@@ -451,14 +449,26 @@ public class CharacterVirtual
      */
     @Override
     public RVec3 getCenterOfMassPosition() {
-        long characterVa = va();
-        DoubleBuffer storeDoubles = Temporaries.doubleBuffer1.get();
-        getCenterOfMassPosition(characterVa, storeDoubles);
-        RVec3 result = new RVec3(storeDoubles);
+        RVec3 result = new RVec3();
+        getCenterOfMassPosition(result);
 
         return result;
     }
 
+    /**
+     * Calculate the location of the character's center of mass. The character
+     * is unaffected.
+     *
+     * @param storeLocation storage for the result (not null, modified)
+     */
+    @Override
+    public void getCenterOfMassPosition(RVec3 storeLocation) {
+        long characterVa = va();
+        NativeScratch scratch = Temporaries.scratch.get();
+        getCenterOfMassPosition(characterVa, scratch.doublesVa);
+        storeLocation.set(scratch.doubles);
+    }
+
     /**
      * Calculate the local-to-system transform of the character's center of
      * mass. The character is unaffected.
@@ -568,14 +578,25 @@ public class CharacterVirtual
      */
     @Override
     public Vec3 getLinearVelocity() {
-        long characterVa = va();
-        FloatBuffer storeFloats = Temporaries.floatBuffer1.get();
-        getLinearVelocity(characterVa, storeFloats);
-        Vec3 result = new Vec3(storeFloats);
+        Vec3 result = new Vec3();
+        getLinearVelocity(result);
 
         return result;
     }
 
+    /**
+     * Copy the linear velocity of the character. The character is unaffected.
+     *
+     * @param storeVelocity storage for the result (not null, modified)
+     */
+    @Override
+    public void getLinearVelocity(Vec3 storeVelocity) {
+        long characterVa = va();
+        NativeScratch scratch = Temporaries.scratch.get();
+        getLinearVelocity(characterVa, scratch.floatsVa);
+        storeVelocity.set(scratch.floats);
+    }
+
     /**
      * Return the character's mass. The character is unaffected.
      *
@@ -651,14 +672,25 @@ public class CharacterVirtual
      */
     @Override
     public RVec3 getPosition() {
-        long characterVa = va();
-        DoubleBuffer storeDoubles = Temporaries.doubleBuffer1.get();
-        getPosition(characterVa, storeDoubles);
-        RVec3 result = new RVec3(storeDoubles);
+        RVec3 result = new RVec3();
+        getPosition(result);
 
         return result;
     }
 
+    /**
+     * Copy the location of the character. The character is unaffected.
+     *
+     * @param storeLocation storage for the result (not null, modified)
+     */
+    @Override
+    public void getPosition(RVec3 storeLocation) {
+        long characterVa = va();
+        NativeScratch scratch = Temporaries.scratch.get();
+        getPosition(characterVa, scratch.doublesVa);
+        storeLocation.set(scratch.doubles);
+    }
+
     /**
      * Copy the position of the character. The character is unaffected.
      *
@@ -672,13 +704,12 @@ public class CharacterVirtual
             RVec3 storeLocation, Quat storeOrientation) {
         long characterVa = va();
 
-        DoubleBuffer storeDoubles = Temporaries.doubleBuffer1.get();
-        getPosition(characterVa, storeDoubles);
-        storeLocation.set(storeDoubles);
+        NativeScratch scratch = Temporaries.scratch.get();
+        getPosition(characterVa, scratch.doublesVa);
+        storeLocation.set(scratch.doubles);
 
-        FloatBuffer storeFloats = Temporaries.floatBuffer1.get();
-        getRotation(characterVa, storeFloats);
-        storeOrientation.set(storeFloats);
+        getRotation(characterVa, scratch.floatsVa);
+        storeOrientation.set(scratch.floats);
     }
 
     /**
@@ -688,14 +719,25 @@ public class CharacterVirtual
      */
     @Override
     public Quat getRotation() {
-        long characterVa = va();
-        FloatBuffer storeFloats = Temporaries.floatBuffer1.get();
-        getRotation(characterVa, storeFloats);
-        Quat result = new Quat(storeFloats);
+        Quat result = new Quat();
+        getRotation(result);
 
         return result;
     }
 
+    /**
+     * Copy the orientation of the character. The character is unaffected.
+     *
+     * @param storeOrientation storage for the result (not null, modified)
+     */
+    @Override
+    public void getRotation(Quat storeOrientation) {
+        long characterVa = va();
+        NativeScratch scratch = Temporaries.scratch.get();
+        getRotation(characterVa, scratch.floatsVa);
+        storeOrientation.set(scratch.floats);
+    }
+
     /**
      * Copy the local offset applied to the shape. The character is unaffected.
      *
@@ -703,14 +745,25 @@ public class CharacterVirtual
      */
     @Override
     public Vec3 getShapeOffset() {
-        long characterVa = va();
-        FloatBuffer storeFloats = Temporaries.floatBuffer1.get();
-        getShapeOffset(characterVa, storeFloats);
-        Vec3 result = new Vec3(storeFloats);
+        Vec3 result = new Vec3();
+        getShapeOffset(result);
 
         return result;
     }
 
+    /**
+     * Copy the local offset applied to the shape. The character is unaffected.
+     *
+     * @param storeOffset storage for the result (not null, modified)
+     */
+    @Override
+    public void getShapeOffset(Vec3 storeOffset) {
+        long characterVa = va();
+        NativeScratch scratch = Temporaries.scratch.get();
+        getShapeOffset(characterVa, scratch.floatsVa);
+        storeOffset.set(scratch.floats);
+    }
+
     /**
      * Generate a TransformedShape that represents the volume occupied by the
      * character. The character is unaffected.
@@ -826,7 +879,7 @@ public class CharacterVirtual
     native static long getActiveContact(long characterVa, int index);
 
     native static void getCenterOfMassPosition(
-            long characterVa, DoubleBuffer storeDoubles);
+            long characterVa, long doublesVa);
 
     native static long getCenterOfMassTransform(long characterVa);
 
@@ -843,7 +896,7 @@ public class CharacterVirtual
     native static int getInnerBodyId(long characterVa);
 
     native static void getLinearVelocity(
-            long characterVa, FloatBuffer storeFloats);
+            long characterVa, long floatsVa);
 
     native static float getMass(long characterVa);
 
@@ -856,12 +909,12 @@ public class CharacterVirtual
     native static float getPenetrationRecoverySpeed(long characterVa);
 
     native static void getPosition(
-            long characterVa, DoubleBuffer storeDoubles);
+            long characterVa, long doublesVa);
 
-    native static void getRotation(long characterVa, FloatBuffer storeFloats);
+    native static void getRotation(long characterVa, long floatsVa);
 
     native static void getShapeOffset(
-            long characterVa, FloatBuffer storeFloats);
+            long characterVa, long floatsVa);
 
     native static long getTransformedShape(long characterVa);
 
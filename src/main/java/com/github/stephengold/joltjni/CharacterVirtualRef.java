@@ -30,8 +30,6 @@ import com.github.stephengold.joltjni.readonly.QuatArg;
 import com.github.stephengold.joltjni.readonly.RVec3Arg;
 import com.github.stephengold.joltjni.readonly.Vec3Arg;
 import com.github.stephengold.joltjni.template.Ref;
-import java.nio.DoubleBuffer;
-import java.nio.FloatBuffer;
 
 /**
  * A counted reference to a {@code CharacterVirtual}. (native type:
@@ -308,14 +306,27 @@ final public class CharacterVirtualRef
      */
     @Override
     public RVec3 getCenterOfMassPosition() {
-        long characterVa = targetVa();
-        DoubleBuffer storeDoubles = Temporaries.doubleBuffer1.get();
-        CharacterVirtual.getCenterOfMassPosition(characterVa, storeDoubles);
-        RVec3 result = new RVec3(storeDoubles);
+        RVec3 result = new RVec3();
+        getCenterOfMassPosition(result);
 
         return result;
     }
 
+    /**
+     * Calculate the location of the character's center of mass. The character
+     * is unaffected.
+     *
+     * @param storeLocation storage for the result (not null, modified)
+     */
+    @Override
+    public void getCenterOfMassPosition(RVec3 storeLocation) {
+        long characterVa = targetVa();
+        NativeScratch scratch = Temporaries.scratch.get();
+        CharacterVirtual.getCenterOfMassPosition(
+                characterVa, scratch.doublesVa);
+        storeLocation.set(scratch.doubles);
+    }
+
     /**
      * Calculate the local-to-system transform of the character's center of
      * mass. The character is unaffected.
@@ -434,14 +445,26 @@ final public class CharacterVirtualRef
      */
     @Override
     public Vec3 getGroundNormal() {
-        long characterVa = targetVa();
-        FloatBuffer storeFloats = Temporaries.floatBuffer1.get();
-        CharacterBase.getGroundNormal(characterVa, storeFloats);
-        Vec3 result = new Vec3(storeFloats);
+        Vec3 result = new Vec3();
+        getGroundNormal(result);
 
         return result;
     }
 
+    /**
+     * Copy the normal direction at the point of contact with the supporting
+     * surface. The character is unaffected.
+     *
+     * @param storeNormal storage for the result (not null, modified)
+     */
+    @Override
+    public void getGroundNormal(Vec3 storeNormal) {
+        long characterVa = targetVa();
+        NativeScratch scratch = Temporaries.scratch.get();
+        CharacterBase.getGroundNormal(characterVa, scratch.floatsVa);
+        storeNormal.set(scratch.floats);
+    }
+
     /**
      * Copy the location of the point of contact with the supporting surface.
      * The character is unaffected.
@@ -450,14 +473,26 @@ final public class CharacterVirtualRef
      */
     @Override
     public RVec3 getGroundPosition() {
-        long characterVa = targetVa();
-        DoubleBuffer storeDoubles = Temporaries.doubleBuffer1.get();
-        CharacterBase.getGroundPosition(characterVa, storeDoubles);
-        RVec3 result = new RVec3(storeDoubles);
+        RVec3 result = new RVec3();
+        getGroundPosition(result);
 
         return result;
     }
 
+    /**
+     * Copy the location of the point of contact with the supporting surface.
+     * The character is unaffected.
+     *
+     * @param storeLocation storage for the result (not null, modified)
+     */
+    @Override
+    public void getGroundPosition(RVec3 storeLocation) {
+        long characterVa = targetVa();
+        NativeScratch scratch = Temporaries.scratch.get();
+        CharacterBase.getGroundPosition(characterVa, scratch.doublesVa);
+        storeLocation.set(scratch.doubles);
+    }
+
     /**
      * Return the relationship between the character and its supporting surface.
      * The character is unaffected.
@@ -509,14 +544,26 @@ final public class CharacterVirtualRef
      */
     @Override
     public Vec3 getGroundVelocity() {
-        long characterVa = targetVa();
-        FloatBuffer storeFloats = Temporaries.floatBuffer1.get();
-        CharacterBase.getGroundVelocity(characterVa, storeFloats);
-        Vec3 result = new Vec3(storeFloats);
+        Vec3 result = new Vec3();
+        getGroundVelocity(result);
 
         return result;
     }
 
+    /**
+     * Copy the world-space velocity of the supporting surface. The character is
+     * unaffected.
+     *
+     * @param storeVelocity storage for the result (not null, modified)
+     */
+    @Override
+    public void getGroundVelocity(Vec3 storeVelocity) {
+        long characterVa = targetVa();
+        NativeScratch scratch = Temporaries.scratch.get();
+        CharacterBase.getGroundVelocity(characterVa, scratch.floatsVa);
+        storeVelocity.set(scratch.floats);
+    }
+
     /**
      * Return the maximum angle for merging during hit reduction. The character
      * is unaffected.
@@ -567,14 +614,25 @@ final public class CharacterVirtualRef
      */
     @Override
     public Vec3 getLinearVelocity() {
-        long characterVa = targetVa();
-        FloatBuffer storeFloats = Temporaries.floatBuffer1.get();
-        CharacterVirtual.getLinearVelocity(characterVa, storeFloats);
-        Vec3 result = new Vec3(storeFloats);
+        Vec3 result = new Vec3();
+        getLinearVelocity(result);
 
         return result;
     }
 
+    /**
+     * Copy the linear velocity of the character. The character is unaffected.
+     *
+     * @param storeVelocity storage for the result (not null, modified)
+     */
+    @Override
+    public void getLinearVelocity(Vec3 storeVelocity) {
+        long characterVa = targetVa();
+        NativeScratch scratch = Temporaries.scratch.get();
+        CharacterVirtual.getLinearVelocity(characterVa, scratch.floatsVa);
+        storeVelocity.set(scratch.floats);
+    }
+
     /**
      * Return the character's mass. The character is unaffected.
      *
@@ -651,14 +709,25 @@ final public class CharacterVirtualRef
      */
     @Override
     public RVec3 getPosition() {
-        long characterVa = targetVa();
-        DoubleBuffer storeDoubles = Temporaries.doubleBuffer1.get();
-        CharacterVirtual.getPosition(characterVa, storeDoubles);
-        RVec3 result = new RVec3(storeDoubles);
+        RVec3 result = new RVec3();
+        getPosition(result);
 
         return result;
     }
 
+    /**
+     * Copy the location of the character. The character is unaffected.
+     *
+     * @param storeLocation storage for the result (not null, modified)
+     */
+    @Override
+    public void getPosition(RVec3 storeLocation) {
+        long characterVa = targetVa();
+        NativeScratch scratch = Temporaries.scratch.get();
+        CharacterVirtual.getPosition(characterVa, scratch.doublesVa);
+        storeLocation.set(scratch.doubles);
+    }
+
     /**
      * Copy the position of the character. The character is unaffected.
      *
@@ -672,13 +741,12 @@ final public class CharacterVirtualRef
             RVec3 storeLocation, Quat storeOrientation) {
         long characterVa = targetVa();
 
-        DoubleBuffer storeDoubles = Temporaries.doubleBuffer1.get();
-        CharacterVirtual.getPosition(characterVa, storeDoubles);
-        storeLocation.set(storeDoubles);
+        NativeScratch scratch = Temporaries.scratch.get();
+        CharacterVirtual.getPosition(characterVa, scratch.doublesVa);
+        storeLocation.set(scratch.doubles);
 
-        FloatBuffer storeFloats = Temporaries.floatBuffer1.get();
-        CharacterVirtual.getRotation(characterVa, storeFloats);
-        storeOrientation.set(storeFloats);
+        CharacterVirtual.getRotation(characterVa, scratch.floatsVa);
+        storeOrientation.set(scratch.floats);
     }
 
     /**
@@ -688,14 +756,25 @@ final public class CharacterVirtualRef
      */
     @Override
     public Quat getRotation() {
-        long characterVa = targetVa();
-        FloatBuffer storeFloats = Temporaries.floatBuffer1.get();
-        CharacterVirtual.getRotation(characterVa, storeFloats);
-        Quat result = new Quat(storeFloats);
+        Quat result = new Quat();
+        getRotation(result);
 
         return result;
     }
 
+    /**
+     * Copy the orientation of the character. The character is unaffected.
+     *
+     * @param storeOrientation storage for the result (not null, modified)
+     */
+    @Override
+    public void getRotation(Quat storeOrientation) {
+        long characterVa = targetVa();
+        NativeScratch scratch = Temporaries.scratch.get();
+        CharacterVirtual.getRotation(characterVa, scratch.floatsVa);
+        storeOrientation.set(scratch.floats);
+    }
+
     /**
      * Access the character's shape. The character is unaffected.
      *
@@ -718,14 +797,25 @@ final public class CharacterVirtualRef
      */
     @Override
     public Vec3 getShapeOffset() {
-        long characterVa = targetVa();
-        FloatBuffer storeFloats = Temporaries.floatBuffer1.get();
-        CharacterVirtual.getShapeOffset(characterVa, storeFloats);
-        Vec3 result = new Vec3(storeFloats);
+        Vec3 result = new Vec3();
+        getShapeOffset(result);
 
         return result;
     }
 
+    /**
+     * Copy the local offset applied to the shape. The character is unaffected.
+     *
+     * @param storeOffset storage for the result (not null, modified)
+     */
+    @Override
+    public void getShapeOffset(Vec3 storeOffset) {
+        long characterVa = targetVa();
+        NativeScratch scratch = Temporaries.scratch.get();
+        CharacterVirtual.getShapeOffset(characterVa, scratch.floatsVa);
+        storeOffset.set(scratch.floats);
+    }
+
     /**
      * Generate a TransformedShape that represents the volume occupied by the
      * character. The character is unaffected.
@@ -748,14 +838,25 @@ final public class CharacterVirtualRef
      */
     @Override
     public Vec3 getUp() {
-        long characterVa = targetVa();
-        FloatBuffer storeFloats = Temporaries.floatBuffer1.get();
-        CharacterBase.getUp(characterVa, storeFloats);
-        Vec3 result = new Vec3(storeFloats);
+        Vec3 result = new Vec3();
+        getUp(result);
 
         return result;
     }
 
+    /**
+     * Copy the character's "up" direction. The character is unaffected.
+     *
+     * @param storeDirection storage for the result (not null, modified)
+     */
+    @Override
+    public void getUp(Vec3 storeDirection) {
+        long characterVa = targetVa();
+        NativeScratch scratch = Temporaries.scratch.get();
+        CharacterBase.getUp(characterVa, scratch.floatsVa);
+        storeDirection.set(scratch.floats);
+    }
+
     /**
      * Return the character's user data: can be used for anything. The character
      * is unaffected.
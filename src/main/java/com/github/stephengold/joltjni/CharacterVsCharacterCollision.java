@@ -21,6 +21,11 @@ SOFTWARE.
  */
 package com.github.stephengold.joltjni;
 
+import com.github.stephengold.joltjni.readonly.ConstCharacterVirtual;
+import com.github.stephengold.joltjni.readonly.RMat44Arg;
+import com.github.stephengold.joltjni.readonly.RVec3Arg;
+import com.github.stephengold.joltjni.readonly.Vec3Arg;
+
 /**
  * An interface to determine which characters (if any) should collide with other
  * characters.
@@ -37,6 +42,70 @@ abstract public class CharacterVsCharacterCollision extends NonCopyable {
     CharacterVsCharacterCollision() {
     }
     // *************************************************************************
+    // new methods exposed
+
+    /**
+     * Cast the specified character against the other characters and collect
+     * the resulting hits.
+     *
+     * @param character the character to cast (not null, unaffected)
+     * @param comTransform the coordinate transform of the character's center
+     * of mass (not null, unaffected)
+     * @param direction the direction and distance to cast (not null,
+     * unaffected)
+     * @param settings the shape-cast configuration options to use (not null,
+     * unaffected)
+     * @param base the base location for reporting hits (not null, unaffected,
+     * (0,0,0)&rarr;world coordinates)
+     * @param collector the hit collector to use (not null)
+     */
+    public void castCharacter(ConstCharacterVirtual character,
+            RMat44Arg comTransform, Vec3Arg direction,
+            ShapeCastSettings settings, RVec3Arg base,
+            CastShapeCollector collector) {
+        long collisionVa = va();
+        long characterVa = character.targetVa();
+        long transformVa = comTransform.targetVa();
+        float dx = direction.getX();
+        float dy = direction.getY();
+        float dz = direction.getZ();
+        long settingsVa = settings.va();
+        double baseX = base.xx();
+        double baseY = base.yy();
+        double baseZ = base.zz();
+        long collectorVa = collector.va();
+        castCharacter(collisionVa, characterVa, transformVa, dx, dy, dz,
+                settingsVa, baseX, baseY, baseZ, collectorVa);
+    }
+
+    /**
+     * Collide the specified character with the other characters and collect
+     * the resulting hits.
+     *
+     * @param character the character to collide (not null, unaffected)
+     * @param comTransform the coordinate transform of the character's center
+     * of mass (not null, unaffected)
+     * @param settings the collision configuration options to use (not null,
+     * unaffected)
+     * @param base the base location for reporting hits (not null, unaffected,
+     * (0,0,0)&rarr;world coordinates)
+     * @param collector the hit collector to use (not null)
+     */
+    public void collideCharacter(ConstCharacterVirtual character,
+            RMat44Arg comTransform, CollideShapeSettings settings,
+            RVec3Arg base, CollideShapeCollector collector) {
+        long collisionVa = va();
+        long characterVa = character.targetVa();
+        long transformVa = comTransform.targetVa();
+        long settingsVa = settings.va();
+        double baseX = base.xx();
+        double baseY = base.yy();
+        double baseZ = base.zz();
+        long collectorVa = collector.va();
+        collideCharacter(collisionVa, characterVa, transformVa, settingsVa,
+                baseX, baseY, baseZ, collectorVa);
+    }
+    // *************************************************************************
     // protected methods
 
     /**
@@ -53,5 +122,14 @@ abstract public class CharacterVsCharacterCollision extends NonCopyable {
     // *************************************************************************
     // native private methods
 
+    native private static void castCharacter(long collisionVa,
+            long characterVa, long transformVa, float dx, float dy, float dz,
+            long settingsVa, double baseX, double baseY, double baseZ,
+            long collectorVa);
+
+    native private static void collideCharacter(long collisionVa,
+            long characterVa, long transformVa, long settingsVa, double baseX,
+            double baseY, double baseZ, long collectorVa);
+
     native private static void free(long collisionVa);
 }
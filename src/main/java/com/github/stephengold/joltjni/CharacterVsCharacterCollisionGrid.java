@@ -0,0 +1,191 @@
+/*
+Copyright (c) 2026 Stephen Gold
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+ */
+package com.github.stephengold.joltjni;
+
+import com.github.stephengold.joltjni.readonly.ConstCharacterVirtual;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * An implementation of the Character-versus-Character collision interface
+ * that bins characters in a uniform hash grid, so that the cost of each query
+ * depends on the local density of characters instead of their total number.
+ * <p>
+ * Bins are refreshed incrementally by {@link #update()}, which should be
+ * invoked after characters move, typically once per frame. Queries are
+ * expanded by a margin, so that a character that has moved less than the
+ * margin since the last refresh won't be overlooked.
+ *
+ * @author Stephen Gold sgold@sonic.net
+ */
+public class CharacterVsCharacterCollisionGrid
+        extends CharacterVsCharacterCollision {
+    // *************************************************************************
+    // fields
+
+    /**
+     * edge length of each grid cell (in meters)
+     */
+    final private float cellSize;
+    /**
+     * distance a character may move between refreshes without being
+     * overlooked (in meters)
+     */
+    final private float margin;
+    /**
+     * Java copy of the collision list
+     */
+    final private List<CharacterVirtualRef> collisionList = new ArrayList<>(16);
+    // *************************************************************************
+    // constructors
+
+    /**
+     * Instantiate an empty interface.
+     *
+     * @param cellSize the edge length of each grid cell (in meters, &gt;0,
+     * typically about twice the width of a character)
+     * @param margin the distance a character may move between refreshes
+     * without being overlooked (in meters, &ge;0)
+     */
+    public CharacterVsCharacterCollisionGrid(float cellSize, float margin) {
+        if (!(cellSize > 0f)) {
+            throw new IllegalArgumentException("cellSize = " + cellSize);
+        }
+        if (!(margin >= 0f)) {
+            throw new IllegalArgumentException("margin = " + margin);
+        }
+        this.cellSize = cellSize;
+        this.margin = margin;
+        long gridVa = createGrid(cellSize, margin);
+        setVirtualAddressAsOwner(gridVa);
+    }
+    // *************************************************************************
+    // new methods exposed
+
+    /**
+     * Add the specified character to the collision list and bin it.
+     *
+     * @param character a counted reference to the character to add (not null,
+     * alias created)
+     */
+    public void add(CharacterVirtual character) {
+        long gridVa = va();
+        long characterVa = character.targetVa();
+        add(gridVa, characterVa);
+
+        collisionList.add(character.toRef());
+    }
+
+    /**
+     * Count the characters in the collision list.
+     *
+     * @return the count (&ge;0)
+     */
+    public int countCharacters() {
+        int result = collisionList.size();
+        return result;
+    }
+
+    /**
+     * Return the edge length of each grid cell.
+     *
+     * @return the length (in meters, &gt;0)
+     */
+    public float getCellSize() {
+        return cellSize;
+    }
+
+    /**
+     * Enumerate all characters in the collision list.
+     *
+     * @return a new array of pre-existing counted references
+     */
+    public CharacterVirtual[] getCharacters() {
+        int numCharacters = collisionList.size();
+        CharacterVirtual[] result = new CharacterVirtual[numCharacters];
+        for (int i = 0; i < numCharacters; ++i) {
+            result[i] = collisionList.get(i).getPtr();
+        }
+
+        return result;
+    }
+
+    /**
+     * Return the distance a character may move between refreshes without
+     * being overlooked.
+     *
+     * @return the distance (in meters, &ge;0)
+     */
+    public float getMargin() {
+        return margin;
+    }
+
+    /**
+     * Remove the specified character from the collision list. The last
+     * character (if any) is moved to the vacated position.
+     *
+     * @param characterRef a counted reference to the character to remove (not
+     * null)
+     */
+    public void remove(ConstCharacterVirtual characterRef) {
+        long gridVa = va();
+        long characterVa = characterRef.targetVa();
+        remove(gridVa, characterVa);
+
+        int numCharacters = collisionList.size();
+        for (int i = 0; i < numCharacters; ++i) {
+            long tmpVa = collisionList.get(i).targetVa();
+            if (tmpVa == characterVa) {
+                CharacterVirtualRef last
+                        = collisionList.remove(numCharacters - 1);
+                if (i < numCharacters - 1) {
+                    collisionList.set(i, last);
+                }
+                break;
+            }
+        }
+    }
+
+    /**
+     * Re-bin each character whose grid cell has changed since the previous
+     * refresh. The cost is proportional to the number of characters, but
+     * only those that changed cells touch the grid.
+     *
+     * @return the number of characters re-binned (&ge;0)
+     */
+    public int update() {
+        long gridVa = va();
+        int result = update(gridVa);
+
+        return result;
+    }
+    // *************************************************************************
+    // native private methods
+
+    native private static void add(long gridVa, long characterVa);
+
+    native private static long createGrid(float cellSize, float margin);
+
+    native private static void remove(long gridVa, long characterVa);
+
+    native private static int update(long gridVa);
+}
@@ -0,0 +1,59 @@
+/*
+Copyright (c) 2026 Stephen Gold
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+ */
+package com.github.stephengold.joltjni;
+
+import com.github.stephengold.joltjni.readonly.ConstShapeSettings;
+
+/**
+ * Describe the bodies of a world region for {@link ChunkStreamer}.
+ * <p>
+ * All methods are invoked on a baking thread, so an implementation may defer
+ * decoding its serialized form until then. Returning the same shape settings
+ * for several bodies of a chunk causes the shape to be baked only once.
+ *
+ * @author Stephen Gold sgold@sonic.net
+ */
+public interface ChunkDescriptor {
+    /**
+     * Count the bodies in the chunk.
+     *
+     * @return the count (&ge;0)
+     */
+    int countBodies();
+
+    /**
+     * Return the creation settings of the indexed body. The shape is replaced
+     * with the baked shape before the body is created.
+     *
+     * @param bodyIndex the index of the body (&ge;0, &lt;countBodies())
+     * @return settings not shared with any other chunk or index (not null)
+     */
+    BodyCreationSettings getBodySettings(int bodyIndex);
+
+    /**
+     * Return the shape settings of the indexed body, to be baked.
+     *
+     * @param bodyIndex the index of the body (&ge;0, &lt;countBodies())
+     * @return the settings (not null)
+     */
+    ConstShapeSettings getShapeSettings(int bodyIndex);
+}
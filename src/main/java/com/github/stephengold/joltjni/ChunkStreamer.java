@@ -0,0 +1,508 @@
+/*
+Copyright (c) 2026 Stephen Gold
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+ */
+package com.github.stephengold.joltjni;
+
+import com.github.stephengold.joltjni.enumerate.EActivation;
+import com.github.stephengold.joltjni.readonly.ConstShapeSettings;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+
+/**
+ * Stream world regions ("chunks") into and out of a physics system.
+ * <p>
+ * When a chunk is requested, its shapes are baked and its bodies are created
+ * on a thread of the executor, off the update thread. Each invocation of
+ * {@link #update()} then adds baked bodies to the physics system using
+ * {@code addBodiesPrepare()} and {@code addBodiesFinalize()}, subject to a
+ * per-frame budget, so loading a large region never causes a long stall.
+ * Unloading works in reverse, removing and destroying bodies within the same
+ * budget.
+ * <p>
+ * Apart from the baking, all methods should be invoked on a single thread,
+ * typically the one that updates the physics system, and never during an
+ * update of the system.
+ * <p>
+ * Jolt caches the result of {@code ShapeSettings.create()} inside the
+ * settings, so creating shapes from the same settings on several threads at
+ * once would race. Chunks may share shape settings, because the streamer
+ * serializes shape creation for each settings instance. However, the
+ * application mustn't create shapes from those settings while chunks are
+ * baking.
+ *
+ * @author Stephen Gold sgold@sonic.net
+ */
+public class ChunkStreamer {
+    // *************************************************************************
+    // constants
+
+    /**
+     * number of locks used to serialize shape creation (a power of 2)
+     */
+    final private static int numCreateLocks = 64;
+    /**
+     * locks used to serialize shape creation, indexed by a hash of the
+     * settings' virtual address
+     */
+    final private static Object[] createLocks = newLocks(numCreateLocks);
+    // *************************************************************************
+    // fields
+
+    /**
+     * interface used to create, add, remove, and destroy bodies
+     */
+    final private BodyInterface bodyInterface;
+    /**
+     * baked chunks awaiting commit, in the order they were baked
+     */
+    final private Deque<StreamedChunk> commitQueue = new ArrayDeque<>(16);
+    /**
+     * executor that runs the baking tasks
+     */
+    final private Executor executor;
+    /**
+     * maximum number of bodies to add or remove per update
+     */
+    final private int maxBodiesPerFrame;
+    /**
+     * time spent adding and removing bodies during the most recent update (in
+     * nanoseconds)
+     */
+    private long lastFrameNanos;
+    /**
+     * commit latency of the most recently loaded chunk (in nanoseconds)
+     */
+    private long lastLatencyNanos;
+    /**
+     * longest commit latency since the statistics were reset (in nanoseconds)
+     */
+    private long maxLatencyNanos;
+    /**
+     * longest time spent adding and removing bodies during an update since the
+     * statistics were reset (in nanoseconds)
+     */
+    private long maxFrameNanos;
+    /**
+     * number of chunks loaded since the statistics were reset
+     */
+    private long numLoadedChunks;
+    /**
+     * total commit latency of all chunks loaded since the statistics were
+     * reset (in nanoseconds)
+     */
+    private long totalLatencyNanos;
+    /**
+     * chunks that are neither failed nor fully unloaded, keyed by chunk key
+     */
+    final private Map<Long, StreamedChunk> chunks = new HashMap<>(64);
+    /**
+     * chunks whose baking has finished, awaiting pickup by the update thread
+     */
+    final private Queue<StreamedChunk> bakedQueue
+            = new ConcurrentLinkedQueue<>();
+    /**
+     * chunks being unloaded, in the order the unloads were requested
+     */
+    final private Deque<StreamedChunk> unloadQueue = new ArrayDeque<>(16);
+    // *************************************************************************
+    // constructors
+
+    /**
+     * Instantiate a streamer with the specified executor and budget.
+     *
+     * @param bodyInterface the interface to use (not null, alias created)
+     * @param executor the executor to run baking tasks (not null, alias
+     * created)
+     * @param maxBodiesPerFrame the maximum number of bodies to add or remove
+     * per update (&ge;1)
+     */
+    public ChunkStreamer(BodyInterface bodyInterface, Executor executor,
+            int maxBodiesPerFrame) {
+        if (bodyInterface == null) {
+            throw new IllegalArgumentException(
+                    "bodyInterface must not be null");
+        }
+        if (executor == null) {
+            throw new IllegalArgumentException("executor must not be null");
+        }
+        if (maxBodiesPerFrame < 1) {
+            throw new IllegalArgumentException(
+                    "maxBodiesPerFrame = " + maxBodiesPerFrame);
+        }
+        this.bodyInterface = bodyInterface;
+        this.executor = executor;
+        this.maxBodiesPerFrame = maxBodiesPerFrame;
+    }
+    // *************************************************************************
+    // new methods exposed
+
+    /**
+     * Count the chunks that are baking, awaiting commit, loaded, or unloading.
+     *
+     * @return the count (&ge;0)
+     */
+    public int countChunks() {
+        return chunks.size();
+    }
+
+    /**
+     * Access the chunk with the specified key.
+     *
+     * @param key the key to find
+     * @return the pre-existing instance, or {@code null} if not found
+     */
+    public StreamedChunk findChunk(long key) {
+        StreamedChunk result = chunks.get(key);
+        return result;
+    }
+
+    /**
+     * Return the time spent adding and removing bodies during the most recent
+     * update.
+     *
+     * @return the duration (in nanoseconds, &ge;0)
+     */
+    public long getLastFrameNanos() {
+        return lastFrameNanos;
+    }
+
+    /**
+     * Return the commit latency of the most recently loaded chunk: the time
+     * from its load request until its last body was added.
+     *
+     * @return the duration (in nanoseconds, &ge;0)
+     */
+    public long getLastLatencyNanos() {
+        return lastLatencyNanos;
+    }
+
+    /**
+     * Return the maximum number of bodies to add or remove per update.
+     *
+     * @return the count (&ge;1)
+     */
+    public int getMaxBodiesPerFrame() {
+        return maxBodiesPerFrame;
+    }
+
+    /**
+     * Return the longest time spent adding and removing bodies during a single
+     * update since the statistics were reset.
+     *
+     * @return the duration (in nanoseconds, &ge;0)
+     */
+    public long getMaxFrameNanos() {
+        return maxFrameNanos;
+    }
+
+    /**
+     * Return the longest commit latency since the statistics were reset.
+     *
+     * @return the duration (in nanoseconds, &ge;0)
+     */
+    public long getMaxLatencyNanos() {
+        return maxLatencyNanos;
+    }
+
+    /**
+     * Return the mean commit latency since the statistics were reset.
+     *
+     * @return the mean duration (in nanoseconds, &ge;0) or zero if no chunks
+     * have loaded
+     */
+    public double getMeanLatencyNanos() {
+        double result = 0.;
+        if (numLoadedChunks > 0L) {
+            result = totalLatencyNanos / (double) numLoadedChunks;
+        }
+
+        return result;
+    }
+
+    /**
+     * Return the number of chunks loaded since the statistics were reset.
+     *
+     * @return the count (&ge;0)
+     */
+    public long getNumLoadedChunks() {
+        return numLoadedChunks;
+    }
+
+    /**
+     * Request that the specified chunk be loaded. Baking begins immediately on
+     * the executor.
+     *
+     * @param key the chunk's key (not already in use)
+     * @param descriptor the description of the chunk's bodies (not null, alias
+     * created)
+     * @param activation whether to activate the bodies when they are added
+     * (not null)
+     * @return a new object to track the chunk's progress
+     */
+    public StreamedChunk requestLoad(
+            long key, ChunkDescriptor descriptor, EActivation activation) {
+        if (descriptor == null) {
+            throw new IllegalArgumentException("descriptor must not be null");
+        }
+        if (activation == null) {
+            throw new IllegalArgumentException("activation must not be null");
+        }
+        if (chunks.containsKey(key)) {
+            throw new IllegalStateException("chunk already present: " + key);
+        }
+
+        StreamedChunk result = new StreamedChunk(key, activation);
+        executor.execute(() -> bake(result, descriptor));
+        chunks.put(key, result);
+
+        return result;
+    }
+
+    /**
+     * Request that the specified chunk be unloaded. Bodies that have been
+     * added will be removed and all bodies destroyed, subject to the per-frame
+     * budget. A chunk still baking is unloaded once baking finishes.
+     *
+     * @param key the chunk's key
+     * @return {@code true} if the chunk was found, otherwise {@code false}
+     */
+    public boolean requestUnload(long key) {
+        StreamedChunk chunk = chunks.get(key);
+        if (chunk == null || chunk.unloadRequested) {
+            return false;
+        }
+
+        chunk.unloadRequested = true;
+        if (chunk.baked) {
+            commitQueue.remove(chunk);
+            unloadQueue.addLast(chunk);
+        }
+
+        return true;
+    }
+
+    /**
+     * Reset the latency statistics.
+     */
+    public void resetStatistics() {
+        this.maxFrameNanos = 0L;
+        this.maxLatencyNanos = 0L;
+        this.numLoadedChunks = 0L;
+        this.totalLatencyNanos = 0L;
+    }
+
+    /**
+     * Collect finished baking results, then add and remove bodies up to the
+     * per-frame budget. Unloads take priority over loads, since they free body
+     * slots. At least one slice is processed per update, even if it exceeds
+     * the remaining budget.
+     */
+    public void update() {
+        long startNanos = System.nanoTime();
+
+        StreamedChunk chunk;
+        while ((chunk = bakedQueue.poll()) != null) {
+            chunk.baked = true;
+            if (chunk.unloadRequested) {
+                unloadQueue.addLast(chunk);
+            } else if (chunk.error != null) {
+                chunks.remove(chunk.getKey());
+            } else {
+                commitQueue.addLast(chunk);
+            }
+        }
+
+        int budget = maxBodiesPerFrame;
+        boolean first = true;
+        while (!unloadQueue.isEmpty()) {
+            chunk = unloadQueue.peekFirst();
+            if (chunk.error != null
+                    || chunk.numReleasedSlices == chunk.slices.size()) {
+                unloadQueue.removeFirst();
+                chunks.remove(chunk.getKey());
+                continue;
+            }
+            BodyIdArray slice = chunk.slices.get(chunk.numReleasedSlices);
+            int numBodies = slice.length();
+            if (!first && numBodies > budget) {
+                break;
+            }
+            if (chunk.numReleasedSlices < chunk.numAddedSlices) {
+                bodyInterface.removeBodies(slice);
+            }
+            bodyInterface.destroyBodies(slice);
+            ++chunk.numReleasedSlices;
+            budget -= numBodies;
+            first = false;
+        }
+
+        while (!commitQueue.isEmpty()) {
+            chunk = commitQueue.peekFirst();
+            if (chunk.numAddedSlices == chunk.slices.size()) {
+                commitQueue.removeFirst();
+                long latency = System.nanoTime() - chunk.requestNanos;
+                this.lastLatencyNanos = latency;
+                this.maxLatencyNanos = Math.max(maxLatencyNanos, latency);
+                this.totalLatencyNanos += latency;
+                ++numLoadedChunks;
+                continue;
+            }
+            BodyIdArray slice = chunk.slices.get(chunk.numAddedSlices);
+            int numBodies = slice.length();
+            if (!first && numBodies > budget) {
+                break;
+            }
+            long addState = bodyInterface.addBodiesPrepare(slice);
+            bodyInterface.addBodiesFinalize(slice, addState, chunk.activation);
+            ++chunk.numAddedSlices;
+            budget -= numBodies;
+            first = false;
+        }
+
+        long frameNanos = System.nanoTime() - startNanos;
+        this.lastFrameNanos = frameNanos;
+        this.maxFrameNanos = Math.max(maxFrameNanos, frameNanos);
+    }
+    // *************************************************************************
+    // private methods
+
+    /**
+     * Bake the shapes and create the bodies of the specified chunk. Invoked on
+     * a thread of the executor.
+     *
+     * @param chunk the chunk to bake (not null)
+     * @param descriptor the description of the chunk's bodies (not null)
+     */
+    private void bake(StreamedChunk chunk, ChunkDescriptor descriptor) {
+        List<BodyIdArray> slices = new ArrayList<>(4);
+        try {
+            int numBodies = descriptor.countBodies();
+            BodyCreationSettings[] settings
+                    = new BodyCreationSettings[numBodies];
+            Map<ConstShapeSettings, ShapeRefC> shapes
+                    = new IdentityHashMap<>(numBodies);
+            for (int i = 0; i < numBodies; ++i) {
+                ConstShapeSettings shapeSettings
+                        = descriptor.getShapeSettings(i);
+                ShapeRefC shape = shapes.get(shapeSettings);
+                if (shape == null) {
+                    ShapeResult shapeResult = createShape(shapeSettings);
+                    if (shapeResult.hasError()) {
+                        chunk.error = "body " + i + ": "
+                                + shapeResult.getError();
+                        break;
+                    }
+                    shape = shapeResult.get();
+                    shapes.put(shapeSettings, shape);
+                }
+                settings[i] = descriptor.getBodySettings(i);
+                settings[i].setShape(shape);
+            }
+
+            for (int start = 0; chunk.error == null && start < numBodies;
+                    start += maxBodiesPerFrame) {
+                int end = Math.min(start + maxBodiesPerFrame, numBodies);
+                BodyCreationSettings[] sliceSettings
+                        = Arrays.copyOfRange(settings, start, end);
+                BodyIdArray slice = new BodyIdArray(end - start);
+                slices.add(slice);
+                int numFailures = bodyInterface.createBodies(
+                        sliceSettings, 0, end - start, slice);
+                if (numFailures > 0) {
+                    chunk.error = "ran out of bodies";
+                }
+            }
+        } catch (RuntimeException exception) {
+            chunk.error = exception.toString();
+        }
+
+        if (chunk.error != null) {
+            destroyCreated(slices);
+            slices.clear();
+        }
+        chunk.slices = slices;
+        bakedQueue.add(chunk);
+    }
+
+    /**
+     * Create a shape from the specified settings, excluding other baking
+     * threads that might be using the same settings. Invoked on a thread of
+     * the executor.
+     *
+     * @param shapeSettings the settings to use (not null)
+     * @return a new or cached result
+     */
+    private static ShapeResult createShape(ConstShapeSettings shapeSettings) {
+        long settingsVa = shapeSettings.targetVa();
+        // Native objects are 16-byte aligned, so ignore the lowest 4 bits:
+        int lockIndex = (int) (settingsVa >>> 4) & (numCreateLocks - 1);
+        synchronized (createLocks[lockIndex]) {
+            ShapeResult result = shapeSettings.create();
+            return result;
+        }
+    }
+
+    /**
+     * Destroy the bodies created before a baking failure.
+     *
+     * @param slices the IDs of the bodies, including invalid ones (not null)
+     */
+    private void destroyCreated(List<BodyIdArray> slices) {
+        List<Integer> created = new ArrayList<>(16);
+        for (BodyIdArray slice : slices) {
+            int numIds = slice.length();
+            for (int i = 0; i < numIds; ++i) {
+                int id = slice.get(i);
+                if (id != Jolt.cInvalidBodyId) {
+                    created.add(id);
+                }
+            }
+        }
+        if (!created.isEmpty()) {
+            BodyIdArray array = new BodyIdArray(created);
+            bodyInterface.destroyBodies(array);
+        }
+    }
+
+    /**
+     * Allocate the specified number of lock objects.
+     *
+     * @param numLocks the number of locks to allocate (&ge;0)
+     * @return a new array of new objects
+     */
+    private static Object[] newLocks(int numLocks) {
+        Object[] result = new Object[numLocks];
+        for (int i = 0; i < numLocks; ++i) {
+            result[i] = new Object();
+        }
+
+        return result;
+    }
+}
@@ -0,0 +1,258 @@
+/*
+Copyright (c) 2026 Stephen Gold
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+ */
+package com.github.stephengold.joltjni;
+
+/**
+ * A {@code PhysicsSystem} that's stepped by a {@code PhysicsWorldGroup},
+ * along with its step budget and latency statistics.
+ * <p>
+ * The statistics are written by the group's worker threads and become
+ * visible to other threads once {@code PhysicsWorldGroup.update()} returns.
+ *
+ * @author Stephen Gold sgold@sonic.net
+ */
+public class GroupedWorld {
+    // *************************************************************************
+    // fields
+
+    /**
+     * number of collision steps per simulation step
+     */
+    final private int collisionSteps;
+    /**
+     * maximum number of steps per group update
+     */
+    final private int maxStepsPerUpdate;
+    /**
+     * bitmask of error conditions from the most recent step
+     */
+    private int lastErrors;
+    /**
+     * duration of the most recent step (in nanoseconds)
+     */
+    private long lastStepNanos;
+    /**
+     * duration of the slowest step since the statistics were reset (in
+     * nanoseconds)
+     */
+    private long maxStepNanos;
+    /**
+     * number of steps discarded due to the step budget
+     */
+    private long numDroppedSteps;
+    /**
+     * number of steps performed since the statistics were reset
+     */
+    private long numSteps;
+    /**
+     * number of steps still to perform during the current group update
+     */
+    int pendingSteps;
+    /**
+     * simulation time owed but not yet stepped (in seconds)
+     */
+    private float simulationLag;
+    /**
+     * the system to step
+     */
+    final private PhysicsSystem system;
+    /**
+     * duration of each simulation step (in seconds)
+     */
+    final private float stepTime;
+    /**
+     * total duration of all steps since the statistics were reset (in
+     * nanoseconds)
+     */
+    private long totalStepNanos;
+    // *************************************************************************
+    // constructors
+
+    /**
+     * Instantiate a member for the specified system. Invoked by
+     * {@code PhysicsWorldGroup.addWorld()}.
+     *
+     * @param system the system to step (not null, alias created)
+     * @param stepTime the duration of each simulation step (in seconds, &gt;0)
+     * @param collisionSteps the number of collision steps per simulation step
+     * (&ge;1)
+     * @param maxStepsPerUpdate the maximum number of steps per group update
+     * (&ge;1)
+     */
+    GroupedWorld(PhysicsSystem system, float stepTime, int collisionSteps,
+            int maxStepsPerUpdate) {
+        this.system = system;
+        this.stepTime = stepTime;
+        this.collisionSteps = collisionSteps;
+        this.maxStepsPerUpdate = maxStepsPerUpdate;
+    }
+    // *************************************************************************
+    // new methods exposed
+
+    /**
+     * Return the number of collision steps per simulation step.
+     *
+     * @return the count (&ge;1)
+     */
+    public int getCollisionSteps() {
+        return collisionSteps;
+    }
+
+    /**
+     * Return the error conditions reported by the most recent step.
+     *
+     * @return a bitmask of error conditions, or-ed together
+     *
+     * @see com.github.stephengold.joltjni.enumerate.EPhysicsUpdateError
+     */
+    public int getLastErrors() {
+        return lastErrors;
+    }
+
+    /**
+     * Return the duration of the most recent step.
+     *
+     * @return the duration (in nanoseconds, &ge;0)
+     */
+    public long getLastStepNanos() {
+        return lastStepNanos;
+    }
+
+    /**
+     * Return the maximum number of steps per group update.
+     *
+     * @return the count (&ge;1)
+     */
+    public int getMaxStepsPerUpdate() {
+        return maxStepsPerUpdate;
+    }
+
+    /**
+     * Return the duration of the slowest step since the statistics were reset.
+     *
+     * @return the duration (in nanoseconds, &ge;0)
+     */
+    public long getMaxStepNanos() {
+        return maxStepNanos;
+    }
+
+    /**
+     * Return the mean duration of the steps since the statistics were reset.
+     *
+     * @return the mean duration (in nanoseconds, &ge;0)
+     */
+    public double getMeanStepNanos() {
+        double result = (numSteps == 0L) ? 0.0
+                : totalStepNanos / (double) numSteps;
+        return result;
+    }
+
+    /**
+     * Return the number of steps discarded because the step budget was
+     * exhausted.
+     *
+     * @return the count (&ge;0)
+     */
+    public long getNumDroppedSteps() {
+        return numDroppedSteps;
+    }
+
+    /**
+     * Return the number of steps performed since the statistics were reset.
+     *
+     * @return the count (&ge;0)
+     */
+    public long getNumSteps() {
+        return numSteps;
+    }
+
+    /**
+     * Return the duration of each simulation step.
+     *
+     * @return the duration (in seconds, &gt;0)
+     */
+    public float getStepTime() {
+        return stepTime;
+    }
+
+    /**
+     * Access the system.
+     *
+     * @return the pre-existing instance (not null)
+     */
+    public PhysicsSystem getSystem() {
+        return system;
+    }
+
+    /**
+     * Reset the latency statistics. Don't invoke while the group is updating.
+     */
+    public void resetStatistics() {
+        this.maxStepNanos = 0L;
+        this.numDroppedSteps = 0L;
+        this.numSteps = 0L;
+        this.totalStepNanos = 0L;
+    }
+    // *************************************************************************
+    // new protected methods
+
+    /**
+     * Add the specified elapsed time to the simulation lag and determine how
+     * many steps to perform during the current group update. Steps beyond the
+     * budget are discarded. Invoked by {@code PhysicsWorldGroup.update()}.
+     *
+     * @param elapsedTime the elapsed time (in seconds, &ge;0)
+     * @return the number of steps to perform (&ge;0)
+     */
+    int schedule(float elapsedTime) {
+        simulationLag += elapsedTime;
+        int numOwed = (int) (simulationLag / stepTime);
+        int result = Math.min(numOwed, maxStepsPerUpdate);
+        if (numOwed > result) {
+            numDroppedSteps += numOwed - result;
+        }
+        simulationLag -= numOwed * stepTime;
+        this.pendingSteps = result;
+
+        return result;
+    }
+
+    /**
+     * Perform a single simulation step and record its duration. Invoked on a
+     * worker thread of the group.
+     *
+     * @param tempAllocator the worker's allocator (not null)
+     * @param jobSystem the group's job system (not null)
+     */
+    void step(TempAllocator tempAllocator, JobSystem jobSystem) {
+        long startTime = System.nanoTime();
+        this.lastErrors = system.update(
+                stepTime, collisionSteps, tempAllocator, jobSystem);
+        long elapsed = System.nanoTime() - startTime;
+
+        this.lastStepNanos = elapsed;
+        this.maxStepNanos = Math.max(maxStepNanos, elapsed);
+        totalStepNanos += elapsed;
+        ++numSteps;
+        --pendingSteps;
+    }
+}
@@ -0,0 +1,340 @@
+/*
+Copyright (c) 2026 Stephen Gold
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+ */
+package com.github.stephengold.joltjni;
+
+import java.nio.ByteBuffer;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * A growable direct buffer of collision-query hits, filled by a single native
+ * call such as {@code AllHitCastRayCollector.copyHits()}. Iterating over the
+ * buffer yields a single, reused {@code HitView}, so reading the hits
+ * allocates no wrapper objects.
+ * <p>
+ * Each record occupies {@code recordBytes} bytes in native byte order:
+ * <ul>
+ * <li>offset 0: ID of the body hit (int)</li>
+ * <li>offset 4: sub-shape ID in the query shape (int, or {@code -1} for
+ * rays)</li>
+ * <li>offset 8: sub-shape ID in the body hit (int)</li>
+ * <li>offset 12: fraction along the ray or cast (float, or 0 for
+ * collisions)</li>
+ * <li>offset 16: penetration depth (float, or 0 for rays)</li>
+ * <li>offset 20: contact point on the query shape, relative to the base
+ * offset (3 floats, or zeros for rays)</li>
+ * <li>offset 32: contact point on the body hit, relative to the base offset
+ * (3 floats, or zeros for rays)</li>
+ * <li>offset 44: penetration axis (3 floats, or zeros for rays)</li>
+ * <li>offset 56: flags (int, see {@code backFaceFlag})</li>
+ * </ul>
+ *
+ * @author Stephen Gold sgold@sonic.net
+ */
+public class HitBuffer implements Iterable<HitView> {
+    // *************************************************************************
+    // constants
+
+    /**
+     * byte offset of the penetration axis within each record
+     */
+    final public static int axisOffset = 44;
+    /**
+     * flag bit set if a shape cast hit a back face
+     */
+    final public static int backFaceFlag = 0x1;
+    /**
+     * byte offset of the body ID within each record
+     */
+    final public static int bodyIdOffset = 0;
+    /**
+     * byte offset of the penetration depth within each record
+     */
+    final public static int depthOffset = 16;
+    /**
+     * byte offset of the flags within each record
+     */
+    final public static int flagsOffset = 56;
+    /**
+     * byte offset of the fraction within each record
+     */
+    final public static int fractionOffset = 12;
+    /**
+     * byte offset of the contact point on the query shape within each record
+     */
+    final public static int point1Offset = 20;
+    /**
+     * byte offset of the contact point on the body hit within each record
+     */
+    final public static int point2Offset = 32;
+    /**
+     * size of each record (in bytes)
+     */
+    final public static int recordBytes = 64;
+    /**
+     * byte offset of the query shape's sub-shape ID within each record
+     */
+    final public static int subShape1Offset = 4;
+    /**
+     * byte offset of the hit body's sub-shape ID within each record
+     */
+    final public static int subShape2Offset = 8;
+    // *************************************************************************
+    // fields
+
+    /**
+     * number of valid records
+     */
+    private int numHits;
+    /**
+     * records of the hits
+     */
+    private ByteBuffer records;
+    /**
+     * flyweight returned by the iterator
+     */
+    final private HitView view = new HitView(this);
+    // *************************************************************************
+    // constructors
+
+    /**
+     * Instantiate an empty buffer with room for 16 hits.
+     */
+    public HitBuffer() {
+        this(16);
+    }
+
+    /**
+     * Instantiate an empty buffer with the specified initial capacity.
+     *
+     * @param initialCapacity the number of hits to allocate space for (&ge;1)
+     */
+    public HitBuffer(int initialCapacity) {
+        if (initialCapacity < 1) {
+            throw new IllegalArgumentException(
+                    "initialCapacity = " + initialCapacity);
+        }
+        this.records = Jolt.newDirectByteBuffer(initialCapacity * recordBytes);
+    }
+    // *************************************************************************
+    // new methods exposed
+
+    /**
+     * Return the number of hits the buffer can hold without reallocating.
+     *
+     * @return the count (&ge;1)
+     */
+    public int capacity() {
+        int result = records.capacity() / recordBytes;
+        return result;
+    }
+
+    /**
+     * Return the number of hits in the buffer.
+     *
+     * @return the count (&ge;0)
+     */
+    public int count() {
+        return numHits;
+    }
+
+    /**
+     * Return the ID of the body in the indexed hit.
+     *
+     * @param hitIndex the index of the hit (&ge;0, &lt;count)
+     * @return the body ID
+     */
+    public int getBodyId(int hitIndex) {
+        int result = records.getInt(hitIndex * recordBytes + bodyIdOffset);
+        return result;
+    }
+
+    /**
+     * Access the underlying records. The buffer might be replaced when the
+     * hits are next copied. Its position and limit are not meaningful: use
+     * absolute gets with the offsets defined in this class.
+     *
+     * @return the pre-existing direct buffer (in native byte order, not null)
+     */
+    public ByteBuffer getBuffer() {
+        return records;
+    }
+
+    /**
+     * Copy the contact point on the query shape of the indexed hit.
+     *
+     * @param hitIndex the index of the hit (&ge;0, &lt;count)
+     * @param storeResult storage for the location (relative to the base
+     * offset, not null, modified)
+     */
+    public void getContactPointOn1(int hitIndex, Vec3 storeResult) {
+        getVector(hitIndex, point1Offset, storeResult);
+    }
+
+    /**
+     * Copy the contact point on the body of the indexed hit.
+     *
+     * @param hitIndex the index of the hit (&ge;0, &lt;count)
+     * @param storeResult storage for the location (relative to the base
+     * offset, not null, modified)
+     */
+    public void getContactPointOn2(int hitIndex, Vec3 storeResult) {
+        getVector(hitIndex, point2Offset, storeResult);
+    }
+
+    /**
+     * Return the fraction of the indexed hit.
+     *
+     * @param hitIndex the index of the hit (&ge;0, &lt;count)
+     * @return the fraction along the ray or cast
+     */
+    public float getFraction(int hitIndex) {
+        float result
+                = records.getFloat(hitIndex * recordBytes + fractionOffset);
+        return result;
+    }
+
+    /**
+     * Copy the penetration axis of the indexed hit.
+     *
+     * @param hitIndex the index of the hit (&ge;0, &lt;count)
+     * @param storeResult storage for the axis (not null, modified)
+     */
+    public void getPenetrationAxis(int hitIndex, Vec3 storeResult) {
+        getVector(hitIndex, axisOffset, storeResult);
+    }
+
+    /**
+     * Return the penetration depth of the indexed hit.
+     *
+     * @param hitIndex the index of the hit (&ge;0, &lt;count)
+     * @return the depth
+     */
+    public float getPenetrationDepth(int hitIndex) {
+        float result = records.getFloat(hitIndex * recordBytes + depthOffset);
+        return result;
+    }
+
+    /**
+     * Return the query shape's sub-shape ID of the indexed hit.
+     *
+     * @param hitIndex the index of the hit (&ge;0, &lt;count)
+     * @return the sub-shape ID
+     */
+    public int getSubShapeId1(int hitIndex) {
+        int result = records.getInt(hitIndex * recordBytes + subShape1Offset);
+        return result;
+    }
+
+    /**
+     * Return the hit body's sub-shape ID of the indexed hit.
+     *
+     * @param hitIndex the index of the hit (&ge;0, &lt;count)
+     * @return the sub-shape ID
+     */
+    public int getSubShapeId2(int hitIndex) {
+        int result = records.getInt(hitIndex * recordBytes + subShape2Offset);
+        return result;
+    }
+
+    /**
+     * Test whether the indexed hit was on a back face.
+     *
+     * @param hitIndex the index of the hit (&ge;0, &lt;count)
+     * @return {@code true} if a back face, otherwise {@code false}
+     */
+    public boolean isBackFaceHit(int hitIndex) {
+        int flags = records.getInt(hitIndex * recordBytes + flagsOffset);
+        boolean result = (flags & backFaceFlag) != 0;
+
+        return result;
+    }
+    // *************************************************************************
+    // new protected methods
+
+    /**
+     * Prepare to receive the specified number of hits, growing the buffer if
+     * necessary.
+     *
+     * @param numHits the number of hits (&ge;0)
+     * @return the direct buffer to fill (not null)
+     */
+    ByteBuffer prepare(int numHits) {
+        int capacity = capacity();
+        if (numHits > capacity) {
+            int newCapacity = Math.max(numHits, 2 * capacity);
+            this.records = Jolt.newDirectByteBuffer(newCapacity * recordBytes);
+        }
+        this.numHits = numHits;
+
+        return records;
+    }
+    // *************************************************************************
+    // Iterable methods
+
+    /**
+     * Iterate over the hits. The iterator returns the same {@code HitView}
+     * each time, positioned at the next hit, so only one iteration should be
+     * in progress at a time.
+     *
+     * @return a new iterator
+     */
+    @Override
+    public Iterator<HitView> iterator() {
+        return new Iterator<HitView>() {
+            private int nextIndex = 0;
+
+            @Override
+            public boolean hasNext() {
+                return nextIndex < numHits;
+            }
+
+            @Override
+            public HitView next() {
+                if (nextIndex >= numHits) {
+                    throw new NoSuchElementException();
+                }
+                view.setIndex(nextIndex);
+                ++nextIndex;
+
+                return view;
+            }
+        };
+    }
+    // *************************************************************************
+    // private methods
+
+    /**
+     * Copy a vector from the indexed record.
+     *
+     * @param hitIndex the index of the hit (&ge;0, &lt;count)
+     * @param offset the byte offset of the vector within the record
+     * @param storeResult storage for the vector (not null, modified)
+     */
+    private void getVector(int hitIndex, int offset, Vec3 storeResult) {
+        int start = hitIndex * recordBytes + offset;
+        float x = records.getFloat(start);
+        float y = records.getFloat(start + 4);
+        float z = records.getFloat(start + 8);
+        storeResult.set(x, y, z);
+    }
+}
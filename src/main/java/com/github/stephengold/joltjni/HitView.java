@@ -0,0 +1,164 @@
+/*
+Copyright (c) 2026 Stephen Gold
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+ */
+package com.github.stephengold.joltjni;
+
+/**
+ * A reusable view of a single hit in a {@code HitBuffer}, as returned by its
+ * iterator.
+ *
+ * @author Stephen Gold sgold@sonic.net
+ */
+final public class HitView {
+    // *************************************************************************
+    // fields
+
+    /**
+     * buffer containing the hit
+     */
+    final private HitBuffer buffer;
+    /**
+     * index of the hit in the buffer
+     */
+    private int index;
+    // *************************************************************************
+    // constructors
+
+    /**
+     * Instantiate a view of the specified buffer.
+     *
+     * @param buffer the buffer to view (not null, alias created)
+     */
+    HitView(HitBuffer buffer) {
+        this.buffer = buffer;
+    }
+    // *************************************************************************
+    // new methods exposed
+
+    /**
+     * Return the ID of the body hit.
+     *
+     * @return the body ID
+     */
+    public int getBodyId() {
+        int result = buffer.getBodyId(index);
+        return result;
+    }
+
+    /**
+     * Copy the contact point on the query shape.
+     *
+     * @param storeResult storage for the location (relative to the base
+     * offset, not null, modified)
+     */
+    public void getContactPointOn1(Vec3 storeResult) {
+        buffer.getContactPointOn1(index, storeResult);
+    }
+
+    /**
+     * Copy the contact point on the body hit.
+     *
+     * @param storeResult storage for the location (relative to the base
+     * offset, not null, modified)
+     */
+    public void getContactPointOn2(Vec3 storeResult) {
+        buffer.getContactPointOn2(index, storeResult);
+    }
+
+    /**
+     * Return the fraction along the ray or cast.
+     *
+     * @return the fraction
+     */
+    public float getFraction() {
+        float result = buffer.getFraction(index);
+        return result;
+    }
+
+    /**
+     * Return the index of the hit in the buffer.
+     *
+     * @return the index (&ge;0)
+     */
+    public int getIndex() {
+        return index;
+    }
+
+    /**
+     * Copy the penetration axis.
+     *
+     * @param storeResult storage for the axis (not null, modified)
+     */
+    public void getPenetrationAxis(Vec3 storeResult) {
+        buffer.getPenetrationAxis(index, storeResult);
+    }
+
+    /**
+     * Return the penetration depth.
+     *
+     * @return the depth
+     */
+    public float getPenetrationDepth() {
+        float result = buffer.getPenetrationDepth(index);
+        return result;
+    }
+
+    /**
+     * Return the query shape's sub-shape ID.
+     *
+     * @return the sub-shape ID
+     */
+    public int getSubShapeId1() {
+        int result = buffer.getSubShapeId1(index);
+        return result;
+    }
+
+    /**
+     * Return the hit body's sub-shape ID.
+     *
+     * @return the sub-shape ID
+     */
+    public int getSubShapeId2() {
+        int result = buffer.getSubShapeId2(index);
+        return result;
+    }
+
+    /**
+     * Test whether the hit was on a back face.
+     *
+     * @return {@code true} if a back face, otherwise {@code false}
+     */
+    public boolean isBackFaceHit() {
+        boolean result = buffer.isBackFaceHit(index);
+        return result;
+    }
+    // *************************************************************************
+    // new protected methods
+
+    /**
+     * Reposition the view.
+     *
+     * @param index the index of the desired hit (&ge;0)
+     */
+    void setIndex(int index) {
+        this.index = index;
+    }
+}
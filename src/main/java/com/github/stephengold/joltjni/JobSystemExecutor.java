@@ -0,0 +1,127 @@
+/*
+Copyright (c) 2026 Stephen Gold
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+ */
+package com.github.stephengold.joltjni;
+
+import java.util.concurrent.Executor;
+
+/**
+ * A {@code JobSystem} that runs its jobs on a caller-supplied
+ * {@code Executor}, such as a {@code ForkJoinPool} or a pool of platform
+ * threads, instead of on native worker threads. This lets the simulation
+ * share a scheduler with the rest of the application.
+ * <p>
+ * Each job that becomes runnable is submitted to the executor as a separate
+ * task. If the executor rejects a task or throws anything else (including an
+ * {@code Error}), the job runs on the thread that queued it instead, and the
+ * throwable is discarded.
+ * The thread waiting on a barrier (for instance, the one invoking
+ * {@code PhysicsSystem.update()}) also executes jobs, so progress doesn't
+ * depend on the executor having an idle thread.
+ * <p>
+ * The native object retains a JNI global reference to this object, so it
+ * won't be reclaimed by the {@code Cleaner}: invoke {@code close()} once the
+ * job system is no longer in use.
+ *
+ * @author Stephen Gold sgold@sonic.net
+ */
+public class JobSystemExecutor extends JobSystemWithBarrier {
+    // *************************************************************************
+    // fields
+
+    /**
+     * executor to run the jobs
+     */
+    final private Executor executor;
+    // *************************************************************************
+    // constructors
+
+    /**
+     * Instantiate a job system with the specified limits.
+     *
+     * @param maxJobs the maximum number of jobs the system can allocate (a
+     * power of 2, &gt;1)
+     * @param maxBarriers the maximum number of barriers the system can allocate
+     * @param executor the executor to run the jobs (not null, alias created)
+     * @param maxConcurrency the maximum number of jobs the executor can run
+     * concurrently, plus one for the waiting thread (&ge;1)
+     *
+     * @see com.github.stephengold.joltjni.Jolt#cMaxPhysicsBarriers
+     * @see com.github.stephengold.joltjni.Jolt#cMaxPhysicsJobs
+     */
+    public JobSystemExecutor(int maxJobs, int maxBarriers, Executor executor,
+            int maxConcurrency) {
+        assert maxJobs > 1 && ((maxJobs & (maxJobs - 1)) == 0x0) :
+                "maxJobs = " + maxJobs;
+        if (executor == null) {
+            throw new IllegalArgumentException("executor must not be null");
+        }
+        if (maxConcurrency < 1) {
+            throw new IllegalArgumentException(
+                    "maxConcurrency = " + maxConcurrency);
+        }
+        this.executor = executor;
+
+        long systemVa = createJobSystem(maxJobs, maxBarriers, maxConcurrency);
+        setVirtualAddress(systemVa, () -> free(systemVa));
+    }
+    // *************************************************************************
+    // new methods exposed
+
+    /**
+     * Access the executor that runs the jobs.
+     *
+     * @return the pre-existing instance (not null)
+     */
+    public Executor getExecutor() {
+        return executor;
+    }
+    // *************************************************************************
+    // private methods
+
+    /**
+     * Callback invoked (by native code) each time a job becomes runnable.
+     *
+     * @param jobVa the virtual address of the native job (not zero)
+     */
+    private void queueJob(long jobVa) {
+        try {
+            executor.execute(() -> executeJob(jobVa));
+        } catch (Throwable throwable) {
+            /*
+             * The executor didn't accept the job. Don't let the throwable
+             * propagate into native code, which would invoke further JNI
+             * methods with it pending. Instead, run the job here so its
+             * barrier can't wait forever.
+             */
+            executeJob(jobVa);
+        }
+    }
+    // *************************************************************************
+    // native private methods
+
+    native private long createJobSystem(
+            int maxJobs, int maxBarriers, int maxConcurrency);
+
+    native private static void executeJob(long jobVa);
+
+    native private static void free(long systemVa);
+}
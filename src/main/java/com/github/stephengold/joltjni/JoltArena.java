@@ -0,0 +1,214 @@
+/*
+Copyright (c) 2026 Stephen Gold
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+ */
+package com.github.stephengold.joltjni;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A scope that takes ownership of the native objects created on its thread
+ * while it's open, and frees them in bulk (in reverse order of creation) when
+ * it's reset or closed. Objects adopted by an arena are never registered with
+ * the {@code Cleaner}, which avoids a phantom reference and cleaning action
+ * per object.
+ * <p>
+ * Typical usage, for short-lived temporaries such as {@code RayCastResult}:
+ * <pre>{@code
+ * try (JoltArena arena = JoltArena.open()) {
+ *     RayCastResult hit = new RayCastResult();
+ *     ...
+ * } // hit's native object is freed here
+ * }</pre>
+ * An arena can also be kept open and reused, invoking {@code freeAll()} once
+ * per frame. Arenas on the same thread nest: only the innermost open arena
+ * adopts new objects. Objects that must outlive the arena should be created
+ * outside it.
+ *
+ * @author Stephen Gold sgold@sonic.net
+ */
+final public class JoltArena implements AutoCloseable {
+    // *************************************************************************
+    // fields
+
+    /**
+     * innermost open arena of each thread
+     */
+    final private static ThreadLocal<JoltArena> current = new ThreadLocal<>();
+    /**
+     * true until the arena is closed
+     */
+    private boolean isOpen = true;
+    /**
+     * number of adopted objects
+     */
+    private int numObjects;
+    /**
+     * number of open arenas on all threads, to skip the thread-local lookup
+     * when none are open
+     */
+    final private static AtomicInteger numOpen = new AtomicInteger();
+    /**
+     * adopted objects, in order of creation (reused after each reset)
+     */
+    private JoltPhysicsObject[] objects = new JoltPhysicsObject[64];
+    /**
+     * arena that was current on this thread when this one was opened, or
+     * {@code null} if none
+     */
+    final private JoltArena outer;
+    /**
+     * thread that opened the arena
+     */
+    final private Thread thread;
+    // *************************************************************************
+    // constructors
+
+    /**
+     * Instantiate an arena for the current thread.
+     *
+     * @param outer the previously current arena, or {@code null} if none
+     */
+    private JoltArena(JoltArena outer) {
+        this.outer = outer;
+        this.thread = Thread.currentThread();
+    }
+    // *************************************************************************
+    // new methods exposed
+
+    /**
+     * Return the number of objects currently owned by the arena.
+     *
+     * @return the count (&ge;0)
+     */
+    public int countObjects() {
+        return numObjects;
+    }
+
+    /**
+     * Free all objects owned by the arena, in reverse order of creation, but
+     * leave the arena open for reuse.
+     */
+    public void freeAll() {
+        checkThread();
+        for (int i = numObjects - 1; i >= 0; --i) {
+            JoltPhysicsObject object = objects[i];
+            objects[i] = null;
+            object.close();
+        }
+        this.numObjects = 0;
+    }
+
+    /**
+     * Test whether the arena is open.
+     *
+     * @return {@code true} if open, otherwise {@code false}
+     */
+    public boolean isOpen() {
+        return isOpen;
+    }
+
+    /**
+     * Open a new arena and make it current for the calling thread.
+     *
+     * @return a new arena
+     */
+    public static JoltArena open() {
+        JoltArena result = new JoltArena(current.get());
+        current.set(result);
+        numOpen.incrementAndGet();
+
+        return result;
+    }
+    // *************************************************************************
+    // new protected methods
+
+    /**
+     * Take ownership of the specified object.
+     *
+     * @param object the object to adopt (not null, owns its native object)
+     */
+    void adopt(JoltPhysicsObject object) {
+        if (numObjects == objects.length) {
+            this.objects = Arrays.copyOf(objects, 2 * numObjects);
+        }
+        objects[numObjects] = object;
+        ++numObjects;
+    }
+
+    /**
+     * Return the innermost open arena of the current thread.
+     *
+     * @return the pre-existing instance, or {@code null} if none
+     */
+    static JoltArena current() {
+        if (numOpen.get() == 0) {
+            return null;
+        }
+        JoltArena result = current.get();
+
+        return result;
+    }
+    // *************************************************************************
+    // AutoCloseable methods
+
+    /**
+     * Free all objects owned by the arena and close it, restoring the
+     * previously current arena (if any). Invoking close() on a closed arena
+     * has no effect.
+     *
+     * @throws IllegalStateException if invoked on the wrong thread or if a
+     * nested arena is still open
+     */
+    @Override
+    public void close() {
+        if (!isOpen) {
+            return;
+        }
+        checkThread();
+        if (current.get() != this) {
+            throw new IllegalStateException("a nested arena is still open");
+        }
+
+        freeAll();
+        this.isOpen = false;
+        if (outer == null) {
+            current.remove();
+        } else {
+            current.set(outer);
+        }
+        numOpen.decrementAndGet();
+    }
+    // *************************************************************************
+    // private methods
+
+    /**
+     * Verify that the current thread opened the arena.
+     *
+     * @throws IllegalStateException if invoked on another thread
+     */
+    private void checkThread() {
+        if (Thread.currentThread() != thread) {
+            throw new IllegalStateException(
+                    "arena belongs to thread " + thread.getName());
+        }
+    }
+}
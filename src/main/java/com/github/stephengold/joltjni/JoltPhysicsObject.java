@@ -98,6 +98,10 @@ abstract public class JoltPhysicsObject
      * none
      */
     private static Cleaner cleaner;
+    /**
+     * number of objects registered with the cleaner
+     */
+    final private static AtomicLong numRegistered = new AtomicLong();
     /**
      * containing object or a counted reference thereto (to prevent premature
      * garbage collection), or {@code null} if none
@@ -147,6 +151,17 @@ abstract public class JoltPhysicsObject
     // *************************************************************************
     // new methods exposed
 
+    /**
+     * Count the objects registered with the cleaner so far. Objects adopted
+     * by a {@code JoltArena} aren't registered.
+     *
+     * @return the count (&ge;0)
+     */
+    public static long countCleanerRegistrations() {
+        long result = numRegistered.get();
+        return result;
+    }
+
     /**
      * Test whether a daemon thread to invoke freeing actions has been started.
      *
@@ -230,10 +245,15 @@ abstract public class JoltPhysicsObject
 
             this.freeingActionRef.set(action);
 
-            if (cleaner != null) {
+            JoltArena arena = JoltArena.current();
+            if (arena != null) {
+                // The arena will free the object, so bypass the cleaner.
+                arena.adopt(this);
+            } else if (cleaner != null) {
                 // Register the object with the cleaner.
                 cleaner.register(this, new CleanerRunnable(
                         this.freeingActionRef, this.virtualAddress));
+                numRegistered.incrementAndGet();
             }
         }
     }
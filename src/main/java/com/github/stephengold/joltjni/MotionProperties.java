@@ -275,13 +275,25 @@ public class MotionProperties
      */
     @Override
     public Vec3 getAccumulatedForce() {
+        Vec3 result = new Vec3();
+        getAccumulatedForce(result);
+
+        return result;
+    }
+
+    /**
+     * Copy the net force acting on the body. The properties are unaffected.
+     *
+     * @param storeForce storage for the result (Newtons in system coordinates,
+     * not null, modified)
+     */
+    @Override
+    public void getAccumulatedForce(Vec3 storeForce) {
         long propertiesVa = va();
         float x = getAccumulatedForceX(propertiesVa);
         float y = getAccumulatedForceY(propertiesVa);
         float z = getAccumulatedForceZ(propertiesVa);
-        Vec3 result = new Vec3(x, y, z);
-
-        return result;
+        storeForce.set(x, y, z);
     }
 
     /**
@@ -291,13 +303,25 @@ public class MotionProperties
      */
     @Override
     public Vec3 getAccumulatedTorque() {
+        Vec3 result = new Vec3();
+        getAccumulatedTorque(result);
+
+        return result;
+    }
+
+    /**
+     * Copy the net torque acting on the body. The properties are unaffected.
+     *
+     * @param storeTorque storage for the result (Newton.meters in system
+     * coordinates, not null, modified)
+     */
+    @Override
+    public void getAccumulatedTorque(Vec3 storeTorque) {
         long propertiesVa = va();
         float x = getAccumulatedTorqueX(propertiesVa);
         float y = getAccumulatedTorqueY(propertiesVa);
         float z = getAccumulatedTorqueZ(propertiesVa);
-        Vec3 result = new Vec3(x, y, z);
-
-        return result;
+        storeTorque.set(x, y, z);
     }
 
     /**
@@ -372,13 +396,25 @@ public class MotionProperties
      */
     @Override
     public Vec3 getAngularVelocity() {
+        Vec3 result = new Vec3();
+        getAngularVelocity(result);
+
+        return result;
+    }
+
+    /**
+     * Copy the angular velocity. The properties are unaffected.
+     *
+     * @param storeVelocity storage for the result (radians per second in
+     * system coordinates, not null, modified)
+     */
+    @Override
+    public void getAngularVelocity(Vec3 storeVelocity) {
         long propertiesVa = va();
         float wx = getAngularVelocityX(propertiesVa);
         float wy = getAngularVelocityY(propertiesVa);
         float wz = getAngularVelocityZ(propertiesVa);
-        Vec3 result = new Vec3(wx, wy, wz);
-
-        return result;
+        storeVelocity.set(wx, wy, wz);
     }
 
     /**
@@ -402,14 +438,26 @@ public class MotionProperties
      */
     @Override
     public Quat getInertiaRotation() {
+        Quat result = new Quat();
+        getInertiaRotation(result);
+
+        return result;
+    }
+
+    /**
+     * Copy the rotation that takes the inverse-inertia diagonal to local
+     * coordinates. The properties are unaffected.
+     *
+     * @param storeRotation storage for the result (not null, modified)
+     */
+    @Override
+    public void getInertiaRotation(Quat storeRotation) {
         long propertiesVa = va();
         float qw = getInertiaRotationW(propertiesVa);
         float qx = getInertiaRotationX(propertiesVa);
         float qy = getInertiaRotationY(propertiesVa);
         float qz = getInertiaRotationZ(propertiesVa);
-        Quat result = new Quat(qx, qy, qz, qw);
-
-        return result;
+        storeRotation.set(qx, qy, qz, qw);
     }
 
     /**
@@ -420,13 +468,26 @@ public class MotionProperties
      */
     @Override
     public Vec3 getInverseInertiaDiagonal() {
+        Vec3 result = new Vec3();
+        getInverseInertiaDiagonal(result);
+
+        return result;
+    }
+
+    /**
+     * Copy the diagonal components of the inverse inertia matrix, assuming a
+     * dynamic body. The properties are unaffected.
+     *
+     * @param storeDiagonal storage for the result (all components &ge;0, not
+     * null, modified)
+     */
+    @Override
+    public void getInverseInertiaDiagonal(Vec3 storeDiagonal) {
         long propertiesVa = va();
         float dx = getInverseInertiaXX(propertiesVa);
         float dy = getInverseInertiaYY(propertiesVa);
         float dz = getInverseInertiaZZ(propertiesVa);
-        Vec3 result = new Vec3(dx, dy, dz);
-
-        return result;
+        storeDiagonal.set(dx, dy, dz);
     }
 
     /**
@@ -475,13 +536,25 @@ public class MotionProperties
      */
     @Override
     public Vec3 getLinearVelocity() {
+        Vec3 result = new Vec3();
+        getLinearVelocity(result);
+
+        return result;
+    }
+
+    /**
+     * Copy the linear velocity. The properties are unaffected.
+     *
+     * @param storeVelocity storage for the result (meters per second in system
+     * coordinates, not null, modified)
+     */
+    @Override
+    public void getLinearVelocity(Vec3 storeVelocity) {
         long propertiesVa = va();
         float vx = getLinearVelocityX(propertiesVa);
         float vy = getLinearVelocityY(propertiesVa);
         float vz = getLinearVelocityZ(propertiesVa);
-        Vec3 result = new Vec3(vx, vy, vz);
-
-        return result;
+        storeVelocity.set(vx, vy, vz);
     }
 
     /**
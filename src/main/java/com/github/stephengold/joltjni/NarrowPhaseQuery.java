@@ -27,6 +27,10 @@ import com.github.stephengold.joltjni.readonly.ConstShape;
 import com.github.stephengold.joltjni.readonly.RMat44Arg;
 import com.github.stephengold.joltjni.readonly.RVec3Arg;
 import com.github.stephengold.joltjni.readonly.Vec3Arg;
+import java.nio.Buffer;
+import java.nio.DoubleBuffer;
+import java.nio.FloatBuffer;
+import java.nio.IntBuffer;
 
 /**
  * Interface for precise collision detection against the bodies in a
@@ -244,6 +248,100 @@ public class NarrowPhaseQuery
                 olFilterVa, bodyFilterVa, shapeFilterVa);
     }
 
+    /**
+     * Cast multiple rays and obtain the nearest hit (if any) for each ray,
+     * using flat buffers instead of per-ray objects. For ray {@code i}, the
+     * origin and direction are read starting at index {@code 3*i}, and the
+     * results are written to index {@code i}. Buffer positions and limits are
+     * ignored. When a job system is specified, the rays are divided into
+     * batches that execute concurrently on its worker threads.
+     *
+     * @param numRays the number of rays to cast (&ge;0)
+     * @param origins the ray origins (direct {@code DoubleBuffer} or
+     * {@code FloatBuffer}, in system coordinates, not null, unaffected)
+     * @param directions the ray offsets (each with length equal to the ray
+     * length, direct, not null, unaffected)
+     * @param storeBodyIds storage for the ID of each body hit, or
+     * {@code cInvalidBodyId} for a miss (direct) or {@code null}
+     * @param storeSubShapeIds storage for the sub-shape ID of each hit
+     * (direct) or {@code null}
+     * @param storeFractions storage for the hit fraction of each ray, or a
+     * value &gt;1 for a miss (direct) or {@code null}
+     * @param jobSystem the job system to use, or {@code null} to cast all rays
+     * on the current thread
+     * @return the number of rays that hit (&ge;0, &le;numRays)
+     */
+    @Override
+    public int castRays(int numRays, Buffer origins, FloatBuffer directions,
+            IntBuffer storeBodyIds, IntBuffer storeSubShapeIds,
+            FloatBuffer storeFractions, JobSystem jobSystem) {
+        int result = castRays(numRays, origins, directions, storeBodyIds,
+                storeSubShapeIds, storeFractions, new BroadPhaseLayerFilter(),
+                new ObjectLayerFilter(), new BodyFilter(), jobSystem);
+        return result;
+    }
+
+    /**
+     * Cast multiple rays and obtain the nearest hit (if any) for each ray,
+     * using flat buffers instead of per-ray objects. For ray {@code i}, the
+     * origin and direction are read starting at index {@code 3*i}, and the
+     * results are written to index {@code i}. Buffer positions and limits are
+     * ignored. When a job system is specified, the rays are divided into
+     * batches that execute concurrently on its worker threads.
+     *
+     * @param numRays the number of rays to cast (&ge;0)
+     * @param origins the ray origins (direct {@code DoubleBuffer} or
+     * {@code FloatBuffer}, in system coordinates, not null, unaffected)
+     * @param directions the ray offsets (each with length equal to the ray
+     * length, direct, not null, unaffected)
+     * @param storeBodyIds storage for the ID of each body hit, or
+     * {@code cInvalidBodyId} for a miss (direct) or {@code null}
+     * @param storeSubShapeIds storage for the sub-shape ID of each hit
+     * (direct) or {@code null}
+     * @param storeFractions storage for the hit fraction of each ray, or a
+     * value &gt;1 for a miss (direct) or {@code null}
+     * @param bplFilter the broadphase-layer filter to apply (not null,
+     * unaffected)
+     * @param olFilter the object-layer filter to apply (not null, unaffected)
+     * @param bodyFilter the body filter to apply (not null, unaffected)
+     * @param jobSystem the job system to use, or {@code null} to cast all rays
+     * on the current thread
+     * @return the number of rays that hit (&ge;0, &le;numRays)
+     */
+    @Override
+    public int castRays(int numRays, Buffer origins, FloatBuffer directions,
+            IntBuffer storeBodyIds, IntBuffer storeSubShapeIds,
+            FloatBuffer storeFractions, BroadPhaseLayerFilter bplFilter,
+            ObjectLayerFilter olFilter, BodyFilter bodyFilter,
+            JobSystem jobSystem) {
+        if (numRays < 0) {
+            throw new IllegalArgumentException("numRays = " + numRays);
+        }
+        if (origins == null) {
+            throw new IllegalArgumentException("origins must not be null");
+        }
+        if (directions == null) {
+            throw new IllegalArgumentException("directions must not be null");
+        }
+        BufferUtils.checkLocations(origins, 3 * numRays);
+        BufferUtils.checkDirect(directions, 3 * numRays);
+        BufferUtils.checkDirect(storeBodyIds, numRays);
+        BufferUtils.checkDirect(storeSubShapeIds, numRays);
+        BufferUtils.checkDirect(storeFractions, numRays);
+
+        long queryVa = va();
+        boolean doubles = origins instanceof DoubleBuffer;
+        long bplFilterVa = bplFilter.va();
+        long olFilterVa = olFilter.va();
+        long bodyFilterVa = bodyFilter.va();
+        long jobSystemVa = (jobSystem == null) ? 0L : jobSystem.va();
+        int result = castRays(queryVa, numRays, origins, doubles, directions,
+                storeBodyIds, storeSubShapeIds, storeFractions, bplFilterVa,
+                olFilterVa, bodyFilterVa, jobSystemVa);
+
+        return result;
+    }
+
     /**
      * Cast a shape and collect the resulting hits.
      *
@@ -361,6 +459,108 @@ public class NarrowPhaseQuery
                 shapeFilterVa);
     }
 
+    /**
+     * Cast multiple shapes and obtain the nearest hit (if any) for each cast,
+     * writing the results to flat buffers. Results for cast {@code i} are
+     * written to index {@code i} (or {@code 3*i} for normals). Buffer
+     * positions and limits are ignored. When a job system is specified, the
+     * casts execute concurrently on its worker threads.
+     *
+     * @param shapeCasts the desired shape casts (not null, no null elements,
+     * unaffected)
+     * @param settings the shape-cast configuration options to use (not null,
+     * unaffected)
+     * @param base the base location for reporting hits (not null, unaffected,
+     * (0,0,0)&rarr;world coordinates)
+     * @param storeBodyIds storage for the ID of each body hit, or
+     * {@code cInvalidBodyId} for a miss (direct) or {@code null}
+     * @param storeSubShapeIds storage for the sub-shape ID of each hit
+     * (direct) or {@code null}
+     * @param storeFractions storage for the hit fraction of each cast, or a
+     * value &gt;1 for a miss (direct) or {@code null}
+     * @param storeNormals storage for the normalized penetration axis of each
+     * hit (direct) or {@code null}
+     * @param jobSystem the job system to use, or {@code null} to perform all
+     * casts on the current thread
+     * @return the number of casts that hit (&ge;0)
+     */
+    @Override
+    public int castShapes(RShapeCast[] shapeCasts, ShapeCastSettings settings,
+            RVec3Arg base, IntBuffer storeBodyIds, IntBuffer storeSubShapeIds,
+            FloatBuffer storeFractions, FloatBuffer storeNormals,
+            JobSystem jobSystem) {
+        int result = castShapes(shapeCasts, settings, base, storeBodyIds,
+                storeSubShapeIds, storeFractions, storeNormals,
+                new BroadPhaseLayerFilter(), new ObjectLayerFilter(),
+                new BodyFilter(), new ShapeFilter(), jobSystem);
+        return result;
+    }
+
+    /**
+     * Cast multiple shapes and obtain the nearest hit (if any) for each cast,
+     * writing the results to flat buffers. Results for cast {@code i} are
+     * written to index {@code i} (or {@code 3*i} for normals). Buffer
+     * positions and limits are ignored. When a job system is specified, the
+     * casts execute concurrently on its worker threads.
+     *
+     * @param shapeCasts the desired shape casts (not null, no null elements,
+     * unaffected)
+     * @param settings the shape-cast configuration options to use (not null,
+     * unaffected)
+     * @param base the base location for reporting hits (not null, unaffected,
+     * (0,0,0)&rarr;world coordinates)
+     * @param storeBodyIds storage for the ID of each body hit, or
+     * {@code cInvalidBodyId} for a miss (direct) or {@code null}
+     * @param storeSubShapeIds storage for the sub-shape ID of each hit
+     * (direct) or {@code null}
+     * @param storeFractions storage for the hit fraction of each cast, or a
+     * value &gt;1 for a miss (direct) or {@code null}
+     * @param storeNormals storage for the normalized penetration axis of each
+     * hit (direct) or {@code null}
+     * @param bplFilter the broadphase-layer filter to apply (not null,
+     * unaffected)
+     * @param olFilter the object-layer filter to apply (not null, unaffected)
+     * @param bodyFilter the body filter to apply (not null, unaffected)
+     * @param shapeFilter the shape filter to apply (not null, unaffected)
+     * @param jobSystem the job system to use, or {@code null} to perform all
+     * casts on the current thread
+     * @return the number of casts that hit (&ge;0)
+     */
+    @Override
+    public int castShapes(RShapeCast[] shapeCasts, ShapeCastSettings settings,
+            RVec3Arg base, IntBuffer storeBodyIds, IntBuffer storeSubShapeIds,
+            FloatBuffer storeFractions, FloatBuffer storeNormals,
+            BroadPhaseLayerFilter bplFilter, ObjectLayerFilter olFilter,
+            BodyFilter bodyFilter, ShapeFilter shapeFilter,
+            JobSystem jobSystem) {
+        int numCasts = shapeCasts.length;
+        BufferUtils.checkDirect(storeBodyIds, numCasts);
+        BufferUtils.checkDirect(storeSubShapeIds, numCasts);
+        BufferUtils.checkDirect(storeFractions, numCasts);
+        BufferUtils.checkDirect(storeNormals, 3 * numCasts);
+
+        long queryVa = va();
+        long[] castVas = new long[numCasts];
+        for (int i = 0; i < numCasts; ++i) {
+            castVas[i] = shapeCasts[i].va();
+        }
+        long settingsVa = settings.va();
+        double baseX = base.xx();
+        double baseY = base.yy();
+        double baseZ = base.zz();
+        long bplFilterVa = bplFilter.va();
+        long olFilterVa = olFilter.va();
+        long bodyFilterVa = bodyFilter.va();
+        long shapeFilterVa = shapeFilter.va();
+        long jobSystemVa = (jobSystem == null) ? 0L : jobSystem.va();
+        int result = castShapes(queryVa, castVas, settingsVa, baseX, baseY,
+                baseZ, storeBodyIds, storeSubShapeIds, storeFractions,
+                storeNormals, bplFilterVa, olFilterVa, bodyFilterVa,
+                shapeFilterVa, jobSystemVa);
+
+        return result;
+    }
+
     /**
      * Collect leaf shapes that lie within the specified bounds.
      *
@@ -673,6 +873,120 @@ public class NarrowPhaseQuery
                 baseX, baseY, baseZ, collectorVa, bplFilterVa,
                 olFilterVa, bodyFilterVa, shapeFilterVa);
     }
+
+    /**
+     * Collide multiple shapes with the bodies in the system and obtain the
+     * deepest hit (if any) for each shape, writing the results to flat
+     * buffers. Results for query {@code i} are written to index {@code i} (or
+     * {@code 3*i} for normals). Buffer positions and limits are ignored. When
+     * a job system is specified, the queries execute concurrently on its
+     * worker threads.
+     *
+     * @param shapes the shapes to test (not null, no null elements,
+     * unaffected)
+     * @param comTransforms the coordinate transform to apply to each shape's
+     * center of mass (not null, same length as {@code shapes}, unaffected)
+     * @param settings the collision settings to use (not null, unaffected)
+     * @param base the base location for reporting hits (not null, unaffected,
+     * (0,0,0)&rarr;world coordinates)
+     * @param storeBodyIds storage for the ID of each body hit, or
+     * {@code cInvalidBodyId} for a miss (direct) or {@code null}
+     * @param storeSubShapeIds storage for the sub-shape ID of each hit
+     * (direct) or {@code null}
+     * @param storeDepths storage for the penetration depth of each hit, or 0
+     * for a miss (direct) or {@code null}
+     * @param storeNormals storage for the normalized penetration axis of each
+     * hit (direct) or {@code null}
+     * @param jobSystem the job system to use, or {@code null} to perform all
+     * queries on the current thread
+     * @return the number of shapes that hit (&ge;0)
+     */
+    @Override
+    public int collideShapes(ConstShape[] shapes, RMat44Arg[] comTransforms,
+            CollideShapeSettings settings, RVec3Arg base,
+            IntBuffer storeBodyIds, IntBuffer storeSubShapeIds,
+            FloatBuffer storeDepths, FloatBuffer storeNormals,
+            JobSystem jobSystem) {
+        int result = collideShapes(shapes, comTransforms, settings, base,
+                storeBodyIds, storeSubShapeIds, storeDepths, storeNormals,
+                new BroadPhaseLayerFilter(), new ObjectLayerFilter(),
+                new BodyFilter(), new ShapeFilter(), jobSystem);
+        return result;
+    }
+
+    /**
+     * Collide multiple shapes with the bodies in the system and obtain the
+     * deepest hit (if any) for each shape, writing the results to flat
+     * buffers. Results for query {@code i} are written to index {@code i} (or
+     * {@code 3*i} for normals). Buffer positions and limits are ignored. When
+     * a job system is specified, the queries execute concurrently on its
+     * worker threads.
+     *
+     * @param shapes the shapes to test (not null, no null elements,
+     * unaffected)
+     * @param comTransforms the coordinate transform to apply to each shape's
+     * center of mass (not null, same length as {@code shapes}, unaffected)
+     * @param settings the collision settings to use (not null, unaffected)
+     * @param base the base location for reporting hits (not null, unaffected,
+     * (0,0,0)&rarr;world coordinates)
+     * @param storeBodyIds storage for the ID of each body hit, or
+     * {@code cInvalidBodyId} for a miss (direct) or {@code null}
+     * @param storeSubShapeIds storage for the sub-shape ID of each hit
+     * (direct) or {@code null}
+     * @param storeDepths storage for the penetration depth of each hit, or 0
+     * for a miss (direct) or {@code null}
+     * @param storeNormals storage for the normalized penetration axis of each
+     * hit (direct) or {@code null}
+     * @param bplFilter the broadphase-layer filter to apply (not null,
+     * unaffected)
+     * @param olFilter the object-layer filter to apply (not null, unaffected)
+     * @param bodyFilter the body filter to apply (not null, unaffected)
+     * @param shapeFilter the shape filter to apply (not null, unaffected)
+     * @param jobSystem the job system to use, or {@code null} to perform all
+     * queries on the current thread
+     * @return the number of shapes that hit (&ge;0)
+     */
+    @Override
+    public int collideShapes(ConstShape[] shapes, RMat44Arg[] comTransforms,
+            CollideShapeSettings settings, RVec3Arg base,
+            IntBuffer storeBodyIds, IntBuffer storeSubShapeIds,
+            FloatBuffer storeDepths, FloatBuffer storeNormals,
+            BroadPhaseLayerFilter bplFilter, ObjectLayerFilter olFilter,
+            BodyFilter bodyFilter, ShapeFilter shapeFilter,
+            JobSystem jobSystem) {
+        int numShapes = shapes.length;
+        if (comTransforms.length != numShapes) {
+            throw new IllegalArgumentException(
+                    "comTransforms.length = " + comTransforms.length);
+        }
+        BufferUtils.checkDirect(storeBodyIds, numShapes);
+        BufferUtils.checkDirect(storeSubShapeIds, numShapes);
+        BufferUtils.checkDirect(storeDepths, numShapes);
+        BufferUtils.checkDirect(storeNormals, 3 * numShapes);
+
+        long queryVa = va();
+        long[] shapeVas = new long[numShapes];
+        long[] transformVas = new long[numShapes];
+        for (int i = 0; i < numShapes; ++i) {
+            shapeVas[i] = shapes[i].targetVa();
+            transformVas[i] = comTransforms[i].targetVa();
+        }
+        long settingsVa = settings.va();
+        double baseX = base.xx();
+        double baseY = base.yy();
+        double baseZ = base.zz();
+        long bplFilterVa = bplFilter.va();
+        long olFilterVa = olFilter.va();
+        long bodyFilterVa = bodyFilter.va();
+        long shapeFilterVa = shapeFilter.va();
+        long jobSystemVa = (jobSystem == null) ? 0L : jobSystem.va();
+        int result = collideShapes(queryVa, shapeVas, transformVas,
+                settingsVa, baseX, baseY, baseZ, storeBodyIds,
+                storeSubShapeIds, storeDepths, storeNormals, bplFilterVa,
+                olFilterVa, bodyFilterVa, shapeFilterVa, jobSystemVa);
+
+        return result;
+    }
     // *************************************************************************
     // native private methods
 
@@ -684,11 +998,24 @@ public class NarrowPhaseQuery
             long settingsVa, long collectorVa, long bplFilterVa,
             long olFilterVa, long bodyFilterVa, long shapeFilterVa);
 
+    native private static int castRays(long queryVa, int numRays,
+            Buffer origins, boolean originsAreDoubles, FloatBuffer directions,
+            IntBuffer storeBodyIds, IntBuffer storeSubShapeIds,
+            FloatBuffer storeFractions, long bplFilterVa, long olFilterVa,
+            long bodyFilterVa, long jobSystemVa);
+
     native private static void castShape(long queryVa, long shapeCastVa,
             long settingsVa, double baseX, double baseY, double baseZ,
             long collectorVa, long bplFilterVa, long olFilterVa,
             long bodyFilterVa, long shapeFilterVa);
 
+    native private static int castShapes(long queryVa, long[] castVas,
+            long settingsVa, double baseX, double baseY, double baseZ,
+            IntBuffer storeBodyIds, IntBuffer storeSubShapeIds,
+            FloatBuffer storeFractions, FloatBuffer storeNormals,
+            long bplFilterVa, long olFilterVa, long bodyFilterVa,
+            long shapeFilterVa, long jobSystemVa);
+
     native private static void collectTransformedShapes(
             long queryVa, long boxVa, long collectorVa, long bplFilterVa,
             long olFilterVa, long bodyFilterVa, long shapeFilterVa);
@@ -702,4 +1029,11 @@ public class NarrowPhaseQuery
             double baseX, double baseY, double baseZ, long collectorVa,
             long bplFilterVa, long olFilterVa, long bodyFilterVa,
             long shapeFilterVa);
+
+    native private static int collideShapes(long queryVa, long[] shapeVas,
+            long[] transformVas, long settingsVa, double baseX, double baseY,
+            double baseZ, IntBuffer storeBodyIds, IntBuffer storeSubShapeIds,
+            FloatBuffer storeDepths, FloatBuffer storeNormals,
+            long bplFilterVa, long olFilterVa, long bodyFilterVa,
+            long shapeFilterVa, long jobSystemVa);
 }
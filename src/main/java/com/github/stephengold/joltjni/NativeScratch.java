@@ -0,0 +1,69 @@
+/*
+Copyright (c) 2026 Stephen Gold
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+ */
+package com.github.stephengold.joltjni;
+
+import java.nio.Buffer;
+import java.nio.DoubleBuffer;
+import java.nio.FloatBuffer;
+
+/**
+ * Per-thread scratch storage whose native addresses are resolved once, so
+ * that getters can pass results from native code to Java without looking up
+ * a buffer address on every call. For internal use of the Jolt-JNI library.
+ *
+ * @author Stephen Gold sgold@sonic.net
+ */
+final class NativeScratch {
+    // *************************************************************************
+    // fields
+
+    /**
+     * a direct buffer for double-precision results
+     */
+    final DoubleBuffer doubles = Jolt.newDirectDoubleBuffer(3);
+    /**
+     * a direct buffer for single-precision results
+     */
+    final FloatBuffer floats = Jolt.newDirectFloatBuffer(12);
+    /**
+     * native address of the first element of {@code doubles}
+     */
+    final long doublesVa;
+    /**
+     * native address of the first element of {@code floats}
+     */
+    final long floatsVa;
+    // *************************************************************************
+    // constructors
+
+    /**
+     * Instantiate scratch storage for the current thread.
+     */
+    NativeScratch() {
+        this.doublesVa = bufferAddress(doubles);
+        this.floatsVa = bufferAddress(floats);
+    }
+    // *************************************************************************
+    // native private methods
+
+    native private static long bufferAddress(Buffer buffer);
+}
@@ -36,6 +36,10 @@ import com.github.stephengold.joltjni.readonly.Vec3Arg;
 import java.nio.FloatBuffer;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
  * Perform simulation on a collection of physics objects. Bodies are added by
@@ -47,6 +51,14 @@ public class PhysicsSystem extends NonCopyable {
     // *************************************************************************
     // fields
 
+    /**
+     * snapshot to publish after each update, or {@code null} for none
+     */
+    private ActiveBodySnapshot activeSnapshot;
+    /**
+     * true while an asynchronous update is in progress
+     */
+    final private AtomicBoolean asyncUpdating = new AtomicBoolean();
     /**
      * cached reference to the system's locking {@code BodyInterface}
      */
@@ -96,6 +108,15 @@ public class PhysicsSystem extends NonCopyable {
      * protect the soft-body contact listener (if any) from garbage collection
      */
     private SoftBodyContactListener softContactListener;
+    /**
+     * soft-body vertex export to refresh after each update, or {@code null}
+     * for none
+     */
+    private SoftBodyVertexExport softVertexExport;
+    /**
+     * stats to gather during each update, or {@code null} for none
+     */
+    private PhysicsUpdateStats updateStats;
     // *************************************************************************
     // constructors
 
@@ -282,6 +303,15 @@ public class PhysicsSystem extends NonCopyable {
         getActiveBodies(systemVa, ordinal, vectorVa);
     }
 
+    /**
+     * Access the snapshot that's published after each update.
+     *
+     * @return the pre-existing instance, or {@code null} if none
+     */
+    public ActiveBodySnapshot getActiveBodySnapshot() {
+        return activeSnapshot;
+    }
+
     /**
      * Enumerate all bodies to the specified variable-length vector. The system
      * is unaffected.
@@ -605,6 +635,15 @@ public class PhysicsSystem extends NonCopyable {
         return softContactListener;
     }
 
+    /**
+     * Access the soft-body vertex export that's refreshed after each update.
+     *
+     * @return the pre-existing instance, or {@code null} if none
+     */
+    public SoftBodyVertexExport getSoftBodyVertexExport() {
+        return softVertexExport;
+    }
+
     /**
      * Initialize the system with the specified limits.
      *
@@ -640,6 +679,24 @@ public class PhysicsSystem extends NonCopyable {
         return this;
     }
 
+    /**
+     * Access the stats gathered during each update.
+     *
+     * @return the pre-existing instance, or {@code null} if none
+     */
+    public PhysicsUpdateStats getUpdateStats() {
+        return updateStats;
+    }
+
+    /**
+     * Test whether an asynchronous update is in progress.
+     *
+     * @return {@code true} if in progress, otherwise {@code false}
+     */
+    public boolean isUpdatingAsync() {
+        return asyncUpdating.get();
+    }
+
     /**
      * Improve the performance of future collision detections.
      */
@@ -743,6 +800,23 @@ public class PhysicsSystem extends NonCopyable {
         saveState(systemVa, recorderVa, bitmask, filterVa);
     }
 
+    /**
+     * Replace the snapshot to be published after each update.
+     *
+     * @param snapshot the desired snapshot (alias created) or {@code null} for
+     * none
+     */
+    public void setActiveBodySnapshot(ActiveBodySnapshot snapshot) {
+        if (snapshot != null) {
+            int maxBodies = getMaxBodies();
+            if (snapshot.getMaxBodies() < maxBodies) {
+                throw new IllegalArgumentException(
+                        "snapshot too small for " + maxBodies + " bodies");
+            }
+        }
+        this.activeSnapshot = snapshot;
+    }
+
     /**
      * Replace the system's {@code BodyActivationListener}.
      *
@@ -866,6 +940,26 @@ public class PhysicsSystem extends NonCopyable {
         setSoftBodyContactListener(systemVa, listenerVa);
     }
 
+    /**
+     * Replace the soft-body vertex export to be refreshed after each update.
+     *
+     * @param export the desired export (alias created) or {@code null} for
+     * none
+     */
+    public void setSoftBodyVertexExport(SoftBodyVertexExport export) {
+        this.softVertexExport = export;
+    }
+
+    /**
+     * Replace the stats to be gathered during each update.
+     *
+     * @param stats the desired stats object (alias created) or {@code null}
+     * for none
+     */
+    public void setUpdateStats(PhysicsUpdateStats stats) {
+        this.updateStats = stats;
+    }
+
     /**
      * Advance the simulation by the specified amount.
      *
@@ -879,11 +973,80 @@ public class PhysicsSystem extends NonCopyable {
      */
     public int update(float deltaTime, int collisionSteps,
             TempAllocator tempAllocator, JobSystem jobSystem) {
-        long physicsSystemVa = va();
-        long allocatorVa = tempAllocator.va();
-        long jobSystemVa = jobSystem.va();
-        int result = update(physicsSystemVa, deltaTime, collisionSteps,
-                allocatorVa, jobSystemVa);
+        if (asyncUpdating.get()) {
+            throw new IllegalStateException(
+                    "an asynchronous update is in progress");
+        }
+        int result = updateNow(
+                deltaTime, collisionSteps, tempAllocator, jobSystem);
+
+        return result;
+    }
+
+    /**
+     * Begin advancing the simulation by the specified amount on a thread of
+     * the specified executor, so the caller can do other work (such as
+     * processing input for the next frame) while the step runs. The
+     * returned future completes with the same bitmask {@code update()} would
+     * return.
+     * <p>
+     * Until the future completes:
+     * <ul>
+     * <li>don't access this system's bodies, constraints, or queries through
+     * any interface, locking or not, since Jolt doesn't lock bodies while
+     * stepping;</li>
+     * <li>don't add or remove bodies, constraints, or listeners; and</li>
+     * <li>don't use the temp allocator for anything else.</li>
+     * </ul>
+     * Other systems are unaffected. A view acquired from an
+     * {@code ActiveBodySnapshot} may be read at any time, since the step writes
+     * to the snapshot's back buffer. Any {@code update()} or
+     * {@code updateAsync()} invoked before the future completes throws an
+     * {@code IllegalStateException}. Dependent stages attached to the future
+     * may update the system again.
+     *
+     * @param deltaTime the total time to advance (in seconds)
+     * @param collisionSteps the number of simulation steps to perform
+     * @param tempAllocator the allocator to use (not {@code null})
+     * @param jobSystem the job system to use (not {@code null})
+     * @param executor the executor to run the update (not {@code null})
+     * @return a new future for the bitmask of error conditions
+     *
+     * @see com.github.stephengold.joltjni.enumerate.EPhysicsUpdateError
+     */
+    public CompletableFuture<Integer> updateAsync(float deltaTime,
+            int collisionSteps, TempAllocator tempAllocator,
+            JobSystem jobSystem, Executor executor) {
+        if (tempAllocator == null) {
+            throw new IllegalArgumentException(
+                    "tempAllocator must not be null");
+        }
+        if (jobSystem == null) {
+            throw new IllegalArgumentException("jobSystem must not be null");
+        }
+        if (!asyncUpdating.compareAndSet(false, true)) {
+            throw new IllegalStateException(
+                    "an asynchronous update is in progress");
+        }
+
+        CompletableFuture<Integer> result = new CompletableFuture<>();
+        Runnable task = () -> {
+            try {
+                int errors = updateNow(
+                        deltaTime, collisionSteps, tempAllocator, jobSystem);
+                asyncUpdating.set(false);
+                result.complete(errors);
+            } catch (Throwable throwable) {
+                asyncUpdating.set(false);
+                result.completeExceptionally(throwable);
+            }
+        };
+        try {
+            executor.execute(task);
+        } catch (RejectedExecutionException exception) {
+            asyncUpdating.set(false);
+            throw exception;
+        }
 
         return result;
     }
@@ -902,6 +1065,44 @@ public class PhysicsSystem extends NonCopyable {
         setVirtualAddress(systemVa, freeingAction);
     }
     // *************************************************************************
+    // private methods
+
+    /**
+     * Advance the simulation by the specified amount on the current thread,
+     * then publish the snapshot and contact events (if any).
+     *
+     * @param deltaTime the total time to advance (in seconds)
+     * @param collisionSteps the number of simulation steps to perform
+     * @param tempAllocator the allocator to use (not {@code null})
+     * @param jobSystem the job system to use (not {@code null})
+     * @return a bitmask of error conditions, or-ed together
+     */
+    private int updateNow(float deltaTime, int collisionSteps,
+            TempAllocator tempAllocator, JobSystem jobSystem) {
+        long physicsSystemVa = va();
+        long allocatorVa = tempAllocator.va();
+        long jobSystemVa = jobSystem.va();
+        int result;
+        if (updateStats == null) {
+            result = update(physicsSystemVa, deltaTime, collisionSteps,
+                    allocatorVa, jobSystemVa);
+        } else {
+            result = updateStats.update(physicsSystemVa, deltaTime,
+                    collisionSteps, allocatorVa, jobSystemVa);
+        }
+        if (activeSnapshot != null) {
+            activeSnapshot.publish(physicsSystemVa);
+        }
+        if (softVertexExport != null) {
+            softVertexExport.publish(physicsSystemVa);
+        }
+        if (contactListener instanceof BatchedContactListener) {
+            ((BatchedContactListener) contactListener).collect();
+        }
+
+        return result;
+    }
+    // *************************************************************************
     // native private methods
 
     native private static void addConstraint(long systemVa, long constraintVa);
@@ -0,0 +1,280 @@
+/*
+Copyright (c) 2026 Stephen Gold
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+ */
+package com.github.stephengold.joltjni;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Timings and counts from the most recent {@code PhysicsSystem.update()},
+ * gathered without a profiling build. Once the stats object is installed using
+ * {@code PhysicsSystem.setUpdateStats()}, each update overwrites it in place,
+ * so reading it involves no JNI calls and no allocations.
+ * <p>
+ * Per-phase times are summed over all jobs of that phase, so with multiple
+ * worker threads they measure CPU time and may exceed the wall time of the
+ * update. Jobs are assigned to phases by name:
+ * <ul>
+ * <li>broad phase: jobs whose names contain "Broad"</li>
+ * <li>collisions: "Collision", "Collide", or "CCD"</li>
+ * <li>constraints: "Constraint" or "Island" (including the sleep test, which
+ * Jolt performs while solving position constraints)</li>
+ * <li>integration: "Integrate"</li>
+ * <li>other: everything else, such as step listeners and gravity</li>
+ * </ul>
+ * <p>
+ * Gathering stats wraps each job and each temp allocation, which adds a small
+ * cost to the update. The stats aren't synchronized: read them on the thread
+ * that invokes {@code update()} or otherwise between updates.
+ *
+ * @author Stephen Gold sgold@sonic.net
+ */
+public class PhysicsUpdateStats {
+    // *************************************************************************
+    // constants
+
+    /**
+     * slot index of the broad-phase time
+     */
+    final private static int broadPhaseSlot = 0;
+    /**
+     * slot index of the collision time
+     */
+    final private static int collisionSlot = 1;
+    /**
+     * slot index of the constraint time
+     */
+    final private static int constraintSlot = 2;
+    /**
+     * slot index of the integration time
+     */
+    final private static int integrationSlot = 3;
+    /**
+     * slot index of the time spent in other jobs
+     */
+    final private static int otherSlot = 4;
+    /**
+     * slot index of the wall time of the update
+     */
+    final private static int updateSlot = 5;
+    /**
+     * slot index of the number of jobs created
+     */
+    final private static int numJobsSlot = 6;
+    /**
+     * slot index of the temp-allocator high-water mark
+     */
+    final private static int tempPeakSlot = 7;
+    /**
+     * slot index of the number of active rigid bodies
+     */
+    final private static int activeRigidSlot = 8;
+    /**
+     * slot index of the number of active soft bodies
+     */
+    final private static int activeSoftSlot = 9;
+    /**
+     * slot index of the number of bodies
+     */
+    final private static int numBodiesSlot = 10;
+    /**
+     * number of 8-byte slots in the buffer
+     */
+    final private static int numSlots = 11;
+    // *************************************************************************
+    // fields
+
+    /**
+     * slots written by native code, in native byte order
+     */
+    final private ByteBuffer slots;
+    /**
+     * number of updates measured so far
+     */
+    private long numUpdates;
+    // *************************************************************************
+    // constructors
+
+    /**
+     * Instantiate an empty stats object.
+     */
+    public PhysicsUpdateStats() {
+        this.slots = Jolt.newDirectByteBuffer(8 * numSlots);
+    }
+    // *************************************************************************
+    // new methods exposed
+
+    /**
+     * Return the time spent in broad-phase jobs. The stats are unaffected.
+     *
+     * @return the duration (in nanoseconds, &ge;0)
+     */
+    public long getBroadPhaseNanos() {
+        return slot(broadPhaseSlot);
+    }
+
+    /**
+     * Return the time spent in collision-detection jobs. The stats are
+     * unaffected.
+     *
+     * @return the duration (in nanoseconds, &ge;0)
+     */
+    public long getCollisionNanos() {
+        return slot(collisionSlot);
+    }
+
+    /**
+     * Return the time spent in constraint-solving jobs, including the sleep
+     * test. The stats are unaffected.
+     *
+     * @return the duration (in nanoseconds, &ge;0)
+     */
+    public long getConstraintNanos() {
+        return slot(constraintSlot);
+    }
+
+    /**
+     * Return the time spent in integration jobs. The stats are unaffected.
+     *
+     * @return the duration (in nanoseconds, &ge;0)
+     */
+    public long getIntegrationNanos() {
+        return slot(integrationSlot);
+    }
+
+    /**
+     * Return the number of active rigid bodies after the update. The stats
+     * are unaffected.
+     *
+     * @return the count (&ge;0)
+     */
+    public int getNumActiveRigidBodies() {
+        return (int) slot(activeRigidSlot);
+    }
+
+    /**
+     * Return the number of active soft bodies after the update. The stats are
+     * unaffected.
+     *
+     * @return the count (&ge;0)
+     */
+    public int getNumActiveSoftBodies() {
+        return (int) slot(activeSoftSlot);
+    }
+
+    /**
+     * Return the number of bodies in the system after the update. The stats
+     * are unaffected.
+     *
+     * @return the count (&ge;0)
+     */
+    public int getNumBodies() {
+        return (int) slot(numBodiesSlot);
+    }
+
+    /**
+     * Return the number of jobs the update created. The stats are unaffected.
+     *
+     * @return the count (&ge;0)
+     */
+    public int getNumJobs() {
+        return (int) slot(numJobsSlot);
+    }
+
+    /**
+     * Return the number of updates measured so far.
+     *
+     * @return the count (&ge;0)
+     */
+    public long getNumUpdates() {
+        return numUpdates;
+    }
+
+    /**
+     * Return the time spent in jobs not assigned to any other phase. The
+     * stats are unaffected.
+     *
+     * @return the duration (in nanoseconds, &ge;0)
+     */
+    public long getOtherNanos() {
+        return slot(otherSlot);
+    }
+
+    /**
+     * Return the maximum number of bytes allocated from the temp allocator at
+     * any time during the update. The stats are unaffected.
+     *
+     * @return the number of bytes (&ge;0)
+     */
+    public long getTempAllocatorPeak() {
+        return slot(tempPeakSlot);
+    }
+
+    /**
+     * Return the wall time of the update. The stats are unaffected.
+     *
+     * @return the duration (in nanoseconds, &ge;0)
+     */
+    public long getUpdateNanos() {
+        return slot(updateSlot);
+    }
+    // *************************************************************************
+    // new protected methods
+
+    /**
+     * Advance the specified system while gathering stats. Invoked by
+     * {@code PhysicsSystem.update()}.
+     *
+     * @param systemVa the virtual address of the native system (not zero)
+     * @param deltaTime the total time to advance (in seconds)
+     * @param collisionSteps the number of simulation steps to perform
+     * @param allocatorVa the virtual address of the temp allocator (not zero)
+     * @param jobSystemVa the virtual address of the job system (not zero)
+     * @return a bitmask of error conditions, or-ed together
+     */
+    int update(long systemVa, float deltaTime, int collisionSteps,
+            long allocatorVa, long jobSystemVa) {
+        int result = update(systemVa, deltaTime, collisionSteps, allocatorVa,
+                jobSystemVa, slots);
+        ++numUpdates;
+
+        return result;
+    }
+    // *************************************************************************
+    // private methods
+
+    /**
+     * Read the indexed slot.
+     *
+     * @param slotIndex the index of the slot (&ge;0, &lt;numSlots)
+     * @return the slot's value
+     */
+    private long slot(int slotIndex) {
+        long result = slots.getLong(8 * slotIndex);
+        return result;
+    }
+    // *************************************************************************
+    // native private methods
+
+    native private static int update(long systemVa, float deltaTime,
+            int collisionSteps, long allocatorVa, long jobSystemVa,
+            ByteBuffer storeSlots);
+}
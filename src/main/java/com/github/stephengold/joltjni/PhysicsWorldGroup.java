@@ -0,0 +1,370 @@
+/*
+Copyright (c) 2026 Stephen Gold
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+ */
+package com.github.stephengold.joltjni;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+
+/**
+ * Step many independent physics systems concurrently, sharing one job system
+ * and a pool of temp allocators (one per worker thread).
+ * <p>
+ * Each update, every world accrues the elapsed time and is scheduled for as
+ * many fixed-size steps as it owes, up to its per-update step budget. Worker
+ * threads take worlds from a shared queue and perform one step at a time: a
+ * world that owes more steps goes to the back of the queue, so no world can
+ * monopolize a worker while others wait. The queue starts at a different
+ * world each update.
+ * <p>
+ * Since several systems update at once, the job system must be able to
+ * allocate at least one barrier per worker thread. Worlds must not be
+ * modified by other threads while the group is updating.
+ * <p>
+ * Worlds can't be abandoned mid-step, so {@code update()} and {@code close()}
+ * don't return early when their thread is interrupted. Instead they finish
+ * waiting and then restore the thread's interrupt status.
+ *
+ * @author Stephen Gold sgold@sonic.net
+ */
+public class PhysicsWorldGroup implements AutoCloseable {
+    // *************************************************************************
+    // fields
+
+    /**
+     * true once the group is closed
+     */
+    private boolean isClosed;
+    /**
+     * worlds in the order they were added
+     */
+    final private List<GroupedWorld> worlds = new ArrayList<>(16);
+    /**
+     * number of worlds with steps still pending in the current update
+     */
+    private int numBusyWorlds;
+    /**
+     * index of the world to enqueue first in the next update
+     */
+    private int rotation;
+    /**
+     * shared job system
+     */
+    final private JobSystem jobSystem;
+    /**
+     * worlds awaiting their next step, or the group itself to stop a worker
+     */
+    final private BlockingQueue<Object> queue = new LinkedBlockingQueue<>();
+    /**
+     * first exception thrown by a step during the current update, or
+     * {@code null} if none
+     */
+    private RuntimeException stepFailure;
+    /**
+     * worker threads
+     */
+    final private Thread[] workers;
+    /**
+     * allocator of each worker thread
+     */
+    final private TempAllocatorImpl[] tempAllocators;
+    // *************************************************************************
+    // constructors
+
+    /**
+     * Instantiate a group with the specified number of worker threads.
+     *
+     * @param jobSystem the job system to share among the worlds (not null,
+     * alias created)
+     * @param numWorkers the number of worlds to step concurrently (&ge;1)
+     * @param tempAllocatorBytes the size of each worker's temp allocator (in
+     * bytes, &gt;0)
+     */
+    public PhysicsWorldGroup(
+            JobSystem jobSystem, int numWorkers, int tempAllocatorBytes) {
+        if (jobSystem == null) {
+            throw new IllegalArgumentException("jobSystem must not be null");
+        }
+        if (numWorkers < 1) {
+            throw new IllegalArgumentException("numWorkers = " + numWorkers);
+        }
+        if (tempAllocatorBytes <= 0) {
+            throw new IllegalArgumentException(
+                    "tempAllocatorBytes = " + tempAllocatorBytes);
+        }
+        this.jobSystem = jobSystem;
+
+        this.tempAllocators = new TempAllocatorImpl[numWorkers];
+        this.workers = new Thread[numWorkers];
+        for (int i = 0; i < numWorkers; ++i) {
+            TempAllocatorImpl allocator
+                    = new TempAllocatorImpl(tempAllocatorBytes);
+            tempAllocators[i] = allocator;
+            Thread worker = new Thread(() -> runWorker(allocator),
+                    "PhysicsWorldGroup-" + i);
+            worker.setDaemon(true);
+            workers[i] = worker;
+            worker.start();
+        }
+    }
+    // *************************************************************************
+    // new methods exposed
+
+    /**
+     * Add a world to the group. Don't invoke while the group is updating.
+     *
+     * @param system the system to step (not null, alias created)
+     * @param stepTime the duration of each simulation step (in seconds, &gt;0)
+     * @param collisionSteps the number of collision steps per simulation step
+     * (&ge;1)
+     * @param maxStepsPerUpdate the maximum number of steps per group update
+     * (&ge;1)
+     * @return a new member, for access to latency statistics
+     */
+    public GroupedWorld addWorld(PhysicsSystem system, float stepTime,
+            int collisionSteps, int maxStepsPerUpdate) {
+        if (system == null) {
+            throw new IllegalArgumentException("system must not be null");
+        }
+        if (!(stepTime > 0f)) {
+            throw new IllegalArgumentException("stepTime = " + stepTime);
+        }
+        if (collisionSteps < 1) {
+            throw new IllegalArgumentException(
+                    "collisionSteps = " + collisionSteps);
+        }
+        if (maxStepsPerUpdate < 1) {
+            throw new IllegalArgumentException(
+                    "maxStepsPerUpdate = " + maxStepsPerUpdate);
+        }
+
+        GroupedWorld result = new GroupedWorld(
+                system, stepTime, collisionSteps, maxStepsPerUpdate);
+        worlds.add(result);
+
+        return result;
+    }
+
+    /**
+     * Count the worlds in the group.
+     *
+     * @return the count (&ge;0)
+     */
+    public int countWorlds() {
+        return worlds.size();
+    }
+
+    /**
+     * Access the shared job system.
+     *
+     * @return the pre-existing instance (not null)
+     */
+    public JobSystem getJobSystem() {
+        return jobSystem;
+    }
+
+    /**
+     * Return the number of worker threads.
+     *
+     * @return the count (&ge;1)
+     */
+    public int getNumWorkers() {
+        return workers.length;
+    }
+
+    /**
+     * Enumerate the worlds in the group.
+     *
+     * @return an unmodifiable list of pre-existing members
+     */
+    public List<GroupedWorld> getWorlds() {
+        return Collections.unmodifiableList(worlds);
+    }
+
+    /**
+     * Remove the specified world from the group. Don't invoke while the group
+     * is updating.
+     *
+     * @param world the member to remove (not null)
+     * @return {@code true} if the member was removed, otherwise {@code false}
+     */
+    public boolean removeWorld(GroupedWorld world) {
+        boolean result = worlds.remove(world);
+        return result;
+    }
+
+    /**
+     * Advance all worlds by the specified amount of real time and wait for
+     * their steps to complete.
+     *
+     * @param elapsedTime the time since the previous update (in seconds,
+     * &ge;0)
+     */
+    public void update(float elapsedTime) {
+        if (isClosed) {
+            throw new IllegalStateException("group is closed");
+        }
+        if (!(elapsedTime >= 0f)) {
+            throw new IllegalArgumentException(
+                    "elapsedTime = " + elapsedTime);
+        }
+
+        int numWorlds = worlds.size();
+        if (numWorlds == 0) {
+            return;
+        }
+        synchronized (this) {
+            this.stepFailure = null;
+            this.numBusyWorlds = 0;
+            for (GroupedWorld world : worlds) {
+                if (world.schedule(elapsedTime) > 0) {
+                    ++numBusyWorlds;
+                }
+            }
+        }
+
+        // Enqueue the worlds, starting at a different one each update:
+        this.rotation = (rotation + 1) % numWorlds;
+        for (int i = 0; i < numWorlds; ++i) {
+            GroupedWorld world = worlds.get((rotation + i) % numWorlds);
+            if (world.pendingSteps > 0) {
+                queue.add(world);
+            }
+        }
+
+        boolean interrupted = false;
+        synchronized (this) {
+            while (numBusyWorlds > 0) {
+                try {
+                    wait();
+                } catch (InterruptedException exception) {
+                    // keep waiting: the worlds are still being stepped
+                    interrupted = true;
+                }
+            }
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+            if (stepFailure != null) {
+                throw stepFailure;
+            }
+        }
+    }
+    // *************************************************************************
+    // AutoCloseable methods
+
+    /**
+     * Stop the worker threads and free the temp allocators. The worlds and
+     * the job system are unaffected. Don't invoke while the group is
+     * updating.
+     */
+    @Override
+    public void close() {
+        if (isClosed) {
+            return;
+        }
+        this.isClosed = true;
+
+        for (int i = 0; i < workers.length; ++i) {
+            queue.add(this);
+        }
+        /*
+         * The allocators mustn't be freed while a worker might still use
+         * them, so keep joining after an interrupt and restore the flag
+         * afterward.
+         */
+        boolean interrupted = false;
+        for (Thread worker : workers) {
+            while (worker.isAlive()) {
+                try {
+                    worker.join();
+                } catch (InterruptedException exception) {
+                    interrupted = true;
+                }
+            }
+        }
+        for (TempAllocatorImpl allocator : tempAllocators) {
+            allocator.close();
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+    // *************************************************************************
+    // private methods
+
+    /**
+     * Take worlds from the queue and step them until the group is closed.
+     *
+     * @param tempAllocator the worker's allocator (not null)
+     */
+    private void runWorker(TempAllocator tempAllocator) {
+        /*
+         * Only close() may stop a worker, since an abandoned world would
+         * leave update() waiting forever. An interrupt is therefore deferred
+         * until the worker exits.
+         */
+        boolean interrupted = false;
+        while (true) {
+            Object item;
+            try {
+                item = queue.take();
+            } catch (InterruptedException exception) {
+                interrupted = true;
+                continue;
+            }
+            if (item == this) {
+                if (interrupted) {
+                    Thread.currentThread().interrupt();
+                }
+                return;
+            }
+
+            GroupedWorld world = (GroupedWorld) item;
+            boolean isFinished;
+            try {
+                world.step(tempAllocator, jobSystem);
+                isFinished = (world.pendingSteps <= 0);
+            } catch (RuntimeException exception) {
+                synchronized (this) {
+                    if (stepFailure == null) {
+                        this.stepFailure = exception;
+                    }
+                }
+                isFinished = true;
+            }
+
+            if (isFinished) {
+                synchronized (this) {
+                    --numBusyWorlds;
+                    if (numBusyWorlds == 0) {
+                        notifyAll();
+                    }
+                }
+            } else {
+                queue.add(world);
+            }
+        }
+    }
+}
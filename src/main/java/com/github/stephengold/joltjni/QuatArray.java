@@ -0,0 +1,205 @@
+/*
+Copyright (c) 2026 Stephen Gold
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+ */
+package com.github.stephengold.joltjni;
+
+import com.github.stephengold.joltjni.readonly.QuatArg;
+import java.nio.FloatBuffer;
+
+/**
+ * A fixed-length array of quaternions, stored off-heap in structure-of-arrays
+ * layout so that bulk operations can process several elements per SIMD
+ * instruction.
+ * <p>
+ * The backing buffer holds all X components, followed by all Y components,
+ * then all Z components, then all W components.
+ *
+ * @author Stephen Gold sgold@sonic.net
+ */
+public class QuatArray {
+    // *************************************************************************
+    // fields
+
+    /**
+     * backing storage for the components (direct, capacity=4*length)
+     */
+    final private FloatBuffer buffer;
+    /**
+     * number of elements
+     */
+    final private int length;
+    // *************************************************************************
+    // constructors
+
+    /**
+     * Instantiate an array of identity quaternions.
+     *
+     * @param length the desired number of elements (&ge;0)
+     */
+    public QuatArray(int length) {
+        if (length < 0) {
+            throw new IllegalArgumentException("length = " + length);
+        }
+
+        this.length = length;
+        this.buffer = Jolt.newDirectFloatBuffer(4 * length);
+        for (int i = 0; i < length; ++i) {
+            buffer.put(3 * length + i, 1f);
+        }
+    }
+    // *************************************************************************
+    // new methods exposed
+
+    /**
+     * Copy the component values from a buffer in which the quaternions are
+     * packed as consecutive (x, y, z, w) quadruples, as used by
+     * {@code BodyInterface.getBodyStates()}.
+     *
+     * @param packed the packed quaternions (not null, direct,
+     * capacity&ge;4*length, unaffected)
+     */
+    public void copyFromPacked(FloatBuffer packed) {
+        BufferUtils.checkDirectNonNull(packed, "packed", 4 * length);
+        unpack(packed, buffer, length);
+    }
+
+    /**
+     * Copy the component values to a buffer in which the quaternions are
+     * packed as consecutive (x, y, z, w) quadruples.
+     *
+     * @param storePacked storage for the packed quaternions (not null, direct,
+     * capacity&ge;4*length, modified)
+     */
+    public void copyToPacked(FloatBuffer storePacked) {
+        BufferUtils.checkDirectNonNull(storePacked, "storePacked", 4 * length);
+        pack(buffer, storePacked, length);
+    }
+
+    /**
+     * Copy the element at the specified index.
+     *
+     * @param index the index of the element (&ge;0, &lt;length)
+     * @return a new quaternion
+     */
+    public Quat get(int index) {
+        Quat result = new Quat();
+        get(index, result);
+
+        return result;
+    }
+
+    /**
+     * Copy the element at the specified index.
+     *
+     * @param index the index of the element (&ge;0, &lt;length)
+     * @param storeResult storage for the result (not null, modified)
+     */
+    public void get(int index, Quat storeResult) {
+        checkIndex(index);
+        float x = buffer.get(index);
+        float y = buffer.get(length + index);
+        float z = buffer.get(2 * length + index);
+        float w = buffer.get(3 * length + index);
+        storeResult.set(x, y, z, w);
+    }
+
+    /**
+     * Access the backing buffer, which holds all X components, followed by all
+     * Y components, then all Z components, then all W components.
+     *
+     * @return the pre-existing direct buffer (capacity=4*length)
+     */
+    public FloatBuffer getBuffer() {
+        return buffer;
+    }
+
+    /**
+     * Return the number of elements.
+     *
+     * @return the count (&ge;0)
+     */
+    public int length() {
+        return length;
+    }
+
+    /**
+     * Normalize each element. Elements that are nearly zero are replaced by
+     * the identity.
+     */
+    public void normalize() {
+        normalize(buffer, length);
+    }
+
+    /**
+     * Pre-multiply every element by the specified quaternion, so that
+     * {@code rotation} is applied after each element.
+     *
+     * @param rotation the left factor (not null, unaffected)
+     */
+    public void premultiply(QuatArg rotation) {
+        float qx = rotation.getX();
+        float qy = rotation.getY();
+        float qz = rotation.getZ();
+        float qw = rotation.getW();
+        premultiply(buffer, length, qx, qy, qz, qw);
+    }
+
+    /**
+     * Alter the element at the specified index.
+     *
+     * @param index the index of the element (&ge;0, &lt;length)
+     * @param value the desired value (not null, unaffected)
+     */
+    public void set(int index, QuatArg value) {
+        checkIndex(index);
+        buffer.put(index, value.getX());
+        buffer.put(length + index, value.getY());
+        buffer.put(2 * length + index, value.getZ());
+        buffer.put(3 * length + index, value.getW());
+    }
+    // *************************************************************************
+    // private methods
+
+    /**
+     * Verify that the specified index refers to an element of this array.
+     *
+     * @param index the index to verify
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    private void checkIndex(int index) {
+        if (index < 0 || index >= length) {
+            throw new IndexOutOfBoundsException("index = " + index);
+        }
+    }
+    // *************************************************************************
+    // native private methods
+
+    native private static void normalize(FloatBuffer soa, int length);
+
+    native private static void pack(
+            FloatBuffer soa, FloatBuffer storeFloats, int length);
+
+    native private static void premultiply(FloatBuffer soa, int length,
+            float qx, float qy, float qz, float qw);
+
+    native private static void unpack(
+            FloatBuffer floats, FloatBuffer storeSoa, int length);
+}
@@ -0,0 +1,280 @@
+/*
+Copyright (c) 2026 Stephen Gold
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+ */
+package com.github.stephengold.joltjni;
+
+import com.github.stephengold.joltjni.readonly.RMat44Arg;
+import com.github.stephengold.joltjni.readonly.RVec3Arg;
+import java.nio.DoubleBuffer;
+import java.nio.FloatBuffer;
+
+/**
+ * A fixed-length array of location vectors, stored off-heap in
+ * structure-of-arrays layout so that bulk operations can process several
+ * elements per SIMD instruction. Components are always stored in double
+ * precision, regardless of the native library's build flavor.
+ * <p>
+ * The backing buffer holds all X components, followed by all Y components,
+ * followed by all Z components.
+ *
+ * @author Stephen Gold sgold@sonic.net
+ */
+public class RVec3Array {
+    // *************************************************************************
+    // fields
+
+    /**
+     * backing storage for the components (direct, capacity=3*length)
+     */
+    final private DoubleBuffer buffer;
+    /**
+     * number of elements
+     */
+    final private int length;
+    // *************************************************************************
+    // constructors
+
+    /**
+     * Instantiate an array of zero vectors.
+     *
+     * @param length the desired number of elements (&ge;0)
+     */
+    public RVec3Array(int length) {
+        if (length < 0) {
+            throw new IllegalArgumentException("length = " + length);
+        }
+
+        this.length = length;
+        this.buffer = Jolt.newDirectDoubleBuffer(3 * length);
+    }
+    // *************************************************************************
+    // new methods exposed
+
+    /**
+     * Add the specified offset to every element.
+     *
+     * @param offset the offset to add (not null, unaffected)
+     */
+    public void add(RVec3Arg offset) {
+        double dx = offset.xx();
+        double dy = offset.yy();
+        double dz = offset.zz();
+        addUniform(buffer, length, dx, dy, dz);
+    }
+
+    /**
+     * Add the corresponding element of the specified array to each element.
+     *
+     * @param offsets the offsets to add (not null, same length, unaffected)
+     */
+    public void add(Vec3Array offsets) {
+        checkLength(offsets.length());
+        add(buffer, offsets.getBuffer(), length);
+    }
+
+    /**
+     * Copy the component values from a buffer in which the vectors are packed
+     * as consecutive (x, y, z) triples, as used by
+     * {@code BodyInterface.getBodyStates()}.
+     *
+     * @param packed the packed vectors (not null, direct, capacity&ge;3*length,
+     * unaffected)
+     */
+    public void copyFromPacked(DoubleBuffer packed) {
+        BufferUtils.checkDirectNonNull(packed, "packed", 3 * length);
+        unpack(packed, buffer, length);
+    }
+
+    /**
+     * Copy the component values to a buffer in which the vectors are packed as
+     * consecutive (x, y, z) triples, as used by the bulk {@code BodyInterface}
+     * setters.
+     *
+     * @param storePacked storage for the packed vectors (not null, direct,
+     * capacity&ge;3*length, modified)
+     */
+    public void copyToPacked(DoubleBuffer storePacked) {
+        BufferUtils.checkDirectNonNull(storePacked, "storePacked", 3 * length);
+        pack(buffer, storePacked, length);
+    }
+
+    /**
+     * Set every element to the specified value.
+     *
+     * @param value the desired value (not null, unaffected)
+     */
+    public void fill(RVec3Arg value) {
+        double x = value.xx();
+        double y = value.yy();
+        double z = value.zz();
+        for (int i = 0; i < length; ++i) {
+            buffer.put(i, x);
+            buffer.put(length + i, y);
+            buffer.put(2 * length + i, z);
+        }
+    }
+
+    /**
+     * Copy the element at the specified index.
+     *
+     * @param index the index of the element (&ge;0, &lt;length)
+     * @return a new vector
+     */
+    public RVec3 get(int index) {
+        RVec3 result = new RVec3();
+        get(index, result);
+
+        return result;
+    }
+
+    /**
+     * Copy the element at the specified index.
+     *
+     * @param index the index of the element (&ge;0, &lt;length)
+     * @param storeResult storage for the result (not null, modified)
+     */
+    public void get(int index, RVec3 storeResult) {
+        checkIndex(index);
+        double x = buffer.get(index);
+        double y = buffer.get(length + index);
+        double z = buffer.get(2 * length + index);
+        storeResult.set(x, y, z);
+    }
+
+    /**
+     * Access the backing buffer, which holds all X components, followed by all
+     * Y components, followed by all Z components.
+     *
+     * @return the pre-existing direct buffer (capacity=3*length)
+     */
+    public DoubleBuffer getBuffer() {
+        return buffer;
+    }
+
+    /**
+     * Return the number of elements.
+     *
+     * @return the count (&ge;0)
+     */
+    public int length() {
+        return length;
+    }
+
+    /**
+     * Alter the element at the specified index.
+     *
+     * @param index the index of the element (&ge;0, &lt;length)
+     * @param x the desired X component
+     * @param y the desired Y component
+     * @param z the desired Z component
+     */
+    public void set(int index, double x, double y, double z) {
+        checkIndex(index);
+        buffer.put(index, x);
+        buffer.put(length + index, y);
+        buffer.put(2 * length + index, z);
+    }
+
+    /**
+     * Alter the element at the specified index.
+     *
+     * @param index the index of the element (&ge;0, &lt;length)
+     * @param value the desired value (not null, unaffected)
+     */
+    public void set(int index, RVec3Arg value) {
+        set(index, value.xx(), value.yy(), value.zz());
+    }
+
+    /**
+     * Subtract the specified origin from every element, storing the
+     * single-precision offsets in another array. The current array is
+     * unaffected. Typically used to compute lever arms relative to a center of
+     * mass.
+     *
+     * @param origin the location to subtract (not null, unaffected)
+     * @param storeResult storage for the offsets (not null, same length,
+     * modified)
+     */
+    public void subtract(RVec3Arg origin, Vec3Array storeResult) {
+        checkLength(storeResult.length());
+        double ox = origin.xx();
+        double oy = origin.yy();
+        double oz = origin.zz();
+        subtract(buffer, length, ox, oy, oz, storeResult.getBuffer());
+    }
+
+    /**
+     * Transform every element, treated as a location, by the specified matrix.
+     *
+     * @param matrix the transform to apply (not null, unaffected)
+     */
+    public void transform(RMat44Arg matrix) {
+        long matrixVa = matrix.targetVa();
+        transform(buffer, length, matrixVa);
+    }
+    // *************************************************************************
+    // private methods
+
+    /**
+     * Verify that the specified index refers to an element of this array.
+     *
+     * @param index the index to verify
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    private void checkIndex(int index) {
+        if (index < 0 || index >= length) {
+            throw new IndexOutOfBoundsException("index = " + index);
+        }
+    }
+
+    /**
+     * Verify that another array has the same length as this one.
+     *
+     * @param otherLength the length to verify
+     * @throws IllegalArgumentException if the lengths differ
+     */
+    private void checkLength(int otherLength) {
+        if (otherLength != length) {
+            throw new IllegalArgumentException(
+                    "length = " + otherLength + ", need " + length);
+        }
+    }
+    // *************************************************************************
+    // native private methods
+
+    native private static void add(
+            DoubleBuffer soa, FloatBuffer offsetSoa, int length);
+
+    native private static void addUniform(
+            DoubleBuffer soa, int length, double dx, double dy, double dz);
+
+    native private static void pack(
+            DoubleBuffer soa, DoubleBuffer storeDoubles, int length);
+
+    native private static void subtract(DoubleBuffer soa, int length,
+            double ox, double oy, double oz, FloatBuffer storeSoa);
+
+    native private static void transform(
+            DoubleBuffer soa, int length, long matrixVa);
+
+    native private static void unpack(
+            DoubleBuffer doubles, DoubleBuffer storeSoa, int length);
+}
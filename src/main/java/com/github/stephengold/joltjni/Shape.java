@@ -241,14 +241,25 @@ abstract public class Shape extends NonCopyable
      */
     @Override
     public Vec3 getCenterOfMass() {
-        long shapeVa = va();
-        FloatBuffer storeFloats = Temporaries.floatBuffer1.get();
-        getCenterOfMass(shapeVa, storeFloats);
-        Vec3 result = new Vec3(storeFloats);
+        Vec3 result = new Vec3();
+        getCenterOfMass(result);
 
         return result;
     }
 
+    /**
+     * Locate the shape's center of mass. The shape is unaffected.
+     *
+     * @param storeLocation storage for the result (not null, modified)
+     */
+    @Override
+    public void getCenterOfMass(Vec3 storeLocation) {
+        long shapeVa = va();
+        NativeScratch scratch = Temporaries.scratch.get();
+        getCenterOfMass(shapeVa, scratch.floatsVa);
+        storeLocation.set(scratch.floats);
+    }
+
     /**
      * Return the radius of the largest sphere that fits inside the shape. The
      * shape is unaffected.
@@ -590,7 +601,7 @@ abstract public class Shape extends NonCopyable
             long transformVa, float scaleX, float scaleY, float scaleZ,
             int colorInt, boolean drawSupportDirection);
 
-    native static void getCenterOfMass(long shapeVa, FloatBuffer storeFloats);
+    native static void getCenterOfMass(long shapeVa, long floatsVa);
 
     native static float getInnerRadius(long shapeVa);
 
@@ -0,0 +1,507 @@
+/*
+Copyright (c) 2026 Stephen Gold
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+ */
+package com.github.stephengold.joltjni;
+
+import com.github.stephengold.joltjni.readonly.ConstShape;
+import com.github.stephengold.joltjni.readonly.ConstShapeSettings;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+/**
+ * A persistent cache of baked shapes, stored in a memory-mapped file and keyed
+ * by a 64-bit content hash of the source data (see
+ * {@link #contentHash(java.nio.ByteBuffer)}).
+ * <p>
+ * Each shape is serialized with its sub-shapes and materials (as by
+ * {@code Shape::SaveWithChildren()}), so that sub-shapes and materials shared
+ * within a shape are stored only once. Serialization writes directly into the
+ * mapped region, and restoration reads directly from it, without intermediate
+ * C++ streams. Restored shapes are retained, so repeated lookups of the same
+ * key share a single native shape.
+ * <p>
+ * The file consists of fixed-size segments, each mapped separately, so the
+ * cache may grow beyond 2 GiB. Each entry carries a checksum that is verified
+ * before the entry is restored. Entries are never removed; to invalidate the
+ * cache, delete the file.
+ * <p>
+ * Instances are thread-safe. Concurrent {@code getOrCreate()} invocations
+ * for the same missing key bake the shape only once: the other threads wait
+ * for it.
+ *
+ * @author Stephen Gold sgold@sonic.net
+ */
+public class ShapeCache implements AutoCloseable {
+    // *************************************************************************
+    // constants
+
+    /**
+     * default size of each segment (in bytes)
+     */
+    final public static int defaultSegmentBytes = 1 << 28;
+    /**
+     * size of each entry header: key, checksum, payload length, and padding
+     * (in bytes)
+     */
+    final private static int entryHeaderBytes = 24;
+    /**
+     * value that identifies a segment of a shape-cache file ("JSC1")
+     */
+    final private static int magic = 0x4a534331;
+    /**
+     * size of each segment header: magic, version, and bytes used (in bytes)
+     */
+    final private static int segmentHeaderBytes = 16;
+    /**
+     * version of the file layout
+     */
+    final private static int version = 1;
+    // *************************************************************************
+    // fields
+
+    /**
+     * true once the cache is closed
+     */
+    private boolean isClosed;
+    /**
+     * bakes in progress in {@code getOrCreate()}, keyed by content hash
+     */
+    final private Map<Long, CompletableFuture<Void>> bakes = new HashMap<>(8);
+    /**
+     * channel to the cache file
+     */
+    final private FileChannel channel;
+    /**
+     * size of each segment (in bytes)
+     */
+    final private int segmentBytes;
+    /**
+     * mapped segments, in file order
+     */
+    final private List<MappedByteBuffer> segments = new ArrayList<>(4);
+    /**
+     * location of each entry (segment index in the upper 32 bits, offset in
+     * the lower 32), keyed by content hash
+     */
+    final private Map<Long, Long> locations = new HashMap<>(256);
+    /**
+     * shapes restored or added since the cache was opened, keyed by content
+     * hash
+     */
+    final private Map<Long, ShapeRefC> shapes = new HashMap<>(256);
+    // *************************************************************************
+    // constructors
+
+    /**
+     * Open or create a cache file with the default segment size.
+     *
+     * @param path the path to the file (not null)
+     * @throws IOException if the file can't be opened or isn't a valid cache
+     */
+    public ShapeCache(Path path) throws IOException {
+        this(path, defaultSegmentBytes);
+    }
+
+    /**
+     * Open or create a cache file with the specified segment size.
+     *
+     * @param path the path to the file (not null)
+     * @param segmentBytes the size of each segment (in bytes, a multiple of 8,
+     * &ge;4096, must match the size used when the file was created)
+     * @throws IOException if the file can't be opened or isn't a valid cache
+     */
+    public ShapeCache(Path path, int segmentBytes) throws IOException {
+        if (segmentBytes < 4096 || segmentBytes % 8 != 0) {
+            throw new IllegalArgumentException(
+                    "segmentBytes = " + segmentBytes);
+        }
+        this.segmentBytes = segmentBytes;
+        this.channel = FileChannel.open(path, StandardOpenOption.CREATE,
+                StandardOpenOption.READ, StandardOpenOption.WRITE);
+
+        try {
+            long fileBytes = channel.size();
+            if (fileBytes % segmentBytes != 0L) {
+                throw new IOException("size of " + path
+                        + " isn't a multiple of " + segmentBytes + " bytes");
+            }
+            long numSegments = fileBytes / segmentBytes;
+            for (int segmentIndex = 0; segmentIndex < numSegments;
+                    ++segmentIndex) {
+                MappedByteBuffer segment = mapSegment(segmentIndex);
+                if (segment.getInt(0) != magic
+                        || segment.getInt(4) != version) {
+                    throw new IOException(path + " isn't a shape cache");
+                }
+                indexSegment(segmentIndex);
+            }
+            if (segments.isEmpty()) {
+                appendSegment();
+            }
+        } catch (IOException | RuntimeException exception) {
+            channel.close();
+            throw exception;
+        }
+    }
+    // *************************************************************************
+    // new methods exposed
+
+    /**
+     * Test whether the cache contains the specified key.
+     *
+     * @param key the content hash to find
+     * @return {@code true} if found, otherwise {@code false}
+     */
+    synchronized public boolean contains(long key) {
+        boolean result = locations.containsKey(key);
+        return result;
+    }
+
+    /**
+     * Calculate the 64-bit FNV-1a hash of the remaining bytes in the specified
+     * buffer, for use as a cache key. The buffer's position is unaffected.
+     *
+     * @param data the source data, such as a serialized mesh (not null,
+     * unaffected)
+     * @return the hash value
+     */
+    public static long contentHash(ByteBuffer data) {
+        int offset = data.position();
+        int length = data.remaining();
+        long result;
+        if (data.isDirect()) {
+            result = hashBytes(data, offset, length);
+        } else {
+            result = 0xcbf29ce484222325L;
+            for (int i = offset; i < offset + length; ++i) {
+                result ^= data.get(i) & 0xffL;
+                result *= 0x100000001b3L;
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * Count the entries in the cache.
+     *
+     * @return the count (&ge;0)
+     */
+    synchronized public int countEntries() {
+        return locations.size();
+    }
+
+    /**
+     * Count the segments in the cache file.
+     *
+     * @return the count (&ge;1)
+     */
+    synchronized public int countSegments() {
+        return segments.size();
+    }
+
+    /**
+     * Flush all modified segments to the file.
+     */
+    synchronized public void force() {
+        assert !isClosed;
+        for (MappedByteBuffer segment : segments) {
+            segment.force();
+        }
+    }
+
+    /**
+     * Restore the shape with the specified key.
+     *
+     * @param key the content hash of the shape's source data
+     * @return a new counted reference, or {@code null} if not found
+     * @throws IllegalStateException if the entry is corrupt
+     */
+    public ShapeRefC get(long key) {
+        MappedByteBuffer segment;
+        int offset;
+        synchronized (this) {
+            assert !isClosed;
+            ShapeRefC shape = shapes.get(key);
+            if (shape != null) {
+                return shape.toRefC();
+            }
+            Long location = locations.get(key);
+            if (location == null) {
+                return null;
+            }
+            segment = segments.get((int) (location >>> 32));
+            offset = location.intValue();
+        }
+
+        // Verify and restore outside the lock, so lookups can run in parallel:
+        long checksum = segment.getLong(offset + 8);
+        int payloadBytes = segment.getInt(offset + 16);
+        int payloadOffset = offset + entryHeaderBytes;
+        if (hashBytes(segment, payloadOffset, payloadBytes) != checksum) {
+            throw new IllegalStateException("checksum mismatch for key " + key);
+        }
+        long resultVa = restoreShape(segment, payloadOffset, payloadBytes);
+        ShapeResult shapeResult = new ShapeResult(resultVa, true);
+        if (shapeResult.hasError()) {
+            throw new IllegalStateException(
+                    "failed to restore key " + key + ": "
+                    + shapeResult.getError());
+        }
+        ShapeRefC restored = shapeResult.get();
+
+        ShapeRefC result;
+        synchronized (this) {
+            ShapeRefC shape = shapes.putIfAbsent(key, restored);
+            result = (shape == null) ? restored.toRefC() : shape.toRefC();
+        }
+
+        return result;
+    }
+
+    /**
+     * Restore the shape with the specified key, or if it isn't cached, create
+     * it from the specified settings and add it to the cache. If another
+     * thread is already creating the shape, wait for it instead of creating
+     * a duplicate.
+     *
+     * @param key the content hash of the settings' source data
+     * @param settings the settings to bake on a miss (not null, unaffected)
+     * @return a new counted reference (not null)
+     * @throws IllegalStateException if the entry is corrupt or the settings
+     * are invalid
+     */
+    public ShapeRefC getOrCreate(long key, ConstShapeSettings settings) {
+        ShapeRefC result = get(key);
+        if (result != null) {
+            return result;
+        }
+
+        CompletableFuture<Void> bake = new CompletableFuture<>();
+        CompletableFuture<Void> pending;
+        synchronized (this) {
+            if (locations.containsKey(key)) {
+                pending = CompletableFuture.completedFuture(null);
+            } else {
+                pending = bakes.putIfAbsent(key, bake);
+            }
+        }
+        if (pending != null) { // added or being added by another thread
+            try {
+                pending.join();
+            } catch (CompletionException exception) {
+                throw new IllegalStateException(exception.getCause());
+            }
+            result = get(key);
+            return result;
+        }
+
+        try {
+            ShapeResult shapeResult = settings.create();
+            if (shapeResult.hasError()) {
+                throw new IllegalStateException(shapeResult.getError());
+            }
+            result = shapeResult.get();
+            put(key, result);
+            bake.complete(null);
+        } catch (RuntimeException exception) {
+            bake.completeExceptionally(exception);
+            throw exception;
+        } finally {
+            synchronized (this) {
+                bakes.remove(key);
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * Return the size of each segment.
+     *
+     * @return the size (in bytes)
+     */
+    public int getSegmentBytes() {
+        return segmentBytes;
+    }
+
+    /**
+     * Serialize the specified shape into the cache, unless the key is already
+     * present.
+     *
+     * @param key the content hash of the shape's source data
+     * @param shape the shape to add (not null, unaffected)
+     * @return {@code true} if added, {@code false} if the key was present
+     * @throws IllegalArgumentException if the shape is too large for a segment
+     */
+    synchronized public boolean put(long key, ConstShape shape) {
+        assert !isClosed;
+        if (locations.containsKey(key)) {
+            return false;
+        }
+
+        long shapeVa = shape.targetVa();
+        int segmentIndex = segments.size() - 1;
+        MappedByteBuffer segment = segments.get(segmentIndex);
+        int offset = (int) segment.getLong(8);
+        int capacity
+                = Math.max(0, segmentBytes - offset - entryHeaderBytes);
+        int payloadBytes = saveShape(
+                shapeVa, segment, offset + entryHeaderBytes, capacity);
+        if (payloadBytes > capacity) {
+            int maxPayload
+                    = segmentBytes - segmentHeaderBytes - entryHeaderBytes;
+            if (payloadBytes > maxPayload) {
+                throw new IllegalArgumentException("shape needs "
+                        + payloadBytes + " bytes, segment holds " + maxPayload);
+            }
+            segment = appendSegment();
+            ++segmentIndex;
+            offset = segmentHeaderBytes;
+            payloadBytes = saveShape(
+                    shapeVa, segment, offset + entryHeaderBytes, maxPayload);
+        }
+
+        long checksum = hashBytes(
+                segment, offset + entryHeaderBytes, payloadBytes);
+        segment.putLong(offset, key);
+        segment.putLong(offset + 8, checksum);
+        segment.putInt(offset + 16, payloadBytes);
+        segment.putInt(offset + 20, 0);
+        // Publish the entry last, so a crash never exposes a partial entry:
+        long end = offset + entryHeaderBytes + payloadBytes;
+        segment.putLong(8, (end + 7L) & ~7L);
+
+        long location = ((long) segmentIndex << 32) | offset;
+        locations.put(key, location);
+        shapes.put(key, shape.toRefC());
+
+        return true;
+    }
+    // *************************************************************************
+    // AutoCloseable methods
+
+    /**
+     * Flush the cache and close the file. Shapes previously returned remain
+     * valid. Subsequent operations are disallowed.
+     *
+     * @throws IOException if the file can't be closed
+     */
+    @Override
+    synchronized public void close() throws IOException {
+        if (!isClosed) {
+            force();
+            this.isClosed = true;
+            locations.clear();
+            shapes.clear();
+            segments.clear();
+            channel.close();
+        }
+    }
+    // *************************************************************************
+    // private methods
+
+    /**
+     * Extend the file by one segment and initialize its header.
+     *
+     * @return the new segment (not null)
+     */
+    private MappedByteBuffer appendSegment() {
+        MappedByteBuffer result;
+        try {
+            result = mapSegment(segments.size());
+        } catch (IOException exception) {
+            throw new IllegalStateException(exception);
+        }
+        result.putInt(0, magic);
+        result.putInt(4, version);
+        result.putLong(8, segmentHeaderBytes);
+
+        return result;
+    }
+
+    /**
+     * Add all entries in the specified segment to the index.
+     *
+     * @param segmentIndex the index of the segment (&ge;0)
+     * @throws IOException if the segment is malformed
+     */
+    private void indexSegment(int segmentIndex) throws IOException {
+        MappedByteBuffer segment = segments.get(segmentIndex);
+        long usedBytes = segment.getLong(8);
+        if (usedBytes < segmentHeaderBytes || usedBytes > segmentBytes) {
+            throw new IOException("segment " + segmentIndex + " is corrupt");
+        }
+
+        int offset = segmentHeaderBytes;
+        while (offset < usedBytes) {
+            long key = segment.getLong(offset);
+            int payloadBytes = segment.getInt(offset + 16);
+            long end = (long) offset + entryHeaderBytes + payloadBytes;
+            if (payloadBytes < 0 || end > usedBytes) {
+                throw new IOException("entry at offset " + offset
+                        + " in segment " + segmentIndex + " is corrupt");
+            }
+            long location = ((long) segmentIndex << 32) | offset;
+            locations.putIfAbsent(key, location);
+            offset = (int) ((end + 7L) & ~7L);
+        }
+    }
+
+    /**
+     * Map the indexed segment of the file, extending the file if necessary.
+     *
+     * @param segmentIndex the index of the segment (&ge;0)
+     * @return a new little-endian buffer
+     * @throws IOException if the segment can't be mapped
+     */
+    private MappedByteBuffer mapSegment(int segmentIndex) throws IOException {
+        long position = (long) segmentIndex * segmentBytes;
+        MappedByteBuffer result = channel.map(
+                FileChannel.MapMode.READ_WRITE, position, segmentBytes);
+        result.order(ByteOrder.LITTLE_ENDIAN);
+        segments.add(result);
+
+        return result;
+    }
+    // *************************************************************************
+    // native private methods
+
+    native private static long hashBytes(
+            ByteBuffer buffer, int offset, int numBytes);
+
+    native private static long restoreShape(
+            ByteBuffer buffer, int offset, int numBytes);
+
+    native private static int saveShape(
+            long shapeVa, ByteBuffer buffer, int offset, int capacityBytes);
+}
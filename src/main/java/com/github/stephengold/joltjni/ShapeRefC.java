@@ -167,14 +167,25 @@ final public class ShapeRefC extends JoltPhysicsObject implements ConstShape {
      */
     @Override
     public Vec3 getCenterOfMass() {
-        long shapeVa = targetVa();
-        FloatBuffer storeFloats = Temporaries.floatBuffer1.get();
-        Shape.getCenterOfMass(shapeVa, storeFloats);
-        Vec3 result = new Vec3(storeFloats);
+        Vec3 result = new Vec3();
+        getCenterOfMass(result);
 
         return result;
     }
 
+    /**
+     * Locate the shape's center of mass. The shape is unaffected.
+     *
+     * @param storeLocation storage for the result (not null, modified)
+     */
+    @Override
+    public void getCenterOfMass(Vec3 storeLocation) {
+        long shapeVa = targetVa();
+        NativeScratch scratch = Temporaries.scratch.get();
+        Shape.getCenterOfMass(shapeVa, scratch.floatsVa);
+        storeLocation.set(scratch.floats);
+    }
+
     /**
      * Return the radius of the largest sphere that fits inside the shape. The
      * shape is unaffected.
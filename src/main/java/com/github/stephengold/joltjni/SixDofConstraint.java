@@ -26,7 +26,6 @@ import com.github.stephengold.joltjni.enumerate.EMotorState;
 import com.github.stephengold.joltjni.readonly.ConstSpringSettings;
 import com.github.stephengold.joltjni.readonly.QuatArg;
 import com.github.stephengold.joltjni.readonly.Vec3Arg;
-import java.nio.FloatBuffer;
 
 /**
  * A {@code TwoBodyConstraint} that can constrain all 6 degrees of freedom.
@@ -149,42 +148,72 @@ public class SixDofConstraint extends TwoBodyConstraint {
      * @return a new rotation quaternion
      */
     public Quat getRotationInConstraintSpace() {
-        long constraintVa = va();
-        FloatBuffer storeFloats = Temporaries.floatBuffer1.get();
-        getRotationInConstraintSpace(constraintVa, storeFloats);
-        Quat result = new Quat(storeFloats);
+        Quat result = new Quat();
+        getRotationInConstraintSpace(result);
 
         return result;
     }
 
+    /**
+     * Copy the rotation of the constraint. The constraint is unaffected.
+     *
+     * @param storeOrientation storage for the result (not null, modified)
+     */
+    public void getRotationInConstraintSpace(Quat storeOrientation) {
+        long constraintVa = va();
+        NativeScratch scratch = Temporaries.scratch.get();
+        getRotationInConstraintSpace(constraintVa, scratch.floatsVa);
+        storeOrientation.set(scratch.floats);
+    }
+
     /**
      * Copy the rotation upper limits. The constraint is unaffected.
      *
      * @return the upper limit for each axis (not null)
      */
     public Vec3 getRotationLimitsMax() {
-        long constraintVa = va();
-        FloatBuffer storeFloats = Temporaries.floatBuffer1.get();
-        getRotationLimitsMax(constraintVa, storeFloats);
-        Vec3 result = new Vec3(storeFloats);
+        Vec3 result = new Vec3();
+        getRotationLimitsMax(result);
 
         return result;
     }
 
+    /**
+     * Copy the rotation upper limits. The constraint is unaffected.
+     *
+     * @param storeLimits storage for the result (not null, modified)
+     */
+    public void getRotationLimitsMax(Vec3 storeLimits) {
+        long constraintVa = va();
+        NativeScratch scratch = Temporaries.scratch.get();
+        getRotationLimitsMax(constraintVa, scratch.floatsVa);
+        storeLimits.set(scratch.floats);
+    }
+
     /**
      * Copy the rotation lower limits. The constraint is unaffected.
      *
      * @return the lower limit for each axis (not null)
      */
     public Vec3 getRotationLimitsMin() {
-        long constraintVa = va();
-        FloatBuffer storeFloats = Temporaries.floatBuffer1.get();
-        getRotationLimitsMin(constraintVa, storeFloats);
-        Vec3 result = new Vec3(storeFloats);
+        Vec3 result = new Vec3();
+        getRotationLimitsMin(result);
 
         return result;
     }
 
+    /**
+     * Copy the rotation lower limits. The constraint is unaffected.
+     *
+     * @param storeLimits storage for the result (not null, modified)
+     */
+    public void getRotationLimitsMin(Vec3 storeLimits) {
+        long constraintVa = va();
+        NativeScratch scratch = Temporaries.scratch.get();
+        getRotationLimitsMin(constraintVa, scratch.floatsVa);
+        storeLimits.set(scratch.floats);
+    }
+
     /**
      * Copy the target velocities of the angular motors. The constraint is
      * unaffected. (native method: GetTargetAngularVelocityCS)
@@ -193,14 +222,25 @@ public class SixDofConstraint extends TwoBodyConstraint {
      * constraint space)
      */
     public Vec3 getTargetAngularVelocityCs() {
-        long constraintVa = va();
-        FloatBuffer storeFloats = Temporaries.floatBuffer1.get();
-        getTargetAngularVelocityCs(constraintVa, storeFloats);
-        Vec3 result = new Vec3(storeFloats);
+        Vec3 result = new Vec3();
+        getTargetAngularVelocityCs(result);
 
         return result;
     }
 
+    /**
+     * Copy the target velocities of the angular motors. The constraint is
+     * unaffected. (native method: GetTargetAngularVelocityCS)
+     *
+     * @param storeVelocity storage for the result (not null, modified)
+     */
+    public void getTargetAngularVelocityCs(Vec3 storeVelocity) {
+        long constraintVa = va();
+        NativeScratch scratch = Temporaries.scratch.get();
+        getTargetAngularVelocityCs(constraintVa, scratch.floatsVa);
+        storeVelocity.set(scratch.floats);
+    }
+
     /**
      * Copy the target position of the linear motors. The constraint is
      * unaffected. (native method: GetTargetPositionCS)
@@ -208,14 +248,25 @@ public class SixDofConstraint extends TwoBodyConstraint {
      * @return a new offset vector (meters in body 1 constraint space)
      */
     public Vec3 getTargetPositionCs() {
-        long constraintVa = va();
-        FloatBuffer storeFloats = Temporaries.floatBuffer1.get();
-        getTargetPositionCs(constraintVa, storeFloats);
-        Vec3 result = new Vec3(storeFloats);
+        Vec3 result = new Vec3();
+        getTargetPositionCs(result);
 
         return result;
     }
 
+    /**
+     * Copy the target position of the linear motors. The constraint is
+     * unaffected. (native method: GetTargetPositionCS)
+     *
+     * @param storeLocation storage for the result (not null, modified)
+     */
+    public void getTargetPositionCs(Vec3 storeLocation) {
+        long constraintVa = va();
+        NativeScratch scratch = Temporaries.scratch.get();
+        getTargetPositionCs(constraintVa, scratch.floatsVa);
+        storeLocation.set(scratch.floats);
+    }
+
     /**
      * Copy the target orientation of the angular motors. The constraint is
      * unaffected. (native method: GetTargetOrientationCS)
@@ -223,14 +274,25 @@ public class SixDofConstraint extends TwoBodyConstraint {
      * @return the target orientation (in constraint space)
      */
     public Quat getTargetOrientationCs() {
-        long constraintVa = va();
-        FloatBuffer storeFloats = Temporaries.floatBuffer1.get();
-        getTargetOrientationCs(constraintVa, storeFloats);
-        Quat result = new Quat(storeFloats);
+        Quat result = new Quat();
+        getTargetOrientationCs(result);
 
         return result;
     }
 
+    /**
+     * Copy the target orientation of the angular motors. The constraint is
+     * unaffected. (native method: GetTargetOrientationCS)
+     *
+     * @param storeOrientation storage for the result (not null, modified)
+     */
+    public void getTargetOrientationCs(Quat storeOrientation) {
+        long constraintVa = va();
+        NativeScratch scratch = Temporaries.scratch.get();
+        getTargetOrientationCs(constraintVa, scratch.floatsVa);
+        storeOrientation.set(scratch.floats);
+    }
+
     /**
      * Copy the target velocities of the linear motors. The constraint is
      * unaffected. (native method: GetTargetVelocityCS)
@@ -239,42 +301,73 @@ public class SixDofConstraint extends TwoBodyConstraint {
      * constraint space)
      */
     public Vec3 getTargetVelocityCs() {
-        long constraintVa = va();
-        FloatBuffer storeFloats = Temporaries.floatBuffer1.get();
-        getTargetVelocityCs(constraintVa, storeFloats);
-        Vec3 result = new Vec3(storeFloats);
+        Vec3 result = new Vec3();
+        getTargetVelocityCs(result);
 
         return result;
     }
 
+    /**
+     * Copy the target velocities of the linear motors. The constraint is
+     * unaffected. (native method: GetTargetVelocityCS)
+     *
+     * @param storeVelocity storage for the result (not null, modified)
+     */
+    public void getTargetVelocityCs(Vec3 storeVelocity) {
+        long constraintVa = va();
+        NativeScratch scratch = Temporaries.scratch.get();
+        getTargetVelocityCs(constraintVa, scratch.floatsVa);
+        storeVelocity.set(scratch.floats);
+    }
+
     /**
      * Copy the translation upper limits. The constraint is unaffected.
      *
      * @return the upper limit for each axis (not null)
      */
     public Vec3 getTranslationLimitsMax() {
-        long constraintVa = va();
-        FloatBuffer storeFloats = Temporaries.floatBuffer1.get();
-        getTranslationLimitsMax(constraintVa, storeFloats);
-        Vec3 result = new Vec3(storeFloats);
+        Vec3 result = new Vec3();
+        getTranslationLimitsMax(result);
 
         return result;
     }
 
+    /**
+     * Copy the translation upper limits. The constraint is unaffected.
+     *
+     * @param storeLimits storage for the result (not null, modified)
+     */
+    public void getTranslationLimitsMax(Vec3 storeLimits) {
+        long constraintVa = va();
+        NativeScratch scratch = Temporaries.scratch.get();
+        getTranslationLimitsMax(constraintVa, scratch.floatsVa);
+        storeLimits.set(scratch.floats);
+    }
+
     /**
      * Copy the translation lower limits. The constraint is unaffected.
      *
      * @return the lower limit for each axis (not null)
      */
     public Vec3 getTranslationLimitsMin() {
-        long constraintVa = va();
-        FloatBuffer storeFloats = Temporaries.floatBuffer1.get();
-        getTranslationLimitsMin(constraintVa, storeFloats);
-        Vec3 result = new Vec3(storeFloats);
+        Vec3 result = new Vec3();
+        getTranslationLimitsMin(result);
 
         return result;
     }
 
+    /**
+     * Copy the translation lower limits. The constraint is unaffected.
+     *
+     * @param storeLimits storage for the result (not null, modified)
+     */
+    public void getTranslationLimitsMin(Vec3 storeLimits) {
+        long constraintVa = va();
+        NativeScratch scratch = Temporaries.scratch.get();
+        getTranslationLimitsMin(constraintVa, scratch.floatsVa);
+        storeLimits.set(scratch.floats);
+    }
+
     /**
      * Test whether the specified degree of freedom is fixed. The constraint is
      * unaffected.
@@ -470,31 +563,31 @@ public class SixDofConstraint extends TwoBodyConstraint {
     native private static int getMotorState(long constraintVa, int dofIndex);
 
     native private static void getRotationInConstraintSpace(
-            long constraintVa, FloatBuffer storeFloats);
+            long constraintVa, long floatsVa);
 
     native private static void getRotationLimitsMax(
-            long constraintVa, FloatBuffer storeFloats);
+            long constraintVa, long floatsVa);
 
     native private static void getRotationLimitsMin(
-            long constraintVa, FloatBuffer storeFloats);
+            long constraintVa, long floatsVa);
 
     native private static void getTargetAngularVelocityCs(
-            long constraintVa, FloatBuffer storeFloats);
+            long constraintVa, long floatsVa);
 
     native private static void getTargetPositionCs(
-            long constraintVa, FloatBuffer storeFloats);
+            long constraintVa, long floatsVa);
 
     native private static void getTargetOrientationCs(
-            long constraintVa, FloatBuffer storeFloats);
+            long constraintVa, long floatsVa);
 
     native private static void getTargetVelocityCs(
-            long constraintVa, FloatBuffer storeFloats);
+            long constraintVa, long floatsVa);
 
     native private static void getTranslationLimitsMax(
-            long constraintVa, FloatBuffer storeFloats);
+            long constraintVa, long floatsVa);
 
     native private static void getTranslationLimitsMin(
-            long constraintVa, FloatBuffer storeFloats);
+            long constraintVa, long floatsVa);
 
     native private static boolean isFixedAxis(
             long constraintVa, int dofIndex);
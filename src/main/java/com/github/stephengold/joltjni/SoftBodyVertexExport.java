@@ -0,0 +1,446 @@
+/*
+Copyright (c) 2026 Stephen Gold
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+ */
+package com.github.stephengold.joltjni;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Vertex positions and normals of all active soft bodies in a
+ * {@code PhysicsSystem}, exported to a single direct buffer for rendering.
+ * When assigned to a system, the export is refreshed after each update.
+ * <p>
+ * Each vertex is written as a position followed by a normal, 3 components
+ * each, using the selected encoding. Positions are relative to the body's
+ * origin and divided by its scale, both of which are recorded per body. In
+ * other words, the location of a vertex in system coordinates is
+ * {@code origin + scale * position}. Normals are recomputed from the faces,
+ * weighted by area. Bodies that don't fit are omitted.
+ * <p>
+ * The export is double-buffered. Readers obtain an immutable view of the
+ * latest capture by invoking {@link #acquire()}, and all reads through the
+ * view refer to that capture. A published buffer remains unmodified until
+ * the 2nd capture after it was published, so a reader on another thread
+ * (during {@code PhysicsSystem.updateAsync()}, for instance) has one full
+ * capture to consume it.
+ *
+ * @author Stephen Gold sgold@sonic.net
+ */
+public class SoftBodyVertexExport {
+    // *************************************************************************
+    // classes
+
+    /**
+     * An immutable view of a single published capture. All reads through one
+     * view refer to the same capture, even if newer captures are published
+     * while the view is in use.
+     * <p>
+     * The view's buffers remain unmodified until the 2nd capture after it was
+     * published, so a reader has one full capture to consume them.
+     */
+    final public static class Published {
+        // *********************************************************************
+        // fields
+
+        /**
+         * body records of the capture
+         */
+        final private ByteBuffer records;
+        /**
+         * packed vertex data of the capture
+         */
+        final private ByteBuffer vertices;
+        /**
+         * number of bodies exported
+         */
+        final private int numBodies;
+        /**
+         * number of vertices needed to export every active soft body
+         */
+        final private int numRequired;
+        /**
+         * number of vertices exported
+         */
+        final private int numVertices;
+        /**
+         * number of captures published up to and including this one
+         */
+        final private long sequence;
+        // *********************************************************************
+        // constructors
+
+        /**
+         * Instantiate a view.
+         *
+         * @param vertices the vertex data (not null, alias created)
+         * @param records the body records (not null, alias created)
+         * @param numBodies the number of bodies exported (&ge;0)
+         * @param numVertices the number of vertices exported (&ge;0)
+         * @param numRequired the number of vertices needed (&ge;0)
+         * @param sequence the sequence number (&ge;0)
+         */
+        private Published(ByteBuffer vertices, ByteBuffer records,
+                int numBodies, int numVertices, int numRequired,
+                long sequence) {
+            this.vertices = vertices;
+            this.records = records;
+            this.numBodies = numBodies;
+            this.numVertices = numVertices;
+            this.numRequired = numRequired;
+            this.sequence = sequence;
+        }
+        // *********************************************************************
+        // new methods exposed
+
+        /**
+         * Count the bodies exported by the capture.
+         *
+         * @return the count (&ge;0, &le;maxBodies)
+         */
+        public int countBodies() {
+            return numBodies;
+        }
+
+        /**
+         * Count the vertices exported by the capture.
+         *
+         * @return the count (&ge;0, &le;maxVertices)
+         */
+        public int countVertices() {
+            return numVertices;
+        }
+
+        /**
+         * Return the ID of the indexed body.
+         *
+         * @param bodyIndex the index of the body record (&ge;0,
+         * &lt;numBodies)
+         * @return the body ID
+         */
+        public int getBodyId(int bodyIndex) {
+            int result = records.getInt(bodyIndex * recordBytes + idOffset);
+            return result;
+        }
+
+        /**
+         * Return the index of the indexed body's first vertex in the vertex
+         * buffer.
+         *
+         * @param bodyIndex the index of the body record (&ge;0,
+         * &lt;numBodies)
+         * @return the vertex index (&ge;0)
+         */
+        public int getFirstVertex(int bodyIndex) {
+            int result = records.getInt(
+                    bodyIndex * recordBytes + firstVertexOffset);
+            return result;
+        }
+
+        /**
+         * Return the number of vertices in the indexed body.
+         *
+         * @param bodyIndex the index of the body record (&ge;0,
+         * &lt;numBodies)
+         * @return the count (&ge;0)
+         */
+        public int getNumVertices(int bodyIndex) {
+            int result = records.getInt(
+                    bodyIndex * recordBytes + numVerticesOffset);
+            return result;
+        }
+
+        /**
+         * Copy the origin of the indexed body, which is its center of mass.
+         *
+         * @param bodyIndex the index of the body record (&ge;0,
+         * &lt;numBodies)
+         * @param storeLocation storage for the location (not null, modified)
+         */
+        public void getOrigin(int bodyIndex, RVec3 storeLocation) {
+            int offset = bodyIndex * recordBytes + originOffset;
+            double x = records.getDouble(offset);
+            double y = records.getDouble(offset + 8);
+            double z = records.getDouble(offset + 16);
+            storeLocation.set(x, y, z);
+        }
+
+        /**
+         * Access the body records of the capture, each
+         * {@link SoftBodyVertexExport#recordBytes} long.
+         *
+         * @return the pre-existing direct buffer (in native order)
+         */
+        public ByteBuffer getRecordBuffer() {
+            return records;
+        }
+
+        /**
+         * Return the position scale of the indexed body.
+         *
+         * @param bodyIndex the index of the body record (&ge;0,
+         * &lt;numBodies)
+         * @return the scale factor (&gt;0, 1 unless encoded as snorm16)
+         */
+        public float getScale(int bodyIndex) {
+            float result
+                    = records.getFloat(bodyIndex * recordBytes + scaleOffset);
+            return result;
+        }
+
+        /**
+         * Return the number of captures published up to and including this
+         * one.
+         *
+         * @return the count (&ge;0)
+         */
+        public long getSequence() {
+            return sequence;
+        }
+
+        /**
+         * Access the vertex data of the capture, suitable for uploading to a
+         * GPU.
+         *
+         * @return the pre-existing direct buffer (in native order)
+         */
+        public ByteBuffer getVertexBuffer() {
+            return vertices;
+        }
+
+        /**
+         * Test whether the capture omitted any bodies for lack of space.
+         *
+         * @return {@code true} if bodies were omitted, otherwise
+         * {@code false}
+         */
+        public boolean isTruncated() {
+            boolean result = numRequired > numVertices;
+            return result;
+        }
+
+        /**
+         * Return the number of vertices needed to export every active soft
+         * body in the capture.
+         *
+         * @return the count (&ge;0)
+         */
+        public int requiredVertices() {
+            return numRequired;
+        }
+    }
+    // *************************************************************************
+    // constants
+
+    /**
+     * encode each component as a 32-bit float
+     */
+    final public static int encodeFloat = 0;
+    /**
+     * encode each component as an IEEE 754 half-precision float
+     */
+    final public static int encodeHalf = 1;
+    /**
+     * encode each component as a signed normalized 16-bit integer, with
+     * positions scaled to fit each body's bounding cube
+     */
+    final public static int encodeSnorm16 = 2;
+    /**
+     * byte offset of the index of the first vertex in each body record
+     */
+    final public static int firstVertexOffset = 4;
+    /**
+     * byte offset of the body ID in each body record
+     */
+    final public static int idOffset = 0;
+    /**
+     * byte offset of the vertex count in each body record
+     */
+    final public static int numVerticesOffset = 8;
+    /**
+     * byte offset of the origin in each body record
+     */
+    final public static int originOffset = 16;
+    /**
+     * size of each body record (in bytes)
+     */
+    final public static int recordBytes = 40;
+    /**
+     * byte offset of the scale in each body record
+     */
+    final public static int scaleOffset = 12;
+    // *************************************************************************
+    // fields
+
+    /**
+     * body records of the capture under construction
+     */
+    private ByteBuffer backRecords;
+    /**
+     * packed vertex data of the capture under construction
+     */
+    private ByteBuffer backVertices;
+    /**
+     * encoding of the vertex data
+     */
+    final private int encoding;
+    /**
+     * maximum number of bodies exported
+     */
+    final private int maxBodies;
+    /**
+     * maximum number of vertices exported
+     */
+    final private int maxVertices;
+    /**
+     * temporary storage for counts returned by native code
+     */
+    final private int[] tmpCounts = new int[2];
+    /**
+     * the published capture, replaced (never modified) on each capture so
+     * that readers see consistent buffers and counts
+     */
+    private volatile Published published;
+    // *************************************************************************
+    // constructors
+
+    /**
+     * Instantiate an empty export with the specified capacity and encoding.
+     *
+     * @param maxVertices the maximum number of vertices to export (&ge;1)
+     * @param maxBodies the maximum number of bodies to export (&ge;1)
+     * @param encoding the encoding for vertex data ({@link #encodeFloat},
+     * {@link #encodeHalf}, or {@link #encodeSnorm16})
+     */
+    public SoftBodyVertexExport(int maxVertices, int maxBodies, int encoding) {
+        if (maxVertices < 1) {
+            throw new IllegalArgumentException("maxVertices = " + maxVertices);
+        }
+        if (maxBodies < 1) {
+            throw new IllegalArgumentException("maxBodies = " + maxBodies);
+        }
+        if (encoding < encodeFloat || encoding > encodeSnorm16) {
+            throw new IllegalArgumentException("encoding = " + encoding);
+        }
+        this.maxVertices = maxVertices;
+        this.maxBodies = maxBodies;
+        this.encoding = encoding;
+
+        int vertexBytes = (encoding == encodeFloat) ? 24 : 12;
+        int numVertexBytes = maxVertices * vertexBytes;
+        int numRecordBytes = maxBodies * recordBytes;
+        this.published = new Published(
+                Jolt.newDirectByteBuffer(numVertexBytes),
+                Jolt.newDirectByteBuffer(numRecordBytes), 0, 0, 0, 0L);
+        this.backVertices = Jolt.newDirectByteBuffer(numVertexBytes);
+        this.backRecords = Jolt.newDirectByteBuffer(numRecordBytes);
+    }
+    // *************************************************************************
+    // new methods exposed
+
+    /**
+     * Access the most recently published capture. To read a consistent
+     * capture, acquire a view once and perform all reads through it.
+     *
+     * @return the pre-existing immutable view (not null)
+     */
+    public Published acquire() {
+        Published result = published;
+        return result;
+    }
+
+    /**
+     * Export the active soft bodies of the specified system. This is done
+     * automatically after each update of a system to which the export is
+     * assigned.
+     *
+     * @param system the system to export from (not null, unaffected)
+     */
+    public void capture(PhysicsSystem system) {
+        long systemVa = system.va();
+        publish(systemVa);
+    }
+
+    /**
+     * Return the encoding of the vertex data.
+     *
+     * @return {@link #encodeFloat}, {@link #encodeHalf}, or
+     * {@link #encodeSnorm16}
+     */
+    public int getEncoding() {
+        return encoding;
+    }
+
+    /**
+     * Return the maximum number of bodies exported.
+     *
+     * @return the limit (&ge;1)
+     */
+    public int getMaxBodies() {
+        return maxBodies;
+    }
+
+    /**
+     * Return the maximum number of vertices exported.
+     *
+     * @return the limit (&ge;1)
+     */
+    public int getMaxVertices() {
+        return maxVertices;
+    }
+
+    /**
+     * Return the number of bytes per vertex.
+     *
+     * @return the count (24 for floats, otherwise 12)
+     */
+    public int getVertexBytes() {
+        int result = (encoding == encodeFloat) ? 24 : 12;
+        return result;
+    }
+    // *************************************************************************
+    // new protected methods
+
+    /**
+     * Export the active soft bodies of the specified system into the back
+     * buffers, then publish them.
+     *
+     * @param systemVa the virtual address of the system (not zero)
+     */
+    void publish(long systemVa) {
+        ByteBuffer vertices = backVertices;
+        ByteBuffer records = backRecords;
+        int numBodies = capture(systemVa, encoding, maxBodies, maxVertices,
+                vertices, records, tmpCounts);
+
+        Published previous = published;
+        this.backVertices = previous.vertices;
+        this.backRecords = previous.records;
+        // A single volatile write publishes the buffers and their counts:
+        this.published = new Published(vertices, records, numBodies,
+                tmpCounts[0], tmpCounts[1], previous.sequence + 1L);
+    }
+    // *************************************************************************
+    // native private methods
+
+    native private static int capture(long systemVa, int encoding,
+            int maxBodies, int maxVertices, ByteBuffer storeVertices,
+            ByteBuffer storeRecords, int[] storeCounts);
+}
@@ -21,6 +21,8 @@ SOFTWARE.
  */
 package com.github.stephengold.joltjni;
 
+import java.nio.ByteBuffer;
+
 /**
  * Full implementation of {@code StateRecorder}, using {@code stringstream}.
  *
@@ -54,6 +56,49 @@ final public class StateRecorderImpl extends StateRecorder {
         return result;
     }
 
+    /**
+     * Copy the binary data to a direct buffer, starting at its current
+     * position, without an intermediate Java array. The buffer's position is
+     * advanced past the copied data.
+     * <p>
+     * The native recorder returns its data as a temporary string, so the data
+     * are copied twice: once into the string and once into the buffer.
+     *
+     * @param storeData the destination buffer (not null, direct, modified)
+     * @return the number of bytes copied (&ge;0)
+     * @throws IllegalArgumentException if the data don't fit in the buffer's
+     * remaining space
+     */
+    public int getData(ByteBuffer storeData) {
+        BufferUtils.checkDirect(storeData, 0);
+        long recorderVa = va();
+        int offset = storeData.position();
+        int capacity = storeData.remaining();
+        int result = getDataToBuffer(recorderVa, storeData, offset, capacity);
+        if (result > capacity) {
+            throw new IllegalArgumentException(
+                    "remaining = " + capacity + ", need " + result);
+        }
+        storeData.position(offset + result);
+
+        return result;
+    }
+
+    /**
+     * Write the remaining bytes of the specified direct buffer, without an
+     * intermediate Java array. The buffer's position is advanced to its limit.
+     *
+     * @param data the bytes to write (not null, direct)
+     */
+    public void writeBytes(ByteBuffer data) {
+        BufferUtils.checkDirect(data, 0);
+        long recorderVa = va();
+        int offset = data.position();
+        int numBytes = data.remaining();
+        writeBytesFromBuffer(recorderVa, data, offset, numBytes);
+        data.position(offset + numBytes);
+    }
+
     /**
      * Write binary data.
      *
@@ -80,9 +125,15 @@ final public class StateRecorderImpl extends StateRecorder {
 
     native private static long createStateRecorderImpl();
 
+    native private static int getDataToBuffer(
+            long recorderVa, ByteBuffer storeData, int offset, int capacity);
+
     native private static void getData(
             long recorderVa, byte[] data, int numBytes);
 
     native private static void writeBytes(
             long recorderVa, byte[] data, int numBytes);
+
+    native private static void writeBytesFromBuffer(
+            long recorderVa, ByteBuffer data, int offset, int numBytes);
 }
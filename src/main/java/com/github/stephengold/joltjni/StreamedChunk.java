@@ -0,0 +1,153 @@
+/*
+Copyright (c) 2026 Stephen Gold
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+ */
+package com.github.stephengold.joltjni;
+
+import com.github.stephengold.joltjni.enumerate.EActivation;
+import java.util.List;
+
+/**
+ * The progress of a single chunk through a {@link ChunkStreamer}: queued for
+ * baking, baked and awaiting commit, loaded, or unloading.
+ * <p>
+ * Apart from the fields set by the baking thread, instances are accessed only
+ * by the thread that invokes {@code ChunkStreamer.update()}.
+ *
+ * @author Stephen Gold sgold@sonic.net
+ */
+public class StreamedChunk {
+    // *************************************************************************
+    // fields
+
+    /**
+     * true once the update thread has received the baking results
+     */
+    boolean baked;
+    /**
+     * true once an unload has been requested
+     */
+    boolean unloadRequested;
+    /**
+     * whether to activate the bodies when they are added
+     */
+    final EActivation activation;
+    /**
+     * number of slices added to the physics system
+     */
+    int numAddedSlices;
+    /**
+     * number of slices removed and destroyed during unloading
+     */
+    int numReleasedSlices;
+    /**
+     * IDs of the created bodies, split into slices no larger than the
+     * per-frame budget, or {@code null} if not yet baked (set by the baking
+     * thread)
+     */
+    List<BodyIdArray> slices;
+    /**
+     * the chunk's key
+     */
+    final private long key;
+    /**
+     * time when the load was requested (from {@code System.nanoTime()})
+     */
+    final long requestNanos;
+    /**
+     * description of the error that prevented baking, or {@code null} if none
+     * (set by the baking thread)
+     */
+    String error;
+    // *************************************************************************
+    // constructors
+
+    /**
+     * Instantiate a chunk. Invoked by {@code ChunkStreamer.requestLoad()}.
+     *
+     * @param key the chunk's key
+     * @param activation whether to activate the bodies when they are added
+     * (not null)
+     */
+    StreamedChunk(long key, EActivation activation) {
+        this.key = key;
+        this.activation = activation;
+        this.requestNanos = System.nanoTime();
+    }
+    // *************************************************************************
+    // new methods exposed
+
+    /**
+     * Count the bodies currently in the physics system.
+     *
+     * @return the count (&ge;0)
+     */
+    public int countAddedBodies() {
+        int result = 0;
+        if (baked && error == null) {
+            for (int i = numReleasedSlices; i < numAddedSlices; ++i) {
+                result += slices.get(i).length();
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * Return the error that prevented the chunk from loading.
+     *
+     * @return a description, or {@code null} if none
+     */
+    public String getError() {
+        String result = baked ? error : null;
+        return result;
+    }
+
+    /**
+     * Return the chunk's key.
+     *
+     * @return the key
+     */
+    public long getKey() {
+        return key;
+    }
+
+    /**
+     * Test whether the chunk failed to load.
+     *
+     * @return {@code true} if failed, otherwise {@code false}
+     */
+    public boolean isFailed() {
+        boolean result = baked && error != null;
+        return result;
+    }
+
+    /**
+     * Test whether all the chunk's bodies have been added to the physics
+     * system (and none removed).
+     *
+     * @return {@code true} if loaded, otherwise {@code false}
+     */
+    public boolean isLoaded() {
+        boolean result = baked && error == null && !unloadRequested
+                && numAddedSlices == slices.size();
+        return result;
+    }
+}
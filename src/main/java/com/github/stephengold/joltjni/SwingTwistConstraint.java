@@ -24,7 +24,6 @@ package com.github.stephengold.joltjni;
 import com.github.stephengold.joltjni.enumerate.EMotorState;
 import com.github.stephengold.joltjni.readonly.QuatArg;
 import com.github.stephengold.joltjni.readonly.Vec3Arg;
-import java.nio.FloatBuffer;
 
 /**
  * A {@code TwoBodyConstraint} that only allows limited rotation.
@@ -81,14 +80,25 @@ public class SwingTwistConstraint extends TwoBodyConstraint {
      * @return a new vector
      */
     public Vec3 getTargetAngularVelocityCs() {
-        long constraintVa = va();
-        FloatBuffer storeFloats = Temporaries.floatBuffer1.get();
-        getTargetAngularVelocityCs(constraintVa, storeFloats);
-        Vec3 result = new Vec3(storeFloats);
+        Vec3 result = new Vec3();
+        getTargetAngularVelocityCs(result);
 
         return result;
     }
 
+    /**
+     * Copy the target angular velocity of body2. The constraint is unaffected.
+     * (native method: GetTargetAngularVelocityCS)
+     *
+     * @param storeVelocity storage for the result (not null, modified)
+     */
+    public void getTargetAngularVelocityCs(Vec3 storeVelocity) {
+        long constraintVa = va();
+        NativeScratch scratch = Temporaries.scratch.get();
+        getTargetAngularVelocityCs(constraintVa, scratch.floatsVa);
+        storeVelocity.set(scratch.floats);
+    }
+
     /**
      * Copy the target orientation. The constraint is unaffected. (native
      * method: GetTargetOrientationCS)
@@ -96,14 +106,25 @@ public class SwingTwistConstraint extends TwoBodyConstraint {
      * @return a new quaternion
      */
     public Quat getTargetOrientationCs() {
-        long constraintVa = va();
-        FloatBuffer storeFloats = Temporaries.floatBuffer1.get();
-        getTargetOrientationCs(constraintVa, storeFloats);
-        Quat result = new Quat(storeFloats);
+        Quat result = new Quat();
+        getTargetOrientationCs(result);
 
         return result;
     }
 
+    /**
+     * Copy the target orientation. The constraint is unaffected. (native
+     * method: GetTargetOrientationCS)
+     *
+     * @param storeOrientation storage for the result (not null, modified)
+     */
+    public void getTargetOrientationCs(Quat storeOrientation) {
+        long constraintVa = va();
+        NativeScratch scratch = Temporaries.scratch.get();
+        getTargetOrientationCs(constraintVa, scratch.floatsVa);
+        storeOrientation.set(scratch.floats);
+    }
+
     /**
      * Access the settings of the twist motor.
      *
@@ -239,10 +260,10 @@ public class SwingTwistConstraint extends TwoBodyConstraint {
     native private static int getSwingMotorState(long constraintVa);
 
     native private static void getTargetAngularVelocityCs(
-            long constraintVa, FloatBuffer storeFloats);
+            long constraintVa, long floatsVa);
 
     native private static void getTargetOrientationCs(
-            long constraintVa, FloatBuffer storeFloats);
+            long constraintVa, long floatsVa);
 
     native private static long getTwistMotorSettings(long constraintVa);
 
@@ -43,6 +43,11 @@ final class Temporaries {
      */
     final static ThreadLocal<FloatBuffer> floatBuffer1
             = ThreadLocal.withInitial(() -> Jolt.newDirectFloatBuffer(12));
+    /**
+     * reusable scratch storage with pre-resolved native addresses
+     */
+    final static ThreadLocal<NativeScratch> scratch
+            = ThreadLocal.withInitial(NativeScratch::new);
     // *************************************************************************
     // constructors
 
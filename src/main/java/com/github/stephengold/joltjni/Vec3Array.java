@@ -0,0 +1,361 @@
+/*
+Copyright (c) 2026 Stephen Gold
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+ */
+package com.github.stephengold.joltjni;
+
+import com.github.stephengold.joltjni.readonly.Mat44Arg;
+import com.github.stephengold.joltjni.readonly.QuatArg;
+import com.github.stephengold.joltjni.readonly.Vec3Arg;
+import java.nio.FloatBuffer;
+
+/**
+ * A fixed-length array of single-precision vectors, stored off-heap in
+ * structure-of-arrays layout so that bulk operations can process several
+ * elements per SIMD instruction.
+ * <p>
+ * The backing buffer holds all X components, followed by all Y components,
+ * followed by all Z components.
+ *
+ * @author Stephen Gold sgold@sonic.net
+ */
+public class Vec3Array {
+    // *************************************************************************
+    // fields
+
+    /**
+     * backing storage for the components (direct, capacity=3*length)
+     */
+    final private FloatBuffer buffer;
+    /**
+     * number of elements
+     */
+    final private int length;
+    // *************************************************************************
+    // constructors
+
+    /**
+     * Instantiate an array of zero vectors.
+     *
+     * @param length the desired number of elements (&ge;0)
+     */
+    public Vec3Array(int length) {
+        if (length < 0) {
+            throw new IllegalArgumentException("length = " + length);
+        }
+
+        this.length = length;
+        this.buffer = Jolt.newDirectFloatBuffer(3 * length);
+    }
+    // *************************************************************************
+    // new methods exposed
+
+    /**
+     * Add the specified offset to every element.
+     *
+     * @param offset the offset to add (not null, unaffected)
+     */
+    public void add(Vec3Arg offset) {
+        float dx = offset.getX();
+        float dy = offset.getY();
+        float dz = offset.getZ();
+        addUniform(buffer, length, dx, dy, dz);
+    }
+
+    /**
+     * Add the corresponding element of the specified array to each element.
+     *
+     * @param addends the vectors to add (not null, same length, unaffected)
+     */
+    public void add(Vec3Array addends) {
+        checkLength(addends.length);
+        add(buffer, addends.buffer, length);
+    }
+
+    /**
+     * Copy the component values from a buffer in which the vectors are packed
+     * as consecutive (x, y, z) triples, as used by
+     * {@code BodyInterface.getBodyStates()}.
+     *
+     * @param packed the packed vectors (not null, direct, capacity&ge;3*length,
+     * unaffected)
+     */
+    public void copyFromPacked(FloatBuffer packed) {
+        BufferUtils.checkDirectNonNull(packed, "packed", 3 * length);
+        unpack(packed, buffer, length);
+    }
+
+    /**
+     * Copy the component values to a buffer in which the vectors are packed as
+     * consecutive (x, y, z) triples, as used by the bulk {@code BodyInterface}
+     * setters.
+     *
+     * @param storePacked storage for the packed vectors (not null, direct,
+     * capacity&ge;3*length, modified)
+     */
+    public void copyToPacked(FloatBuffer storePacked) {
+        BufferUtils.checkDirectNonNull(storePacked, "storePacked", 3 * length);
+        pack(buffer, storePacked, length);
+    }
+
+    /**
+     * Calculate the cross product of each element with the corresponding
+     * element of the specified array.
+     *
+     * @param rightFactors the right factors (not null, same length,
+     * unaffected)
+     * @param storeResult storage for the products (not null, same length, may
+     * be {@code this} or {@code rightFactors}, modified)
+     */
+    public void cross(Vec3Array rightFactors, Vec3Array storeResult) {
+        checkLength(rightFactors.length);
+        checkLength(storeResult.length);
+        cross(buffer, rightFactors.buffer, storeResult.buffer, length);
+    }
+
+    /**
+     * Calculate the dot product of each element with the corresponding element
+     * of the specified array. The current array is unaffected.
+     *
+     * @param factors the other factors (not null, same length, unaffected)
+     * @param storeResult storage for the products (not null, direct,
+     * capacity&ge;length, modified)
+     */
+    public void dot(Vec3Array factors, FloatBuffer storeResult) {
+        checkLength(factors.length);
+        BufferUtils.checkDirectNonNull(storeResult, "storeResult", length);
+        dot(buffer, factors.buffer, storeResult, length);
+    }
+
+    /**
+     * Set every element to the specified value.
+     *
+     * @param value the desired value (not null, unaffected)
+     */
+    public void fill(Vec3Arg value) {
+        float x = value.getX();
+        float y = value.getY();
+        float z = value.getZ();
+        for (int i = 0; i < length; ++i) {
+            buffer.put(i, x);
+            buffer.put(length + i, y);
+            buffer.put(2 * length + i, z);
+        }
+    }
+
+    /**
+     * Copy the element at the specified index.
+     *
+     * @param index the index of the element (&ge;0, &lt;length)
+     * @return a new vector
+     */
+    public Vec3 get(int index) {
+        Vec3 result = new Vec3();
+        get(index, result);
+
+        return result;
+    }
+
+    /**
+     * Copy the element at the specified index.
+     *
+     * @param index the index of the element (&ge;0, &lt;length)
+     * @param storeResult storage for the result (not null, modified)
+     */
+    public void get(int index, Vec3 storeResult) {
+        checkIndex(index);
+        float x = buffer.get(index);
+        float y = buffer.get(length + index);
+        float z = buffer.get(2 * length + index);
+        storeResult.set(x, y, z);
+    }
+
+    /**
+     * Access the backing buffer, which holds all X components, followed by all
+     * Y components, followed by all Z components.
+     *
+     * @return the pre-existing direct buffer (capacity=3*length)
+     */
+    public FloatBuffer getBuffer() {
+        return buffer;
+    }
+
+    /**
+     * Return the number of elements.
+     *
+     * @return the count (&ge;0)
+     */
+    public int length() {
+        return length;
+    }
+
+    /**
+     * Normalize each element. Elements that are nearly zero are left
+     * unchanged.
+     */
+    public void normalize() {
+        normalize(buffer, length);
+    }
+
+    /**
+     * Rotate every element by the specified quaternion.
+     *
+     * @param rotation the rotation to apply (not null, normalized, unaffected)
+     */
+    public void rotate(QuatArg rotation) {
+        float qx = rotation.getX();
+        float qy = rotation.getY();
+        float qz = rotation.getZ();
+        float qw = rotation.getW();
+        rotateUniform(buffer, length, qx, qy, qz, qw);
+    }
+
+    /**
+     * Rotate each element by the corresponding element of the specified
+     * array.
+     *
+     * @param rotations the rotations to apply (not null, same length, all
+     * normalized, unaffected)
+     */
+    public void rotate(QuatArray rotations) {
+        checkLength(rotations.length());
+        rotate(buffer, rotations.getBuffer(), length);
+    }
+
+    /**
+     * Multiply every element by the specified factor.
+     *
+     * @param factor the scale factor
+     */
+    public void scale(float factor) {
+        scaleUniform(buffer, length, factor);
+    }
+
+    /**
+     * Multiply each element by the corresponding factor in the specified
+     * buffer.
+     *
+     * @param factors the scale factors (not null, direct, capacity&ge;length,
+     * unaffected)
+     */
+    public void scale(FloatBuffer factors) {
+        BufferUtils.checkDirectNonNull(factors, "factors", length);
+        scale(buffer, factors, length);
+    }
+
+    /**
+     * Alter the element at the specified index.
+     *
+     * @param index the index of the element (&ge;0, &lt;length)
+     * @param x the desired X component
+     * @param y the desired Y component
+     * @param z the desired Z component
+     */
+    public void set(int index, float x, float y, float z) {
+        checkIndex(index);
+        buffer.put(index, x);
+        buffer.put(length + index, y);
+        buffer.put(2 * length + index, z);
+    }
+
+    /**
+     * Alter the element at the specified index.
+     *
+     * @param index the index of the element (&ge;0, &lt;length)
+     * @param value the desired value (not null, unaffected)
+     */
+    public void set(int index, Vec3Arg value) {
+        set(index, value.getX(), value.getY(), value.getZ());
+    }
+
+    /**
+     * Transform every element, treated as a location, by the specified matrix.
+     *
+     * @param matrix the transform to apply (not null, unaffected)
+     */
+    public void transform(Mat44Arg matrix) {
+        long matrixVa = matrix.targetVa();
+        transform(buffer, length, matrixVa);
+    }
+    // *************************************************************************
+    // private methods
+
+    /**
+     * Verify that the specified index refers to an element of this array.
+     *
+     * @param index the index to verify
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    private void checkIndex(int index) {
+        if (index < 0 || index >= length) {
+            throw new IndexOutOfBoundsException("index = " + index);
+        }
+    }
+
+    /**
+     * Verify that another array (or buffer) has the same length as this one.
+     *
+     * @param otherLength the length to verify
+     * @throws IllegalArgumentException if the lengths differ
+     */
+    private void checkLength(int otherLength) {
+        if (otherLength != length) {
+            throw new IllegalArgumentException(
+                    "length = " + otherLength + ", need " + length);
+        }
+    }
+    // *************************************************************************
+    // native private methods
+
+    native private static void add(
+            FloatBuffer soa, FloatBuffer addendSoa, int length);
+
+    native private static void addUniform(
+            FloatBuffer soa, int length, float dx, float dy, float dz);
+
+    native private static void cross(FloatBuffer leftSoa,
+            FloatBuffer rightSoa, FloatBuffer storeSoa, int length);
+
+    native private static void dot(FloatBuffer leftSoa, FloatBuffer rightSoa,
+            FloatBuffer storeFloats, int length);
+
+    native private static void normalize(FloatBuffer soa, int length);
+
+    native private static void pack(
+            FloatBuffer soa, FloatBuffer storeFloats, int length);
+
+    native private static void rotate(
+            FloatBuffer soa, FloatBuffer quatSoa, int length);
+
+    native private static void rotateUniform(FloatBuffer soa, int length,
+            float qx, float qy, float qz, float qw);
+
+    native private static void scale(
+            FloatBuffer soa, FloatBuffer factors, int length);
+
+    native private static void scaleUniform(
+            FloatBuffer soa, int length, float factor);
+
+    native private static void transform(
+            FloatBuffer soa, int length, long matrixVa);
+
+    native private static void unpack(
+            FloatBuffer floats, FloatBuffer storeSoa, int length);
+}
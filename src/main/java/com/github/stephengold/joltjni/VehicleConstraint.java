@@ -214,12 +214,13 @@ public class VehicleConstraint
     /**
      * Replace the collision tester.
      *
-     * @param tester the desired tester (not null, counted reference created)
+     * @param tester the desired tester (counted reference created) or
+     * {@code null} for none
      */
     public void setVehicleCollisionTester(VehicleCollisionTester tester) {
         this.tester = tester;
         long constraintVa = va();
-        long testerVa = tester.va();
+        long testerVa = (tester == null) ? 0L : tester.va();
         setVehicleCollisionTester(constraintVa, testerVa);
     }
     // *************************************************************************
@@ -274,14 +275,25 @@ public class VehicleConstraint
      */
     @Override
     public Vec3 getGravityOverride() {
-        long constraintVa = va();
-        FloatBuffer storeFloats = Temporaries.floatBuffer1.get();
-        getGravityOverride(constraintVa, storeFloats);
-        Vec3 result = new Vec3(storeFloats);
+        Vec3 result = new Vec3();
+        getGravityOverride(result);
 
         return result;
     }
 
+    /**
+     * Copy the gravity override. The constraint is unaffected.
+     *
+     * @param storeVector storage for the result (not null, modified)
+     */
+    @Override
+    public void getGravityOverride(Vec3 storeVector) {
+        long constraintVa = va();
+        NativeScratch scratch = Temporaries.scratch.get();
+        getGravityOverride(constraintVa, scratch.floatsVa);
+        storeVector.set(scratch.floats);
+    }
+
     /**
      * Copy the local "forward" direction. The constraint is unaffected.
      *
@@ -289,14 +301,25 @@ public class VehicleConstraint
      */
     @Override
     public Vec3 getLocalForward() {
-        long constraintVa = va();
-        FloatBuffer storeFloats = Temporaries.floatBuffer1.get();
-        getLocalForward(constraintVa, storeFloats);
-        Vec3 result = new Vec3(storeFloats);
+        Vec3 result = new Vec3();
+        getLocalForward(result);
 
         return result;
     }
 
+    /**
+     * Copy the local "forward" direction. The constraint is unaffected.
+     *
+     * @param storeDirection storage for the result (not null, modified)
+     */
+    @Override
+    public void getLocalForward(Vec3 storeDirection) {
+        long constraintVa = va();
+        NativeScratch scratch = Temporaries.scratch.get();
+        getLocalForward(constraintVa, scratch.floatsVa);
+        storeDirection.set(scratch.floats);
+    }
+
     /**
      * Copy the local "up" direction. The constraint is unaffected.
      *
@@ -304,14 +327,25 @@ public class VehicleConstraint
      */
     @Override
     public Vec3 getLocalUp() {
-        long constraintVa = va();
-        FloatBuffer storeFloats = Temporaries.floatBuffer1.get();
-        getLocalUp(constraintVa, storeFloats);
-        Vec3 result = new Vec3(storeFloats);
+        Vec3 result = new Vec3();
+        getLocalUp(result);
 
         return result;
     }
 
+    /**
+     * Copy the local "up" direction. The constraint is unaffected.
+     *
+     * @param storeDirection storage for the result (not null, modified)
+     */
+    @Override
+    public void getLocalUp(Vec3 storeDirection) {
+        long constraintVa = va();
+        NativeScratch scratch = Temporaries.scratch.get();
+        getLocalUp(constraintVa, scratch.floatsVa);
+        storeDirection.set(scratch.floats);
+    }
+
     /**
      * Return the vehicle's maximum pitch/roll angle. The constraint is
      * unaffected.
@@ -408,14 +442,25 @@ public class VehicleConstraint
      */
     @Override
     public Vec3 getWorldUp() {
-        long constraintVa = va();
-        FloatBuffer storeFloats = Temporaries.floatBuffer1.get();
-        getWorldUp(constraintVa, storeFloats);
-        Vec3 result = new Vec3(storeFloats);
+        Vec3 result = new Vec3();
+        getWorldUp(result);
 
         return result;
     }
 
+    /**
+     * Copy the "up" direction based on gravity. The constraint is unaffected.
+     *
+     * @param storeDirection storage for the result (not null, modified)
+     */
+    @Override
+    public void getWorldUp(Vec3 storeDirection) {
+        long constraintVa = va();
+        NativeScratch scratch = Temporaries.scratch.get();
+        getWorldUp(constraintVa, scratch.floatsVa);
+        storeDirection.set(scratch.floats);
+    }
+
     /**
      * Test whether gravity is overridden. The constraint is unaffected.
      *
@@ -478,12 +523,12 @@ public class VehicleConstraint
     native static long getController(long constraintVa);
 
     native static void getGravityOverride(
-            long constraintVa, FloatBuffer storeFloats);
+            long constraintVa, long floatsVa);
 
     native static void getLocalForward(
-            long constraintVa, FloatBuffer storeFloats);
+            long constraintVa, long floatsVa);
 
-    native static void getLocalUp(long constraintVa, FloatBuffer storeFloats);
+    native static void getLocalUp(long constraintVa, long floatsVa);
 
     native static float getMaxPitchRollAngle(long constraintVa);
 
@@ -506,7 +551,7 @@ public class VehicleConstraint
     native static long getWheelWorldTransform(long constraintVa, int wheelIndex,
             float rx, float ry, float rz, float ux, float uy, float uz);
 
-    native static void getWorldUp(long constraintVa, FloatBuffer storeFloats);
+    native static void getWorldUp(long constraintVa, long floatsVa);
 
     native static boolean isGravityOverridden(long constraintVa);
 
@@ -190,14 +190,25 @@ final public class VehicleConstraintRef
      */
     @Override
     public Vec3 getGravityOverride() {
-        long constraintVa = targetVa();
-        FloatBuffer storeFloats = Temporaries.floatBuffer1.get();
-        VehicleConstraint.getGravityOverride(constraintVa, storeFloats);
-        Vec3 result = new Vec3(storeFloats);
+        Vec3 result = new Vec3();
+        getGravityOverride(result);
 
         return result;
     }
 
+    /**
+     * Copy the gravity override. The constraint is unaffected.
+     *
+     * @param storeVector storage for the result (not null, modified)
+     */
+    @Override
+    public void getGravityOverride(Vec3 storeVector) {
+        long constraintVa = targetVa();
+        NativeScratch scratch = Temporaries.scratch.get();
+        VehicleConstraint.getGravityOverride(constraintVa, scratch.floatsVa);
+        storeVector.set(scratch.floats);
+    }
+
     /**
      * Copy the local "forward" direction. The constraint is unaffected.
      *
@@ -205,14 +216,25 @@ final public class VehicleConstraintRef
      */
     @Override
     public Vec3 getLocalForward() {
-        long constraintVa = targetVa();
-        FloatBuffer storeFloats = Temporaries.floatBuffer1.get();
-        VehicleConstraint.getLocalForward(constraintVa, storeFloats);
-        Vec3 result = new Vec3(storeFloats);
+        Vec3 result = new Vec3();
+        getLocalForward(result);
 
         return result;
     }
 
+    /**
+     * Copy the local "forward" direction. The constraint is unaffected.
+     *
+     * @param storeDirection storage for the result (not null, modified)
+     */
+    @Override
+    public void getLocalForward(Vec3 storeDirection) {
+        long constraintVa = targetVa();
+        NativeScratch scratch = Temporaries.scratch.get();
+        VehicleConstraint.getLocalForward(constraintVa, scratch.floatsVa);
+        storeDirection.set(scratch.floats);
+    }
+
     /**
      * Copy the local "up" direction. The constraint is unaffected.
      *
@@ -220,14 +242,25 @@ final public class VehicleConstraintRef
      */
     @Override
     public Vec3 getLocalUp() {
-        long constraintVa = targetVa();
-        FloatBuffer storeFloats = Temporaries.floatBuffer1.get();
-        VehicleConstraint.getLocalUp(constraintVa, storeFloats);
-        Vec3 result = new Vec3(storeFloats);
+        Vec3 result = new Vec3();
+        getLocalUp(result);
 
         return result;
     }
 
+    /**
+     * Copy the local "up" direction. The constraint is unaffected.
+     *
+     * @param storeDirection storage for the result (not null, modified)
+     */
+    @Override
+    public void getLocalUp(Vec3 storeDirection) {
+        long constraintVa = targetVa();
+        NativeScratch scratch = Temporaries.scratch.get();
+        VehicleConstraint.getLocalUp(constraintVa, scratch.floatsVa);
+        storeDirection.set(scratch.floats);
+    }
+
     /**
      * Return the vehicle's maximum pitch/roll angle. The constraint is
      * unaffected.
@@ -385,14 +418,25 @@ final public class VehicleConstraintRef
      */
     @Override
     public Vec3 getWorldUp() {
-        long constraintVa = targetVa();
-        FloatBuffer storeFloats = Temporaries.floatBuffer1.get();
-        VehicleConstraint.getWorldUp(constraintVa, storeFloats);
-        Vec3 result = new Vec3(storeFloats);
+        Vec3 result = new Vec3();
+        getWorldUp(result);
 
         return result;
     }
 
+    /**
+     * Copy the "up" direction based on gravity. The constraint is unaffected.
+     *
+     * @param storeDirection storage for the result (not null, modified)
+     */
+    @Override
+    public void getWorldUp(Vec3 storeDirection) {
+        long constraintVa = targetVa();
+        NativeScratch scratch = Temporaries.scratch.get();
+        VehicleConstraint.getWorldUp(constraintVa, scratch.floatsVa);
+        storeDirection.set(scratch.floats);
+    }
+
     /**
      * Test whether the constraint is active. The constraint is unaffected.
      *
@@ -0,0 +1,240 @@
+/*
+Copyright (c) 2026 Stephen Gold
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+ */
+package com.github.stephengold.joltjni;
+
+import java.nio.FloatBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A fleet of wheeled vehicles whose driver inputs are applied, and whose
+ * telemetry is gathered, in a single native call per frame.
+ * <p>
+ * Driver inputs are packed as (forward, right, brake, hand brake) quadruples,
+ * one per vehicle. Telemetry is packed with a fixed stride per vehicle:
+ * engine RPM and current gear, followed by (contact, suspension length,
+ * angular velocity) triples, one per wheel. Wheel slots beyond a vehicle's
+ * wheel count are zero-filled.
+ *
+ * @author Stephen Gold sgold@sonic.net
+ */
+public class VehicleFleet {
+    // *************************************************************************
+    // constants
+
+    /**
+     * number of floats of driver input per vehicle
+     */
+    final public static int numInputFloats = 4;
+    /**
+     * number of floats of telemetry per vehicle, excluding wheels
+     */
+    final public static int numVehicleTelemetryFloats = 2;
+    /**
+     * number of floats of telemetry per wheel
+     */
+    final public static int numWheelTelemetryFloats = 3;
+    // *************************************************************************
+    // fields
+
+    /**
+     * maximum number of wheels on any vehicle in the fleet
+     */
+    private int maxWheels;
+    /**
+     * virtual addresses of the vehicle constraints, in fleet order
+     */
+    private long[] constraintVas = new long[16];
+    /**
+     * counted references to the vehicle constraints, in fleet order
+     */
+    final private List<VehicleConstraintRef> refs = new ArrayList<>(16);
+    /**
+     * the vehicle constraints as added (to preserve cached tester
+     * information), in fleet order
+     */
+    final private List<VehicleConstraint> vehicles = new ArrayList<>(16);
+    // *************************************************************************
+    // constructors
+
+    /**
+     * Instantiate an empty fleet. Add vehicles using {@code add()}.
+     */
+    public VehicleFleet() {
+        // do nothing
+    }
+    // *************************************************************************
+    // new methods exposed
+
+    /**
+     * Add the specified vehicle to the fleet.
+     *
+     * @param vehicle the vehicle to add (not null, controlled by a
+     * {@code WheeledVehicleController}, alias created)
+     * @return the index of the new member (&ge;0)
+     */
+    public int add(VehicleConstraint vehicle) {
+        VehicleController controller = vehicle.getController();
+        if (!(controller instanceof WheeledVehicleController)) {
+            throw new IllegalArgumentException(
+                    "controller = " + controller);
+        }
+
+        int result = vehicles.size();
+        if (result == constraintVas.length) {
+            long[] newArray = new long[2 * result];
+            System.arraycopy(constraintVas, 0, newArray, 0, result);
+            this.constraintVas = newArray;
+        }
+        constraintVas[result] = vehicle.va();
+        refs.add(vehicle.toRef());
+        vehicles.add(vehicle);
+        this.maxWheels = Math.max(maxWheels, vehicle.countWheels());
+
+        return result;
+    }
+
+    /**
+     * Count the vehicles in the fleet.
+     *
+     * @return the count (&ge;0)
+     */
+    public int countVehicles() {
+        int result = vehicles.size();
+        return result;
+    }
+
+    /**
+     * Write the telemetry of every vehicle to the specified buffer. Vehicle
+     * {@code i} is written starting at buffer index {@code i*stride}, where
+     * {@code stride} is the value returned by {@link #telemetryStride()}.
+     * Buffer position and limit are ignored.
+     *
+     * @param storeTelemetry storage for the packed telemetry (not null,
+     * direct, modified)
+     */
+    public void getTelemetry(FloatBuffer storeTelemetry) {
+        int numVehicles = vehicles.size();
+        if (storeTelemetry == null) {
+            throw new NullPointerException("storeTelemetry");
+        }
+        BufferUtils.checkDirect(
+                storeTelemetry, numVehicles * telemetryStride());
+
+        getTelemetry(constraintVas, numVehicles, maxWheels, storeTelemetry);
+    }
+
+    /**
+     * Access the specified vehicle.
+     *
+     * @param index the index of the vehicle (&ge;0, &lt;numVehicles)
+     * @return the pre-existing object that was added
+     */
+    public VehicleConstraint getVehicle(int index) {
+        VehicleConstraint result = vehicles.get(index);
+        return result;
+    }
+
+    /**
+     * Remove the specified vehicle from the fleet. The last vehicle (if any)
+     * is moved to the vacated index.
+     *
+     * @param index the index of the vehicle to remove (&ge;0,
+     * &lt;numVehicles)
+     */
+    public void remove(int index) {
+        int numVehicles = vehicles.size();
+        if (index < 0 || index >= numVehicles) {
+            throw new IllegalArgumentException("index = " + index);
+        }
+
+        int lastIndex = numVehicles - 1;
+        VehicleConstraintRef lastRef = refs.remove(lastIndex);
+        VehicleConstraint last = vehicles.remove(lastIndex);
+        if (index < lastIndex) {
+            refs.set(index, lastRef);
+            vehicles.set(index, last);
+            constraintVas[index] = constraintVas[lastIndex];
+        }
+
+        this.maxWheels = 0;
+        for (VehicleConstraint vehicle : vehicles) {
+            this.maxWheels = Math.max(maxWheels, vehicle.countWheels());
+        }
+    }
+
+    /**
+     * Update the driver inputs of every vehicle from the specified buffer.
+     * Vehicle {@code i} is read from buffer index {@code 4*i}. Buffer position
+     * and limit are ignored.
+     *
+     * @param inputs the packed (forward, right, brake, hand brake) inputs (not
+     * null, direct, unaffected)
+     * @param bodyInterface the interface used to activate the body of each
+     * vehicle that receives non-zero input, or {@code null} to skip
+     * activation
+     */
+    public void setDriverInputs(
+            FloatBuffer inputs, BodyInterface bodyInterface) {
+        int numVehicles = vehicles.size();
+        if (inputs == null) {
+            throw new NullPointerException("inputs");
+        }
+        BufferUtils.checkDirect(inputs, numInputFloats * numVehicles);
+
+        long bodyInterfaceVa
+                = (bodyInterface == null) ? 0L : bodyInterface.va();
+        setDriverInputs(constraintVas, numVehicles, inputs, bodyInterfaceVa);
+    }
+
+    /**
+     * Return the number of telemetry floats per vehicle.
+     *
+     * @return the count (&ge;2)
+     */
+    public int telemetryStride() {
+        int result = numVehicleTelemetryFloats
+                + numWheelTelemetryFloats * maxWheels;
+        return result;
+    }
+    // *************************************************************************
+    // new protected methods
+
+    /**
+     * Access the virtual addresses of the vehicle constraints, in fleet
+     * order.
+     *
+     * @return the pre-existing array (not null, only the first numVehicles
+     * elements are valid)
+     */
+    long[] getConstraintVas() {
+        return constraintVas;
+    }
+    // *************************************************************************
+    // native private methods
+
+    native private static void getTelemetry(long[] constraintVas,
+            int numVehicles, int maxWheels, FloatBuffer storeTelemetry);
+
+    native private static void setDriverInputs(long[] constraintVas,
+            int numVehicles, FloatBuffer inputs, long bodyInterfaceVa);
+}
@@ -0,0 +1,388 @@
+/*
+Copyright (c) 2026 Stephen Gold
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+ */
+package com.github.stephengold.joltjni;
+
+import com.github.stephengold.joltjni.readonly.RVec3Arg;
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+/**
+ * A level-of-detail policy for the vehicles in a {@code VehicleFleet}. Each
+ * time the policy is applied, every vehicle is assigned to a tier based on
+ * its distance from the nearest observer, and the tier's settings are
+ * applied to the vehicle. Exactly 4 settings are adjusted: the number of
+ * steps between wheel collision tests while the vehicle is active (via
+ * {@code setNumStepsBetweenCollisionTestActive()}), the velocity-step and
+ * position-step overrides of the vehicle constraint, and (for tiers that
+ * specify one) the collision tester. The interval for inactive vehicles is
+ * left unchanged. When a vehicle is assigned to a tier without a tester,
+ * the tester it had before the policy first replaced it is restored. A
+ * vehicle that leaves the fleet keeps its current tester and is forgotten.
+ * <p>
+ * Tiers are added in order of increasing distance. The distance limit of the
+ * last tier is ignored: a vehicle beyond it is still assigned to the last
+ * tier, so every vehicle is assigned to some tier. A vehicle moving faster
+ * than the "fast speed" is promoted one tier closer, so that fast-moving
+ * vehicles don't miss obstacles between collision tests.
+ *
+ * @author Stephen Gold sgold@sonic.net
+ */
+public class VehicleLodPolicy {
+    // *************************************************************************
+    // classes
+
+    /**
+     * The original tester of a vehicle whose tester was replaced by the
+     * policy.
+     */
+    private static class OriginalTester {
+        /**
+         * the original tester, or {@code null} if none
+         */
+        final VehicleCollisionTester tester;
+        /**
+         * number of the most recent application that found the vehicle in
+         * the fleet
+         */
+        long lastApplication;
+
+        /**
+         * Instantiate a record for the specified tester.
+         *
+         * @param tester the original tester (may be null, alias created)
+         * @param application the number of the current application
+         */
+        OriginalTester(VehicleCollisionTester tester, long application) {
+            this.tester = tester;
+            this.lastApplication = application;
+        }
+    }
+    // *************************************************************************
+    // fields
+
+    /**
+     * speed above which a vehicle is promoted one tier closer (in meters per
+     * second)
+     */
+    private float fastSpeed = Float.POSITIVE_INFINITY;
+    /**
+     * estimated wheel collision tests per simulation step, as of the most
+     * recent application
+     */
+    private float wheelCastsPerStep;
+    /**
+     * estimated wheel collision tests per simulation step avoided (relative to
+     * testing every wheel on every step) as of the most recent application
+     */
+    private float wheelCastsSavedPerStep;
+    /**
+     * observer coordinates passed to native code (reused and grown as needed)
+     */
+    private double[] observerArray = new double[0];
+    /**
+     * maximum distance of each tier (in meters)
+     */
+    private float[] maxDistances = new float[0];
+    /**
+     * wheel-cast estimates written by native code (reused)
+     */
+    final private float[] storeCasts = new float[2];
+    /**
+     * tier assigned to each vehicle by the most recent application
+     */
+    private int[] assignedTiers = new int[0];
+    /**
+     * number of simulation steps between wheel collision tests, for each tier
+     */
+    private int[] numStepsBetweenTests = new int[0];
+    /**
+     * position-step override for each tier (0&rarr;use the system default)
+     */
+    private int[] positionSteps = new int[0];
+    /**
+     * number of vehicles assigned to each tier by the most recent application
+     */
+    private int[] tierCounts = new int[0];
+    /**
+     * velocity-step override for each tier (0&rarr;use the system default)
+     */
+    private int[] velocitySteps = new int[0];
+    /**
+     * number of applications so far
+     */
+    private long numApplications;
+    /**
+     * collision tester for each tier ({@code null}&rarr;use the vehicle's
+     * original tester)
+     */
+    private VehicleCollisionTester[] testers = new VehicleCollisionTester[0];
+    /**
+     * original tester of each vehicle whose tester was replaced by the policy
+     */
+    final private Map<VehicleConstraint, OriginalTester> originalTesters
+            = new IdentityHashMap<>(16);
+    // *************************************************************************
+    // constructors
+
+    /**
+     * Instantiate a policy with no tiers. Add tiers using {@code addTier()}
+     * before applying the policy.
+     */
+    public VehicleLodPolicy() {
+        // do nothing
+    }
+    // *************************************************************************
+    // new methods exposed
+
+    /**
+     * Add a tier beyond all existing tiers.
+     *
+     * @param maxDistance the maximum distance from the nearest observer (in
+     * meters, &gt; the maximum distance of the previous tier, ignored while
+     * this is the last tier)
+     * @param numStepsBetweenTests the number of simulation steps between
+     * wheel collision tests for active vehicles (&ge;1)
+     * @param tester the collision tester to share among vehicles in the tier,
+     * or {@code null} to use each vehicle's original tester (alias created)
+     * @param numVelocitySteps the velocity-step override for the vehicle
+     * constraint (&ge;0, 0&rarr;use the system default)
+     * @param numPositionSteps the position-step override for the vehicle
+     * constraint (&ge;0, 0&rarr;use the system default)
+     * @return the index of the new tier (&ge;0)
+     */
+    public int addTier(float maxDistance, int numStepsBetweenTests,
+            VehicleCollisionTester tester, int numVelocitySteps,
+            int numPositionSteps) {
+        int result = maxDistances.length;
+        if (result > 0 && !(maxDistance > maxDistances[result - 1])) {
+            throw new IllegalArgumentException(
+                    "maxDistance = " + maxDistance);
+        }
+        if (numStepsBetweenTests < 1) {
+            throw new IllegalArgumentException(
+                    "numStepsBetweenTests = " + numStepsBetweenTests);
+        }
+        if (numVelocitySteps < 0) {
+            throw new IllegalArgumentException(
+                    "numVelocitySteps = " + numVelocitySteps);
+        }
+        if (numPositionSteps < 0) {
+            throw new IllegalArgumentException(
+                    "numPositionSteps = " + numPositionSteps);
+        }
+
+        int numTiers = result + 1;
+        this.maxDistances = Arrays.copyOf(maxDistances, numTiers);
+        maxDistances[result] = maxDistance;
+        this.numStepsBetweenTests
+                = Arrays.copyOf(this.numStepsBetweenTests, numTiers);
+        this.numStepsBetweenTests[result] = numStepsBetweenTests;
+        this.positionSteps = Arrays.copyOf(positionSteps, numTiers);
+        positionSteps[result] = numPositionSteps;
+        this.tierCounts = new int[numTiers];
+        this.velocitySteps = Arrays.copyOf(velocitySteps, numTiers);
+        velocitySteps[result] = numVelocitySteps;
+        this.testers = Arrays.copyOf(testers, numTiers);
+        testers[result] = tester;
+
+        return result;
+    }
+
+    /**
+     * Assign every vehicle in the specified fleet to a tier and apply the
+     * tier's settings. Collision testers are replaced only for vehicles whose
+     * tester differs from that of the assigned tier. A vehicle assigned to a
+     * tier without a tester gets back its original tester. Original testers
+     * of vehicles no longer in the fleet are forgotten. Intended to be
+     * invoked once per frame, before the physics update.
+     *
+     * @param fleet the vehicles to adjust (not null)
+     * @param observers the locations of the observers (not null, at least one
+     * element, unaffected)
+     */
+    public void apply(VehicleFleet fleet, RVec3Arg... observers) {
+        int numTiers = maxDistances.length;
+        if (numTiers == 0) {
+            throw new IllegalStateException("no tiers");
+        }
+        int numObservers = observers.length;
+        if (numObservers == 0) {
+            throw new IllegalArgumentException("no observers");
+        }
+
+        if (observerArray.length < 3 * numObservers) {
+            this.observerArray = new double[3 * numObservers];
+        }
+        for (int i = 0; i < numObservers; ++i) {
+            observerArray[3 * i] = observers[i].xx();
+            observerArray[3 * i + 1] = observers[i].yy();
+            observerArray[3 * i + 2] = observers[i].zz();
+        }
+
+        int numVehicles = fleet.countVehicles();
+        if (assignedTiers.length < numVehicles) {
+            this.assignedTiers = new int[numVehicles];
+        }
+        long[] constraintVas = fleet.getConstraintVas();
+        applyTiers(constraintVas, numVehicles, observerArray, numObservers,
+                maxDistances, numStepsBetweenTests, velocitySteps,
+                positionSteps, fastSpeed * fastSpeed, assignedTiers,
+                storeCasts);
+        this.wheelCastsPerStep = storeCasts[0];
+        this.wheelCastsSavedPerStep = storeCasts[1];
+
+        ++numApplications;
+        int numTracked = 0; // distinct fleet vehicles in originalTesters
+        Arrays.fill(tierCounts, 0);
+        for (int i = 0; i < numVehicles; ++i) {
+            int tier = assignedTiers[i];
+            ++tierCounts[tier];
+
+            VehicleCollisionTester tester = testers[tier];
+            VehicleConstraint vehicle = fleet.getVehicle(i);
+            OriginalTester original = originalTesters.get(vehicle);
+            if (tester == null) {
+                if (original != null) {
+                    originalTesters.remove(vehicle);
+                    vehicle.setVehicleCollisionTester(original.tester);
+                }
+                continue;
+            }
+
+            VehicleCollisionTester current
+                    = vehicle.getVehicleCollisionTester();
+            if (original == null && current != tester) {
+                original = new OriginalTester(current, numApplications);
+                originalTesters.put(vehicle, original);
+                ++numTracked;
+            } else if (original != null
+                    && original.lastApplication != numApplications) {
+                original.lastApplication = numApplications;
+                ++numTracked;
+            }
+            if (current != tester) {
+                vehicle.setVehicleCollisionTester(tester);
+            }
+        }
+
+        if (numTracked < originalTesters.size()) {
+            pruneOriginalTesters();
+        }
+    }
+
+    /**
+     * Count the tiers.
+     *
+     * @return the count (&ge;0)
+     */
+    public int countTiers() {
+        int result = maxDistances.length;
+        return result;
+    }
+
+    /**
+     * Count the vehicles assigned to the specified tier by the most recent
+     * application.
+     *
+     * @param tierIndex the index of the tier (&ge;0, &lt;numTiers)
+     * @return the count (&ge;0)
+     */
+    public int countVehiclesInTier(int tierIndex) {
+        int result = tierCounts[tierIndex];
+        return result;
+    }
+
+    /**
+     * Return the speed above which a vehicle is promoted one tier closer.
+     *
+     * @return the speed (in meters per second, &ge;0)
+     */
+    public float getFastSpeed() {
+        return fastSpeed;
+    }
+
+    /**
+     * Return the tier assigned to the specified vehicle by the most recent
+     * application.
+     *
+     * @param vehicleIndex the index of the vehicle in the fleet (&ge;0)
+     * @return the tier index (&ge;0, &lt;numTiers)
+     */
+    public int getTier(int vehicleIndex) {
+        int result = assignedTiers[vehicleIndex];
+        return result;
+    }
+
+    /**
+     * Return the estimated number of wheel collision tests per simulation
+     * step, as of the most recent application.
+     *
+     * @return the number (&ge;0)
+     */
+    public float getWheelCastsPerStep() {
+        return wheelCastsPerStep;
+    }
+
+    /**
+     * Return the estimated number of wheel collision tests per simulation
+     * step avoided, relative to testing every wheel on every step, as of the
+     * most recent application.
+     *
+     * @return the number (&ge;0)
+     */
+    public float getWheelCastsSavedPerStep() {
+        return wheelCastsSavedPerStep;
+    }
+
+    /**
+     * Alter the speed above which a vehicle is promoted one tier closer.
+     *
+     * @param speed the desired speed (in meters per second, &ge;0,
+     * default=infinity)
+     */
+    public void setFastSpeed(float speed) {
+        if (!(speed >= 0f)) {
+            throw new IllegalArgumentException("speed = " + speed);
+        }
+        this.fastSpeed = speed;
+    }
+    // *************************************************************************
+    // private methods
+
+    /**
+     * Forget the original testers of vehicles that weren't found in the fleet
+     * during the current application.
+     */
+    private void pruneOriginalTesters() {
+        originalTesters.values().removeIf(
+                original -> original.lastApplication != numApplications);
+    }
+    // *************************************************************************
+    // native private methods
+
+    native private static void applyTiers(long[] constraintVas,
+            int numVehicles, double[] observers, int numObservers,
+            float[] maxDistances, int[] numStepsBetweenTests,
+            int[] velocitySteps, int[] positionSteps, float fastSpeedSquared,
+            int[] storeTiers, float[] storeCasts);
+}
@@ -53,6 +53,14 @@ public interface ConstBody extends ConstJoltPhysicsObject {
      */
     Vec3 getAccumulatedForce();
 
+    /**
+     * Copy the net force acting on the body. The body is unaffected.
+     *
+     * @param storeForce storage for the result (Newtons in system coordinates,
+     * not null, modified)
+     */
+    void getAccumulatedForce(Vec3 storeForce);
+
     /**
      * Copy the net torque acting on the body. The body is unaffected.
      *
@@ -60,6 +68,14 @@ public interface ConstBody extends ConstJoltPhysicsObject {
      */
     Vec3 getAccumulatedTorque();
 
+    /**
+     * Copy the net torque acting on the body. The body is unaffected.
+     *
+     * @param storeTorque storage for the result (Newton.meters in system
+     * coordinates, not null, modified)
+     */
+    void getAccumulatedTorque(Vec3 storeTorque);
+
     /**
      * Test whether the body is allowed to fall asleep. The body is unaffected.
      *
@@ -74,6 +90,14 @@ public interface ConstBody extends ConstJoltPhysicsObject {
      */
     Vec3 getAngularVelocity();
 
+    /**
+     * Copy the body's angular velocity. The body is unaffected.
+     *
+     * @param storeVelocity storage for the result (radians per second in system
+     * coordinates, not null, modified)
+     */
+    void getAngularVelocity(Vec3 storeVelocity);
+
     /**
      * Generate settings to reconstruct the (rigid) body. The body is
      * unaffected.
@@ -176,6 +200,14 @@ public interface ConstBody extends ConstJoltPhysicsObject {
      */
     Vec3 getLinearVelocity();
 
+    /**
+     * Copy the body's linear velocity. The body is unaffected.
+     *
+     * @param storeVelocity storage for the result (meters per second in system
+     * coordinates, not null, modified)
+     */
+    void getLinearVelocity(Vec3 storeVelocity);
+
     /**
      * Access the body's motion properties.
      *
@@ -207,6 +239,15 @@ public interface ConstBody extends ConstJoltPhysicsObject {
      */
     RVec3 getPosition();
 
+    /**
+     * Copy the location of the body's origin (which might not coincide with its
+     * center of mass). The body is unaffected.
+     *
+     * @param storeLocation storage for the result (in system coordinates, not
+     * null, modified)
+     */
+    void getPosition(RVec3 storeLocation);
+
     /**
      * Copy the position of the body. The body is unaffected.
      *
@@ -231,6 +272,14 @@ public interface ConstBody extends ConstJoltPhysicsObject {
      */
     Quat getRotation();
 
+    /**
+     * Copy the body's orientation. The body is unaffected.
+     *
+     * @param storeOrientation storage for the result (relative to the system
+     * axes, not null, modified)
+     */
+    void getRotation(Quat storeOrientation);
+
     /**
      * Access the body's shape.
      *
@@ -281,6 +330,17 @@ public interface ConstBody extends ConstJoltPhysicsObject {
      */
     Vec3 getWorldSpaceSurfaceNormal(int subShapeId, RVec3Arg location);
 
+    /**
+     * Copy the surface normal of a particular subshape at the specified
+     * location. The body is unaffected.
+     *
+     * @param subShapeId the ID of the sub-shape to use
+     * @param location the location to use (not null, unaffected)
+     * @param storeNormal storage for the result (not null, modified)
+     */
+    void getWorldSpaceSurfaceNormal(
+            int subShapeId, RVec3Arg location, Vec3 storeNormal);
+
     /**
      * Copy the world transform. The body is unaffected.
      *
@@ -61,6 +61,26 @@ public interface ConstCharacter extends ConstCharacterBase {
      */
     RVec3 getCenterOfMassPosition(boolean lockBodies);
 
+    /**
+     * Copy the location of the rigid body's center of mass using the locking
+     * body interface. The character is unaffected.
+     *
+     * @param storeLocation storage for the result (in system coordinates, not
+     * null, modified)
+     */
+    void getCenterOfMassPosition(RVec3 storeLocation);
+
+    /**
+     * Copy the location of the rigid body's center of mass. The character is
+     * unaffected.
+     *
+     * @param storeLocation storage for the result (in system coordinates, not
+     * null, modified)
+     * @param lockBodies {@code true} &rarr; use the locking body interface,
+     * {@code false} &rarr; use the non-locking body interface (default=true)
+     */
+    void getCenterOfMassPosition(RVec3 storeLocation, boolean lockBodies);
+
     /**
      * Generate settings to reconstruct the character, using the locking body
      * interface. The character is unaffected.
@@ -112,6 +132,25 @@ public interface ConstCharacter extends ConstCharacterBase {
      */
     Vec3 getLinearVelocity(boolean lockBodies);
 
+    /**
+     * Copy the linear velocity of the character using the locking body
+     * interface. The character is unaffected.
+     *
+     * @param storeVelocity storage for the result (meters per second in
+     * system coordinates, not null, modified)
+     */
+    void getLinearVelocity(Vec3 storeVelocity);
+
+    /**
+     * Copy the linear velocity of the character. The character is unaffected.
+     *
+     * @param storeVelocity storage for the result (meters per second in
+     * system coordinates, not null, modified)
+     * @param lockBodies {@code true} &rarr; use the locking body interface,
+     * {@code false} &rarr; use the non-locking body interface (default=true)
+     */
+    void getLinearVelocity(Vec3 storeVelocity, boolean lockBodies);
+
     /**
      * Copy the location of the character using the locking body interface. The
      * character is unaffected.
@@ -129,6 +168,25 @@ public interface ConstCharacter extends ConstCharacterBase {
      */
     RVec3 getPosition(boolean lockBodies);
 
+    /**
+     * Copy the location of the character using the locking body interface. The
+     * character is unaffected.
+     *
+     * @param storeLocation storage for the result (in system coordinates, not
+     * null, modified)
+     */
+    void getPosition(RVec3 storeLocation);
+
+    /**
+     * Copy the location of the character. The character is unaffected.
+     *
+     * @param storeLocation storage for the result (in system coordinates, not
+     * null, modified)
+     * @param lockBodies {@code true} &rarr; use the locking body interface,
+     * {@code false} &rarr; use the non-locking body interface (default=true)
+     */
+    void getPosition(RVec3 storeLocation, boolean lockBodies);
+
     /**
      * Copy the position of the associated body using the locking body
      * interface. The character is unaffected.
@@ -170,6 +228,25 @@ public interface ConstCharacter extends ConstCharacterBase {
      */
     Quat getRotation(boolean lockBodies);
 
+    /**
+     * Copy the orientation of the character using the locking body interface.
+     * The character is unaffected.
+     *
+     * @param storeOrientation storage for the result (in system coordinates,
+     * not null, modified)
+     */
+    void getRotation(Quat storeOrientation);
+
+    /**
+     * Copy the orientation of the character. The character is unaffected.
+     *
+     * @param storeOrientation storage for the result (in system coordinates,
+     * not null, modified)
+     * @param lockBodies {@code true} &rarr; use the locking body interface,
+     * {@code false} &rarr; use the non-locking body interface (default=true)
+     */
+    void getRotation(Quat storeOrientation, boolean lockBodies);
+
     /**
      * Generate a TransformedShape that represents the volume occupied by the
      * character, using the locking body interface. The character is unaffected.
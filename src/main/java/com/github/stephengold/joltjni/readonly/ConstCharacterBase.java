@@ -66,6 +66,15 @@ public interface ConstCharacterBase extends ConstJoltPhysicsObject {
      */
     Vec3 getGroundNormal();
 
+    /**
+     * Copy the normal direction at the point of contact with the supporting
+     * surface. The character is unaffected.
+     *
+     * @param storeNormal storage for the result (in system coordinates, not
+     * null, modified)
+     */
+    void getGroundNormal(Vec3 storeNormal);
+
     /**
      * Copy the location of the point of contact with the supporting surface.
      * The character is unaffected.
@@ -74,6 +83,15 @@ public interface ConstCharacterBase extends ConstJoltPhysicsObject {
      */
     RVec3 getGroundPosition();
 
+    /**
+     * Copy the location of the point of contact with the supporting surface.
+     * The character is unaffected.
+     *
+     * @param storeLocation storage for the result (in system coordinates, not
+     * null, modified)
+     */
+    void getGroundPosition(RVec3 storeLocation);
+
     /**
      * Return the relationship between the character and its supporting surface.
      * The character is unaffected.
@@ -106,6 +124,15 @@ public interface ConstCharacterBase extends ConstJoltPhysicsObject {
      */
     Vec3 getGroundVelocity();
 
+    /**
+     * Copy the world-space velocity of the supporting surface. The character is
+     * unaffected.
+     *
+     * @param storeVelocity storage for the result (meters per second in system
+     * coordinates, not null, modified)
+     */
+    void getGroundVelocity(Vec3 storeVelocity);
+
     /**
      * Access the character's shape. The character is unaffected.
      *
@@ -121,6 +148,13 @@ public interface ConstCharacterBase extends ConstJoltPhysicsObject {
      */
     Vec3 getUp();
 
+    /**
+     * Copy the character's "up" direction. The character is unaffected.
+     *
+     * @param storeDirection storage for the result (not null, modified)
+     */
+    void getUp(Vec3 storeDirection);
+
     /**
      * Test whether the specified normal direction is too steep. The character
      * is unaffected.
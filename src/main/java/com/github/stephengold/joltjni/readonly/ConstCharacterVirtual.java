@@ -71,6 +71,15 @@ public interface ConstCharacterVirtual extends ConstCharacterBase {
      */
     RVec3 getCenterOfMassPosition();
 
+    /**
+     * Calculate the location of the character's center of mass. The character
+     * is unaffected.
+     *
+     * @param storeLocation storage for the result (in system coordinates, not
+     * null, modified)
+     */
+    void getCenterOfMassPosition(RVec3 storeLocation);
+
     /**
      * Calculate the local-to-system transform of the character's center of
      * mass. The character is unaffected.
@@ -133,6 +142,14 @@ public interface ConstCharacterVirtual extends ConstCharacterBase {
      */
     Vec3 getLinearVelocity();
 
+    /**
+     * Copy the linear velocity of the character. The character is unaffected.
+     *
+     * @param storeVelocity storage for the result (meters per second in system
+     * coordinates, not null, modified)
+     */
+    void getLinearVelocity(Vec3 storeVelocity);
+
     /**
      * Return the character's mass. The character is unaffected.
      *
@@ -178,6 +195,14 @@ public interface ConstCharacterVirtual extends ConstCharacterBase {
      */
     RVec3 getPosition();
 
+    /**
+     * Copy the location of the character. The character is unaffected.
+     *
+     * @param storeLocation storage for the result (in system coordinates, not
+     * null, modified)
+     */
+    void getPosition(RVec3 storeLocation);
+
     /**
      * Copy the position of the character. The character is unaffected.
      *
@@ -195,6 +220,14 @@ public interface ConstCharacterVirtual extends ConstCharacterBase {
      */
     Quat getRotation();
 
+    /**
+     * Copy the orientation of the character. The character is unaffected.
+     *
+     * @param storeOrientation storage for the result (in system coordinates,
+     * not null, modified)
+     */
+    void getRotation(Quat storeOrientation);
+
     /**
      * Copy the local offset applied to the shape. The character is unaffected.
      *
@@ -202,6 +235,14 @@ public interface ConstCharacterVirtual extends ConstCharacterBase {
      */
     Vec3 getShapeOffset();
 
+    /**
+     * Copy the local offset applied to the shape. The character is unaffected.
+     *
+     * @param storeOffset storage for the result (in local coordinates, not
+     * null, modified)
+     */
+    void getShapeOffset(Vec3 storeOffset);
+
     /**
      * Generate a TransformedShape that represents the volume occupied by the
      * character. The character is unaffected.
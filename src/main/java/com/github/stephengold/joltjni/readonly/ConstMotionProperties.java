@@ -41,6 +41,14 @@ public interface ConstMotionProperties extends ConstJoltPhysicsObject {
      */
     Vec3 getAccumulatedForce();
 
+    /**
+     * Copy the net force acting on the body. The properties are unaffected.
+     *
+     * @param storeForce storage for the result (Newtons in system coordinates,
+     * not null, modified)
+     */
+    void getAccumulatedForce(Vec3 storeForce);
+
     /**
      * Copy the net torque acting on the body. The properties are unaffected.
      *
@@ -48,6 +56,14 @@ public interface ConstMotionProperties extends ConstJoltPhysicsObject {
      */
     Vec3 getAccumulatedTorque();
 
+    /**
+     * Copy the net torque acting on the body. The properties are unaffected.
+     *
+     * @param storeTorque storage for the result (Newton.meters in system
+     * coordinates, not null, modified)
+     */
+    void getAccumulatedTorque(Vec3 storeTorque);
+
     /**
      * Return the allowed degrees of freedom. The properties are unaffected.
      *
@@ -85,6 +101,14 @@ public interface ConstMotionProperties extends ConstJoltPhysicsObject {
      */
     Vec3 getAngularVelocity();
 
+    /**
+     * Copy the angular velocity. The properties are unaffected.
+     *
+     * @param storeVelocity storage for the result (radians per second in
+     * system coordinates, not null, modified)
+     */
+    void getAngularVelocity(Vec3 storeVelocity);
+
     /**
      * Return the gravity factor. The properties are unaffected.
      *
@@ -100,6 +124,14 @@ public interface ConstMotionProperties extends ConstJoltPhysicsObject {
      */
     Quat getInertiaRotation();
 
+    /**
+     * Copy the rotation that takes the inverse-inertia diagonal to local
+     * coordinates. The properties are unaffected.
+     *
+     * @param storeRotation storage for the result (not null, modified)
+     */
+    void getInertiaRotation(Quat storeRotation);
+
     /**
      * Copy the diagonal components of the inverse inertia matrix, assuming a
      * dynamic body. The properties are unaffected.
@@ -108,6 +140,15 @@ public interface ConstMotionProperties extends ConstJoltPhysicsObject {
      */
     Vec3 getInverseInertiaDiagonal();
 
+    /**
+     * Copy the diagonal components of the inverse inertia matrix, assuming a
+     * dynamic body. The properties are unaffected.
+     *
+     * @param storeDiagonal storage for the result (all components &ge;0, not
+     * null, modified)
+     */
+    void getInverseInertiaDiagonal(Vec3 storeDiagonal);
+
     /**
      * Return the body's inverse mass. The properties are unaffected.
      *
@@ -136,6 +177,14 @@ public interface ConstMotionProperties extends ConstJoltPhysicsObject {
      */
     Vec3 getLinearVelocity();
 
+    /**
+     * Copy the linear velocity. The properties are unaffected.
+     *
+     * @param storeVelocity storage for the result (meters per second in system
+     * coordinates, not null, modified)
+     */
+    void getLinearVelocity(Vec3 storeVelocity);
+
     /**
      * Copy the inverse-inertia matrix. The properties are unaffected.
      *
@@ -28,6 +28,7 @@ import com.github.stephengold.joltjni.CastShapeCollector;
 import com.github.stephengold.joltjni.CollidePointCollector;
 import com.github.stephengold.joltjni.CollideShapeCollector;
 import com.github.stephengold.joltjni.CollideShapeSettings;
+import com.github.stephengold.joltjni.JobSystem;
 import com.github.stephengold.joltjni.ObjectLayerFilter;
 import com.github.stephengold.joltjni.RRayCast;
 import com.github.stephengold.joltjni.RShapeCast;
@@ -36,6 +37,9 @@ import com.github.stephengold.joltjni.RayCastSettings;
 import com.github.stephengold.joltjni.ShapeCastSettings;
 import com.github.stephengold.joltjni.ShapeFilter;
 import com.github.stephengold.joltjni.TransformedShapeCollector;
+import java.nio.Buffer;
+import java.nio.FloatBuffer;
+import java.nio.IntBuffer;
 
 /**
  * Read-only access to a {@code NarrowPhaseQuery}. (native type:
@@ -170,6 +174,66 @@ public interface ConstNarrowPhaseQuery extends ConstJoltPhysicsObject {
             ObjectLayerFilter olFilter, BodyFilter bodyFilter,
             ShapeFilter shapeFilter);
 
+    /**
+     * Cast multiple rays and obtain the nearest hit (if any) for each ray,
+     * using flat buffers instead of per-ray objects. For ray {@code i}, the
+     * origin and direction are read starting at index {@code 3*i}, and the
+     * results are written to index {@code i}. Buffer positions and limits are
+     * ignored. When a job system is specified, the rays are divided into
+     * batches that execute concurrently on its worker threads.
+     *
+     * @param numRays the number of rays to cast (&ge;0)
+     * @param origins the ray origins (direct {@code DoubleBuffer} or
+     * {@code FloatBuffer}, in system coordinates, not null, unaffected)
+     * @param directions the ray offsets (each with length equal to the ray
+     * length, direct, not null, unaffected)
+     * @param storeBodyIds storage for the ID of each body hit, or
+     * {@code cInvalidBodyId} for a miss (direct) or {@code null}
+     * @param storeSubShapeIds storage for the sub-shape ID of each hit
+     * (direct) or {@code null}
+     * @param storeFractions storage for the hit fraction of each ray, or a
+     * value &gt;1 for a miss (direct) or {@code null}
+     * @param jobSystem the job system to use, or {@code null} to cast all rays
+     * on the current thread
+     * @return the number of rays that hit (&ge;0, &le;numRays)
+     */
+    int castRays(int numRays, Buffer origins, FloatBuffer directions,
+            IntBuffer storeBodyIds, IntBuffer storeSubShapeIds,
+            FloatBuffer storeFractions, JobSystem jobSystem);
+
+    /**
+     * Cast multiple rays and obtain the nearest hit (if any) for each ray,
+     * using flat buffers instead of per-ray objects. For ray {@code i}, the
+     * origin and direction are read starting at index {@code 3*i}, and the
+     * results are written to index {@code i}. Buffer positions and limits are
+     * ignored. When a job system is specified, the rays are divided into
+     * batches that execute concurrently on its worker threads.
+     *
+     * @param numRays the number of rays to cast (&ge;0)
+     * @param origins the ray origins (direct {@code DoubleBuffer} or
+     * {@code FloatBuffer}, in system coordinates, not null, unaffected)
+     * @param directions the ray offsets (each with length equal to the ray
+     * length, direct, not null, unaffected)
+     * @param storeBodyIds storage for the ID of each body hit, or
+     * {@code cInvalidBodyId} for a miss (direct) or {@code null}
+     * @param storeSubShapeIds storage for the sub-shape ID of each hit
+     * (direct) or {@code null}
+     * @param storeFractions storage for the hit fraction of each ray, or a
+     * value &gt;1 for a miss (direct) or {@code null}
+     * @param bplFilter the broadphase-layer filter to apply (not null,
+     * unaffected)
+     * @param olFilter the object-layer filter to apply (not null, unaffected)
+     * @param bodyFilter the body filter to apply (not null, unaffected)
+     * @param jobSystem the job system to use, or {@code null} to cast all rays
+     * on the current thread
+     * @return the number of rays that hit (&ge;0, &le;numRays)
+     */
+    int castRays(int numRays, Buffer origins, FloatBuffer directions,
+            IntBuffer storeBodyIds, IntBuffer storeSubShapeIds,
+            FloatBuffer storeFractions, BroadPhaseLayerFilter bplFilter,
+            ObjectLayerFilter olFilter, BodyFilter bodyFilter,
+            JobSystem jobSystem);
+
     /**
      * Cast a shape and collect the resulting hits.
      *
@@ -255,6 +319,73 @@ public interface ConstNarrowPhaseQuery extends ConstJoltPhysicsObject {
             BroadPhaseLayerFilter bplFilter, ObjectLayerFilter olFilter,
             BodyFilter bodyFilter, ShapeFilter shapeFilter);
 
+    /**
+     * Cast multiple shapes and obtain the nearest hit (if any) for each cast,
+     * writing the results to flat buffers. Results for cast {@code i} are
+     * written to index {@code i} (or {@code 3*i} for normals). Buffer
+     * positions and limits are ignored. When a job system is specified, the
+     * casts execute concurrently on its worker threads.
+     *
+     * @param shapeCasts the desired shape casts (not null, no null elements,
+     * unaffected)
+     * @param settings the shape-cast configuration options to use (not null,
+     * unaffected)
+     * @param base the base location for reporting hits (not null, unaffected,
+     * (0,0,0)&rarr;world coordinates)
+     * @param storeBodyIds storage for the ID of each body hit, or
+     * {@code cInvalidBodyId} for a miss (direct) or {@code null}
+     * @param storeSubShapeIds storage for the sub-shape ID of each hit
+     * (direct) or {@code null}
+     * @param storeFractions storage for the hit fraction of each cast, or a
+     * value &gt;1 for a miss (direct) or {@code null}
+     * @param storeNormals storage for the normalized penetration axis of each
+     * hit (direct) or {@code null}
+     * @param jobSystem the job system to use, or {@code null} to perform all
+     * casts on the current thread
+     * @return the number of casts that hit (&ge;0)
+     */
+    int castShapes(RShapeCast[] shapeCasts, ShapeCastSettings settings,
+            RVec3Arg base, IntBuffer storeBodyIds, IntBuffer storeSubShapeIds,
+            FloatBuffer storeFractions, FloatBuffer storeNormals,
+            JobSystem jobSystem);
+
+    /**
+     * Cast multiple shapes and obtain the nearest hit (if any) for each cast,
+     * writing the results to flat buffers. Results for cast {@code i} are
+     * written to index {@code i} (or {@code 3*i} for normals). Buffer
+     * positions and limits are ignored. When a job system is specified, the
+     * casts execute concurrently on its worker threads.
+     *
+     * @param shapeCasts the desired shape casts (not null, no null elements,
+     * unaffected)
+     * @param settings the shape-cast configuration options to use (not null,
+     * unaffected)
+     * @param base the base location for reporting hits (not null, unaffected,
+     * (0,0,0)&rarr;world coordinates)
+     * @param storeBodyIds storage for the ID of each body hit, or
+     * {@code cInvalidBodyId} for a miss (direct) or {@code null}
+     * @param storeSubShapeIds storage for the sub-shape ID of each hit
+     * (direct) or {@code null}
+     * @param storeFractions storage for the hit fraction of each cast, or a
+     * value &gt;1 for a miss (direct) or {@code null}
+     * @param storeNormals storage for the normalized penetration axis of each
+     * hit (direct) or {@code null}
+     * @param bplFilter the broadphase-layer filter to apply (not null,
+     * unaffected)
+     * @param olFilter the object-layer filter to apply (not null, unaffected)
+     * @param bodyFilter the body filter to apply (not null, unaffected)
+     * @param shapeFilter the shape filter to apply (not null, unaffected)
+     * @param jobSystem the job system to use, or {@code null} to perform all
+     * casts on the current thread
+     * @return the number of casts that hit (&ge;0)
+     */
+    int castShapes(RShapeCast[] shapeCasts, ShapeCastSettings settings,
+            RVec3Arg base, IntBuffer storeBodyIds, IntBuffer storeSubShapeIds,
+            FloatBuffer storeFractions, FloatBuffer storeNormals,
+            BroadPhaseLayerFilter bplFilter, ObjectLayerFilter olFilter,
+            BodyFilter bodyFilter, ShapeFilter shapeFilter,
+            JobSystem jobSystem);
+
     /**
      * Collect leaf shapes that lie within the specified bounds.
      *
@@ -479,4 +610,77 @@ public interface ConstNarrowPhaseQuery extends ConstJoltPhysicsObject {
             RVec3Arg base, CollideShapeCollector collector,
             BroadPhaseLayerFilter bplFilter, ObjectLayerFilter olFilter,
             BodyFilter bodyFilter, ShapeFilter shapeFilter);
+
+    /**
+     * Collide multiple shapes with the bodies in the system and obtain the
+     * deepest hit (if any) for each shape, writing the results to flat
+     * buffers. Results for query {@code i} are written to index {@code i} (or
+     * {@code 3*i} for normals). Buffer positions and limits are ignored. When
+     * a job system is specified, the queries execute concurrently on its
+     * worker threads.
+     *
+     * @param shapes the shapes to test (not null, no null elements,
+     * unaffected)
+     * @param comTransforms the coordinate transform to apply to each shape's
+     * center of mass (not null, same length as {@code shapes}, unaffected)
+     * @param settings the collision settings to use (not null, unaffected)
+     * @param base the base location for reporting hits (not null, unaffected,
+     * (0,0,0)&rarr;world coordinates)
+     * @param storeBodyIds storage for the ID of each body hit, or
+     * {@code cInvalidBodyId} for a miss (direct) or {@code null}
+     * @param storeSubShapeIds storage for the sub-shape ID of each hit
+     * (direct) or {@code null}
+     * @param storeDepths storage for the penetration depth of each hit, or 0
+     * for a miss (direct) or {@code null}
+     * @param storeNormals storage for the normalized penetration axis of each
+     * hit (direct) or {@code null}
+     * @param jobSystem the job system to use, or {@code null} to perform all
+     * queries on the current thread
+     * @return the number of shapes that hit (&ge;0)
+     */
+    int collideShapes(ConstShape[] shapes, RMat44Arg[] comTransforms,
+            CollideShapeSettings settings, RVec3Arg base,
+            IntBuffer storeBodyIds, IntBuffer storeSubShapeIds,
+            FloatBuffer storeDepths, FloatBuffer storeNormals,
+            JobSystem jobSystem);
+
+    /**
+     * Collide multiple shapes with the bodies in the system and obtain the
+     * deepest hit (if any) for each shape, writing the results to flat
+     * buffers. Results for query {@code i} are written to index {@code i} (or
+     * {@code 3*i} for normals). Buffer positions and limits are ignored. When
+     * a job system is specified, the queries execute concurrently on its
+     * worker threads.
+     *
+     * @param shapes the shapes to test (not null, no null elements,
+     * unaffected)
+     * @param comTransforms the coordinate transform to apply to each shape's
+     * center of mass (not null, same length as {@code shapes}, unaffected)
+     * @param settings the collision settings to use (not null, unaffected)
+     * @param base the base location for reporting hits (not null, unaffected,
+     * (0,0,0)&rarr;world coordinates)
+     * @param storeBodyIds storage for the ID of each body hit, or
+     * {@code cInvalidBodyId} for a miss (direct) or {@code null}
+     * @param storeSubShapeIds storage for the sub-shape ID of each hit
+     * (direct) or {@code null}
+     * @param storeDepths storage for the penetration depth of each hit, or 0
+     * for a miss (direct) or {@code null}
+     * @param storeNormals storage for the normalized penetration axis of each
+     * hit (direct) or {@code null}
+     * @param bplFilter the broadphase-layer filter to apply (not null,
+     * unaffected)
+     * @param olFilter the object-layer filter to apply (not null, unaffected)
+     * @param bodyFilter the body filter to apply (not null, unaffected)
+     * @param shapeFilter the shape filter to apply (not null, unaffected)
+     * @param jobSystem the job system to use, or {@code null} to perform all
+     * queries on the current thread
+     * @return the number of shapes that hit (&ge;0)
+     */
+    int collideShapes(ConstShape[] shapes, RMat44Arg[] comTransforms,
+            CollideShapeSettings settings, RVec3Arg base,
+            IntBuffer storeBodyIds, IntBuffer storeSubShapeIds,
+            FloatBuffer storeDepths, FloatBuffer storeNormals,
+            BroadPhaseLayerFilter bplFilter, ObjectLayerFilter olFilter,
+            BodyFilter bodyFilter, ShapeFilter shapeFilter,
+            JobSystem jobSystem);
 }
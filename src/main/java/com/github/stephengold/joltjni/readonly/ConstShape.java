@@ -93,6 +93,13 @@ public interface ConstShape extends ConstJoltPhysicsObject {
      */
     Vec3 getCenterOfMass();
 
+    /**
+     * Locate the shape's center of mass. The shape is unaffected.
+     *
+     * @param storeLocation storage for the result (not null, modified)
+     */
+    void getCenterOfMass(Vec3 storeLocation);
+
     /**
      * Return the radius of the largest sphere that fits inside the shape. The
      * shape is unaffected.
@@ -62,6 +62,13 @@ public interface ConstVehicleConstraint extends ConstConstraint {
      */
     Vec3 getGravityOverride();
 
+    /**
+     * Copy the gravity override. The constraint is unaffected.
+     *
+     * @param storeVector storage for the result (not null, modified)
+     */
+    void getGravityOverride(Vec3 storeVector);
+
     /**
      * Copy the local "forward" direction. The constraint is unaffected.
      *
@@ -69,6 +76,13 @@ public interface ConstVehicleConstraint extends ConstConstraint {
      */
     Vec3 getLocalForward();
 
+    /**
+     * Copy the local "forward" direction. The constraint is unaffected.
+     *
+     * @param storeDirection storage for the result (not null, modified)
+     */
+    void getLocalForward(Vec3 storeDirection);
+
     /**
      * Copy the local "up" direction. The constraint is unaffected.
      *
@@ -76,6 +90,13 @@ public interface ConstVehicleConstraint extends ConstConstraint {
      */
     Vec3 getLocalUp();
 
+    /**
+     * Copy the local "up" direction. The constraint is unaffected.
+     *
+     * @param storeDirection storage for the result (not null, modified)
+     */
+    void getLocalUp(Vec3 storeDirection);
+
     /**
      * Return the vehicle's maximum pitch/roll angle. The constraint is
      * unaffected.
@@ -131,6 +152,14 @@ public interface ConstVehicleConstraint extends ConstConstraint {
      */
     Vec3 getWorldUp();
 
+    /**
+     * Copy the "up" direction based on gravity. The constraint is unaffected.
+     *
+     * @param storeDirection storage for the result (in system coordinates, not
+     * null, modified)
+     */
+    void getWorldUp(Vec3 storeDirection);
+
     /**
      * Test whether gravity is overridden. The constraint is unaffected.
      *
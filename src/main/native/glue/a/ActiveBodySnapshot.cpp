@@ -0,0 +1,108 @@
+/*
+Copyright (c) 2026 Stephen Gold
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+ */
+
+/*
+ * Author: Stephen Gold
+ */
+#include "Jolt/Jolt.h"
+#include "Jolt/Physics/PhysicsSystem.h"
+#include "auto/com_github_stephengold_joltjni_ActiveBodySnapshot.h"
+#include "glue/glue.h"
+
+using namespace JPH;
+
+/*
+ * layout of each record, matching the offsets in ActiveBodySnapshot.java
+ */
+struct SnapshotRecord {
+    jint mBodyId;
+    jint mFlags;
+    jdouble mLocation[3];
+    jfloat mOrientation[4];
+};
+static_assert(sizeof(SnapshotRecord) == 48);
+
+/*
+ * Append a record for each active body of the specified type.
+ */
+static jint captureType(const PhysicsSystem& system, EBodyType bodyType,
+        jint numRecords, jint maxRecords, SnapshotRecord *pRecords,
+        SnapshotRecord *pHistory) {
+    const BodyLockInterfaceNoLock& lockInterface
+            = system.GetBodyLockInterfaceNoLock();
+    const BodyID * const pIds = system.GetActiveBodiesUnsafe(bodyType);
+    const uint32 numActive = system.GetNumActiveBodies(bodyType);
+    for (uint32 i = 0; i < numActive && numRecords < maxRecords; ++i) {
+        const BodyID id = pIds[i];
+        const Body * const pBody = lockInterface.TryGetBody(id);
+        if (pBody == nullptr) {
+            continue;
+        }
+        const RVec3 location = pBody->GetPosition();
+        const Quat orientation = pBody->GetRotation();
+        SnapshotRecord& record = pRecords[numRecords++];
+        record.mBodyId = id.GetIndexAndSequenceNumber();
+        record.mLocation[0] = location.GetX();
+        record.mLocation[1] = location.GetY();
+        record.mLocation[2] = location.GetZ();
+        record.mOrientation[0] = orientation.GetX();
+        record.mOrientation[1] = orientation.GetY();
+        record.mOrientation[2] = orientation.GetZ();
+        record.mOrientation[3] = orientation.GetW();
+        SnapshotRecord& previous = pHistory[id.GetIndex()];
+        const bool changed = previous.mBodyId != record.mBodyId
+                || previous.mLocation[0] != record.mLocation[0]
+                || previous.mLocation[1] != record.mLocation[1]
+                || previous.mLocation[2] != record.mLocation[2]
+                || previous.mOrientation[0] != record.mOrientation[0]
+                || previous.mOrientation[1] != record.mOrientation[1]
+                || previous.mOrientation[2] != record.mOrientation[2]
+                || previous.mOrientation[3] != record.mOrientation[3];
+        record.mFlags = changed ? 0x1 : 0x0;
+        previous = record;
+    }
+    return numRecords;
+}
+
+/*
+ * Class:     com_github_stephengold_joltjni_ActiveBodySnapshot
+ * Method:    capture
+ * Signature: (JILjava/nio/ByteBuffer;Ljava/nio/ByteBuffer;)I
+ */
+JNIEXPORT jint JNICALL Java_com_github_stephengold_joltjni_ActiveBodySnapshot_capture
+  (JNIEnv *pEnv, jclass, jlong systemVa, jint maxBodies, jobject storeRecords,
+  jobject history) {
+    const PhysicsSystem * const pSystem
+            = reinterpret_cast<PhysicsSystem *> (systemVa);
+    SnapshotRecord * const pRecords
+            = (SnapshotRecord *) pEnv->GetDirectBufferAddress(storeRecords);
+    JPH_ASSERT(!pEnv->ExceptionCheck());
+    SnapshotRecord * const pHistory
+            = (SnapshotRecord *) pEnv->GetDirectBufferAddress(history);
+    JPH_ASSERT(!pEnv->ExceptionCheck());
+    JPH_ASSERT(pSystem->GetMaxBodies() <= (uint) maxBodies);
+    jint result = captureType(*pSystem, EBodyType::RigidBody, 0, maxBodies,
+            pRecords, pHistory);
+    result = captureType(*pSystem, EBodyType::SoftBody, result, maxBodies,
+            pRecords, pHistory);
+    return result;
+}
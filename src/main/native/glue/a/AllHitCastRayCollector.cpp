@@ -33,6 +33,30 @@ SOFTWARE.
 
 using namespace JPH;
 
+/*
+ * Class:     com_github_stephengold_joltjni_AllHitCastRayCollector
+ * Method:    copyHits
+ * Signature: (JLjava/nio/ByteBuffer;)V
+ */
+JNIEXPORT void JNICALL Java_com_github_stephengold_joltjni_AllHitCastRayCollector_copyHits
+  (JNIEnv *pEnv, jclass, jlong collectorVa, jobject storeRecords) {
+    const AllHitCollisionCollector<CastRayCollector> * const pCollector
+            = reinterpret_cast<AllHitCollisionCollector<CastRayCollector> *> (collectorVa);
+    HitRecord * const pRecords
+            = (HitRecord *) pEnv->GetDirectBufferAddress(storeRecords);
+    JPH_ASSERT(!pEnv->ExceptionCheck());
+    const Array<RayCastResult>::size_type numHits = pCollector->mHits.size();
+    for (Array<RayCastResult>::size_type i = 0; i < numHits; ++i) {
+        const RayCastResult& hit = pCollector->mHits[i];
+        HitRecord& record = pRecords[i];
+        record = HitRecord();
+        record.mBodyId = hit.mBodyID.GetIndexAndSequenceNumber();
+        record.mSubShapeId1 = SubShapeID().GetValue();
+        record.mSubShapeId2 = hit.mSubShapeID2.GetValue();
+        record.mFraction = hit.mFraction;
+    }
+}
+
 /*
  * Class:     com_github_stephengold_joltjni_AllHitCastRayCollector
  * Method:    countHits
@@ -32,6 +32,28 @@ SOFTWARE.
 
 using namespace JPH;
 
+/*
+ * Class:     com_github_stephengold_joltjni_AllHitCastShapeCollector
+ * Method:    copyHits
+ * Signature: (JLjava/nio/ByteBuffer;)V
+ */
+JNIEXPORT void JNICALL Java_com_github_stephengold_joltjni_AllHitCastShapeCollector_copyHits
+  (JNIEnv *pEnv, jclass, jlong collectorVa, jobject storeRecords) {
+    const AllHitCollisionCollector<CastShapeCollector> * const pCollector
+            = reinterpret_cast<AllHitCollisionCollector<CastShapeCollector> *> (collectorVa);
+    HitRecord * const pRecords
+            = (HitRecord *) pEnv->GetDirectBufferAddress(storeRecords);
+    JPH_ASSERT(!pEnv->ExceptionCheck());
+    const Array<ShapeCastResult>::size_type numHits = pCollector->mHits.size();
+    for (Array<ShapeCastResult>::size_type i = 0; i < numHits; ++i) {
+        const ShapeCastResult& hit = pCollector->mHits[i];
+        HitRecord& record = pRecords[i];
+        record.SetFromCollision(hit);
+        record.mFraction = hit.mFraction;
+        record.mFlags = hit.mIsBackFaceHit ? 0x1 : 0x0;
+    }
+}
+
 /*
  * Class:     com_github_stephengold_joltjni_AllHitCastShapeCollector
  * Method:    countHits
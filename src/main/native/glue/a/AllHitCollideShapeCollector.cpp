@@ -32,6 +32,25 @@ SOFTWARE.
 
 using namespace JPH;
 
+/*
+ * Class:     com_github_stephengold_joltjni_AllHitCollideShapeCollector
+ * Method:    copyHits
+ * Signature: (JLjava/nio/ByteBuffer;)V
+ */
+JNIEXPORT void JNICALL Java_com_github_stephengold_joltjni_AllHitCollideShapeCollector_copyHits
+  (JNIEnv *pEnv, jclass, jlong collectorVa, jobject storeRecords) {
+    const AllHitCollisionCollector<CollideShapeCollector> * const pCollector
+            = reinterpret_cast<AllHitCollisionCollector<CollideShapeCollector> *> (collectorVa);
+    HitRecord * const pRecords
+            = (HitRecord *) pEnv->GetDirectBufferAddress(storeRecords);
+    JPH_ASSERT(!pEnv->ExceptionCheck());
+    const Array<CollideShapeResult>::size_type numHits = pCollector->mHits.size();
+    for (Array<CollideShapeResult>::size_type i = 0; i < numHits; ++i) {
+        const CollideShapeResult& hit = pCollector->mHits[i];
+        pRecords[i].SetFromCollision(hit);
+    }
+}
+
 /*
  * Class:     com_github_stephengold_joltjni_AllHitCollideShapeCollector
  * Method:    countHits
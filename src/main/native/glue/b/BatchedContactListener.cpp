@@ -0,0 +1,290 @@
+/*
+Copyright (c) 2026 Stephen Gold
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+ */
+
+/*
+ * Author: Stephen Gold
+ */
+#include <atomic>
+#include "Jolt/Jolt.h"
+#include "Jolt/Physics/Collision/ContactListener.h"
+#include "Jolt/Physics/Body/Body.h"
+#include "auto/com_github_stephengold_joltjni_BatchedContactListener.h"
+#include "glue/glue.h"
+
+using namespace JPH;
+
+/*
+ * layout of each event record, matching the offsets in
+ * BatchedContactListener.java
+ */
+struct ContactEvent {
+    jint mType;
+    jint mBody1Id;
+    jint mBody2Id;
+    jint mSubShape1Id;
+    jint mSubShape2Id;
+    jint mNumPoints;
+    jdouble mPoint[3];
+    jfloat mNormal[3];
+    jfloat mDepth;
+    jfloat mFriction;
+    jfloat mRestitution;
+};
+static_assert(sizeof(ContactEvent) == 72);
+
+/*
+ * source of unique, non-zero thread serial numbers
+ */
+static std::atomic<uint64> sNextThreadSerial(1);
+/*
+ * serial number of the current thread, or 0 if not yet assigned
+ */
+static thread_local uint64 tThreadSerial = 0;
+
+/*
+ * A ContactListener that records events into per-thread segments of a
+ * pre-allocated native buffer. Each worker thread claims a segment (using
+ * compare-and-swap) the first time it reports an event, so recording never
+ * takes a lock. Events that don't fit are counted and discarded.
+ */
+class BatchedContactListener : public ContactListener {
+    static constexpr uint32 cNumLayers = 65536;
+    Array<ContactEvent> mEvents;
+    Array<uint32> mCounts;
+    std::atomic<uint64> *mpOwners;
+    std::atomic<uint64> mNumDropped;
+    const uint32 mMaxEventsPerThread;
+    const uint32 mMaxThreads;
+    bool mFilterEnabled;
+    uint64 mLayerBits[cNumLayers / 64];
+
+    bool IsIncluded(const Body& inBody1, const Body& inBody2) const {
+        if (!mFilterEnabled) {
+            return true;
+        }
+        return IsLayerIncluded(inBody1.GetObjectLayer())
+                || IsLayerIncluded(inBody2.GetObjectLayer());
+    }
+
+    bool IsLayerIncluded(uint32 layer) const {
+        if (layer >= cNumLayers) {
+            return false;
+        }
+        return (mLayerBits[layer >> 6] >> (layer & 63)) & 1;
+    }
+
+    ContactEvent *Reserve() {
+        if (tThreadSerial == 0) {
+            tThreadSerial = sNextThreadSerial.fetch_add(1);
+        }
+        const uint64 serial = tThreadSerial;
+        for (uint32 i = 0; i < mMaxThreads; ++i) {
+            uint64 owner = mpOwners[i].load(std::memory_order_relaxed);
+            if (owner == 0) {
+                mpOwners[i].compare_exchange_strong(owner, serial);
+            }
+            if (owner == 0 || owner == serial) {
+                const uint32 count = mCounts[i];
+                if (count < mMaxEventsPerThread) {
+                    mCounts[i] = count + 1;
+                    return &mEvents[i * mMaxEventsPerThread + count];
+                }
+                break;
+            }
+        }
+        mNumDropped.fetch_add(1, std::memory_order_relaxed);
+        return nullptr;
+    }
+
+    void Record(jint type, const Body& inBody1, const Body& inBody2,
+            const ContactManifold& inManifold, const ContactSettings& inSettings) {
+        if (!IsIncluded(inBody1, inBody2)) {
+            return;
+        }
+        ContactEvent * const pEvent = Reserve();
+        if (pEvent == nullptr) {
+            return;
+        }
+        pEvent->mType = type;
+        pEvent->mBody1Id = inBody1.GetID().GetIndexAndSequenceNumber();
+        pEvent->mBody2Id = inBody2.GetID().GetIndexAndSequenceNumber();
+        pEvent->mSubShape1Id = inManifold.mSubShapeID1.GetValue();
+        pEvent->mSubShape2Id = inManifold.mSubShapeID2.GetValue();
+        const uint numPoints = inManifold.mRelativeContactPointsOn1.size();
+        pEvent->mNumPoints = numPoints;
+        const RVec3 point = (numPoints > 0)
+                ? inManifold.GetWorldSpaceContactPointOn1(0)
+                : inManifold.mBaseOffset;
+        pEvent->mPoint[0] = point.GetX();
+        pEvent->mPoint[1] = point.GetY();
+        pEvent->mPoint[2] = point.GetZ();
+        const Vec3& normal = inManifold.mWorldSpaceNormal;
+        pEvent->mNormal[0] = normal.GetX();
+        pEvent->mNormal[1] = normal.GetY();
+        pEvent->mNormal[2] = normal.GetZ();
+        pEvent->mDepth = inManifold.mPenetrationDepth;
+        pEvent->mFriction = inSettings.mCombinedFriction;
+        pEvent->mRestitution = inSettings.mCombinedRestitution;
+    }
+
+public:
+    BatchedContactListener(uint32 maxEventsPerThread, uint32 maxThreads)
+            : mNumDropped(0), mMaxEventsPerThread(maxEventsPerThread),
+            mMaxThreads(maxThreads), mFilterEnabled(false) {
+        mEvents.resize(maxEventsPerThread * maxThreads);
+        mCounts.resize(maxThreads, 0);
+        mpOwners = new std::atomic<uint64>[maxThreads];
+        for (uint32 i = 0; i < maxThreads; ++i) {
+            mpOwners[i].store(0);
+        }
+        memset(mLayerBits, 0, sizeof(mLayerBits));
+    }
+
+    ~BatchedContactListener() {
+        delete[] mpOwners;
+    }
+
+    jint Collect(ContactEvent *pStore) {
+        jint result = 0;
+        for (uint32 i = 0; i < mMaxThreads; ++i) {
+            const uint32 count = mCounts[i];
+            if (count > 0) {
+                memcpy(pStore + result, &mEvents[i * mMaxEventsPerThread],
+                        count * sizeof(ContactEvent));
+                result += count;
+                mCounts[i] = 0;
+            }
+            /*
+             * No thread is recording between updates, so release every
+             * segment. Otherwise segments would remain bound to threads
+             * that have since terminated.
+             */
+            mpOwners[i].store(0, std::memory_order_relaxed);
+        }
+        mNumDropped.store(0);
+        return result;
+    }
+
+    uint64 GetNumDropped() const {
+        return mNumDropped.load();
+    }
+
+    void IncludeAllLayers() {
+        mFilterEnabled = false;
+        memset(mLayerBits, 0, sizeof(mLayerBits));
+    }
+
+    void IncludeLayer(uint32 layer) {
+        JPH_ASSERT(layer < cNumLayers);
+        mFilterEnabled = true;
+        mLayerBits[layer >> 6] |= uint64(1) << (layer & 63);
+    }
+
+    void OnContactAdded(const Body& inBody1, const Body& inBody2,
+            const ContactManifold& inManifold, ContactSettings& ioSettings) override {
+        Record(0, inBody1, inBody2, inManifold, ioSettings);
+    }
+
+    void OnContactPersisted(const Body& inBody1, const Body& inBody2,
+            const ContactManifold& inManifold, ContactSettings& ioSettings) override {
+        Record(1, inBody1, inBody2, inManifold, ioSettings);
+    }
+
+    void OnContactRemoved(const SubShapeIDPair& inPair) override {
+        ContactEvent * const pEvent = Reserve();
+        if (pEvent == nullptr) {
+            return;
+        }
+        memset(pEvent, 0, sizeof(ContactEvent));
+        pEvent->mType = 2;
+        pEvent->mBody1Id = inPair.GetBody1ID().GetIndexAndSequenceNumber();
+        pEvent->mBody2Id = inPair.GetBody2ID().GetIndexAndSequenceNumber();
+        pEvent->mSubShape1Id = inPair.GetSubShapeID1().GetValue();
+        pEvent->mSubShape2Id = inPair.GetSubShapeID2().GetValue();
+    }
+};
+
+/*
+ * Class:     com_github_stephengold_joltjni_BatchedContactListener
+ * Method:    collect
+ * Signature: (JLjava/nio/ByteBuffer;)I
+ */
+JNIEXPORT jint JNICALL Java_com_github_stephengold_joltjni_BatchedContactListener_collect
+  (JNIEnv *pEnv, jclass, jlong listenerVa, jobject storeEvents) {
+    BatchedContactListener * const pListener
+            = reinterpret_cast<BatchedContactListener *> (listenerVa);
+    ContactEvent * const pStore
+            = (ContactEvent *) pEnv->GetDirectBufferAddress(storeEvents);
+    JPH_ASSERT(!pEnv->ExceptionCheck());
+    const jint result = pListener->Collect(pStore);
+    return result;
+}
+
+/*
+ * Class:     com_github_stephengold_joltjni_BatchedContactListener
+ * Method:    create
+ * Signature: (II)J
+ */
+JNIEXPORT jlong JNICALL Java_com_github_stephengold_joltjni_BatchedContactListener_create
+  (JNIEnv *, jclass, jint maxEventsPerThread, jint maxThreads) {
+    BatchedContactListener * const pResult
+            = new BatchedContactListener(maxEventsPerThread, maxThreads);
+    TRACE_NEW("BatchedContactListener", pResult)
+    return reinterpret_cast<jlong> (pResult);
+}
+
+/*
+ * Class:     com_github_stephengold_joltjni_BatchedContactListener
+ * Method:    getNumDropped
+ * Signature: (J)J
+ */
+JNIEXPORT jlong JNICALL Java_com_github_stephengold_joltjni_BatchedContactListener_getNumDropped
+  (JNIEnv *, jclass, jlong listenerVa) {
+    const BatchedContactListener * const pListener
+            = reinterpret_cast<BatchedContactListener *> (listenerVa);
+    const uint64 result = pListener->GetNumDropped();
+    return result;
+}
+
+/*
+ * Class:     com_github_stephengold_joltjni_BatchedContactListener
+ * Method:    includeAllLayers
+ * Signature: (J)V
+ */
+JNIEXPORT void JNICALL Java_com_github_stephengold_joltjni_BatchedContactListener_includeAllLayers
+  (JNIEnv *, jclass, jlong listenerVa) {
+    BatchedContactListener * const pListener
+            = reinterpret_cast<BatchedContactListener *> (listenerVa);
+    pListener->IncludeAllLayers();
+}
+
+/*
+ * Class:     com_github_stephengold_joltjni_BatchedContactListener
+ * Method:    includeLayer
+ * Signature: (JI)V
+ */
+JNIEXPORT void JNICALL Java_com_github_stephengold_joltjni_BatchedContactListener_includeLayer
+  (JNIEnv *, jclass, jlong listenerVa, jint objectLayer) {
+    BatchedContactListener * const pListener
+            = reinterpret_cast<BatchedContactListener *> (listenerVa);
+    pListener->IncludeLayer(objectLayer);
+}
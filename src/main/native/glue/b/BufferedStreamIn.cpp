@@ -0,0 +1,171 @@
+/*
+Copyright (c) 2026 Stephen Gold
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+ */
+
+/*
+ * Author: Stephen Gold
+ */
+#include "Jolt/Jolt.h"
+#include "Jolt/Core/StreamIn.h"
+#include "auto/com_github_stephengold_joltjni_BufferedStreamIn.h"
+#include "glue/glue.h"
+
+using namespace JPH;
+
+/*
+ * An input stream that copies bytes out of a direct ByteBuffer. When the
+ * buffer runs dry, BufferedStreamIn.fill() is invoked to refill it. As with
+ * std::istream, EOF is signaled only by a read past the end of the data.
+ */
+class BufferedStreamIn : public StreamIn {
+    JavaVM *mpVM;
+    jmethodID mFillMethodId;
+    jobject mJavaObject;
+    const uint8 *mpBuffer;
+    size_t mLimit;
+    size_t mPosition;
+    bool mEof = false;
+
+public:
+    BufferedStreamIn(JNIEnv *pEnv, jobject javaObject, jobject buffer,
+            jint offset, jint limit) : mLimit(limit), mPosition(offset) {
+        pEnv->GetJavaVM(&mpVM);
+
+        mJavaObject = pEnv->NewGlobalRef(javaObject);
+        EXCEPTION_CHECK(pEnv)
+
+        const jclass clss = pEnv->FindClass(
+                "com/github/stephengold/joltjni/BufferedStreamIn");
+        EXCEPTION_CHECK(pEnv)
+
+        mFillMethodId = pEnv->GetMethodID(clss, "fill", "()I");
+        EXCEPTION_CHECK(pEnv)
+
+        mpBuffer = reinterpret_cast<uint8 *> (
+                pEnv->GetDirectBufferAddress(buffer));
+    }
+
+    size_t GetPosition() const {
+        return mPosition;
+    }
+
+    virtual bool IsEOF() const override {
+        return mEof;
+    }
+
+    virtual bool IsFailed() const override {
+        return mEof;
+    }
+
+    virtual void ReadBytes(void *pOut, size_t numBytes) override {
+        uint8 *pDest = reinterpret_cast<uint8 *> (pOut);
+        while (numBytes > 0) {
+            if (mPosition == mLimit && (mEof || !Fill())) {
+                memset(pDest, 0, numBytes);
+                mEof = true;
+                return;
+            }
+            const size_t numToCopy = std::min(numBytes, mLimit - mPosition);
+            memcpy(pDest, mpBuffer + mPosition, numToCopy);
+            mPosition += numToCopy;
+            pDest += numToCopy;
+            numBytes -= numToCopy;
+        }
+    }
+
+    ~BufferedStreamIn() {
+        JNIEnv * const pAttachEnv = gAttachmentCache.GetEnv(mpVM);
+        pAttachEnv->DeleteGlobalRef(mJavaObject);
+        EXCEPTION_CHECK(pAttachEnv)
+    }
+
+private:
+    /*
+     * Ask Java to refill the buffer from offset 0.
+     *
+     * Returns true if more bytes are available, otherwise false.
+     */
+    bool Fill() {
+        JNIEnv * const pAttachEnv = gAttachmentCache.GetEnv(mpVM);
+        const jint numBytes
+                = pAttachEnv->CallIntMethod(mJavaObject, mFillMethodId);
+        EXCEPTION_CHECK(pAttachEnv)
+        if (numBytes <= 0) {
+            return false;
+        }
+        mPosition = 0;
+        mLimit = numBytes;
+        return true;
+    }
+};
+
+/*
+ * Class:     com_github_stephengold_joltjni_BufferedStreamIn
+ * Method:    createStream
+ * Signature: (Ljava/nio/ByteBuffer;II)J
+ */
+JNIEXPORT jlong JNICALL Java_com_github_stephengold_joltjni_BufferedStreamIn_createStream
+  (JNIEnv *pEnv, jobject javaObject, jobject buffer, jint offset,
+  jint limit) {
+    BufferedStreamIn * const pResult
+            = new BufferedStreamIn(pEnv, javaObject, buffer, offset, limit);
+    TRACE_NEW("BufferedStreamIn", pResult)
+    return reinterpret_cast<jlong> (pResult);
+}
+
+/*
+ * Class:     com_github_stephengold_joltjni_BufferedStreamIn
+ * Method:    getPosition
+ * Signature: (J)I
+ */
+JNIEXPORT jint JNICALL Java_com_github_stephengold_joltjni_BufferedStreamIn_getPosition
+  (JNIEnv *, jclass, jlong streamVa) {
+    const BufferedStreamIn * const pStream
+            = reinterpret_cast<BufferedStreamIn *> (streamVa);
+    const jint result = pStream->GetPosition();
+    return result;
+}
+
+/*
+ * Class:     com_github_stephengold_joltjni_BufferedStreamIn
+ * Method:    isEof
+ * Signature: (J)Z
+ */
+JNIEXPORT jboolean JNICALL Java_com_github_stephengold_joltjni_BufferedStreamIn_isEof
+  (JNIEnv *, jclass, jlong streamVa) {
+    const BufferedStreamIn * const pStream
+            = reinterpret_cast<BufferedStreamIn *> (streamVa);
+    const bool result = pStream->IsEOF();
+    return result;
+}
+
+/*
+ * Class:     com_github_stephengold_joltjni_BufferedStreamIn
+ * Method:    isFailed
+ * Signature: (J)Z
+ */
+JNIEXPORT jboolean JNICALL Java_com_github_stephengold_joltjni_BufferedStreamIn_isFailed
+  (JNIEnv *, jclass, jlong streamVa) {
+    const BufferedStreamIn * const pStream
+            = reinterpret_cast<BufferedStreamIn *> (streamVa);
+    const bool result = pStream->IsFailed();
+    return result;
+}
@@ -0,0 +1,187 @@
+/*
+Copyright (c) 2026 Stephen Gold
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+ */
+
+/*
+ * Author: Stephen Gold
+ */
+#include "Jolt/Jolt.h"
+#include "Jolt/Core/StreamOut.h"
+#include "auto/com_github_stephengold_joltjni_BufferedStreamOut.h"
+#include "glue/glue.h"
+
+using namespace JPH;
+
+/*
+ * An output stream that copies bytes into a direct ByteBuffer. When the
+ * buffer is full, it's handed to BufferedStreamOut.drain(), which writes it
+ * elsewhere or replaces it with a larger one.
+ */
+class BufferedStreamOut : public StreamOut {
+    JavaVM *mpVM;
+    jmethodID mDrainMethodId;
+    jobject mJavaObject;
+    uint8 *mpBuffer = nullptr;
+    size_t mCapacity = 0;
+    size_t mPosition = 0;
+    bool mFailed = false;
+
+public:
+    BufferedStreamOut(JNIEnv *pEnv, jobject javaObject, jobject buffer,
+            jint offset) {
+        pEnv->GetJavaVM(&mpVM);
+
+        mJavaObject = pEnv->NewGlobalRef(javaObject);
+        EXCEPTION_CHECK(pEnv)
+
+        const jclass clss = pEnv->FindClass(
+                "com/github/stephengold/joltjni/BufferedStreamOut");
+        EXCEPTION_CHECK(pEnv)
+
+        mDrainMethodId = pEnv->GetMethodID(clss, "drain", "(I)I");
+        EXCEPTION_CHECK(pEnv)
+
+        SetBuffer(pEnv, buffer, offset);
+    }
+
+    size_t GetPosition() const {
+        return mPosition;
+    }
+
+    void SetBuffer(JNIEnv *pEnv, jobject buffer, jint offset) {
+        mpBuffer = reinterpret_cast<uint8 *> (
+                pEnv->GetDirectBufferAddress(buffer));
+        mCapacity = pEnv->GetDirectBufferCapacity(buffer);
+        mPosition = offset;
+        JPH_ASSERT(mPosition <= mCapacity);
+    }
+
+    void SetPosition(jint offset) {
+        mPosition = offset;
+        JPH_ASSERT(mPosition <= mCapacity);
+    }
+
+    virtual bool IsFailed() const override {
+        return mFailed;
+    }
+
+    virtual void WriteBytes(const void *pData, size_t numBytes) override {
+        const uint8 *pSource = reinterpret_cast<const uint8 *> (pData);
+        while (numBytes > 0 && !mFailed) {
+            if (mPosition == mCapacity) {
+                Drain();
+                continue;
+            }
+            const size_t numToCopy = std::min(numBytes, mCapacity - mPosition);
+            memcpy(mpBuffer + mPosition, pSource, numToCopy);
+            mPosition += numToCopy;
+            pSource += numToCopy;
+            numBytes -= numToCopy;
+        }
+    }
+
+    ~BufferedStreamOut() {
+        JNIEnv * const pAttachEnv = gAttachmentCache.GetEnv(mpVM);
+        pAttachEnv->DeleteGlobalRef(mJavaObject);
+        EXCEPTION_CHECK(pAttachEnv)
+    }
+
+private:
+    /*
+     * Hand the full buffer to Java. Java may replace the buffer (by invoking
+     * replaceBuffer()) before returning the offset at which to resume.
+     */
+    void Drain() {
+        JNIEnv * const pAttachEnv = gAttachmentCache.GetEnv(mpVM);
+        const jint numBytes = mPosition;
+        const jint resumeOffset = pAttachEnv->CallIntMethod(
+                mJavaObject, mDrainMethodId, numBytes);
+        EXCEPTION_CHECK(pAttachEnv)
+        if (resumeOffset < 0 || (size_t) resumeOffset >= mCapacity) {
+            mFailed = true;
+        } else {
+            mPosition = resumeOffset;
+        }
+    }
+};
+
+/*
+ * Class:     com_github_stephengold_joltjni_BufferedStreamOut
+ * Method:    createStream
+ * Signature: (Ljava/nio/ByteBuffer;I)J
+ */
+JNIEXPORT jlong JNICALL Java_com_github_stephengold_joltjni_BufferedStreamOut_createStream
+  (JNIEnv *pEnv, jobject javaObject, jobject buffer, jint offset) {
+    BufferedStreamOut * const pResult
+            = new BufferedStreamOut(pEnv, javaObject, buffer, offset);
+    TRACE_NEW("BufferedStreamOut", pResult)
+    return reinterpret_cast<jlong> (pResult);
+}
+
+/*
+ * Class:     com_github_stephengold_joltjni_BufferedStreamOut
+ * Method:    getPosition
+ * Signature: (J)I
+ */
+JNIEXPORT jint JNICALL Java_com_github_stephengold_joltjni_BufferedStreamOut_getPosition
+  (JNIEnv *, jclass, jlong streamVa) {
+    const BufferedStreamOut * const pStream
+            = reinterpret_cast<BufferedStreamOut *> (streamVa);
+    const jint result = pStream->GetPosition();
+    return result;
+}
+
+/*
+ * Class:     com_github_stephengold_joltjni_BufferedStreamOut
+ * Method:    isFailed
+ * Signature: (J)Z
+ */
+JNIEXPORT jboolean JNICALL Java_com_github_stephengold_joltjni_BufferedStreamOut_isFailed
+  (JNIEnv *, jclass, jlong streamVa) {
+    const BufferedStreamOut * const pStream
+            = reinterpret_cast<BufferedStreamOut *> (streamVa);
+    const bool result = pStream->IsFailed();
+    return result;
+}
+
+/*
+ * Class:     com_github_stephengold_joltjni_BufferedStreamOut
+ * Method:    replaceBuffer
+ * Signature: (JLjava/nio/ByteBuffer;I)V
+ */
+JNIEXPORT void JNICALL Java_com_github_stephengold_joltjni_BufferedStreamOut_replaceBuffer
+  (JNIEnv *pEnv, jclass, jlong streamVa, jobject buffer, jint offset) {
+    BufferedStreamOut * const pStream
+            = reinterpret_cast<BufferedStreamOut *> (streamVa);
+    pStream->SetBuffer(pEnv, buffer, offset);
+}
+
+/*
+ * Class:     com_github_stephengold_joltjni_BufferedStreamOut
+ * Method:    setPosition
+ * Signature: (JI)V
+ */
+JNIEXPORT void JNICALL Java_com_github_stephengold_joltjni_BufferedStreamOut_setPosition
+  (JNIEnv *, jclass, jlong streamVa, jint offset) {
+    BufferedStreamOut * const pStream
+            = reinterpret_cast<BufferedStreamOut *> (streamVa);
+    pStream->SetPosition(offset);
+}
@@ -156,13 +156,12 @@ JNIEXPORT jlong JNICALL Java_com_github_stephengold_joltjni_Body_createFixedToWo
 /*
  * Class:     com_github_stephengold_joltjni_Body
  * Method:    getAccumulatedForce
- * Signature: (JLjava/nio/FloatBuffer;)V
+ * Signature: (JJ)V
  */
 JNIEXPORT void JNICALL Java_com_github_stephengold_joltjni_Body_getAccumulatedForce
-  (JNIEnv *pEnv, jclass, jlong bodyVa, jobject storeFloats) {
+  (JNIEnv *, jclass, jlong bodyVa, jlong floatsVa) {
     const Body * const pBody = reinterpret_cast<Body *> (bodyVa);
-    DIRECT_FLOAT_BUFFER(pEnv, storeFloats, pFloats, capacityFloats);
-    JPH_ASSERT(capacityFloats >= 3);
+    jfloat * const pFloats = reinterpret_cast<jfloat *> (floatsVa);
     const Vec3 result = pBody->GetAccumulatedForce();
     pFloats[0] = result.GetX();
     pFloats[1] = result.GetY();
@@ -172,13 +171,12 @@ JNIEXPORT void JNICALL Java_com_github_stephengold_joltjni_Body_getAccumulatedFo
 /*
  * Class:     com_github_stephengold_joltjni_Body
  * Method:    getAccumulatedTorque
- * Signature: (JLjava/nio/FloatBuffer;)V
+ * Signature: (JJ)V
  */
 JNIEXPORT void JNICALL Java_com_github_stephengold_joltjni_Body_getAccumulatedTorque
-  (JNIEnv *pEnv, jclass, jlong bodyVa, jobject storeFloats) {
+  (JNIEnv *, jclass, jlong bodyVa, jlong floatsVa) {
     const Body * const pBody = reinterpret_cast<Body *> (bodyVa);
-    DIRECT_FLOAT_BUFFER(pEnv, storeFloats, pFloats, capacityFloats);
-    JPH_ASSERT(capacityFloats >= 3);
+    jfloat * const pFloats = reinterpret_cast<jfloat *> (floatsVa);
     const Vec3 result = pBody->GetAccumulatedTorque();
     pFloats[0] = result.GetX();
     pFloats[1] = result.GetY();
@@ -200,13 +198,12 @@ JNIEXPORT jboolean JNICALL Java_com_github_stephengold_joltjni_Body_getAllowSlee
 /*
  * Class:     com_github_stephengold_joltjni_Body
  * Method:    getAngularVelocity
- * Signature: (JLjava/nio/FloatBuffer;)V
+ * Signature: (JJ)V
  */
 JNIEXPORT void JNICALL Java_com_github_stephengold_joltjni_Body_getAngularVelocity
-  (JNIEnv *pEnv, jclass, jlong bodyVa, jobject storeFloats) {
+  (JNIEnv *, jclass, jlong bodyVa, jlong floatsVa) {
     const Body * const pBody = reinterpret_cast<Body *> (bodyVa);
-    DIRECT_FLOAT_BUFFER(pEnv, storeFloats, pFloats, capacityFloats);
-    JPH_ASSERT(capacityFloats >= 3);
+    jfloat * const pFloats = reinterpret_cast<jfloat *> (floatsVa);
     const Vec3 result = pBody->GetAngularVelocity();
     pFloats[0] = result.GetX();
     pFloats[1] = result.GetY();
@@ -347,13 +344,12 @@ JNIEXPORT jlong JNICALL Java_com_github_stephengold_joltjni_Body_getInverseCente
 /*
  * Class:     com_github_stephengold_joltjni_Body
  * Method:    getLinearVelocity
- * Signature: (JLjava/nio/FloatBuffer;)V
+ * Signature: (JJ)V
  */
 JNIEXPORT void JNICALL Java_com_github_stephengold_joltjni_Body_getLinearVelocity
-  (JNIEnv *pEnv, jclass, jlong bodyVa, jobject storeFloats) {
+  (JNIEnv *, jclass, jlong bodyVa, jlong floatsVa) {
     const Body * const pBody = reinterpret_cast<Body *> (bodyVa);
-    DIRECT_FLOAT_BUFFER(pEnv, storeFloats, pFloats, capacityFloats);
-    JPH_ASSERT(capacityFloats >= 3);
+    jfloat * const pFloats = reinterpret_cast<jfloat *> (floatsVa);
     const Vec3 result = pBody->GetLinearVelocity();
     pFloats[0] = result.GetX();
     pFloats[1] = result.GetY();
@@ -399,13 +395,12 @@ JNIEXPORT jint JNICALL Java_com_github_stephengold_joltjni_Body_getObjectLayer
 /*
  * Class:     com_github_stephengold_joltjni_Body
  * Method:    getPosition
- * Signature: (JLjava/nio/DoubleBuffer;)V
+ * Signature: (JJ)V
  */
 JNIEXPORT void JNICALL Java_com_github_stephengold_joltjni_Body_getPosition
-  (JNIEnv *pEnv, jclass, jlong bodyVa, jobject storeDoubles) {
+  (JNIEnv *, jclass, jlong bodyVa, jlong doublesVa) {
     const Body * const pBody = reinterpret_cast<Body *> (bodyVa);
-    DIRECT_DOUBLE_BUFFER(pEnv, storeDoubles, pDoubles, capacityDoubles);
-    JPH_ASSERT(capacityDoubles >= 3);
+    jdouble * const pDoubles = reinterpret_cast<jdouble *> (doublesVa);
     const RVec3 result = pBody->GetPosition();
     pDoubles[0] = result.GetX();
     pDoubles[1] = result.GetY();
@@ -427,13 +422,12 @@ JNIEXPORT jfloat JNICALL Java_com_github_stephengold_joltjni_Body_getRestitution
 /*
  * Class:     com_github_stephengold_joltjni_Body
  * Method:    getRotation
- * Signature: (JLjava/nio/FloatBuffer;)V
+ * Signature: (JJ)V
  */
 JNIEXPORT void JNICALL Java_com_github_stephengold_joltjni_Body_getRotation
-  (JNIEnv *pEnv, jclass, jlong bodyVa, jobject storeFloats) {
+  (JNIEnv *, jclass, jlong bodyVa, jlong floatsVa) {
     const Body * const pBody = reinterpret_cast<Body *> (bodyVa);
-    DIRECT_FLOAT_BUFFER(pEnv, storeFloats, pFloats, capacityFloats);
-    JPH_ASSERT(capacityFloats >= 4);
+    jfloat * const pFloats = reinterpret_cast<jfloat *> (floatsVa);
     const Quat result = pBody->GetRotation();
     pFloats[0] = result.GetX();
     pFloats[1] = result.GetY();
@@ -508,17 +502,16 @@ JNIEXPORT jlong JNICALL Java_com_github_stephengold_joltjni_Body_getWorldSpaceBo
 /*
  * Class:     com_github_stephengold_joltjni_Body
  * Method:    getWorldSpaceSurfaceNormal
- * Signature: (JIDDDLjava/nio/FloatBuffer;)V
+ * Signature: (JIDDDJ)V
  */
 JNIEXPORT void JNICALL Java_com_github_stephengold_joltjni_Body_getWorldSpaceSurfaceNormal
-  (JNIEnv *pEnv, jclass, jlong bodyVa, jint subShapeId, jdouble xx, jdouble yy,
-  jdouble zz, jobject storeFloats) {
+  (JNIEnv *, jclass, jlong bodyVa, jint subShapeId, jdouble xx, jdouble yy,
+  jdouble zz, jlong floatsVa) {
     const Body * const pBody = reinterpret_cast<Body *> (bodyVa);
     SubShapeID id;
     id.SetValue(subShapeId);
     const RVec3 location(xx, yy, zz);
-    DIRECT_FLOAT_BUFFER(pEnv, storeFloats, pFloats, capacityFloats);
-    JPH_ASSERT(capacityFloats >= 3);
+    jfloat * const pFloats = reinterpret_cast<jfloat *> (floatsVa);
     const Vec3 result = pBody->GetWorldSpaceSurfaceNormal(id, location);
     pFloats[0] = result.GetX();
     pFloats[1] = result.GetY();
@@ -25,15 +25,45 @@ SOFTWARE.
  */
 #include "Jolt/Jolt.h"
 #include "Jolt/Physics/Body/BodyInterface.h"
+#include "Jolt/Physics/Body/BodyLockMulti.h"
 #include "Jolt/Physics/Collision/BroadPhase/BroadPhase.h"
 #include "Jolt/Physics/Collision/Shape/Shape.h"
 #include "Jolt/Physics/Collision/TransformedShape.h"
+#include "Jolt/Physics/PhysicsSystem.h"
 
 #include "auto/com_github_stephengold_joltjni_BodyInterface.h"
 #include "glue/glue.h"
 
 using namespace JPH;
 
+/*
+ * Class:     com_github_stephengold_joltjni_BodyInterface
+ * Method:    activateBodies
+ * Signature: (JJI)V
+ */
+JNIEXPORT void JNICALL Java_com_github_stephengold_joltjni_BodyInterface_activateBodies
+  (JNIEnv *, jclass, jlong bodyInterfaceVa, jlong arrayVa, jint numBodies) {
+    BodyInterface * const pInterface
+            = reinterpret_cast<BodyInterface *> (bodyInterfaceVa);
+    const BodyID * const pArray = reinterpret_cast<BodyID *> (arrayVa);
+    pInterface->ActivateBodies(pArray, numBodies);
+}
+
+/*
+ * Class:     com_github_stephengold_joltjni_BodyInterface
+ * Method:    activateBodiesInVector
+ * Signature: (JJ)V
+ */
+JNIEXPORT void JNICALL Java_com_github_stephengold_joltjni_BodyInterface_activateBodiesInVector
+  (JNIEnv *, jclass, jlong bodyInterfaceVa, jlong vectorVa) {
+    BodyInterface * const pInterface
+            = reinterpret_cast<BodyInterface *> (bodyInterfaceVa);
+    const BodyIDVector * const pVector
+            = reinterpret_cast<BodyIDVector *> (vectorVa);
+    const jint numBodies = pVector->size();
+    pInterface->ActivateBodies(pVector->data(), numBodies);
+}
+
 /*
  * Class:     com_github_stephengold_joltjni_BodyInterface
  * Method:    activateBodiesInAaBox
@@ -230,6 +260,161 @@ JNIEXPORT void JNICALL Java_com_github_stephengold_joltjni_BodyInterface_addTorq
     pInterface->AddTorque(id, torque);
 }
 
+/*
+ * Apply a bulk modification to the specified bodies, locking all the bodies
+ * at once and then activating, in a single call, those that need it. The
+ * operation codes match the "bulk" constants in BodyInterface.java.
+ */
+static void applyBulk(JNIEnv *pEnv, jlong bodyInterfaceVa, jlong systemVa,
+        const BodyID *pIds, jint numBodies, jint operation, jobject vectors,
+        jobject vectors2, jobject locations) {
+    BodyInterface * const pInterface
+            = reinterpret_cast<BodyInterface *> (bodyInterfaceVa);
+    const PhysicsSystem * const pSystem
+            = reinterpret_cast<PhysicsSystem *> (systemVa);
+    const BodyLockInterface *pLockInterface = &pSystem->GetBodyLockInterface();
+    if (pInterface == &pSystem->GetBodyInterfaceNoLock()) {
+        pLockInterface = &pSystem->GetBodyLockInterfaceNoLock();
+    }
+    const jfloat * const pVectors
+            = (jfloat *) pEnv->GetDirectBufferAddress(vectors);
+    const jfloat * const pVectors2 = (vectors2 == nullptr) ? nullptr
+            : (jfloat *) pEnv->GetDirectBufferAddress(vectors2);
+    const jdouble * const pLocations = (locations == nullptr) ? nullptr
+            : (jdouble *) pEnv->GetDirectBufferAddress(locations);
+    JPH_ASSERT(!pEnv->ExceptionCheck());
+
+    Array<BodyID> activate;
+    {
+        const BodyLockMultiWrite lock(*pLockInterface, pIds, numBodies);
+        for (jint i = 0; i < numBodies; ++i) {
+            Body * const pBody = lock.GetBody(i);
+            if (pBody == nullptr) {
+                continue;
+            }
+            const Vec3 vector(pVectors[3 * i], pVectors[3 * i + 1],
+                    pVectors[3 * i + 2]);
+            bool wake = false;
+            switch (operation) {
+                case 0: // bulkAddForces
+                case 1: // bulkAddImpulses
+                    if (!pBody->IsDynamic()) {
+                        continue;
+                    }
+                    if (pLocations == nullptr && operation == 0) {
+                        pBody->AddForce(vector);
+                    } else if (pLocations == nullptr) {
+                        pBody->AddImpulse(vector);
+                    } else {
+                        const RVec3 location(pLocations[3 * i],
+                                pLocations[3 * i + 1], pLocations[3 * i + 2]);
+                        if (operation == 0) {
+                            pBody->AddForce(vector, location);
+                        } else {
+                            pBody->AddImpulse(vector, location);
+                        }
+                    }
+                    wake = true;
+                    break;
+
+                case 2: { // bulkSetLinearAndAngularVelocities
+                    if (pBody->IsStatic()) {
+                        continue;
+                    }
+                    const Vec3 omega(pVectors2[3 * i], pVectors2[3 * i + 1],
+                            pVectors2[3 * i + 2]);
+                    pBody->SetLinearVelocityClamped(vector);
+                    pBody->SetAngularVelocityClamped(omega);
+                    wake = !vector.IsNearZero() || !omega.IsNearZero();
+                    break;
+                }
+
+                case 3: // bulkSetLinearVelocities
+                    if (pBody->IsStatic()) {
+                        continue;
+                    }
+                    pBody->SetLinearVelocityClamped(vector);
+                    wake = !vector.IsNearZero();
+                    break;
+
+                default:
+                    JPH_ASSERT(false);
+            }
+            if (wake && !pBody->IsActive()) {
+                activate.push_back(pIds[i]);
+            }
+        }
+    }
+    if (!activate.empty()) {
+        pInterface->ActivateBodies(activate.data(), (int) activate.size());
+    }
+}
+
+/*
+ * Class:     com_github_stephengold_joltjni_BodyInterface
+ * Method:    applyBulkFromArray
+ * Signature: (JJ[IIILjava/nio/FloatBuffer;Ljava/nio/FloatBuffer;Ljava/nio/DoubleBuffer;)V
+ */
+JNIEXPORT void JNICALL Java_com_github_stephengold_joltjni_BodyInterface_applyBulkFromArray
+  (JNIEnv *pEnv, jclass, jlong bodyInterfaceVa, jlong systemVa,
+  jintArray bodyIds, jint numBodies, jint operation, jobject vectors,
+  jobject vectors2, jobject locations) {
+    static_assert(sizeof(BodyID) == sizeof(jint));
+    jboolean isCopy;
+    jint * const pIds = pEnv->GetIntArrayElements(bodyIds, &isCopy);
+    applyBulk(pEnv, bodyInterfaceVa, systemVa,
+            reinterpret_cast<BodyID *> (pIds), numBodies, operation, vectors,
+            vectors2, locations);
+    pEnv->ReleaseIntArrayElements(bodyIds, pIds, JNI_ABORT);
+}
+
+/*
+ * Class:     com_github_stephengold_joltjni_BodyInterface
+ * Method:    applyBulkFromBuffer
+ * Signature: (JJLjava/nio/IntBuffer;IILjava/nio/FloatBuffer;Ljava/nio/FloatBuffer;Ljava/nio/DoubleBuffer;)V
+ */
+JNIEXPORT void JNICALL Java_com_github_stephengold_joltjni_BodyInterface_applyBulkFromBuffer
+  (JNIEnv *pEnv, jclass, jlong bodyInterfaceVa, jlong systemVa,
+  jobject bodyIds, jint numBodies, jint operation, jobject vectors,
+  jobject vectors2, jobject locations) {
+    static_assert(sizeof(BodyID) == sizeof(jint));
+    const jint * const pIds = (jint *) pEnv->GetDirectBufferAddress(bodyIds);
+    JPH_ASSERT(!pEnv->ExceptionCheck());
+    applyBulk(pEnv, bodyInterfaceVa, systemVa,
+            reinterpret_cast<const BodyID *> (pIds), numBodies, operation,
+            vectors, vectors2, locations);
+}
+
+/*
+ * Class:     com_github_stephengold_joltjni_BodyInterface
+ * Method:    createBodies
+ * Signature: (J[JIJ)I
+ */
+JNIEXPORT jint JNICALL Java_com_github_stephengold_joltjni_BodyInterface_createBodies
+  (JNIEnv *pEnv, jclass, jlong bodyInterfaceVa, jlongArray settingsVas,
+  jint startIndex, jlong arrayVa) {
+    BodyInterface * const pInterface
+            = reinterpret_cast<BodyInterface *> (bodyInterfaceVa);
+    BodyID * const pArray = reinterpret_cast<BodyID *> (arrayVa);
+    const jsize numBodies = pEnv->GetArrayLength(settingsVas);
+    jboolean isCopy;
+    jlong * const pVas = pEnv->GetLongArrayElements(settingsVas, &isCopy);
+    jint result = 0;
+    for (jsize i = 0; i < numBodies; ++i) {
+        const BodyCreationSettings * const pSettings
+                = reinterpret_cast<BodyCreationSettings *> (pVas[i]);
+        const Body * const pBody = pInterface->CreateBody(*pSettings);
+        if (pBody == nullptr) {
+            pArray[startIndex + i] = BodyID();
+            ++result;
+        } else {
+            pArray[startIndex + i] = pBody->GetID();
+        }
+    }
+    pEnv->ReleaseLongArrayElements(settingsVas, pVas, JNI_ABORT);
+    return result;
+}
+
 /*
  * Class:     com_github_stephengold_joltjni_BodyInterface
  * Method:    createBody
@@ -279,6 +464,34 @@ JNIEXPORT jlong JNICALL Java_com_github_stephengold_joltjni_BodyInterface_create
     return reinterpret_cast<jlong> (pResult);
 }
 
+/*
+ * Class:     com_github_stephengold_joltjni_BodyInterface
+ * Method:    deactivateBodies
+ * Signature: (JJI)V
+ */
+JNIEXPORT void JNICALL Java_com_github_stephengold_joltjni_BodyInterface_deactivateBodies
+  (JNIEnv *, jclass, jlong bodyInterfaceVa, jlong arrayVa, jint numBodies) {
+    BodyInterface * const pInterface
+            = reinterpret_cast<BodyInterface *> (bodyInterfaceVa);
+    const BodyID * const pArray = reinterpret_cast<BodyID *> (arrayVa);
+    pInterface->DeactivateBodies(pArray, numBodies);
+}
+
+/*
+ * Class:     com_github_stephengold_joltjni_BodyInterface
+ * Method:    deactivateBodiesInVector
+ * Signature: (JJ)V
+ */
+JNIEXPORT void JNICALL Java_com_github_stephengold_joltjni_BodyInterface_deactivateBodiesInVector
+  (JNIEnv *, jclass, jlong bodyInterfaceVa, jlong vectorVa) {
+    BodyInterface * const pInterface
+            = reinterpret_cast<BodyInterface *> (bodyInterfaceVa);
+    const BodyIDVector * const pVector
+            = reinterpret_cast<BodyIDVector *> (vectorVa);
+    const jint numBodies = pVector->size();
+    pInterface->DeactivateBodies(pVector->data(), numBodies);
+}
+
 /*
  * Class:     com_github_stephengold_joltjni_BodyInterface
  * Method:    deactivateBody
@@ -292,6 +505,34 @@ JNIEXPORT void JNICALL Java_com_github_stephengold_joltjni_BodyInterface_deactiv
     pInterface->DeactivateBody(id);
 }
 
+/*
+ * Class:     com_github_stephengold_joltjni_BodyInterface
+ * Method:    destroyBodies
+ * Signature: (JJI)V
+ */
+JNIEXPORT void JNICALL Java_com_github_stephengold_joltjni_BodyInterface_destroyBodies
+  (JNIEnv *, jclass, jlong bodyInterfaceVa, jlong arrayVa, jint numBodies) {
+    BodyInterface * const pInterface
+            = reinterpret_cast<BodyInterface *> (bodyInterfaceVa);
+    const BodyID * const pArray = reinterpret_cast<BodyID *> (arrayVa);
+    pInterface->DestroyBodies(pArray, numBodies);
+}
+
+/*
+ * Class:     com_github_stephengold_joltjni_BodyInterface
+ * Method:    destroyBodiesInVector
+ * Signature: (JJ)V
+ */
+JNIEXPORT void JNICALL Java_com_github_stephengold_joltjni_BodyInterface_destroyBodiesInVector
+  (JNIEnv *, jclass, jlong bodyInterfaceVa, jlong vectorVa) {
+    BodyInterface * const pInterface
+            = reinterpret_cast<BodyInterface *> (bodyInterfaceVa);
+    const BodyIDVector * const pVector
+            = reinterpret_cast<BodyIDVector *> (vectorVa);
+    const jint numBodies = pVector->size();
+    pInterface->DestroyBodies(pVector->data(), numBodies);
+}
+
 /*
  * Class:     com_github_stephengold_joltjni_BodyInterface
  * Method:    destroyBody
@@ -308,21 +549,145 @@ JNIEXPORT void JNICALL Java_com_github_stephengold_joltjni_BodyInterface_destroy
 /*
  * Class:     com_github_stephengold_joltjni_BodyInterface
  * Method:    getAngularVelocity
- * Signature: (JILjava/nio/FloatBuffer;)V
+ * Signature: (JIJ)V
  */
 JNIEXPORT void JNICALL Java_com_github_stephengold_joltjni_BodyInterface_getAngularVelocity
-  (JNIEnv *pEnv, jclass, jlong bodyInterfaceVa, jint bodyId, jobject storeFloats) {
+  (JNIEnv *, jclass, jlong bodyInterfaceVa, jint bodyId, jlong floatsVa) {
     const BodyInterface * const pInterface
             = reinterpret_cast<BodyInterface *> (bodyInterfaceVa);
     const BodyID id(bodyId);
-    DIRECT_FLOAT_BUFFER(pEnv, storeFloats, pFloats, capacityFloats);
-    JPH_ASSERT(capacityFloats >= 3);
+    jfloat * const pFloats = reinterpret_cast<jfloat *> (floatsVa);
     const Vec3 result = pInterface->GetAngularVelocity(id);
     pFloats[0] = result.GetX();
     pFloats[1] = result.GetY();
     pFloats[2] = result.GetZ();
 }
 
+/*
+ * Copy the states of the specified bodies to direct buffers,
+ * locking all the bodies at once:
+ */
+static void getBodyStates(JNIEnv *pEnv, jlong bodyInterfaceVa, jlong systemVa,
+        const BodyID *pIds, jint numBodies, jobject storeLocations,
+        jboolean locationsAreDoubles, jobject storeOrientations,
+        jobject storeLinearVelocities, jobject storeAngularVelocities) {
+    const BodyInterface * const pInterface
+            = reinterpret_cast<BodyInterface *> (bodyInterfaceVa);
+    const PhysicsSystem * const pSystem
+            = reinterpret_cast<PhysicsSystem *> (systemVa);
+    const BodyLockInterface *pLockInterface = &pSystem->GetBodyLockInterface();
+    if (pInterface == &pSystem->GetBodyInterfaceNoLock()) {
+        pLockInterface = &pSystem->GetBodyLockInterfaceNoLock();
+    }
+    void * const pLocations = (storeLocations == nullptr) ? nullptr
+            : pEnv->GetDirectBufferAddress(storeLocations);
+    jdouble * const pLocDoubles = locationsAreDoubles
+            ? reinterpret_cast<jdouble *> (pLocations) : nullptr;
+    jfloat * const pLocFloats = locationsAreDoubles
+            ? nullptr : reinterpret_cast<jfloat *> (pLocations);
+    jfloat * const pOrientations = (storeOrientations == nullptr) ? nullptr
+            : (jfloat *) pEnv->GetDirectBufferAddress(storeOrientations);
+    jfloat * const pLinear = (storeLinearVelocities == nullptr) ? nullptr
+            : (jfloat *) pEnv->GetDirectBufferAddress(storeLinearVelocities);
+    jfloat * const pAngular = (storeAngularVelocities == nullptr) ? nullptr
+            : (jfloat *) pEnv->GetDirectBufferAddress(storeAngularVelocities);
+    JPH_ASSERT(!pEnv->ExceptionCheck());
+    const BodyLockMultiRead lock(*pLockInterface, pIds, numBodies);
+    for (jint i = 0; i < numBodies; ++i) {
+        const Body * const pBody = lock.GetBody(i);
+        if (pBody == nullptr) {
+            continue;
+        }
+        if (pLocDoubles != nullptr) {
+            const RVec3 location = pBody->GetPosition();
+            pLocDoubles[3 * i] = location.GetX();
+            pLocDoubles[3 * i + 1] = location.GetY();
+            pLocDoubles[3 * i + 2] = location.GetZ();
+        } else if (pLocFloats != nullptr) {
+            const RVec3 location = pBody->GetPosition();
+            pLocFloats[3 * i] = location.GetX();
+            pLocFloats[3 * i + 1] = location.GetY();
+            pLocFloats[3 * i + 2] = location.GetZ();
+        }
+        if (pOrientations != nullptr) {
+            const Quat orientation = pBody->GetRotation();
+            pOrientations[4 * i] = orientation.GetX();
+            pOrientations[4 * i + 1] = orientation.GetY();
+            pOrientations[4 * i + 2] = orientation.GetZ();
+            pOrientations[4 * i + 3] = orientation.GetW();
+        }
+        if (pLinear != nullptr) {
+            const Vec3 velocity = pBody->GetLinearVelocity();
+            pLinear[3 * i] = velocity.GetX();
+            pLinear[3 * i + 1] = velocity.GetY();
+            pLinear[3 * i + 2] = velocity.GetZ();
+        }
+        if (pAngular != nullptr) {
+            const Vec3 omega = pBody->GetAngularVelocity();
+            pAngular[3 * i] = omega.GetX();
+            pAngular[3 * i + 1] = omega.GetY();
+            pAngular[3 * i + 2] = omega.GetZ();
+        }
+    }
+}
+
+/*
+ * Class:     com_github_stephengold_joltjni_BodyInterface
+ * Method:    getBodyStatesFromArray
+ * Signature: (JJ[IILjava/nio/Buffer;ZLjava/nio/FloatBuffer;Ljava/nio/FloatBuffer;Ljava/nio/FloatBuffer;)V
+ */
+JNIEXPORT void JNICALL Java_com_github_stephengold_joltjni_BodyInterface_getBodyStatesFromArray
+  (JNIEnv *pEnv, jclass, jlong bodyInterfaceVa, jlong systemVa,
+  jintArray bodyIds, jint numBodies, jobject storeLocations,
+  jboolean locationsAreDoubles, jobject storeOrientations,
+  jobject storeLinearVelocities, jobject storeAngularVelocities) {
+    static_assert(sizeof(BodyID) == sizeof(jint));
+    jboolean isCopy;
+    jint * const pIds = pEnv->GetIntArrayElements(bodyIds, &isCopy);
+    getBodyStates(pEnv, bodyInterfaceVa, systemVa,
+            reinterpret_cast<BodyID *> (pIds), numBodies, storeLocations,
+            locationsAreDoubles, storeOrientations, storeLinearVelocities,
+            storeAngularVelocities);
+    pEnv->ReleaseIntArrayElements(bodyIds, pIds, JNI_ABORT);
+}
+
+/*
+ * Class:     com_github_stephengold_joltjni_BodyInterface
+ * Method:    getBodyStatesFromBuffer
+ * Signature: (JJLjava/nio/IntBuffer;ILjava/nio/Buffer;ZLjava/nio/FloatBuffer;Ljava/nio/FloatBuffer;Ljava/nio/FloatBuffer;)V
+ */
+JNIEXPORT void JNICALL Java_com_github_stephengold_joltjni_BodyInterface_getBodyStatesFromBuffer
+  (JNIEnv *pEnv, jclass, jlong bodyInterfaceVa, jlong systemVa,
+  jobject bodyIds, jint numBodies, jobject storeLocations,
+  jboolean locationsAreDoubles, jobject storeOrientations,
+  jobject storeLinearVelocities, jobject storeAngularVelocities) {
+    static_assert(sizeof(BodyID) == sizeof(jint));
+    const jint * const pIds = (jint *) pEnv->GetDirectBufferAddress(bodyIds);
+    JPH_ASSERT(!pEnv->ExceptionCheck());
+    getBodyStates(pEnv, bodyInterfaceVa, systemVa,
+            reinterpret_cast<const BodyID *> (pIds), numBodies, storeLocations,
+            locationsAreDoubles, storeOrientations, storeLinearVelocities,
+            storeAngularVelocities);
+}
+
+/*
+ * Class:     com_github_stephengold_joltjni_BodyInterface
+ * Method:    getBodyStatesFromVector
+ * Signature: (JJJLjava/nio/Buffer;ZLjava/nio/FloatBuffer;Ljava/nio/FloatBuffer;Ljava/nio/FloatBuffer;)V
+ */
+JNIEXPORT void JNICALL Java_com_github_stephengold_joltjni_BodyInterface_getBodyStatesFromVector
+  (JNIEnv *pEnv, jclass, jlong bodyInterfaceVa, jlong systemVa,
+  jlong vectorVa, jobject storeLocations, jboolean locationsAreDoubles,
+  jobject storeOrientations, jobject storeLinearVelocities,
+  jobject storeAngularVelocities) {
+    const BodyIDVector * const pVector
+            = reinterpret_cast<BodyIDVector *> (vectorVa);
+    const jint numBodies = pVector->size();
+    getBodyStates(pEnv, bodyInterfaceVa, systemVa, pVector->data(), numBodies,
+            storeLocations, locationsAreDoubles, storeOrientations,
+            storeLinearVelocities, storeAngularVelocities);
+}
+
 /*
  * Class:     com_github_stephengold_joltjni_BodyInterface
  * Method:    getBodyType
@@ -340,15 +705,14 @@ JNIEXPORT jint JNICALL Java_com_github_stephengold_joltjni_BodyInterface_getBody
 /*
  * Class:     com_github_stephengold_joltjni_BodyInterface
  * Method:    getCenterOfMassPosition
- * Signature: (JILjava/nio/DoubleBuffer;)V
+ * Signature: (JIJ)V
  */
 JNIEXPORT void JNICALL Java_com_github_stephengold_joltjni_BodyInterface_getCenterOfMassPosition
-  (JNIEnv *pEnv, jclass, jlong bodyInterfaceVa, jint bodyId, jobject storeDoubles) {
+  (JNIEnv *, jclass, jlong bodyInterfaceVa, jint bodyId, jlong doublesVa) {
     const BodyInterface * const pInterface
             = reinterpret_cast<BodyInterface *> (bodyInterfaceVa);
     const BodyID id(bodyId);
-    DIRECT_DOUBLE_BUFFER(pEnv, storeDoubles, pDoubles, capacityDoubles);
-    JPH_ASSERT(capacityDoubles >= 3);
+    jdouble * const pDoubles = reinterpret_cast<jdouble *> (doublesVa);
     const RVec3 result = pInterface->GetCenterOfMassPosition(id);
     pDoubles[0] = result.GetX();
     pDoubles[1] = result.GetY();
@@ -418,15 +782,14 @@ JNIEXPORT jlong JNICALL Java_com_github_stephengold_joltjni_BodyInterface_getInv
 /*
  * Class:     com_github_stephengold_joltjni_BodyInterface
  * Method:    getLinearVelocity
- * Signature: (JILjava/nio/FloatBuffer;)V
+ * Signature: (JIJ)V
  */
 JNIEXPORT void JNICALL Java_com_github_stephengold_joltjni_BodyInterface_getLinearVelocity
-  (JNIEnv *pEnv, jclass, jlong bodyInterfaceVa, jint bodyId, jobject storeFloats) {
+  (JNIEnv *, jclass, jlong bodyInterfaceVa, jint bodyId, jlong floatsVa) {
     const BodyInterface * const pInterface
             = reinterpret_cast<BodyInterface *> (bodyInterfaceVa);
     const BodyID id(bodyId);
-    DIRECT_FLOAT_BUFFER(pEnv, storeFloats, pFloats, capacityFloats);
-    JPH_ASSERT(capacityFloats >= 3);
+    jfloat * const pFloats = reinterpret_cast<jfloat *> (floatsVa);
     const Vec3 result = pInterface->GetLinearVelocity(id);
     pFloats[0] = result.GetX();
     pFloats[1] = result.GetY();
@@ -478,15 +841,14 @@ JNIEXPORT jint JNICALL Java_com_github_stephengold_joltjni_BodyInterface_getObje
 /*
  * Class:     com_github_stephengold_joltjni_BodyInterface
  * Method:    getPosition
- * Signature: (JILjava/nio/DoubleBuffer;)V
+ * Signature: (JIJ)V
  */
 JNIEXPORT void JNICALL Java_com_github_stephengold_joltjni_BodyInterface_getPosition
-  (JNIEnv *pEnv, jclass, jlong bodyInterfaceVa, jint bodyId, jobject storeDoubles) {
+  (JNIEnv *, jclass, jlong bodyInterfaceVa, jint bodyId, jlong doublesVa) {
     const BodyInterface * const pInterface
             = reinterpret_cast<BodyInterface *> (bodyInterfaceVa);
     const BodyID id(bodyId);
-    DIRECT_DOUBLE_BUFFER(pEnv, storeDoubles, pDoubles, capacityDoubles);
-    JPH_ASSERT(capacityDoubles >= 3);
+    jdouble * const pDoubles = reinterpret_cast<jdouble *> (doublesVa);
     const RVec3 result = pInterface->GetPosition(id);
     pDoubles[0] = result.GetX();
     pDoubles[1] = result.GetY();
@@ -537,15 +899,14 @@ JNIEXPORT jfloat JNICALL Java_com_github_stephengold_joltjni_BodyInterface_getRe
 /*
  * Class:     com_github_stephengold_joltjni_BodyInterface
  * Method:    getRotation
- * Signature: (JILjava/nio/FloatBuffer;)V
+ * Signature: (JIJ)V
  */
 JNIEXPORT void JNICALL Java_com_github_stephengold_joltjni_BodyInterface_getRotation
-  (JNIEnv *pEnv, jclass, jlong bodyInterfaceVa, jint bodyId, jobject storeFloats) {
+  (JNIEnv *, jclass, jlong bodyInterfaceVa, jint bodyId, jlong floatsVa) {
     const BodyInterface * const pInterface
             = reinterpret_cast<BodyInterface *> (bodyInterfaceVa);
     const BodyID id(bodyId);
-    DIRECT_FLOAT_BUFFER(pEnv, storeFloats, pFloats, capacityFloats);
-    JPH_ASSERT(capacityFloats >= 4);
+    jfloat * const pFloats = reinterpret_cast<jfloat *> (floatsVa);
     const Quat result = pInterface->GetRotation(id);
     pFloats[0] = result.GetX();
     pFloats[1] = result.GetY();
@@ -687,6 +1048,34 @@ JNIEXPORT void JNICALL Java_com_github_stephengold_joltjni_BodyInterface_notifyS
             id, previous, updateMassProperties, activationMode);
 }
 
+/*
+ * Class:     com_github_stephengold_joltjni_BodyInterface
+ * Method:    removeBodies
+ * Signature: (JJI)V
+ */
+JNIEXPORT void JNICALL Java_com_github_stephengold_joltjni_BodyInterface_removeBodies
+  (JNIEnv *, jclass, jlong bodyInterfaceVa, jlong arrayVa, jint numBodies) {
+    BodyInterface * const pInterface
+            = reinterpret_cast<BodyInterface *> (bodyInterfaceVa);
+    BodyID * const pArray = reinterpret_cast<BodyID *> (arrayVa);
+    pInterface->RemoveBodies(pArray, numBodies);
+}
+
+/*
+ * Class:     com_github_stephengold_joltjni_BodyInterface
+ * Method:    removeBodiesInVector
+ * Signature: (JJ)V
+ */
+JNIEXPORT void JNICALL Java_com_github_stephengold_joltjni_BodyInterface_removeBodiesInVector
+  (JNIEnv *, jclass, jlong bodyInterfaceVa, jlong vectorVa) {
+    BodyInterface * const pInterface
+            = reinterpret_cast<BodyInterface *> (bodyInterfaceVa);
+    BodyIDVector * const pVector
+            = reinterpret_cast<BodyIDVector *> (vectorVa);
+    const jint numBodies = pVector->size();
+    pInterface->RemoveBodies(pVector->data(), numBodies);
+}
+
 /*
  * Class:     com_github_stephengold_joltjni_BodyInterface
  * Method:    removeBody
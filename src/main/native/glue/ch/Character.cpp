@@ -132,20 +132,17 @@ JNIEXPORT jint JNICALL Java_com_github_stephengold_joltjni_Character_getBodyId
 /*
  * Class:     com_github_stephengold_joltjni_Character
  * Method:    getCenterOfMassPosition
- * Signature: (J[DZ)V
+ * Signature: (JJZ)V
  */
 JNIEXPORT void JNICALL Java_com_github_stephengold_joltjni_Character_getCenterOfMassPosition
-  (JNIEnv *pEnv, jclass, jlong characterVa, jdoubleArray storeDoubles, jboolean lockBodies) {
+  (JNIEnv *, jclass, jlong characterVa, jlong doublesVa, jboolean lockBodies) {
     const Character * const pCharacter
             = reinterpret_cast<Character *> (characterVa);
+    jdouble * const pDoubles = reinterpret_cast<jdouble *> (doublesVa);
     const RVec3 location = pCharacter->GetCenterOfMassPosition(lockBodies);
-    jboolean isCopy;
-    jdouble * const pStoreDoubles
-            = pEnv->GetDoubleArrayElements(storeDoubles, &isCopy);
-    pStoreDoubles[0] = location.GetX();
-    pStoreDoubles[1] = location.GetY();
-    pStoreDoubles[2] = location.GetZ();
-    pEnv->ReleaseDoubleArrayElements(storeDoubles, pStoreDoubles, 0);
+    pDoubles[0] = location.GetX();
+    pDoubles[1] = location.GetY();
+    pDoubles[2] = location.GetZ();
 }
 
 /*
@@ -179,88 +176,74 @@ JNIEXPORT jint JNICALL Java_com_github_stephengold_joltjni_Character_getLayer
 /*
  * Class:     com_github_stephengold_joltjni_Character
  * Method:    getLinearVelocity
- * Signature: (J[FZ)V
+ * Signature: (JJZ)V
  */
 JNIEXPORT void JNICALL Java_com_github_stephengold_joltjni_Character_getLinearVelocity
-  (JNIEnv *pEnv, jclass, jlong characterVa, jfloatArray storeFloats, jboolean lockBodies) {
+  (JNIEnv *, jclass, jlong characterVa, jlong floatsVa, jboolean lockBodies) {
     const Character * const pCharacter
             = reinterpret_cast<Character *> (characterVa);
+    jfloat * const pFloats = reinterpret_cast<jfloat *> (floatsVa);
     const Vec3 velocity = pCharacter->GetLinearVelocity(lockBodies);
-    jboolean isCopy;
-    jfloat * const pStoreFloats
-            = pEnv->GetFloatArrayElements(storeFloats, &isCopy);
-    pStoreFloats[0] = velocity.GetX();
-    pStoreFloats[1] = velocity.GetY();
-    pStoreFloats[2] = velocity.GetZ();
-    pEnv->ReleaseFloatArrayElements(storeFloats, pStoreFloats, 0);
+    pFloats[0] = velocity.GetX();
+    pFloats[1] = velocity.GetY();
+    pFloats[2] = velocity.GetZ();
 }
 
 /*
  * Class:     com_github_stephengold_joltjni_Character
  * Method:    getPosition
- * Signature: (J[DZ)V
+ * Signature: (JJZ)V
  */
 JNIEXPORT void JNICALL Java_com_github_stephengold_joltjni_Character_getPosition
-  (JNIEnv *pEnv, jclass, jlong characterVa, jdoubleArray storeDoubles, jboolean lockBodies) {
+  (JNIEnv *, jclass, jlong characterVa, jlong doublesVa, jboolean lockBodies) {
     const Character * const pCharacter
             = reinterpret_cast<Character *> (characterVa);
+    jdouble * const pDoubles = reinterpret_cast<jdouble *> (doublesVa);
     const RVec3 location = pCharacter->GetPosition(lockBodies);
-    jboolean isCopy;
-    jdouble * const pStoreDoubles
-            = pEnv->GetDoubleArrayElements(storeDoubles, &isCopy);
-    pStoreDoubles[0] = location.GetX();
-    pStoreDoubles[1] = location.GetY();
-    pStoreDoubles[2] = location.GetZ();
-    pEnv->ReleaseDoubleArrayElements(storeDoubles, pStoreDoubles, 0);
+    pDoubles[0] = location.GetX();
+    pDoubles[1] = location.GetY();
+    pDoubles[2] = location.GetZ();
 }
 
 /*
  * Class:     com_github_stephengold_joltjni_Character
  * Method:    getPositionAndRotation
- * Signature: (J[D[FZ)V
+ * Signature: (JJJZ)V
  */
 JNIEXPORT void JNICALL Java_com_github_stephengold_joltjni_Character_getPositionAndRotation
-  (JNIEnv *pEnv, jclass, jlong characterVa, jdoubleArray storeDoubles,
-  jfloatArray storeFloats, jboolean lockBodies) {
+  (JNIEnv *, jclass, jlong characterVa, jlong doublesVa, jlong floatsVa,
+  jboolean lockBodies) {
     const Character * const pCharacter
             = reinterpret_cast<Character *> (characterVa);
+    jdouble * const pDoubles = reinterpret_cast<jdouble *> (doublesVa);
+    jfloat * const pFloats = reinterpret_cast<jfloat *> (floatsVa);
     RVec3 location;
     Quat orientation;
     pCharacter->GetPositionAndRotation(location, orientation, lockBodies);
-    jboolean isCopy;
-    jdouble * const pStoreDoubles
-            = pEnv->GetDoubleArrayElements(storeDoubles, &isCopy);
-    pStoreDoubles[0] = location.GetX();
-    pStoreDoubles[1] = location.GetY();
-    pStoreDoubles[2] = location.GetZ();
-    pEnv->ReleaseDoubleArrayElements(storeDoubles, pStoreDoubles, 0);
-    jfloat * const pStoreFloats
-            = pEnv->GetFloatArrayElements(storeFloats, &isCopy);
-    pStoreFloats[0] = orientation.GetX();
-    pStoreFloats[1] = orientation.GetY();
-    pStoreFloats[2] = orientation.GetZ();
-    pStoreFloats[3] = orientation.GetW();
-    pEnv->ReleaseFloatArrayElements(storeFloats, pStoreFloats, 0);
+    pDoubles[0] = location.GetX();
+    pDoubles[1] = location.GetY();
+    pDoubles[2] = location.GetZ();
+    pFloats[0] = orientation.GetX();
+    pFloats[1] = orientation.GetY();
+    pFloats[2] = orientation.GetZ();
+    pFloats[3] = orientation.GetW();
 }
 
 /*
  * Class:     com_github_stephengold_joltjni_Character
  * Method:    getRotation
- * Signature: (J[FZ)V
+ * Signature: (JJZ)V
  */
 JNIEXPORT void JNICALL Java_com_github_stephengold_joltjni_Character_getRotation
-  (JNIEnv *pEnv, jclass, jlong characterVa, jfloatArray storeFloats, jboolean lockBodies) {
+  (JNIEnv *, jclass, jlong characterVa, jlong floatsVa, jboolean lockBodies) {
     const Character * const pCharacter
             = reinterpret_cast<Character *> (characterVa);
+    jfloat * const pFloats = reinterpret_cast<jfloat *> (floatsVa);
     const Quat orientation = pCharacter->GetRotation(lockBodies);
-    jboolean isCopy;
-    jfloat * const pStoreFloats
-            = pEnv->GetFloatArrayElements(storeFloats, &isCopy);
-    pStoreFloats[0] = orientation.GetX();
-    pStoreFloats[1] = orientation.GetY();
-    pStoreFloats[2] = orientation.GetZ();
-    pStoreFloats[3] = orientation.GetW();
-    pEnv->ReleaseFloatArrayElements(storeFloats, pStoreFloats, 0);
+    pFloats[0] = orientation.GetX();
+    pFloats[1] = orientation.GetY();
+    pFloats[2] = orientation.GetZ();
+    pFloats[3] = orientation.GetW();
 }
 
 /*
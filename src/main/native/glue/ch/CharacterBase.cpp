@@ -72,14 +72,13 @@ JNIEXPORT jlong JNICALL Java_com_github_stephengold_joltjni_CharacterBase_getGro
 /*
  * Class:     com_github_stephengold_joltjni_CharacterBase
  * Method:    getGroundNormal
- * Signature: (JLjava/nio/FloatBuffer;)V
+ * Signature: (JJ)V
  */
 JNIEXPORT void JNICALL Java_com_github_stephengold_joltjni_CharacterBase_getGroundNormal
-  (JNIEnv *pEnv, jclass, jlong characterVa, jobject storeFloats) {
+  (JNIEnv *, jclass, jlong characterVa, jlong floatsVa) {
     const CharacterBase * const pCharacter
             = reinterpret_cast<CharacterBase *> (characterVa);
-    DIRECT_FLOAT_BUFFER(pEnv, storeFloats, pFloats, capacityFloats);
-    JPH_ASSERT(capacityFloats >= 3);
+    jfloat * const pFloats = reinterpret_cast<jfloat *> (floatsVa);
     const Vec3 result = pCharacter->GetGroundNormal();
     pFloats[0] = result.GetX();
     pFloats[1] = result.GetY();
@@ -89,14 +88,13 @@ JNIEXPORT void JNICALL Java_com_github_stephengold_joltjni_CharacterBase_getGrou
 /*
  * Class:     com_github_stephengold_joltjni_CharacterBase
  * Method:    getGroundPosition
- * Signature: (JLjava/nio/DoubleBuffer;)V
+ * Signature: (JJ)V
  */
 JNIEXPORT void JNICALL Java_com_github_stephengold_joltjni_CharacterBase_getGroundPosition
-  (JNIEnv *pEnv, jclass, jlong characterVa, jobject storeDoubles) {
+  (JNIEnv *, jclass, jlong characterVa, jlong doublesVa) {
     const CharacterBase * const pCharacter
             = reinterpret_cast<CharacterBase *> (characterVa);
-    DIRECT_DOUBLE_BUFFER(pEnv, storeDoubles, pDoubles, capacityDoubles);
-    JPH_ASSERT(capacityDoubles >= 3);
+    jdouble * const pDoubles = reinterpret_cast<jdouble *> (doublesVa);
     const RVec3 result = pCharacter->GetGroundPosition();
     pDoubles[0] = result.GetX();
     pDoubles[1] = result.GetY();
@@ -145,14 +143,13 @@ JNIEXPORT jlong JNICALL Java_com_github_stephengold_joltjni_CharacterBase_getGro
 /*
  * Class:     com_github_stephengold_joltjni_CharacterBase
  * Method:    getGroundVelocity
- * Signature: (JLjava/nio/FloatBuffer;)V
+ * Signature: (JJ)V
  */
 JNIEXPORT void JNICALL Java_com_github_stephengold_joltjni_CharacterBase_getGroundVelocity
-  (JNIEnv *pEnv, jclass, jlong characterVa, jobject storeFloats) {
+  (JNIEnv *, jclass, jlong characterVa, jlong floatsVa) {
     const CharacterBase * const pCharacter
             = reinterpret_cast<CharacterBase *> (characterVa);
-    DIRECT_FLOAT_BUFFER(pEnv, storeFloats, pFloats, capacityFloats);
-    JPH_ASSERT(capacityFloats >= 3);
+    jfloat * const pFloats = reinterpret_cast<jfloat *> (floatsVa);
     const Vec3 result = pCharacter->GetGroundVelocity();
     pFloats[0] = result.GetX();
     pFloats[1] = result.GetY();
@@ -188,14 +185,13 @@ JNIEXPORT jlong JNICALL Java_com_github_stephengold_joltjni_CharacterBase_getSha
 /*
  * Class:     com_github_stephengold_joltjni_CharacterBase
  * Method:    getUp
- * Signature: (JLjava/nio/FloatBuffer;)V
+ * Signature: (JJ)V
  */
 JNIEXPORT void JNICALL Java_com_github_stephengold_joltjni_CharacterBase_getUp
-  (JNIEnv *pEnv, jclass, jlong characterVa, jobject storeFloats) {
+  (JNIEnv *, jclass, jlong characterVa, jlong floatsVa) {
     const CharacterBase * const pCharacter
             = reinterpret_cast<CharacterBase *> (characterVa);
-    DIRECT_FLOAT_BUFFER(pEnv, storeFloats, pFloats, capacityFloats);
-    JPH_ASSERT(capacityFloats >= 3);
+    jfloat * const pFloats = reinterpret_cast<jfloat *> (floatsVa);
     const Vec3 result = pCharacter->GetUp();
     pFloats[0] = result.GetX();
     pFloats[1] = result.GetY();
@@ -0,0 +1,255 @@
+/*
+Copyright (c) 2026 Stephen Gold
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+ */
+
+/*
+ * Author: Stephen Gold
+ */
+#include "Jolt/Jolt.h"
+#include "Jolt/Core/JobSystem.h"
+#include "Jolt/Core/TempAllocator.h"
+#include "Jolt/Physics/Character/CharacterVirtual.h"
+#include "auto/com_github_stephengold_joltjni_CharacterCrowd.h"
+#include "glue/glue.h"
+#include "glue/ch/CharacterGrid.h"
+
+using namespace JPH;
+
+/*
+ * A crowd of virtual characters that collide with one another. Queries read
+ * immutable snapshots of the characters (shape, position, rotation, and
+ * padding) taken before each parallel update, so a character's own update
+ * never races with queries against it.
+ *
+ * Jolt's contact code still reads the velocity, ID, and user data of the
+ * other character through the pointer passed to SetUserData(). IDs and user
+ * data don't change during an update, and desired velocities are assigned
+ * before the parallel phase. However, ExtendedUpdate() may briefly adjust a
+ * character's velocity (for instance on steep slopes), so the velocity
+ * reported for another character is only approximate.
+ */
+class CharacterCrowd : public CharacterGrid {
+public:
+    CharacterCrowd(float inCellSize) : CharacterGrid(inCellSize, 0.0f) {
+    }
+
+    /*
+     * Reset the char-vs-char collision interface of any remaining members,
+     * so they don't retain a dangling pointer to the freed crowd.
+     */
+    virtual ~CharacterCrowd() {
+        for (CharacterVirtual *pCharacter : mCharacters) {
+            pCharacter->SetCharacterVsCharacterCollision(nullptr);
+        }
+    }
+
+    void Add(CharacterVirtual *inCharacter) {
+        CharacterGridEntry snapshot;
+        snapshot.Capture(inCharacter);
+        mCharacters.push_back(inCharacter);
+        mSnapshots.push_back(snapshot);
+        AddToGrid(snapshot.mComTransform.GetTranslation());
+        mMaxReach = max(mMaxReach, snapshot.Reach());
+    }
+
+    const Array<Ref<CharacterVirtual>>& GetCharacters() const {
+        return mCharacters;
+    }
+
+    void Remove(uint inIndex) {
+        JPH_ASSERT(inIndex < mCharacters.size());
+        RemoveFromGrid(inIndex);
+        if (inIndex + 1 < mCharacters.size()) {
+            mCharacters[inIndex] = mCharacters.back();
+            mSnapshots[inIndex] = mSnapshots.back();
+        }
+        mCharacters.pop_back();
+        mSnapshots.pop_back();
+    }
+
+    /*
+     * Snapshot every character and refresh the grid. Must not be invoked
+     * while any member is being updated.
+     */
+    void TakeSnapshots() {
+        mMaxReach = 0.0f;
+        const uint numCharacters = (uint) mCharacters.size();
+        for (uint i = 0; i < numCharacters; ++i) {
+            CharacterGridEntry& snapshot = mSnapshots[i];
+            snapshot.Capture(mCharacters[i]);
+            mMaxReach = max(mMaxReach, snapshot.Reach());
+            Rebin(i, snapshot.mComTransform.GetTranslation());
+        }
+    }
+
+protected:
+    virtual void GetEntry(uint inIndex,
+            CharacterGridEntry &outEntry) const override {
+        outEntry = mSnapshots[inIndex];
+    }
+
+private:
+    Array<Ref<CharacterVirtual>> mCharacters;
+    Array<CharacterGridEntry> mSnapshots;
+};
+
+/*
+ * Class:     com_github_stephengold_joltjni_CharacterCrowd
+ * Method:    add
+ * Signature: (JJ)V
+ */
+JNIEXPORT void JNICALL Java_com_github_stephengold_joltjni_CharacterCrowd_add
+  (JNIEnv *, jclass, jlong crowdVa, jlong characterVa) {
+    CharacterCrowd * const pCrowd = reinterpret_cast<CharacterCrowd *> (crowdVa);
+    CharacterVirtual * const pCharacter
+            = reinterpret_cast<CharacterVirtual *> (characterVa);
+    pCrowd->Add(pCharacter);
+}
+
+/*
+ * Class:     com_github_stephengold_joltjni_CharacterCrowd
+ * Method:    createCrowd
+ * Signature: (F)J
+ */
+JNIEXPORT jlong JNICALL Java_com_github_stephengold_joltjni_CharacterCrowd_createCrowd
+  (JNIEnv *, jclass, jfloat cellSize) {
+    CharacterCrowd * const pResult = new CharacterCrowd(cellSize);
+    TRACE_NEW("CharacterCrowd", pResult)
+    return reinterpret_cast<jlong> (pResult);
+}
+
+/*
+ * Class:     com_github_stephengold_joltjni_CharacterCrowd
+ * Method:    remove
+ * Signature: (JI)V
+ */
+JNIEXPORT void JNICALL Java_com_github_stephengold_joltjni_CharacterCrowd_remove
+  (JNIEnv *, jclass, jlong crowdVa, jint index) {
+    CharacterCrowd * const pCrowd = reinterpret_cast<CharacterCrowd *> (crowdVa);
+    pCrowd->Remove(index);
+}
+
+/*
+ * Class:     com_github_stephengold_joltjni_CharacterCrowd
+ * Method:    update
+ * Signature: (JFFFFJJJJJJLjava/nio/FloatBuffer;Ljava/nio/DoubleBuffer;Ljava/nio/IntBuffer;Ljava/nio/FloatBuffer;)V
+ */
+JNIEXPORT void JNICALL Java_com_github_stephengold_joltjni_CharacterCrowd_update
+  (JNIEnv *pEnv, jclass, jlong crowdVa, jfloat deltaTime, jfloat gravityX,
+  jfloat gravityY, jfloat gravityZ, jlong settingsVa, jlong bpFilterVa,
+  jlong olFilterVa, jlong bodyFilterVa, jlong shapeFilterVa,
+  jlong jobSystemVa, jobject desiredVelocities, jobject storePositions,
+  jobject storeGroundStates, jobject storeGroundNormals) {
+    CharacterCrowd * const pCrowd = reinterpret_cast<CharacterCrowd *> (crowdVa);
+    const Vec3 gravity(gravityX, gravityY, gravityZ);
+    const CharacterVirtual::ExtendedUpdateSettings * const pSettings
+            = reinterpret_cast<CharacterVirtual::ExtendedUpdateSettings *> (settingsVa);
+    const BroadPhaseLayerFilter * const pBpFilter
+            = reinterpret_cast<BroadPhaseLayerFilter *> (bpFilterVa);
+    const ObjectLayerFilter * const pOlFilter
+            = reinterpret_cast<ObjectLayerFilter *> (olFilterVa);
+    const BodyFilter * const pBodyFilter
+            = reinterpret_cast<BodyFilter *> (bodyFilterVa);
+    const ShapeFilter * const pShapeFilter
+            = reinterpret_cast<ShapeFilter *> (shapeFilterVa);
+    JobSystem * const pJobSystem = reinterpret_cast<JobSystem *> (jobSystemVa);
+    const jfloat * const pDesired = (desiredVelocities == nullptr) ? nullptr
+            : (jfloat *) pEnv->GetDirectBufferAddress(desiredVelocities);
+    jdouble * const pPositions = (storePositions == nullptr) ? nullptr
+            : (jdouble *) pEnv->GetDirectBufferAddress(storePositions);
+    jint * const pGroundStates = (storeGroundStates == nullptr) ? nullptr
+            : (jint *) pEnv->GetDirectBufferAddress(storeGroundStates);
+    jfloat * const pGroundNormals = (storeGroundNormals == nullptr) ? nullptr
+            : (jfloat *) pEnv->GetDirectBufferAddress(storeGroundNormals);
+    JPH_ASSERT(!pEnv->ExceptionCheck());
+
+    const Array<Ref<CharacterVirtual>>& characters = pCrowd->GetCharacters();
+    const uint numCharacters = (uint) characters.size();
+    if (numCharacters == 0) {
+        return;
+    }
+    /*
+     * Assign velocities before any character is updated, since updates
+     * read the velocities of other characters:
+     */
+    if (pDesired != nullptr) {
+        for (uint i = 0; i < numCharacters; ++i) {
+            const Vec3 velocity(pDesired[3 * i], pDesired[3 * i + 1],
+                    pDesired[3 * i + 2]);
+            characters[i]->SetLinearVelocity(velocity);
+        }
+    }
+    pCrowd->TakeSnapshots();
+    /*
+     * Update a range of characters on the current thread, using a private
+     * allocator so that concurrent ranges don't contend:
+     */
+    const auto updateRange = [=, &characters](uint start, uint end) {
+        TempAllocatorMalloc allocator;
+        for (uint i = start; i < end; ++i) {
+            CharacterVirtual * const pCharacter = characters[i];
+            pCharacter->ExtendedUpdate(deltaTime, gravity, *pSettings,
+                    *pBpFilter, *pOlFilter, *pBodyFilter, *pShapeFilter,
+                    allocator);
+        }
+    };
+
+    JobSystem::Barrier * const pBarrier = (pJobSystem == nullptr) ? nullptr
+            : pJobSystem->CreateBarrier();
+    if (pBarrier == nullptr) { // no job system or no barrier available
+        updateRange(0, numCharacters);
+    } else {
+        // Aim for several jobs per thread, to balance the load:
+        const uint numJobsWanted = 4 * (uint) pJobSystem->GetMaxConcurrency();
+        const uint batchSize = max(1u,
+                (numCharacters + numJobsWanted - 1) / numJobsWanted);
+        for (uint start = 0; start < numCharacters; start += batchSize) {
+            const uint end = min(start + batchSize, numCharacters);
+            const JobHandle handle = pJobSystem->CreateJob(
+                    "CharacterCrowd", Color::sGreen,
+                    [&updateRange, start, end]() {
+                        updateRange(start, end);
+                    });
+            pBarrier->AddJob(handle);
+        }
+        pJobSystem->WaitForJobs(pBarrier);
+        pJobSystem->DestroyBarrier(pBarrier);
+    }
+
+    for (uint i = 0; i < numCharacters; ++i) {
+        const CharacterVirtual * const pCharacter = characters[i];
+        if (pPositions != nullptr) {
+            const RVec3 location = pCharacter->GetPosition();
+            pPositions[3 * i] = location.GetX();
+            pPositions[3 * i + 1] = location.GetY();
+            pPositions[3 * i + 2] = location.GetZ();
+        }
+        if (pGroundStates != nullptr) {
+            pGroundStates[i] = (jint) pCharacter->GetGroundState();
+        }
+        if (pGroundNormals != nullptr) {
+            const Vec3 normal = pCharacter->GetGroundNormal();
+            pGroundNormals[3 * i] = normal.GetX();
+            pGroundNormals[3 * i + 1] = normal.GetY();
+            pGroundNormals[3 * i + 2] = normal.GetZ();
+        }
+    }
+}
@@ -0,0 +1,335 @@
+#ifndef _Included_CharacterGrid
+#define _Included_CharacterGrid
+/*
+Copyright (c) 2026 Stephen Gold
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+ */
+
+/*
+ * Author: Stephen Gold
+ */
+#include "Jolt/Jolt.h"
+#include "Jolt/Core/QuickSort.h"
+#include "Jolt/Core/UnorderedMap.h"
+#include "Jolt/Geometry/RayAABox.h"
+#include "Jolt/Physics/Character/CharacterVirtual.h"
+#include "Jolt/Physics/Collision/CollisionDispatch.h"
+#include "Jolt/Physics/Collision/ShapeCast.h"
+
+using namespace JPH;
+
+/*
+ * The state of a character, as seen by char-vs-char queries.
+ */
+struct CharacterGridEntry {
+    const CharacterVirtual *mCharacter;
+    const Shape *mShape;
+    RMat44 mComTransform;
+    float mPadding;
+
+    void Capture(const CharacterVirtual *inCharacter) {
+        mCharacter = inCharacter;
+        mShape = inCharacter->GetShape();
+        mComTransform = inCharacter->GetCenterOfMassTransform();
+        mPadding = inCharacter->GetCharacterPadding();
+    }
+
+    /*
+     * Return the distance from the center of mass to the farthest face of
+     * the padded bounding box.
+     */
+    float Reach() const {
+        const AABox bounds = mShape->GetWorldSpaceBounds(
+                mComTransform.PostTranslated(-mComTransform.GetTranslation())
+                .ToMat44(), Vec3::sOne());
+        const float result = max(-bounds.mMin.ReduceMin(),
+                bounds.mMax.ReduceMax()) + mPadding;
+
+        return result;
+    }
+};
+
+/*
+ * A char-vs-char collision interface that bins characters (by center of mass)
+ * in a uniform hash grid, so that the cost of each query depends on local
+ * density rather than the total number of characters. Subclasses decide
+ * where the character state comes from and when the bins are refreshed.
+ */
+class CharacterGrid : public CharacterVsCharacterCollision {
+public:
+    virtual void CastCharacter(const CharacterVirtual *inCharacter,
+            RMat44Arg inCenterOfMassTransform, Vec3Arg inDirection,
+            const ShapeCastSettings &inShapeCastSettings,
+            RVec3Arg inBaseOffset, CastShapeCollector &ioCollector)
+            const override {
+        const Mat44 transform1 = inCenterOfMassTransform.PostTranslated(
+                -inBaseOffset).ToMat44();
+        const ShapeCast shapeCast(inCharacter->GetShape(), Vec3::sOne(),
+                transform1, inDirection);
+        const Vec3 origin = shapeCast.mShapeWorldBounds.GetCenter();
+        const Vec3 extents = shapeCast.mShapeWorldBounds.GetExtent();
+
+        AABox sweep = shapeCast.mShapeWorldBounds;
+        sweep.Encapsulate(shapeCast.mShapeWorldBounds.mMin + inDirection);
+        sweep.Encapsulate(shapeCast.mShapeWorldBounds.mMax + inDirection);
+        Array<uint> candidates;
+        FindCandidates(sweep, inBaseOffset, candidates);
+
+        CharacterGridEntry other;
+        for (uint i : candidates) {
+            GetEntry(i, other);
+            if (other.mCharacter == inCharacter) {
+                continue;
+            } else if (ioCollector.ShouldEarlyOut()) {
+                break;
+            }
+            const Mat44 transform2 = other.mComTransform.PostTranslated(
+                    -inBaseOffset).ToMat44();
+            AABox bounds = other.mShape->GetWorldSpaceBounds(
+                    transform2, Vec3::sOne());
+            bounds.ExpandBy(extents);
+            if (!RayAABoxHits(origin, inDirection, bounds.mMin, bounds.mMax)) {
+                continue;
+            }
+            ioCollector.SetUserData(
+                    reinterpret_cast<uint64> (other.mCharacter));
+            CollisionDispatch::sCastShapeVsShapeWorldSpace(shapeCast,
+                    inShapeCastSettings, other.mShape, Vec3::sOne(), {},
+                    transform2, SubShapeIDCreator(), SubShapeIDCreator(),
+                    ioCollector);
+        }
+        ioCollector.SetUserData(0);
+    }
+
+    virtual void CollideCharacter(const CharacterVirtual *inCharacter,
+            RMat44Arg inCenterOfMassTransform,
+            const CollideShapeSettings &inCollideShapeSettings,
+            RVec3Arg inBaseOffset, CollideShapeCollector &ioCollector)
+            const override {
+        const Mat44 transform1 = inCenterOfMassTransform.PostTranslated(
+                -inBaseOffset).ToMat44();
+        const Shape * const pShape = inCharacter->GetShape();
+        const AABox bounds = pShape->GetWorldSpaceBounds(
+                transform1, Vec3::sOne());
+
+        AABox query = bounds;
+        query.ExpandBy(Vec3::sReplicate(
+                inCollideShapeSettings.mMaxSeparationDistance));
+        Array<uint> candidates;
+        FindCandidates(query, inBaseOffset, candidates);
+
+        CollideShapeSettings settings = inCollideShapeSettings;
+        CharacterGridEntry other;
+        for (uint i : candidates) {
+            GetEntry(i, other);
+            if (other.mCharacter == inCharacter) {
+                continue;
+            } else if (ioCollector.ShouldEarlyOut()) {
+                break;
+            }
+            const Mat44 transform2 = other.mComTransform.PostTranslated(
+                    -inBaseOffset).ToMat44();
+            /*
+             * Include the other character's padding, so as to detect
+             * collisions with its outer shell:
+             */
+            settings.mMaxSeparationDistance
+                    = inCollideShapeSettings.mMaxSeparationDistance
+                    + other.mPadding;
+            AABox bounds2 = bounds;
+            bounds2.ExpandBy(Vec3::sReplicate(settings.mMaxSeparationDistance));
+            if (!bounds2.Overlaps(other.mShape->GetWorldSpaceBounds(
+                    transform2, Vec3::sOne()))) {
+                continue;
+            }
+            ioCollector.SetUserData(
+                    reinterpret_cast<uint64> (other.mCharacter));
+            CollisionDispatch::sCollideShapeVsShape(pShape, other.mShape,
+                    Vec3::sOne(), Vec3::sOne(), transform1, transform2,
+                    SubShapeIDCreator(), SubShapeIDCreator(), settings,
+                    ioCollector);
+        }
+        ioCollector.SetUserData(0);
+    }
+
+protected:
+    CharacterGrid(float inCellSize, float inMargin)
+            : mInvCellSize(1.0f / inCellSize), mMargin(inMargin) {
+    }
+
+    /*
+     * Bin a new character, whose index must be the number of characters
+     * already binned.
+     */
+    void AddToGrid(RVec3Arg inCom) {
+        const uint index = (uint) mCellKeys.size();
+        const uint64 key = CellKey(inCom);
+        mCellKeys.push_back(key);
+        mGrid[key].push_back(index);
+    }
+
+    /*
+     * Copy the state of the indexed character, as seen by queries.
+     */
+    virtual void GetEntry(uint inIndex,
+            CharacterGridEntry &outEntry) const = 0;
+
+    /*
+     * Unbin the indexed character, re-indexing the last character (if any)
+     * to fill the vacated index.
+     */
+    void RemoveFromGrid(uint inIndex) {
+        Unbin(inIndex);
+        const uint lastIndex = (uint) mCellKeys.size() - 1;
+        if (inIndex < lastIndex) {
+            Array<uint>& cell = mGrid[mCellKeys[lastIndex]];
+            for (uint& j : cell) {
+                if (j == lastIndex) {
+                    j = inIndex;
+                    break;
+                }
+            }
+            mCellKeys[inIndex] = mCellKeys[lastIndex];
+        }
+        mCellKeys.pop_back();
+    }
+
+    /*
+     * Re-bin the indexed character if its cell has changed. Returns true if
+     * it was re-binned, otherwise false.
+     */
+    bool Rebin(uint inIndex, RVec3Arg inCom) {
+        const uint64 key = CellKey(inCom);
+        if (key == mCellKeys[inIndex]) {
+            return false;
+        }
+        Unbin(inIndex);
+        mCellKeys[inIndex] = key;
+        mGrid[key].push_back(inIndex);
+
+        return true;
+    }
+
+    /*
+     * the largest reach of any binned character (in meters)
+     */
+    float mMaxReach = 0.0f;
+
+private:
+    /*
+     * If a query would visit more cells than this, visit every character
+     * instead:
+     */
+    static constexpr int64 cMaxQueryCells = 512;
+
+    uint64 CellKey(RVec3Arg inLocation) const {
+        return CellKey(CellIndex(inLocation.GetX()),
+                CellIndex(inLocation.GetY()), CellIndex(inLocation.GetZ()));
+    }
+
+    static uint64 CellKey(int64 inX, int64 inY, int64 inZ) {
+        const uint64 mask = (uint64(1) << 21) - 1;
+        const uint64 result = ((uint64(inX) & mask) << 42)
+                | ((uint64(inY) & mask) << 21) | (uint64(inZ) & mask);
+
+        return result;
+    }
+
+    int64 CellIndex(Real inCoordinate) const {
+        const int64 result
+                = (int64) std::floor(inCoordinate * Real(mInvCellSize));
+
+        return result;
+    }
+
+    /*
+     * Enumerate (in ascending order) the characters whose bins might overlap
+     * the specified bounds, which are relative to inBaseOffset.
+     */
+    void FindCandidates(const AABox &inBounds, RVec3Arg inBaseOffset,
+            Array<uint> &outCandidates) const {
+        const Vec3 reach = Vec3::sReplicate(mMaxReach + mMargin);
+        const RVec3 min = inBaseOffset + RVec3(inBounds.mMin - reach);
+        const RVec3 max = inBaseOffset + RVec3(inBounds.mMax + reach);
+        const int64 x0 = CellIndex(min.GetX()), x1 = CellIndex(max.GetX());
+        const int64 y0 = CellIndex(min.GetY()), y1 = CellIndex(max.GetY());
+        const int64 z0 = CellIndex(min.GetZ()), z1 = CellIndex(max.GetZ());
+        const int64 numCells = (x1 - x0 + 1) * (y1 - y0 + 1) * (z1 - z0 + 1);
+        if (numCells > cMaxQueryCells) {
+            const uint numEntries = (uint) mCellKeys.size();
+            outCandidates.reserve(numEntries);
+            for (uint i = 0; i < numEntries; ++i) {
+                outCandidates.push_back(i);
+            }
+            return;
+        }
+
+        for (int64 x = x0; x <= x1; ++x) {
+            for (int64 y = y0; y <= y1; ++y) {
+                for (int64 z = z0; z <= z1; ++z) {
+                    const Grid::const_iterator it
+                            = mGrid.find(CellKey(x, y, z));
+                    if (it != mGrid.end()) {
+                        outCandidates.insert(outCandidates.end(),
+                                it->second.begin(), it->second.end());
+                    }
+                }
+            }
+        }
+        // Visit candidates in a deterministic order:
+        QuickSort(outCandidates.begin(), outCandidates.end());
+    }
+
+    /*
+     * Remove the indexed character from its current bin, discarding the bin
+     * if it becomes empty.
+     */
+    void Unbin(uint inIndex) {
+        const Grid::iterator it = mGrid.find(mCellKeys[inIndex]);
+        JPH_ASSERT(it != mGrid.end());
+        Array<uint>& cell = it->second;
+        for (uint& j : cell) {
+            if (j == inIndex) {
+                j = cell.back();
+                cell.pop_back();
+                break;
+            }
+        }
+        if (cell.empty()) {
+            mGrid.erase(it);
+        }
+    }
+
+    using Grid = UnorderedMap<uint64, Array<uint>>;
+
+    /*
+     * the current bin of each character
+     */
+    Array<uint64> mCellKeys;
+    Grid mGrid;
+    const float mInvCellSize;
+    /*
+     * extra distance added to each query, to tolerate characters that move
+     * between refreshes (in meters)
+     */
+    const float mMargin;
+};
+
+#endif
@@ -166,14 +166,13 @@ JNIEXPORT jlong JNICALL Java_com_github_stephengold_joltjni_CharacterVirtual_get
 /*
  * Class:     com_github_stephengold_joltjni_CharacterVirtual
  * Method:    getCenterOfMassPosition
- * Signature: (JLjava/nio/DoubleBuffer;)V
+ * Signature: (JJ)V
  */
 JNIEXPORT void JNICALL Java_com_github_stephengold_joltjni_CharacterVirtual_getCenterOfMassPosition
-  (JNIEnv *pEnv, jclass, jlong characterVa, jobject storeDoubles) {
+  (JNIEnv *, jclass, jlong characterVa, jlong doublesVa) {
     const CharacterVirtual * const pCharacter
             = reinterpret_cast<CharacterVirtual *> (characterVa);
-    DIRECT_DOUBLE_BUFFER(pEnv, storeDoubles, pDoubles, capacityDoubles);
-    JPH_ASSERT(capacityDoubles >= 3);
+    jdouble * const pDoubles = reinterpret_cast<jdouble *> (doublesVa);
     const RVec3 result = pCharacter->GetCenterOfMassPosition();
     pDoubles[0] = result.GetX();
     pDoubles[1] = result.GetY();
@@ -278,14 +277,13 @@ JNIEXPORT jint JNICALL Java_com_github_stephengold_joltjni_CharacterVirtual_getI
 /*
  * Class:     com_github_stephengold_joltjni_CharacterVirtual
  * Method:    getLinearVelocity
- * Signature: (JLjava/nio/FloatBuffer;)V
+ * Signature: (JJ)V
  */
 JNIEXPORT void JNICALL Java_com_github_stephengold_joltjni_CharacterVirtual_getLinearVelocity
-  (JNIEnv *pEnv, jclass, jlong characterVa, jobject storeFloats) {
+  (JNIEnv *, jclass, jlong characterVa, jlong floatsVa) {
     const CharacterVirtual * const pCharacter
             = reinterpret_cast<CharacterVirtual *> (characterVa);
-    DIRECT_FLOAT_BUFFER(pEnv, storeFloats, pFloats, capacityFloats);
-    JPH_ASSERT(capacityFloats >= 3);
+    jfloat * const pFloats = reinterpret_cast<jfloat *> (floatsVa);
     const Vec3 result = pCharacter->GetLinearVelocity();
     pFloats[0] = result.GetX();
     pFloats[1] = result.GetY();
@@ -360,14 +358,13 @@ JNIEXPORT jfloat JNICALL Java_com_github_stephengold_joltjni_CharacterVirtual_ge
 /*
  * Class:     com_github_stephengold_joltjni_CharacterVirtual
  * Method:    getPosition
- * Signature: (JLjava/nio/DoubleBuffer;)V
+ * Signature: (JJ)V
  */
 JNIEXPORT void JNICALL Java_com_github_stephengold_joltjni_CharacterVirtual_getPosition
-  (JNIEnv *pEnv, jclass, jlong characterVa, jobject storeDoubles) {
+  (JNIEnv *, jclass, jlong characterVa, jlong doublesVa) {
     const CharacterVirtual * const pCharacter
             = reinterpret_cast<CharacterVirtual *> (characterVa);
-    DIRECT_DOUBLE_BUFFER(pEnv, storeDoubles, pDoubles, capacityDoubles);
-    JPH_ASSERT(capacityDoubles >= 3);
+    jdouble * const pDoubles = reinterpret_cast<jdouble *> (doublesVa);
     const RVec3 result = pCharacter->GetPosition();
     pDoubles[0] = result.GetX();
     pDoubles[1] = result.GetY();
@@ -377,14 +374,13 @@ JNIEXPORT void JNICALL Java_com_github_stephengold_joltjni_CharacterVirtual_getP
 /*
  * Class:     com_github_stephengold_joltjni_CharacterVirtual
  * Method:    getRotation
- * Signature: (JLjava/nio/FloatBuffer;)V
+ * Signature: (JJ)V
  */
 JNIEXPORT void JNICALL Java_com_github_stephengold_joltjni_CharacterVirtual_getRotation
-  (JNIEnv *pEnv, jclass, jlong characterVa, jobject storeFloats) {
+  (JNIEnv *, jclass, jlong characterVa, jlong floatsVa) {
     const CharacterVirtual * const pCharacter
             = reinterpret_cast<CharacterVirtual *> (characterVa);
-    DIRECT_FLOAT_BUFFER(pEnv, storeFloats, pFloats, capacityFloats);
-    JPH_ASSERT(capacityFloats >= 4);
+    jfloat * const pFloats = reinterpret_cast<jfloat *> (floatsVa);
     const Quat result = pCharacter->GetRotation();
     pFloats[0] = result.GetX();
     pFloats[1] = result.GetY();
@@ -395,14 +391,13 @@ JNIEXPORT void JNICALL Java_com_github_stephengold_joltjni_CharacterVirtual_getR
 /*
  * Class:     com_github_stephengold_joltjni_CharacterVirtual
  * Method:    getShapeOffset
- * Signature: (JLjava/nio/FloatBuffer;)V
+ * Signature: (JJ)V
  */
 JNIEXPORT void JNICALL Java_com_github_stephengold_joltjni_CharacterVirtual_getShapeOffset
-  (JNIEnv *pEnv, jclass, jlong characterVa, jobject storeFloats) {
+  (JNIEnv *, jclass, jlong characterVa, jlong floatsVa) {
     const CharacterVirtual * const pCharacter
             = reinterpret_cast<CharacterVirtual *> (characterVa);
-    DIRECT_FLOAT_BUFFER(pEnv, storeFloats, pFloats, capacityFloats);
-    JPH_ASSERT(capacityFloats >= 3);
+    jfloat * const pFloats = reinterpret_cast<jfloat *> (floatsVa);
     const Vec3 result = pCharacter->GetShapeOffset();
     pFloats[0] = result.GetX();
     pFloats[1] = result.GetY();
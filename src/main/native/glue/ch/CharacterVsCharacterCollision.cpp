@@ -30,6 +30,55 @@ SOFTWARE.
 
 using namespace JPH;
 
+/*
+ * Class:     com_github_stephengold_joltjni_CharacterVsCharacterCollision
+ * Method:    castCharacter
+ * Signature: (JJJFFFJDDDJ)V
+ */
+JNIEXPORT void JNICALL Java_com_github_stephengold_joltjni_CharacterVsCharacterCollision_castCharacter
+  (JNIEnv *, jclass, jlong collisionVa, jlong characterVa, jlong transformVa,
+  jfloat dx, jfloat dy, jfloat dz, jlong settingsVa, jdouble baseX,
+  jdouble baseY, jdouble baseZ, jlong collectorVa) {
+    const CharacterVsCharacterCollision * const pCollision
+            = reinterpret_cast<CharacterVsCharacterCollision *> (collisionVa);
+    const CharacterVirtual * const pCharacter
+            = reinterpret_cast<CharacterVirtual *> (characterVa);
+    const RMat44 * const pComTransform
+            = reinterpret_cast<RMat44 *> (transformVa);
+    const Vec3 direction(dx, dy, dz);
+    const ShapeCastSettings * const pSettings
+            = reinterpret_cast<ShapeCastSettings *> (settingsVa);
+    const RVec3 baseOffset(baseX, baseY, baseZ);
+    CastShapeCollector * const pCollector
+            = reinterpret_cast<CastShapeCollector *> (collectorVa);
+    pCollision->CastCharacter(pCharacter, *pComTransform, direction,
+            *pSettings, baseOffset, *pCollector);
+}
+
+/*
+ * Class:     com_github_stephengold_joltjni_CharacterVsCharacterCollision
+ * Method:    collideCharacter
+ * Signature: (JJJJDDDJ)V
+ */
+JNIEXPORT void JNICALL Java_com_github_stephengold_joltjni_CharacterVsCharacterCollision_collideCharacter
+  (JNIEnv *, jclass, jlong collisionVa, jlong characterVa, jlong transformVa,
+  jlong settingsVa, jdouble baseX, jdouble baseY, jdouble baseZ,
+  jlong collectorVa) {
+    const CharacterVsCharacterCollision * const pCollision
+            = reinterpret_cast<CharacterVsCharacterCollision *> (collisionVa);
+    const CharacterVirtual * const pCharacter
+            = reinterpret_cast<CharacterVirtual *> (characterVa);
+    const RMat44 * const pComTransform
+            = reinterpret_cast<RMat44 *> (transformVa);
+    const CollideShapeSettings * const pSettings
+            = reinterpret_cast<CollideShapeSettings *> (settingsVa);
+    const RVec3 baseOffset(baseX, baseY, baseZ);
+    CollideShapeCollector * const pCollector
+            = reinterpret_cast<CollideShapeCollector *> (collectorVa);
+    pCollision->CollideCharacter(pCharacter, *pComTransform, *pSettings,
+            baseOffset, *pCollector);
+}
+
 /*
  * Class:     com_github_stephengold_joltjni_CharacterVsCharacterCollision
  * Method:    free
@@ -0,0 +1,153 @@
+/*
+Copyright (c) 2026 Stephen Gold
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+ */
+
+/*
+ * Author: Stephen Gold
+ */
+#include "Jolt/Jolt.h"
+#include "Jolt/Physics/Character/CharacterVirtual.h"
+#include "auto/com_github_stephengold_joltjni_CharacterVsCharacterCollisionGrid.h"
+#include "glue/glue.h"
+#include "glue/ch/CharacterGrid.h"
+
+using namespace JPH;
+
+/*
+ * A char-vs-char collision interface that queries the current state of each
+ * character. Bins are refreshed incrementally by Update(), and queries are
+ * expanded by a margin, to tolerate characters that move between refreshes.
+ */
+class CharacterVsCharacterCollisionGrid : public CharacterGrid {
+public:
+    CharacterVsCharacterCollisionGrid(float inCellSize, float inMargin)
+            : CharacterGrid(inCellSize, inMargin) {
+    }
+
+    void Add(CharacterVirtual *inCharacter) {
+        CharacterGridEntry entry;
+        entry.Capture(inCharacter);
+        mCharacters.push_back(inCharacter);
+        AddToGrid(entry.mComTransform.GetTranslation());
+        mMaxReach = max(mMaxReach, entry.Reach());
+    }
+
+    /*
+     * Remove the specified character, moving the last character (if any)
+     * into the vacated slot.
+     */
+    void Remove(const CharacterVirtual *inCharacter) {
+        const uint numCharacters = (uint) mCharacters.size();
+        for (uint i = 0; i < numCharacters; ++i) {
+            if (mCharacters[i] == inCharacter) {
+                RemoveFromGrid(i);
+                if (i + 1 < numCharacters) {
+                    mCharacters[i] = mCharacters.back();
+                }
+                mCharacters.pop_back();
+                return;
+            }
+        }
+    }
+
+    /*
+     * Re-bin each character whose cell has changed, and recalculate the
+     * query reach. Returns the number of characters re-binned.
+     */
+    uint Update() {
+        uint result = 0;
+        mMaxReach = 0.0f;
+        CharacterGridEntry entry;
+        const uint numCharacters = (uint) mCharacters.size();
+        for (uint i = 0; i < numCharacters; ++i) {
+            entry.Capture(mCharacters[i]);
+            mMaxReach = max(mMaxReach, entry.Reach());
+            if (Rebin(i, entry.mComTransform.GetTranslation())) {
+                ++result;
+            }
+        }
+
+        return result;
+    }
+
+protected:
+    virtual void GetEntry(uint inIndex,
+            CharacterGridEntry &outEntry) const override {
+        outEntry.Capture(mCharacters[inIndex]);
+    }
+
+private:
+    Array<Ref<CharacterVirtual>> mCharacters;
+};
+
+/*
+ * Class:     com_github_stephengold_joltjni_CharacterVsCharacterCollisionGrid
+ * Method:    add
+ * Signature: (JJ)V
+ */
+JNIEXPORT void JNICALL Java_com_github_stephengold_joltjni_CharacterVsCharacterCollisionGrid_add
+  (JNIEnv *, jclass, jlong gridVa, jlong characterVa) {
+    CharacterVsCharacterCollisionGrid * const pGrid
+            = reinterpret_cast<CharacterVsCharacterCollisionGrid *> (gridVa);
+    CharacterVirtual * const pCharacter
+            = reinterpret_cast<CharacterVirtual *> (characterVa);
+    pGrid->Add(pCharacter);
+}
+
+/*
+ * Class:     com_github_stephengold_joltjni_CharacterVsCharacterCollisionGrid
+ * Method:    createGrid
+ * Signature: (FF)J
+ */
+JNIEXPORT jlong JNICALL Java_com_github_stephengold_joltjni_CharacterVsCharacterCollisionGrid_createGrid
+  (JNIEnv *, jclass, jfloat cellSize, jfloat margin) {
+    CharacterVsCharacterCollisionGrid * const pResult
+            = new CharacterVsCharacterCollisionGrid(cellSize, margin);
+    TRACE_NEW("CharacterVsCharacterCollisionGrid", pResult)
+    return reinterpret_cast<jlong> (pResult);
+}
+
+/*
+ * Class:     com_github_stephengold_joltjni_CharacterVsCharacterCollisionGrid
+ * Method:    remove
+ * Signature: (JJ)V
+ */
+JNIEXPORT void JNICALL Java_com_github_stephengold_joltjni_CharacterVsCharacterCollisionGrid_remove
+  (JNIEnv *, jclass, jlong gridVa, jlong characterVa) {
+    CharacterVsCharacterCollisionGrid * const pGrid
+            = reinterpret_cast<CharacterVsCharacterCollisionGrid *> (gridVa);
+    const CharacterVirtual * const pCharacter
+            = reinterpret_cast<CharacterVirtual *> (characterVa);
+    pGrid->Remove(pCharacter);
+}
+
+/*
+ * Class:     com_github_stephengold_joltjni_CharacterVsCharacterCollisionGrid
+ * Method:    update
+ * Signature: (J)I
+ */
+JNIEXPORT jint JNICALL Java_com_github_stephengold_joltjni_CharacterVsCharacterCollisionGrid_update
+  (JNIEnv *, jclass, jlong gridVa) {
+    CharacterVsCharacterCollisionGrid * const pGrid
+            = reinterpret_cast<CharacterVsCharacterCollisionGrid *> (gridVa);
+    const uint result = pGrid->Update();
+    return result;
+}
@@ -57,37 +57,25 @@ public:
     }
 
     void OnBodyActivated(const BodyID& inBodyID, uint64 inBodyUserData) override {
-        JNIEnv *pAttachEnv;
-        jint retCode = ATTACH_CURRENT_THREAD(mpVM, &pAttachEnv);
-        JPH_ASSERT(retCode == JNI_OK);
-
+        JNIEnv * const pAttachEnv = gAttachmentCache.GetEnv(mpVM);
         const jint id = inBodyID.GetIndexAndSequenceNumber();
         const jlong userData = inBodyUserData;
         pAttachEnv->CallVoidMethod(mJavaObject, mActivatedMethodId, id, userData);
         EXCEPTION_CHECK(pAttachEnv)
-        mpVM->DetachCurrentThread();
     }
 
     void OnBodyDeactivated(const BodyID& inBodyID, uint64 inBodyUserData) override {
-        JNIEnv *pAttachEnv;
-        jint retCode = ATTACH_CURRENT_THREAD(mpVM, &pAttachEnv);
-        JPH_ASSERT(retCode == JNI_OK);
-
+        JNIEnv * const pAttachEnv = gAttachmentCache.GetEnv(mpVM);
         const jint id = inBodyID.GetIndexAndSequenceNumber();
         const jlong userData = inBodyUserData;
         pAttachEnv->CallVoidMethod(mJavaObject, mDeactivatedMethodId, id, userData);
         EXCEPTION_CHECK(pAttachEnv)
-        mpVM->DetachCurrentThread();
     }
 
     ~CustomBodyActivationListener() {
-        JNIEnv *pAttachEnv;
-        jint retCode = ATTACH_CURRENT_THREAD(mpVM, &pAttachEnv);
-        JPH_ASSERT(retCode == JNI_OK);
-
+        JNIEnv * const pAttachEnv = gAttachmentCache.GetEnv(mpVM);
         pAttachEnv->DeleteGlobalRef(mJavaObject);
         EXCEPTION_CHECK(pAttachEnv)
-        mpVM->DetachCurrentThread();
     }
 };
 
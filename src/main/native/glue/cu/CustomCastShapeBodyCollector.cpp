@@ -51,24 +51,16 @@ public:
     }
 
     void AddHit(const BroadPhaseCastResult &inResult) override {
-        JNIEnv *pAttachEnv;
-        jint retCode = ATTACH_CURRENT_THREAD(mpVM, &pAttachEnv);
-        JPH_ASSERT(retCode == JNI_OK);
-
+        JNIEnv * const pAttachEnv = gAttachmentCache.GetEnv(mpVM);
         const jlong resultVa = reinterpret_cast<jlong> (&inResult);
         pAttachEnv->CallVoidMethod(mJavaObject, mAddMethodId, resultVa);
         EXCEPTION_CHECK(pAttachEnv)
-        mpVM->DetachCurrentThread();
     }
 
     ~CustomCastShapeBodyCollector() {
-        JNIEnv *pAttachEnv;
-        jint retCode = ATTACH_CURRENT_THREAD(mpVM, &pAttachEnv);
-        JPH_ASSERT(retCode == JNI_OK);
-
+        JNIEnv * const pAttachEnv = gAttachmentCache.GetEnv(mpVM);
         pAttachEnv->DeleteGlobalRef(mJavaObject);
         EXCEPTION_CHECK(pAttachEnv)
-        mpVM->DetachCurrentThread();
     }
 };
 
@@ -104,10 +104,7 @@ public:
     void OnAdjustBodyVelocity(const CharacterVirtual *inCharacter,
             const Body& inBody2, Vec3& ioLinearVelocity,
             Vec3& ioAngularVelocity) override {
-        JNIEnv *pAttachEnv;
-        jint retCode = ATTACH_CURRENT_THREAD(mpVM, &pAttachEnv);
-        JPH_ASSERT(retCode == JNI_OK);
-
+        JNIEnv * const pAttachEnv = gAttachmentCache.GetEnv(mpVM);
         const jlong characterVa = reinterpret_cast<jlong> (inCharacter);
         const jlong body2Va = reinterpret_cast<jlong> (&inBody2);
         const jfloatArray velocities = pAttachEnv->NewFloatArray(6);
@@ -132,18 +129,14 @@ public:
         ioAngularVelocity = Vec3(pFloats[3], pFloats[4], pFloats[5]);
         pAttachEnv->ReleaseFloatArrayElements(velocities, pFloats, JNI_ABORT);
         EXCEPTION_CHECK(pAttachEnv)
-
-        mpVM->DetachCurrentThread();
+        pAttachEnv->DeleteLocalRef(velocities);
     }
 
     void OnCharacterContactAdded(const CharacterVirtual *inCharacter,
             const CharacterVirtual *inOtherCharacter,
             const SubShapeID& inSubShapeID2, RVec3Arg inContactPosition,
             Vec3Arg inContactNormal, CharacterContactSettings& ioSettings) override {
-        JNIEnv *pAttachEnv;
-        jint retCode = ATTACH_CURRENT_THREAD(mpVM, &pAttachEnv);
-        JPH_ASSERT(retCode == JNI_OK);
-
+        JNIEnv * const pAttachEnv = gAttachmentCache.GetEnv(mpVM);
         const jlong characterVa = reinterpret_cast<jlong> (inCharacter);
         const jlong otherCharacterVa
                 = reinterpret_cast<jlong> (inOtherCharacter);
@@ -161,18 +154,13 @@ public:
                 contactLocationY, contactLocationZ, contactNormalX,
                 contactNormalY, contactNormalZ, settingsVa);
         EXCEPTION_CHECK(pAttachEnv)
-
-        mpVM->DetachCurrentThread();
     }
 
     void OnCharacterContactPersisted(const CharacterVirtual *inCharacter,
             const CharacterVirtual *inOtherCharacter,
             const SubShapeID& inSubShapeID2, RVec3Arg inContactPosition,
             Vec3Arg inContactNormal, CharacterContactSettings& ioSettings) override {
-        JNIEnv *pAttachEnv;
-        jint retCode = ATTACH_CURRENT_THREAD(mpVM, &pAttachEnv);
-        JPH_ASSERT(retCode == JNI_OK);
-
+        JNIEnv * const pAttachEnv = gAttachmentCache.GetEnv(mpVM);
         const jlong characterVa = reinterpret_cast<jlong> (inCharacter);
         const jlong otherCharacterVa
                 = reinterpret_cast<jlong> (inOtherCharacter);
@@ -190,17 +178,12 @@ public:
                 contactLocationY, contactLocationZ, contactNormalX,
                 contactNormalY, contactNormalZ, settingsVa);
         EXCEPTION_CHECK(pAttachEnv)
-
-        mpVM->DetachCurrentThread();
     }
 
     void OnCharacterContactRemoved(const CharacterVirtual *inCharacter,
             const CharacterID& inOtherCharacterID,
             const SubShapeID& inSubShapeID2) override {
-        JNIEnv *pAttachEnv;
-        jint retCode = ATTACH_CURRENT_THREAD(mpVM, &pAttachEnv);
-        JPH_ASSERT(retCode == JNI_OK);
-
+        JNIEnv * const pAttachEnv = gAttachmentCache.GetEnv(mpVM);
         const jlong characterVa = reinterpret_cast<jlong> (inCharacter);
         const jint otherCharacterId = inOtherCharacterID.GetValue();
         const jint subShapeId2 = inSubShapeID2.GetValue();
@@ -208,8 +191,6 @@ public:
         pAttachEnv->CallVoidMethod(mJavaObject, mCcRemovedMethodId, characterVa,
                 otherCharacterId, subShapeId2);
         EXCEPTION_CHECK(pAttachEnv)
-
-        mpVM->DetachCurrentThread();
     }
 
     void OnCharacterContactSolve(const CharacterVirtual *inCharacter,
@@ -218,10 +199,7 @@ public:
             Vec3Arg inContactNormal, Vec3Arg inContactVelocity,
             const PhysicsMaterial *inContactMaterial,
             Vec3Arg inCharacterVelocity, Vec3& ioNewCharacterVelocity) override {
-        JNIEnv *pAttachEnv;
-        jint retCode = ATTACH_CURRENT_THREAD(mpVM, &pAttachEnv);
-        JPH_ASSERT(retCode == JNI_OK);
-
+        JNIEnv * const pAttachEnv = gAttachmentCache.GetEnv(mpVM);
         const jlong characterVa = reinterpret_cast<jlong> (inCharacter);
         const jlong otherCharacterVa
                 = reinterpret_cast<jlong> (inOtherCharacter);
@@ -264,17 +242,13 @@ public:
         pAttachEnv->ReleaseFloatArrayElements(
                 newCharacterVelocity, pFloats, JNI_ABORT);
         EXCEPTION_CHECK(pAttachEnv)
-
-        mpVM->DetachCurrentThread();
+        pAttachEnv->DeleteLocalRef(newCharacterVelocity);
     }
 
     bool OnCharacterContactValidate(const CharacterVirtual *inCharacter,
             const CharacterVirtual *inOtherCharacter,
             const SubShapeID& inSubShapeID2) override {
-        JNIEnv *pAttachEnv;
-        jint retCode = ATTACH_CURRENT_THREAD(mpVM, &pAttachEnv);
-        JPH_ASSERT(retCode == JNI_OK);
-
+        JNIEnv * const pAttachEnv = gAttachmentCache.GetEnv(mpVM);
         const jlong characterVa = reinterpret_cast<jlong> (inCharacter);
         const jlong otherCharacterVa
                 = reinterpret_cast<jlong> (inOtherCharacter);
@@ -283,8 +257,6 @@ public:
                 mJavaObject, mCcValidateMethodId, characterVa, otherCharacterVa,
                 subShapeId2);
         EXCEPTION_CHECK(pAttachEnv)
-
-        mpVM->DetachCurrentThread();
         return result;
     }
 
@@ -292,10 +264,7 @@ public:
             const BodyID& inBodyID2, const SubShapeID& inSubShapeID2,
             RVec3Arg inContactPosition, Vec3Arg inContactNormal,
             CharacterContactSettings& ioSettings) override {
-        JNIEnv *pAttachEnv;
-        jint retCode = ATTACH_CURRENT_THREAD(mpVM, &pAttachEnv);
-        JPH_ASSERT(retCode == JNI_OK);
-
+        JNIEnv * const pAttachEnv = gAttachmentCache.GetEnv(mpVM);
         const jlong characterVa = reinterpret_cast<jlong> (inCharacter);
         const jint bodyId2 = inBodyID2.GetIndexAndSequenceNumber();
         const jint subShapeId2 = inSubShapeID2.GetValue();
@@ -312,18 +281,13 @@ public:
                 contactLocationZ, contactNormalX, contactNormalY,
                 contactNormalZ, settingsVa);
         EXCEPTION_CHECK(pAttachEnv)
-
-        mpVM->DetachCurrentThread();
     }
 
     void OnContactPersisted(const CharacterVirtual *inCharacter,
             const BodyID& inBodyID2, const SubShapeID& inSubShapeID2,
             RVec3Arg inContactPosition, Vec3Arg inContactNormal,
             CharacterContactSettings& ioSettings) override {
-        JNIEnv *pAttachEnv;
-        jint retCode = ATTACH_CURRENT_THREAD(mpVM, &pAttachEnv);
-        JPH_ASSERT(retCode == JNI_OK);
-
+        JNIEnv * const pAttachEnv = gAttachmentCache.GetEnv(mpVM);
         const jlong characterVa = reinterpret_cast<jlong> (inCharacter);
         const jint bodyId2 = inBodyID2.GetIndexAndSequenceNumber();
         const jint subShapeId2 = inSubShapeID2.GetValue();
@@ -340,16 +304,11 @@ public:
                 contactLocationZ, contactNormalX, contactNormalY,
                 contactNormalZ, settingsVa);
         EXCEPTION_CHECK(pAttachEnv)
-
-        mpVM->DetachCurrentThread();
     }
 
     void OnContactRemoved(const CharacterVirtual *inCharacter,
             const BodyID& inBodyID2, const SubShapeID& inSubShapeID2) override {
-        JNIEnv *pAttachEnv;
-        jint retCode = ATTACH_CURRENT_THREAD(mpVM, &pAttachEnv);
-        JPH_ASSERT(retCode == JNI_OK);
-
+        JNIEnv * const pAttachEnv = gAttachmentCache.GetEnv(mpVM);
         const jlong characterVa = reinterpret_cast<jlong> (inCharacter);
         const jint bodyId2 = inBodyID2.GetIndexAndSequenceNumber();
         const jint subShapeId2 = inSubShapeID2.GetValue();
@@ -357,8 +316,6 @@ public:
         pAttachEnv->CallVoidMethod(mJavaObject, mRemovedMethodId, characterVa,
                 bodyId2, subShapeId2);
         EXCEPTION_CHECK(pAttachEnv)
-
-        mpVM->DetachCurrentThread();
     }
 
     void OnContactSolve(const CharacterVirtual *inCharacter,
@@ -366,10 +323,7 @@ public:
             RVec3Arg inContactPosition, Vec3Arg inContactNormal,
             Vec3Arg inContactVelocity, const PhysicsMaterial *inContactMaterial,
             Vec3Arg inCharacterVelocity, Vec3& ioNewCharacterVelocity) override {
-        JNIEnv *pAttachEnv;
-        jint retCode = ATTACH_CURRENT_THREAD(mpVM, &pAttachEnv);
-        JPH_ASSERT(retCode == JNI_OK);
-
+        JNIEnv * const pAttachEnv = gAttachmentCache.GetEnv(mpVM);
         const jlong characterVa = reinterpret_cast<jlong> (inCharacter);
         const jint bodyId2 = inBodyID2.GetIndexAndSequenceNumber();
         const jint subShapeId2 = inSubShapeID2.GetValue();
@@ -410,35 +364,25 @@ public:
         pAttachEnv->ReleaseFloatArrayElements(
                 newCharacterVelocity, pFloats, JNI_ABORT);
         EXCEPTION_CHECK(pAttachEnv)
-
-        mpVM->DetachCurrentThread();
+        pAttachEnv->DeleteLocalRef(newCharacterVelocity);
     }
 
     bool OnContactValidate(const CharacterVirtual *inCharacter,
             const BodyID& inBodyID2, const SubShapeID& inSubShapeID2) override {
-        JNIEnv *pAttachEnv;
-        jint retCode = ATTACH_CURRENT_THREAD(mpVM, &pAttachEnv);
-        JPH_ASSERT(retCode == JNI_OK);
-
+        JNIEnv * const pAttachEnv = gAttachmentCache.GetEnv(mpVM);
         const jlong characterVa = reinterpret_cast<jlong> (inCharacter);
         const jint bodyId2 = inBodyID2.GetIndexAndSequenceNumber();
         const jint subShapeId2 = inSubShapeID2.GetValue();
         const bool result = pAttachEnv->CallBooleanMethod(mJavaObject,
                 mValidateMethodId, characterVa, bodyId2, subShapeId2);
         EXCEPTION_CHECK(pAttachEnv)
-
-        mpVM->DetachCurrentThread();
         return result;
     }
 
     ~CustomCharacterContactListener() {
-        JNIEnv *pAttachEnv;
-        jint retCode = ATTACH_CURRENT_THREAD(mpVM, &pAttachEnv);
-        JPH_ASSERT(retCode == JNI_OK);
-
+        JNIEnv * const pAttachEnv = gAttachmentCache.GetEnv(mpVM);
         pAttachEnv->DeleteGlobalRef(mJavaObject);
         EXCEPTION_CHECK(pAttachEnv)
-        mpVM->DetachCurrentThread();
     }
 };
 
@@ -64,25 +64,18 @@ public:
 
     void OnContactAdded(const Body& inBody1, const Body& inBody2,
             const ContactManifold& inManifold, ContactSettings& ioSettings) override {
-        JNIEnv *pAttachEnv;
-        jint retCode = ATTACH_CURRENT_THREAD(mpVM, &pAttachEnv);
-        JPH_ASSERT(retCode == JNI_OK);
-
+        JNIEnv * const pAttachEnv = gAttachmentCache.GetEnv(mpVM);
         const jlong body1Va = reinterpret_cast<jlong> (&inBody1);
         const jlong body2Va = reinterpret_cast<jlong> (&inBody2);
         const jlong manifoldVa = reinterpret_cast<jlong> (&inManifold);
         const jlong settingsVa = reinterpret_cast<jlong> (&ioSettings);
         pAttachEnv->CallVoidMethod(mJavaObject, mAddedMethodId, body1Va, body2Va, manifoldVa, settingsVa);
         EXCEPTION_CHECK(pAttachEnv)
-        mpVM->DetachCurrentThread();
     }
 
     void OnContactPersisted(const Body& inBody1, const Body& inBody2,
             const ContactManifold& inManifold, ContactSettings& ioSettings) override {
-        JNIEnv *pAttachEnv;
-        jint retCode = ATTACH_CURRENT_THREAD(mpVM, &pAttachEnv);
-        JPH_ASSERT(retCode == JNI_OK);
-
+        JNIEnv * const pAttachEnv = gAttachmentCache.GetEnv(mpVM);
         const jlong body1Va = reinterpret_cast<jlong> (&inBody1);
         const jlong body2Va = reinterpret_cast<jlong> (&inBody2);
         const jlong manifoldVa = reinterpret_cast<jlong> (&inManifold);
@@ -90,26 +83,18 @@ public:
         pAttachEnv->CallVoidMethod(mJavaObject, mPersistedMethodId, body1Va,
                 body2Va, manifoldVa, settingsVa);
         EXCEPTION_CHECK(pAttachEnv)
-        mpVM->DetachCurrentThread();
     }
 
     void OnContactRemoved(const SubShapeIDPair& pair) override {
-        JNIEnv *pAttachEnv;
-        jint retCode = ATTACH_CURRENT_THREAD(mpVM, &pAttachEnv);
-        JPH_ASSERT(retCode == JNI_OK);
-
+        JNIEnv * const pAttachEnv = gAttachmentCache.GetEnv(mpVM);
         const jlong pairVa = reinterpret_cast<jlong> (&pair);
         pAttachEnv->CallVoidMethod(mJavaObject, mRemovedMethodId, pairVa);
         EXCEPTION_CHECK(pAttachEnv)
-        mpVM->DetachCurrentThread();
     }
 
     ValidateResult OnContactValidate(const Body& inBody1, const Body& inBody2,
             RVec3Arg inBaseOffset, const CollideShapeResult& inCollisionResult) override {
-        JNIEnv *pAttachEnv;
-        jint retCode = ATTACH_CURRENT_THREAD(mpVM, &pAttachEnv);
-        JPH_ASSERT(retCode == JNI_OK);
-
+        JNIEnv * const pAttachEnv = gAttachmentCache.GetEnv(mpVM);
         const jlong body1Va = reinterpret_cast<jlong> (&inBody1);
         const jlong body2Va = reinterpret_cast<jlong> (&inBody2);
         const jdouble offsetX = inBaseOffset.GetX();
@@ -119,18 +104,13 @@ public:
         const jint jintResult = pAttachEnv->CallIntMethod(mJavaObject,
                 mValidateMethodId, body1Va, body2Va, offsetX, offsetY, offsetZ, shapeVa);
         EXCEPTION_CHECK(pAttachEnv)
-        mpVM->DetachCurrentThread();
         return (ValidateResult) jintResult;
     }
 
     ~CustomContactListener() {
-        JNIEnv *pAttachEnv;
-        jint retCode = ATTACH_CURRENT_THREAD(mpVM, &pAttachEnv);
-        JPH_ASSERT(retCode == JNI_OK);
-
+        JNIEnv * const pAttachEnv = gAttachmentCache.GetEnv(mpVM);
         pAttachEnv->DeleteGlobalRef(mJavaObject);
         EXCEPTION_CHECK(pAttachEnv)
-        mpVM->DetachCurrentThread();
     }
 };
 
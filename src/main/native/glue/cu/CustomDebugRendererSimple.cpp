@@ -62,10 +62,7 @@ public:
     }
 
     void DrawLine(RVec3Arg inFrom, RVec3Arg inTo, ColorArg inColor) override {
-        JNIEnv *pAttachEnv;
-        jint retCode = ATTACH_CURRENT_THREAD(mpVM, &pAttachEnv);
-        JPH_ASSERT(retCode == JNI_OK);
-
+        JNIEnv * const pAttachEnv = gAttachmentCache.GetEnv(mpVM);
         const double x1 = inFrom.GetX();
         const double y1 = inFrom.GetY();
         const double z1 = inFrom.GetZ();
@@ -76,15 +73,11 @@ public:
         pAttachEnv->CallVoidMethod(
                 mJavaObject, mDrawLineId, x1, y1, z1, x2, y2, z2, color);
         EXCEPTION_CHECK(pAttachEnv)
-        mpVM->DetachCurrentThread();
     }
 
     void DrawText3D(RVec3Arg inPosition, const string_view &inString,
       ColorArg inColor, float inHeight) override {
-        JNIEnv *pAttachEnv;
-        jint retCode = ATTACH_CURRENT_THREAD(mpVM, &pAttachEnv);
-        JPH_ASSERT(retCode == JNI_OK);
-
+        JNIEnv * const pAttachEnv = gAttachmentCache.GetEnv(mpVM);
         const double xx = inPosition.GetX();
         const double yy = inPosition.GetY();
         const double zz = inPosition.GetZ();
@@ -101,15 +94,12 @@ public:
         pAttachEnv->CallVoidMethod(
                 mJavaObject, mDrawTextId, xx, yy, zz, message, color, inHeight);
         EXCEPTION_CHECK(pAttachEnv)
-        mpVM->DetachCurrentThread();
+        pAttachEnv->DeleteLocalRef(message);
     }
 
     void DrawTriangle(RVec3Arg inV1, RVec3Arg inV2, RVec3Arg inV3,
       ColorArg inColor, ECastShadow inCastShadow) override {
-        JNIEnv *pAttachEnv;
-        jint retCode = ATTACH_CURRENT_THREAD(mpVM, &pAttachEnv);
-        JPH_ASSERT(retCode == JNI_OK);
-
+        JNIEnv * const pAttachEnv = gAttachmentCache.GetEnv(mpVM);
         const double x1 = inV1.GetX();
         const double y1 = inV1.GetY();
         const double z1 = inV1.GetZ();
@@ -124,17 +114,12 @@ public:
         pAttachEnv->CallVoidMethod(mJavaObject, mDrawTriangleId,
                 x1, y1, z1, x2, y2, z2, x3, y3, z3, color, shadow);
         EXCEPTION_CHECK(pAttachEnv)
-        mpVM->DetachCurrentThread();
     }
 
     ~CustomDebugRendererSimple() {
-        JNIEnv *pAttachEnv;
-        jint retCode = ATTACH_CURRENT_THREAD(mpVM, &pAttachEnv);
-        JPH_ASSERT(retCode == JNI_OK);
-
+        JNIEnv * const pAttachEnv = gAttachmentCache.GetEnv(mpVM);
         pAttachEnv->DeleteGlobalRef(mJavaObject);
         EXCEPTION_CHECK(pAttachEnv)
-        mpVM->DetachCurrentThread();
     }
 };
 #endif
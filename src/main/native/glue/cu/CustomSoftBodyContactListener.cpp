@@ -56,41 +56,29 @@ public:
     }
 
     void OnSoftBodyContactAdded(const Body& inSoftBody, const SoftBodyManifold& inManifold) override {
-        JNIEnv *pAttachEnv;
-        jint retCode = ATTACH_CURRENT_THREAD(mpVM, &pAttachEnv);
-        JPH_ASSERT(retCode == JNI_OK);
-
+        JNIEnv * const pAttachEnv = gAttachmentCache.GetEnv(mpVM);
         const jlong bodyVa = reinterpret_cast<jlong> (&inSoftBody);
         const jlong manifoldVa = reinterpret_cast<jlong> (&inManifold);
         pAttachEnv->CallVoidMethod(mJavaObject, mAddedMethodId, bodyVa, manifoldVa);
         EXCEPTION_CHECK(pAttachEnv)
-        mpVM->DetachCurrentThread();
     }
 
     SoftBodyValidateResult OnSoftBodyContactValidate(const Body& inSoftBody,
                 const Body& inOtherBody, SoftBodyContactSettings& ioSettings) override {
-        JNIEnv *pAttachEnv;
-        jint retCode = ATTACH_CURRENT_THREAD(mpVM, &pAttachEnv);
-        JPH_ASSERT(retCode == JNI_OK);
-
+        JNIEnv * const pAttachEnv = gAttachmentCache.GetEnv(mpVM);
         const jlong softBodyVa = reinterpret_cast<jlong> (&inSoftBody);
         const jlong otherBodyVa = reinterpret_cast<jlong> (&inOtherBody);
         const jlong settingsVa = reinterpret_cast<jlong> (&ioSettings);
         const jint jintResult = pAttachEnv->CallIntMethod(mJavaObject,
                 mValidateMethodId, softBodyVa, otherBodyVa, settingsVa);
         EXCEPTION_CHECK(pAttachEnv)
-        mpVM->DetachCurrentThread();
         return (SoftBodyValidateResult) jintResult;
     }
 
     ~CustomSoftBodyContactListener() {
-        JNIEnv *pAttachEnv;
-        jint retCode = ATTACH_CURRENT_THREAD(mpVM, &pAttachEnv);
-        JPH_ASSERT(retCode == JNI_OK);
-
+        JNIEnv * const pAttachEnv = gAttachmentCache.GetEnv(mpVM);
         pAttachEnv->DeleteGlobalRef(mJavaObject);
         EXCEPTION_CHECK(pAttachEnv)
-        mpVM->DetachCurrentThread();
     }
 };
 
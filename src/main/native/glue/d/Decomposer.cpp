@@ -96,10 +96,7 @@ public:
 
     void Update(const double overallPercent, const double stagePercent,
             const char* const stageName, const char* operationName) override {
-        JNIEnv *pAttachEnv;
-        jint retCode = ATTACH_CURRENT_THREAD(mpVM, &pAttachEnv);
-        JPH_ASSERT(retCode == JNI_OK);
-
+        JNIEnv * const pAttachEnv = gAttachmentCache.GetEnv(mpVM);
         jfloat arg1 = overallPercent;
         jfloat arg2 = stagePercent;
         jfloat arg3 = 100.0;
@@ -113,6 +110,8 @@ public:
         pAttachEnv->CallVoidMethod(mJavaObject, mUpdateMethodId,
                 arg1, arg2, arg3, arg4, arg5);
         EXCEPTION_CHECK(pAttachEnv)
+        pAttachEnv->DeleteLocalRef(arg4);
+        pAttachEnv->DeleteLocalRef(arg5);
     }
 
     virtual ~Decomposer() {}
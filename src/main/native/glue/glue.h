@@ -154,13 +154,96 @@ extern bool gTraceAllocations;
 
 #ifdef ANDROID
 // doesn't match the Invocation API spec
-#define ATTACH_CURRENT_THREAD(mpVM, ppAttachEnv) \
-    (mpVM)->AttachCurrentThread(ppAttachEnv, NULL)
+#define ATTACH_CURRENT_THREAD_AS_DAEMON(pVM, ppAttachEnv) \
+    (pVM)->AttachCurrentThreadAsDaemon(ppAttachEnv, NULL)
 
 #else
-#define ATTACH_CURRENT_THREAD(mpVM, ppAttachEnv) \
-    (mpVM)->AttachCurrentThread((void **)(ppAttachEnv), NULL)
+#define ATTACH_CURRENT_THREAD_AS_DAEMON(pVM, ppAttachEnv) \
+    (pVM)->AttachCurrentThreadAsDaemon((void **)(ppAttachEnv), NULL)
 
 #endif
+/*
+ * a per-thread cache of the JNI environment, used by callback bridges that may
+ * be invoked from native threads (such as JobSystemThreadPool workers):
+ *
+ * The first upcall on a detached native thread attaches it to the JVM as a
+ * daemon and caches the resulting environment. The attachment persists until
+ * the thread exits, at which point the thread-local destructor detaches it.
+ *
+ * Threads that were attached by some other component (such as Java threads)
+ * are never detached by the cache, and their environment isn't cached either,
+ * since the other component might detach the thread at any time.
+ * For them, each upcall obtains the environment from the JVM.
+ */
+class AttachmentCache {
+public:
+    JNIEnv *GetEnv(JavaVM *pVM) {
+        if (mpAttachedVM != nullptr) { // attached by this cache
+            return mpEnv;
+        }
+
+        JNIEnv *pResult = nullptr;
+        jint retCode = pVM->GetEnv((void **) &pResult, JNI_VERSION_1_6);
+        if (retCode == JNI_EDETACHED) {
+            retCode = ATTACH_CURRENT_THREAD_AS_DAEMON(pVM, &pResult);
+            if (retCode == JNI_OK) {
+                mpAttachedVM = pVM;
+                mpEnv = pResult;
+            }
+        }
+        JPH_ASSERT(retCode == JNI_OK);
+
+        return pResult;
+    }
+
+    ~AttachmentCache() {
+        if (mpAttachedVM != nullptr) {
+            mpAttachedVM->DetachCurrentThread();
+        }
+    }
+
+private:
+    // the JVM to which this cache attached the thread, or nullptr if none:
+    JavaVM *mpAttachedVM = nullptr;
+    // the environment of the thread, valid only if mpAttachedVM is set:
+    JNIEnv *mpEnv = nullptr;
+};
+
+extern thread_local AttachmentCache gAttachmentCache;
+
+/*
+ * layout of each record in a HitBuffer, matching the offsets in HitBuffer.java
+ */
+struct HitRecord {
+    jint mBodyId;
+    jint mSubShapeId1;
+    jint mSubShapeId2;
+    jfloat mFraction;
+    jfloat mDepth;
+    jfloat mPointOn1[3];
+    jfloat mPointOn2[3];
+    jfloat mAxis[3];
+    jint mFlags;
+    jint mPadding;
+
+    /*
+     * Fill the record from a CollideShapeResult (or ShapeCastResult).
+     * Templated so that glue files needn't include CollideShape.h
+     */
+    template <class T>
+    void SetFromCollision(const T& inHit) {
+        mBodyId = inHit.mBodyID2.GetIndexAndSequenceNumber();
+        mSubShapeId1 = inHit.mSubShapeID1.GetValue();
+        mSubShapeId2 = inHit.mSubShapeID2.GetValue();
+        mFraction = 0.0f;
+        mDepth = inHit.mPenetrationDepth;
+        inHit.mContactPointOn1.StoreFloat3((JPH::Float3 *) mPointOn1);
+        inHit.mContactPointOn2.StoreFloat3((JPH::Float3 *) mPointOn2);
+        inHit.mPenetrationAxis.StoreFloat3((JPH::Float3 *) mAxis);
+        mFlags = 0;
+        mPadding = 0;
+    }
+};
+static_assert(sizeof(HitRecord) == 64);
 
 #endif
\ No newline at end of file
@@ -0,0 +1,161 @@
+/*
+Copyright (c) 2026 Stephen Gold
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+ */
+
+/*
+ * Author: Stephen Gold
+ */
+#include "Jolt/Jolt.h"
+#include "Jolt/Core/FixedSizeFreeList.h"
+#include "Jolt/Core/JobSystemWithBarrier.h"
+#include "auto/com_github_stephengold_joltjni_JobSystemExecutor.h"
+#include "glue/glue.h"
+#include <chrono>
+#include <thread>
+
+using namespace JPH;
+
+/*
+ * A job system that hands each runnable job to Java, where it's submitted to
+ * a java.util.concurrent.Executor. Executor threads then invoke
+ * JobSystemExecutor.executeJob(), which runs the job natively.
+ */
+class JobSystemExecutor : public JobSystemWithBarrier {
+    using AvailableJobs = FixedSizeFreeList<Job>;
+
+    AvailableJobs mJobs;
+    const int mMaxConcurrency;
+    JavaVM *mpVM;
+    jmethodID mQueueMethodId;
+    jobject mJavaObject;
+
+public:
+    JobSystemExecutor(JNIEnv *pEnv, jobject javaObject, uint maxJobs,
+            uint maxBarriers, int maxConcurrency)
+            : JobSystemWithBarrier(maxBarriers),
+            mMaxConcurrency(maxConcurrency) {
+        mJobs.Init(maxJobs, maxJobs);
+        pEnv->GetJavaVM(&mpVM);
+
+        mJavaObject = pEnv->NewGlobalRef(javaObject);
+        EXCEPTION_CHECK(pEnv)
+
+        const jclass clss = pEnv->FindClass(
+                "com/github/stephengold/joltjni/JobSystemExecutor");
+        EXCEPTION_CHECK(pEnv)
+
+        mQueueMethodId = pEnv->GetMethodID(clss, "queueJob", "(J)V");
+        EXCEPTION_CHECK(pEnv)
+    }
+
+    int GetMaxConcurrency() const override {
+        return mMaxConcurrency;
+    }
+
+    JobHandle CreateJob(const char *inName, ColorArg inColor,
+            const JobFunction& inJobFunction,
+            uint32 inNumDependencies = 0) override {
+        uint32 index;
+        for (;;) {
+            index = mJobs.ConstructObject(
+                    inName, inColor, this, inJobFunction, inNumDependencies);
+            if (index != AvailableJobs::cInvalidObjectIndex) {
+                break;
+            }
+            // All jobs are in use: wait for the executor to free one.
+            std::this_thread::sleep_for(std::chrono::microseconds(100));
+        }
+        Job * const pJob = &mJobs.Get(index);
+        JobHandle result(pJob);
+        if (inNumDependencies == 0) {
+            QueueJob(pJob);
+        }
+        return result;
+    }
+
+    /*
+     * Run a job that was previously queued, then drop the queue's reference.
+     * Invoked on an executor thread.
+     */
+    static void sExecuteJob(jlong jobVa) {
+        Job * const pJob = reinterpret_cast<Job *> (jobVa);
+        pJob->Execute();
+        pJob->Release();
+    }
+
+    ~JobSystemExecutor() {
+        JNIEnv * const pAttachEnv = gAttachmentCache.GetEnv(mpVM);
+        pAttachEnv->DeleteGlobalRef(mJavaObject);
+        EXCEPTION_CHECK(pAttachEnv)
+    }
+
+protected:
+    void FreeJob(Job *inJob) override {
+        mJobs.DestructObject(inJob);
+    }
+
+    void QueueJob(Job *inJob) override {
+        // The queue's reference is released by sExecuteJob().
+        inJob->AddRef();
+        JNIEnv * const pAttachEnv = gAttachmentCache.GetEnv(mpVM);
+        const jlong jobVa = reinterpret_cast<jlong> (inJob);
+        pAttachEnv->CallVoidMethod(mJavaObject, mQueueMethodId, jobVa);
+        EXCEPTION_CHECK(pAttachEnv)
+    }
+
+    void QueueJobs(Job **inJobs, uint inNumJobs) override {
+        for (uint i = 0; i < inNumJobs; ++i) {
+            QueueJob(inJobs[i]);
+        }
+    }
+};
+
+/*
+ * Class:     com_github_stephengold_joltjni_JobSystemExecutor
+ * Method:    createJobSystem
+ * Signature: (III)J
+ */
+JNIEXPORT jlong JNICALL Java_com_github_stephengold_joltjni_JobSystemExecutor_createJobSystem
+  (JNIEnv *pEnv, jobject javaObject, jint maxJobs, jint maxBarriers,
+  jint maxConcurrency) {
+    JobSystemExecutor * const pResult = new JobSystemExecutor(
+            pEnv, javaObject, maxJobs, maxBarriers, maxConcurrency);
+    TRACE_NEW("JobSystemExecutor", pResult)
+    return reinterpret_cast<jlong> (pResult);
+}
+
+/*
+ * Class:     com_github_stephengold_joltjni_JobSystemExecutor
+ * Method:    executeJob
+ * Signature: (J)V
+ */
+JNIEXPORT void JNICALL Java_com_github_stephengold_joltjni_JobSystemExecutor_executeJob
+  (JNIEnv *, jclass, jlong jobVa) {
+    JobSystemExecutor::sExecuteJob(jobVa);
+}
+
+/*
+ * Class:     com_github_stephengold_joltjni_JobSystemExecutor
+ * Method:    free
+ * Signature: (J)V
+ */
+JNIEXPORT void JNICALL Java_com_github_stephengold_joltjni_JobSystemExecutor_free
+  BODYOF_FREE(JobSystemExecutor)
@@ -49,6 +49,9 @@ SOFTWARE.
 
 using namespace JPH;
 
+// per-thread JNI attachments used by callback bridges:
+thread_local AttachmentCache gAttachmentCache;
+
 /*
  * Class:     com_github_stephengold_joltjni_Jolt
  * Method:    aCos
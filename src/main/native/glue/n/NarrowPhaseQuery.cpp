@@ -23,7 +23,10 @@ SOFTWARE.
 /*
  * Author: Stephen Gold
  */
+#include <atomic>
 #include "Jolt/Jolt.h"
+#include "Jolt/Core/JobSystem.h"
+#include "Jolt/Physics/Collision/CollisionCollectorImpl.h"
 #include "Jolt/Physics/Collision/NarrowPhaseQuery.h"
 #include "auto/com_github_stephengold_joltjni_NarrowPhaseQuery.h"
 
@@ -80,6 +83,101 @@ JNIEXPORT void JNICALL Java_com_github_stephengold_joltjni_NarrowPhaseQuery_cast
             *pBodyFilter, *pShapeFilter);
 }
 
+/*
+ * Invoke the specified function on consecutive ranges of [0, count), either
+ * on the current thread (if pJobSystem is null) or as concurrent jobs.
+ */
+template <typename F>
+static void forEachBatch(JobSystem *pJobSystem, jint count, const F& function) {
+    if (pJobSystem == nullptr || count < 2) {
+        function(0, count);
+        return;
+    }
+    JobSystem::Barrier * const pBarrier = pJobSystem->CreateBarrier();
+    if (pBarrier == nullptr) {
+        function(0, count);
+        return;
+    }
+    const jint maxBatches = 4 * pJobSystem->GetMaxConcurrency();
+    const jint batchSize = std::max(jint(32), (count + maxBatches - 1) / maxBatches);
+    for (jint start = 0; start < count; start += batchSize) {
+        const jint end = std::min(count, start + batchSize);
+        const JobHandle handle = pJobSystem->CreateJob("QueryBatch",
+                Color::sGreen, [&function, start, end]() {
+            function(start, end);
+        });
+        pBarrier->AddJob(handle);
+    }
+    pJobSystem->WaitForJobs(pBarrier);
+    pJobSystem->DestroyBarrier(pBarrier);
+}
+
+/*
+ * Class:     com_github_stephengold_joltjni_NarrowPhaseQuery
+ * Method:    castRays
+ * Signature: (JILjava/nio/Buffer;ZLjava/nio/FloatBuffer;Ljava/nio/IntBuffer;Ljava/nio/IntBuffer;Ljava/nio/FloatBuffer;JJJJ)I
+ */
+JNIEXPORT jint JNICALL Java_com_github_stephengold_joltjni_NarrowPhaseQuery_castRays
+  (JNIEnv *pEnv, jclass, jlong queryVa, jint numRays, jobject origins,
+  jboolean originsAreDoubles, jobject directions, jobject storeBodyIds,
+  jobject storeSubShapeIds, jobject storeFractions, jlong bplFilterVa,
+  jlong olFilterVa, jlong bodyFilterVa, jlong jobSystemVa) {
+    const NarrowPhaseQuery * const pQuery
+            = reinterpret_cast<NarrowPhaseQuery *> (queryVa);
+    const void * const pOrigins = pEnv->GetDirectBufferAddress(origins);
+    const jfloat * const pDirections
+            = (jfloat *) pEnv->GetDirectBufferAddress(directions);
+    jint * const pBodyIds = (storeBodyIds == nullptr) ? nullptr
+            : (jint *) pEnv->GetDirectBufferAddress(storeBodyIds);
+    jint * const pSubShapeIds = (storeSubShapeIds == nullptr) ? nullptr
+            : (jint *) pEnv->GetDirectBufferAddress(storeSubShapeIds);
+    jfloat * const pFractions = (storeFractions == nullptr) ? nullptr
+            : (jfloat *) pEnv->GetDirectBufferAddress(storeFractions);
+    JPH_ASSERT(!pEnv->ExceptionCheck());
+    const BroadPhaseLayerFilter * const pBplFilter
+            = reinterpret_cast<BroadPhaseLayerFilter *> (bplFilterVa);
+    const ObjectLayerFilter * const pOlFilter
+            = reinterpret_cast<ObjectLayerFilter *> (olFilterVa);
+    const BodyFilter * const pBodyFilter
+            = reinterpret_cast<BodyFilter *> (bodyFilterVa);
+    JobSystem * const pJobSystem = reinterpret_cast<JobSystem *> (jobSystemVa);
+    std::atomic<jint> numHits(0);
+    forEachBatch(pJobSystem, numRays, [&](jint start, jint end) {
+        jint batchHits = 0;
+        for (jint i = start; i < end; ++i) {
+            RVec3 origin;
+            if (originsAreDoubles) {
+                const jdouble * const pDoubles = (const jdouble *) pOrigins;
+                origin = RVec3(pDoubles[3 * i], pDoubles[3 * i + 1], pDoubles[3 * i + 2]);
+            } else {
+                const jfloat * const pFloats = (const jfloat *) pOrigins;
+                origin = RVec3(pFloats[3 * i], pFloats[3 * i + 1], pFloats[3 * i + 2]);
+            }
+            const Vec3 direction(pDirections[3 * i], pDirections[3 * i + 1],
+                    pDirections[3 * i + 2]);
+            const RRayCast ray(origin, direction);
+            RayCastResult hit;
+            const bool isHit = pQuery->CastRay(
+                    ray, hit, *pBplFilter, *pOlFilter, *pBodyFilter);
+            if (isHit) {
+                ++batchHits;
+            }
+            if (pBodyIds != nullptr) {
+                pBodyIds[i] = isHit ? hit.mBodyID.GetIndexAndSequenceNumber()
+                        : BodyID::cInvalidBodyID;
+            }
+            if (pSubShapeIds != nullptr) {
+                pSubShapeIds[i] = hit.mSubShapeID2.GetValue();
+            }
+            if (pFractions != nullptr) {
+                pFractions[i] = hit.mFraction;
+            }
+        }
+        numHits += batchHits;
+    });
+    return numHits;
+}
+
 /*
  * Class:     com_github_stephengold_joltjni_NarrowPhaseQuery
  * Method:    castShape
@@ -110,6 +208,82 @@ JNIEXPORT void JNICALL Java_com_github_stephengold_joltjni_NarrowPhaseQuery_cast
             *pBplFilter, *pOlFilter, *pBodyFilter, *pShapeFilter);
 }
 
+/*
+ * Class:     com_github_stephengold_joltjni_NarrowPhaseQuery
+ * Method:    castShapes
+ * Signature: (J[JJDDDLjava/nio/IntBuffer;Ljava/nio/IntBuffer;Ljava/nio/FloatBuffer;Ljava/nio/FloatBuffer;JJJJJ)I
+ */
+JNIEXPORT jint JNICALL Java_com_github_stephengold_joltjni_NarrowPhaseQuery_castShapes
+  (JNIEnv *pEnv, jclass, jlong queryVa, jlongArray castVas, jlong settingsVa,
+  jdouble baseX, jdouble baseY, jdouble baseZ, jobject storeBodyIds,
+  jobject storeSubShapeIds, jobject storeFractions, jobject storeNormals,
+  jlong bplFilterVa, jlong olFilterVa, jlong bodyFilterVa, jlong shapeFilterVa,
+  jlong jobSystemVa) {
+    const NarrowPhaseQuery * const pQuery
+            = reinterpret_cast<NarrowPhaseQuery *> (queryVa);
+    const jsize numCasts = pEnv->GetArrayLength(castVas);
+    jlong * const pCastVas = pEnv->GetLongArrayElements(castVas, nullptr);
+    const ShapeCastSettings * const pSettings
+            = reinterpret_cast<ShapeCastSettings *> (settingsVa);
+    const RVec3 baseOffset(baseX, baseY, baseZ);
+    jint * const pBodyIds = (storeBodyIds == nullptr) ? nullptr
+            : (jint *) pEnv->GetDirectBufferAddress(storeBodyIds);
+    jint * const pSubShapeIds = (storeSubShapeIds == nullptr) ? nullptr
+            : (jint *) pEnv->GetDirectBufferAddress(storeSubShapeIds);
+    jfloat * const pFractions = (storeFractions == nullptr) ? nullptr
+            : (jfloat *) pEnv->GetDirectBufferAddress(storeFractions);
+    jfloat * const pNormals = (storeNormals == nullptr) ? nullptr
+            : (jfloat *) pEnv->GetDirectBufferAddress(storeNormals);
+    JPH_ASSERT(!pEnv->ExceptionCheck());
+    const BroadPhaseLayerFilter * const pBplFilter
+            = reinterpret_cast<BroadPhaseLayerFilter *> (bplFilterVa);
+    const ObjectLayerFilter * const pOlFilter
+            = reinterpret_cast<ObjectLayerFilter *> (olFilterVa);
+    const BodyFilter * const pBodyFilter
+            = reinterpret_cast<BodyFilter *> (bodyFilterVa);
+    const ShapeFilter * const pShapeFilter
+            = reinterpret_cast<ShapeFilter *> (shapeFilterVa);
+    JobSystem * const pJobSystem = reinterpret_cast<JobSystem *> (jobSystemVa);
+    std::atomic<jint> numHits(0);
+    forEachBatch(pJobSystem, numCasts, [&](jint start, jint end) {
+        jint batchHits = 0;
+        for (jint i = start; i < end; ++i) {
+            const RShapeCast * const pShapeCast
+                    = reinterpret_cast<RShapeCast *> (pCastVas[i]);
+            ClosestHitCollisionCollector<CastShapeCollector> collector;
+            pQuery->CastShape(*pShapeCast, *pSettings, baseOffset, collector,
+                    *pBplFilter, *pOlFilter, *pBodyFilter, *pShapeFilter);
+            const bool isHit = collector.HadHit();
+            const ShapeCastResult& hit = collector.mHit;
+            if (isHit) {
+                ++batchHits;
+            }
+            if (pBodyIds != nullptr) {
+                pBodyIds[i] = isHit ? hit.mBodyID2.GetIndexAndSequenceNumber()
+                        : BodyID::cInvalidBodyID;
+            }
+            if (pSubShapeIds != nullptr) {
+                pSubShapeIds[i] = isHit ? hit.mSubShapeID2.GetValue()
+                        : SubShapeID().GetValue();
+            }
+            if (pFractions != nullptr) {
+                pFractions[i] = isHit ? hit.mFraction : 1.0f + FLT_EPSILON;
+            }
+            if (pNormals != nullptr) {
+                const Vec3 normal = isHit
+                        ? hit.mPenetrationAxis.NormalizedOr(Vec3::sZero())
+                        : Vec3::sZero();
+                pNormals[3 * i] = normal.GetX();
+                pNormals[3 * i + 1] = normal.GetY();
+                pNormals[3 * i + 2] = normal.GetZ();
+            }
+        }
+        numHits += batchHits;
+    });
+    pEnv->ReleaseLongArrayElements(castVas, pCastVas, JNI_ABORT);
+    return numHits;
+}
+
 /*
  * Class:     com_github_stephengold_joltjni_NarrowPhaseQuery
  * Method:    collectTransformedShapes
@@ -193,4 +367,86 @@ JNIEXPORT void JNICALL Java_com_github_stephengold_joltjni_NarrowPhaseQuery_coll
     pQuery->CollideShape(pShape, shapeScale, *pComTransform, *pSettings,
             baseOffset, *pCollector, *pBplFilter, *pOlFilter, *pBodyFilter,
             *pShapeFilter);
-}
\ No newline at end of file
+}
+
+/*
+ * Class:     com_github_stephengold_joltjni_NarrowPhaseQuery
+ * Method:    collideShapes
+ * Signature: (J[J[JJDDDLjava/nio/IntBuffer;Ljava/nio/IntBuffer;Ljava/nio/FloatBuffer;Ljava/nio/FloatBuffer;JJJJJ)I
+ */
+JNIEXPORT jint JNICALL Java_com_github_stephengold_joltjni_NarrowPhaseQuery_collideShapes
+  (JNIEnv *pEnv, jclass, jlong queryVa, jlongArray shapeVas,
+  jlongArray transformVas, jlong settingsVa, jdouble baseX, jdouble baseY,
+  jdouble baseZ, jobject storeBodyIds, jobject storeSubShapeIds,
+  jobject storeDepths, jobject storeNormals, jlong bplFilterVa,
+  jlong olFilterVa, jlong bodyFilterVa, jlong shapeFilterVa, jlong jobSystemVa) {
+    const NarrowPhaseQuery * const pQuery
+            = reinterpret_cast<NarrowPhaseQuery *> (queryVa);
+    const jsize numShapes = pEnv->GetArrayLength(shapeVas);
+    jlong * const pShapeVas = pEnv->GetLongArrayElements(shapeVas, nullptr);
+    jlong * const pTransformVas
+            = pEnv->GetLongArrayElements(transformVas, nullptr);
+    const CollideShapeSettings * const pSettings
+            = reinterpret_cast<CollideShapeSettings *> (settingsVa);
+    const RVec3 baseOffset(baseX, baseY, baseZ);
+    jint * const pBodyIds = (storeBodyIds == nullptr) ? nullptr
+            : (jint *) pEnv->GetDirectBufferAddress(storeBodyIds);
+    jint * const pSubShapeIds = (storeSubShapeIds == nullptr) ? nullptr
+            : (jint *) pEnv->GetDirectBufferAddress(storeSubShapeIds);
+    jfloat * const pDepths = (storeDepths == nullptr) ? nullptr
+            : (jfloat *) pEnv->GetDirectBufferAddress(storeDepths);
+    jfloat * const pNormals = (storeNormals == nullptr) ? nullptr
+            : (jfloat *) pEnv->GetDirectBufferAddress(storeNormals);
+    JPH_ASSERT(!pEnv->ExceptionCheck());
+    const BroadPhaseLayerFilter * const pBplFilter
+            = reinterpret_cast<BroadPhaseLayerFilter *> (bplFilterVa);
+    const ObjectLayerFilter * const pOlFilter
+            = reinterpret_cast<ObjectLayerFilter *> (olFilterVa);
+    const BodyFilter * const pBodyFilter
+            = reinterpret_cast<BodyFilter *> (bodyFilterVa);
+    const ShapeFilter * const pShapeFilter
+            = reinterpret_cast<ShapeFilter *> (shapeFilterVa);
+    JobSystem * const pJobSystem = reinterpret_cast<JobSystem *> (jobSystemVa);
+    std::atomic<jint> numHits(0);
+    forEachBatch(pJobSystem, numShapes, [&](jint start, jint end) {
+        jint batchHits = 0;
+        for (jint i = start; i < end; ++i) {
+            const Shape * const pShape
+                    = reinterpret_cast<Shape *> (pShapeVas[i]);
+            const RMat44 * const pComTransform
+                    = reinterpret_cast<RMat44 *> (pTransformVas[i]);
+            ClosestHitCollisionCollector<CollideShapeCollector> collector;
+            pQuery->CollideShape(pShape, Vec3::sOne(), *pComTransform,
+                    *pSettings, baseOffset, collector, *pBplFilter, *pOlFilter,
+                    *pBodyFilter, *pShapeFilter);
+            const bool isHit = collector.HadHit();
+            const CollideShapeResult& hit = collector.mHit;
+            if (isHit) {
+                ++batchHits;
+            }
+            if (pBodyIds != nullptr) {
+                pBodyIds[i] = isHit ? hit.mBodyID2.GetIndexAndSequenceNumber()
+                        : BodyID::cInvalidBodyID;
+            }
+            if (pSubShapeIds != nullptr) {
+                pSubShapeIds[i] = isHit ? hit.mSubShapeID2.GetValue()
+                        : SubShapeID().GetValue();
+            }
+            if (pDepths != nullptr) {
+                pDepths[i] = isHit ? hit.mPenetrationDepth : 0.0f;
+            }
+            if (pNormals != nullptr) {
+                const Vec3 normal = isHit
+                        ? hit.mPenetrationAxis.NormalizedOr(Vec3::sZero())
+                        : Vec3::sZero();
+                pNormals[3 * i] = normal.GetX();
+                pNormals[3 * i + 1] = normal.GetY();
+                pNormals[3 * i + 2] = normal.GetZ();
+            }
+        }
+        numHits += batchHits;
+    });
+    pEnv->ReleaseLongArrayElements(transformVas, pTransformVas, JNI_ABORT);
+    pEnv->ReleaseLongArrayElements(shapeVas, pShapeVas, JNI_ABORT);
+    return numHits;
+}
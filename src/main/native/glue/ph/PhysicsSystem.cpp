@@ -737,7 +737,7 @@ JNIEXPORT jint JNICALL Java_com_github_stephengold_joltjni_PhysicsSystem_update
     TempAllocatorImpl * const pAllocator
             = reinterpret_cast<TempAllocatorImpl *> (allocatorVa);
     JobSystem * const pJobSystem
-            = reinterpret_cast<JobSystemThreadPool *> (jobSystemVa);
+            = reinterpret_cast<JobSystem *> (jobSystemVa);
     const EPhysicsUpdateError result = pPhysicsSystem->Update(
             deltaTime, collisionSteps, pAllocator, pJobSystem);
     return (jint) result;
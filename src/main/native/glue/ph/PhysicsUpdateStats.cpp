@@ -0,0 +1,221 @@
+/*
+Copyright (c) 2026 Stephen Gold
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+ */
+
+/*
+ * Author: Stephen Gold
+ */
+#include "Jolt/Jolt.h"
+#include "Jolt/Core/JobSystem.h"
+#include "Jolt/Core/TempAllocator.h"
+#include "Jolt/Physics/PhysicsSystem.h"
+#include "auto/com_github_stephengold_joltjni_PhysicsUpdateStats.h"
+#include "glue/glue.h"
+#include <algorithm>
+#include <atomic>
+#include <chrono>
+#include <iostream>
+#include <string_view>
+
+using namespace JPH;
+
+/*
+ * slot indices, matching the constants in PhysicsUpdateStats.java
+ */
+enum StatsSlot {
+    BroadPhaseSlot, CollisionSlot, ConstraintSlot, IntegrationSlot, OtherSlot,
+    UpdateSlot, NumJobsSlot, TempPeakSlot, ActiveRigidSlot, ActiveSoftSlot,
+    NumBodiesSlot
+};
+static const int sNumPhases = OtherSlot + 1;
+
+/*
+ * Assign a job to a phase based on its name.
+ */
+static StatsSlot classifyJob(const char *pName) {
+    if (pName == nullptr) {
+        return OtherSlot;
+    }
+    const std::string_view name(pName);
+    if (name.find("Broad") != std::string_view::npos) {
+        return BroadPhaseSlot;
+    } else if (name.find("Collision") != std::string_view::npos
+            || name.find("Collide") != std::string_view::npos
+            || name.find("CCD") != std::string_view::npos) {
+        return CollisionSlot;
+    } else if (name.find("Constraint") != std::string_view::npos
+            || name.find("Island") != std::string_view::npos) {
+        return ConstraintSlot;
+    } else if (name.find("Integrate") != std::string_view::npos) {
+        return IntegrationSlot;
+    } else {
+        return OtherSlot;
+    }
+}
+
+/*
+ * A job system that delegates to another job system, counting the jobs and
+ * timing each one. Jobs belong to the wrapped system, so the queueing methods
+ * are never invoked on the wrapper.
+ */
+class TimingJobSystem : public JobSystem {
+public:
+    TimingJobSystem(JobSystem *pWrapped) : mpWrapped(pWrapped), mNumJobs(0) {
+        for (int i = 0; i < sNumPhases; ++i) {
+            mPhaseNanos[i] = 0;
+        }
+    }
+
+    int GetMaxConcurrency() const override {
+        return mpWrapped->GetMaxConcurrency();
+    }
+
+    JobHandle CreateJob(const char *inName, ColorArg inColor,
+            const JobFunction& inJobFunction,
+            uint32 inNumDependencies = 0) override {
+        ++mNumJobs;
+        std::atomic<uint64> * const pAccumulator
+                = &mPhaseNanos[classifyJob(inName)];
+        const JobFunction timedFunction = [pAccumulator, inJobFunction]() {
+            const auto start = std::chrono::steady_clock::now();
+            inJobFunction();
+            const auto elapsed = std::chrono::steady_clock::now() - start;
+            const uint64 nanos = std::chrono::duration_cast<
+                    std::chrono::nanoseconds>(elapsed).count();
+            pAccumulator->fetch_add(nanos, std::memory_order_relaxed);
+        };
+        return mpWrapped->CreateJob(
+                inName, inColor, timedFunction, inNumDependencies);
+    }
+
+    Barrier * CreateBarrier() override {
+        return mpWrapped->CreateBarrier();
+    }
+
+    void DestroyBarrier(Barrier *inBarrier) override {
+        mpWrapped->DestroyBarrier(inBarrier);
+    }
+
+    void WaitForJobs(Barrier *inBarrier) override {
+        mpWrapped->WaitForJobs(inBarrier);
+    }
+
+    uint32 GetNumJobs() const {
+        return mNumJobs.load();
+    }
+
+    uint64 GetPhaseNanos(int phaseIndex) const {
+        return mPhaseNanos[phaseIndex].load();
+    }
+
+protected:
+    void QueueJob(Job *) override {
+        JPH_ASSERT(false);
+    }
+
+    void QueueJobs(Job **, uint) override {
+        JPH_ASSERT(false);
+    }
+
+    void FreeJob(Job *) override {
+        JPH_ASSERT(false);
+    }
+
+private:
+    JobSystem * const mpWrapped;
+    std::atomic<uint32> mNumJobs;
+    std::atomic<uint64> mPhaseNanos[sNumPhases];
+};
+
+/*
+ * A temp allocator that delegates to another temp allocator while tracking
+ * the maximum number of bytes in use. Like any TempAllocator, it's used by
+ * one job at a time.
+ */
+class PeakTempAllocator : public TempAllocator {
+public:
+    PeakTempAllocator(TempAllocator *pWrapped) : mpWrapped(pWrapped) {
+    }
+
+    void * Allocate(uint inSize) override {
+        mInUse += inSize;
+        mPeak = std::max(mPeak, mInUse);
+        return mpWrapped->Allocate(inSize);
+    }
+
+    void Free(void *inAddress, uint inSize) override {
+        mpWrapped->Free(inAddress, inSize);
+        mInUse -= inSize;
+    }
+
+    uint64 GetPeak() const {
+        return mPeak;
+    }
+
+private:
+    TempAllocator * const mpWrapped;
+    uint64 mInUse = 0;
+    uint64 mPeak = 0;
+};
+
+/*
+ * Class:     com_github_stephengold_joltjni_PhysicsUpdateStats
+ * Method:    update
+ * Signature: (JFIJJLjava/nio/ByteBuffer;)I
+ */
+JNIEXPORT jint JNICALL Java_com_github_stephengold_joltjni_PhysicsUpdateStats_update
+  (JNIEnv *pEnv, jclass, jlong systemVa, jfloat deltaTime,
+  jint collisionSteps, jlong allocatorVa, jlong jobSystemVa,
+  jobject storeSlots) {
+    if (!gTypesAreRegistered) {
+        std::cout << "Tried to update physics before Jolt.registerTypes()!"
+                << std::endl;
+        return 1 << 7;
+    }
+    PhysicsSystem * const pSystem
+            = reinterpret_cast<PhysicsSystem *> (systemVa);
+    TempAllocator * const pAllocator
+            = reinterpret_cast<TempAllocator *> (allocatorVa);
+    JobSystem * const pJobSystem
+            = reinterpret_cast<JobSystem *> (jobSystemVa);
+    jlong * const pSlots = (jlong *) pEnv->GetDirectBufferAddress(storeSlots);
+    JPH_ASSERT(!pEnv->ExceptionCheck());
+
+    PeakTempAllocator peakAllocator(pAllocator);
+    TimingJobSystem timingJobSystem(pJobSystem);
+    const auto start = std::chrono::steady_clock::now();
+    const EPhysicsUpdateError result = pSystem->Update(
+            deltaTime, collisionSteps, &peakAllocator, &timingJobSystem);
+    const auto elapsed = std::chrono::steady_clock::now() - start;
+
+    for (int i = 0; i < sNumPhases; ++i) {
+        pSlots[i] = timingJobSystem.GetPhaseNanos(i);
+    }
+    pSlots[UpdateSlot] = std::chrono::duration_cast<
+            std::chrono::nanoseconds>(elapsed).count();
+    pSlots[NumJobsSlot] = timingJobSystem.GetNumJobs();
+    pSlots[TempPeakSlot] = peakAllocator.GetPeak();
+    pSlots[ActiveRigidSlot]
+            = pSystem->GetNumActiveBodies(EBodyType::RigidBody);
+    pSlots[ActiveSoftSlot] = pSystem->GetNumActiveBodies(EBodyType::SoftBody);
+    pSlots[NumBodiesSlot] = pSystem->GetNumBodies();
+    return (jint) result;
+}
@@ -0,0 +1,156 @@
+/*
+Copyright (c) 2026 Stephen Gold
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+ */
+
+/*
+ * Author: Stephen Gold
+ */
+#include "Jolt/Jolt.h"
+#include "auto/com_github_stephengold_joltjni_QuatArray.h"
+#include "glue/glue.h"
+
+using namespace JPH;
+
+/*
+ * The components of a QuatArray are stored in structure-of-arrays layout:
+ * all X components, then all Y, then all Z, then all W. Each bulk operation
+ * processes 4 elements per iteration using Vec4 lanes and finishes any
+ * remainder one element at a time.
+ */
+#define SOA_QUATS(pEnv, soa, pX, pY, pZ, pW, length) \
+  DIRECT_FLOAT_BUFFER(pEnv, soa, pX, capacity##pX); \
+  JPH_ASSERT(capacity##pX >= 4 * (length)); \
+  jfloat * const pY = pX + (length); \
+  jfloat * const pZ = pY + (length); \
+  jfloat * const pW = pZ + (length)
+
+inline static Vec4 load4(const jfloat *pFloats) {
+    return Vec4::sLoadFloat4(reinterpret_cast<const Float4 *> (pFloats));
+}
+
+inline static void store4(Vec4Arg v, jfloat *pFloats) {
+    v.StoreFloat4(reinterpret_cast<Float4 *> (pFloats));
+}
+
+/*
+ * Class:     com_github_stephengold_joltjni_QuatArray
+ * Method:    normalize
+ * Signature: (Ljava/nio/FloatBuffer;I)V
+ */
+JNIEXPORT void JNICALL Java_com_github_stephengold_joltjni_QuatArray_normalize
+  (JNIEnv *pEnv, jclass, jobject soa, jint length) {
+    SOA_QUATS(pEnv, soa, pX, pY, pZ, pW, length);
+    const Vec4 minLengthSq = Vec4::sReplicate(1.0e-12f);
+    const Vec4 zero = Vec4::sZero();
+    const Vec4 one = Vec4::sReplicate(1.0f);
+    jint i = 0;
+    for (; i + 4 <= length; i += 4) {
+        const Vec4 x = load4(pX + i), y = load4(pY + i);
+        const Vec4 z = load4(pZ + i), w = load4(pW + i);
+        const Vec4 lengthSq = x * x + y * y + z * z + w * w;
+        const UVec4 tiny = Vec4::sLessOrEqual(lengthSq, minLengthSq);
+        const Vec4 scale = Vec4::sSelect(one / lengthSq.Sqrt(), zero, tiny);
+        store4(x * scale, pX + i);
+        store4(y * scale, pY + i);
+        store4(z * scale, pZ + i);
+        store4(Vec4::sSelect(w * scale, one, tiny), pW + i);
+    }
+    for (; i < length; ++i) {
+        Quat q(pX[i], pY[i], pZ[i], pW[i]);
+        if (q.LengthSq() <= 1.0e-12f) {
+            q = Quat::sIdentity();
+        } else {
+            q = q.Normalized();
+        }
+        pX[i] = q.GetX();
+        pY[i] = q.GetY();
+        pZ[i] = q.GetZ();
+        pW[i] = q.GetW();
+    }
+}
+
+/*
+ * Class:     com_github_stephengold_joltjni_QuatArray
+ * Method:    pack
+ * Signature: (Ljava/nio/FloatBuffer;Ljava/nio/FloatBuffer;I)V
+ */
+JNIEXPORT void JNICALL Java_com_github_stephengold_joltjni_QuatArray_pack
+  (JNIEnv *pEnv, jclass, jobject soa, jobject storeFloats, jint length) {
+    SOA_QUATS(pEnv, soa, pX, pY, pZ, pW, length);
+    DIRECT_FLOAT_BUFFER(pEnv, storeFloats, pFloats, capacityFloats);
+    JPH_ASSERT(capacityFloats >= 4 * length);
+    for (jint i = 0; i < length; ++i) {
+        pFloats[4 * i] = pX[i];
+        pFloats[4 * i + 1] = pY[i];
+        pFloats[4 * i + 2] = pZ[i];
+        pFloats[4 * i + 3] = pW[i];
+    }
+}
+
+/*
+ * Class:     com_github_stephengold_joltjni_QuatArray
+ * Method:    premultiply
+ * Signature: (Ljava/nio/FloatBuffer;IFFFF)V
+ */
+JNIEXPORT void JNICALL Java_com_github_stephengold_joltjni_QuatArray_premultiply
+  (JNIEnv *pEnv, jclass, jobject soa, jint length, jfloat qx, jfloat qy,
+  jfloat qz, jfloat qw) {
+    SOA_QUATS(pEnv, soa, pX, pY, pZ, pW, length);
+    const Vec4 qx4 = Vec4::sReplicate(qx);
+    const Vec4 qy4 = Vec4::sReplicate(qy);
+    const Vec4 qz4 = Vec4::sReplicate(qz);
+    const Vec4 qw4 = Vec4::sReplicate(qw);
+    jint i = 0;
+    for (; i + 4 <= length; i += 4) {
+        const Vec4 x = load4(pX + i), y = load4(pY + i);
+        const Vec4 z = load4(pZ + i), w = load4(pW + i);
+        store4(qw4 * x + qx4 * w + qy4 * z - qz4 * y, pX + i);
+        store4(qw4 * y - qx4 * z + qy4 * w + qz4 * x, pY + i);
+        store4(qw4 * z + qx4 * y - qy4 * x + qz4 * w, pZ + i);
+        store4(qw4 * w - qx4 * x - qy4 * y - qz4 * z, pW + i);
+    }
+    const Quat left(qx, qy, qz, qw);
+    for (; i < length; ++i) {
+        const Quat q = left * Quat(pX[i], pY[i], pZ[i], pW[i]);
+        pX[i] = q.GetX();
+        pY[i] = q.GetY();
+        pZ[i] = q.GetZ();
+        pW[i] = q.GetW();
+    }
+}
+
+/*
+ * Class:     com_github_stephengold_joltjni_QuatArray
+ * Method:    unpack
+ * Signature: (Ljava/nio/FloatBuffer;Ljava/nio/FloatBuffer;I)V
+ */
+JNIEXPORT void JNICALL Java_com_github_stephengold_joltjni_QuatArray_unpack
+  (JNIEnv *pEnv, jclass, jobject floats, jobject storeSoa, jint length) {
+    DIRECT_FLOAT_BUFFER(pEnv, floats, pFloats, capacityFloats);
+    JPH_ASSERT(capacityFloats >= 4 * length);
+    SOA_QUATS(pEnv, storeSoa, pX, pY, pZ, pW, length);
+    for (jint i = 0; i < length; ++i) {
+        pX[i] = pFloats[4 * i];
+        pY[i] = pFloats[4 * i + 1];
+        pZ[i] = pFloats[4 * i + 2];
+        pW[i] = pFloats[4 * i + 3];
+    }
+}
@@ -0,0 +1,162 @@
+/*
+Copyright (c) 2026 Stephen Gold
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+ */
+
+/*
+ * Author: Stephen Gold
+ */
+#include "Jolt/Jolt.h"
+#include "auto/com_github_stephengold_joltjni_RVec3Array.h"
+#include "glue/glue.h"
+
+using namespace JPH;
+
+/*
+ * The components of an RVec3Array are stored as doubles in
+ * structure-of-arrays layout: all X components, then all Y components, then
+ * all Z components. The loops are simple enough for the compiler to
+ * vectorize.
+ */
+#define SOA_DOUBLES(pEnv, soa, pX, pY, pZ, length) \
+  DIRECT_DOUBLE_BUFFER(pEnv, soa, pX, capacity##pX); \
+  JPH_ASSERT(capacity##pX >= 3 * (length)); \
+  jdouble * const pY = pX + (length); \
+  jdouble * const pZ = pY + (length)
+
+/*
+ * Class:     com_github_stephengold_joltjni_RVec3Array
+ * Method:    add
+ * Signature: (Ljava/nio/DoubleBuffer;Ljava/nio/FloatBuffer;I)V
+ */
+JNIEXPORT void JNICALL Java_com_github_stephengold_joltjni_RVec3Array_add
+  (JNIEnv *pEnv, jclass, jobject soa, jobject offsetSoa, jint length) {
+    SOA_DOUBLES(pEnv, soa, pX, pY, pZ, length);
+    DIRECT_FLOAT_BUFFER(pEnv, offsetSoa, pOx, capacityOffsets);
+    JPH_ASSERT(capacityOffsets >= 3 * length);
+    const jfloat * const pOy = pOx + length;
+    const jfloat * const pOz = pOy + length;
+    for (jint i = 0; i < length; ++i) {
+        pX[i] += pOx[i];
+        pY[i] += pOy[i];
+        pZ[i] += pOz[i];
+    }
+}
+
+/*
+ * Class:     com_github_stephengold_joltjni_RVec3Array
+ * Method:    addUniform
+ * Signature: (Ljava/nio/DoubleBuffer;IDDD)V
+ */
+JNIEXPORT void JNICALL Java_com_github_stephengold_joltjni_RVec3Array_addUniform
+  (JNIEnv *pEnv, jclass, jobject soa, jint length, jdouble dx, jdouble dy,
+  jdouble dz) {
+    SOA_DOUBLES(pEnv, soa, pX, pY, pZ, length);
+    for (jint i = 0; i < length; ++i) {
+        pX[i] += dx;
+        pY[i] += dy;
+        pZ[i] += dz;
+    }
+}
+
+/*
+ * Class:     com_github_stephengold_joltjni_RVec3Array
+ * Method:    pack
+ * Signature: (Ljava/nio/DoubleBuffer;Ljava/nio/DoubleBuffer;I)V
+ */
+JNIEXPORT void JNICALL Java_com_github_stephengold_joltjni_RVec3Array_pack
+  (JNIEnv *pEnv, jclass, jobject soa, jobject storeDoubles, jint length) {
+    SOA_DOUBLES(pEnv, soa, pX, pY, pZ, length);
+    DIRECT_DOUBLE_BUFFER(pEnv, storeDoubles, pDoubles, capacityDoubles);
+    JPH_ASSERT(capacityDoubles >= 3 * length);
+    for (jint i = 0; i < length; ++i) {
+        pDoubles[3 * i] = pX[i];
+        pDoubles[3 * i + 1] = pY[i];
+        pDoubles[3 * i + 2] = pZ[i];
+    }
+}
+
+/*
+ * Class:     com_github_stephengold_joltjni_RVec3Array
+ * Method:    subtract
+ * Signature: (Ljava/nio/DoubleBuffer;IDDDLjava/nio/FloatBuffer;)V
+ */
+JNIEXPORT void JNICALL Java_com_github_stephengold_joltjni_RVec3Array_subtract
+  (JNIEnv *pEnv, jclass, jobject soa, jint length, jdouble ox, jdouble oy,
+  jdouble oz, jobject storeSoa) {
+    SOA_DOUBLES(pEnv, soa, pX, pY, pZ, length);
+    DIRECT_FLOAT_BUFFER(pEnv, storeSoa, pSx, capacityStore);
+    JPH_ASSERT(capacityStore >= 3 * length);
+    jfloat * const pSy = pSx + length;
+    jfloat * const pSz = pSy + length;
+    for (jint i = 0; i < length; ++i) {
+        pSx[i] = jfloat(pX[i] - ox);
+        pSy[i] = jfloat(pY[i] - oy);
+        pSz[i] = jfloat(pZ[i] - oz);
+    }
+}
+
+/*
+ * Class:     com_github_stephengold_joltjni_RVec3Array
+ * Method:    transform
+ * Signature: (Ljava/nio/DoubleBuffer;IJ)V
+ */
+JNIEXPORT void JNICALL Java_com_github_stephengold_joltjni_RVec3Array_transform
+  (JNIEnv *pEnv, jclass, jobject soa, jint length, jlong matrixVa) {
+    SOA_DOUBLES(pEnv, soa, pX, pY, pZ, length);
+    const RMat44 * const pMatrix = reinterpret_cast<RMat44 *> (matrixVa);
+    const Mat44 rotation = pMatrix->GetRotation();
+    const RVec3 translation = pMatrix->GetTranslation();
+    const jdouble m00 = rotation(0, 0);
+    const jdouble m01 = rotation(0, 1);
+    const jdouble m02 = rotation(0, 2);
+    const jdouble m10 = rotation(1, 0);
+    const jdouble m11 = rotation(1, 1);
+    const jdouble m12 = rotation(1, 2);
+    const jdouble m20 = rotation(2, 0);
+    const jdouble m21 = rotation(2, 1);
+    const jdouble m22 = rotation(2, 2);
+    const jdouble tx = translation.GetX();
+    const jdouble ty = translation.GetY();
+    const jdouble tz = translation.GetZ();
+    for (jint i = 0; i < length; ++i) {
+        const jdouble x = pX[i], y = pY[i], z = pZ[i];
+        pX[i] = m00 * x + m01 * y + m02 * z + tx;
+        pY[i] = m10 * x + m11 * y + m12 * z + ty;
+        pZ[i] = m20 * x + m21 * y + m22 * z + tz;
+    }
+}
+
+/*
+ * Class:     com_github_stephengold_joltjni_RVec3Array
+ * Method:    unpack
+ * Signature: (Ljava/nio/DoubleBuffer;Ljava/nio/DoubleBuffer;I)V
+ */
+JNIEXPORT void JNICALL Java_com_github_stephengold_joltjni_RVec3Array_unpack
+  (JNIEnv *pEnv, jclass, jobject doubles, jobject storeSoa, jint length) {
+    DIRECT_DOUBLE_BUFFER(pEnv, doubles, pDoubles, capacityDoubles);
+    JPH_ASSERT(capacityDoubles >= 3 * length);
+    SOA_DOUBLES(pEnv, storeSoa, pX, pY, pZ, length);
+    for (jint i = 0; i < length; ++i) {
+        pX[i] = pDoubles[3 * i];
+        pY[i] = pDoubles[3 * i + 1];
+        pZ[i] = pDoubles[3 * i + 2];
+    }
+}
@@ -124,14 +124,13 @@ JNIEXPORT jint JNICALL Java_com_github_stephengold_joltjni_SixDofConstraint_getM
 /*
  * Class:     com_github_stephengold_joltjni_SixDofConstraint
  * Method:    getRotationInConstraintSpace
- * Signature: (JLjava/nio/FloatBuffer;)V
+ * Signature: (JJ)V
  */
 JNIEXPORT void JNICALL Java_com_github_stephengold_joltjni_SixDofConstraint_getRotationInConstraintSpace
-  (JNIEnv *pEnv, jclass, jlong constraintVa, jobject storeFloats) {
+  (JNIEnv *, jclass, jlong constraintVa, jlong floatsVa) {
     const SixDOFConstraint * const pConstraint
             = reinterpret_cast<SixDOFConstraint *> (constraintVa);
-    DIRECT_FLOAT_BUFFER(pEnv, storeFloats, pFloats, capacityFloats);
-    JPH_ASSERT(capacityFloats >= 4);
+    jfloat * const pFloats = reinterpret_cast<jfloat *> (floatsVa);
     const Quat result = pConstraint->GetRotationInConstraintSpace();
     pFloats[0] = result.GetX();
     pFloats[1] = result.GetY();
@@ -142,14 +141,13 @@ JNIEXPORT void JNICALL Java_com_github_stephengold_joltjni_SixDofConstraint_getR
 /*
  * Class:     com_github_stephengold_joltjni_SixDofConstraint
  * Method:    getRotationLimitsMax
- * Signature: (JLjava/nio/FloatBuffer;)V
+ * Signature: (JJ)V
  */
 JNIEXPORT void JNICALL Java_com_github_stephengold_joltjni_SixDofConstraint_getRotationLimitsMax
-  (JNIEnv *pEnv, jclass, jlong constraintVa, jobject storeFloats) {
+  (JNIEnv *, jclass, jlong constraintVa, jlong floatsVa) {
     const SixDOFConstraint * const pConstraint
             = reinterpret_cast<SixDOFConstraint *> (constraintVa);
-    DIRECT_FLOAT_BUFFER(pEnv, storeFloats, pFloats, capacityFloats);
-    JPH_ASSERT(capacityFloats >= 3);
+    jfloat * const pFloats = reinterpret_cast<jfloat *> (floatsVa);
     const Vec3 result = pConstraint->GetRotationLimitsMax();
     pFloats[0] = result.GetX();
     pFloats[1] = result.GetY();
@@ -159,14 +157,13 @@ JNIEXPORT void JNICALL Java_com_github_stephengold_joltjni_SixDofConstraint_getR
 /*
  * Class:     com_github_stephengold_joltjni_SixDofConstraint
  * Method:    getRotationLimitsMin
- * Signature: (JLjava/nio/FloatBuffer;)V
+ * Signature: (JJ)V
  */
 JNIEXPORT void JNICALL Java_com_github_stephengold_joltjni_SixDofConstraint_getRotationLimitsMin
-  (JNIEnv *pEnv, jclass, jlong constraintVa, jobject storeFloats) {
+  (JNIEnv *, jclass, jlong constraintVa, jlong floatsVa) {
     const SixDOFConstraint * const pConstraint
             = reinterpret_cast<SixDOFConstraint *> (constraintVa);
-    DIRECT_FLOAT_BUFFER(pEnv, storeFloats, pFloats, capacityFloats);
-    JPH_ASSERT(capacityFloats >= 3);
+    jfloat * const pFloats = reinterpret_cast<jfloat *> (floatsVa);
     const Vec3 result = pConstraint->GetRotationLimitsMin();
     pFloats[0] = result.GetX();
     pFloats[1] = result.GetY();
@@ -176,14 +173,13 @@ JNIEXPORT void JNICALL Java_com_github_stephengold_joltjni_SixDofConstraint_getR
 /*
  * Class:     com_github_stephengold_joltjni_SixDofConstraint
  * Method:    getTargetAngularVelocityCs
- * Signature: (JLjava/nio/FloatBuffer;)V
+ * Signature: (JJ)V
  */
 JNIEXPORT void JNICALL Java_com_github_stephengold_joltjni_SixDofConstraint_getTargetAngularVelocityCs
-  (JNIEnv *pEnv, jclass, jlong constraintVa, jobject storeFloats) {
+  (JNIEnv *, jclass, jlong constraintVa, jlong floatsVa) {
     const SixDOFConstraint * const pConstraint
             = reinterpret_cast<SixDOFConstraint *> (constraintVa);
-    DIRECT_FLOAT_BUFFER(pEnv, storeFloats, pFloats, capacityFloats);
-    JPH_ASSERT(capacityFloats >= 3);
+    jfloat * const pFloats = reinterpret_cast<jfloat *> (floatsVa);
     const Vec3 result = pConstraint->GetTargetAngularVelocityCS();
     pFloats[0] = result.GetX();
     pFloats[1] = result.GetY();
@@ -193,14 +189,13 @@ JNIEXPORT void JNICALL Java_com_github_stephengold_joltjni_SixDofConstraint_getT
 /*
  * Class:     com_github_stephengold_joltjni_SixDofConstraint
  * Method:    getTargetPositionCs
- * Signature: (JLjava/nio/FloatBuffer;)V
+ * Signature: (JJ)V
  */
 JNIEXPORT void JNICALL Java_com_github_stephengold_joltjni_SixDofConstraint_getTargetPositionCs
-  (JNIEnv *pEnv, jclass, jlong constraintVa, jobject storeFloats) {
+  (JNIEnv *, jclass, jlong constraintVa, jlong floatsVa) {
     const SixDOFConstraint * const pConstraint
             = reinterpret_cast<SixDOFConstraint *> (constraintVa);
-    DIRECT_FLOAT_BUFFER(pEnv, storeFloats, pFloats, capacityFloats);
-    JPH_ASSERT(capacityFloats >= 3);
+    jfloat * const pFloats = reinterpret_cast<jfloat *> (floatsVa);
     const Vec3 result = pConstraint->GetTargetPositionCS();
     pFloats[0] = result.GetX();
     pFloats[1] = result.GetY();
@@ -210,14 +205,13 @@ JNIEXPORT void JNICALL Java_com_github_stephengold_joltjni_SixDofConstraint_getT
 /*
  * Class:     com_github_stephengold_joltjni_SixDofConstraint
  * Method:    getTargetOrientationCs
- * Signature: (JLjava/nio/FloatBuffer;)V
+ * Signature: (JJ)V
  */
 JNIEXPORT void JNICALL Java_com_github_stephengold_joltjni_SixDofConstraint_getTargetOrientationCs
-  (JNIEnv *pEnv, jclass, jlong constraintVa, jobject storeFloats) {
+  (JNIEnv *, jclass, jlong constraintVa, jlong floatsVa) {
     const SixDOFConstraint * const pConstraint
             = reinterpret_cast<SixDOFConstraint *> (constraintVa);
-    DIRECT_FLOAT_BUFFER(pEnv, storeFloats, pFloats, capacityFloats);
-    JPH_ASSERT(capacityFloats >= 4);
+    jfloat * const pFloats = reinterpret_cast<jfloat *> (floatsVa);
     const Quat result = pConstraint->GetTargetOrientationCS();
     pFloats[0] = result.GetX();
     pFloats[1] = result.GetY();
@@ -228,14 +222,13 @@ JNIEXPORT void JNICALL Java_com_github_stephengold_joltjni_SixDofConstraint_getT
 /*
  * Class:     com_github_stephengold_joltjni_SixDofConstraint
  * Method:    getTargetVelocityCs
- * Signature: (JLjava/nio/FloatBuffer;)V
+ * Signature: (JJ)V
  */
 JNIEXPORT void JNICALL Java_com_github_stephengold_joltjni_SixDofConstraint_getTargetVelocityCs
-  (JNIEnv *pEnv, jclass, jlong constraintVa, jobject storeFloats) {
+  (JNIEnv *, jclass, jlong constraintVa, jlong floatsVa) {
     const SixDOFConstraint * const pConstraint
             = reinterpret_cast<SixDOFConstraint *> (constraintVa);
-    DIRECT_FLOAT_BUFFER(pEnv, storeFloats, pFloats, capacityFloats);
-    JPH_ASSERT(capacityFloats >= 3);
+    jfloat * const pFloats = reinterpret_cast<jfloat *> (floatsVa);
     const Vec3 result = pConstraint->GetTargetVelocityCS();
     pFloats[0] = result.GetX();
     pFloats[1] = result.GetY();
@@ -245,14 +238,13 @@ JNIEXPORT void JNICALL Java_com_github_stephengold_joltjni_SixDofConstraint_getT
 /*
  * Class:     com_github_stephengold_joltjni_SixDofConstraint
  * Method:    getTranslationLimitsMax
- * Signature: (JLjava/nio/FloatBuffer;)V
+ * Signature: (JJ)V
  */
 JNIEXPORT void JNICALL Java_com_github_stephengold_joltjni_SixDofConstraint_getTranslationLimitsMax
-  (JNIEnv *pEnv, jclass, jlong constraintVa, jobject storeFloats) {
+  (JNIEnv *, jclass, jlong constraintVa, jlong floatsVa) {
     const SixDOFConstraint * const pConstraint
             = reinterpret_cast<SixDOFConstraint *> (constraintVa);
-    DIRECT_FLOAT_BUFFER(pEnv, storeFloats, pFloats, capacityFloats);
-    JPH_ASSERT(capacityFloats >= 3);
+    jfloat * const pFloats = reinterpret_cast<jfloat *> (floatsVa);
     const Vec3 result = pConstraint->GetTranslationLimitsMax();
     pFloats[0] = result.GetX();
     pFloats[1] = result.GetY();
@@ -262,14 +254,13 @@ JNIEXPORT void JNICALL Java_com_github_stephengold_joltjni_SixDofConstraint_getT
 /*
  * Class:     com_github_stephengold_joltjni_SixDofConstraint
  * Method:    getTranslationLimitsMin
- * Signature: (JLjava/nio/FloatBuffer;)V
+ * Signature: (JJ)V
  */
 JNIEXPORT void JNICALL Java_com_github_stephengold_joltjni_SixDofConstraint_getTranslationLimitsMin
-  (JNIEnv *pEnv, jclass, jlong constraintVa, jobject storeFloats) {
+  (JNIEnv *, jclass, jlong constraintVa, jlong floatsVa) {
     const SixDOFConstraint * const pConstraint
             = reinterpret_cast<SixDOFConstraint *> (constraintVa);
-    DIRECT_FLOAT_BUFFER(pEnv, storeFloats, pFloats, capacityFloats);
-    JPH_ASSERT(capacityFloats >= 3);
+    jfloat * const pFloats = reinterpret_cast<jfloat *> (floatsVa);
     const Vec3 result = pConstraint->GetTranslationLimitsMin();
     pFloats[0] = result.GetX();
     pFloats[1] = result.GetY();
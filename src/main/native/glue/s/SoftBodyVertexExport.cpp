@@ -0,0 +1,208 @@
+/*
+Copyright (c) 2026 Stephen Gold
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+ */
+
+/*
+ * Author: Stephen Gold
+ */
+#include "Jolt/Jolt.h"
+#include "Jolt/Physics/PhysicsSystem.h"
+#include "Jolt/Physics/SoftBody/SoftBodyMotionProperties.h"
+#include "auto/com_github_stephengold_joltjni_SoftBodyVertexExport.h"
+#include "glue/glue.h"
+#include <cmath>
+#include <cstring>
+
+using namespace JPH;
+
+/*
+ * layout of each body record, matching the offsets in
+ * SoftBodyVertexExport.java
+ */
+struct ExportRecord {
+    jint mBodyId;
+    jint mFirstVertex;
+    jint mNumVertices;
+    jfloat mScale;
+    jdouble mOrigin[3];
+};
+static_assert(sizeof(ExportRecord) == 40);
+
+/*
+ * Convert a single-precision value to IEEE 754 half precision, rounding to
+ * nearest even.
+ */
+static uint16 toHalf(float inValue) {
+    uint32 bits;
+    std::memcpy(&bits, &inValue, sizeof(bits));
+    const uint32 sign = (bits >> 16) & 0x8000;
+    const uint32 magnitude = bits & 0x7fffffff;
+    if (magnitude >= 0x7f800000) { // infinity or NaN
+        return sign | 0x7c00 | (magnitude > 0x7f800000 ? 0x200 : 0);
+    } else if (magnitude >= 0x477ff000) { // rounds to infinity
+        return sign | 0x7c00;
+    } else if (magnitude < 0x33000000) { // rounds to zero
+        return sign;
+    }
+
+    uint32 result;
+    uint32 remainder;
+    uint32 halfway;
+    if (magnitude < 0x38800000) { // subnormal in half precision
+        const uint32 shift = 126 - (magnitude >> 23);
+        const uint32 mantissa = (magnitude & 0x7fffff) | 0x800000;
+        result = mantissa >> shift;
+        remainder = mantissa & ((1u << shift) - 1);
+        halfway = 1u << (shift - 1);
+    } else { // normal: re-bias the exponent from 127 to 15
+        result = (magnitude - 0x38000000) >> 13;
+        remainder = magnitude & 0x1fff;
+        halfway = 0x1000;
+    }
+    if (remainder > halfway || (remainder == halfway && (result & 1))) {
+        ++result; // a carry into the exponent is still correct
+    }
+
+    return (uint16) (sign | result);
+}
+
+/*
+ * Convert a value in [-1, 1] to a signed normalized 16-bit integer. NaN maps
+ * to 0, since converting it to an integer would be undefined.
+ */
+static jshort toSnorm16(float inValue) {
+    if (std::isnan(inValue)) {
+        return 0;
+    }
+    const float clamped = Clamp(inValue, -1.0f, 1.0f);
+    const jshort result = (jshort) std::round(clamped * 32767.0f);
+
+    return result;
+}
+
+/*
+ * Write a 3-component vector using the specified encoding (0=float32,
+ * 1=half, 2=snorm16) and return the next write address.
+ */
+static jbyte * putVector(jbyte *pOut, jint encoding, Vec3Arg inVector) {
+    if (encoding == 0) {
+        jfloat * const pFloats = (jfloat *) pOut;
+        pFloats[0] = inVector.GetX();
+        pFloats[1] = inVector.GetY();
+        pFloats[2] = inVector.GetZ();
+        return pOut + 3 * sizeof(jfloat);
+    }
+
+    uint16 * const pShorts = (uint16 *) pOut;
+    for (int i = 0; i < 3; ++i) {
+        pShorts[i] = (encoding == 1) ? toHalf(inVector[i])
+                : (uint16) toSnorm16(inVector[i]);
+    }
+    return pOut + 3 * sizeof(uint16);
+}
+
+/*
+ * Class:     com_github_stephengold_joltjni_SoftBodyVertexExport
+ * Method:    capture
+ * Signature: (JIIILjava/nio/ByteBuffer;Ljava/nio/ByteBuffer;[I)I
+ */
+JNIEXPORT jint JNICALL Java_com_github_stephengold_joltjni_SoftBodyVertexExport_capture
+  (JNIEnv *pEnv, jclass, jlong systemVa, jint encoding, jint maxBodies,
+  jint maxVertices, jobject storeVertices, jobject storeRecords,
+  jintArray storeCounts) {
+    const PhysicsSystem * const pSystem
+            = reinterpret_cast<PhysicsSystem *> (systemVa);
+    jbyte *pOut = (jbyte *) pEnv->GetDirectBufferAddress(storeVertices);
+    JPH_ASSERT(!pEnv->ExceptionCheck());
+    ExportRecord * const pRecords
+            = (ExportRecord *) pEnv->GetDirectBufferAddress(storeRecords);
+    JPH_ASSERT(!pEnv->ExceptionCheck());
+
+    const BodyLockInterfaceNoLock& lockInterface
+            = pSystem->GetBodyLockInterfaceNoLock();
+    const BodyID * const pIds
+            = pSystem->GetActiveBodiesUnsafe(EBodyType::SoftBody);
+    const uint32 numActive = pSystem->GetNumActiveBodies(EBodyType::SoftBody);
+    jint numBodies = 0;
+    jint numWritten = 0;
+    jint numRequired = 0;
+    Array<Vec3> normals;
+    for (uint32 i = 0; i < numActive; ++i) {
+        const Body * const pBody = lockInterface.TryGetBody(pIds[i]);
+        if (pBody == nullptr) {
+            continue;
+        }
+        const SoftBodyMotionProperties * const pProperties
+                = static_cast<const SoftBodyMotionProperties *> (
+                        pBody->GetMotionPropertiesUnchecked());
+        const Array<SoftBodyVertex>& vertices = pProperties->GetVertices();
+        const jint numVertices = (jint) vertices.size();
+        numRequired += numVertices;
+        if (numBodies >= maxBodies || numWritten + numVertices > maxVertices) {
+            continue; // doesn't fit, but keep counting
+        }
+
+        // Accumulate area-weighted face normals at each vertex:
+        normals.clear();
+        normals.resize(numVertices, Vec3::sZero());
+        for (const SoftBodySharedSettings::Face& face
+                : pProperties->GetFaces()) {
+            const Vec3 p0 = vertices[face.mVertex[0]].mPosition;
+            const Vec3 p1 = vertices[face.mVertex[1]].mPosition;
+            const Vec3 p2 = vertices[face.mVertex[2]].mPosition;
+            const Vec3 normal = (p1 - p0).Cross(p2 - p0);
+            normals[face.mVertex[0]] += normal;
+            normals[face.mVertex[1]] += normal;
+            normals[face.mVertex[2]] += normal;
+        }
+
+        float scale = 1.0f;
+        if (encoding == 2) { // quantize positions relative to a bounding cube
+            float maxAbs = 0.0f;
+            for (const SoftBodyVertex& vertex : vertices) {
+                maxAbs = max(maxAbs, vertex.mPosition.Abs().ReduceMax());
+            }
+            scale = (maxAbs > 0.0f) ? maxAbs : 1.0f;
+        }
+        const float invScale = 1.0f / scale;
+        for (jint j = 0; j < numVertices; ++j) {
+            pOut = putVector(pOut, encoding, invScale * vertices[j].mPosition);
+            pOut = putVector(pOut, encoding,
+                    normals[j].NormalizedOr(Vec3::sZero()));
+        }
+
+        ExportRecord& record = pRecords[numBodies++];
+        const RVec3 origin = pBody->GetCenterOfMassPosition();
+        record.mBodyId = pIds[i].GetIndexAndSequenceNumber();
+        record.mFirstVertex = numWritten;
+        record.mNumVertices = numVertices;
+        record.mScale = scale;
+        record.mOrigin[0] = origin.GetX();
+        record.mOrigin[1] = origin.GetY();
+        record.mOrigin[2] = origin.GetZ();
+        numWritten += numVertices;
+    }
+
+    const jint counts[2] = {numWritten, numRequired};
+    pEnv->SetIntArrayRegion(storeCounts, 0, 2, counts);
+    EXCEPTION_CHECK(pEnv)
+    return numBodies;
+}
@@ -59,14 +59,13 @@ JNIEXPORT jint JNICALL Java_com_github_stephengold_joltjni_SwingTwistConstraint_
 /*
  * Class:     com_github_stephengold_joltjni_SwingTwistConstraint
  * Method:    getTargetAngularVelocityCs
- * Signature: (JLjava/nio/FloatBuffer;)V
+ * Signature: (JJ)V
  */
 JNIEXPORT void JNICALL Java_com_github_stephengold_joltjni_SwingTwistConstraint_getTargetAngularVelocityCs
-  (JNIEnv *pEnv, jclass, jlong constraintVa, jobject storeFloats) {
+  (JNIEnv *, jclass, jlong constraintVa, jlong floatsVa) {
     const SwingTwistConstraint * const pConstraint
             = reinterpret_cast<SwingTwistConstraint *> (constraintVa);
-    DIRECT_FLOAT_BUFFER(pEnv, storeFloats, pFloats, capacityFloats);
-    JPH_ASSERT(capacityFloats >= 3);
+    jfloat * const pFloats = reinterpret_cast<jfloat *> (floatsVa);
     Vec3 velocity = pConstraint->GetTargetAngularVelocityCS();
     pFloats[0] = velocity.GetX();
     pFloats[1] = velocity.GetY();
@@ -76,14 +75,13 @@ JNIEXPORT void JNICALL Java_com_github_stephengold_joltjni_SwingTwistConstraint_
 /*
  * Class:     com_github_stephengold_joltjni_SwingTwistConstraint
  * Method:    getTargetOrientationCs
- * Signature: (JLjava/nio/FloatBuffer;)V
+ * Signature: (JJ)V
  */
 JNIEXPORT void JNICALL Java_com_github_stephengold_joltjni_SwingTwistConstraint_getTargetOrientationCs
-  (JNIEnv *pEnv, jclass, jlong constraintVa, jobject storeFloats) {
+  (JNIEnv *, jclass, jlong constraintVa, jlong floatsVa) {
     const SwingTwistConstraint * const pConstraint
             = reinterpret_cast<SwingTwistConstraint *> (constraintVa);
-    DIRECT_FLOAT_BUFFER(pEnv, storeFloats, pFloats, capacityFloats);
-    JPH_ASSERT(capacityFloats >= 4);
+    jfloat * const pFloats = reinterpret_cast<jfloat *> (floatsVa);
     Quat orientation = pConstraint->GetTargetOrientationCS();
     pFloats[0] = orientation.GetX();
     pFloats[1] = orientation.GetY();
@@ -164,13 +164,12 @@ JNIEXPORT void JNICALL Java_com_github_stephengold_joltjni_Shape_drawGetSupportF
 /*
  * Class:     com_github_stephengold_joltjni_Shape
  * Method:    getCenterOfMass
- * Signature: (JLjava/nio/FloatBuffer;)F
+ * Signature: (JJ)V
  */
 JNIEXPORT void JNICALL Java_com_github_stephengold_joltjni_Shape_getCenterOfMass
-  (JNIEnv *pEnv, jclass, jlong shapeVa, jobject storeFloats) {
+  (JNIEnv *, jclass, jlong shapeVa, jlong floatsVa) {
     const Shape * const pShape = reinterpret_cast<Shape *> (shapeVa);
-    DIRECT_FLOAT_BUFFER(pEnv, storeFloats, pFloats, capacityFloats);
-    JPH_ASSERT(capacityFloats >= 3);
+    jfloat * const pFloats = reinterpret_cast<jfloat *> (floatsVa);
     const Vec3 result = pShape->GetCenterOfMass();
     pFloats[0] = result.GetX();
     pFloats[1] = result.GetY();
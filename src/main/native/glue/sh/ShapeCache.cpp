@@ -0,0 +1,148 @@
+/*
+Copyright (c) 2026 Stephen Gold
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+ */
+
+/*
+ * Author: Stephen Gold
+ */
+#include "Jolt/Jolt.h"
+#include "Jolt/Core/HashCombine.h"
+#include "Jolt/Core/StreamIn.h"
+#include "Jolt/Core/StreamOut.h"
+#include "Jolt/Physics/Collision/Shape/Shape.h"
+
+#include "auto/com_github_stephengold_joltjni_ShapeCache.h"
+#include "glue/glue.h"
+
+using namespace JPH;
+
+/*
+ * Read bytes from a fixed region of memory, such as a memory-mapped file.
+ * As with std::istream, EOF is signaled only by a read past the end.
+ */
+class RegionStreamIn : public StreamIn {
+    const uint8 * const mpData;
+    const size_t mNumBytes;
+    size_t mPosition = 0;
+    bool mEof = false;
+public:
+    RegionStreamIn(const uint8 *pData, size_t numBytes)
+            : mpData(pData), mNumBytes(numBytes) {
+    }
+
+    virtual void ReadBytes(void *pOut, size_t numBytes) override {
+        if (numBytes > mNumBytes - mPosition) {
+            memset(pOut, 0, numBytes);
+            mPosition = mNumBytes;
+            mEof = true;
+        } else {
+            memcpy(pOut, mpData + mPosition, numBytes);
+            mPosition += numBytes;
+        }
+    }
+
+    virtual bool IsEOF() const override {
+        return mEof;
+    }
+
+    virtual bool IsFailed() const override {
+        return mEof;
+    }
+};
+
+/*
+ * Write bytes to a fixed region of memory, such as a memory-mapped file.
+ * Bytes that don't fit are counted but discarded.
+ */
+class RegionStreamOut : public StreamOut {
+    uint8 * const mpData;
+    const size_t mCapacity;
+    size_t mPosition = 0;
+public:
+    RegionStreamOut(uint8 *pData, size_t capacity)
+            : mpData(pData), mCapacity(capacity) {
+    }
+
+    size_t GetPosition() const {
+        return mPosition;
+    }
+
+    virtual void WriteBytes(const void *pData, size_t numBytes) override {
+        if (mPosition <= mCapacity && numBytes <= mCapacity - mPosition) {
+            memcpy(mpData + mPosition, pData, numBytes);
+        }
+        mPosition += numBytes;
+    }
+
+    virtual bool IsFailed() const override {
+        return false;
+    }
+};
+
+/*
+ * Class:     com_github_stephengold_joltjni_ShapeCache
+ * Method:    hashBytes
+ * Signature: (Ljava/nio/ByteBuffer;II)J
+ */
+JNIEXPORT jlong JNICALL Java_com_github_stephengold_joltjni_ShapeCache_hashBytes
+  (JNIEnv *pEnv, jclass, jobject buffer, jint offset, jint numBytes) {
+    const uint8 * const pBytes
+            = reinterpret_cast<uint8 *> (pEnv->GetDirectBufferAddress(buffer));
+    const uint64 result = HashBytes(pBytes + offset, numBytes);
+    return result;
+}
+
+/*
+ * Class:     com_github_stephengold_joltjni_ShapeCache
+ * Method:    restoreShape
+ * Signature: (Ljava/nio/ByteBuffer;II)J
+ */
+JNIEXPORT jlong JNICALL Java_com_github_stephengold_joltjni_ShapeCache_restoreShape
+  (JNIEnv *pEnv, jclass, jobject buffer, jint offset, jint numBytes) {
+    const uint8 * const pBytes
+            = reinterpret_cast<uint8 *> (pEnv->GetDirectBufferAddress(buffer));
+    RegionStreamIn stream(pBytes + offset, numBytes);
+    Shape::IDToShapeMap shapeMap;
+    Shape::IDToMaterialMap materialMap;
+    ShapeSettings::ShapeResult *pResult = new ShapeSettings::ShapeResult();
+    TRACE_NEW("ShapeResult", pResult)
+    *pResult = Shape::sRestoreWithChildren(stream, shapeMap, materialMap);
+    return reinterpret_cast<jlong> (pResult);
+}
+
+/*
+ * Class:     com_github_stephengold_joltjni_ShapeCache
+ * Method:    saveShape
+ * Signature: (JLjava/nio/ByteBuffer;II)I
+ */
+JNIEXPORT jint JNICALL Java_com_github_stephengold_joltjni_ShapeCache_saveShape
+  (JNIEnv *pEnv, jclass, jlong shapeVa, jobject buffer, jint offset,
+  jint capacityBytes) {
+    const Shape * const pShape = reinterpret_cast<Shape *> (shapeVa);
+    uint8 * const pBytes
+            = reinterpret_cast<uint8 *> (pEnv->GetDirectBufferAddress(buffer));
+    RegionStreamOut stream(pBytes + offset, capacityBytes);
+    Shape::ShapeToIDMap shapeMap;
+    Shape::MaterialToIDMap materialMap;
+    pShape->SaveWithChildren(stream, shapeMap, materialMap);
+    const jint result = stream.GetPosition();
+    return result;
+}
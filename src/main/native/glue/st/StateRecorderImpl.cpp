@@ -56,6 +56,28 @@ JNIEXPORT jlong JNICALL Java_com_github_stephengold_joltjni_StateRecorderImpl_cr
     return reinterpret_cast<jlong> (pResult);
 }
 
+/*
+ * Class:     com_github_stephengold_joltjni_StateRecorderImpl
+ * Method:    getDataToBuffer
+ * Signature: (JLjava/nio/ByteBuffer;II)I
+ */
+JNIEXPORT jint JNICALL Java_com_github_stephengold_joltjni_StateRecorderImpl_getDataToBuffer
+  (JNIEnv *pEnv, jclass, jlong recorderVa, jobject storeData, jint offset,
+  jint capacity) {
+    const StateRecorderImpl * const pRecorder
+            = reinterpret_cast<StateRecorderImpl *> (recorderVa);
+    // GetData() copies the recorder's stream, so the data are copied twice.
+    const std::string s = pRecorder->GetData();
+    const size_t numBytes = s.size();
+    if (numBytes <= (size_t) capacity) {
+        char * const pDest = reinterpret_cast<char *> (
+                pEnv->GetDirectBufferAddress(storeData));
+        memcpy(pDest + offset, s.data(), numBytes);
+    }
+    const jint result = numBytes;
+    return result;
+}
+
 /*
  * Class:     com_github_stephengold_joltjni_StateRecorderImpl
  * Method:    getData
@@ -100,4 +122,19 @@ JNIEXPORT void JNICALL Java_com_github_stephengold_joltjni_StateRecorderImpl_wri
     signed char * const pSource = pEnv->GetByteArrayElements(data, &isCopy);
     pRecorder->WriteBytes(pSource, numBytes);
     pEnv->ReleaseByteArrayElements(data, pSource, JNI_ABORT);
-}
\ No newline at end of file
+}
+
+/*
+ * Class:     com_github_stephengold_joltjni_StateRecorderImpl
+ * Method:    writeBytesFromBuffer
+ * Signature: (JLjava/nio/ByteBuffer;II)V
+ */
+JNIEXPORT void JNICALL Java_com_github_stephengold_joltjni_StateRecorderImpl_writeBytesFromBuffer
+  (JNIEnv *pEnv, jclass, jlong recorderVa, jobject data, jint offset,
+  jint numBytes) {
+    StateRecorderImpl * const pRecorder
+            = reinterpret_cast<StateRecorderImpl *> (recorderVa);
+    const char * const pSource = reinterpret_cast<char *> (
+            pEnv->GetDirectBufferAddress(data));
+    pRecorder->WriteBytes(pSource + offset, numBytes);
+}
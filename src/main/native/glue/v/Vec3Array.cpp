@@ -0,0 +1,381 @@
+/*
+Copyright (c) 2026 Stephen Gold
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+ */
+
+/*
+ * Author: Stephen Gold
+ */
+#include "Jolt/Jolt.h"
+#include "Jolt/Math/Mat44.h"
+#include "auto/com_github_stephengold_joltjni_Vec3Array.h"
+#include "glue/glue.h"
+#include <cmath>
+
+using namespace JPH;
+
+/*
+ * The components of a Vec3Array are stored in structure-of-arrays layout:
+ * all X components, then all Y components, then all Z components. Each bulk
+ * operation processes 4 elements per iteration using Vec4 lanes and finishes
+ * any remainder one element at a time.
+ */
+#define SOA_FLOATS(pEnv, soa, pX, pY, pZ, length) \
+  DIRECT_FLOAT_BUFFER(pEnv, soa, pX, capacity##pX); \
+  JPH_ASSERT(capacity##pX >= 3 * (length)); \
+  jfloat * const pY = pX + (length); \
+  jfloat * const pZ = pY + (length)
+
+inline static Vec4 load4(const jfloat *pFloats) {
+    return Vec4::sLoadFloat4(reinterpret_cast<const Float4 *> (pFloats));
+}
+
+inline static void store4(Vec4Arg v, jfloat *pFloats) {
+    v.StoreFloat4(reinterpret_cast<Float4 *> (pFloats));
+}
+
+/*
+ * Rotate 4 vectors by 4 quaternions, using
+ * v' = v + 2w(q x v) + 2(q x (q x v)).
+ */
+inline static void rotate4(Vec4Arg qx, Vec4Arg qy, Vec4Arg qz, Vec4Arg qw,
+        Vec4 &x, Vec4 &y, Vec4 &z) {
+    const Vec4 tx = 2.0f * (qy * z - qz * y);
+    const Vec4 ty = 2.0f * (qz * x - qx * z);
+    const Vec4 tz = 2.0f * (qx * y - qy * x);
+    x += qw * tx + (qy * tz - qz * ty);
+    y += qw * ty + (qz * tx - qx * tz);
+    z += qw * tz + (qx * ty - qy * tx);
+}
+
+/*
+ * Class:     com_github_stephengold_joltjni_Vec3Array
+ * Method:    add
+ * Signature: (Ljava/nio/FloatBuffer;Ljava/nio/FloatBuffer;I)V
+ */
+JNIEXPORT void JNICALL Java_com_github_stephengold_joltjni_Vec3Array_add
+  (JNIEnv *pEnv, jclass, jobject soa, jobject addendSoa, jint length) {
+    SOA_FLOATS(pEnv, soa, pX, pY, pZ, length);
+    SOA_FLOATS(pEnv, addendSoa, pAx, pAy, pAz, length);
+    jint i = 0;
+    for (; i + 4 <= length; i += 4) {
+        store4(load4(pX + i) + load4(pAx + i), pX + i);
+        store4(load4(pY + i) + load4(pAy + i), pY + i);
+        store4(load4(pZ + i) + load4(pAz + i), pZ + i);
+    }
+    for (; i < length; ++i) {
+        pX[i] += pAx[i];
+        pY[i] += pAy[i];
+        pZ[i] += pAz[i];
+    }
+}
+
+/*
+ * Class:     com_github_stephengold_joltjni_Vec3Array
+ * Method:    addUniform
+ * Signature: (Ljava/nio/FloatBuffer;IFFF)V
+ */
+JNIEXPORT void JNICALL Java_com_github_stephengold_joltjni_Vec3Array_addUniform
+  (JNIEnv *pEnv, jclass, jobject soa, jint length, jfloat dx, jfloat dy,
+  jfloat dz) {
+    SOA_FLOATS(pEnv, soa, pX, pY, pZ, length);
+    const Vec4 dx4 = Vec4::sReplicate(dx);
+    const Vec4 dy4 = Vec4::sReplicate(dy);
+    const Vec4 dz4 = Vec4::sReplicate(dz);
+    jint i = 0;
+    for (; i + 4 <= length; i += 4) {
+        store4(load4(pX + i) + dx4, pX + i);
+        store4(load4(pY + i) + dy4, pY + i);
+        store4(load4(pZ + i) + dz4, pZ + i);
+    }
+    for (; i < length; ++i) {
+        pX[i] += dx;
+        pY[i] += dy;
+        pZ[i] += dz;
+    }
+}
+
+/*
+ * Class:     com_github_stephengold_joltjni_Vec3Array
+ * Method:    cross
+ * Signature: (Ljava/nio/FloatBuffer;Ljava/nio/FloatBuffer;Ljava/nio/FloatBuffer;I)V
+ */
+JNIEXPORT void JNICALL Java_com_github_stephengold_joltjni_Vec3Array_cross
+  (JNIEnv *pEnv, jclass, jobject leftSoa, jobject rightSoa, jobject storeSoa,
+  jint length) {
+    SOA_FLOATS(pEnv, leftSoa, pLx, pLy, pLz, length);
+    SOA_FLOATS(pEnv, rightSoa, pRx, pRy, pRz, length);
+    SOA_FLOATS(pEnv, storeSoa, pX, pY, pZ, length);
+    jint i = 0;
+    for (; i + 4 <= length; i += 4) {
+        const Vec4 lx = load4(pLx + i);
+        const Vec4 ly = load4(pLy + i);
+        const Vec4 lz = load4(pLz + i);
+        const Vec4 rx = load4(pRx + i);
+        const Vec4 ry = load4(pRy + i);
+        const Vec4 rz = load4(pRz + i);
+        store4(ly * rz - lz * ry, pX + i);
+        store4(lz * rx - lx * rz, pY + i);
+        store4(lx * ry - ly * rx, pZ + i);
+    }
+    for (; i < length; ++i) {
+        const Vec3 product = Vec3(pLx[i], pLy[i], pLz[i])
+                .Cross(Vec3(pRx[i], pRy[i], pRz[i]));
+        pX[i] = product.GetX();
+        pY[i] = product.GetY();
+        pZ[i] = product.GetZ();
+    }
+}
+
+/*
+ * Class:     com_github_stephengold_joltjni_Vec3Array
+ * Method:    dot
+ * Signature: (Ljava/nio/FloatBuffer;Ljava/nio/FloatBuffer;Ljava/nio/FloatBuffer;I)V
+ */
+JNIEXPORT void JNICALL Java_com_github_stephengold_joltjni_Vec3Array_dot
+  (JNIEnv *pEnv, jclass, jobject leftSoa, jobject rightSoa,
+  jobject storeFloats, jint length) {
+    SOA_FLOATS(pEnv, leftSoa, pLx, pLy, pLz, length);
+    SOA_FLOATS(pEnv, rightSoa, pRx, pRy, pRz, length);
+    DIRECT_FLOAT_BUFFER(pEnv, storeFloats, pFloats, capacityFloats);
+    JPH_ASSERT(capacityFloats >= length);
+    jint i = 0;
+    for (; i + 4 <= length; i += 4) {
+        const Vec4 product = load4(pLx + i) * load4(pRx + i)
+                + load4(pLy + i) * load4(pRy + i)
+                + load4(pLz + i) * load4(pRz + i);
+        store4(product, pFloats + i);
+    }
+    for (; i < length; ++i) {
+        pFloats[i] = pLx[i] * pRx[i] + pLy[i] * pRy[i] + pLz[i] * pRz[i];
+    }
+}
+
+/*
+ * Class:     com_github_stephengold_joltjni_Vec3Array
+ * Method:    normalize
+ * Signature: (Ljava/nio/FloatBuffer;I)V
+ */
+JNIEXPORT void JNICALL Java_com_github_stephengold_joltjni_Vec3Array_normalize
+  (JNIEnv *pEnv, jclass, jobject soa, jint length) {
+    SOA_FLOATS(pEnv, soa, pX, pY, pZ, length);
+    // The 4-wide loop and the remainder must leave the same elements as-is:
+    const float cMinLengthSq = 1.0e-12f;
+    const Vec4 minLengthSq = Vec4::sReplicate(cMinLengthSq);
+    const Vec4 one = Vec4::sReplicate(1.0f);
+    jint i = 0;
+    for (; i + 4 <= length; i += 4) {
+        const Vec4 x = load4(pX + i), y = load4(pY + i), z = load4(pZ + i);
+        const Vec4 lengthSq = x * x + y * y + z * z;
+        const UVec4 tiny = Vec4::sLessOrEqual(lengthSq, minLengthSq);
+        const Vec4 scale = Vec4::sSelect(one / lengthSq.Sqrt(), one, tiny);
+        store4(x * scale, pX + i);
+        store4(y * scale, pY + i);
+        store4(z * scale, pZ + i);
+    }
+    for (; i < length; ++i) {
+        const float x = pX[i], y = pY[i], z = pZ[i];
+        const float lengthSq = x * x + y * y + z * z;
+        if (lengthSq > cMinLengthSq) {
+            const float scale = 1.0f / std::sqrt(lengthSq);
+            pX[i] = x * scale;
+            pY[i] = y * scale;
+            pZ[i] = z * scale;
+        }
+    }
+}
+
+/*
+ * Class:     com_github_stephengold_joltjni_Vec3Array
+ * Method:    pack
+ * Signature: (Ljava/nio/FloatBuffer;Ljava/nio/FloatBuffer;I)V
+ */
+JNIEXPORT void JNICALL Java_com_github_stephengold_joltjni_Vec3Array_pack
+  (JNIEnv *pEnv, jclass, jobject soa, jobject storeFloats, jint length) {
+    SOA_FLOATS(pEnv, soa, pX, pY, pZ, length);
+    DIRECT_FLOAT_BUFFER(pEnv, storeFloats, pFloats, capacityFloats);
+    JPH_ASSERT(capacityFloats >= 3 * length);
+    for (jint i = 0; i < length; ++i) {
+        pFloats[3 * i] = pX[i];
+        pFloats[3 * i + 1] = pY[i];
+        pFloats[3 * i + 2] = pZ[i];
+    }
+}
+
+/*
+ * Class:     com_github_stephengold_joltjni_Vec3Array
+ * Method:    rotate
+ * Signature: (Ljava/nio/FloatBuffer;Ljava/nio/FloatBuffer;I)V
+ */
+JNIEXPORT void JNICALL Java_com_github_stephengold_joltjni_Vec3Array_rotate
+  (JNIEnv *pEnv, jclass, jobject soa, jobject quatSoa, jint length) {
+    SOA_FLOATS(pEnv, soa, pX, pY, pZ, length);
+    DIRECT_FLOAT_BUFFER(pEnv, quatSoa, pQx, capacityQ);
+    JPH_ASSERT(capacityQ >= 4 * length);
+    const jfloat * const pQy = pQx + length;
+    const jfloat * const pQz = pQy + length;
+    const jfloat * const pQw = pQz + length;
+    jint i = 0;
+    for (; i + 4 <= length; i += 4) {
+        Vec4 x = load4(pX + i), y = load4(pY + i), z = load4(pZ + i);
+        rotate4(load4(pQx + i), load4(pQy + i), load4(pQz + i),
+                load4(pQw + i), x, y, z);
+        store4(x, pX + i);
+        store4(y, pY + i);
+        store4(z, pZ + i);
+    }
+    for (; i < length; ++i) {
+        const Quat q(pQx[i], pQy[i], pQz[i], pQw[i]);
+        const Vec3 v = q * Vec3(pX[i], pY[i], pZ[i]);
+        pX[i] = v.GetX();
+        pY[i] = v.GetY();
+        pZ[i] = v.GetZ();
+    }
+}
+
+/*
+ * Class:     com_github_stephengold_joltjni_Vec3Array
+ * Method:    rotateUniform
+ * Signature: (Ljava/nio/FloatBuffer;IFFFF)V
+ */
+JNIEXPORT void JNICALL Java_com_github_stephengold_joltjni_Vec3Array_rotateUniform
+  (JNIEnv *pEnv, jclass, jobject soa, jint length, jfloat qx, jfloat qy,
+  jfloat qz, jfloat qw) {
+    SOA_FLOATS(pEnv, soa, pX, pY, pZ, length);
+    const Mat44 rotation = Mat44::sRotation(Quat(qx, qy, qz, qw));
+    const Vec4 m00 = Vec4::sReplicate(rotation(0, 0));
+    const Vec4 m01 = Vec4::sReplicate(rotation(0, 1));
+    const Vec4 m02 = Vec4::sReplicate(rotation(0, 2));
+    const Vec4 m10 = Vec4::sReplicate(rotation(1, 0));
+    const Vec4 m11 = Vec4::sReplicate(rotation(1, 1));
+    const Vec4 m12 = Vec4::sReplicate(rotation(1, 2));
+    const Vec4 m20 = Vec4::sReplicate(rotation(2, 0));
+    const Vec4 m21 = Vec4::sReplicate(rotation(2, 1));
+    const Vec4 m22 = Vec4::sReplicate(rotation(2, 2));
+    jint i = 0;
+    for (; i + 4 <= length; i += 4) {
+        const Vec4 x = load4(pX + i), y = load4(pY + i), z = load4(pZ + i);
+        store4(m00 * x + m01 * y + m02 * z, pX + i);
+        store4(m10 * x + m11 * y + m12 * z, pY + i);
+        store4(m20 * x + m21 * y + m22 * z, pZ + i);
+    }
+    for (; i < length; ++i) {
+        const Vec3 v = rotation.Multiply3x3(Vec3(pX[i], pY[i], pZ[i]));
+        pX[i] = v.GetX();
+        pY[i] = v.GetY();
+        pZ[i] = v.GetZ();
+    }
+}
+
+/*
+ * Class:     com_github_stephengold_joltjni_Vec3Array
+ * Method:    scale
+ * Signature: (Ljava/nio/FloatBuffer;Ljava/nio/FloatBuffer;I)V
+ */
+JNIEXPORT void JNICALL Java_com_github_stephengold_joltjni_Vec3Array_scale
+  (JNIEnv *pEnv, jclass, jobject soa, jobject factors, jint length) {
+    SOA_FLOATS(pEnv, soa, pX, pY, pZ, length);
+    DIRECT_FLOAT_BUFFER(pEnv, factors, pFactors, capacityFactors);
+    JPH_ASSERT(capacityFactors >= length);
+    jint i = 0;
+    for (; i + 4 <= length; i += 4) {
+        const Vec4 factor = load4(pFactors + i);
+        store4(load4(pX + i) * factor, pX + i);
+        store4(load4(pY + i) * factor, pY + i);
+        store4(load4(pZ + i) * factor, pZ + i);
+    }
+    for (; i < length; ++i) {
+        pX[i] *= pFactors[i];
+        pY[i] *= pFactors[i];
+        pZ[i] *= pFactors[i];
+    }
+}
+
+/*
+ * Class:     com_github_stephengold_joltjni_Vec3Array
+ * Method:    scaleUniform
+ * Signature: (Ljava/nio/FloatBuffer;IF)V
+ */
+JNIEXPORT void JNICALL Java_com_github_stephengold_joltjni_Vec3Array_scaleUniform
+  (JNIEnv *pEnv, jclass, jobject soa, jint length, jfloat factor) {
+    SOA_FLOATS(pEnv, soa, pX, pY, pZ, length);
+    const Vec4 factor4 = Vec4::sReplicate(factor);
+    jint i = 0;
+    for (; i + 4 <= 3 * length; i += 4) {
+        store4(load4(pX + i) * factor4, pX + i);
+    }
+    for (; i < 3 * length; ++i) {
+        pX[i] *= factor;
+    }
+}
+
+/*
+ * Class:     com_github_stephengold_joltjni_Vec3Array
+ * Method:    transform
+ * Signature: (Ljava/nio/FloatBuffer;IJ)V
+ */
+JNIEXPORT void JNICALL Java_com_github_stephengold_joltjni_Vec3Array_transform
+  (JNIEnv *pEnv, jclass, jobject soa, jint length, jlong matrixVa) {
+    SOA_FLOATS(pEnv, soa, pX, pY, pZ, length);
+    const Mat44 * const pMatrix = reinterpret_cast<Mat44 *> (matrixVa);
+    const Mat44& m = *pMatrix;
+    const Vec4 m00 = Vec4::sReplicate(m(0, 0));
+    const Vec4 m01 = Vec4::sReplicate(m(0, 1));
+    const Vec4 m02 = Vec4::sReplicate(m(0, 2));
+    const Vec4 m03 = Vec4::sReplicate(m(0, 3));
+    const Vec4 m10 = Vec4::sReplicate(m(1, 0));
+    const Vec4 m11 = Vec4::sReplicate(m(1, 1));
+    const Vec4 m12 = Vec4::sReplicate(m(1, 2));
+    const Vec4 m13 = Vec4::sReplicate(m(1, 3));
+    const Vec4 m20 = Vec4::sReplicate(m(2, 0));
+    const Vec4 m21 = Vec4::sReplicate(m(2, 1));
+    const Vec4 m22 = Vec4::sReplicate(m(2, 2));
+    const Vec4 m23 = Vec4::sReplicate(m(2, 3));
+    jint i = 0;
+    for (; i + 4 <= length; i += 4) {
+        const Vec4 x = load4(pX + i), y = load4(pY + i), z = load4(pZ + i);
+        store4(m00 * x + m01 * y + m02 * z + m03, pX + i);
+        store4(m10 * x + m11 * y + m12 * z + m13, pY + i);
+        store4(m20 * x + m21 * y + m22 * z + m23, pZ + i);
+    }
+    for (; i < length; ++i) {
+        const Vec3 v = m * Vec3(pX[i], pY[i], pZ[i]);
+        pX[i] = v.GetX();
+        pY[i] = v.GetY();
+        pZ[i] = v.GetZ();
+    }
+}
+
+/*
+ * Class:     com_github_stephengold_joltjni_Vec3Array
+ * Method:    unpack
+ * Signature: (Ljava/nio/FloatBuffer;Ljava/nio/FloatBuffer;I)V
+ */
+JNIEXPORT void JNICALL Java_com_github_stephengold_joltjni_Vec3Array_unpack
+  (JNIEnv *pEnv, jclass, jobject floats, jobject storeSoa, jint length) {
+    DIRECT_FLOAT_BUFFER(pEnv, floats, pFloats, capacityFloats);
+    JPH_ASSERT(capacityFloats >= 3 * length);
+    SOA_FLOATS(pEnv, storeSoa, pX, pY, pZ, length);
+    for (jint i = 0; i < length; ++i) {
+        pX[i] = pFloats[3 * i];
+        pY[i] = pFloats[3 * i + 1];
+        pZ[i] = pFloats[3 * i + 2];
+    }
+}
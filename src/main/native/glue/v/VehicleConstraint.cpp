@@ -113,14 +113,13 @@ JNIEXPORT jlong JNICALL Java_com_github_stephengold_joltjni_VehicleConstraint_ge
 /*
  * Class:     com_github_stephengold_joltjni_VehicleConstraint
  * Method:    getGravityOverride
- * Signature: (JLjava/nio/FloatBuffer;)V
+ * Signature: (JJ)V
  */
 JNIEXPORT void JNICALL Java_com_github_stephengold_joltjni_VehicleConstraint_getGravityOverride
-  (JNIEnv *pEnv, jclass, jlong constraintVa, jobject storeFloats) {
+  (JNIEnv *, jclass, jlong constraintVa, jlong floatsVa) {
     const VehicleConstraint * const pConstraint
             = reinterpret_cast<VehicleConstraint *> (constraintVa);
-    DIRECT_FLOAT_BUFFER(pEnv, storeFloats, pFloats, capacityFloats);
-    JPH_ASSERT(capacityFloats >= 3);
+    jfloat * const pFloats = reinterpret_cast<jfloat *> (floatsVa);
     const Vec3 result = pConstraint->GetGravityOverride();
     pFloats[0] = result.GetX();
     pFloats[1] = result.GetY();
@@ -130,14 +129,13 @@ JNIEXPORT void JNICALL Java_com_github_stephengold_joltjni_VehicleConstraint_get
 /*
  * Class:     com_github_stephengold_joltjni_VehicleConstraint
  * Method:    getLocalForward
- * Signature: (JLjava/nio/FloatBuffer;)V
+ * Signature: (JJ)V
  */
 JNIEXPORT void JNICALL Java_com_github_stephengold_joltjni_VehicleConstraint_getLocalForward
-  (JNIEnv *pEnv, jclass, jlong constraintVa, jobject storeFloats) {
+  (JNIEnv *, jclass, jlong constraintVa, jlong floatsVa) {
     const VehicleConstraint * const pConstraint
             = reinterpret_cast<VehicleConstraint *> (constraintVa);
-    DIRECT_FLOAT_BUFFER(pEnv, storeFloats, pFloats, capacityFloats);
-    JPH_ASSERT(capacityFloats >= 3);
+    jfloat * const pFloats = reinterpret_cast<jfloat *> (floatsVa);
     const Vec3 result = pConstraint->GetLocalForward();
     pFloats[0] = result.GetX();
     pFloats[1] = result.GetY();
@@ -147,14 +145,13 @@ JNIEXPORT void JNICALL Java_com_github_stephengold_joltjni_VehicleConstraint_get
 /*
  * Class:     com_github_stephengold_joltjni_VehicleConstraint
  * Method:    getLocalUp
- * Signature: (JLjava/nio/FloatBuffer;)V
+ * Signature: (JJ)V
  */
 JNIEXPORT void JNICALL Java_com_github_stephengold_joltjni_VehicleConstraint_getLocalUp
-  (JNIEnv *pEnv, jclass, jlong constraintVa, jobject storeFloats) {
+  (JNIEnv *, jclass, jlong constraintVa, jlong floatsVa) {
     const VehicleConstraint * const pConstraint
             = reinterpret_cast<VehicleConstraint *> (constraintVa);
-    DIRECT_FLOAT_BUFFER(pEnv, storeFloats, pFloats, capacityFloats);
-    JPH_ASSERT(capacityFloats >= 3);
+    jfloat * const pFloats = reinterpret_cast<jfloat *> (floatsVa);
     const Vec3 result = pConstraint->GetLocalUp();
     pFloats[0] = result.GetX();
     pFloats[1] = result.GetY();
@@ -300,14 +297,13 @@ JNIEXPORT jlong JNICALL Java_com_github_stephengold_joltjni_VehicleConstraint_ge
 /*
  * Class:     com_github_stephengold_joltjni_VehicleConstraint
  * Method:    getWorldUp
- * Signature: (JLjava/nio/FloatBuffer;)V
+ * Signature: (JJ)V
  */
 JNIEXPORT void JNICALL Java_com_github_stephengold_joltjni_VehicleConstraint_getWorldUp
-  (JNIEnv *pEnv, jclass, jlong constraintVa, jobject storeFloats) {
+  (JNIEnv *, jclass, jlong constraintVa, jlong floatsVa) {
     const VehicleConstraint * const pConstraint
             = reinterpret_cast<VehicleConstraint *> (constraintVa);
-    DIRECT_FLOAT_BUFFER(pEnv, storeFloats, pFloats, capacityFloats);
-    JPH_ASSERT(capacityFloats >= 3);
+    jfloat * const pFloats = reinterpret_cast<jfloat *> (floatsVa);
     const Vec3 result = pConstraint->GetWorldUp();
     pFloats[0] = result.GetX();
     pFloats[1] = result.GetY();
@@ -0,0 +1,113 @@
+/*
+Copyright (c) 2026 Stephen Gold
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+ */
+
+/*
+ * Author: Stephen Gold
+ */
+#include "Jolt/Jolt.h"
+#include "Jolt/Physics/Body/BodyInterface.h"
+#include "Jolt/Physics/Vehicle/VehicleConstraint.h"
+#include "Jolt/Physics/Vehicle/WheeledVehicleController.h"
+#include "auto/com_github_stephengold_joltjni_VehicleFleet.h"
+#include "glue/glue.h"
+
+using namespace JPH;
+
+/*
+ * Class:     com_github_stephengold_joltjni_VehicleFleet
+ * Method:    getTelemetry
+ * Signature: ([JIILjava/nio/FloatBuffer;)V
+ */
+JNIEXPORT void JNICALL Java_com_github_stephengold_joltjni_VehicleFleet_getTelemetry
+  (JNIEnv *pEnv, jclass, jlongArray constraintVas, jint numVehicles,
+  jint maxWheels, jobject storeTelemetry) {
+    jfloat *pOut = (jfloat *) pEnv->GetDirectBufferAddress(storeTelemetry);
+    JPH_ASSERT(!pEnv->ExceptionCheck());
+    jboolean isCopy;
+    jlong * const pVas = pEnv->GetLongArrayElements(constraintVas, &isCopy);
+    for (jint i = 0; i < numVehicles; ++i) {
+        const VehicleConstraint * const pConstraint
+                = reinterpret_cast<VehicleConstraint *> (pVas[i]);
+        const WheeledVehicleController * const pController
+                = static_cast<const WheeledVehicleController *> (
+                        pConstraint->GetController());
+        *pOut++ = pController->GetEngine().GetCurrentRPM();
+        *pOut++ = (jfloat) pController->GetTransmission().GetCurrentGear();
+
+        const Wheels& wheels = pConstraint->GetWheels();
+        const jint numWheels = (jint) wheels.size();
+        for (jint j = 0; j < numWheels; ++j) {
+            const Wheel * const pWheel = wheels[j];
+            *pOut++ = pWheel->HasContact() ? 1.0f : 0.0f;
+            *pOut++ = pWheel->GetSuspensionLength();
+            *pOut++ = pWheel->GetAngularVelocity();
+        }
+        for (jint j = numWheels; j < maxWheels; ++j) {
+            *pOut++ = 0.0f;
+            *pOut++ = 0.0f;
+            *pOut++ = 0.0f;
+        }
+    }
+    pEnv->ReleaseLongArrayElements(constraintVas, pVas, JNI_ABORT);
+}
+
+/*
+ * Class:     com_github_stephengold_joltjni_VehicleFleet
+ * Method:    setDriverInputs
+ * Signature: ([JILjava/nio/FloatBuffer;J)V
+ */
+JNIEXPORT void JNICALL Java_com_github_stephengold_joltjni_VehicleFleet_setDriverInputs
+  (JNIEnv *pEnv, jclass, jlongArray constraintVas, jint numVehicles,
+  jobject inputs, jlong bodyInterfaceVa) {
+    const jfloat *pIn = (jfloat *) pEnv->GetDirectBufferAddress(inputs);
+    JPH_ASSERT(!pEnv->ExceptionCheck());
+    BodyInterface * const pInterface
+            = reinterpret_cast<BodyInterface *> (bodyInterfaceVa);
+    jboolean isCopy;
+    jlong * const pVas = pEnv->GetLongArrayElements(constraintVas, &isCopy);
+    Array<BodyID> activate;
+    for (jint i = 0; i < numVehicles; ++i) {
+        VehicleConstraint * const pConstraint
+                = reinterpret_cast<VehicleConstraint *> (pVas[i]);
+        WheeledVehicleController * const pController
+                = static_cast<WheeledVehicleController *> (
+                        pConstraint->GetController());
+        const float forward = *pIn++;
+        const float right = *pIn++;
+        const float brake = *pIn++;
+        const float handBrake = *pIn++;
+        pController->SetDriverInput(forward, right, brake, handBrake);
+
+        if (pInterface != nullptr && (forward != 0.0f || right != 0.0f
+                || brake != 0.0f || handBrake != 0.0f)) {
+            const Body * const pBody = pConstraint->GetVehicleBody();
+            if (!pBody->IsActive()) {
+                activate.push_back(pBody->GetID());
+            }
+        }
+    }
+    pEnv->ReleaseLongArrayElements(constraintVas, pVas, JNI_ABORT);
+
+    if (!activate.empty()) {
+        pInterface->ActivateBodies(activate.data(), (int) activate.size());
+    }
+}
@@ -0,0 +1,111 @@
+/*
+Copyright (c) 2026 Stephen Gold
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+ */
+
+/*
+ * Author: Stephen Gold
+ */
+#include "Jolt/Jolt.h"
+#include "Jolt/Physics/Vehicle/VehicleConstraint.h"
+#include "auto/com_github_stephengold_joltjni_VehicleLodPolicy.h"
+#include "glue/glue.h"
+
+using namespace JPH;
+
+/*
+ * Class:     com_github_stephengold_joltjni_VehicleLodPolicy
+ * Method:    applyTiers
+ * Signature: ([JI[DI[F[I[I[IF[I[F)V
+ */
+JNIEXPORT void JNICALL Java_com_github_stephengold_joltjni_VehicleLodPolicy_applyTiers
+  (JNIEnv *pEnv, jclass, jlongArray constraintVas, jint numVehicles,
+  jdoubleArray observers, jint numObservers, jfloatArray maxDistances,
+  jintArray numStepsBetweenTests, jintArray velocitySteps,
+  jintArray positionSteps, jfloat fastSpeedSquared, jintArray storeTiers,
+  jfloatArray storeCasts) {
+    const jsize numTiers = pEnv->GetArrayLength(maxDistances);
+    jboolean isCopy;
+    jlong * const pVas = pEnv->GetLongArrayElements(constraintVas, &isCopy);
+    jdouble * const pObservers
+            = pEnv->GetDoubleArrayElements(observers, &isCopy);
+    jfloat * const pMaxDistances
+            = pEnv->GetFloatArrayElements(maxDistances, &isCopy);
+    jint * const pNumSteps
+            = pEnv->GetIntArrayElements(numStepsBetweenTests, &isCopy);
+    jint * const pVelocitySteps
+            = pEnv->GetIntArrayElements(velocitySteps, &isCopy);
+    jint * const pPositionSteps
+            = pEnv->GetIntArrayElements(positionSteps, &isCopy);
+    jint * const pTiers = pEnv->GetIntArrayElements(storeTiers, &isCopy);
+
+    float castsPerStep = 0.0f;
+    float castsSaved = 0.0f;
+    for (jint i = 0; i < numVehicles; ++i) {
+        VehicleConstraint * const pConstraint
+                = reinterpret_cast<VehicleConstraint *> (pVas[i]);
+        const Body * const pBody = pConstraint->GetVehicleBody();
+        const RVec3 location = pBody->GetCenterOfMassPosition();
+        double minDistanceSquared = std::numeric_limits<double>::max();
+        for (jint j = 0; j < numObservers; ++j) {
+            const double dx = location.GetX() - pObservers[3 * j];
+            const double dy = location.GetY() - pObservers[3 * j + 1];
+            const double dz = location.GetZ() - pObservers[3 * j + 2];
+            const double distanceSquared = dx * dx + dy * dy + dz * dz;
+            minDistanceSquared = min(minDistanceSquared, distanceSquared);
+        }
+
+        // The last tier's distance limit is ignored: it takes all the rest.
+        jint tier = numTiers - 1;
+        for (jint t = 0; t < numTiers - 1; ++t) {
+            const double maxDistance = pMaxDistances[t];
+            if (minDistanceSquared <= maxDistance * maxDistance) {
+                tier = t;
+                break;
+            }
+        }
+        if (tier > 0
+                && pBody->GetLinearVelocity().LengthSq() > fastSpeedSquared) {
+            --tier;
+        }
+        pTiers[i] = tier;
+
+        const uint numSteps = pNumSteps[tier];
+        pConstraint->SetNumStepsBetweenCollisionTestActive(numSteps);
+        pConstraint->SetNumVelocityStepsOverride(pVelocitySteps[tier]);
+        pConstraint->SetNumPositionStepsOverride(pPositionSteps[tier]);
+
+        const float numWheels = (float) pConstraint->GetWheels().size();
+        castsPerStep += numWheels / numSteps;
+        castsSaved += numWheels - numWheels / numSteps;
+    }
+
+    pEnv->ReleaseIntArrayElements(storeTiers, pTiers, 0);
+    pEnv->ReleaseIntArrayElements(positionSteps, pPositionSteps, JNI_ABORT);
+    pEnv->ReleaseIntArrayElements(velocitySteps, pVelocitySteps, JNI_ABORT);
+    pEnv->ReleaseIntArrayElements(numStepsBetweenTests, pNumSteps, JNI_ABORT);
+    pEnv->ReleaseFloatArrayElements(maxDistances, pMaxDistances, JNI_ABORT);
+    pEnv->ReleaseDoubleArrayElements(observers, pObservers, JNI_ABORT);
+    pEnv->ReleaseLongArrayElements(constraintVas, pVas, JNI_ABORT);
+
+    const jfloat casts[2] = {castsPerStep, castsSaved};
+    pEnv->SetFloatArrayRegion(storeCasts, 0, 2, casts);
+    EXCEPTION_CHECK(pEnv)
+}
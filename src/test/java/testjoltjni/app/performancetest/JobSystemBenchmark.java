@@ -0,0 +1,149 @@
+/*
+Copyright (c) 2026 Stephen Gold
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+ */
+package testjoltjni.app.performancetest;
+
+import com.github.stephengold.joltjni.Jolt;
+import com.github.stephengold.joltjni.JobSystem;
+import com.github.stephengold.joltjni.JobSystemExecutor;
+import com.github.stephengold.joltjni.JobSystemThreadPool;
+import com.github.stephengold.joltjni.PhysicsSystem;
+import com.github.stephengold.joltjni.TempAllocatorImpl;
+import com.github.stephengold.joltjni.enumerate.EMotionQuality;
+import java.util.concurrent.ForkJoinPool;
+import testjoltjni.TestUtils;
+
+/**
+ * Compare the simulation rate of the Pyramid and Ragdoll performance-test
+ * scenes using a {@code JobSystemThreadPool} against a
+ * {@code JobSystemExecutor} backed by a {@code ForkJoinPool}.
+ *
+ * @author Stephen Gold sgold@sonic.net
+ */
+final public class JobSystemBenchmark {
+    // *************************************************************************
+    // constants
+
+    /**
+     * simulation time step (in seconds)
+     */
+    final private static float deltaTime = 1f / 60f;
+    /**
+     * number of steps to simulate before measuring
+     */
+    final private static int numWarmupSteps = 60;
+    /**
+     * number of steps to measure
+     */
+    final private static int numMeasuredSteps = 500;
+    // *************************************************************************
+    // constructors
+
+    /**
+     * A private constructor to inhibit instantiation of this class.
+     */
+    private JobSystemBenchmark() {
+        // do nothing
+    }
+    // *************************************************************************
+    // new methods exposed
+
+    /**
+     * Main entry point for the JobSystemBenchmark application.
+     *
+     * @param arguments array of command-line arguments (not null)
+     */
+    public static void main(String[] arguments) {
+        TestUtils.loadNativeLibraryRelease();
+        TestUtils.initializeNativeLibrary();
+
+        int numThreads = TestUtils.numThreads();
+        System.out.printf("%d worker threads%n", numThreads);
+        TempAllocatorImpl tempAllocator
+                = new TempAllocatorImpl(32 * 1024 * 1024);
+        JobSystemThreadPool threadPool = new JobSystemThreadPool(
+                Jolt.cMaxPhysicsJobs, Jolt.cMaxPhysicsBarriers, numThreads);
+        ForkJoinPool forkJoinPool = new ForkJoinPool(Math.max(numThreads, 1));
+        JobSystemExecutor executorSystem = new JobSystemExecutor(
+                Jolt.cMaxPhysicsJobs, Jolt.cMaxPhysicsBarriers, forkJoinPool,
+                numThreads + 1);
+
+        PerformanceTestScene[] scenes = {
+            new PyramidScene(), new RagdollScene(4, 10, 0.6f)
+        };
+        for (PerformanceTestScene scene : scenes) {
+            if (!scene.Load()) {
+                System.exit(1);
+            }
+            double poolRate = measure(scene, tempAllocator, threadPool);
+            System.out.printf("%s with JobSystemThreadPool:  %.1f steps per"
+                    + " second%n", scene.GetName(), poolRate);
+            double executorRate
+                    = measure(scene, tempAllocator, executorSystem);
+            System.out.printf("%s with JobSystemExecutor:    %.1f steps per"
+                    + " second%n", scene.GetName(), executorRate);
+        }
+
+        executorSystem.close(); // not reclaimed by the Cleaner
+        forkJoinPool.shutdown();
+        TestUtils.testClose(threadPool, tempAllocator);
+        TestUtils.cleanup();
+    }
+    // *************************************************************************
+    // private methods
+
+    /**
+     * Measure the simulation rate of the specified scene with the specified
+     * job system.
+     *
+     * @param scene the scene to simulate (not null, loaded)
+     * @param tempAllocator the allocator to use (not null)
+     * @param jobSystem the job system to use (not null)
+     * @return the number of steps per second
+     */
+    private static double measure(PerformanceTestScene scene,
+            TempAllocatorImpl tempAllocator, JobSystem jobSystem) {
+        PhysicsSystem system = new PhysicsSystem();
+        system.init(10_240, 0, 65_536, 20_480, new BPLayerInterfaceImpl(),
+                new ObjectVsBroadPhaseLayerFilterImpl(),
+                new ObjectLayerPairFilterImpl());
+        scene.StartTest(system, EMotionQuality.Discrete);
+        system.optimizeBroadPhase();
+
+        for (int i = 0; i < numWarmupSteps; ++i) {
+            scene.UpdateTest(system, tempAllocator, deltaTime);
+            system.update(deltaTime, 1, tempAllocator, jobSystem);
+        }
+
+        long startTime = System.nanoTime();
+        for (int i = 0; i < numMeasuredSteps; ++i) {
+            scene.UpdateTest(system, tempAllocator, deltaTime);
+            system.update(deltaTime, 1, tempAllocator, jobSystem);
+        }
+        long elapsed = System.nanoTime() - startTime;
+
+        scene.StopTest(system);
+        TestUtils.cleanupPhysicsSystem(system);
+        double result = numMeasuredSteps * 1e9 / elapsed;
+
+        return result;
+    }
+}
@@ -0,0 +1,234 @@
+/*
+Copyright (c) 2026 Stephen Gold
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+ */
+package testjoltjni.junit;
+
+import com.github.stephengold.joltjni.Jolt;
+import com.github.stephengold.joltjni.Mat44;
+import com.github.stephengold.joltjni.Quat;
+import com.github.stephengold.joltjni.QuatArray;
+import com.github.stephengold.joltjni.RMat44;
+import com.github.stephengold.joltjni.RVec3;
+import com.github.stephengold.joltjni.RVec3Array;
+import com.github.stephengold.joltjni.Vec3;
+import com.github.stephengold.joltjni.Vec3Array;
+import com.github.stephengold.joltjni.operator.Op;
+import java.nio.DoubleBuffer;
+import java.nio.FloatBuffer;
+import org.junit.Assert;
+import org.junit.Test;
+import testjoltjni.TestUtils;
+
+/**
+ * Automated JUnit4 tests for the bulk operations of the structure-of-arrays
+ * classes {@code Vec3Array}, {@code RVec3Array}, and {@code QuatArray}.
+ *
+ * @author Stephen Gold sgold@sonic.net
+ */
+public class Test015 {
+    // *************************************************************************
+    // constants
+
+    /**
+     * number of elements in each test array, chosen so that the native code
+     * exercises both its 4-wide loop and its scalar remainder
+     */
+    final private static int length = 11;
+    // *************************************************************************
+    // new methods exposed
+
+    /**
+     * Test the bulk operations against the equivalent per-element math.
+     */
+    @Test
+    public void test015() {
+        TestUtils.loadNativeLibrary();
+        TestUtils.initializeNativeLibrary();
+
+        doQuatArray();
+        doRVec3Array();
+        doVec3Array();
+
+        TestUtils.cleanup();
+    }
+    // *************************************************************************
+    // Java private methods
+
+    /**
+     * Test the {@code QuatArray} class.
+     */
+    private static void doQuatArray() {
+        QuatArray array = new QuatArray(length);
+        TestUtils.assertEquals(0f, 0f, 0f, 1f, array.get(length - 1), 0f);
+
+        FloatBuffer packed = Jolt.newDirectFloatBuffer(4 * length);
+        for (int i = 0; i < length; ++i) {
+            Quat q = Quat.sEulerAngles(0.1f * i, 0.2f, -0.05f * i);
+            q.set(2f * q.getX(), 2f * q.getY(), 2f * q.getZ(), 2f * q.getW());
+            packed.put(q.getX()).put(q.getY()).put(q.getZ()).put(q.getW());
+        }
+        array.copyFromPacked(packed);
+        array.normalize();
+
+        Quat left = Quat.sRotation(Vec3.sAxisY(), 0.7f);
+        array.premultiply(left);
+        FloatBuffer repacked = Jolt.newDirectFloatBuffer(4 * length);
+        array.copyToPacked(repacked);
+        for (int i = 0; i < length; ++i) {
+            Quat q = Quat.sEulerAngles(0.1f * i, 0.2f, -0.05f * i);
+            Quat expected = Op.star(left, q);
+            Quat actual = array.get(i);
+            TestUtils.assertEquals(expected.getX(), expected.getY(),
+                    expected.getZ(), expected.getW(), actual, 1e-5f);
+            Assert.assertEquals(actual.getW(), repacked.get(4 * i + 3), 0f);
+        }
+    }
+
+    /**
+     * Test the {@code RVec3Array} class.
+     */
+    private static void doRVec3Array() {
+        RVec3Array array = new RVec3Array(length);
+        DoubleBuffer packed = Jolt.newDirectDoubleBuffer(3 * length);
+        for (int i = 0; i < length; ++i) {
+            packed.put(1e6 + i).put(-2.0 * i).put(0.5 * i);
+        }
+        array.copyFromPacked(packed);
+        TestUtils.assertEquals(
+                1e6f + 3f, -6f, 1.5f, array.get(3), 0f);
+
+        Vec3Array offsets = new Vec3Array(length);
+        offsets.fill(new Vec3(1f, 2f, 3f));
+        array.add(offsets);
+        array.add(new RVec3(-1.0, -2.0, -3.0));
+        TestUtils.assertEquals(1e6f + 3f, -6f, 1.5f, array.get(3), 0f);
+
+        RVec3 origin = new RVec3(1e6, 0.0, 0.0);
+        array.subtract(origin, offsets);
+        TestUtils.assertEquals(5f, -10f, 2.5f, offsets.get(5), 1e-6f);
+
+        Quat rotation = Quat.sRotation(Vec3.sAxisZ(), 1f);
+        RMat44 matrix = RMat44.sRotationTranslation(rotation, origin);
+        RVec3 expected = Op.star(matrix, array.get(7));
+        array.transform(matrix);
+        RVec3 actual = array.get(7);
+        Assert.assertEquals(expected.xx(), actual.xx(), 1e-3);
+        Assert.assertEquals(expected.yy(), actual.yy(), 1e-3);
+        Assert.assertEquals(expected.zz(), actual.zz(), 1e-3);
+    }
+
+    /**
+     * Test the {@code Vec3Array} class.
+     */
+    private static void doVec3Array() {
+        Vec3Array a = new Vec3Array(length);
+        Vec3Array b = new Vec3Array(length);
+        Vec3[] aa = new Vec3[length];
+        Vec3[] bb = new Vec3[length];
+        for (int i = 0; i < length; ++i) {
+            aa[i] = new Vec3(i, 1f - i, 0.5f * i);
+            bb[i] = new Vec3(-0.25f * i, 2f, i * i);
+            a.set(i, aa[i]);
+            b.set(i, bb[i]);
+        }
+
+        FloatBuffer dots = Jolt.newDirectFloatBuffer(length);
+        a.dot(b, dots);
+        Vec3Array crosses = new Vec3Array(length);
+        a.cross(b, crosses);
+        for (int i = 0; i < length; ++i) {
+            Assert.assertEquals(aa[i].dot(bb[i]), dots.get(i), 1e-4f);
+            Vec3 cross = aa[i].cross(bb[i]);
+            TestUtils.assertEquals(cross.getX(), cross.getY(), cross.getZ(),
+                    crosses.get(i), 1e-4f);
+        }
+
+        a.add(b);
+        a.add(new Vec3(1f, 1f, 1f));
+        a.scale(2f);
+        for (int i = 0; i < length; ++i) {
+            Vec3 expected = Op.star(2f,
+                    Op.plus(Op.plus(aa[i], bb[i]), new Vec3(1f, 1f, 1f)));
+            TestUtils.assertEquals(expected.getX(), expected.getY(),
+                    expected.getZ(), a.get(i), 1e-4f);
+            aa[i] = expected;
+        }
+
+        Quat rotation = Quat.sRotation(Vec3.sAxisX(), 0.3f);
+        a.rotate(rotation);
+        QuatArray rotations = new QuatArray(length);
+        for (int i = 0; i < length; ++i) {
+            rotations.set(i, Quat.sRotation(Vec3.sAxisY(), 0.1f * i));
+        }
+        a.rotate(rotations);
+        Mat44 matrix = Mat44.sRotationTranslation(
+                Quat.sRotation(Vec3.sAxisZ(), -0.4f), new Vec3(3f, 4f, 5f));
+        a.transform(matrix);
+        for (int i = 0; i < length; ++i) {
+            Vec3 expected = Op.star(rotation, aa[i]);
+            expected = Op.star(rotations.get(i), expected);
+            expected = Op.star(matrix, expected);
+            TestUtils.assertEquals(expected.getX(), expected.getY(),
+                    expected.getZ(), a.get(i), 1e-3f);
+        }
+
+        /*
+         * Nearly zero elements should be left unchanged, whether they're
+         * processed by the 4-wide loop (element 1) or the remainder (last).
+         */
+        a.set(0, 0f, 0f, 0f);
+        a.set(1, 1e-7f, 0f, 0f);
+        a.set(length - 1, 1e-7f, 0f, 0f);
+        a.normalize();
+        TestUtils.assertEquals(0f, 0f, 0f, a.get(0), 0f);
+        TestUtils.assertEquals(1e-7f, 0f, 0f, a.get(1), 0f);
+        TestUtils.assertEquals(1e-7f, 0f, 0f, a.get(length - 1), 0f);
+        for (int i = 2; i < length - 1; ++i) {
+            Assert.assertEquals(1f, a.get(i).length(), 1e-5f);
+        }
+        a.set(1, 0f, 1f, 0f);
+        a.set(length - 1, 0f, 1f, 0f);
+
+        FloatBuffer factors = Jolt.newDirectFloatBuffer(length);
+        for (int i = 0; i < length; ++i) {
+            factors.put(i, i);
+        }
+        a.scale(factors);
+        Assert.assertEquals(5f, a.get(5).length(), 1e-4f);
+
+        FloatBuffer packed = Jolt.newDirectFloatBuffer(3 * length);
+        a.copyToPacked(packed);
+        b.copyFromPacked(packed);
+        for (int i = 0; i < length; ++i) {
+            Vec3 expected = a.get(i);
+            TestUtils.assertEquals(expected.getX(), expected.getY(),
+                    expected.getZ(), b.get(i), 0f);
+        }
+
+        // A null buffer should be rejected before reaching native code:
+        try {
+            a.copyToPacked(null);
+            Assert.fail("Expected a NullPointerException");
+        } catch (NullPointerException exception) {
+            // expected
+        }
+    }
+}
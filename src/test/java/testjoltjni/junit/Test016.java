@@ -0,0 +1,130 @@
+/*
+Copyright (c) 2026 Stephen Gold
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+ */
+package testjoltjni.junit;
+
+import com.github.stephengold.joltjni.BodyCreationSettings;
+import com.github.stephengold.joltjni.BodyIdArray;
+import com.github.stephengold.joltjni.BodyIdVector;
+import com.github.stephengold.joltjni.BodyInterface;
+import com.github.stephengold.joltjni.BodyStreamer;
+import com.github.stephengold.joltjni.BoxShape;
+import com.github.stephengold.joltjni.PhysicsSystem;
+import com.github.stephengold.joltjni.Quat;
+import com.github.stephengold.joltjni.RVec3;
+import com.github.stephengold.joltjni.ShapeRefC;
+import com.github.stephengold.joltjni.enumerate.EActivation;
+import com.github.stephengold.joltjni.enumerate.EBodyType;
+import com.github.stephengold.joltjni.enumerate.EMotionType;
+import com.github.stephengold.joltjni.readonly.ConstBodyCreationSettings;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.junit.Assert;
+import org.junit.Test;
+import testjoltjni.TestUtils;
+
+/**
+ * Automated JUnit4 tests for {@code BodyStreamer} and the bulk
+ * activate/deactivate/remove/destroy methods of {@code BodyInterface}.
+ *
+ * @author Stephen Gold sgold@sonic.net
+ */
+public class Test016 {
+    // *************************************************************************
+    // constants
+
+    /**
+     * number of bodies to stream in, chosen so the last batch is partial
+     */
+    final private static int numBodies = 150;
+    // *************************************************************************
+    // new methods exposed
+
+    /**
+     * Stream in a batch of bodies, then deactivate, activate, remove, and
+     * destroy them in bulk.
+     */
+    @Test
+    public void test016() {
+        TestUtils.loadNativeLibrary();
+        TestUtils.initializeNativeLibrary();
+
+        PhysicsSystem system = TestUtils.newPhysicsSystem(numBodies);
+        BodyInterface bi = system.getBodyInterface();
+
+        ShapeRefC shape = new BoxShape(0.5f).toRefC();
+        ConstBodyCreationSettings[] settings
+                = new ConstBodyCreationSettings[numBodies];
+        for (int i = 0; i < numBodies; ++i) {
+            settings[i] = new BodyCreationSettings(shape,
+                    new RVec3(2. * i, 0., 0.), new Quat(),
+                    EMotionType.Dynamic, TestUtils.objLayerMoving);
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        BodyStreamer streamer = new BodyStreamer(bi, executor, 64);
+        BodyIdArray ids
+                = streamer.createAndAddBodies(settings, EActivation.Activate);
+        executor.shutdown();
+
+        Assert.assertEquals(numBodies, ids.length());
+        Assert.assertEquals(numBodies, system.getNumBodies());
+        for (int i = 0; i < numBodies; ++i) {
+            Assert.assertTrue(bi.isAdded(ids.get(i)));
+        }
+        Assert.assertEquals(numBodies,
+                system.getNumActiveBodies(EBodyType.RigidBody));
+
+        bi.deactivateBodies(ids);
+        Assert.assertEquals(0, system.getNumActiveBodies(EBodyType.RigidBody));
+
+        BodyIdVector vector = new BodyIdVector();
+        for (int i = 0; i < numBodies; i += 2) {
+            vector.pushBack(ids.get(i));
+        }
+        bi.activateBodies(vector);
+        Assert.assertEquals(vector.size(),
+                system.getNumActiveBodies(EBodyType.RigidBody));
+
+        // Running out of bodies should leave the system unchanged:
+        try {
+            streamer.createBodies(new ConstBodyCreationSettings[]{
+                settings[0]
+            });
+            Assert.fail("Expected an IllegalStateException");
+        } catch (IllegalStateException exception) {
+            // expected
+        }
+        Assert.assertEquals(numBodies, system.getNumBodies());
+
+        bi.removeBodies(ids);
+        for (int i = 0; i < numBodies; ++i) {
+            Assert.assertFalse(bi.isAdded(ids.get(i)));
+        }
+        Assert.assertEquals(numBodies, system.getNumBodies());
+
+        bi.destroyBodies(ids);
+        Assert.assertEquals(0, system.getNumBodies());
+
+        TestUtils.cleanupPhysicsSystem(system);
+        TestUtils.cleanup();
+    }
+}
@@ -0,0 +1,181 @@
+/*
+Copyright (c) 2026 Stephen Gold
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+ */
+package testjoltjni.junit;
+
+import com.github.stephengold.joltjni.BodyCreationSettings;
+import com.github.stephengold.joltjni.BoxShapeSettings;
+import com.github.stephengold.joltjni.ChunkDescriptor;
+import com.github.stephengold.joltjni.ChunkStreamer;
+import com.github.stephengold.joltjni.PhysicsSystem;
+import com.github.stephengold.joltjni.Quat;
+import com.github.stephengold.joltjni.RVec3;
+import com.github.stephengold.joltjni.StreamedChunk;
+import com.github.stephengold.joltjni.enumerate.EActivation;
+import com.github.stephengold.joltjni.enumerate.EMotionType;
+import com.github.stephengold.joltjni.readonly.ConstShapeSettings;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.junit.Assert;
+import org.junit.Test;
+import testjoltjni.TestUtils;
+
+/**
+ * Automated JUnit4 tests for budgeted loading and unloading by
+ * {@code ChunkStreamer}.
+ *
+ * @author Stephen Gold sgold@sonic.net
+ */
+public class Test017 {
+    // *************************************************************************
+    // constants
+
+    /**
+     * maximum number of bodies added or removed per update
+     */
+    final private static int budget = 10;
+    /**
+     * number of bodies in each test chunk
+     */
+    final private static int numBodies = 25;
+    // *************************************************************************
+    // new methods exposed
+
+    /**
+     * Load a chunk and then unload it, checking the per-frame budget.
+     */
+    @Test
+    public void test017() {
+        TestUtils.loadNativeLibrary();
+        TestUtils.initializeNativeLibrary();
+
+        PhysicsSystem system = TestUtils.newPhysicsSystem(2 * numBodies);
+        // Bake on the calling thread, for deterministic results:
+        ChunkStreamer streamer = new ChunkStreamer(
+                system.getBodyInterface(), Runnable::run, budget);
+
+        ConstShapeSettings boxSettings = new BoxShapeSettings(0.5f);
+        ChunkDescriptor descriptor = new ChunkDescriptor() {
+            @Override
+            public int countBodies() {
+                return numBodies;
+            }
+
+            @Override
+            public BodyCreationSettings getBodySettings(int bodyIndex) {
+                BodyCreationSettings result = new BodyCreationSettings();
+                result.setMotionType(EMotionType.Dynamic);
+                result.setObjectLayer(TestUtils.objLayerMoving);
+                result.setPosition(new RVec3(2. * bodyIndex, 0., 0.));
+                result.setRotation(new Quat());
+
+                return result;
+            }
+
+            @Override
+            public ConstShapeSettings getShapeSettings(int bodyIndex) {
+                return boxSettings;
+            }
+        };
+
+        StreamedChunk chunk
+                = streamer.requestLoad(7L, descriptor, EActivation.Activate);
+        Assert.assertSame(chunk, streamer.findChunk(7L));
+        Assert.assertEquals(0, chunk.countAddedBodies());
+        Assert.assertEquals(numBodies, system.getNumBodies());
+
+        streamer.update();
+        Assert.assertEquals(budget, chunk.countAddedBodies());
+        Assert.assertFalse(chunk.isLoaded());
+        streamer.update();
+        Assert.assertEquals(2 * budget, chunk.countAddedBodies());
+        streamer.update();
+        Assert.assertEquals(numBodies, chunk.countAddedBodies());
+        Assert.assertTrue(chunk.isLoaded());
+        Assert.assertFalse(chunk.isFailed());
+        Assert.assertEquals(1L, streamer.getNumLoadedChunks());
+        Assert.assertTrue(streamer.getLastLatencyNanos() > 0L);
+
+        Assert.assertTrue(streamer.requestUnload(7L));
+        Assert.assertFalse(chunk.isLoaded());
+        streamer.update();
+        Assert.assertEquals(numBodies - budget, chunk.countAddedBodies());
+        Assert.assertEquals(numBodies - budget, system.getNumBodies());
+        streamer.update();
+        streamer.update();
+        Assert.assertEquals(0, chunk.countAddedBodies());
+        Assert.assertEquals(0, system.getNumBodies());
+        Assert.assertEquals(0, streamer.countChunks());
+        Assert.assertFalse(streamer.requestUnload(7L));
+
+        loadConcurrently(system, descriptor);
+
+        TestUtils.cleanupPhysicsSystem(system);
+        TestUtils.cleanup();
+    }
+    // *************************************************************************
+    // private methods
+
+    /**
+     * Bake 2 chunks that share shape settings on separate threads, then load
+     * and unload them.
+     *
+     * @param system the physics system to use (not null, initially empty)
+     * @param descriptor the description of both chunks (not null)
+     */
+    private static void loadConcurrently(
+            PhysicsSystem system, ChunkDescriptor descriptor) {
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        ChunkStreamer streamer = new ChunkStreamer(
+                system.getBodyInterface(), executor, budget);
+        StreamedChunk chunk1
+                = streamer.requestLoad(1L, descriptor, EActivation.Activate);
+        StreamedChunk chunk2
+                = streamer.requestLoad(2L, descriptor, EActivation.Activate);
+        executor.shutdown();
+        try {
+            Assert.assertTrue(
+                    executor.awaitTermination(10L, TimeUnit.SECONDS));
+        } catch (InterruptedException exception) {
+            throw new RuntimeException(exception);
+        }
+        Assert.assertEquals(2 * numBodies, system.getNumBodies());
+
+        int maxUpdates = 2 * numBodies / budget + 2;
+        for (int i = 0; i < maxUpdates; ++i) {
+            streamer.update();
+        }
+        Assert.assertFalse(chunk1.isFailed());
+        Assert.assertFalse(chunk2.isFailed());
+        Assert.assertTrue(chunk1.isLoaded());
+        Assert.assertTrue(chunk2.isLoaded());
+        Assert.assertEquals(2L, streamer.getNumLoadedChunks());
+
+        Assert.assertTrue(streamer.requestUnload(1L));
+        Assert.assertTrue(streamer.requestUnload(2L));
+        for (int i = 0; i < maxUpdates; ++i) {
+            streamer.update();
+        }
+        Assert.assertEquals(0, system.getNumBodies());
+        Assert.assertEquals(0, streamer.countChunks());
+    }
+}
@@ -0,0 +1,222 @@
+/*
+Copyright (c) 2026 Stephen Gold
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+ */
+package testjoltjni.junit;
+
+import com.github.stephengold.joltjni.BoxShape;
+import com.github.stephengold.joltjni.ShapeCache;
+import com.github.stephengold.joltjni.ShapeRefC;
+import com.github.stephengold.joltjni.StaticCompoundShapeSettings;
+import com.github.stephengold.joltjni.Vec3;
+import com.github.stephengold.joltjni.enumerate.EShapeSubType;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.junit.Assert;
+import org.junit.Test;
+import testjoltjni.TestUtils;
+
+/**
+ * Automated JUnit4 tests for {@code ShapeCache}.
+ *
+ * @author Stephen Gold sgold@sonic.net
+ */
+public class Test018 {
+    // *************************************************************************
+    // new methods exposed
+
+    /**
+     * Store shapes in a cache file, reopen it, and restore them.
+     *
+     * @throws Exception if the cache file can't be accessed or a thread fails
+     */
+    @Test
+    public void test018() throws Exception {
+        TestUtils.loadNativeLibrary();
+        TestUtils.initializeNativeLibrary();
+
+        doContentHash();
+
+        Path path = Files.createTempFile("test018", ".cache");
+        Files.delete(path);
+        try {
+            doRoundTrip(path);
+        } finally {
+            Files.deleteIfExists(path);
+        }
+        try {
+            doSegments(path);
+        } finally {
+            Files.deleteIfExists(path);
+        }
+        try {
+            doSingleFlight(path);
+        } finally {
+            Files.deleteIfExists(path);
+        }
+
+        TestUtils.cleanup();
+    }
+    // *************************************************************************
+    // Java private methods
+
+    /**
+     * Verify that direct and heap buffers hash identically.
+     */
+    private static void doContentHash() {
+        byte[] bytes = "mesh collider source".getBytes(StandardCharsets.UTF_8);
+        ByteBuffer heap = ByteBuffer.wrap(bytes);
+        ByteBuffer direct = ByteBuffer.allocateDirect(bytes.length);
+        direct.put(bytes).flip();
+
+        long hash = ShapeCache.contentHash(heap);
+        Assert.assertEquals(hash, ShapeCache.contentHash(direct));
+        Assert.assertEquals(0, direct.position());
+        Assert.assertNotEquals(hash,
+                ShapeCache.contentHash(ByteBuffer.wrap(bytes, 1, 4)));
+    }
+
+    /**
+     * Store a box and a compound with a shared sub-shape, then restore them
+     * from a reopened cache.
+     *
+     * @param path the path to the cache file (not null)
+     * @throws IOException if the cache file can't be accessed
+     */
+    private static void doRoundTrip(Path path) throws IOException {
+        int segmentBytes = 4096;
+        BoxShape box = new BoxShape(1f, 2f, 3f);
+        StaticCompoundShapeSettings compoundSettings
+                = new StaticCompoundShapeSettings();
+        for (int i = 0; i < 40; ++i) {
+            compoundSettings.addShape(3f * i, 0f, 0f, box);
+        }
+
+        Vec3 compoundMax;
+        try (ShapeCache cache = new ShapeCache(path, segmentBytes)) {
+            Assert.assertTrue(cache.put(1L, box));
+            Assert.assertFalse(cache.put(1L, box));
+            ShapeRefC compound = cache.getOrCreate(2L, compoundSettings);
+            Assert.assertEquals(
+                    EShapeSubType.StaticCompound, compound.getSubType());
+            compoundMax = compound.getLocalBounds().getMax();
+            Assert.assertEquals(2, cache.countEntries());
+        }
+
+        try (ShapeCache cache = new ShapeCache(path, segmentBytes)) {
+            Assert.assertEquals(2, cache.countEntries());
+            Assert.assertTrue(cache.contains(2L));
+            Assert.assertNull(cache.get(3L));
+
+            ShapeRefC restoredBox = cache.get(1L);
+            Assert.assertEquals(EShapeSubType.Box, restoredBox.getSubType());
+            TestUtils.assertEquals(1f, 2f, 3f,
+                    restoredBox.getLocalBounds().getMax(), 0f);
+
+            ShapeRefC restoredCompound = cache.get(2L);
+            Assert.assertEquals(EShapeSubType.StaticCompound,
+                    restoredCompound.getSubType());
+            Vec3 restoredMax = restoredCompound.getLocalBounds().getMax();
+            TestUtils.assertEquals(compoundMax.getX(), compoundMax.getY(),
+                    compoundMax.getZ(), restoredMax, 0f);
+
+            // Repeated lookups share a single native shape:
+            Assert.assertEquals(restoredCompound.targetVa(),
+                    cache.get(2L).targetVa());
+        }
+    }
+
+    /**
+     * Store more boxes than fit in one segment, then restore them from a
+     * reopened cache.
+     *
+     * @param path the path to the cache file (not null)
+     * @throws IOException if the cache file can't be accessed
+     */
+    private static void doSegments(Path path) throws IOException {
+        int segmentBytes = 4096;
+        int numBoxes = 200;
+        int numSegments;
+        try (ShapeCache cache = new ShapeCache(path, segmentBytes)) {
+            for (int i = 0; i < numBoxes; ++i) {
+                Assert.assertTrue(cache.put(i, new BoxShape(1f + i)));
+            }
+            numSegments = cache.countSegments();
+            Assert.assertTrue(numSegments > 1);
+        }
+        Assert.assertEquals(
+                (long) numSegments * segmentBytes, Files.size(path));
+
+        try (ShapeCache cache = new ShapeCache(path, segmentBytes)) {
+            Assert.assertEquals(numSegments, cache.countSegments());
+            Assert.assertEquals(numBoxes, cache.countEntries());
+            for (int i = 0; i < numBoxes; ++i) {
+                ShapeRefC box = cache.get(i);
+                float halfExtent = 1f + i;
+                TestUtils.assertEquals(halfExtent, halfExtent, halfExtent,
+                        box.getLocalBounds().getMax(), 0f);
+            }
+        }
+    }
+
+    /**
+     * Request the same missing shape from several threads at once and verify
+     * that it's baked only once.
+     *
+     * @param path the path to the cache file (not null)
+     * @throws Exception if the cache file can't be accessed or a thread fails
+     */
+    private static void doSingleFlight(Path path) throws Exception {
+        int numThreads = 8;
+        StaticCompoundShapeSettings settings
+                = new StaticCompoundShapeSettings();
+        BoxShape box = new BoxShape(1f);
+        for (int i = 0; i < 40; ++i) {
+            settings.addShape(3f * i, 0f, 0f, box);
+        }
+
+        try (ShapeCache cache = new ShapeCache(path, 1 << 16)) {
+            ExecutorService executor = Executors.newFixedThreadPool(numThreads);
+            Callable<Long> task
+                    = () -> cache.getOrCreate(7L, settings).targetVa();
+            List<Future<Long>> futures = new ArrayList<>(numThreads);
+            for (int i = 0; i < numThreads; ++i) {
+                futures.add(executor.submit(task));
+            }
+            long expected = futures.get(0).get();
+            for (Future<Long> future : futures) {
+                Assert.assertEquals(expected, (long) future.get());
+            }
+            executor.shutdown();
+
+            Assert.assertEquals(1, cache.countEntries());
+            Assert.assertEquals(expected, cache.get(7L).targetVa());
+        }
+    }
+}
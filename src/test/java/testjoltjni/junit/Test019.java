@@ -0,0 +1,175 @@
+/*
+Copyright (c) 2026 Stephen Gold
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+ */
+package testjoltjni.junit;
+
+import com.github.stephengold.joltjni.BoxShape;
+import com.github.stephengold.joltjni.ByteBufferStreamIn;
+import com.github.stephengold.joltjni.ByteBufferStreamOut;
+import com.github.stephengold.joltjni.ChannelStreamIn;
+import com.github.stephengold.joltjni.ChannelStreamOut;
+import com.github.stephengold.joltjni.Jolt;
+import com.github.stephengold.joltjni.Shape;
+import com.github.stephengold.joltjni.ShapeRefC;
+import com.github.stephengold.joltjni.ShapeResult;
+import com.github.stephengold.joltjni.StateRecorderImpl;
+import com.github.stephengold.joltjni.StreamIn;
+import com.github.stephengold.joltjni.enumerate.EShapeSubType;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import org.junit.Assert;
+import org.junit.Test;
+import testjoltjni.TestUtils;
+
+/**
+ * Automated JUnit4 tests for the {@code ByteBuffer} and NIO-channel stream
+ * adapters.
+ *
+ * @author Stephen Gold sgold@sonic.net
+ */
+public class Test019 {
+    // *************************************************************************
+    // new methods exposed
+
+    /**
+     * Serialize a shape through each kind of stream and restore it.
+     *
+     * @throws IOException if a channel fails
+     */
+    @Test
+    public void test019() throws IOException {
+        TestUtils.loadNativeLibrary();
+        TestUtils.initializeNativeLibrary();
+
+        BoxShape box = new BoxShape(1f, 2f, 3f);
+        doByteBuffers(box);
+        doChannels(box);
+        doStateRecorder();
+
+        TestUtils.cleanup();
+    }
+    // *************************************************************************
+    // Java private methods
+
+    /**
+     * Round-trip a shape through a growable {@code ByteBufferStreamOut} and a
+     * {@code ByteBufferStreamIn}, and test overflow of a fixed buffer.
+     *
+     * @param box the shape to serialize (not null, unaffected)
+     */
+    private static void doByteBuffers(BoxShape box) {
+        // A tiny initial capacity forces the buffer to grow several times:
+        ByteBufferStreamOut out = new ByteBufferStreamOut(4);
+        box.saveBinaryState(out);
+        Assert.assertFalse(out.isFailed());
+        ByteBuffer data = out.toByteBuffer();
+        int numBytes = out.size();
+        Assert.assertEquals(numBytes, data.remaining());
+        out.close();
+
+        ByteBufferStreamIn in = new ByteBufferStreamIn(data);
+        verifyRestore(in);
+        Assert.assertFalse(in.isEof());
+        Assert.assertEquals(numBytes, in.getPosition());
+        in.close();
+
+        ByteBuffer small = Jolt.newDirectByteBuffer(numBytes - 1);
+        ByteBufferStreamOut fixed = new ByteBufferStreamOut(small);
+        box.saveBinaryState(fixed);
+        Assert.assertTrue(fixed.isFailed());
+        fixed.close();
+    }
+
+    /**
+     * Round-trip a shape through NIO channels, using staging buffers smaller
+     * than the serialized data.
+     *
+     * @param box the shape to serialize (not null, unaffected)
+     * @throws IOException if a channel fails
+     */
+    private static void doChannels(BoxShape box) throws IOException {
+        ByteArrayOutputStream sink = new ByteArrayOutputStream();
+        ChannelStreamOut out
+                = new ChannelStreamOut(Channels.newChannel(sink), 8);
+        box.saveBinaryState(out);
+        out.flush();
+        Assert.assertEquals(sink.size(), out.getBytesWritten());
+        out.close();
+
+        byte[] bytes = sink.toByteArray();
+        ChannelStreamIn in = new ChannelStreamIn(
+                Channels.newChannel(new ByteArrayInputStream(bytes)), 8);
+        verifyRestore(in);
+        Assert.assertNull(in.getError());
+        Assert.assertEquals(bytes.length, in.getBytesRead());
+        in.close();
+
+        // Invalid arguments should be rejected:
+        try {
+            new ChannelStreamIn(null, 8);
+            Assert.fail("Expected an IllegalArgumentException");
+        } catch (IllegalArgumentException exception) {
+            // expected
+        }
+        try {
+            new ChannelStreamOut(Channels.newChannel(sink), 0);
+            Assert.fail("Expected an IllegalArgumentException");
+        } catch (IllegalArgumentException exception) {
+            // expected
+        }
+    }
+
+    /**
+     * Copy recorded state to and from direct buffers.
+     */
+    private static void doStateRecorder() {
+        ByteBuffer source = Jolt.newDirectByteBuffer(5);
+        source.put(new byte[]{1, 2, 3, 4, 5}).flip();
+        StateRecorderImpl recorder = new StateRecorderImpl();
+        recorder.writeBytes(source);
+        Assert.assertFalse(source.hasRemaining());
+
+        ByteBuffer copy = Jolt.newDirectByteBuffer(8);
+        Assert.assertEquals(5, recorder.getData(copy));
+        Assert.assertEquals(5, copy.position());
+        for (int i = 0; i < 5; ++i) {
+            Assert.assertEquals(i + 1, copy.get(i));
+        }
+        recorder.close();
+    }
+
+    /**
+     * Restore a box shape from the specified stream and verify it.
+     *
+     * @param stream the stream to read (not null)
+     */
+    private static void verifyRestore(StreamIn stream) {
+        ShapeResult result = Shape.sRestoreFromBinaryState(stream);
+        Assert.assertFalse(result.hasError());
+        ShapeRefC restored = result.get();
+        Assert.assertEquals(EShapeSubType.Box, restored.getSubType());
+        TestUtils.assertEquals(
+                1f, 2f, 3f, restored.getLocalBounds().getMax(), 0f);
+    }
+}
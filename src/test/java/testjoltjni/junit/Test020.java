@@ -0,0 +1,244 @@
+/*
+Copyright (c) 2026 Stephen Gold
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+ */
+package testjoltjni.junit;
+
+import com.github.stephengold.joltjni.BodyCreationSettings;
+import com.github.stephengold.joltjni.BodyFilter;
+import com.github.stephengold.joltjni.BoxShape;
+import com.github.stephengold.joltjni.CapsuleShape;
+import com.github.stephengold.joltjni.CharacterCrowd;
+import com.github.stephengold.joltjni.CharacterVirtual;
+import com.github.stephengold.joltjni.CharacterVirtualSettings;
+import com.github.stephengold.joltjni.ExtendedUpdateSettings;
+import com.github.stephengold.joltjni.Jolt;
+import com.github.stephengold.joltjni.JobSystemThreadPool;
+import com.github.stephengold.joltjni.PhysicsSystem;
+import com.github.stephengold.joltjni.Quat;
+import com.github.stephengold.joltjni.RVec3;
+import com.github.stephengold.joltjni.ShapeFilter;
+import com.github.stephengold.joltjni.Vec3;
+import com.github.stephengold.joltjni.enumerate.EActivation;
+import com.github.stephengold.joltjni.enumerate.EGroundState;
+import com.github.stephengold.joltjni.enumerate.EMotionType;
+import com.github.stephengold.joltjni.readonly.ConstCharacterVirtual;
+import com.github.stephengold.joltjni.readonly.ConstContact;
+import java.nio.DoubleBuffer;
+import java.nio.FloatBuffer;
+import java.nio.IntBuffer;
+import org.junit.Assert;
+import org.junit.Test;
+import testjoltjni.TestUtils;
+
+/**
+ * Automated JUnit4 tests for parallel updates by {@code CharacterCrowd}.
+ *
+ * @author Stephen Gold sgold@sonic.net
+ */
+public class Test020 {
+    // *************************************************************************
+    // constants
+
+    /**
+     * number of characters in the test crowd
+     */
+    final private static int numCharacters = 4;
+    // *************************************************************************
+    // new methods exposed
+
+    /**
+     * Drop a crowd onto a floor and walk one member sideways.
+     */
+    @Test
+    public void test020() {
+        TestUtils.loadNativeLibrary();
+        TestUtils.initializeNativeLibrary();
+
+        PhysicsSystem system = TestUtils.newPhysicsSystem(1);
+        BodyCreationSettings floorSettings = new BodyCreationSettings(
+                new BoxShape(50f, 1f, 50f), new RVec3(0., -1., 0.),
+                new Quat(), EMotionType.Static, TestUtils.objLayerNonMoving);
+        system.getBodyInterface()
+                .createAndAddBody(floorSettings, EActivation.DontActivate);
+        system.optimizeBroadPhase();
+
+        CharacterVirtualSettings settings = new CharacterVirtualSettings();
+        settings.setShape(new CapsuleShape(0.5f, 0.3f));
+        CharacterCrowd crowd = new CharacterCrowd(2f);
+        CharacterVirtual[] characters = new CharacterVirtual[numCharacters];
+        for (int i = 0; i < numCharacters; ++i) {
+            RVec3 location = new RVec3(3. * i, 0.9, 0.);
+            CharacterVirtual character = new CharacterVirtual(
+                    settings, location, new Quat(), 0L, system);
+            characters[i] = character;
+            int index = crowd.add(character);
+            Assert.assertEquals(i, index);
+            Assert.assertSame(
+                    crowd, character.getCharacterVsCharacterCollision());
+        }
+        Assert.assertEquals(numCharacters, crowd.countMembers());
+
+        // A character can't be added twice:
+        try {
+            crowd.add(characters[0]);
+            Assert.fail("Expected an IllegalArgumentException");
+        } catch (IllegalArgumentException exception) {
+            // expected
+        }
+        Assert.assertEquals(numCharacters, crowd.countMembers());
+
+        FloatBuffer velocities = Jolt.newDirectFloatBuffer(3 * numCharacters);
+        DoubleBuffer positions = Jolt.newDirectDoubleBuffer(3 * numCharacters);
+        IntBuffer groundStates = Jolt.newDirectIntBuffer(numCharacters);
+        FloatBuffer normals = Jolt.newDirectFloatBuffer(3 * numCharacters);
+        velocities.put(0, 1f); // walk member #0 in the +X direction
+
+        JobSystemThreadPool jobSystem = new JobSystemThreadPool(
+                Jolt.cMaxPhysicsJobs, Jolt.cMaxPhysicsBarriers);
+        ExtendedUpdateSettings updateSettings = new ExtendedUpdateSettings();
+        BodyFilter bodyFilter = new BodyFilter();
+        ShapeFilter shapeFilter = new ShapeFilter();
+        Vec3 gravity = new Vec3(0f, -9.81f, 0f);
+        int numSteps = 60;
+        float timeStep = 1f / numSteps;
+        for (int step = 0; step < numSteps; ++step) {
+            crowd.update(timeStep, gravity, updateSettings,
+                    system.getDefaultBroadPhaseLayerFilter(
+                            TestUtils.objLayerMoving),
+                    system.getDefaultLayerFilter(TestUtils.objLayerMoving),
+                    bodyFilter, shapeFilter, jobSystem, velocities,
+                    positions, groundStates, normals);
+        }
+
+        for (int i = 0; i < numCharacters; ++i) {
+            Assert.assertEquals(EGroundState.OnGround.ordinal(),
+                    groundStates.get(i));
+            Assert.assertEquals(1f, normals.get(3 * i + 1), 1e-3f);
+            Assert.assertEquals(0.8, positions.get(3 * i + 1), 0.05);
+            RVec3 position = crowd.getMember(i).getPosition();
+            Assert.assertEquals(position.xx(), positions.get(3 * i), 0.);
+        }
+        Assert.assertEquals(1., positions.get(0), 0.05);
+        Assert.assertEquals(3., positions.get(3), 1e-3);
+
+        // Sequential updates, without writing any results:
+        crowd.update(timeStep, gravity, updateSettings,
+                system.getDefaultBroadPhaseLayerFilter(
+                        TestUtils.objLayerMoving),
+                system.getDefaultLayerFilter(TestUtils.objLayerMoving),
+                bodyFilter, shapeFilter, null, null, null, null, null);
+
+        // Removal moves the last member into the vacated slot:
+        CharacterVirtual last = crowd.getMember(numCharacters - 1);
+        crowd.remove(1);
+        Assert.assertEquals(numCharacters - 1, crowd.countMembers());
+        Assert.assertEquals(last.targetVa(), crowd.getMember(1).targetVa());
+        Assert.assertNull(characters[1].getCharacterVsCharacterCollision());
+
+        // A removed character can be added again:
+        Assert.assertEquals(numCharacters - 1, crowd.add(characters[1]));
+        Assert.assertSame(
+                crowd, characters[1].getCharacterVsCharacterCollision());
+
+        // Closing the crowd resets the interfaces of its members:
+        TestUtils.testClose(crowd);
+        if (!crowd.hasAssignedNativeObject()) {
+            for (CharacterVirtual character : characters) {
+                Assert.assertNull(
+                        character.getCharacterVsCharacterCollision());
+            }
+        }
+        overlapPair(system, jobSystem);
+
+        TestUtils.testClose(jobSystem);
+        TestUtils.cleanupPhysicsSystem(system);
+        TestUtils.cleanup();
+    }
+    // *************************************************************************
+    // private methods
+
+    /**
+     * Verify that 2 overlapping members of a crowd detect each other and
+     * separate.
+     *
+     * @param system the physics system to use (not null)
+     * @param jobSystem the job system to use (not null)
+     */
+    private static void overlapPair(
+            PhysicsSystem system, JobSystemThreadPool jobSystem) {
+        CharacterVirtualSettings settings = new CharacterVirtualSettings();
+        settings.setShape(new CapsuleShape(0.5f, 0.3f));
+        CharacterCrowd crowd = new CharacterCrowd(2f);
+        CharacterVirtual a = new CharacterVirtual(
+                settings, new RVec3(20., 0.8, 0.), new Quat(), 0L, system);
+        CharacterVirtual b = new CharacterVirtual(
+                settings, new RVec3(20.4, 0.8, 0.), new Quat(), 0L, system);
+        crowd.add(a);
+        crowd.add(b);
+
+        ExtendedUpdateSettings updateSettings = new ExtendedUpdateSettings();
+        BodyFilter bodyFilter = new BodyFilter();
+        ShapeFilter shapeFilter = new ShapeFilter();
+        Vec3 gravity = new Vec3(0f, -9.81f, 0f);
+        int numSteps = 60;
+        float timeStep = 1f / numSteps;
+        DoubleBuffer positions = Jolt.newDirectDoubleBuffer(6);
+        for (int step = 0; step < numSteps; ++step) {
+            crowd.update(timeStep, gravity, updateSettings,
+                    system.getDefaultBroadPhaseLayerFilter(
+                            TestUtils.objLayerMoving),
+                    system.getDefaultLayerFilter(TestUtils.objLayerMoving),
+                    bodyFilter, shapeFilter, jobSystem, null, positions,
+                    null, null);
+            if (step == 0) {
+                Assert.assertTrue(touches(a, b));
+                Assert.assertTrue(touches(b, a));
+            }
+        }
+
+        // The pair should have pushed each other apart:
+        double separation = positions.get(3) - positions.get(0);
+        Assert.assertTrue(separation > 0.5);
+
+        TestUtils.testClose(crowd);
+    }
+
+    /**
+     * Test whether the specified character has an active contact with the
+     * other character.
+     *
+     * @param character the character to test (not null, unaffected)
+     * @param other the other character (not null, unaffected)
+     * @return {@code true} if in contact, otherwise {@code false}
+     */
+    private static boolean touches(
+            CharacterVirtual character, CharacterVirtual other) {
+        for (ConstContact contact : character.getActiveContacts()) {
+            ConstCharacterVirtual characterB = contact.getCharacterB();
+            if (characterB != null
+                    && characterB.targetVa() == other.targetVa()) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+}
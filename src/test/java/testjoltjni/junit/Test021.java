@@ -0,0 +1,123 @@
+/*
+Copyright (c) 2026 Stephen Gold
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+ */
+package testjoltjni.junit;
+
+import com.github.stephengold.joltjni.AllHitCollideShapeCollector;
+import com.github.stephengold.joltjni.CapsuleShape;
+import com.github.stephengold.joltjni.CharacterVirtual;
+import com.github.stephengold.joltjni.CharacterVirtualSettings;
+import com.github.stephengold.joltjni.CharacterVsCharacterCollisionGrid;
+import com.github.stephengold.joltjni.ClosestHitCastShapeCollector;
+import com.github.stephengold.joltjni.CollideShapeSettings;
+import com.github.stephengold.joltjni.PhysicsSystem;
+import com.github.stephengold.joltjni.Quat;
+import com.github.stephengold.joltjni.RMat44;
+import com.github.stephengold.joltjni.RVec3;
+import com.github.stephengold.joltjni.ShapeCastSettings;
+import com.github.stephengold.joltjni.Vec3;
+import org.junit.Assert;
+import org.junit.Test;
+import testjoltjni.TestUtils;
+
+/**
+ * Automated JUnit4 tests for incremental binning and queries
+ * by {@code CharacterVsCharacterCollisionGrid}.
+ *
+ * @author Stephen Gold sgold@sonic.net
+ */
+public class Test021 {
+    // *************************************************************************
+    // new methods exposed
+
+    /**
+     * Add characters to a grid, move some of them, remove one, and query
+     * the others.
+     */
+    @Test
+    public void test021() {
+        TestUtils.loadNativeLibrary();
+        TestUtils.initializeNativeLibrary();
+
+        PhysicsSystem system = TestUtils.newPhysicsSystem(1);
+        CharacterVirtualSettings settings = new CharacterVirtualSettings();
+        settings.setShape(new CapsuleShape(0.5f, 0.3f));
+
+        CharacterVsCharacterCollisionGrid grid
+                = new CharacterVsCharacterCollisionGrid(2f, 0.25f);
+        Assert.assertEquals(2f, grid.getCellSize(), 0f);
+        Assert.assertEquals(0.25f, grid.getMargin(), 0f);
+
+        int numCharacters = 3;
+        CharacterVirtual[] characters = new CharacterVirtual[numCharacters];
+        for (int i = 0; i < numCharacters; ++i) {
+            RVec3 location = new RVec3(0.5 + 10. * i, 1., 0.5);
+            characters[i] = new CharacterVirtual(
+                    settings, location, new Quat(), 0L, system);
+            grid.add(characters[i]);
+        }
+        Assert.assertEquals(numCharacters, grid.countCharacters());
+        Assert.assertEquals(0, grid.update());
+
+        // Moving within a cell doesn't re-bin:
+        characters[0].setPosition(new RVec3(0.7, 1., 0.7));
+        Assert.assertEquals(0, grid.update());
+
+        // Moving to a different cell does:
+        characters[1].setPosition(new RVec3(-30., 1., 0.5));
+        characters[2].setPosition(new RVec3(20.5, 1., 5.));
+        Assert.assertEquals(2, grid.update());
+        Assert.assertEquals(0, grid.update());
+
+        // Removal moves the last character into the vacated slot:
+        grid.remove(characters[0]);
+        Assert.assertEquals(numCharacters - 1, grid.countCharacters());
+        Assert.assertEquals(characters[2].targetVa(),
+                grid.getCharacters()[0].targetVa());
+        Assert.assertEquals(characters[1].targetVa(),
+                grid.getCharacters()[1].targetVa());
+        characters[2].setPosition(new RVec3());
+        Assert.assertEquals(1, grid.update());
+
+        // Overlap characters #1 and #2, then query them:
+        characters[1].setPosition(new RVec3(0.4, 0., 0.));
+        grid.update();
+        AllHitCollideShapeCollector collideCollector
+                = new AllHitCollideShapeCollector();
+        grid.collideCharacter(characters[2],
+                characters[2].getCenterOfMassTransform(),
+                new CollideShapeSettings(), new RVec3(), collideCollector);
+        Assert.assertEquals(1, collideCollector.countHits());
+
+        ClosestHitCastShapeCollector castCollector
+                = new ClosestHitCastShapeCollector();
+        RMat44 startTransform = RMat44.sTranslation(new RVec3(5., 0., 0.));
+        grid.castCharacter(characters[0], startTransform,
+                new Vec3(-10f, 0f, 0f), new ShapeCastSettings(), new RVec3(),
+                castCollector);
+        Assert.assertTrue(castCollector.hadHit());
+        Assert.assertEquals(0.4f, castCollector.getHit().getFraction(), 0.01f);
+
+        TestUtils.testClose(grid);
+        TestUtils.cleanupPhysicsSystem(system);
+        TestUtils.cleanup();
+    }
+}
@@ -0,0 +1,134 @@
+/*
+Copyright (c) 2026 Stephen Gold
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+ */
+package testjoltjni.junit;
+
+import com.github.stephengold.joltjni.Body;
+import com.github.stephengold.joltjni.BodyCreationSettings;
+import com.github.stephengold.joltjni.BodyInterface;
+import com.github.stephengold.joltjni.BoxShape;
+import com.github.stephengold.joltjni.Jolt;
+import com.github.stephengold.joltjni.PhysicsSystem;
+import com.github.stephengold.joltjni.VehicleConstraint;
+import com.github.stephengold.joltjni.VehicleConstraintSettings;
+import com.github.stephengold.joltjni.VehicleFleet;
+import com.github.stephengold.joltjni.Wheel;
+import com.github.stephengold.joltjni.WheelSettingsWv;
+import com.github.stephengold.joltjni.WheeledVehicleController;
+import com.github.stephengold.joltjni.WheeledVehicleControllerSettings;
+import com.github.stephengold.joltjni.enumerate.EActivation;
+import java.nio.FloatBuffer;
+import org.junit.Assert;
+import org.junit.Test;
+import testjoltjni.TestUtils;
+
+/**
+ * Automated JUnit4 tests for packed driver inputs and telemetry in
+ * {@code VehicleFleet}.
+ *
+ * @author Stephen Gold sgold@sonic.net
+ */
+public class Test022 {
+    // *************************************************************************
+    // new methods exposed
+
+    /**
+     * Apply inputs to a fleet of 2 vehicles and gather their telemetry.
+     */
+    @Test
+    public void test022() {
+        TestUtils.loadNativeLibrary();
+        TestUtils.initializeNativeLibrary();
+
+        PhysicsSystem system = TestUtils.newPhysicsSystem(2);
+        BodyInterface bi = system.getBodyInterface();
+        VehicleFleet fleet = new VehicleFleet();
+        int[] wheelCounts = {1, 3};
+        VehicleConstraint[] vehicles = new VehicleConstraint[2];
+        for (int i = 0; i < 2; ++i) {
+            VehicleConstraintSettings vcs = new VehicleConstraintSettings();
+            for (int j = 0; j < wheelCounts[i]; ++j) {
+                vcs.addWheels(new WheelSettingsWv());
+            }
+            vcs.setController(new WheeledVehicleControllerSettings());
+            BodyCreationSettings bcs = new BodyCreationSettings()
+                    .setShape(new BoxShape(2f));
+            Body body = bi.createBody(bcs);
+            bi.addBody(body, EActivation.DontActivate);
+            vehicles[i] = new VehicleConstraint(body, vcs);
+
+            Assert.assertEquals(i, fleet.add(vehicles[i]));
+        }
+        Assert.assertEquals(2, fleet.countVehicles());
+        int stride = fleet.telemetryStride();
+        Assert.assertEquals(2 + 3 * 3, stride);
+
+        // Drive only the 2nd vehicle:
+        FloatBuffer inputs = Jolt.newDirectFloatBuffer(
+                2 * VehicleFleet.numInputFloats);
+        inputs.put(0f).put(0f).put(0f).put(0f);
+        inputs.put(0.5f).put(-0.25f).put(0.125f).put(1f);
+        fleet.setDriverInputs(inputs, bi);
+
+        WheeledVehicleController controller
+                = (WheeledVehicleController) vehicles[1].getController();
+        Assert.assertEquals(0.5f, controller.getForwardInput(), 0f);
+        Assert.assertEquals(-0.25f, controller.getRightInput(), 0f);
+        Assert.assertEquals(0.125f, controller.getBrakeInput(), 0f);
+        Assert.assertEquals(1f, controller.getHandBrakeInput(), 0f);
+        Assert.assertFalse(vehicles[0].getVehicleBody().isActive());
+        Assert.assertTrue(vehicles[1].getVehicleBody().isActive());
+
+        FloatBuffer telemetry = Jolt.newDirectFloatBuffer(2 * stride);
+        fleet.getTelemetry(telemetry);
+        for (int i = 0; i < 2; ++i) {
+            int base = i * stride;
+            controller = (WheeledVehicleController) vehicles[i].getController();
+            Assert.assertEquals(controller.getEngine().getCurrentRpm(),
+                    telemetry.get(base), 0f);
+            Assert.assertEquals(
+                    controller.getTransmission().getCurrentGear(),
+                    telemetry.get(base + 1), 0f);
+            for (int j = 0; j < 3; ++j) {
+                int wheelBase = base + 2 + 3 * j;
+                if (j < wheelCounts[i]) {
+                    Wheel wheel = vehicles[i].getWheel(j);
+                    Assert.assertEquals(wheel.hasContact() ? 1f : 0f,
+                            telemetry.get(wheelBase), 0f);
+                    Assert.assertEquals(wheel.getSuspensionLength(),
+                            telemetry.get(wheelBase + 1), 0f);
+                    Assert.assertEquals(wheel.getAngularVelocity(),
+                            telemetry.get(wheelBase + 2), 0f);
+                } else {
+                    Assert.assertEquals(0f, telemetry.get(wheelBase), 0f);
+                }
+            }
+        }
+
+        // Removing the larger vehicle shrinks the stride:
+        fleet.remove(1);
+        Assert.assertEquals(1, fleet.countVehicles());
+        Assert.assertEquals(2 + 3, fleet.telemetryStride());
+
+        TestUtils.cleanupPhysicsSystem(system);
+        TestUtils.cleanup();
+    }
+}
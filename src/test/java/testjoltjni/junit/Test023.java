@@ -0,0 +1,159 @@
+/*
+Copyright (c) 2026 Stephen Gold
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+ */
+package testjoltjni.junit;
+
+import com.github.stephengold.joltjni.Body;
+import com.github.stephengold.joltjni.BodyCreationSettings;
+import com.github.stephengold.joltjni.BodyInterface;
+import com.github.stephengold.joltjni.BoxShape;
+import com.github.stephengold.joltjni.PhysicsSystem;
+import com.github.stephengold.joltjni.RVec3;
+import com.github.stephengold.joltjni.VehicleCollisionTesterCastSphere;
+import com.github.stephengold.joltjni.VehicleCollisionTesterRay;
+import com.github.stephengold.joltjni.VehicleConstraint;
+import com.github.stephengold.joltjni.VehicleConstraintSettings;
+import com.github.stephengold.joltjni.VehicleFleet;
+import com.github.stephengold.joltjni.VehicleLodPolicy;
+import com.github.stephengold.joltjni.WheelSettingsWv;
+import com.github.stephengold.joltjni.WheeledVehicleControllerSettings;
+import com.github.stephengold.joltjni.enumerate.EActivation;
+import org.junit.Assert;
+import org.junit.Test;
+import testjoltjni.TestUtils;
+
+/**
+ * Automated JUnit4 tests for distance-based tiers in
+ * {@code VehicleLodPolicy}.
+ *
+ * @author Stephen Gold sgold@sonic.net
+ */
+public class Test023 {
+    // *************************************************************************
+    // new methods exposed
+
+    /**
+     * Assign 3 vehicles to tiers by distance, then by speed, and verify that
+     * original collision testers are restored.
+     */
+    @Test
+    public void test023() {
+        TestUtils.loadNativeLibrary();
+        TestUtils.initializeNativeLibrary();
+
+        PhysicsSystem system = TestUtils.newPhysicsSystem(3);
+        BodyInterface bi = system.getBodyInterface();
+        VehicleFleet fleet = new VehicleFleet();
+        double[] distances = {5., 50., 500.};
+        VehicleConstraint[] vehicles = new VehicleConstraint[3];
+        for (int i = 0; i < 3; ++i) {
+            VehicleConstraintSettings vcs = new VehicleConstraintSettings();
+            vcs.addWheels(new WheelSettingsWv());
+            vcs.setController(new WheeledVehicleControllerSettings());
+            BodyCreationSettings bcs = new BodyCreationSettings()
+                    .setShape(new BoxShape(2f))
+                    .setPosition(distances[i], 0., 0.);
+            Body body = bi.createBody(bcs);
+            bi.addBody(body, EActivation.DontActivate);
+            vehicles[i] = new VehicleConstraint(body, vcs);
+            fleet.add(vehicles[i]);
+        }
+
+        VehicleCollisionTesterRay near
+                = new VehicleCollisionTesterRay(TestUtils.objLayerMoving);
+        VehicleCollisionTesterCastSphere far
+                = new VehicleCollisionTesterCastSphere(
+                        TestUtils.objLayerMoving, 0.5f);
+        VehicleLodPolicy policy = new VehicleLodPolicy();
+        Assert.assertEquals(0, policy.addTier(20f, 1, near, 0, 0));
+        Assert.assertEquals(1, policy.addTier(100f, 2, null, 0, 0));
+        Assert.assertEquals(2, policy.addTier(1000f, 8, far, 2, 1));
+        Assert.assertEquals(3, policy.countTiers());
+
+        RVec3 observer = new RVec3();
+        policy.apply(fleet, observer);
+        for (int i = 0; i < 3; ++i) {
+            Assert.assertEquals(i, policy.getTier(i));
+            Assert.assertEquals(1, policy.countVehiclesInTier(i));
+        }
+        int[] expectedSteps = {1, 2, 8};
+        for (int i = 0; i < 3; ++i) {
+            Assert.assertEquals(expectedSteps[i],
+                    vehicles[i].getNumStepsBetweenCollisionTestActive());
+        }
+        Assert.assertSame(near, vehicles[0].getVehicleCollisionTester());
+        Assert.assertNull(vehicles[1].getVehicleCollisionTester());
+        Assert.assertSame(far, vehicles[2].getVehicleCollisionTester());
+        Assert.assertEquals(2, vehicles[2].getNumVelocityStepsOverride());
+        Assert.assertEquals(1, vehicles[2].getNumPositionStepsOverride());
+        Assert.assertEquals(1.625f, policy.getWheelCastsPerStep(), 1e-6f);
+        Assert.assertEquals(1.375f, policy.getWheelCastsSavedPerStep(), 1e-6f);
+
+        // A fast vehicle is promoted one tier closer:
+        policy.setFastSpeed(10f);
+        bi.setLinearVelocity(
+                vehicles[2].getVehicleBody().getId(), 20f, 0f, 0f);
+        policy.apply(fleet, observer);
+        Assert.assertEquals(1, policy.getTier(2));
+        Assert.assertEquals(2, policy.countVehiclesInTier(1));
+        Assert.assertEquals(0, policy.countVehiclesInTier(2));
+        Assert.assertEquals(
+                2, vehicles[2].getNumStepsBetweenCollisionTestActive());
+
+        // A 2nd observer near the farthest vehicle:
+        policy.setFastSpeed(Float.POSITIVE_INFINITY);
+        policy.apply(fleet, observer, new RVec3(490., 0., 0.));
+        Assert.assertEquals(0, policy.getTier(2));
+        Assert.assertSame(near, vehicles[2].getVehicleCollisionTester());
+
+        // A tier without a tester restores each vehicle's original tester:
+        VehicleCollisionTesterRay own
+                = new VehicleCollisionTesterRay(TestUtils.objLayerMoving);
+        vehicles[1].setVehicleCollisionTester(own);
+        policy.apply(fleet, new RVec3(420., 0., 0.));
+        Assert.assertEquals(2, policy.getTier(1));
+        Assert.assertSame(far, vehicles[1].getVehicleCollisionTester());
+        Assert.assertEquals(1, policy.getTier(2));
+        Assert.assertNull(vehicles[2].getVehicleCollisionTester());
+        policy.apply(fleet, observer);
+        Assert.assertEquals(1, policy.getTier(1));
+        Assert.assertSame(own, vehicles[1].getVehicleCollisionTester());
+
+        // Beyond the last tier's limit, vehicles remain in the last tier:
+        RVec3 distant = new RVec3(-5000., 0., 0.);
+        policy.apply(fleet, distant);
+        for (int i = 0; i < 3; ++i) {
+            Assert.assertEquals(2, policy.getTier(i));
+            Assert.assertSame(far, vehicles[i].getVehicleCollisionTester());
+        }
+
+        // A vehicle that leaves the fleet is forgotten:
+        fleet.remove(1);
+        policy.apply(fleet, distant);
+        Assert.assertEquals(2, fleet.add(vehicles[1]));
+        policy.apply(fleet, observer);
+        Assert.assertEquals(1, policy.getTier(2));
+        Assert.assertSame(far, vehicles[1].getVehicleCollisionTester());
+
+        TestUtils.cleanupPhysicsSystem(system);
+        TestUtils.cleanup();
+    }
+}
@@ -0,0 +1,170 @@
+/*
+Copyright (c) 2026 Stephen Gold
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+ */
+package testjoltjni.junit;
+
+import com.github.stephengold.joltjni.Face;
+import com.github.stephengold.joltjni.PhysicsSystem;
+import com.github.stephengold.joltjni.Quat;
+import com.github.stephengold.joltjni.RVec3;
+import com.github.stephengold.joltjni.SoftBodyCreationSettings;
+import com.github.stephengold.joltjni.SoftBodySharedSettings;
+import com.github.stephengold.joltjni.SoftBodyVertexExport;
+import com.github.stephengold.joltjni.Vec3;
+import com.github.stephengold.joltjni.Vertex;
+import com.github.stephengold.joltjni.enumerate.EActivation;
+import java.nio.ByteBuffer;
+import org.junit.Assert;
+import org.junit.Test;
+import testjoltjni.TestUtils;
+
+/**
+ * Automated JUnit4 tests for {@code SoftBodyVertexExport}.
+ *
+ * @author Stephen Gold sgold@sonic.net
+ */
+public class Test024 {
+    // *************************************************************************
+    // constants
+
+    /**
+     * number of vertices along each edge of the test cloth
+     */
+    final private static int gridSize = 3;
+    /**
+     * total number of vertices in the test cloth
+     */
+    final private static int numVertices = gridSize * gridSize;
+    // *************************************************************************
+    // new methods exposed
+
+    /**
+     * Export a horizontal cloth using each encoding.
+     */
+    @Test
+    public void test024() {
+        TestUtils.loadNativeLibrary();
+        TestUtils.initializeNativeLibrary();
+
+        PhysicsSystem system = TestUtils.newPhysicsSystem(1);
+        SoftBodySharedSettings shared = new SoftBodySharedSettings();
+        for (int z = 0; z < gridSize; ++z) {
+            for (int x = 0; x < gridSize; ++x) {
+                Vertex vertex = new Vertex();
+                vertex.setPosition(new Vec3(x - 1f, 0f, z - 1f));
+                shared.addVertex(vertex);
+            }
+        }
+        for (int z = 0; z < gridSize - 1; ++z) {
+            for (int x = 0; x < gridSize - 1; ++x) {
+                int start = x + z * gridSize;
+                Face face = new Face();
+                face.setVertex(0, start);
+                face.setVertex(1, start + gridSize);
+                face.setVertex(2, start + gridSize + 1);
+                shared.addFace(face);
+                face.setVertex(1, start + gridSize + 1);
+                face.setVertex(2, start + 1);
+                shared.addFace(face);
+            }
+        }
+        shared.optimize();
+        SoftBodyCreationSettings sbcs = new SoftBodyCreationSettings(shared,
+                new RVec3(0., 5., 0.), new Quat(), TestUtils.objLayerMoving);
+        int bodyId = system.getBodyInterface()
+                .createAndAddSoftBody(sbcs, EActivation.Activate);
+
+        // 32-bit floats:
+        SoftBodyVertexExport export = new SoftBodyVertexExport(
+                16, 4, SoftBodyVertexExport.encodeFloat);
+        system.setSoftBodyVertexExport(export);
+        Assert.assertSame(export, system.getSoftBodyVertexExport());
+        export.capture(system);
+        SoftBodyVertexExport.Published capture = export.acquire();
+        Assert.assertEquals(1, capture.countBodies());
+        Assert.assertEquals(numVertices, capture.countVertices());
+        Assert.assertFalse(capture.isTruncated());
+        Assert.assertEquals(bodyId, capture.getBodyId(0));
+        Assert.assertEquals(0, capture.getFirstVertex(0));
+        Assert.assertEquals(numVertices, capture.getNumVertices(0));
+        Assert.assertEquals(1f, capture.getScale(0), 0f);
+        RVec3 origin = new RVec3();
+        capture.getOrigin(0, origin);
+        Assert.assertEquals(5., origin.yy(), 1e-6);
+
+        ByteBuffer buffer = capture.getVertexBuffer();
+        Assert.assertEquals(24, export.getVertexBytes());
+        for (int i = 0; i < numVertices; ++i) {
+            int offset = i * 24;
+            Assert.assertEquals(0f, buffer.getFloat(offset + 4), 1e-6f);
+            Assert.assertEquals(0f, buffer.getFloat(offset + 12), 1e-6f);
+            Assert.assertEquals(1f, buffer.getFloat(offset + 16), 1e-6f);
+            Assert.assertEquals(0f, buffer.getFloat(offset + 20), 1e-6f);
+        }
+        Assert.assertEquals(-1f, buffer.getFloat(0), 1e-6f);
+
+        // The next capture should publish the other buffer, leaving the
+        // previous view intact:
+        Assert.assertEquals(1L, capture.getSequence());
+        export.capture(system);
+        SoftBodyVertexExport.Published next = export.acquire();
+        Assert.assertEquals(2L, next.getSequence());
+        Assert.assertEquals(1L, capture.getSequence());
+        Assert.assertNotSame(buffer, next.getVertexBuffer());
+        Assert.assertNotSame(
+                capture.getRecordBuffer(), next.getRecordBuffer());
+        Assert.assertSame(buffer, capture.getVertexBuffer());
+        Assert.assertEquals(-1f, buffer.getFloat(0), 1e-6f);
+        Assert.assertEquals(numVertices, next.countVertices());
+
+        // Half-precision floats:
+        export = new SoftBodyVertexExport(
+                16, 4, SoftBodyVertexExport.encodeHalf);
+        export.capture(system);
+        buffer = export.acquire().getVertexBuffer();
+        Assert.assertEquals(12, export.getVertexBytes());
+        Assert.assertEquals((short) 0xbc00, buffer.getShort(0)); // -1
+        Assert.assertEquals((short) 0x3c00, buffer.getShort(8)); // +1
+
+        // Signed normalized 16-bit integers:
+        export = new SoftBodyVertexExport(
+                16, 4, SoftBodyVertexExport.encodeSnorm16);
+        export.capture(system);
+        capture = export.acquire();
+        buffer = capture.getVertexBuffer();
+        Assert.assertEquals(1f, capture.getScale(0), 1e-6f);
+        Assert.assertEquals(-32767, buffer.getShort(0));
+        Assert.assertEquals(32767, buffer.getShort(8));
+
+        // An export that's too small omits the body:
+        export = new SoftBodyVertexExport(
+                numVertices - 1, 4, SoftBodyVertexExport.encodeFloat);
+        export.capture(system);
+        capture = export.acquire();
+        Assert.assertEquals(0, capture.countBodies());
+        Assert.assertTrue(capture.isTruncated());
+        Assert.assertEquals(numVertices, capture.requiredVertices());
+
+        system.setSoftBodyVertexExport(null);
+        TestUtils.cleanupPhysicsSystem(system);
+        TestUtils.cleanup();
+    }
+}
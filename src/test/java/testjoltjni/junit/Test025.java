@@ -0,0 +1,110 @@
+/*
+Copyright (c) 2026 Stephen Gold
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+ */
+package testjoltjni.junit;
+
+import com.github.stephengold.joltjni.BatchedContactListener;
+import com.github.stephengold.joltjni.BodyCreationSettings;
+import com.github.stephengold.joltjni.BodyInterface;
+import com.github.stephengold.joltjni.BoxShape;
+import com.github.stephengold.joltjni.JobSystemSingleThreaded;
+import com.github.stephengold.joltjni.Jolt;
+import com.github.stephengold.joltjni.PhysicsSystem;
+import com.github.stephengold.joltjni.Quat;
+import com.github.stephengold.joltjni.RVec3;
+import com.github.stephengold.joltjni.TempAllocatorImpl;
+import com.github.stephengold.joltjni.enumerate.EActivation;
+import com.github.stephengold.joltjni.enumerate.EMotionType;
+import org.junit.Assert;
+import org.junit.Test;
+import testjoltjni.TestUtils;
+
+/**
+ * Automated JUnit4 tests for {@code BatchedContactListener}.
+ *
+ * @author Stephen Gold sgold@sonic.net
+ */
+public class Test025 {
+    // *************************************************************************
+    // constants
+
+    /**
+     * maximum number of threads that may record into the test listener
+     */
+    final private static int maxThreads = 2;
+    /**
+     * number of updates to simulate, each on a new thread
+     */
+    final private static int numUpdates = 3 * maxThreads;
+    // *************************************************************************
+    // new methods exposed
+
+    /**
+     * Record contacts from more threads than the listener has segments, one
+     * thread per update.
+     */
+    @Test
+    public void test025() {
+        TestUtils.loadNativeLibrary();
+        TestUtils.initializeNativeLibrary();
+
+        PhysicsSystem system = TestUtils.newPhysicsSystem(2);
+        BodyInterface bi = system.getBodyInterface();
+        BodyCreationSettings floorSettings = new BodyCreationSettings(
+                new BoxShape(10f, 1f, 10f), new RVec3(0., -1., 0.),
+                new Quat(), EMotionType.Static, TestUtils.objLayerNonMoving);
+        bi.createAndAddBody(floorSettings, EActivation.DontActivate);
+        BodyCreationSettings boxSettings = new BodyCreationSettings(
+                new BoxShape(0.5f), new RVec3(0., 0.49, 0.), new Quat(),
+                EMotionType.Dynamic, TestUtils.objLayerMoving);
+        bi.createAndAddBody(boxSettings, EActivation.Activate);
+        system.optimizeBroadPhase();
+
+        BatchedContactListener listener
+                = new BatchedContactListener(16, maxThreads);
+        system.setContactListener(listener);
+        TempAllocatorImpl tempAllocator = new TempAllocatorImpl(1 << 20);
+        JobSystemSingleThreaded jobSystem
+                = new JobSystemSingleThreaded(Jolt.cMaxPhysicsJobs);
+
+        for (int i = 0; i < numUpdates; ++i) {
+            /*
+             * The single-threaded job system runs every job on the thread
+             * that invokes update(), so each update records from a new thread:
+             */
+            Thread thread = new Thread(() -> system.update(
+                    1f / 60f, 1, tempAllocator, jobSystem));
+            thread.start();
+            try {
+                thread.join();
+            } catch (InterruptedException exception) {
+                throw new RuntimeException(exception);
+            }
+
+            Assert.assertEquals(0L, listener.countDropped());
+            Assert.assertTrue(listener.count() > 0);
+        }
+
+        TestUtils.testClose(jobSystem, tempAllocator);
+        TestUtils.cleanupPhysicsSystem(system);
+        TestUtils.cleanup();
+    }
+}
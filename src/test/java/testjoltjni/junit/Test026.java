@@ -0,0 +1,167 @@
+/*
+Copyright (c) 2026 Stephen Gold
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+ */
+package testjoltjni.junit;
+
+import com.github.stephengold.joltjni.BodyCreationSettings;
+import com.github.stephengold.joltjni.BodyInterface;
+import com.github.stephengold.joltjni.BoxShape;
+import com.github.stephengold.joltjni.Jolt;
+import com.github.stephengold.joltjni.PhysicsSystem;
+import com.github.stephengold.joltjni.Vec3;
+import com.github.stephengold.joltjni.enumerate.EActivation;
+import com.github.stephengold.joltjni.enumerate.EMotionType;
+import java.nio.FloatBuffer;
+import java.nio.IntBuffer;
+import org.junit.Assert;
+import org.junit.Test;
+import testjoltjni.TestUtils;
+
+/**
+ * Automated JUnit4 tests for the bulk force, impulse, and velocity methods of
+ * {@code BodyInterface}.
+ *
+ * @author Stephen Gold sgold@sonic.net
+ */
+public class Test026 {
+    // *************************************************************************
+    // new methods exposed
+
+    /**
+     * Apply bulk operations to a mix of dynamic, kinematic, and static bodies.
+     */
+    @Test
+    public void test026() {
+        TestUtils.loadNativeLibrary();
+        TestUtils.initializeNativeLibrary();
+
+        PhysicsSystem system = TestUtils.newPhysicsSystem(4);
+        BodyInterface bi = system.getBodyInterface();
+        int dynamicId = addBody(bi, EMotionType.Dynamic, 0.);
+        int staticId = addBody(bi, EMotionType.Static, 10.);
+        int kinematicId = addBody(bi, EMotionType.Kinematic, 20.);
+        int referenceId = addBody(bi, EMotionType.Dynamic, 30.);
+        Assert.assertFalse(bi.isActive(dynamicId));
+
+        // A non-zero velocity should wake the dynamic body only:
+        int[] ids = {dynamicId, staticId, kinematicId};
+        FloatBuffer velocities = Jolt.newDirectFloatBuffer(9);
+        velocities.put(0, 1f).put(3, 2f);
+        bi.setLinearVelocities(ids, 3, velocities);
+        TestUtils.assertEquals(1f, 0f, 0f, bi.getLinearVelocity(dynamicId), 0f);
+        TestUtils.assertEquals(0f, 0f, 0f, bi.getLinearVelocity(staticId), 0f);
+        TestUtils.assertEquals(
+                0f, 0f, 0f, bi.getLinearVelocity(kinematicId), 0f);
+        Assert.assertTrue(bi.isActive(dynamicId));
+        Assert.assertFalse(bi.isActive(staticId));
+        Assert.assertFalse(bi.isActive(kinematicId));
+
+        // Zero velocities shouldn't wake a sleeping body:
+        FloatBuffer omegas = Jolt.newDirectFloatBuffer(3);
+        bi.setLinearAndAngularVelocities(ids, 1, omegas, omegas);
+        bi.deactivateBody(dynamicId);
+        bi.setLinearVelocities(ids, 1, omegas);
+        Assert.assertFalse(bi.isActive(dynamicId));
+
+        // Bulk impulses should match the per-body method:
+        IntBuffer idBuffer = Jolt.newDirectIntBuffer(2);
+        idBuffer.put(0, staticId).put(1, dynamicId);
+        FloatBuffer impulses = Jolt.newDirectFloatBuffer(6);
+        impulses.put(0, 500f).put(4, 500f);
+        bi.addImpulses(idBuffer, 2, impulses, null);
+        bi.addImpulse(referenceId, new Vec3(0f, 500f, 0f));
+        Vec3 expected = bi.getLinearVelocity(referenceId);
+        Assert.assertTrue(expected.getY() > 0f);
+        TestUtils.assertEquals(expected.getX(), expected.getY(),
+                expected.getZ(), bi.getLinearVelocity(dynamicId), 0f);
+        TestUtils.assertEquals(0f, 0f, 0f, bi.getLinearVelocity(staticId), 0f);
+        Assert.assertTrue(bi.isActive(dynamicId));
+        Assert.assertFalse(bi.isActive(staticId));
+
+        // Forces should wake only dynamic bodies:
+        bi.deactivateBody(dynamicId);
+        int[] forceIds = {staticId, kinematicId, dynamicId};
+        FloatBuffer forces = Jolt.newDirectFloatBuffer(9);
+        for (int i = 0; i < 9; ++i) {
+            forces.put(i, 1000f);
+        }
+        bi.addForces(forceIds, 3, forces, null);
+        Assert.assertFalse(bi.isActive(staticId));
+        Assert.assertFalse(bi.isActive(kinematicId));
+        Assert.assertTrue(bi.isActive(dynamicId));
+
+        // Invalid ID arguments are rejected even without assertions:
+        try {
+            bi.addForces(forceIds, 4, forces, null);
+            Assert.fail("Expected an IllegalArgumentException");
+        } catch (IllegalArgumentException exception) {
+            // expected
+        }
+        try {
+            bi.addImpulses(idBuffer, 3, impulses, null);
+            Assert.fail("Expected an IllegalArgumentException");
+        } catch (IllegalArgumentException exception) {
+            // expected
+        }
+        IntBuffer indirectIds = IntBuffer.wrap(forceIds);
+        try {
+            bi.setLinearVelocities(indirectIds, 1, velocities);
+            Assert.fail("Expected an IllegalArgumentException");
+        } catch (IllegalArgumentException exception) {
+            // expected
+        }
+        try {
+            bi.setLinearAndAngularVelocities(
+                    (int[]) null, 1, velocities, omegas);
+            Assert.fail("Expected a NullPointerException");
+        } catch (NullPointerException exception) {
+            // expected
+        }
+
+        TestUtils.cleanupPhysicsSystem(system);
+        TestUtils.cleanup();
+    }
+    // *************************************************************************
+    // Java private methods
+
+    /**
+     * Add a sleeping box with the specified motion type to the specified
+     * system.
+     *
+     * @param bi the interface to use (not null)
+     * @param motionType the desired motion type (not null)
+     * @param x the X coordinate of the box's location
+     * @return the ID of the new body
+     */
+    private static int addBody(
+            BodyInterface bi, EMotionType motionType, double x) {
+        int objLayer = (motionType == EMotionType.Static)
+                ? TestUtils.objLayerNonMoving : TestUtils.objLayerMoving;
+        BodyCreationSettings bcs = new BodyCreationSettings()
+                .setShape(new BoxShape(1f))
+                .setMotionType(motionType)
+                .setObjectLayer(objLayer)
+                .setPosition(x, 0., 0.);
+        int result = bi.createAndAddBody(bcs, EActivation.DontActivate);
+
+        return result;
+    }
+}
@@ -0,0 +1,141 @@
+/*
+Copyright (c) 2026 Stephen Gold
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+ */
+package testjoltjni.junit;
+
+import com.github.stephengold.joltjni.BodyCreationSettings;
+import com.github.stephengold.joltjni.BodyInterface;
+import com.github.stephengold.joltjni.Jolt;
+import com.github.stephengold.joltjni.JobSystem;
+import com.github.stephengold.joltjni.JobSystemSingleThreaded;
+import com.github.stephengold.joltjni.PhysicsSystem;
+import com.github.stephengold.joltjni.SphereShape;
+import com.github.stephengold.joltjni.TempAllocatorImpl;
+import com.github.stephengold.joltjni.enumerate.EActivation;
+import com.github.stephengold.joltjni.enumerate.EPhysicsUpdateError;
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import org.junit.Assert;
+import org.junit.Test;
+import testjoltjni.TestUtils;
+
+/**
+ * Automated JUnit4 tests for {@code PhysicsSystem.updateAsync()}.
+ *
+ * @author Stephen Gold sgold@sonic.net
+ */
+public class Test027 {
+    // *************************************************************************
+    // new methods exposed
+
+    /**
+     * Complete asynchronous updates normally and exceptionally, using an
+     * executor that defers each task until the test runs it.
+     *
+     * @throws Exception if a future fails unexpectedly
+     */
+    @Test
+    public void test027() throws Exception {
+        TestUtils.loadNativeLibrary();
+        TestUtils.initializeNativeLibrary();
+
+        PhysicsSystem system = TestUtils.newPhysicsSystem(1);
+        BodyInterface bi = system.getBodyInterface();
+        BodyCreationSettings bcs = new BodyCreationSettings()
+                .setShape(new SphereShape(1f))
+                .setObjectLayer(TestUtils.objLayerMoving)
+                .setPosition(0., 10., 0.);
+        int bodyId = bi.createAndAddBody(bcs, EActivation.Activate);
+
+        TempAllocatorImpl tempAllocator = new TempAllocatorImpl(1 << 20);
+        JobSystem jobSystem = new JobSystemSingleThreaded(Jolt.cMaxPhysicsJobs);
+        Queue<Runnable> tasks = new ArrayDeque<>(2);
+        Executor deferred = tasks::add;
+
+        // Normal completion, with a dependent stage that updates again:
+        float deltaTime = 1f / 60f;
+        CompletableFuture<Integer> future = system.updateAsync(
+                deltaTime, 1, tempAllocator, jobSystem, deferred);
+        CompletableFuture<Integer> next = future.thenCompose(errors -> system
+                .updateAsync(deltaTime, 1, tempAllocator, jobSystem, deferred));
+        Assert.assertTrue(system.isUpdatingAsync());
+        Assert.assertFalse(future.isDone());
+        try {
+            system.update(deltaTime, 1, tempAllocator, jobSystem);
+            Assert.fail("Expected an IllegalStateException");
+        } catch (IllegalStateException exception) {
+            // expected
+        }
+
+        tasks.remove().run();
+        Assert.assertEquals(EPhysicsUpdateError.None, (int) future.get());
+        Assert.assertTrue(system.isUpdatingAsync()); // the dependent stage
+        Assert.assertEquals(1, tasks.size());
+        tasks.remove().run();
+        Assert.assertEquals(EPhysicsUpdateError.None, (int) next.get());
+        Assert.assertFalse(system.isUpdatingAsync());
+        Assert.assertTrue(bi.getPosition(bodyId).yy() < 10.);
+
+        if (areAssertionsEnabled()) {
+            // Exceptional completion, using an allocator that's been freed:
+            TempAllocatorImpl freed = new TempAllocatorImpl(1 << 10);
+            freed.close();
+            future = system.updateAsync(
+                    deltaTime, 1, freed, jobSystem, deferred);
+            tasks.remove().run();
+            Assert.assertTrue(future.isCompletedExceptionally());
+            try {
+                future.get();
+                Assert.fail("Expected an ExecutionException");
+            } catch (ExecutionException exception) {
+                Assert.assertTrue(
+                        exception.getCause() instanceof AssertionError);
+            }
+            Assert.assertFalse(system.isUpdatingAsync());
+
+            // The system should remain usable:
+            int errors = system.update(deltaTime, 1, tempAllocator, jobSystem);
+            Assert.assertEquals(EPhysicsUpdateError.None, errors);
+        }
+
+        TestUtils.testClose(jobSystem, tempAllocator);
+        TestUtils.cleanupPhysicsSystem(system);
+        TestUtils.cleanup();
+    }
+    // *************************************************************************
+    // Java private methods
+
+    /**
+     * Test whether Java assertions are enabled. A freed object is detected
+     * only by an assertion, so without them the exceptional path would crash.
+     *
+     * @return {@code true} if enabled, otherwise {@code false}
+     */
+    private static boolean areAssertionsEnabled() {
+        boolean result = false;
+        assert result = true;
+
+        return result;
+    }
+}
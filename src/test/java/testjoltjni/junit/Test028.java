@@ -0,0 +1,203 @@
+/*
+Copyright (c) 2026 Stephen Gold
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+ */
+package testjoltjni.junit;
+
+import com.github.stephengold.joltjni.BodyCreationSettings;
+import com.github.stephengold.joltjni.BodyIdVector;
+import com.github.stephengold.joltjni.BodyInterface;
+import com.github.stephengold.joltjni.BoxShape;
+import com.github.stephengold.joltjni.Jolt;
+import com.github.stephengold.joltjni.PhysicsSystem;
+import com.github.stephengold.joltjni.Quat;
+import com.github.stephengold.joltjni.RVec3;
+import com.github.stephengold.joltjni.Vec3;
+import com.github.stephengold.joltjni.enumerate.EActivation;
+import java.nio.DoubleBuffer;
+import java.nio.FloatBuffer;
+import java.nio.IntBuffer;
+import org.junit.Assert;
+import org.junit.Test;
+import testjoltjni.TestUtils;
+
+/**
+ * Automated JUnit4 tests for {@code BodyInterface.getBodyStates()}.
+ *
+ * @author Stephen Gold sgold@sonic.net
+ */
+public class Test028 {
+    // *************************************************************************
+    // constants
+
+    /**
+     * number of bodies in the system
+     */
+    final private static int numBodies = 3;
+    /**
+     * value that marks buffer elements that should remain unmodified
+     */
+    final private static float sentinel = -999f;
+    // *************************************************************************
+    // new methods exposed
+
+    /**
+     * Compare bulk body states with the per-body getters.
+     */
+    @Test
+    public void test028() {
+        TestUtils.loadNativeLibrary();
+        TestUtils.initializeNativeLibrary();
+
+        PhysicsSystem system = TestUtils.newPhysicsSystem(numBodies + 1);
+        BodyInterface bi = system.getBodyInterface();
+        int[] ids = new int[numBodies + 1];
+        for (int i = 0; i < numBodies; ++i) {
+            BodyCreationSettings bcs = new BodyCreationSettings()
+                    .setShape(new BoxShape(1f))
+                    .setObjectLayer(TestUtils.objLayerMoving)
+                    .setPosition(3. * i, 1e6 + i, -i)
+                    .setRotation(Quat.sRotation(Vec3.sAxisY(), 0.5f * i))
+                    .setLinearVelocity(new Vec3(i, 2f, 0f))
+                    .setAngularVelocity(new Vec3(0f, 0f, 0.1f * i));
+            ids[i] = bi.createAndAddBody(bcs, EActivation.Activate);
+        }
+
+        // The last ID belongs to a body that's been removed and destroyed:
+        BodyCreationSettings bcs = new BodyCreationSettings()
+                .setShape(new BoxShape(1f))
+                .setObjectLayer(TestUtils.objLayerMoving);
+        ids[numBodies] = bi.createAndAddBody(bcs, EActivation.DontActivate);
+        bi.removeBody(ids[numBodies]);
+        bi.destroyBody(ids[numBodies]);
+
+        // All properties, with double-precision locations:
+        int numIds = numBodies + 1;
+        DoubleBuffer locations = Jolt.newDirectDoubleBuffer(3 * numIds);
+        FloatBuffer orientations = newFilledBuffer(4 * numIds);
+        FloatBuffer linear = newFilledBuffer(3 * numIds);
+        FloatBuffer angular = newFilledBuffer(3 * numIds);
+        bi.getBodyStates(ids, numIds, locations, orientations, linear, angular);
+        for (int i = 0; i < numBodies; ++i) {
+            RVec3 location = bi.getPosition(ids[i]);
+            Assert.assertEquals(location.xx(), locations.get(3 * i), 0.);
+            Assert.assertEquals(location.yy(), locations.get(3 * i + 1), 0.);
+            Assert.assertEquals(location.zz(), locations.get(3 * i + 2), 0.);
+
+            Quat rotation = bi.getRotation(ids[i]);
+            Assert.assertEquals(rotation.getX(), orientations.get(4 * i), 0f);
+            Assert.assertEquals(
+                    rotation.getY(), orientations.get(4 * i + 1), 0f);
+            Assert.assertEquals(
+                    rotation.getZ(), orientations.get(4 * i + 2), 0f);
+            Assert.assertEquals(
+                    rotation.getW(), orientations.get(4 * i + 3), 0f);
+
+            assertVector(bi.getLinearVelocity(ids[i]), linear, i);
+            assertVector(bi.getAngularVelocity(ids[i]), angular, i);
+        }
+
+        // The missing body's elements should be unmodified:
+        for (int j = 0; j < 4; ++j) {
+            Assert.assertEquals(
+                    sentinel, orientations.get(4 * numBodies + j), 0f);
+        }
+        for (int j = 0; j < 3; ++j) {
+            Assert.assertEquals(sentinel, linear.get(3 * numBodies + j), 0f);
+            Assert.assertEquals(sentinel, angular.get(3 * numBodies + j), 0f);
+        }
+
+        // Single-precision locations only, from an IntBuffer:
+        IntBuffer idBuffer = Jolt.newDirectIntBuffer(numBodies);
+        idBuffer.put(ids, 0, numBodies);
+        FloatBuffer floatLocations = newFilledBuffer(3 * numBodies);
+        bi.getBodyStates(idBuffer, numBodies, floatLocations, null, null, null);
+        for (int i = 0; i < numBodies; ++i) {
+            Assert.assertEquals((float) locations.get(3 * i + 1),
+                    floatLocations.get(3 * i + 1), 0f);
+        }
+
+        // Linear velocities only, from a BodyIdVector and without locking:
+        BodyIdVector idVector = new BodyIdVector();
+        idVector.pushBack(ids[2]);
+        idVector.pushBack(ids[0]);
+        FloatBuffer velocities = newFilledBuffer(6);
+        system.getBodyInterfaceNoLock()
+                .getBodyStates(idVector, null, null, velocities, null);
+        assertVector(bi.getLinearVelocity(ids[2]), velocities, 0);
+        assertVector(bi.getLinearVelocity(ids[0]), velocities, 1);
+
+        // Invalid ID arguments should be rejected:
+        try {
+            bi.getBodyStates(ids, numIds + 1, null, null, velocities, null);
+            Assert.fail("Expected an IllegalArgumentException");
+        } catch (IllegalArgumentException exception) {
+            // expected
+        }
+        try {
+            bi.getBodyStates(IntBuffer.wrap(ids), 1, null, null, velocities,
+                    null);
+            Assert.fail("Expected an IllegalArgumentException");
+        } catch (IllegalArgumentException exception) {
+            // expected
+        }
+        try {
+            bi.getBodyStates((int[]) null, 1, null, null, velocities, null);
+            Assert.fail("Expected a NullPointerException");
+        } catch (NullPointerException exception) {
+            // expected
+        }
+
+        TestUtils.testClose(idVector);
+        TestUtils.cleanupPhysicsSystem(system);
+        TestUtils.cleanup();
+    }
+    // *************************************************************************
+    // Java private methods
+
+    /**
+     * Verify the indexed vector in a packed buffer.
+     *
+     * @param expected the expected vector (not null, unaffected)
+     * @param buffer the buffer to test (not null, unaffected)
+     * @param index the index of the vector in the buffer (&ge;0)
+     */
+    private static void assertVector(
+            Vec3 expected, FloatBuffer buffer, int index) {
+        Assert.assertEquals(expected.getX(), buffer.get(3 * index), 0f);
+        Assert.assertEquals(expected.getY(), buffer.get(3 * index + 1), 0f);
+        Assert.assertEquals(expected.getZ(), buffer.get(3 * index + 2), 0f);
+    }
+
+    /**
+     * Allocate a direct buffer filled with the sentinel value.
+     *
+     * @param numFloats the desired capacity (&ge;0)
+     * @return a new buffer
+     */
+    private static FloatBuffer newFilledBuffer(int numFloats) {
+        FloatBuffer result = Jolt.newDirectFloatBuffer(numFloats);
+        for (int i = 0; i < numFloats; ++i) {
+            result.put(i, sentinel);
+        }
+
+        return result;
+    }
+}
@@ -0,0 +1,152 @@
+/*
+Copyright (c) 2026 Stephen Gold
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+ */
+package testjoltjni.junit;
+
+import com.github.stephengold.joltjni.BodyCreationSettings;
+import com.github.stephengold.joltjni.BodyInterface;
+import com.github.stephengold.joltjni.BoxShape;
+import com.github.stephengold.joltjni.Jolt;
+import com.github.stephengold.joltjni.JobSystem;
+import com.github.stephengold.joltjni.JobSystemThreadPool;
+import com.github.stephengold.joltjni.PhysicsSystem;
+import com.github.stephengold.joltjni.enumerate.EActivation;
+import com.github.stephengold.joltjni.enumerate.EMotionType;
+import com.github.stephengold.joltjni.readonly.ConstNarrowPhaseQuery;
+import java.nio.DoubleBuffer;
+import java.nio.FloatBuffer;
+import java.nio.IntBuffer;
+import org.junit.Assert;
+import org.junit.Test;
+import testjoltjni.TestUtils;
+
+/**
+ * Automated JUnit4 tests for {@code NarrowPhaseQuery.castRays()}.
+ *
+ * @author Stephen Gold sgold@sonic.net
+ */
+public class Test029 {
+    // *************************************************************************
+    // constants
+
+    /**
+     * number of static boxes, spaced 4 meters apart along the X axis
+     */
+    final private static int numBoxes = 4;
+    /**
+     * number of rays, enough to span several batches
+     */
+    final private static int numRays = 100;
+    // *************************************************************************
+    // new methods exposed
+
+    /**
+     * Cast a grid of downward rays at a row of boxes, both serially and using
+     * a job system, and verify each result.
+     */
+    @Test
+    public void test029() {
+        TestUtils.loadNativeLibrary();
+        TestUtils.initializeNativeLibrary();
+
+        PhysicsSystem system = TestUtils.newPhysicsSystem(numBoxes);
+        BodyInterface bi = system.getBodyInterface();
+        int[] boxIds = new int[numBoxes];
+        for (int i = 0; i < numBoxes; ++i) {
+            BodyCreationSettings bcs = new BodyCreationSettings()
+                    .setShape(new BoxShape(1f))
+                    .setMotionType(EMotionType.Static)
+                    .setObjectLayer(TestUtils.objLayerNonMoving)
+                    .setPosition(4. * i, 0., 0.);
+            boxIds[i] = bi.createAndAddBody(bcs, EActivation.DontActivate);
+        }
+        system.optimizeBroadPhase();
+
+        /*
+         * Each ray starts 10 meters up and points 20 meters down. The rays
+         * pass 0.25, 0.75, 1.25, or 1.75 meters from the nearest box center,
+         * so each one either clearly hits a top face or clearly misses.
+         */
+        DoubleBuffer origins = Jolt.newDirectDoubleBuffer(3 * numRays);
+        FloatBuffer floatOrigins = Jolt.newDirectFloatBuffer(3 * numRays);
+        FloatBuffer directions = Jolt.newDirectFloatBuffer(3 * numRays);
+        int[] expectedIds = new int[numRays];
+        int expectedHits = 0;
+        for (int i = 0; i < numRays; ++i) {
+            double x = 0.5 * (i % 25) + 0.25;
+            origins.put(3 * i, x).put(3 * i + 1, 10.);
+            floatOrigins.put(3 * i, (float) x).put(3 * i + 1, 10f);
+            directions.put(3 * i + 1, -20f);
+
+            int nearest = (int) Math.round(x / 4.);
+            if (Math.abs(x - 4. * nearest) < 1.) {
+                expectedIds[i] = boxIds[nearest];
+                ++expectedHits;
+            } else {
+                expectedIds[i] = Jolt.cInvalidBodyId;
+            }
+        }
+        Assert.assertTrue(expectedHits > 0 && expectedHits < numRays);
+
+        ConstNarrowPhaseQuery query = system.getNarrowPhaseQuery();
+        IntBuffer bodyIds = Jolt.newDirectIntBuffer(numRays);
+        FloatBuffer fractions = Jolt.newDirectFloatBuffer(numRays);
+        int numHits = query.castRays(numRays, origins, directions, bodyIds,
+                null, fractions, null);
+        Assert.assertEquals(expectedHits, numHits);
+        verify(expectedIds, bodyIds, fractions);
+
+        int numThreads = TestUtils.numThreads();
+        JobSystem jobSystem = new JobSystemThreadPool(
+                Jolt.cMaxPhysicsJobs, Jolt.cMaxPhysicsBarriers, numThreads);
+        IntBuffer parallelIds = Jolt.newDirectIntBuffer(numRays);
+        FloatBuffer parallelFractions = Jolt.newDirectFloatBuffer(numRays);
+        numHits = query.castRays(numRays, floatOrigins, directions,
+                parallelIds, null, parallelFractions, jobSystem);
+        Assert.assertEquals(expectedHits, numHits);
+        verify(expectedIds, parallelIds, parallelFractions);
+
+        TestUtils.testClose(jobSystem);
+        TestUtils.cleanupPhysicsSystem(system);
+        TestUtils.cleanup();
+    }
+    // *************************************************************************
+    // Java private methods
+
+    /**
+     * Verify the body ID and hit fraction of each ray.
+     *
+     * @param expectedIds the expected body IDs (not null, unaffected)
+     * @param bodyIds the body IDs to verify (not null, unaffected)
+     * @param fractions the hit fractions to verify (not null, unaffected)
+     */
+    private static void verify(
+            int[] expectedIds, IntBuffer bodyIds, FloatBuffer fractions) {
+        for (int i = 0; i < numRays; ++i) {
+            Assert.assertEquals(expectedIds[i], bodyIds.get(i));
+            if (expectedIds[i] == Jolt.cInvalidBodyId) {
+                Assert.assertTrue(fractions.get(i) > 1f);
+            } else { // hit the top face, 9 meters below the origin:
+                Assert.assertEquals(0.45f, fractions.get(i), 1e-4f);
+            }
+        }
+    }
+}
@@ -0,0 +1,203 @@
+/*
+Copyright (c) 2026 Stephen Gold
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+ */
+package testjoltjni.junit;
+
+import com.github.stephengold.joltjni.BodyCreationSettings;
+import com.github.stephengold.joltjni.BodyInterface;
+import com.github.stephengold.joltjni.BoxShape;
+import com.github.stephengold.joltjni.CollideShapeSettings;
+import com.github.stephengold.joltjni.Jolt;
+import com.github.stephengold.joltjni.JobSystem;
+import com.github.stephengold.joltjni.JobSystemThreadPool;
+import com.github.stephengold.joltjni.PhysicsSystem;
+import com.github.stephengold.joltjni.RMat44;
+import com.github.stephengold.joltjni.RShapeCast;
+import com.github.stephengold.joltjni.RVec3;
+import com.github.stephengold.joltjni.ShapeCastSettings;
+import com.github.stephengold.joltjni.SphereShape;
+import com.github.stephengold.joltjni.Vec3;
+import com.github.stephengold.joltjni.enumerate.EActivation;
+import com.github.stephengold.joltjni.enumerate.EMotionType;
+import com.github.stephengold.joltjni.readonly.ConstNarrowPhaseQuery;
+import com.github.stephengold.joltjni.readonly.ConstShape;
+import com.github.stephengold.joltjni.readonly.RMat44Arg;
+import java.nio.FloatBuffer;
+import java.nio.IntBuffer;
+import org.junit.Assert;
+import org.junit.Test;
+import testjoltjni.TestUtils;
+
+/**
+ * Automated JUnit4 tests for {@code NarrowPhaseQuery.castShapes()} and
+ * {@code NarrowPhaseQuery.collideShapes()}.
+ *
+ * @author Stephen Gold sgold@sonic.net
+ */
+public class Test030 {
+    // *************************************************************************
+    // constants
+
+    /**
+     * number of queries in each batch, enough to span several batches
+     */
+    final private static int numQueries = 48;
+    /**
+     * X coordinate of each query, by query index modulo 3: above the 1st
+     * box, above the 2nd box, and between the boxes
+     */
+    final private static double[] queryX = {0., 10., 5.};
+    // *************************************************************************
+    // new methods exposed
+
+    /**
+     * Cast and collide spheres with 2 boxes, both serially and using a job
+     * system, and verify each result.
+     */
+    @Test
+    public void test030() {
+        TestUtils.loadNativeLibrary();
+        TestUtils.initializeNativeLibrary();
+
+        PhysicsSystem system = TestUtils.newPhysicsSystem(2);
+        BodyInterface bi = system.getBodyInterface();
+        int[] boxIds = new int[2];
+        for (int i = 0; i < 2; ++i) {
+            BodyCreationSettings bcs = new BodyCreationSettings()
+                    .setShape(new BoxShape(1f))
+                    .setMotionType(EMotionType.Static)
+                    .setObjectLayer(TestUtils.objLayerNonMoving)
+                    .setPosition(queryX[i], 0., 0.);
+            boxIds[i] = bi.createAndAddBody(bcs, EActivation.DontActivate);
+        }
+        system.optimizeBroadPhase();
+
+        ConstNarrowPhaseQuery query = system.getNarrowPhaseQuery();
+        int numThreads = TestUtils.numThreads();
+        JobSystem jobSystem = new JobSystemThreadPool(
+                Jolt.cMaxPhysicsJobs, Jolt.cMaxPhysicsBarriers, numThreads);
+        doCastShapes(query, boxIds, null);
+        doCastShapes(query, boxIds, jobSystem);
+        doCollideShapes(query, boxIds, null);
+        doCollideShapes(query, boxIds, jobSystem);
+
+        TestUtils.testClose(jobSystem);
+        TestUtils.cleanupPhysicsSystem(system);
+        TestUtils.cleanup();
+    }
+    // *************************************************************************
+    // Java private methods
+
+    /**
+     * Drop a sphere of radius 0.5 from 5 meters up, 10 meters down, at each
+     * query location. Spheres above a box touch its top face after traveling
+     * 3.5 meters.
+     *
+     * @param query the query interface to use (not null)
+     * @param boxIds the IDs of the boxes (not null, unaffected)
+     * @param jobSystem the job system to use, or {@code null} for none
+     */
+    private static void doCastShapes(ConstNarrowPhaseQuery query,
+            int[] boxIds, JobSystem jobSystem) {
+        ConstShape sphere = new SphereShape(0.5f);
+        RShapeCast[] casts = new RShapeCast[numQueries];
+        for (int i = 0; i < numQueries; ++i) {
+            RMat44 start = RMat44.sTranslation(
+                    new RVec3(queryX[i % 3], 5., 0.));
+            casts[i] = RShapeCast.sFromWorldTransform(sphere,
+                    Vec3.sReplicate(1f), start, new Vec3(0f, -10f, 0f));
+        }
+
+        IntBuffer bodyIds = Jolt.newDirectIntBuffer(numQueries);
+        FloatBuffer fractions = Jolt.newDirectFloatBuffer(numQueries);
+        FloatBuffer normals = Jolt.newDirectFloatBuffer(3 * numQueries);
+        int numHits = query.castShapes(casts, new ShapeCastSettings(),
+                new RVec3(), bodyIds, null, fractions, normals, jobSystem);
+        Assert.assertEquals(2 * numQueries / 3, numHits);
+
+        for (int i = 0; i < numQueries; ++i) {
+            int boxIndex = i % 3;
+            if (boxIndex < 2) {
+                Assert.assertEquals(boxIds[boxIndex], bodyIds.get(i));
+                Assert.assertEquals(0.35f, fractions.get(i), 1e-3f);
+                assertDownward(normals, i);
+            } else {
+                Assert.assertEquals(Jolt.cInvalidBodyId, bodyIds.get(i));
+                Assert.assertTrue(fractions.get(i) > 1f);
+            }
+        }
+    }
+
+    /**
+     * Overlap a sphere of radius 0.5 with the top face of each box, to depths
+     * of 0.2 and 0.1 meters, with a 3rd sphere between the boxes.
+     *
+     * @param query the query interface to use (not null)
+     * @param boxIds the IDs of the boxes (not null, unaffected)
+     * @param jobSystem the job system to use, or {@code null} for none
+     */
+    private static void doCollideShapes(ConstNarrowPhaseQuery query,
+            int[] boxIds, JobSystem jobSystem) {
+        ConstShape[] shapes = new ConstShape[numQueries];
+        RMat44Arg[] transforms = new RMat44Arg[numQueries];
+        float[] depths = {0.2f, 0.1f, 0f};
+        for (int i = 0; i < numQueries; ++i) {
+            shapes[i] = new SphereShape(0.5f);
+            double y = 1.5 - depths[i % 3];
+            RVec3 location = new RVec3(queryX[i % 3], y, 0.);
+            transforms[i] = RMat44.sTranslation(location);
+        }
+
+        IntBuffer bodyIds = Jolt.newDirectIntBuffer(numQueries);
+        FloatBuffer storeDepths = Jolt.newDirectFloatBuffer(numQueries);
+        FloatBuffer normals = Jolt.newDirectFloatBuffer(3 * numQueries);
+        int numHits = query.collideShapes(shapes, transforms,
+                new CollideShapeSettings(), new RVec3(), bodyIds, null,
+                storeDepths, normals, jobSystem);
+        Assert.assertEquals(2 * numQueries / 3, numHits);
+
+        for (int i = 0; i < numQueries; ++i) {
+            int boxIndex = i % 3;
+            if (boxIndex < 2) {
+                Assert.assertEquals(boxIds[boxIndex], bodyIds.get(i));
+                Assert.assertEquals(
+                        depths[boxIndex], storeDepths.get(i), 1e-3f);
+                assertDownward(normals, i);
+            } else {
+                Assert.assertEquals(Jolt.cInvalidBodyId, bodyIds.get(i));
+                Assert.assertEquals(0f, storeDepths.get(i), 0f);
+            }
+        }
+    }
+
+    /**
+     * Verify that the indexed penetration axis points straight down, from the
+     * sphere into the box.
+     *
+     * @param normals the packed axes (not null, unaffected)
+     * @param index the index of the axis to verify (&ge;0)
+     */
+    private static void assertDownward(FloatBuffer normals, int index) {
+        Assert.assertEquals(0f, normals.get(3 * index), 1e-3f);
+        Assert.assertEquals(-1f, normals.get(3 * index + 1), 1e-3f);
+        Assert.assertEquals(0f, normals.get(3 * index + 2), 1e-3f);
+    }
+}
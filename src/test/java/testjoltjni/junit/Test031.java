@@ -0,0 +1,173 @@
+/*
+Copyright (c) 2026 Stephen Gold
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+ */
+package testjoltjni.junit;
+
+import com.github.stephengold.joltjni.ActiveBodySnapshot;
+import com.github.stephengold.joltjni.BodyCreationSettings;
+import com.github.stephengold.joltjni.BodyInterface;
+import com.github.stephengold.joltjni.BoxShape;
+import com.github.stephengold.joltjni.Jolt;
+import com.github.stephengold.joltjni.JobSystemThreadPool;
+import com.github.stephengold.joltjni.PhysicsSystem;
+import com.github.stephengold.joltjni.Quat;
+import com.github.stephengold.joltjni.RVec3;
+import com.github.stephengold.joltjni.TempAllocator;
+import com.github.stephengold.joltjni.TempAllocatorMalloc;
+import com.github.stephengold.joltjni.enumerate.EActivation;
+import com.github.stephengold.joltjni.enumerate.EPhysicsUpdateError;
+import com.github.stephengold.joltjni.readonly.RVec3Arg;
+import org.junit.Assert;
+import org.junit.Test;
+import testjoltjni.TestUtils;
+
+/**
+ * Automated JUnit4 tests for {@code ActiveBodySnapshot}.
+ *
+ * @author Stephen Gold sgold@sonic.net
+ */
+public class Test031 {
+    // *************************************************************************
+    // new methods exposed
+
+    /**
+     * Verify the publication order, immutable views, and change flags of an
+     * active-body snapshot.
+     */
+    @Test
+    public void test031() {
+        TestUtils.loadNativeLibrary();
+        TestUtils.initializeNativeLibrary();
+
+        PhysicsSystem system = TestUtils.newPhysicsSystem(2);
+        BodyInterface bi = system.getBodyInterface();
+        BodyCreationSettings bcs = new BodyCreationSettings()
+                .setShape(new BoxShape(1f))
+                .setObjectLayer(TestUtils.objLayerMoving);
+        int fallingId = bi.createAndAddBody(
+                bcs.setPosition(0., 10., 0.), EActivation.Activate);
+        int floatingId = bi.createAndAddBody(
+                bcs.setPosition(10., 10., 0.).setGravityFactor(0f),
+                EActivation.Activate);
+
+        ActiveBodySnapshot snapshot
+                = new ActiveBodySnapshot(system.getMaxBodies());
+        system.setActiveBodySnapshot(snapshot);
+        ActiveBodySnapshot.Published view0 = snapshot.acquire();
+        Assert.assertEquals(0L, view0.getSequence());
+        Assert.assertEquals(0, view0.count());
+
+        TempAllocator allocator = new TempAllocatorMalloc();
+        JobSystemThreadPool jobSystem = new JobSystemThreadPool(
+                Jolt.cMaxPhysicsJobs, Jolt.cMaxPhysicsBarriers, 1);
+        float deltaTime = 0.01f;
+        step(system, deltaTime, allocator, jobSystem);
+
+        // Bodies absent from the previous snapshot are flagged as changed:
+        ActiveBodySnapshot.Published view1 = snapshot.acquire();
+        Assert.assertEquals(1L, view1.getSequence());
+        Assert.assertEquals(2, view1.count());
+        Assert.assertEquals(0, view0.count());
+        int fallingIndex = findRecord(view1, fallingId);
+        int floatingIndex = findRecord(view1, floatingId);
+        Assert.assertTrue(view1.isChanged(fallingIndex));
+        Assert.assertTrue(view1.isChanged(floatingIndex));
+        RVec3 location1 = new RVec3();
+        view1.getLocation(fallingIndex, location1);
+        assertLocation(bi.getPosition(fallingId), location1);
+
+        step(system, deltaTime, allocator, jobSystem);
+
+        // Only the falling body changed:
+        ActiveBodySnapshot.Published view2 = snapshot.acquire();
+        Assert.assertEquals(2L, view2.getSequence());
+        Assert.assertEquals(2, view2.count());
+        Assert.assertNotSame(view1.getBuffer(), view2.getBuffer());
+        fallingIndex = findRecord(view2, fallingId);
+        floatingIndex = findRecord(view2, floatingId);
+        Assert.assertTrue(view2.isChanged(fallingIndex));
+        Assert.assertFalse(view2.isChanged(floatingIndex));
+        RVec3 location2 = new RVec3();
+        view2.getLocation(fallingIndex, location2);
+        assertLocation(bi.getPosition(fallingId), location2);
+        Assert.assertTrue(location2.yy() < location1.yy());
+        Quat orientation = new Quat();
+        view2.getOrientation(floatingIndex, orientation);
+        TestUtils.assertEquals(0f, 0f, 0f, 1f, orientation, 0f);
+
+        // The previous view is unmodified until the next update:
+        RVec3 location = new RVec3();
+        view1.getLocation(findRecord(view1, fallingId), location);
+        assertLocation(location1, location);
+
+        system.setActiveBodySnapshot(null);
+        TestUtils.testClose(jobSystem, allocator);
+        TestUtils.cleanupPhysicsSystem(system);
+        TestUtils.cleanup();
+    }
+    // *************************************************************************
+    // Java private methods
+
+    /**
+     * Verify that 2 locations are exactly equal.
+     *
+     * @param expected the expected location (not null, unaffected)
+     * @param actual the location to test (not null, unaffected)
+     */
+    private static void assertLocation(RVec3Arg expected, RVec3Arg actual) {
+        Assert.assertEquals("x component", expected.xx(), actual.xx(), 0.);
+        Assert.assertEquals("y component", expected.yy(), actual.yy(), 0.);
+        Assert.assertEquals("z component", expected.zz(), actual.zz(), 0.);
+    }
+
+    /**
+     * Find the record of the specified body in the specified view.
+     *
+     * @param view the view to search (not null, unaffected)
+     * @param bodyId the ID of the body to find
+     * @return the index of the record (&ge;0)
+     */
+    private static int findRecord(
+            ActiveBodySnapshot.Published view, int bodyId) {
+        int numRecords = view.count();
+        for (int i = 0; i < numRecords; ++i) {
+            if (view.getBodyId(i) == bodyId) {
+                return i;
+            }
+        }
+        Assert.fail("Record not found for body " + bodyId);
+        return -1;
+    }
+
+    /**
+     * Advance the specified system by a single step.
+     *
+     * @param system the system to update (not null)
+     * @param deltaTime the duration of the step (in seconds, &gt;0)
+     * @param allocator the temporary allocator to use (not null)
+     * @param jobSystem the job system to use (not null)
+     */
+    private static void step(PhysicsSystem system, float deltaTime,
+            TempAllocator allocator, JobSystemThreadPool jobSystem) {
+        int errors = system.update(deltaTime, 1, allocator, jobSystem);
+        Assert.assertEquals(EPhysicsUpdateError.None, errors);
+    }
+}
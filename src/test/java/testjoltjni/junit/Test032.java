@@ -0,0 +1,212 @@
+/*
+Copyright (c) 2026 Stephen Gold
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+ */
+package testjoltjni.junit;
+
+import com.github.stephengold.joltjni.BodyCreationSettings;
+import com.github.stephengold.joltjni.BodyInterface;
+import com.github.stephengold.joltjni.BoxShape;
+import com.github.stephengold.joltjni.CustomContactListener;
+import com.github.stephengold.joltjni.Jolt;
+import com.github.stephengold.joltjni.JobSystemThreadPool;
+import com.github.stephengold.joltjni.PhysicsSystem;
+import com.github.stephengold.joltjni.Quat;
+import com.github.stephengold.joltjni.RVec3;
+import com.github.stephengold.joltjni.ShapeRefC;
+import com.github.stephengold.joltjni.TempAllocator;
+import com.github.stephengold.joltjni.TempAllocatorMalloc;
+import com.github.stephengold.joltjni.enumerate.EActivation;
+import com.github.stephengold.joltjni.enumerate.EMotionType;
+import com.github.stephengold.joltjni.enumerate.EPhysicsUpdateError;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import org.junit.Assert;
+import org.junit.Test;
+import testjoltjni.TestUtils;
+
+/**
+ * Automated JUnit4 tests for native-to-Java upcalls from threads that are
+ * attached, detached, and re-created.
+ *
+ * @author Stephen Gold sgold@sonic.net
+ */
+public class Test032 {
+    // *************************************************************************
+    // classes
+
+    /**
+     * A contact listener that counts its invocations and records the threads
+     * that invoke it.
+     */
+    private static class RecordingListener extends CustomContactListener {
+        /**
+         * number of upcalls received
+         */
+        final LongAdder upcallCount = new LongAdder();
+        /**
+         * threads that delivered upcalls
+         */
+        final Set<Thread> threads = ConcurrentHashMap.newKeySet();
+
+        @Override
+        public void onContactAdded(long body1Va, long body2Va,
+                long manifoldVa, long settingsVa) {
+            record();
+        }
+
+        @Override
+        public void onContactPersisted(long body1Va, long body2Va,
+                long manifoldVa, long settingsVa) {
+            record();
+        }
+
+        /**
+         * Record an upcall.
+         */
+        private void record() {
+            upcallCount.increment();
+            threads.add(Thread.currentThread());
+        }
+    }
+    // *************************************************************************
+    // constants
+
+    /**
+     * number of boxes resting on the floor
+     */
+    final private static int numBoxes = 64;
+    /**
+     * number of steps simulated per round
+     */
+    final private static int numStepsPerRound = 10;
+    // *************************************************************************
+    // new methods exposed
+
+    /**
+     * Receive contact upcalls from several generations of worker threads and
+     * from a Java thread, verifying that each generation can make upcalls
+     * after the previous one has exited.
+     */
+    @Test
+    public void test032() {
+        TestUtils.loadNativeLibrary();
+        TestUtils.initializeNativeLibrary();
+
+        PhysicsSystem system = TestUtils.newPhysicsSystem(numBoxes + 1);
+        addBoxes(system);
+        RecordingListener listener = new RecordingListener();
+        system.setContactListener(listener);
+        TempAllocator allocator = new TempAllocatorMalloc();
+
+        // Each pool's worker threads are attached on their first upcall and
+        // detached when the pool is freed:
+        for (int round = 0; round < 3; ++round) {
+            JobSystemThreadPool jobSystem = new JobSystemThreadPool(
+                    Jolt.cMaxPhysicsJobs, Jolt.cMaxPhysicsBarriers, 3);
+            long before = listener.upcallCount.sum();
+            step(system, allocator, jobSystem);
+            Assert.assertTrue(listener.upcallCount.sum() > before);
+            jobSystem.close();
+        }
+
+        // A Java thread is already attached, so its environment isn't cached:
+        JobSystemThreadPool jobSystem = new JobSystemThreadPool(
+                Jolt.cMaxPhysicsJobs, Jolt.cMaxPhysicsBarriers, 0);
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        Thread javaThread = new Thread(() -> {
+            try {
+                step(system, allocator, jobSystem);
+            } catch (Throwable throwable) {
+                failure.set(throwable);
+            }
+        });
+        javaThread.start();
+        try {
+            javaThread.join();
+        } catch (InterruptedException exception) {
+            throw new RuntimeException(exception);
+        }
+        Assert.assertNull(failure.get());
+        Assert.assertTrue(listener.threads.contains(javaThread));
+
+        // Upcalls on the main thread still work:
+        long before = listener.upcallCount.sum();
+        step(system, allocator, jobSystem);
+        Assert.assertTrue(listener.upcallCount.sum() > before);
+
+        // Native threads are attached as daemons:
+        Thread mainThread = Thread.currentThread();
+        for (Thread thread : listener.threads) {
+            if (thread != mainThread && thread != javaThread) {
+                Assert.assertTrue(thread.isDaemon());
+            }
+        }
+
+        system.setContactListener(null);
+        TestUtils.testClose(jobSystem, allocator, listener);
+        TestUtils.cleanupPhysicsSystem(system);
+        TestUtils.cleanup();
+    }
+    // *************************************************************************
+    // Java private methods
+
+    /**
+     * Add a static floor and a grid of boxes resting on it.
+     *
+     * @param system the system to populate (not null)
+     */
+    private static void addBoxes(PhysicsSystem system) {
+        BodyInterface bi = system.getBodyInterface();
+        BodyCreationSettings floorSettings = new BodyCreationSettings(
+                new BoxShape(50f, 1f, 50f), new RVec3(0., -1., 0.),
+                new Quat(), EMotionType.Static, TestUtils.objLayerNonMoving);
+        bi.createAndAddBody(floorSettings, EActivation.DontActivate);
+
+        ShapeRefC boxShape = new BoxShape(0.5f).toRefC();
+        for (int i = 0; i < numBoxes; ++i) {
+            double x = 2. * (i % 8);
+            double z = 2. * (i / 8);
+            BodyCreationSettings bcs = new BodyCreationSettings(boxShape,
+                    new RVec3(x, 0.5, z), new Quat(), EMotionType.Dynamic,
+                    TestUtils.objLayerMoving)
+                    .setAllowSleeping(false);
+            bi.createAndAddBody(bcs, EActivation.Activate);
+        }
+        system.optimizeBroadPhase();
+    }
+
+    /**
+     * Simulate one round of steps.
+     *
+     * @param system the system to update (not null)
+     * @param allocator the temporary allocator to use (not null)
+     * @param jobSystem the job system to use (not null)
+     */
+    private static void step(PhysicsSystem system, TempAllocator allocator,
+            JobSystemThreadPool jobSystem) {
+        for (int i = 0; i < numStepsPerRound; ++i) {
+            int errors = system.update(1f / 60f, 1, allocator, jobSystem);
+            Assert.assertEquals(EPhysicsUpdateError.None, errors);
+        }
+    }
+}
@@ -0,0 +1,167 @@
+/*
+Copyright (c) 2026 Stephen Gold
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+ */
+package testjoltjni.junit;
+
+import com.github.stephengold.joltjni.BodyCreationSettings;
+import com.github.stephengold.joltjni.BodyInterface;
+import com.github.stephengold.joltjni.BoxShape;
+import com.github.stephengold.joltjni.JobSystem;
+import com.github.stephengold.joltjni.JobSystemExecutor;
+import com.github.stephengold.joltjni.JobSystemSingleThreaded;
+import com.github.stephengold.joltjni.Jolt;
+import com.github.stephengold.joltjni.PhysicsSystem;
+import com.github.stephengold.joltjni.Quat;
+import com.github.stephengold.joltjni.RVec3;
+import com.github.stephengold.joltjni.ShapeRefC;
+import com.github.stephengold.joltjni.TempAllocatorMalloc;
+import com.github.stephengold.joltjni.Vec3;
+import com.github.stephengold.joltjni.enumerate.EActivation;
+import com.github.stephengold.joltjni.enumerate.EMotionType;
+import com.github.stephengold.joltjni.enumerate.EPhysicsUpdateError;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RejectedExecutionException;
+import org.junit.Assert;
+import org.junit.Test;
+import testjoltjni.TestUtils;
+
+/**
+ * Automated JUnit4 tests for {@code JobSystemExecutor}.
+ *
+ * @author Stephen Gold sgold@sonic.net
+ */
+public class Test033 {
+    // *************************************************************************
+    // constants
+
+    /**
+     * number of dynamic boxes in the test scene
+     */
+    final private static int numBoxes = 12;
+    /**
+     * number of steps to simulate
+     */
+    final private static int numSteps = 60;
+    // *************************************************************************
+    // new methods exposed
+
+    /**
+     * Step identical scenes on several executors and compare the results
+     * with those of a single-threaded job system.
+     */
+    @Test
+    public void test033() {
+        TestUtils.loadNativeLibrary();
+        TestUtils.initializeNativeLibrary();
+
+        JobSystemSingleThreaded single
+                = new JobSystemSingleThreaded(Jolt.cMaxPhysicsJobs);
+        float[] expected = simulate(single);
+        TestUtils.testClose(single);
+
+        ForkJoinPool pool = new ForkJoinPool(3);
+        compare(expected, pool);
+        pool.shutdown();
+
+        // An executor that rejects every job:
+        compare(expected, command -> {
+            throw new RejectedExecutionException();
+        });
+
+        // An executor that fails with an Error:
+        compare(expected, command -> {
+            throw new Error("simulated executor failure");
+        });
+
+        TestUtils.cleanup();
+    }
+    // *************************************************************************
+    // Java private methods
+
+    /**
+     * Simulate the test scene using a {@code JobSystemExecutor} and compare
+     * the results with the expected ones.
+     *
+     * @param expected the expected results (not null, unaffected)
+     * @param executor the executor to run the jobs (not null)
+     */
+    private static void compare(float[] expected, Executor executor) {
+        JobSystemExecutor jobSystem = new JobSystemExecutor(
+                Jolt.cMaxPhysicsJobs, Jolt.cMaxPhysicsBarriers, executor, 4);
+        float[] actual = simulate(jobSystem);
+        jobSystem.close();
+
+        Assert.assertArrayEquals(expected, actual, 0f);
+    }
+
+    /**
+     * Simulate a pile of boxes falling onto a floor.
+     *
+     * @param jobSystem the job system to use (not null)
+     * @return a new array containing the final location and orientation of
+     * each box
+     */
+    private static float[] simulate(JobSystem jobSystem) {
+        PhysicsSystem system = TestUtils.newPhysicsSystem(numBoxes + 1);
+        BodyInterface bi = system.getBodyInterface();
+        BodyCreationSettings floorSettings = new BodyCreationSettings(
+                new BoxShape(20f, 1f, 20f), new RVec3(0., -1., 0.),
+                new Quat(), EMotionType.Static, TestUtils.objLayerNonMoving);
+        bi.createAndAddBody(floorSettings, EActivation.DontActivate);
+
+        ShapeRefC boxShape = new BoxShape(0.5f).toRefC();
+        int[] boxIds = new int[numBoxes];
+        for (int i = 0; i < numBoxes; ++i) {
+            RVec3 location = new RVec3(0.3 * (i % 3), 0.6 + 1.1 * i, 0.);
+            Quat rotation = Quat.sRotation(Vec3.sAxisY(), 0.2f * i);
+            BodyCreationSettings bcs = new BodyCreationSettings(boxShape,
+                    location, rotation, EMotionType.Dynamic,
+                    TestUtils.objLayerMoving);
+            boxIds[i] = bi.createAndAddBody(bcs, EActivation.Activate);
+        }
+        system.optimizeBroadPhase();
+
+        TempAllocatorMalloc allocator = new TempAllocatorMalloc();
+        for (int step = 0; step < numSteps; ++step) {
+            int errors = system.update(1f / 60f, 1, allocator, jobSystem);
+            Assert.assertEquals(EPhysicsUpdateError.None, errors);
+        }
+
+        float[] result = new float[7 * numBoxes];
+        for (int i = 0; i < numBoxes; ++i) {
+            RVec3 location = bi.getPosition(boxIds[i]);
+            Quat rotation = bi.getRotation(boxIds[i]);
+            result[7 * i] = location.x();
+            result[7 * i + 1] = location.y();
+            result[7 * i + 2] = location.z();
+            result[7 * i + 3] = rotation.getX();
+            result[7 * i + 4] = rotation.getY();
+            result[7 * i + 5] = rotation.getZ();
+            result[7 * i + 6] = rotation.getW();
+        }
+
+        TestUtils.testClose(allocator);
+        TestUtils.cleanupPhysicsSystem(system);
+
+        return result;
+    }
+}
@@ -0,0 +1,529 @@
+/*
+Copyright (c) 2026 Stephen Gold
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+ */
+package testjoltjni.junit;
+
+import com.github.stephengold.joltjni.Body;
+import com.github.stephengold.joltjni.BodyCreationSettings;
+import com.github.stephengold.joltjni.BodyInterface;
+import com.github.stephengold.joltjni.BoxShape;
+import com.github.stephengold.joltjni.CapsuleShape;
+import com.github.stephengold.joltjni.Character;
+import com.github.stephengold.joltjni.CharacterSettings;
+import com.github.stephengold.joltjni.CharacterVirtual;
+import com.github.stephengold.joltjni.CharacterVirtualRef;
+import com.github.stephengold.joltjni.CharacterVirtualSettings;
+import com.github.stephengold.joltjni.Jolt;
+import com.github.stephengold.joltjni.MotionProperties;
+import com.github.stephengold.joltjni.OffsetCenterOfMassShapeSettings;
+import com.github.stephengold.joltjni.PhysicsSystem;
+import com.github.stephengold.joltjni.Quat;
+import com.github.stephengold.joltjni.RVec3;
+import com.github.stephengold.joltjni.ShapeRefC;
+import com.github.stephengold.joltjni.SixDofConstraint;
+import com.github.stephengold.joltjni.SixDofConstraintSettings;
+import com.github.stephengold.joltjni.SwingTwistConstraint;
+import com.github.stephengold.joltjni.SwingTwistConstraintSettings;
+import com.github.stephengold.joltjni.Vec3;
+import com.github.stephengold.joltjni.VehicleConstraint;
+import com.github.stephengold.joltjni.VehicleConstraintSettings;
+import com.github.stephengold.joltjni.WheelSettingsWv;
+import com.github.stephengold.joltjni.WheeledVehicleControllerSettings;
+import com.github.stephengold.joltjni.enumerate.EActivation;
+import com.github.stephengold.joltjni.enumerate.EAxis;
+import com.github.stephengold.joltjni.readonly.QuatArg;
+import com.github.stephengold.joltjni.readonly.RVec3Arg;
+import com.github.stephengold.joltjni.readonly.Vec3Arg;
+import org.junit.Assert;
+import org.junit.Test;
+import testjoltjni.TestUtils;
+
+/**
+ * Automated JUnit4 tests to verify that the {@code store} overloads of vector
+ * and quaternion getters match the allocating getters.
+ *
+ * @author Stephen Gold sgold@sonic.net
+ */
+public class Test034 {
+    // *************************************************************************
+    // constants
+
+    /**
+     * component value that marks storage that hasn't been written
+     */
+    final private static float sentinel = -999f;
+    // *************************************************************************
+    // new methods exposed
+
+    /**
+     * Compare each {@code store} overload with its allocating getter.
+     */
+    @Test
+    public void test034() {
+        TestUtils.loadNativeLibrary();
+        TestUtils.initializeNativeLibrary();
+
+        PhysicsSystem system = TestUtils.newPhysicsSystem(6);
+        BodyInterface bi = system.getBodyInterface();
+        Body body = newBody(bi, new RVec3(1e6, 2., -3.));
+        Body body2 = newBody(bi, new RVec3(1e6, 5., -3.));
+
+        doBody(body);
+        doBodyInterface(bi, body.getId());
+        doCharacter(system);
+        doCharacterVirtual(system);
+        doConstraints(body, body2);
+        doShape();
+        doVehicle(body);
+
+        TestUtils.cleanupPhysicsSystem(system);
+        TestUtils.cleanup();
+    }
+    // *************************************************************************
+    // Java private methods
+
+    /**
+     * Verify that a location matches the expected one exactly.
+     *
+     * @param expected the expected location (not null, unaffected)
+     * @param actual the location to test (not null, unaffected)
+     */
+    private static void assertLocation(RVec3Arg expected, RVec3Arg actual) {
+        Assert.assertEquals(expected.xx(), actual.xx(), 0.);
+        Assert.assertEquals(expected.yy(), actual.yy(), 0.);
+        Assert.assertEquals(expected.zz(), actual.zz(), 0.);
+    }
+
+    /**
+     * Verify that a quaternion matches the expected one exactly.
+     *
+     * @param expected the expected quaternion (not null, unaffected)
+     * @param actual the quaternion to test (not null, unaffected)
+     */
+    private static void assertQuat(QuatArg expected, QuatArg actual) {
+        TestUtils.assertEquals(expected.getX(), expected.getY(),
+                expected.getZ(), expected.getW(), actual, 0f);
+    }
+
+    /**
+     * Verify that a vector matches the expected one exactly.
+     *
+     * @param expected the expected vector (not null, unaffected)
+     * @param actual the vector to test (not null, unaffected)
+     */
+    private static void assertVector(Vec3Arg expected, Vec3Arg actual) {
+        TestUtils.assertEquals(expected.getX(), expected.getY(),
+                expected.getZ(), actual, 0f);
+    }
+
+    /**
+     * Test the overloads of {@code Body} and its {@code MotionProperties}.
+     *
+     * @param body the body to test (not null)
+     */
+    private static void doBody(Body body) {
+        body.addForce(new Vec3(1f, 2f, 3f));
+        body.addTorque(new Vec3(-4f, 5f, 6f));
+
+        Vec3 storeVector = newVector();
+        body.getAccumulatedForce(storeVector);
+        assertVector(body.getAccumulatedForce(), storeVector);
+
+        storeVector = newVector();
+        body.getAccumulatedTorque(storeVector);
+        assertVector(body.getAccumulatedTorque(), storeVector);
+
+        storeVector = newVector();
+        body.getAngularVelocity(storeVector);
+        assertVector(body.getAngularVelocity(), storeVector);
+
+        storeVector = newVector();
+        body.getLinearVelocity(storeVector);
+        assertVector(body.getLinearVelocity(), storeVector);
+
+        RVec3 storeLocation = newLocation();
+        body.getCenterOfMassPosition(storeLocation);
+        assertLocation(body.getCenterOfMassPosition(), storeLocation);
+
+        storeLocation = newLocation();
+        body.getPosition(storeLocation);
+        assertLocation(body.getPosition(), storeLocation);
+
+        Quat storeOrientation = newQuat();
+        body.getRotation(storeOrientation);
+        assertQuat(body.getRotation(), storeOrientation);
+
+        storeLocation = newLocation();
+        storeOrientation = newQuat();
+        body.getPositionAndRotation(storeLocation, storeOrientation);
+        assertLocation(body.getPosition(), storeLocation);
+        assertQuat(body.getRotation(), storeOrientation);
+
+        RVec3 onSurface = new RVec3(body.getPosition());
+        onSurface.addInPlace(0., 1., 0.);
+        storeVector = newVector();
+        body.getWorldSpaceSurfaceNormal(
+                Jolt.cEmptySubShapeId, onSurface, storeVector);
+        assertVector(body.getWorldSpaceSurfaceNormal(
+                Jolt.cEmptySubShapeId, onSurface), storeVector);
+
+        MotionProperties properties = body.getMotionProperties();
+        storeVector = newVector();
+        properties.getAccumulatedForce(storeVector);
+        assertVector(properties.getAccumulatedForce(), storeVector);
+
+        storeVector = newVector();
+        properties.getAccumulatedTorque(storeVector);
+        assertVector(properties.getAccumulatedTorque(), storeVector);
+
+        storeVector = newVector();
+        properties.getAngularVelocity(storeVector);
+        assertVector(properties.getAngularVelocity(), storeVector);
+
+        storeVector = newVector();
+        properties.getLinearVelocity(storeVector);
+        assertVector(properties.getLinearVelocity(), storeVector);
+
+        storeVector = newVector();
+        properties.getInverseInertiaDiagonal(storeVector);
+        assertVector(properties.getInverseInertiaDiagonal(), storeVector);
+
+        storeOrientation = newQuat();
+        properties.getInertiaRotation(storeOrientation);
+        assertQuat(properties.getInertiaRotation(), storeOrientation);
+    }
+
+    /**
+     * Test the overloads of {@code BodyInterface}.
+     *
+     * @param bi the interface to test (not null)
+     * @param bodyId the ID of the body to query
+     */
+    private static void doBodyInterface(BodyInterface bi, int bodyId) {
+        Vec3 storeVector = newVector();
+        bi.getAngularVelocity(bodyId, storeVector);
+        assertVector(bi.getAngularVelocity(bodyId), storeVector);
+
+        storeVector = newVector();
+        bi.getLinearVelocity(bodyId, storeVector);
+        assertVector(bi.getLinearVelocity(bodyId), storeVector);
+
+        RVec3 storeLocation = newLocation();
+        bi.getCenterOfMassPosition(bodyId, storeLocation);
+        assertLocation(bi.getCenterOfMassPosition(bodyId), storeLocation);
+
+        storeLocation = newLocation();
+        bi.getPosition(bodyId, storeLocation);
+        assertLocation(bi.getPosition(bodyId), storeLocation);
+
+        Quat storeOrientation = newQuat();
+        bi.getRotation(bodyId, storeOrientation);
+        assertQuat(bi.getRotation(bodyId), storeOrientation);
+
+        storeLocation = newLocation();
+        storeOrientation = newQuat();
+        bi.getPositionAndRotation(bodyId, storeLocation, storeOrientation);
+        assertLocation(bi.getPosition(bodyId), storeLocation);
+        assertQuat(bi.getRotation(bodyId), storeOrientation);
+    }
+
+    /**
+     * Test the overloads of {@code Character}.
+     *
+     * @param system the physics system to use (not null)
+     */
+    private static void doCharacter(PhysicsSystem system) {
+        CharacterSettings settings = new CharacterSettings();
+        settings.setShape(new CapsuleShape(0.5f, 0.3f));
+        settings.setLayer(TestUtils.objLayerMoving);
+        Quat rotation = Quat.sRotation(Vec3.sAxisY(), 0.7f);
+        Character character = new Character(
+                settings, new RVec3(-5., 1e5, 7.), rotation, 0L, system);
+        character.setLinearVelocity(new Vec3(0.5f, -1f, 2f));
+
+        RVec3 storeLocation = newLocation();
+        character.getCenterOfMassPosition(storeLocation);
+        assertLocation(character.getCenterOfMassPosition(), storeLocation);
+
+        storeLocation = newLocation();
+        character.getPosition(storeLocation, false);
+        assertLocation(character.getPosition(false), storeLocation);
+
+        Quat storeOrientation = newQuat();
+        character.getRotation(storeOrientation);
+        assertQuat(character.getRotation(), storeOrientation);
+
+        storeLocation = newLocation();
+        storeOrientation = newQuat();
+        character.getPositionAndRotation(storeLocation, storeOrientation);
+        assertLocation(character.getPosition(), storeLocation);
+        assertQuat(character.getRotation(), storeOrientation);
+
+        Vec3 storeVector = newVector();
+        character.getLinearVelocity(storeVector);
+        assertVector(character.getLinearVelocity(), storeVector);
+
+        storeVector = newVector();
+        character.getUp(storeVector);
+        assertVector(character.getUp(), storeVector);
+
+        TestUtils.testClose(character, settings);
+    }
+
+    /**
+     * Test the overloads of {@code CharacterVirtual} and
+     * {@code CharacterVirtualRef}.
+     *
+     * @param system the physics system to use (not null)
+     */
+    private static void doCharacterVirtual(PhysicsSystem system) {
+        CharacterVirtualSettings settings = new CharacterVirtualSettings();
+        settings.setShape(new CapsuleShape(0.5f, 0.3f));
+        settings.setShapeOffset(new Vec3(0f, 0.1f, 0.2f));
+        Quat rotation = Quat.sRotation(Vec3.sAxisX(), 0.2f);
+        CharacterVirtual character = new CharacterVirtual(
+                settings, new RVec3(4., -1e5, 2.), rotation, 0L, system);
+        character.setLinearVelocity(new Vec3(3f, 0f, -1f));
+        CharacterVirtualRef ref = character.toRef();
+
+        RVec3 storeLocation = newLocation();
+        character.getCenterOfMassPosition(storeLocation);
+        assertLocation(character.getCenterOfMassPosition(), storeLocation);
+
+        storeLocation = newLocation();
+        ref.getPosition(storeLocation);
+        assertLocation(character.getPosition(), storeLocation);
+
+        Quat storeOrientation = newQuat();
+        ref.getRotation(storeOrientation);
+        assertQuat(character.getRotation(), storeOrientation);
+
+        storeLocation = newLocation();
+        storeOrientation = newQuat();
+        character.getPositionAndRotation(storeLocation, storeOrientation);
+        assertLocation(ref.getPosition(), storeLocation);
+        assertQuat(ref.getRotation(), storeOrientation);
+
+        Vec3 storeVector = newVector();
+        character.getLinearVelocity(storeVector);
+        assertVector(ref.getLinearVelocity(), storeVector);
+
+        storeVector = newVector();
+        character.getShapeOffset(storeVector);
+        assertVector(character.getShapeOffset(), storeVector);
+
+        storeVector = newVector();
+        ref.getUp(storeVector);
+        assertVector(character.getUp(), storeVector);
+
+        storeVector = newVector();
+        character.getGroundNormal(storeVector);
+        assertVector(character.getGroundNormal(), storeVector);
+
+        storeLocation = newLocation();
+        character.getGroundPosition(storeLocation);
+        assertLocation(character.getGroundPosition(), storeLocation);
+
+        storeVector = newVector();
+        character.getGroundVelocity(storeVector);
+        assertVector(character.getGroundVelocity(), storeVector);
+
+        TestUtils.testClose(ref, settings);
+    }
+
+    /**
+     * Test the overloads of {@code SixDofConstraint} and
+     * {@code SwingTwistConstraint}.
+     *
+     * @param body1 the 1st body to constrain (not null)
+     * @param body2 the 2nd body to constrain (not null)
+     */
+    private static void doConstraints(Body body1, Body body2) {
+        SixDofConstraintSettings sixDofSettings
+                = new SixDofConstraintSettings();
+        sixDofSettings.setLimitedAxis(EAxis.TranslationY, -0.5f, 0.25f);
+        sixDofSettings.setLimitedAxis(EAxis.RotationZ, -0.3f, 0.2f);
+        SixDofConstraint sixDof
+                = (SixDofConstraint) sixDofSettings.create(body1, body2);
+        sixDof.setTargetAngularVelocityCs(new Vec3(0.1f, 0.2f, 0.3f));
+        sixDof.setTargetOrientationCs(Quat.sRotation(Vec3.sAxisZ(), 0.1f));
+        sixDof.setTargetPositionCs(new Vec3(0f, 0.2f, 0f));
+        sixDof.setTargetVelocityCs(new Vec3(-1f, 0f, 1f));
+
+        Quat storeOrientation = newQuat();
+        sixDof.getRotationInConstraintSpace(storeOrientation);
+        assertQuat(sixDof.getRotationInConstraintSpace(), storeOrientation);
+
+        storeOrientation = newQuat();
+        sixDof.getTargetOrientationCs(storeOrientation);
+        assertQuat(sixDof.getTargetOrientationCs(), storeOrientation);
+
+        Vec3 storeVector = newVector();
+        sixDof.getRotationLimitsMax(storeVector);
+        assertVector(sixDof.getRotationLimitsMax(), storeVector);
+
+        storeVector = newVector();
+        sixDof.getRotationLimitsMin(storeVector);
+        assertVector(sixDof.getRotationLimitsMin(), storeVector);
+
+        storeVector = newVector();
+        sixDof.getTargetAngularVelocityCs(storeVector);
+        assertVector(sixDof.getTargetAngularVelocityCs(), storeVector);
+
+        storeVector = newVector();
+        sixDof.getTargetPositionCs(storeVector);
+        assertVector(sixDof.getTargetPositionCs(), storeVector);
+
+        storeVector = newVector();
+        sixDof.getTargetVelocityCs(storeVector);
+        assertVector(sixDof.getTargetVelocityCs(), storeVector);
+
+        storeVector = newVector();
+        sixDof.getTranslationLimitsMax(storeVector);
+        assertVector(sixDof.getTranslationLimitsMax(), storeVector);
+
+        storeVector = newVector();
+        sixDof.getTranslationLimitsMin(storeVector);
+        assertVector(sixDof.getTranslationLimitsMin(), storeVector);
+
+        SwingTwistConstraintSettings swingTwistSettings
+                = new SwingTwistConstraintSettings();
+        SwingTwistConstraint swingTwist = (SwingTwistConstraint)
+                swingTwistSettings.create(body1, body2);
+        swingTwist.setTargetAngularVelocityCs(new Vec3(0.4f, -0.5f, 0.6f));
+        swingTwist.setTargetOrientationCs(
+                Quat.sRotation(Vec3.sAxisY(), -0.2f));
+
+        storeVector = newVector();
+        swingTwist.getTargetAngularVelocityCs(storeVector);
+        assertVector(swingTwist.getTargetAngularVelocityCs(), storeVector);
+
+        storeOrientation = newQuat();
+        swingTwist.getTargetOrientationCs(storeOrientation);
+        assertQuat(swingTwist.getTargetOrientationCs(), storeOrientation);
+
+        TestUtils.testClose(
+                swingTwist, swingTwistSettings, sixDof, sixDofSettings);
+    }
+
+    /**
+     * Test the overloads of {@code Shape} and {@code ShapeRefC}.
+     */
+    private static void doShape() {
+        OffsetCenterOfMassShapeSettings settings
+                = new OffsetCenterOfMassShapeSettings(
+                        new Vec3(0.1f, -0.2f, 0.3f), new BoxShape(1f));
+        ShapeRefC ref = settings.create().get();
+
+        Vec3 storeVector = newVector();
+        ref.getCenterOfMass(storeVector);
+        assertVector(ref.getCenterOfMass(), storeVector);
+
+        storeVector = newVector();
+        ref.getPtr().getCenterOfMass(storeVector);
+        assertVector(ref.getPtr().getCenterOfMass(), storeVector);
+
+        TestUtils.testClose(ref, settings);
+    }
+
+    /**
+     * Test the overloads of {@code VehicleConstraint}.
+     *
+     * @param body the vehicle body (not null)
+     */
+    private static void doVehicle(Body body) {
+        VehicleConstraintSettings vcs = new VehicleConstraintSettings();
+        vcs.addWheels(new WheelSettingsWv());
+        vcs.setController(new WheeledVehicleControllerSettings());
+        vcs.setForward(new Vec3(0f, 0f, -1f));
+        VehicleConstraint vehicle = new VehicleConstraint(body, vcs);
+        vehicle.overrideGravity(new Vec3(0f, -3f, 1f));
+
+        Vec3 storeVector = newVector();
+        vehicle.getGravityOverride(storeVector);
+        assertVector(vehicle.getGravityOverride(), storeVector);
+
+        storeVector = newVector();
+        vehicle.getLocalForward(storeVector);
+        assertVector(vehicle.getLocalForward(), storeVector);
+
+        storeVector = newVector();
+        vehicle.getLocalUp(storeVector);
+        assertVector(vehicle.getLocalUp(), storeVector);
+
+        storeVector = newVector();
+        vehicle.getWorldUp(storeVector);
+        assertVector(vehicle.getWorldUp(), storeVector);
+
+        TestUtils.testClose(vehicle, vcs);
+    }
+
+    /**
+     * Create a rotated, moving dynamic box and add it to the system.
+     *
+     * @param bi the interface to use (not null)
+     * @param location the desired location (not null, unaffected)
+     * @return the new body
+     */
+    private static Body newBody(BodyInterface bi, RVec3Arg location) {
+        BodyCreationSettings bcs = new BodyCreationSettings()
+                .setShape(new BoxShape(new Vec3(1f, 1f, 0.5f)))
+                .setObjectLayer(TestUtils.objLayerMoving)
+                .setPosition(location)
+                .setRotation(Quat.sRotation(Vec3.sAxisZ(), 0.3f))
+                .setLinearVelocity(new Vec3(1f, -2f, 3f))
+                .setAngularVelocity(new Vec3(0.1f, 0.2f, -0.3f));
+        Body result = bi.createBody(bcs);
+        bi.addBody(result, EActivation.Activate);
+
+        return result;
+    }
+
+    /**
+     * Create a location filled with sentinel values.
+     *
+     * @return a new vector
+     */
+    private static RVec3 newLocation() {
+        RVec3 result = new RVec3(sentinel, sentinel, sentinel);
+        return result;
+    }
+
+    /**
+     * Create a quaternion filled with sentinel values.
+     *
+     * @return a new quaternion
+     */
+    private static Quat newQuat() {
+        Quat result = new Quat(sentinel, sentinel, sentinel, sentinel);
+        return result;
+    }
+
+    /**
+     * Create a vector filled with sentinel values.
+     *
+     * @return a new vector
+     */
+    private static Vec3 newVector() {
+        Vec3 result = new Vec3(sentinel, sentinel, sentinel);
+        return result;
+    }
+}
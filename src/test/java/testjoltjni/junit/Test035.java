@@ -0,0 +1,287 @@
+/*
+Copyright (c) 2026 Stephen Gold
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+ */
+package testjoltjni.junit;
+
+import com.github.stephengold.joltjni.AllHitCastRayCollector;
+import com.github.stephengold.joltjni.AllHitCastShapeCollector;
+import com.github.stephengold.joltjni.AllHitCollideShapeCollector;
+import com.github.stephengold.joltjni.BodyCreationSettings;
+import com.github.stephengold.joltjni.BodyInterface;
+import com.github.stephengold.joltjni.BoxShape;
+import com.github.stephengold.joltjni.CollideShapeResult;
+import com.github.stephengold.joltjni.CollideShapeSettings;
+import com.github.stephengold.joltjni.HitBuffer;
+import com.github.stephengold.joltjni.HitView;
+import com.github.stephengold.joltjni.PhysicsSystem;
+import com.github.stephengold.joltjni.RMat44;
+import com.github.stephengold.joltjni.RRayCast;
+import com.github.stephengold.joltjni.RShapeCast;
+import com.github.stephengold.joltjni.RVec3;
+import com.github.stephengold.joltjni.RayCastResult;
+import com.github.stephengold.joltjni.RayCastSettings;
+import com.github.stephengold.joltjni.ShapeCastResult;
+import com.github.stephengold.joltjni.ShapeCastSettings;
+import com.github.stephengold.joltjni.SphereShape;
+import com.github.stephengold.joltjni.Vec3;
+import com.github.stephengold.joltjni.enumerate.EActivation;
+import com.github.stephengold.joltjni.readonly.ConstNarrowPhaseQuery;
+import com.github.stephengold.joltjni.readonly.Vec3Arg;
+import java.util.Iterator;
+import java.util.List;
+import org.junit.Assert;
+import org.junit.Test;
+import testjoltjni.TestUtils;
+
+/**
+ * Automated JUnit4 tests for {@code HitBuffer} and the {@code copyHits()}
+ * methods of the all-hit collectors.
+ *
+ * @author Stephen Gold sgold@sonic.net
+ */
+public class Test035 {
+    // *************************************************************************
+    // constants
+
+    /**
+     * number of boxes in the row
+     */
+    final private static int numBoxes = 3;
+    // *************************************************************************
+    // new methods exposed
+
+    /**
+     * Compare copied hits field by field with the hits returned by
+     * {@code getHits()}.
+     */
+    @Test
+    public void test035() {
+        TestUtils.loadNativeLibrary();
+        TestUtils.initializeNativeLibrary();
+
+        // a row of boxes along the X axis:
+        PhysicsSystem system = TestUtils.newPhysicsSystem(numBoxes);
+        BodyInterface bi = system.getBodyInterface();
+        BodyCreationSettings bcs = new BodyCreationSettings()
+                .setShape(new BoxShape(1f))
+                .setObjectLayer(TestUtils.objLayerMoving);
+        for (int i = 0; i < numBoxes; ++i) {
+            bcs.setPosition(3. * i, 0., 0.);
+            bi.createAndAddBody(bcs, EActivation.DontActivate);
+        }
+        system.optimizeBroadPhase();
+        ConstNarrowPhaseQuery query = system.getNarrowPhaseQuery();
+
+        // Start with room for one hit, so the buffer must grow:
+        HitBuffer buffer = new HitBuffer(1);
+        Assert.assertEquals(1, buffer.capacity());
+        Assert.assertEquals(0, buffer.count());
+        Assert.assertFalse(buffer.iterator().hasNext());
+
+        doCastRay(query, buffer);
+        doCastShape(query, buffer);
+        doCollideShape(query, buffer);
+
+        TestUtils.cleanupPhysicsSystem(system);
+        TestUtils.cleanup();
+    }
+    // *************************************************************************
+    // Java private methods
+
+    /**
+     * Verify a copied collision hit against the corresponding result.
+     *
+     * @param expected the result from {@code getHits()} (not null)
+     * @param buffer the buffer to test (not null, unaffected)
+     * @param index the index of the hit (&ge;0)
+     * @param view a view positioned at the same hit (not null, unaffected)
+     */
+    private static void assertCollision(CollideShapeResult expected,
+            HitBuffer buffer, int index, HitView view) {
+        Assert.assertEquals(expected.getBodyId2(), buffer.getBodyId(index));
+        Assert.assertEquals(
+                expected.getSubShapeId1(), buffer.getSubShapeId1(index));
+        Assert.assertEquals(
+                expected.getSubShapeId2(), buffer.getSubShapeId2(index));
+        Assert.assertEquals(expected.getPenetrationDepth(),
+                buffer.getPenetrationDepth(index), 0f);
+
+        Vec3 actual = new Vec3();
+        buffer.getContactPointOn1(index, actual);
+        assertVector(expected.getContactPointOn1(), actual);
+        buffer.getContactPointOn2(index, actual);
+        assertVector(expected.getContactPointOn2(), actual);
+        buffer.getPenetrationAxis(index, actual);
+        assertVector(expected.getPenetrationAxis(), actual);
+
+        Assert.assertEquals(index, view.getIndex());
+        Assert.assertEquals(expected.getBodyId2(), view.getBodyId());
+        Assert.assertEquals(expected.getSubShapeId1(), view.getSubShapeId1());
+        Assert.assertEquals(expected.getSubShapeId2(), view.getSubShapeId2());
+        Assert.assertEquals(expected.getPenetrationDepth(),
+                view.getPenetrationDepth(), 0f);
+
+        view.getContactPointOn1(actual);
+        assertVector(expected.getContactPointOn1(), actual);
+        view.getContactPointOn2(actual);
+        assertVector(expected.getContactPointOn2(), actual);
+        view.getPenetrationAxis(actual);
+        assertVector(expected.getPenetrationAxis(), actual);
+    }
+
+    /**
+     * Verify that the specified vector is exactly the expected one.
+     *
+     * @param expected the expected vector (not null, unaffected)
+     * @param actual the vector to test (not null, unaffected)
+     */
+    private static void assertVector(Vec3Arg expected, Vec3Arg actual) {
+        TestUtils.assertEquals(expected.getX(), expected.getY(),
+                expected.getZ(), actual, 0f);
+    }
+
+    /**
+     * Cast a ray through every box and compare the copied hits.
+     *
+     * @param query the query interface to use (not null)
+     * @param buffer the buffer to fill (not null, modified)
+     */
+    private static void doCastRay(
+            ConstNarrowPhaseQuery query, HitBuffer buffer) {
+        AllHitCastRayCollector collector = new AllHitCastRayCollector();
+        RRayCast ray = new RRayCast(
+                new RVec3(-5., 0.2, 0.1), new Vec3(15f, 0f, 0f));
+        query.castRay(ray, new RayCastSettings(), collector);
+
+        int numHits = collector.copyHits(buffer);
+        Assert.assertEquals(numBoxes, numHits);
+        Assert.assertEquals(numHits, buffer.count());
+        Assert.assertTrue(buffer.capacity() >= numHits);
+        Assert.assertEquals(0, buffer.getBuffer().capacity()
+                % HitBuffer.recordBytes);
+
+        List<RayCastResult> hits = collector.getHits();
+        Assert.assertEquals(numHits, hits.size());
+        Vec3 zero = new Vec3();
+        Vec3 actual = new Vec3();
+        Iterator<HitView> iterator = buffer.iterator();
+        for (int i = 0; i < numHits; ++i) {
+            RayCastResult expected = hits.get(i);
+            Assert.assertEquals(expected.getBodyId(), buffer.getBodyId(i));
+            Assert.assertEquals(-1, buffer.getSubShapeId1(i));
+            Assert.assertEquals(
+                    expected.getSubShapeId2(), buffer.getSubShapeId2(i));
+            Assert.assertEquals(
+                    expected.getFraction(), buffer.getFraction(i), 0f);
+            Assert.assertEquals(0f, buffer.getPenetrationDepth(i), 0f);
+            buffer.getContactPointOn1(i, actual);
+            assertVector(zero, actual);
+            buffer.getPenetrationAxis(i, actual);
+            assertVector(zero, actual);
+            Assert.assertFalse(buffer.isBackFaceHit(i));
+
+            HitView view = iterator.next();
+            Assert.assertEquals(i, view.getIndex());
+            Assert.assertEquals(expected.getBodyId(), view.getBodyId());
+            Assert.assertEquals(
+                    expected.getSubShapeId2(), view.getSubShapeId2());
+            Assert.assertEquals(
+                    expected.getFraction(), view.getFraction(), 0f);
+        }
+        Assert.assertFalse(iterator.hasNext());
+
+        TestUtils.testClose(ray, collector);
+    }
+
+    /**
+     * Cast a sphere through every box and compare the copied hits.
+     *
+     * @param query the query interface to use (not null)
+     * @param buffer the buffer to fill (not null, modified)
+     */
+    private static void doCastShape(
+            ConstNarrowPhaseQuery query, HitBuffer buffer) {
+        AllHitCastShapeCollector collector = new AllHitCastShapeCollector();
+        RMat44 start = RMat44.sTranslation(new RVec3(-5., 0.3, 0.));
+        RShapeCast shapeCast = new RShapeCast(new SphereShape(0.5f),
+                Vec3.sReplicate(1f), start, new Vec3(15f, 0f, 0f));
+        query.castShape(
+                shapeCast, new ShapeCastSettings(), new RVec3(), collector);
+
+        int numHits = collector.copyHits(buffer);
+        Assert.assertEquals(numBoxes, numHits);
+        Assert.assertEquals(numHits, buffer.count());
+
+        List<ShapeCastResult> hits = collector.getHits();
+        Assert.assertEquals(numHits, hits.size());
+        int i = 0;
+        for (HitView view : buffer) {
+            ShapeCastResult expected = hits.get(i);
+            assertCollision(expected, buffer, i, view);
+            Assert.assertEquals(
+                    expected.getFraction(), buffer.getFraction(i), 0f);
+            Assert.assertEquals(expected.getFraction(), view.getFraction(), 0f);
+            Assert.assertEquals(
+                    expected.getIsBackFaceHit(), buffer.isBackFaceHit(i));
+            Assert.assertEquals(
+                    expected.getIsBackFaceHit(), view.isBackFaceHit());
+            ++i;
+        }
+        Assert.assertEquals(numHits, i);
+
+        TestUtils.testClose(shapeCast, collector);
+    }
+
+    /**
+     * Collide a long box with every box and compare the copied hits.
+     *
+     * @param query the query interface to use (not null)
+     * @param buffer the buffer to fill (not null, modified)
+     */
+    private static void doCollideShape(
+            ConstNarrowPhaseQuery query, HitBuffer buffer) {
+        AllHitCollideShapeCollector collector
+                = new AllHitCollideShapeCollector();
+        BoxShape longBox = new BoxShape(new Vec3(5f, 0.5f, 0.5f));
+        query.collideShape(longBox, Vec3.sReplicate(1f),
+                RMat44.sTranslation(new RVec3(3., 0.8, 0.)),
+                new CollideShapeSettings(), new RVec3(), collector);
+
+        int numHits = collector.copyHits(buffer);
+        Assert.assertEquals(numBoxes, numHits);
+        Assert.assertEquals(numHits, buffer.count());
+
+        List<CollideShapeResult> hits = collector.getHits();
+        Assert.assertEquals(numHits, hits.size());
+        int i = 0;
+        for (HitView view : buffer) {
+            CollideShapeResult expected = hits.get(i);
+            Assert.assertTrue(expected.getPenetrationDepth() > 0f);
+            assertCollision(expected, buffer, i, view);
+            Assert.assertEquals(0f, buffer.getFraction(i), 0f);
+            Assert.assertFalse(view.isBackFaceHit());
+            ++i;
+        }
+        Assert.assertEquals(numHits, i);
+
+        TestUtils.testClose(collector);
+    }
+}
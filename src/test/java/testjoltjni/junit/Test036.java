@@ -0,0 +1,194 @@
+/*
+Copyright (c) 2026 Stephen Gold
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+ */
+package testjoltjni.junit;
+
+import com.github.stephengold.joltjni.BodyCreationSettings;
+import com.github.stephengold.joltjni.BodyInterface;
+import com.github.stephengold.joltjni.GroupedWorld;
+import com.github.stephengold.joltjni.Jolt;
+import com.github.stephengold.joltjni.JobSystemThreadPool;
+import com.github.stephengold.joltjni.PhysicsSystem;
+import com.github.stephengold.joltjni.PhysicsWorldGroup;
+import com.github.stephengold.joltjni.Quat;
+import com.github.stephengold.joltjni.RVec3;
+import com.github.stephengold.joltjni.SphereShape;
+import com.github.stephengold.joltjni.enumerate.EActivation;
+import com.github.stephengold.joltjni.enumerate.EMotionType;
+import org.junit.Assert;
+import org.junit.Test;
+import testjoltjni.TestUtils;
+
+/**
+ * Automated JUnit4 tests for {@code PhysicsWorldGroup} and
+ * {@code GroupedWorld}.
+ *
+ * @author Stephen Gold sgold@sonic.net
+ */
+public class Test036 {
+    // *************************************************************************
+    // new methods exposed
+
+    /**
+     * Step 2 worlds with different step times and budgets and verify that
+     * both advance and report latency statistics.
+     */
+    @Test
+    public void test036() {
+        TestUtils.loadNativeLibrary();
+        TestUtils.initializeNativeLibrary();
+
+        PhysicsSystem system0 = TestUtils.newPhysicsSystem(1);
+        int ball0 = addFallingBall(system0);
+        PhysicsSystem system1 = TestUtils.newPhysicsSystem(1);
+        int ball1 = addFallingBall(system1);
+
+        JobSystemThreadPool jobSystem = new JobSystemThreadPool(
+                Jolt.cMaxPhysicsJobs, Jolt.cMaxPhysicsBarriers);
+        int numWorkers = 2;
+        PhysicsWorldGroup group
+                = new PhysicsWorldGroup(jobSystem, numWorkers, 1 << 20);
+        Assert.assertEquals(numWorkers, group.getNumWorkers());
+        Assert.assertSame(jobSystem, group.getJobSystem());
+        Assert.assertEquals(0, group.countWorlds());
+
+        // Step times and elapsed times are exact in binary floating point:
+        GroupedWorld world0 = group.addWorld(system0, 0.25f, 1, 4);
+        GroupedWorld world1 = group.addWorld(system1, 0.5f, 2, 1);
+        Assert.assertEquals(2, group.countWorlds());
+        Assert.assertSame(world0, group.getWorlds().get(0));
+        Assert.assertSame(world1, group.getWorlds().get(1));
+        Assert.assertSame(system0, world0.getSystem());
+        Assert.assertEquals(0.25f, world0.getStepTime(), 0f);
+        Assert.assertEquals(2, world1.getCollisionSteps());
+        Assert.assertEquals(1, world1.getMaxStepsPerUpdate());
+        assertNoSteps(world0);
+        assertNoSteps(world1);
+
+        try {
+            group.update(-1f);
+            Assert.fail("Expected an IllegalArgumentException");
+        } catch (IllegalArgumentException exception) {
+            // expected
+        }
+
+        // world0 owes 4 steps (within budget), world1 owes 2 (budget 1):
+        group.update(1f);
+        assertStepped(world0, 4L, 0L);
+        assertStepped(world1, 1L, 1L);
+        double y0 = system0.getBodyInterface().getPosition(ball0).yy();
+        double y1 = system1.getBodyInterface().getPosition(ball1).yy();
+        Assert.assertTrue(y0 < 10.);
+        Assert.assertTrue(y1 < 10.);
+
+        // Elapsed time below the step time accrues as lag:
+        group.update(0.125f);
+        assertStepped(world0, 4L, 0L);
+        assertStepped(world1, 1L, 1L);
+        group.update(0.125f);
+        assertStepped(world0, 5L, 0L);
+        assertStepped(world1, 1L, 1L);
+        Assert.assertTrue(
+                system0.getBodyInterface().getPosition(ball0).yy() < y0);
+        Assert.assertEquals(
+                y1, system1.getBodyInterface().getPosition(ball1).yy(), 0.);
+
+        world0.resetStatistics();
+        assertNoSteps(world0);
+        assertStepped(world1, 1L, 1L);
+
+        // A removed world is no longer stepped:
+        Assert.assertTrue(group.removeWorld(world1));
+        Assert.assertFalse(group.removeWorld(world1));
+        Assert.assertEquals(1, group.countWorlds());
+        group.update(1f);
+        assertStepped(world0, 4L, 0L);
+        assertStepped(world1, 1L, 1L);
+
+        group.close();
+        group.close(); // closing twice is harmless
+        try {
+            group.update(1f);
+            Assert.fail("Expected an IllegalStateException");
+        } catch (IllegalStateException exception) {
+            // expected
+        }
+
+        TestUtils.testClose(jobSystem);
+        TestUtils.cleanupPhysicsSystem(system1);
+        TestUtils.cleanupPhysicsSystem(system0);
+        TestUtils.cleanup();
+    }
+    // *************************************************************************
+    // Java private methods
+
+    /**
+     * Add an active dynamic ball, 10 meters above the origin, to the
+     * specified system.
+     *
+     * @param system the system to modify (not null)
+     * @return the ID of the new body
+     */
+    private static int addFallingBall(PhysicsSystem system) {
+        BodyInterface bi = system.getBodyInterface();
+        BodyCreationSettings bcs = new BodyCreationSettings(
+                new SphereShape(0.5f), new RVec3(0., 10., 0.), new Quat(),
+                EMotionType.Dynamic, TestUtils.objLayerMoving);
+        int result = bi.createAndAddBody(bcs, EActivation.Activate);
+
+        return result;
+    }
+
+    /**
+     * Verify that the specified world has no steps since its statistics were
+     * reset.
+     *
+     * @param world the member to test (not null, unaffected)
+     */
+    private static void assertNoSteps(GroupedWorld world) {
+        Assert.assertEquals(0L, world.getNumSteps());
+        Assert.assertEquals(0L, world.getNumDroppedSteps());
+        Assert.assertEquals(0L, world.getMaxStepNanos());
+        Assert.assertEquals(0., world.getMeanStepNanos(), 0.);
+    }
+
+    /**
+     * Verify the step counts and latency statistics of the specified world.
+     *
+     * @param world the member to test (not null, unaffected)
+     * @param numSteps the expected number of steps
+     * @param numDropped the expected number of dropped steps
+     */
+    private static void assertStepped(
+            GroupedWorld world, long numSteps, long numDropped) {
+        Assert.assertEquals(numSteps, world.getNumSteps());
+        Assert.assertEquals(numDropped, world.getNumDroppedSteps());
+        Assert.assertEquals(0, world.getLastErrors());
+
+        long last = world.getLastStepNanos();
+        long max = world.getMaxStepNanos();
+        double mean = world.getMeanStepNanos();
+        Assert.assertTrue(last > 0L);
+        Assert.assertTrue(max > 0L);
+        Assert.assertTrue(mean > 0.);
+        Assert.assertTrue(mean <= max);
+    }
+}
@@ -0,0 +1,121 @@
+/*
+Copyright (c) 2026 Stephen Gold
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+ */
+package testjoltjni.junit;
+
+import com.github.stephengold.joltjni.BodyCreationSettings;
+import com.github.stephengold.joltjni.BodyInterface;
+import com.github.stephengold.joltjni.BoxShape;
+import com.github.stephengold.joltjni.Jolt;
+import com.github.stephengold.joltjni.JobSystemThreadPool;
+import com.github.stephengold.joltjni.PhysicsSystem;
+import com.github.stephengold.joltjni.PhysicsUpdateStats;
+import com.github.stephengold.joltjni.Quat;
+import com.github.stephengold.joltjni.RVec3;
+import com.github.stephengold.joltjni.TempAllocatorImpl;
+import com.github.stephengold.joltjni.Vec3;
+import com.github.stephengold.joltjni.enumerate.EActivation;
+import com.github.stephengold.joltjni.enumerate.EMotionType;
+import org.junit.Assert;
+import org.junit.Test;
+import testjoltjni.TestUtils;
+
+/**
+ * Automated JUnit4 tests for {@code PhysicsUpdateStats}.
+ *
+ * @author Stephen Gold sgold@sonic.net
+ */
+public class Test037 {
+    // *************************************************************************
+    // constants
+
+    /**
+     * number of dynamic boxes dropped onto the floor
+     */
+    final private static int numBoxes = 3;
+    // *************************************************************************
+    // new methods exposed
+
+    /**
+     * Verify that the stats are filled in by {@code PhysicsSystem.update()}.
+     */
+    @Test
+    public void test037() {
+        TestUtils.loadNativeLibrary();
+        TestUtils.initializeNativeLibrary();
+
+        PhysicsSystem system = TestUtils.newPhysicsSystem(numBoxes + 1);
+        BodyInterface bi = system.getBodyInterface();
+        BodyCreationSettings floorSettings = new BodyCreationSettings(
+                new BoxShape(new Vec3(20f, 1f, 20f)), new RVec3(0., -1., 0.),
+                new Quat(), EMotionType.Static, TestUtils.objLayerNonMoving);
+        bi.createAndAddBody(floorSettings, EActivation.DontActivate);
+        for (int i = 0; i < numBoxes; ++i) {
+            BodyCreationSettings bcs = new BodyCreationSettings(
+                    new BoxShape(0.5f), new RVec3(3. * i, 0.6, 0.),
+                    new Quat(), EMotionType.Dynamic, TestUtils.objLayerMoving);
+            bi.createAndAddBody(bcs, EActivation.Activate);
+        }
+        system.optimizeBroadPhase();
+
+        PhysicsUpdateStats stats = new PhysicsUpdateStats();
+        Assert.assertEquals(0L, stats.getNumUpdates());
+        Assert.assertEquals(0L, stats.getUpdateNanos());
+        Assert.assertEquals(0, stats.getNumJobs());
+        Assert.assertEquals(0L, stats.getTempAllocatorPeak());
+        Assert.assertNull(system.getUpdateStats());
+        system.setUpdateStats(stats);
+        Assert.assertSame(stats, system.getUpdateStats());
+
+        TempAllocatorImpl tempAllocator = new TempAllocatorImpl(1 << 20);
+        JobSystemThreadPool jobSystem = new JobSystemThreadPool(
+                Jolt.cMaxPhysicsJobs, Jolt.cMaxPhysicsBarriers);
+        int numUpdates = 10;
+        for (int i = 0; i < numUpdates; ++i) {
+            int errors = system.update(1f / 60f, 1, tempAllocator, jobSystem);
+            Assert.assertEquals(0, errors);
+        }
+        Assert.assertEquals(numUpdates, stats.getNumUpdates());
+
+        // The boxes rest on the floor, so every phase has work to do:
+        Assert.assertTrue(stats.getUpdateNanos() > 0L);
+        Assert.assertTrue(stats.getBroadPhaseNanos() > 0L);
+        Assert.assertTrue(stats.getCollisionNanos() > 0L);
+        Assert.assertTrue(stats.getConstraintNanos() > 0L);
+        Assert.assertTrue(stats.getIntegrationNanos() > 0L);
+        Assert.assertTrue(stats.getOtherNanos() >= 0L);
+        Assert.assertTrue(stats.getNumJobs() > 0);
+        Assert.assertTrue(stats.getTempAllocatorPeak() > 0L);
+        Assert.assertTrue(stats.getTempAllocatorPeak() <= 1 << 20);
+        Assert.assertEquals(numBoxes + 1, stats.getNumBodies());
+        Assert.assertEquals(numBoxes, stats.getNumActiveRigidBodies());
+        Assert.assertEquals(0, stats.getNumActiveSoftBodies());
+
+        // Updates without installed stats leave them unchanged:
+        system.setUpdateStats(null);
+        system.update(1f / 60f, 1, tempAllocator, jobSystem);
+        Assert.assertEquals(numUpdates, stats.getNumUpdates());
+
+        TestUtils.testClose(jobSystem, tempAllocator);
+        TestUtils.cleanupPhysicsSystem(system);
+        TestUtils.cleanup();
+    }
+}
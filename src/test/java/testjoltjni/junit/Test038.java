@@ -0,0 +1,169 @@
+/*
+Copyright (c) 2026 Stephen Gold
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in all
+copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+ */
+package testjoltjni.junit;
+
+import com.github.stephengold.joltjni.JoltArena;
+import com.github.stephengold.joltjni.JoltPhysicsObject;
+import com.github.stephengold.joltjni.RayCastResult;
+import com.github.stephengold.joltjni.RayCastSettings;
+import org.junit.Assert;
+import org.junit.Test;
+import testjoltjni.TestUtils;
+
+/**
+ * Automated JUnit4 tests for {@code JoltArena}.
+ *
+ * @author Stephen Gold sgold@sonic.net
+ */
+public class Test038 {
+    // *************************************************************************
+    // constants
+
+    /**
+     * number of objects to create in the outer arena, enough to grow its
+     * array
+     */
+    final private static int numObjects = 100;
+    // *************************************************************************
+    // new methods exposed
+
+    /**
+     * Verify that objects created inside an arena are freed when it closes
+     * and are never registered with the cleaner.
+     */
+    @Test
+    public void test038() {
+        TestUtils.loadNativeLibrary();
+        TestUtils.initializeNativeLibrary();
+        Assert.assertTrue(JoltPhysicsObject.isCleanerStarted());
+
+        // An object created outside any arena is registered with the cleaner:
+        long numRegistered = JoltPhysicsObject.countCleanerRegistrations();
+        RayCastSettings outside = new RayCastSettings();
+        ++numRegistered;
+        Assert.assertEquals(
+                numRegistered, JoltPhysicsObject.countCleanerRegistrations());
+
+        JoltArena arena = JoltArena.open();
+        Assert.assertTrue(arena.isOpen());
+        Assert.assertEquals(0, arena.countObjects());
+
+        RayCastResult[] results = new RayCastResult[numObjects];
+        for (int i = 0; i < numObjects; ++i) {
+            results[i] = new RayCastResult();
+        }
+        Assert.assertEquals(numObjects, arena.countObjects());
+        assertOwned(results);
+
+        // Only the innermost arena adopts new objects:
+        JoltArena inner = JoltArena.open();
+        RayCastSettings nested = new RayCastSettings();
+        Assert.assertEquals(1, inner.countObjects());
+        Assert.assertEquals(numObjects, arena.countObjects());
+        try {
+            arena.close();
+            Assert.fail("Expected an IllegalStateException");
+        } catch (IllegalStateException exception) {
+            // expected
+        }
+        Assert.assertTrue(arena.isOpen());
+        inner.close();
+        Assert.assertFalse(inner.isOpen());
+        Assert.assertFalse(nested.hasAssignedNativeObject());
+        assertOwned(results);
+
+        // Only the thread that opened an arena may close it:
+        RuntimeException[] failure = new RuntimeException[1];
+        Thread thread = new Thread(() -> {
+            try {
+                arena.close();
+            } catch (IllegalStateException exception) {
+                failure[0] = exception;
+            }
+        });
+        thread.start();
+        try {
+            thread.join();
+        } catch (InterruptedException exception) {
+            throw new RuntimeException(exception);
+        }
+        Assert.assertNotNull(failure[0]);
+        assertOwned(results);
+
+        // freeAll() frees the objects but leaves the arena open for reuse:
+        arena.freeAll();
+        Assert.assertTrue(arena.isOpen());
+        Assert.assertEquals(0, arena.countObjects());
+        assertFreed(results);
+
+        for (int i = 0; i < numObjects; ++i) {
+            results[i] = new RayCastResult();
+        }
+        Assert.assertEquals(numObjects, arena.countObjects());
+        assertOwned(results);
+
+        arena.close();
+        Assert.assertFalse(arena.isOpen());
+        Assert.assertEquals(0, arena.countObjects());
+        assertFreed(results);
+        arena.close(); // closing twice has no effect
+
+        // None of the objects created in an arena was registered:
+        Assert.assertEquals(
+                numRegistered, JoltPhysicsObject.countCleanerRegistrations());
+        Assert.assertTrue(outside.hasAssignedNativeObject());
+
+        // After the arena closes, new objects are registered again:
+        RayCastResult after = new RayCastResult();
+        Assert.assertEquals(numRegistered + 1L,
+                JoltPhysicsObject.countCleanerRegistrations());
+
+        TestUtils.testClose(after, outside);
+        TestUtils.cleanup();
+    }
+    // *************************************************************************
+    // Java private methods
+
+    /**
+     * Verify that none of the specified objects has a native object.
+     *
+     * @param objects the objects to test (not null, unaffected)
+     */
+    private static void assertFreed(JoltPhysicsObject[] objects) {
+        for (JoltPhysicsObject object : objects) {
+            Assert.assertFalse(object.hasAssignedNativeObject());
+            Assert.assertFalse(object.ownsNativeObject());
+        }
+    }
+
+    /**
+     * Verify that each of the specified objects owns a native object.
+     *
+     * @param objects the objects to test (not null, unaffected)
+     */
+    private static void assertOwned(JoltPhysicsObject[] objects) {
+        for (JoltPhysicsObject object : objects) {
+            Assert.assertTrue(object.hasAssignedNativeObject());
+            Assert.assertTrue(object.ownsNativeObject());
+        }
+    }
+}